@@ -3,6 +3,7 @@ package com.hedera.node.app.spi.workflows;
 
 import com.hedera.hapi.node.transaction.TransactionBody;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.concurrent.Executor;
 
 /**
  * Represents the context of a single {@code warm()}-call.
@@ -28,4 +29,13 @@ public interface WarmupContext {
      */
     @NonNull
     <C> C createStore(@NonNull final Class<C> storeInterface);
+
+    /**
+     * Gets the {@link Executor} that runs the warmups, which a handler may use to warm up several entities in
+     * parallel.
+     *
+     * @return the {@link Executor} of the warmups
+     */
+    @NonNull
+    Executor executor();
 }
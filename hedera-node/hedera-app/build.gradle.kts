@@ -58,6 +58,7 @@ jmhModuleInfo {
     requires("com.hedera.node.hapi")
     requires("com.hedera.pbj.runtime")
     requires("jmh.core")
+    requires("org.apache.commons.lang3")
     requires("org.hiero.base.crypto")
 }
 
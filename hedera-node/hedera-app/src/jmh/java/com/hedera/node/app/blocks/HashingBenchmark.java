@@ -23,6 +23,7 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.TimeUnit;
 import org.openjdk.jmh.annotations.Benchmark;
@@ -36,17 +37,31 @@ import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
 import org.openjdk.jmh.annotations.Warmup;
 import org.openjdk.jmh.infra.Blackhole;
 
+/**
+ * Compares the throughput of the {@link StreamingTreeHasher} implementations on one tree, or on the five trees
+ * {@link com.hedera.node.app.blocks.impl.BlockStreamManagerImpl} hashes per block, with their leaves interleaved as
+ * they are in a block and all root hashes requested before waiting for any.
+ */
 @State(Scope.Benchmark)
 @Fork(value = 1)
 @Warmup(iterations = 1)
 @Measurement(iterations = 3)
 public class HashingBenchmark {
     private static final int MAX_STATE_CHANGES = 128;
+    private static final int HASH_COMBINE_BATCH_SIZE = 32;
+    private static final int HASHING_THREADS = 4;
     private static final SplittableRandom RANDOM = new SplittableRandom(1_234_567L);
 
+    public enum HasherType {
+        NAIVE,
+        CONCURRENT_COMMON_POOL,
+        CONCURRENT_DEDICATED_POOL
+    }
+
     public static void main(String... args) throws Exception {
         org.openjdk.jmh.Main.main(new String[] {"com.hedera.node.app.blocks.HashingBenchmark.hashItemTree"});
     }
@@ -54,8 +69,15 @@ public class HashingBenchmark {
     @Param({"10000"})
     private int numLeafHashes;
 
+    @Param({"1", "5"})
+    private int numTrees;
+
+    @Param({"NAIVE", "CONCURRENT_COMMON_POOL", "CONCURRENT_DEDICATED_POOL"})
+    private HasherType hasherType;
+
     private List<byte[]> leafHashes;
     private Bytes expectedAnswer;
+    private ForkJoinPool dedicatedPool;
 
     @Setup(Level.Trial)
     public void setup() throws IOException {
@@ -67,22 +89,50 @@ public class HashingBenchmark {
             leafHashes.add(hash);
         }
         expectedAnswer = NaiveStreamingTreeHasher.computeRootHash(leafHashes);
+        dedicatedPool = new ForkJoinPool(HASHING_THREADS);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        dedicatedPool.shutdown();
     }
 
     @Benchmark
     @BenchmarkMode(Mode.Throughput)
     @OutputTimeUnit(TimeUnit.SECONDS)
     public void hashItemTree(@NonNull final Blackhole blackhole) {
-        //                final var subject = new NaiveStreamingTreeHasher();
-        final var subject = new ConcurrentStreamingTreeHasher(ForkJoinPool.commonPool());
+        final var subjects = new StreamingTreeHasher[numTrees];
+        for (int i = 0; i < numTrees; i++) {
+            subjects[i] = newHasher();
+        }
         for (final var hash : leafHashes) {
-            subject.addLeaf(ByteBuffer.wrap(hash));
+            for (final var subject : subjects) {
+                subject.addLeaf(ByteBuffer.wrap(hash));
+            }
+        }
+        final List<CompletableFuture<Bytes>> rootHashes = new ArrayList<>(numTrees);
+        for (final var subject : subjects) {
+            rootHashes.add(subject.rootHash());
         }
-        final var rootHash = subject.rootHash().join();
-        if (!rootHash.equals(expectedAnswer)) {
-            throw new IllegalStateException("Expected " + expectedAnswer + " but got " + rootHash);
+        for (final var future : rootHashes) {
+            final var rootHash = future.join();
+            if (!rootHash.equals(expectedAnswer)) {
+                throw new IllegalStateException("Expected " + expectedAnswer + " but got " + rootHash);
+            }
+            blackhole.consume(rootHash);
         }
-        blackhole.consume(rootHash);
+    }
+
+    private StreamingTreeHasher newHasher() {
+        return switch (hasherType) {
+            case NAIVE -> new NaiveStreamingTreeHasher();
+            case CONCURRENT_COMMON_POOL -> concurrentHasher(ForkJoinPool.commonPool());
+            case CONCURRENT_DEDICATED_POOL -> concurrentHasher(dedicatedPool);
+        };
+    }
+
+    private static StreamingTreeHasher concurrentHasher(@NonNull final ForkJoinPool pool) {
+        return new ConcurrentStreamingTreeHasher(pool, HASH_COMBINE_BATCH_SIZE);
     }
 
     private static BlockItem randomBlockItem() {
@@ -0,0 +1,85 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.node.app.store;
+
+import static com.hedera.node.app.ids.schemas.V0490EntityIdSchema.ENTITY_ID_STATE_KEY;
+import static com.hedera.node.app.ids.schemas.V0590EntityIdSchema.ENTITY_COUNTS_KEY;
+import static com.hedera.node.app.service.token.impl.schemas.V0490TokenSchema.ACCOUNTS_KEY;
+import static com.hedera.node.app.service.token.impl.schemas.V0490TokenSchema.ALIASES_KEY;
+import static com.hedera.node.app.service.token.impl.schemas.V0490TokenSchema.NFTS_KEY;
+import static com.hedera.node.app.service.token.impl.schemas.V0490TokenSchema.TOKENS_KEY;
+import static com.hedera.node.app.service.token.impl.schemas.V0490TokenSchema.TOKEN_RELS_KEY;
+
+import com.hedera.hapi.node.state.entity.EntityCounts;
+import com.hedera.node.app.fixtures.state.FakeState;
+import com.hedera.node.app.ids.EntityIdService;
+import com.hedera.node.app.service.token.ReadableAccountStore;
+import com.hedera.node.app.service.token.ReadableNftStore;
+import com.hedera.node.app.service.token.ReadableTokenRelationStore;
+import com.hedera.node.app.service.token.ReadableTokenStore;
+import com.hedera.node.app.service.token.TokenService;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the cost of the store lookups of a typical {@code CryptoTransfer}, which creates one
+ * {@link ReadableStoreFactory} and asks it for the account, token, token relation and NFT stores several times
+ * during pre-handle and handle. Run with {@code -prof gc} and compare {@code gc.alloc.rate.norm} to see the number of
+ * bytes allocated per transaction.
+ */
+@State(Scope.Benchmark)
+@Fork(value = 1)
+@Warmup(iterations = 3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class StoreFactoryBenchmark {
+
+    private FakeState state;
+
+    @Setup
+    public void setUp() {
+        state = new FakeState()
+                .addService(
+                        TokenService.NAME,
+                        Map.of(
+                                ACCOUNTS_KEY, new HashMap<>(),
+                                ALIASES_KEY, new HashMap<>(),
+                                TOKENS_KEY, new HashMap<>(),
+                                TOKEN_RELS_KEY, new HashMap<>(),
+                                NFTS_KEY, new HashMap<>()))
+                .addService(
+                        EntityIdService.NAME,
+                        Map.of(
+                                ENTITY_ID_STATE_KEY, new AtomicReference<>(),
+                                ENTITY_COUNTS_KEY, new AtomicReference<>(EntityCounts.DEFAULT)));
+    }
+
+    @Benchmark
+    public void cryptoTransferStoreLookups(final Blackhole blackhole) {
+        final var storeFactory = new ReadableStoreFactory(state);
+        // pre-handle
+        blackhole.consume(storeFactory.getStore(ReadableAccountStore.class));
+        blackhole.consume(storeFactory.getStore(ReadableTokenStore.class));
+        blackhole.consume(storeFactory.getStore(ReadableNftStore.class));
+        // handle, fees and the finalization of the transfer
+        for (int i = 0; i < 4; i++) {
+            blackhole.consume(storeFactory.getStore(ReadableAccountStore.class));
+        }
+        for (int i = 0; i < 2; i++) {
+            blackhole.consume(storeFactory.getStore(ReadableTokenStore.class));
+            blackhole.consume(storeFactory.getStore(ReadableTokenRelationStore.class));
+        }
+        blackhole.consume(storeFactory.getStore(ReadableNftStore.class));
+    }
+}
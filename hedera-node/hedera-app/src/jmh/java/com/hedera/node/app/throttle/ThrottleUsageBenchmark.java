@@ -0,0 +1,58 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.node.app.throttle;
+
+import com.hedera.node.app.hapi.utils.throttles.DeterministicThrottle;
+import com.hedera.node.app.hapi.utils.throttles.LeakyBucketDeterministicThrottle;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.lang3.tuple.Pair;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of a frontend throttle decision that claims capacity from the throttles of a transaction and
+ * its bytes, records the usages, and then reclaims them as the ingest workflow does for a rejected transaction. Run
+ * with {@code -prof gc}; {@code gc.alloc.rate.norm} should be zero bytes per operation.
+ */
+@State(Scope.Benchmark)
+@Fork(value = 1)
+@Warmup(iterations = 3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ThrottleUsageBenchmark {
+    private static final long TXN_BYTES = 1_024L;
+
+    private final Instant now = Instant.ofEpochSecond(1_234_567L);
+    private final ThrottleUsageLedger ledger = new ThrottleUsageLedger();
+
+    private ThrottleReqsManager manager;
+    private LeakyBucketDeterministicThrottle bytesThrottle;
+
+    @Setup
+    public void setUp() {
+        manager = new ThrottleReqsManager(List.of(
+                Pair.of(DeterministicThrottle.withTpsNamed(10_000, "ThroughputLimits"), 1),
+                Pair.of(DeterministicThrottle.withTpsNamed(5_000, "PriorityReservations"), 2),
+                Pair.of(DeterministicThrottle.withTpsNamed(1_000, "CreationLimits"), 1)));
+        bytesThrottle = new LeakyBucketDeterministicThrottle(1_000_000_000L, "Bytes", 1);
+    }
+
+    @Benchmark
+    public boolean claimAndReclaimCapacity() {
+        ledger.clear();
+        final var allowed = manager.allReqsMetAt(now, ledger) && bytesThrottle.allow(now, TXN_BYTES);
+        if (allowed) {
+            ledger.recordBucketUsage(bytesThrottle, TXN_BYTES);
+        }
+        ledger.reclaimCapacity();
+        return allowed;
+    }
+}
@@ -19,8 +19,11 @@ import dagger.Module;
 import dagger.Provides;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.nio.file.FileSystem;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Supplier;
+import javax.inject.Named;
 import javax.inject.Singleton;
 
 @Module
@@ -52,6 +55,18 @@ public interface BlockStreamModule {
         return new BlockStreamMetrics(metrics, selfNodeInfo);
     }
 
+    /**
+     * Provides the pool the block item trees are hashed on. All trees of a block share it, and it is not shared with
+     * anything else, so hashing keeps up with the block items even when the common pool is busy.
+     */
+    @Provides
+    @Singleton
+    @Named("BlockHashing")
+    static ExecutorService provideBlockHashingExecutor(@NonNull final ConfigProvider configProvider) {
+        final var blockStreamConfig = configProvider.getConfiguration().getConfigData(BlockStreamConfig.class);
+        return new ForkJoinPool(blockStreamConfig.hashingThreads());
+    }
+
     @Provides
     @Singleton
     static BlockStreamManager provideBlockStreamManager(@NonNull final BlockStreamManagerImpl impl) {
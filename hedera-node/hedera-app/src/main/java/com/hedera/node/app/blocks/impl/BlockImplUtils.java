@@ -10,11 +10,14 @@ import static com.hedera.hapi.block.stream.output.StateIdentifier.STATE_ID_BLOCK
 import static com.hedera.hapi.block.stream.output.StateIdentifier.STATE_ID_CONGESTION_STARTS;
 import static com.hedera.hapi.block.stream.output.StateIdentifier.STATE_ID_CONTRACT_BYTECODE;
 import static com.hedera.hapi.block.stream.output.StateIdentifier.STATE_ID_CONTRACT_STORAGE;
+import static com.hedera.hapi.block.stream.output.StateIdentifier.STATE_ID_CONTRACT_STORAGE_INDEX;
+import static com.hedera.hapi.block.stream.output.StateIdentifier.STATE_ID_CONTRACT_STORAGE_SLOT_INDEXED;
 import static com.hedera.hapi.block.stream.output.StateIdentifier.STATE_ID_CRS_PUBLICATIONS;
 import static com.hedera.hapi.block.stream.output.StateIdentifier.STATE_ID_CRS_STATE;
 import static com.hedera.hapi.block.stream.output.StateIdentifier.STATE_ID_ENTITY_COUNTS;
 import static com.hedera.hapi.block.stream.output.StateIdentifier.STATE_ID_ENTITY_ID;
 import static com.hedera.hapi.block.stream.output.StateIdentifier.STATE_ID_FILES;
+import static com.hedera.hapi.block.stream.output.StateIdentifier.STATE_ID_FILE_CHUNKS;
 import static com.hedera.hapi.block.stream.output.StateIdentifier.STATE_ID_FREEZE_TIME;
 import static com.hedera.hapi.block.stream.output.StateIdentifier.STATE_ID_HINTS_KEY_SETS;
 import static com.hedera.hapi.block.stream.output.StateIdentifier.STATE_ID_HISTORY_SIGNATURES;
@@ -127,6 +130,8 @@ public class BlockImplUtils {
                         switch (stateKey) {
                             case "BYTECODE" -> STATE_ID_CONTRACT_BYTECODE.protoOrdinal();
                             case "STORAGE" -> STATE_ID_CONTRACT_STORAGE.protoOrdinal();
+                            case "STORAGE_INDEX" -> STATE_ID_CONTRACT_STORAGE_INDEX.protoOrdinal();
+                            case "STORAGE_SLOT_INDEXED" -> STATE_ID_CONTRACT_STORAGE_SLOT_INDEXED.protoOrdinal();
                             default -> UNKNOWN_STATE_ID;
                         };
                     case "EntityIdService" ->
@@ -143,6 +148,8 @@ public class BlockImplUtils {
                     case "FileService" -> {
                         if ("FILES".equals(stateKey)) {
                             yield STATE_ID_FILES.protoOrdinal();
+                        } else if ("FILE_CHUNKS".equals(stateKey)) {
+                            yield STATE_ID_FILE_CHUNKS.protoOrdinal();
                         } else if (stateKey.matches(UPGRADE_DATA_FILE_FORMAT.apply(150))) {
                             yield STATE_ID_UPGRADE_DATA_150.protoOrdinal();
                         } else if (stateKey.matches(UPGRADE_DATA_FILE_FORMAT.apply(151))) {
@@ -48,6 +48,7 @@ import com.hedera.node.internal.network.PendingProof;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
 import com.swirlds.config.api.Configuration;
 import com.swirlds.metrics.api.Counter;
+import com.swirlds.metrics.api.Histogram;
 import com.swirlds.metrics.api.Metrics;
 import com.swirlds.platform.state.service.PlatformStateFacade;
 import com.swirlds.platform.state.service.PlatformStateService;
@@ -80,6 +81,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Supplier;
 import javax.inject.Inject;
+import javax.inject.Named;
 import javax.inject.Singleton;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -99,6 +101,7 @@ public class BlockStreamManagerImpl implements BlockStreamManager {
     private final SemanticVersion version;
     private final SemanticVersion hapiVersion;
     private final ForkJoinPool executor;
+    private final ExecutorService hashingExecutor;
     private final String diskNetworkExportFile;
     private final DiskNetworkExport diskNetworkExport;
     private final NetworkInfo networkInfo;
@@ -137,6 +140,12 @@ public class BlockStreamManagerImpl implements BlockStreamManager {
     private StreamingTreeHasher consensusHeaderHasher;
     private StreamingTreeHasher stateChangesHasher;
     private StreamingTreeHasher traceDataHasher;
+    // the latencies from requesting the root hash of each tree to its completion
+    private final Histogram inputTreeHashLatency;
+    private final Histogram outputTreeHashLatency;
+    private final Histogram consensusHeaderHashLatency;
+    private final Histogram stateChangesHashLatency;
+    private final Histogram traceDataHashLatency;
 
     private BlockStreamManagerTask worker;
     private final boolean hintsEnabled;
@@ -206,6 +215,7 @@ public class BlockStreamManagerImpl implements BlockStreamManager {
             @NonNull final BlockHashSigner blockHashSigner,
             @NonNull final Supplier<BlockItemWriter> writerSupplier,
             @NonNull final ExecutorService executor,
+            @Named("BlockHashing") @NonNull final ExecutorService hashingExecutor,
             @NonNull final ConfigProvider configProvider,
             @NonNull final NetworkInfo networkInfo,
             @NonNull final BoundaryStateChangeListener boundaryStateChangeListener,
@@ -219,6 +229,7 @@ public class BlockStreamManagerImpl implements BlockStreamManager {
         this.version = requireNonNull(version);
         this.writerSupplier = requireNonNull(writerSupplier);
         this.executor = (ForkJoinPool) requireNonNull(executor);
+        this.hashingExecutor = requireNonNull(hashingExecutor);
         this.boundaryStateChangeListener = requireNonNull(boundaryStateChangeListener);
         this.platformStateFacade = requireNonNull(platformStateFacade);
         this.lifecycle = requireNonNull(lifecycle);
@@ -242,6 +253,11 @@ public class BlockStreamManagerImpl implements BlockStreamManager {
         indirectProofCounter = requireNonNull(metrics)
                 .getOrCreate(new Counter.Config("block", "numIndirectProofs")
                         .withDescription("Number of blocks closed with indirect proofs"));
+        inputTreeHashLatency = rootHashLatencyMetric(metrics, "inputTree");
+        outputTreeHashLatency = rootHashLatencyMetric(metrics, "outputTree");
+        consensusHeaderHashLatency = rootHashLatencyMetric(metrics, "consensusHeaderTree");
+        stateChangesHashLatency = rootHashLatencyMetric(metrics, "stateChangesTree");
+        traceDataHashLatency = rootHashLatencyMetric(metrics, "traceDataTree");
         log.info(
                 "Initialized BlockStreamManager from round {} with end-of-round hash {}",
                 lastRoundOfPrevBlock,
@@ -291,11 +307,11 @@ public class BlockStreamManagerImpl implements BlockStreamManager {
 
             lifecycle.onOpenBlock(state);
 
-            inputTreeHasher = new ConcurrentStreamingTreeHasher(executor, hashCombineBatchSize);
-            outputTreeHasher = new ConcurrentStreamingTreeHasher(executor, hashCombineBatchSize);
-            consensusHeaderHasher = new ConcurrentStreamingTreeHasher(executor, hashCombineBatchSize);
-            stateChangesHasher = new ConcurrentStreamingTreeHasher(executor, hashCombineBatchSize);
-            traceDataHasher = new ConcurrentStreamingTreeHasher(executor, hashCombineBatchSize);
+            inputTreeHasher = new ConcurrentStreamingTreeHasher(hashingExecutor, hashCombineBatchSize);
+            outputTreeHasher = new ConcurrentStreamingTreeHasher(hashingExecutor, hashCombineBatchSize);
+            consensusHeaderHasher = new ConcurrentStreamingTreeHasher(hashingExecutor, hashCombineBatchSize);
+            stateChangesHasher = new ConcurrentStreamingTreeHasher(hashingExecutor, hashCombineBatchSize);
+            traceDataHasher = new ConcurrentStreamingTreeHasher(hashingExecutor, hashCombineBatchSize);
 
             blockNumber = blockStreamInfo.blockNumber() + 1;
             if (hintsEnabled && !hasCheckedForPendingBlocks) {
@@ -400,10 +416,15 @@ public class BlockStreamManagerImpl implements BlockStreamManager {
             worker.addItem(boundaryStateChangeListener.flushChanges());
             worker.sync();
 
-            final var consensusHeaderHash = consensusHeaderHasher.rootHash().join();
-            final var inputHash = inputTreeHasher.rootHash().join();
-            final var traceDataHash = traceDataHasher.rootHash().join();
-            final var outputHash = outputTreeHasher.rootHash().join();
+            // Request all root hashes before waiting for any, so the trees finish hashing in parallel
+            final var consensusHeaderHashFuture = rootHashOf(consensusHeaderHasher, consensusHeaderHashLatency);
+            final var inputHashFuture = rootHashOf(inputTreeHasher, inputTreeHashLatency);
+            final var traceDataHashFuture = rootHashOf(traceDataHasher, traceDataHashLatency);
+            final var outputHashFuture = rootHashOf(outputTreeHasher, outputTreeHashLatency);
+            final var consensusHeaderHash = consensusHeaderHashFuture.join();
+            final var inputHash = inputHashFuture.join();
+            final var traceDataHash = traceDataHashFuture.join();
+            final var outputHash = outputHashFuture.join();
 
             // This block's starting state hash is the end state hash of the last non-empty round
             final var blockStartStateHash = requireNonNull(endRoundStateHashes.get(lastRoundOfPrevBlock))
@@ -442,7 +463,7 @@ public class BlockStreamManagerImpl implements BlockStreamManager {
             worker.addItem(boundaryStateChangeListener.flushChanges());
             worker.sync();
 
-            final var stateChangesHash = stateChangesHasher.rootHash().join();
+            final var stateChangesHash = rootHashOf(stateChangesHasher, stateChangesHashLatency).join();
 
             // Compute depth two hashes
             final var depth2Node0 = combine(lastBlockHash, blockStartStateHash);
@@ -780,6 +801,22 @@ public class BlockStreamManagerImpl implements BlockStreamManager {
         return config.getConfigData(VersionConfig.class).hapiVersion();
     }
 
+    /**
+     * Requests the root hash of the given tree, recording how long it takes to complete in the given metric.
+     */
+    private static CompletableFuture<Bytes> rootHashOf(
+            @NonNull final StreamingTreeHasher hasher, @NonNull final Histogram latency) {
+        final long start = System.nanoTime();
+        return hasher.rootHash().whenComplete((hash, error) -> latency.update(System.nanoTime() - start));
+    }
+
+    private static Histogram rootHashLatencyMetric(@NonNull final Metrics metrics, @NonNull final String tree) {
+        return metrics.getOrCreate(new Histogram.Config("block", tree + "RootHashLatency")
+                .withDescription("The time from requesting the root hash of the " + tree
+                        + " of a block to its completion in nanoseconds")
+                .withUnit("ns"));
+    }
+
     private static class RunningHashManager {
         private static final ThreadLocal<byte[]> HASHES = ThreadLocal.withInitial(() -> new byte[HASH_SIZE]);
         private static final ThreadLocal<MessageDigest> DIGESTS =
@@ -23,6 +23,7 @@ import com.hedera.hapi.node.state.entity.EntityCounts;
 import com.hedera.hapi.node.state.hints.CRSState;
 import com.hedera.hapi.node.state.hints.HintsConstruction;
 import com.hedera.hapi.node.state.history.HistoryProofConstruction;
+import com.hedera.hapi.node.state.primitives.ProtoBoolean;
 import com.hedera.hapi.node.state.primitives.ProtoBytes;
 import com.hedera.hapi.node.state.primitives.ProtoString;
 import com.hedera.hapi.node.state.recordcache.TransactionReceiptEntries;
@@ -329,6 +330,9 @@ public class BoundaryStateChangeListener implements StateChangeListener {
             case ProtoBytes protoBytes -> {
                 return new OneOf<>(SingletonUpdateChange.NewValueOneOfType.BYTES_VALUE, protoBytes.value());
             }
+            case ProtoBoolean protoBoolean -> {
+                return new OneOf<>(SingletonUpdateChange.NewValueOneOfType.BOOL_VALUE, protoBoolean.value());
+            }
             case ProtoString protoString -> {
                 return new OneOf<>(SingletonUpdateChange.NewValueOneOfType.STRING_VALUE, protoString.value());
             }
@@ -26,6 +26,8 @@ import com.hedera.hapi.node.state.contract.Bytecode;
 import com.hedera.hapi.node.state.contract.SlotKey;
 import com.hedera.hapi.node.state.contract.SlotValue;
 import com.hedera.hapi.node.state.file.File;
+import com.hedera.hapi.node.state.file.FileChunk;
+import com.hedera.hapi.node.state.file.FileChunkId;
 import com.hedera.hapi.node.state.hints.HintsKeySet;
 import com.hedera.hapi.node.state.hints.HintsPartyId;
 import com.hedera.hapi.node.state.hints.PreprocessingVote;
@@ -136,6 +138,9 @@ public class KVStateChangeListener implements StateChangeListener {
                     .entityNumberKey(entityNumber.number())
                     .build();
             case FileID fileID -> MapChangeKey.newBuilder().fileIdKey(fileID).build();
+            case FileChunkId fileChunkId -> MapChangeKey.newBuilder()
+                    .fileChunkIdKey(fileChunkId)
+                    .build();
             case NftID nftID -> MapChangeKey.newBuilder().nftIdKey(nftID).build();
             case ProtoBytes protoBytes -> MapChangeKey.newBuilder()
                     .protoBytesKey(protoBytes.value())
@@ -204,10 +209,16 @@ public class KVStateChangeListener implements StateChangeListener {
                     .bytecodeValue(bytecode)
                     .build();
             case File file -> MapChangeValue.newBuilder().fileValue(file).build();
+            case FileChunk fileChunk -> MapChangeValue.newBuilder()
+                    .fileChunkValue(fileChunk)
+                    .build();
             case Nft nft -> MapChangeValue.newBuilder().nftValue(nft).build();
             case ProtoString protoString -> MapChangeValue.newBuilder()
                     .protoStringValue(protoString.value())
                     .build();
+            case ProtoBytes protoBytes -> MapChangeValue.newBuilder()
+                    .protoBytesValue(protoBytes.value())
+                    .build();
             case Roster roster -> MapChangeValue.newBuilder()
                     .rosterValue(roster)
                     .build();
@@ -11,9 +11,13 @@ import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
@@ -36,7 +40,13 @@ import org.apache.logging.log4j.Logger;
  *     <li>Maintaining the block states in a buffer</li>
  *     <li>Handling backpressure when the buffer is saturated</li>
  *     <li>Pruning the buffer based on TTL and saturation</li>
+ *     <li>Moving unacknowledged blocks to disk when block nodes lag, if enabled</li>
  * </ul>
+ * If {@link BlockStreamConfig#blockBufferSpillEnabled() spilling} is enabled, the in-memory buffer is a bounded tier
+ * that holds at most the ideal number of blocks (the block buffer TTL divided by the block period). Older closed blocks
+ * that have not been acknowledged are appended to a {@link BlockBufferSpillLog} and are read back into memory when a
+ * block node connection requests them, e.g. after a reconnect. Backpressure is then only applied once the disk budget
+ * of the spill log is used up.
  */
 @Singleton
 public class BlockBufferService {
@@ -94,6 +104,10 @@ public class BlockBufferService {
      * Flag that indicates if streaming to block nodes is enabled. This flag is set once upon startup and cannot change.
      */
     private final AtomicBoolean isStreamingEnabled = new AtomicBoolean(false);
+    /**
+     * The on-disk tier of the buffer, or null if moving blocks to disk is disabled.
+     */
+    private final @Nullable BlockBufferSpillLog spillLog;
 
     /**
      * Creates a new BlockBufferService with the given configuration.
@@ -108,6 +122,15 @@ public class BlockBufferService {
         this.blockStreamMetrics = blockStreamMetrics;
         isStreamingEnabled.set(streamToBlockNodesEnabled());
 
+        final BlockStreamConfig blockStreamConfig =
+                configProvider.getConfiguration().getConfigData(BlockStreamConfig.class);
+        this.spillLog = isStreamingEnabled.get() && blockStreamConfig.blockBufferSpillEnabled()
+                ? new BlockBufferSpillLog(
+                        Path.of(blockStreamConfig.blockBufferSpillDir()),
+                        blockStreamConfig.blockBufferSpillSegmentSize(),
+                        blockStreamConfig.blockBufferSpillMaxDiskSize())
+                : null;
+
         // Only start the pruning thread if we're streaming to block nodes
         if (isStreamingEnabled.get()) {
             scheduleNextPruning();
@@ -243,13 +266,28 @@ public class BlockBufferService {
     }
 
     /**
-     * Gets the block state for the given block number.
+     * Gets the block state for the given block number. If the block was moved to disk, it is read back into memory.
      *
      * @param blockNumber the block number
      * @return the block state, or null if no block state exists for the given block number
      */
     public @Nullable BlockState getBlockState(final long blockNumber) {
-        return blockBuffer.get(blockNumber);
+        final BlockState blockState = blockBuffer.get(blockNumber);
+        if (blockState != null || spillLog == null) {
+            return blockState;
+        }
+
+        final BlockBufferSpillLog.SpilledBlock spilledBlock = spillLog.read(blockNumber);
+        if (spilledBlock == null) {
+            return null;
+        }
+
+        final BlockState restoredBlockState =
+                BlockState.restore(blockNumber, spilledBlock.items(), spilledBlock.closedTimestamp());
+        final BlockState existingBlockState = blockBuffer.putIfAbsent(blockNumber, restoredBlockState);
+        blockStreamMetrics.recordBlockReplayed(spilledBlock.sizeBytes());
+        logger.debug("[Block {}] Read block back from disk ({} bytes)", blockNumber, spilledBlock.sizeBytes());
+        return existingBlockState != null ? existingBlockState : restoredBlockState;
     }
 
     /**
@@ -319,7 +357,8 @@ public class BlockBufferService {
     /**
      * Prunes the block buffer by removing blocks that have been acknowledged and exceeded the configured TTL. By doing
      * this, we also inadvertently can know if buffer is "saturated" due to blocks not being acknowledged in a timely
-     * manner.
+     * manner. If moving blocks to disk is enabled, unacknowledged blocks in excess of the ideal buffer size are moved
+     * to disk and acknowledged blocks are removed from disk.
      */
     private @NonNull PruneResult pruneBuffer() {
         final Duration ttl = blockBufferTtl();
@@ -362,19 +401,97 @@ public class BlockBufferService {
             }
         }
 
+        int numSpilled = 0;
+        // without a spill log, there is no disk budget to fall back on
+        boolean isDiskBudgetExhausted = true;
+        if (spillLog != null) {
+            spillLog.removeAcknowledged(highestBlockAcked, cutoffInstant);
+            if (numPendingAck > idealMaxBufferSize) {
+                numSpilled = spillToDisk(numPendingAck - idealMaxBufferSize, highestBlockAcked);
+                numPendingAck -= numSpilled;
+            }
+            // if not all excess blocks could be moved, the disk budget is used up (or the disk is failing);
+            // otherwise it is only used up once the next block would not fit anywhere in the log either
+            isDiskBudgetExhausted = numPendingAck > idealMaxBufferSize || spillLog.isFull();
+
+            final Instant oldestSpilled = spillLog.oldestUnacknowledgedTimestamp(highestBlockAcked);
+            if (oldestSpilled != null) {
+                oldestUnackedTimestamp.updateAndGet(
+                        current -> current.compareTo(oldestSpilled) < 0 ? current : oldestSpilled);
+            }
+            blockStreamMetrics.updateBlockBufferTiers(blockBuffer.size(), spillLog.numBlocks(), spillLog.sizeBytes());
+        } else {
+            blockStreamMetrics.updateBlockBufferTiers(blockBuffer.size(), 0, 0);
+        }
+
         final long oldestUnackedMillis = Instant.MAX.equals(oldestUnackedTimestamp.get())
                 ? -1 // sentinel value indicating no blocks are unacked
                 : oldestUnackedTimestamp.get().toEpochMilli();
         blockStreamMetrics.setOldestUnacknowledgedBlockTime(oldestUnackedMillis);
 
-        return new PruneResult(idealMaxBufferSize, numChecked, numPendingAck, numPruned);
+        return new PruneResult(
+                idealMaxBufferSize, numChecked, numPendingAck, numPruned, numSpilled, isDiskBudgetExhausted);
+    }
+
+    /**
+     * Moves closed, unacknowledged blocks from memory to disk. Blocks that have already been streamed (and are only
+     * needed again if a block node requests them to be resent) are moved first, oldest first, followed by the blocks
+     * that are the furthest from being streamed. The block currently being streamed is never moved.
+     *
+     * @param maxBlocks the maximum number of blocks to move
+     * @param highestBlockAcked the highest acknowledged block number
+     * @return the number of blocks removed from memory
+     */
+    private int spillToDisk(final long maxBlocks, final long highestBlockAcked) {
+        final long streamingBlockNumber =
+                blockNodeConnectionManager == null ? -1 : blockNodeConnectionManager.currentStreamingBlockNumber();
+        final List<BlockState> streamed = new ArrayList<>();
+        final List<BlockState> notStreamed = new ArrayList<>();
+        for (final BlockState block : blockBuffer.values()) {
+            final long blockNumber = block.blockNumber();
+            if (block.closedTimestamp() == null
+                    || blockNumber <= highestBlockAcked
+                    || blockNumber == streamingBlockNumber) {
+                continue;
+            }
+            (blockNumber < streamingBlockNumber ? streamed : notStreamed).add(block);
+        }
+        streamed.sort(Comparator.comparingLong(BlockState::blockNumber));
+        notStreamed.sort(Comparator.comparingLong(BlockState::blockNumber).reversed());
+        streamed.addAll(notStreamed);
+
+        int numSpilled = 0;
+        for (final BlockState block : streamed) {
+            if (numSpilled >= maxBlocks) {
+                break;
+            }
+            // a block that was read back from disk is still in the log, so it does not need to be written again
+            if (!spillLog.contains(block.blockNumber())) {
+                final int sizeBytes = spillLog.append(
+                        block.blockNumber(), requireNonNull(block.closedTimestamp()), block.encodeItems());
+                if (sizeBytes < 0) {
+                    logger.debug("Block buffer spill log is full; {} blocks were moved to disk", numSpilled);
+                    break;
+                }
+                blockStreamMetrics.recordBlockSpilled(sizeBytes);
+            }
+            if (blockBuffer.remove(block.blockNumber(), block)) {
+                ++numSpilled;
+            }
+        }
+        return numSpilled;
     }
 
     /*
     Simple record that contains information related to the outcome of a block buffer prune operation.
      */
     private record PruneResult(
-            long idealMaxBufferSize, int numBlocksChecked, int numBlocksPendingAck, int numBlocksPruned) {
+            long idealMaxBufferSize,
+            int numBlocksChecked,
+            int numBlocksPendingAck,
+            int numBlocksPruned,
+            int numBlocksSpilled,
+            boolean isDiskBudgetExhausted) {
 
         /**
          * Calculate the saturation percent based on the size of the buffer and the number of unacked blocks found.
@@ -393,12 +510,13 @@ public class BlockBufferService {
         }
 
         /**
-         * Check if the buffer is considered saturated.
+         * Check if the buffer is considered saturated. If blocks are moved to disk, the buffer is only saturated once
+         * the disk budget is exhausted as well.
          *
          * @return true if the block buffer is considered saturated, else false
          */
         boolean isSaturated() {
-            return idealMaxBufferSize != 0 && numBlocksPendingAck >= idealMaxBufferSize;
+            return idealMaxBufferSize != 0 && numBlocksPendingAck >= idealMaxBufferSize && isDiskBudgetExhausted;
         }
     }
 
@@ -420,11 +538,12 @@ public class BlockBufferService {
         final double saturationPercent = result.calculateSaturationPercent();
 
         logger.debug(
-                "Block buffer status: idealMaxBufferSize={}, blocksChecked={}, blocksPruned={}, blocksPendingAck={}, saturation={}%",
+                "Block buffer status: idealMaxBufferSize={}, blocksChecked={}, blocksPruned={}, blocksPendingAck={}, blocksSpilled={}, saturation={}%",
                 result.idealMaxBufferSize,
                 result.numBlocksChecked,
                 result.numBlocksPruned,
                 result.numBlocksPendingAck,
+                result.numBlocksSpilled,
                 saturationPercent);
 
         blockStreamMetrics.updateBlockBufferSaturation(saturationPercent);
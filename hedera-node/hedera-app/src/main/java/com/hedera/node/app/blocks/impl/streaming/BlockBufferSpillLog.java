@@ -0,0 +1,388 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.node.app.blocks.impl.streaming;
+
+import static java.util.Objects.requireNonNull;
+
+import com.hedera.hapi.block.stream.Block;
+import com.hedera.hapi.block.stream.BlockItem;
+import com.hedera.hapi.block.stream.schema.BlockSchema;
+import com.hedera.pbj.runtime.ParseException;
+import com.hedera.pbj.runtime.ProtoConstants;
+import com.hedera.pbj.runtime.ProtoWriterTools;
+import com.hedera.pbj.runtime.io.buffer.BufferedData;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.hiero.base.utility.MemoryUtils;
+
+/**
+ * Append-only, memory-mapped log of blocks that were moved out of the in-memory block buffer. The log is made up of
+ * fixed-size segment files. Blocks are appended to the newest segment. Once none of the blocks a segment contains are
+ * needed anymore, the segment is kept mapped for reuse if it is the newest one or if no other free segment is kept yet,
+ * and is otherwise unmapped and its file deleted. Mappings are released explicitly rather than left to the garbage
+ * collector, and a segment only stops counting against the disk budget once its mapping is released. Each entry in a
+ * segment has the following layout:
+ * <pre>
+ *     [long blockNumber][long closedEpochSecond][int closedNanos][int length][length bytes of a serialized Block]
+ * </pre>
+ * The index of the log is only kept in memory; any segment files that exist when the log is created are left over from
+ * a previous run and are deleted.
+ * <p>
+ * All methods are synchronized since blocks are written by the buffer pruning thread and read by the block streaming
+ * worker thread.
+ */
+public class BlockBufferSpillLog {
+    private static final Logger logger = LogManager.getLogger(BlockBufferSpillLog.class);
+
+    private static final String SEGMENT_FILE_PREFIX = "segment-";
+    private static final String SEGMENT_FILE_EXTENSION = ".log";
+    private static final int ENTRY_HEADER_SIZE = Long.BYTES + Long.BYTES + Integer.BYTES + Integer.BYTES;
+    /**
+     * The number of empty segments kept mapped for reuse, in addition to the newest segment.
+     */
+    private static final int MAX_FREE_SEGMENTS = 1;
+
+    /**
+     * A block read back from the log.
+     *
+     * @param items the items of the block, in the order they were added to the block
+     * @param closedTimestamp the time at which the block was closed
+     * @param sizeBytes the number of bytes the block occupies in the log
+     */
+    public record SpilledBlock(@NonNull List<BlockItem> items, @NonNull Instant closedTimestamp, int sizeBytes) {}
+
+    /**
+     * The location of a block in the log.
+     */
+    private record Entry(@NonNull Segment segment, int offset, int length, @NonNull Instant closedTimestamp) {}
+
+    /**
+     * A single memory-mapped segment file.
+     */
+    private static final class Segment {
+        private final Path path;
+        private final MappedByteBuffer buffer;
+        private int writePosition;
+        private int numLiveEntries;
+
+        private Segment(@NonNull final Path path, @NonNull final MappedByteBuffer buffer) {
+            this.path = path;
+            this.buffer = buffer;
+        }
+
+        private int remaining() {
+            return buffer.capacity() - writePosition;
+        }
+    }
+
+    private final Path directory;
+    private final long segmentSizeBytes;
+    private final long maxSizeBytes;
+    private final NavigableMap<Long, Entry> index = new TreeMap<>();
+    private final List<Segment> segments = new ArrayList<>();
+    private final Deque<Segment> freeSegments = new ArrayDeque<>();
+    private long nextSegmentId = 0;
+    private long sizeBytes = 0;
+    private int lastEntrySize = 0;
+
+    /**
+     * Creates a new spill log in the given directory, deleting any segment files left over from a previous run.
+     *
+     * @param directory the directory in which segment files are created
+     * @param segmentSizeBytes the size of a single segment file; blocks larger than this get a segment of their own
+     * @param maxSizeBytes the maximum number of bytes all segment files may occupy on disk
+     * @throws UncheckedIOException if the directory can not be created or cleaned up
+     */
+    public BlockBufferSpillLog(@NonNull final Path directory, final long segmentSizeBytes, final long maxSizeBytes) {
+        this.directory = requireNonNull(directory, "directory must not be null");
+        if (segmentSizeBytes <= ENTRY_HEADER_SIZE || segmentSizeBytes > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Invalid segment size: " + segmentSizeBytes);
+        }
+        this.segmentSizeBytes = segmentSizeBytes;
+        this.maxSizeBytes = maxSizeBytes;
+
+        try {
+            Files.createDirectories(directory);
+            try (final DirectoryStream<Path> stream =
+                    Files.newDirectoryStream(directory, SEGMENT_FILE_PREFIX + "*" + SEGMENT_FILE_EXTENSION)) {
+                for (final Path staleSegment : stream) {
+                    Files.deleteIfExists(staleSegment);
+                }
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Failed to initialize block buffer spill directory " + directory, e);
+        }
+    }
+
+    /**
+     * Appends a closed block to the log. The entry is assembled from the already serialized block items, which yields
+     * the same bytes as serializing a {@link Block} made up of the items without encoding any of them again.
+     *
+     * @param blockNumber the number of the block
+     * @param closedTimestamp the time at which the block was closed
+     * @param serializedItems the serialized items of the block, in the order they were added to the block
+     * @return the number of bytes written, or -1 if the block could not be written because the disk budget is used up
+     * or the segment file could not be created
+     */
+    public synchronized int append(
+            final long blockNumber,
+            @NonNull final Instant closedTimestamp,
+            @NonNull final List<Bytes> serializedItems) {
+        requireNonNull(closedTimestamp, "closedTimestamp must not be null");
+        requireNonNull(serializedItems, "serializedItems must not be null");
+
+        long blockLength = 0;
+        for (final Bytes item : serializedItems) {
+            blockLength += ProtoWriterTools.sizeOfDelimited(BlockSchema.ITEMS, (int) item.length());
+        }
+        if (blockLength > Integer.MAX_VALUE - ENTRY_HEADER_SIZE) {
+            logger.warn("[Block {}] Block of {} bytes is too large to spill", blockNumber, blockLength);
+            return -1;
+        }
+        final int length = (int) blockLength;
+        final int entrySize = ENTRY_HEADER_SIZE + length;
+        lastEntrySize = entrySize;
+
+        Segment segment = segments.isEmpty() ? null : segments.getLast();
+        if (segment == null || segment.remaining() < entrySize) {
+            segment = newSegment(Math.max(segmentSizeBytes, entrySize));
+            if (segment == null) {
+                return -1;
+            }
+        }
+
+        final int offset = segment.writePosition;
+        final MappedByteBuffer buffer = segment.buffer;
+        buffer.putLong(offset, blockNumber);
+        buffer.putLong(offset + Long.BYTES, closedTimestamp.getEpochSecond());
+        buffer.putInt(offset + 2 * Long.BYTES, closedTimestamp.getNano());
+        buffer.putInt(offset + 2 * Long.BYTES + Integer.BYTES, length);
+        final BufferedData out = BufferedData.wrap(buffer.slice(offset + ENTRY_HEADER_SIZE, length));
+        for (final Bytes item : serializedItems) {
+            ProtoWriterTools.writeTag(out, BlockSchema.ITEMS, ProtoConstants.WIRE_TYPE_DELIMITED);
+            out.writeVarInt((int) item.length(), false);
+            out.writeBytes(item);
+        }
+        segment.writePosition += entrySize;
+        ++segment.numLiveEntries;
+
+        final Entry previous =
+                index.put(blockNumber, new Entry(segment, offset + ENTRY_HEADER_SIZE, length, closedTimestamp));
+        if (previous != null) {
+            release(previous);
+        }
+        return entrySize;
+    }
+
+    /**
+     * Reads a block from the log.
+     *
+     * @param blockNumber the number of the block to read
+     * @return the block, or null if the block is not in the log
+     */
+    public synchronized @Nullable SpilledBlock read(final long blockNumber) {
+        final Entry entry = index.get(blockNumber);
+        if (entry == null) {
+            return null;
+        }
+
+        try {
+            final Block block =
+                    Block.PROTOBUF.parse(BufferedData.wrap(entry.segment.buffer.slice(entry.offset, entry.length)));
+            return new SpilledBlock(block.items(), entry.closedTimestamp, ENTRY_HEADER_SIZE + entry.length);
+        } catch (final ParseException e) {
+            logger.error("[Block {}] Failed to read block from spill segment {}", blockNumber, entry.segment.path, e);
+            return null;
+        }
+    }
+
+    /**
+     * @param blockNumber the block number to check
+     * @return true if the block is in the log, else false
+     */
+    public synchronized boolean contains(final long blockNumber) {
+        return index.containsKey(blockNumber);
+    }
+
+    /**
+     * Removes all blocks up to and including the specified block number that were closed before the given cutoff, and
+     * deletes segment files that no longer contain any blocks.
+     *
+     * @param highestAckedBlockNumber the highest block number that may be removed
+     * @param cutoff blocks closed at or after this time are kept
+     * @return the number of blocks removed
+     */
+    public synchronized int removeAcknowledged(final long highestAckedBlockNumber, @NonNull final Instant cutoff) {
+        int numRemoved = 0;
+        final Iterator<Map.Entry<Long, Entry>> it =
+                index.headMap(highestAckedBlockNumber, true).entrySet().iterator();
+        while (it.hasNext()) {
+            final Entry entry = it.next().getValue();
+            if (entry.closedTimestamp.isBefore(cutoff)) {
+                it.remove();
+                release(entry);
+                ++numRemoved;
+            }
+        }
+        return numRemoved;
+    }
+
+    /**
+     * @param highestAckedBlockNumber the highest block number that was acknowledged
+     * @return the time at which the oldest block in the log with a higher block number was closed, or null if there is
+     * no such block
+     */
+    public synchronized @Nullable Instant oldestUnacknowledgedTimestamp(final long highestAckedBlockNumber) {
+        final Map.Entry<Long, Entry> first = index.higherEntry(highestAckedBlockNumber);
+        return first == null ? null : first.getValue().closedTimestamp;
+    }
+
+    /**
+     * @param lowerBound the lowest block number to count (exclusive)
+     * @return the number of blocks in the log with a block number greater than the lower bound
+     */
+    public synchronized int numBlocksAbove(final long lowerBound) {
+        return index.tailMap(lowerBound, false).size();
+    }
+
+    /**
+     * @return the number of blocks in the log
+     */
+    public synchronized int numBlocks() {
+        return index.size();
+    }
+
+    /**
+     * @return the number of bytes occupied by segment files on disk, including empty segments kept for reuse and
+     * segments whose mapping could not be released
+     */
+    public synchronized long sizeBytes() {
+        return sizeBytes;
+    }
+
+    /**
+     * @return true if a block as large as the last one appended fits neither in the newest segment, nor in a free
+     * segment, nor in a new segment file within the disk budget, else false
+     */
+    public synchronized boolean isFull() {
+        if (!freeSegments.isEmpty() && lastEntrySize <= segmentSizeBytes) {
+            return false;
+        }
+        if (sizeBytes + Math.max(segmentSizeBytes, lastEntrySize) <= maxSizeBytes) {
+            return false;
+        }
+        return segments.isEmpty() || segments.getLast().remaining() < lastEntrySize;
+    }
+
+    /**
+     * Removes all blocks and deletes all segment files.
+     */
+    public synchronized void clear() {
+        index.clear();
+        for (final Segment segment : segments) {
+            deleteSegment(segment);
+        }
+        segments.clear();
+        for (final Segment segment : freeSegments) {
+            deleteSegment(segment);
+        }
+        freeSegments.clear();
+    }
+
+    /**
+     * Reuses a free segment if the size permits it, or else creates and maps a new segment file if the disk budget
+     * permits it.
+     *
+     * @param size the minimum size of the new segment
+     * @return the new segment, or null if the segment could not be created
+     */
+    private @Nullable Segment newSegment(final long size) {
+        if (size <= segmentSizeBytes && !freeSegments.isEmpty()) {
+            final Segment segment = freeSegments.pop();
+            segments.add(segment);
+            logger.debug("Reusing block buffer spill segment {}", segment.path);
+            return segment;
+        }
+        if (size > Integer.MAX_VALUE || sizeBytes + size > maxSizeBytes) {
+            return null;
+        }
+
+        final Path path = directory.resolve(SEGMENT_FILE_PREFIX + nextSegmentId++ + SEGMENT_FILE_EXTENSION);
+        try (final FileChannel channel = FileChannel.open(
+                path, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            // the mapping stays valid after the channel is closed
+            final Segment segment = new Segment(path, channel.map(MapMode.READ_WRITE, 0, size));
+            segments.add(segment);
+            sizeBytes += size;
+            logger.debug("Created block buffer spill segment {} (size={})", path, size);
+            return segment;
+        } catch (final IOException e) {
+            logger.warn("Failed to create block buffer spill segment {}", path, e);
+            return null;
+        }
+    }
+
+    /**
+     * Releases an entry that was removed from the index. If its segment no longer contains any blocks, the segment is
+     * rewound if it is the newest segment, kept for reuse if there is room in the free list, and deleted otherwise.
+     *
+     * @param entry the entry that was removed
+     */
+    private void release(@NonNull final Entry entry) {
+        final Segment segment = entry.segment;
+        if (--segment.numLiveEntries > 0) {
+            return;
+        }
+        segment.writePosition = 0;
+        if (segment == segments.getLast()) {
+            return;
+        }
+        segments.remove(segment);
+        if (segment.buffer.capacity() == segmentSizeBytes && freeSegments.size() < MAX_FREE_SEGMENTS) {
+            freeSegments.push(segment);
+        } else {
+            deleteSegment(segment);
+        }
+    }
+
+    /**
+     * Unmaps a segment and deletes its file. The segment keeps counting against the disk budget if it can not be
+     * unmapped, since neither its memory nor (on some platforms) its disk space are released until it is.
+     *
+     * @param segment the segment to delete
+     */
+    private void deleteSegment(@NonNull final Segment segment) {
+        try {
+            MemoryUtils.closeMmapBuffer(segment.buffer);
+            sizeBytes -= segment.buffer.capacity();
+        } catch (final RuntimeException e) {
+            logger.warn("Failed to unmap block buffer spill segment {}", segment.path, e);
+        }
+        try {
+            Files.deleteIfExists(segment.path);
+            logger.debug("Deleted block buffer spill segment {}", segment.path);
+        } catch (final IOException e) {
+            logger.warn("Failed to delete block buffer spill segment {}", segment.path, e);
+        }
+    }
+}
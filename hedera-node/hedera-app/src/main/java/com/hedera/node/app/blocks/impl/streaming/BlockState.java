@@ -5,6 +5,7 @@ import com.hedera.hapi.block.stream.BlockItem;
 import com.hedera.hapi.block.stream.output.StateChange;
 import com.hedera.hapi.block.stream.output.StateChanges;
 import com.hedera.hapi.node.state.blockstream.BlockStreamInfo;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
 import java.time.Instant;
@@ -150,6 +151,23 @@ public class BlockState {
         this.blockNumber = blockNumber;
     }
 
+    /**
+     * Create a closed block state from items that were previously added to a block, e.g. when a block is read back from
+     * disk. Requests for the items are generated the next time {@link #processPendingItems(int)} is invoked.
+     *
+     * @param blockNumber the block number
+     * @param items the items of the block, in the order in which they were originally added
+     * @param closedTimestamp the time at which the block was originally closed
+     * @return the restored block state
+     */
+    static @NonNull BlockState restore(
+            final long blockNumber, @NonNull final List<BlockItem> items, @NonNull final Instant closedTimestamp) {
+        final BlockState blockState = new BlockState(blockNumber);
+        items.forEach(blockState::addItem);
+        blockState.closedTimestamp.set(Objects.requireNonNull(closedTimestamp, "closedTimestamp must not be null"));
+        return blockState;
+    }
+
     /**
      * Get the block number
      *
@@ -335,6 +353,43 @@ public class BlockState {
         }
     }
 
+    /**
+     * Get all items of this block, in the order in which they were added. This includes items already packed into
+     * requests as well as items still pending.
+     *
+     * @return the items of this block
+     */
+    @NonNull
+    List<BlockItem> items() {
+        final List<BlockItem> items = new ArrayList<>();
+        final int numRequests = requestIdxCtr.get();
+        for (int i = 0; i < numRequests; ++i) {
+            final RequestWrapper rs = requestsByIndex.get(i);
+            if (rs != null) {
+                items.addAll(rs.request.blockItemsOrElse(BlockItemSet.DEFAULT).blockItems());
+            }
+        }
+        items.addAll(pendingItems);
+        return items;
+    }
+
+    /**
+     * Encode all items of this block, in the order in which they were added. The items are encoded again on every
+     * call and the result is not retained, so a block in memory only holds its items once; encoding is only needed
+     * when the block is moved to disk.
+     *
+     * @return the encoded items of this block
+     */
+    @NonNull
+    List<Bytes> encodeItems() {
+        final List<BlockItem> items = items();
+        final List<Bytes> serialized = new ArrayList<>(items.size());
+        for (final BlockItem item : items) {
+            serialized.add(BlockItem.PROTOBUF.toBytes(item));
+        }
+        return serialized;
+    }
+
     /**
      * @return true if the proof for this block has been sent to a block node, else false
      */
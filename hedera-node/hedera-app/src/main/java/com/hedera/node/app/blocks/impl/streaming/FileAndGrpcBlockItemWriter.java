@@ -44,7 +44,7 @@ public class FileAndGrpcBlockItemWriter implements BlockItemWriter {
 
     @Override
     public void writePbjItemAndBytes(@NonNull final BlockItem item, @NonNull Bytes bytes) {
-        this.fileBlockItemWriter.writeItem(bytes.toByteArray());
+        this.fileBlockItemWriter.writePbjItemAndBytes(item, bytes);
         this.grpcBlockItemWriter.writePbjItem(item);
     }
 
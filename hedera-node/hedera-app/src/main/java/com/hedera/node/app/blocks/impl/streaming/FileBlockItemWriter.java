@@ -321,6 +321,23 @@ public class FileBlockItemWriter implements BlockItemWriter {
     @Override
     public void writeItem(@NonNull final byte[] bytes) {
         requireNonNull(bytes);
+        writeSerializedItem(Bytes.wrap(bytes));
+    }
+
+    /**
+     * Writes the already serialized item bytes to the block file as they are, without copying or re-encoding them.
+     *
+     * @param item the item to write
+     * @param bytes the serialized item to write
+     */
+    @Override
+    public void writePbjItemAndBytes(@NonNull final BlockItem item, @NonNull final Bytes bytes) {
+        requireNonNull(item);
+        requireNonNull(bytes);
+        writeSerializedItem(bytes);
+    }
+
+    private void writeSerializedItem(@NonNull final Bytes bytes) {
         if (state != State.OPEN) {
             throw new IllegalStateException(
                     "Cannot write to a FileBlockItemWriter that is not open for block: " + this.blockNumber);
@@ -329,7 +346,7 @@ public class FileBlockItemWriter implements BlockItemWriter {
         // Write the ITEMS tag.
         ProtoWriterTools.writeTag(writableStreamingData, BlockSchema.ITEMS, ProtoConstants.WIRE_TYPE_DELIMITED);
         // Write the length of the item.
-        writableStreamingData.writeVarInt(bytes.length, false);
+        writableStreamingData.writeVarInt((int) bytes.length(), false);
         // Write the item bytes themselves.
         writableStreamingData.writeBytes(bytes);
     }
@@ -225,8 +225,7 @@ public final class FeeManager {
     @NonNull
     public FeeData getFeeData(
             @NonNull HederaFunctionality functionality, @NonNull Instant consensusTime, @NonNull SubType subType) {
-        final var feeDataMap =
-                consensusTime.getEpochSecond() > currentScheduleExpirationSeconds ? nextFeeDataMap : currentFeeDataMap;
+        final var feeDataMap = feeDataMapAt(consensusTime);
 
         // Now, lookup the fee data for the transaction type.
         final var result = feeDataMap.get(new Entry(functionality, subType));
@@ -239,6 +238,23 @@ public final class FeeManager {
         return result;
     }
 
+    /**
+     * Returns the fee schedule in effect at the given consensus time. The returned object is opaque, and is only
+     * meant to be compared with the fee schedule in effect at another time; two equal fee schedules price the same
+     * usage the same way.
+     *
+     * @param consensusTime the consensus time
+     * @return the fee schedule in effect at the given time
+     */
+    @NonNull
+    public Object feeScheduleAt(@NonNull final Instant consensusTime) {
+        return feeDataMapAt(consensusTime);
+    }
+
+    private Map<Entry, FeeData> feeDataMapAt(@NonNull final Instant consensusTime) {
+        return consensusTime.getEpochSecond() > currentScheduleExpirationSeconds ? nextFeeDataMap : currentFeeDataMap;
+    }
+
     /**
      * Used during {@link #update(Bytes)} to populate the fee data map based on the configuration.
      * @param feeDataMap The map to populate.
@@ -0,0 +1,66 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.node.app.fees;
+
+import static java.util.Objects.requireNonNull;
+
+import com.hedera.hapi.node.base.Key;
+import com.hedera.hapi.node.transaction.ExchangeRate;
+import com.hedera.node.app.spi.fees.Fees;
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+/**
+ * The fees of a transaction computed ahead of consensus, together with every input they were computed from other than
+ * the transaction itself. The fees may be charged at consensus instead of computing them again exactly when all these
+ * inputs are still the same.
+ *
+ * @param fees the quoted fees
+ * @param feeSchedule the fee schedule the fees were computed with, see {@link FeeManager#feeScheduleAt}
+ * @param exchangeRate the exchange rate the fees were computed with
+ * @param congestionMultiplier the congestion multiplier the fees were computed with
+ * @param payerKey the key of the payer the fees were computed for
+ * @param numVerifications the number of signature verifications the fees were computed for
+ * @param configVersion the version of the configuration the fees were computed with
+ */
+public record FeeQuote(
+        @NonNull Fees fees,
+        @NonNull Object feeSchedule,
+        @NonNull ExchangeRate exchangeRate,
+        long congestionMultiplier,
+        @NonNull Key payerKey,
+        int numVerifications,
+        long configVersion) {
+
+    /** Create a new instance. */
+    public FeeQuote {
+        requireNonNull(fees);
+        requireNonNull(feeSchedule);
+        requireNonNull(exchangeRate);
+        requireNonNull(payerKey);
+    }
+
+    /**
+     * Returns whether the fees of this quote are the fees computed from the given inputs.
+     *
+     * @param feeSchedule the fee schedule in effect
+     * @param exchangeRate the exchange rate in effect
+     * @param congestionMultiplier the congestion multiplier in effect
+     * @param payerKey the key of the payer
+     * @param numVerifications the number of signature verifications
+     * @param configVersion the version of the configuration in effect
+     * @return whether the quoted fees can be charged
+     */
+    public boolean isValidFor(
+            @NonNull final Object feeSchedule,
+            @NonNull final ExchangeRate exchangeRate,
+            final long congestionMultiplier,
+            @NonNull final Key payerKey,
+            final int numVerifications,
+            final long configVersion) {
+        return this.configVersion == configVersion
+                && this.congestionMultiplier == congestionMultiplier
+                && this.numVerifications == numVerifications
+                && this.feeSchedule.equals(feeSchedule)
+                && this.exchangeRate.equals(exchangeRate)
+                && this.payerKey.equals(payerKey);
+    }
+}
@@ -0,0 +1,264 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.node.app.fees;
+
+import static com.hedera.node.app.hapi.utils.CommonPbjConverters.fromPbj;
+import static java.util.Objects.requireNonNull;
+
+import com.hedera.hapi.node.base.AccountID;
+import com.hedera.hapi.node.base.Key;
+import com.hedera.hapi.node.base.SignatureMap;
+import com.hedera.hapi.node.base.SubType;
+import com.hedera.hapi.node.transaction.TransactionBody;
+import com.hedera.node.app.spi.authorization.Authorizer;
+import com.hedera.node.app.spi.fees.FeeCalculator;
+import com.hedera.node.app.spi.fees.FeeCalculatorFactory;
+import com.hedera.node.app.spi.fees.FeeContext;
+import com.hedera.node.app.spi.fees.Fees;
+import com.hedera.node.app.store.ReadableStoreFactory;
+import com.hedera.node.app.workflows.TransactionInfo;
+import com.hedera.node.app.workflows.dispatcher.TransactionDispatcher;
+import com.hedera.node.config.VersionedConfiguration;
+import com.hedera.node.config.data.FeesConfig;
+import com.swirlds.config.api.Configuration;
+import com.swirlds.metrics.api.Counter;
+import com.swirlds.metrics.api.Metrics;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.time.Instant;
+import java.time.InstantSource;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Quotes the fees of transactions during pre-handle, so the handle thread can charge the quoted fees instead of
+ * computing them again.
+ *
+ * <p>Fees are only quoted for the transaction types configured in {@link FeesConfig#quotesFunctionalities()}, whose
+ * fees do not depend on the state. A quote is computed with exactly the inputs the handle workflow would use, and
+ * records the fee schedule, exchange rate, congestion multiplier and configuration version in effect; at consensus the
+ * quoted fees are only charged if all of them are still the same, and are computed again otherwise. (Some fees depend
+ * on network properties, so a quote computed with a different configuration than the handle workflow uses could make
+ * nodes charge different fees.)
+ */
+@Singleton
+public class FeeQuoteManager {
+    private static final Logger logger = LogManager.getLogger(FeeQuoteManager.class);
+
+    private final FeeManager feeManager;
+    private final ExchangeRateManager exchangeRateManager;
+    private final TransactionDispatcher dispatcher;
+    private final Authorizer authorizer;
+    private final InstantSource instantSource;
+    private final Counter quotesReused;
+    private final Counter quotesRecomputed;
+
+    /**
+     * Constructor of {@code FeeQuoteManager}
+     *
+     * @param feeManager the {@link FeeManager} to compute fees with
+     * @param exchangeRateManager the {@link ExchangeRateManager} with the active exchange rate
+     * @param dispatcher the {@link TransactionDispatcher} to dispatch the fee computation to the handlers
+     * @param authorizer the {@link Authorizer} handed to the handlers
+     * @param instantSource the {@link InstantSource} that approximates the consensus time of quoted transactions
+     * @param metrics the {@link Metrics} to register the quote metrics with
+     */
+    @Inject
+    public FeeQuoteManager(
+            @NonNull final FeeManager feeManager,
+            @NonNull final ExchangeRateManager exchangeRateManager,
+            @NonNull final TransactionDispatcher dispatcher,
+            @NonNull final Authorizer authorizer,
+            @NonNull final InstantSource instantSource,
+            @NonNull final Metrics metrics) {
+        this.feeManager = requireNonNull(feeManager);
+        this.exchangeRateManager = requireNonNull(exchangeRateManager);
+        this.dispatcher = requireNonNull(dispatcher);
+        this.authorizer = requireNonNull(authorizer);
+        this.instantSource = requireNonNull(instantSource);
+        requireNonNull(metrics);
+        this.quotesReused = metrics.getOrCreate(new Counter.Config("app", "feeQuotesReused")
+                .withDescription("The number of transactions charged the fees quoted during pre-handle"));
+        this.quotesRecomputed = metrics.getOrCreate(new Counter.Config("app", "feeQuotesRecomputed")
+                .withDescription("The number of transactions whose fees quoted during pre-handle had to be "
+                        + "recomputed at consensus"));
+    }
+
+    /**
+     * Quotes the fees of the given transaction.
+     *
+     * @param txInfo the transaction to quote
+     * @param payerKey the key of the payer
+     * @param numVerifications the number of signature verifications of the transaction
+     * @param storeFactory the store factory to compute the congestion multiplier with
+     * @param configuration the configuration to compute the fees with
+     * @return the quote, or {@code null} if the fees of the transaction can not be quoted
+     */
+    public @Nullable FeeQuote quote(
+            @NonNull final TransactionInfo txInfo,
+            @NonNull final Key payerKey,
+            final int numVerifications,
+            @NonNull final ReadableStoreFactory storeFactory,
+            @NonNull final VersionedConfiguration configuration) {
+        requireNonNull(txInfo);
+        requireNonNull(payerKey);
+        requireNonNull(storeFactory);
+        final var feesConfig = configuration.getConfigData(FeesConfig.class);
+        final var function = txInfo.functionality();
+        if (!feesConfig.quotesEnabled() || !feesConfig.quotesFunctionalities().contains(fromPbj(function))) {
+            return null;
+        }
+        final var now = instantSource.instant();
+        final var body = txInfo.txBody();
+        try {
+            // The fee schedule, exchange rate, and congestion multiplier are updated by the handle thread while we
+            // compute the fees, so we only quote fees if none of them changed in the meantime
+            final var feeSchedule = feeManager.feeScheduleAt(now);
+            final var exchangeRate = exchangeRateManager.activeRate(now);
+            final var congestionMultiplier = feeManager.congestionMultiplierFor(body, function, storeFactory);
+            final var fees = dispatcher.dispatchComputeFees(
+                    new QuoteContext(txInfo, payerKey, numVerifications, now, storeFactory, configuration));
+            if (feeSchedule != feeManager.feeScheduleAt(now)
+                    || !exchangeRate.equals(exchangeRateManager.activeRate(now))
+                    || congestionMultiplier != feeManager.congestionMultiplierFor(body, function, storeFactory)) {
+                return null;
+            }
+            return new FeeQuote(
+                    fees,
+                    feeSchedule,
+                    exchangeRate,
+                    congestionMultiplier,
+                    payerKey,
+                    numVerifications,
+                    configuration.getVersion());
+        } catch (final RuntimeException e) {
+            // The handle workflow will compute the fees itself, and deal with any failure
+            logger.debug("Unable to quote the fees of a {} transaction", function, e);
+            return null;
+        }
+    }
+
+    /**
+     * Returns the quoted fees of a transaction if they are still the fees the transaction would be charged.
+     *
+     * @param quote the quote of the transaction, if any
+     * @param consensusNow the consensus time of the transaction
+     * @param congestionMultiplier the congestion multiplier at consensus
+     * @param payerKey the key of the payer at consensus
+     * @param numVerifications the number of signature verifications at consensus
+     * @param configVersion the version of the configuration at consensus
+     * @return the quoted fees, or {@code null} if the fees must be computed
+     */
+    public @Nullable Fees reusableFees(
+            @Nullable final FeeQuote quote,
+            @NonNull final Instant consensusNow,
+            final long congestionMultiplier,
+            @NonNull final Key payerKey,
+            final int numVerifications,
+            final long configVersion) {
+        if (quote == null) {
+            return null;
+        }
+        if (quote.isValidFor(
+                feeManager.feeScheduleAt(consensusNow),
+                exchangeRateManager.activeRate(consensusNow),
+                congestionMultiplier,
+                payerKey,
+                numVerifications,
+                configVersion)) {
+            quotesReused.increment();
+            return quote.fees();
+        }
+        quotesRecomputed.increment();
+        return null;
+    }
+
+    /**
+     * The {@link FeeContext} fees are quoted in. It creates fee calculators with the same inputs as the handle
+     * workflow; and since only fees that do not depend on the state or other transactions are quoted, any attempt
+     * to read from the state or dispatch the fee computation of another transaction fails the quote.
+     */
+    private class QuoteContext implements FeeContext {
+        private final TransactionInfo txInfo;
+        private final Key payerKey;
+        private final int numVerifications;
+        private final Instant now;
+        private final ReadableStoreFactory storeFactory;
+        private final Configuration configuration;
+
+        private QuoteContext(
+                @NonNull final TransactionInfo txInfo,
+                @NonNull final Key payerKey,
+                final int numVerifications,
+                @NonNull final Instant now,
+                @NonNull final ReadableStoreFactory storeFactory,
+                @NonNull final Configuration configuration) {
+            this.txInfo = txInfo;
+            this.payerKey = payerKey;
+            this.numVerifications = numVerifications;
+            this.now = now;
+            this.storeFactory = storeFactory;
+            this.configuration = configuration;
+        }
+
+        @NonNull
+        @Override
+        public AccountID payer() {
+            return requireNonNull(txInfo.payerID());
+        }
+
+        @NonNull
+        @Override
+        public TransactionBody body() {
+            return txInfo.txBody();
+        }
+
+        @NonNull
+        @Override
+        public FeeCalculatorFactory feeCalculatorFactory() {
+            return this::createFeeCalculator;
+        }
+
+        @NonNull
+        @Override
+        public <T> T readableStore(@NonNull final Class<T> storeInterface) {
+            throw new UnsupportedOperationException("Fees depending on the state can not be quoted");
+        }
+
+        @NonNull
+        @Override
+        public Configuration configuration() {
+            return configuration;
+        }
+
+        @Override
+        public Authorizer authorizer() {
+            return authorizer;
+        }
+
+        @Override
+        public int numTxnSignatures() {
+            return numVerifications;
+        }
+
+        @Override
+        public Fees dispatchComputeFees(
+                @NonNull final TransactionBody txBody, @NonNull final AccountID syntheticPayerId) {
+            throw new UnsupportedOperationException("Fees depending on other transactions can not be quoted");
+        }
+
+        private FeeCalculator createFeeCalculator(@NonNull final SubType subType) {
+            return feeManager.createFeeCalculator(
+                    txInfo.txBody(),
+                    payerKey,
+                    txInfo.functionality(),
+                    numVerifications,
+                    SignatureMap.PROTOBUF.measureRecord(txInfo.signatureMap()),
+                    now,
+                    subType,
+                    false,
+                    storeFactory);
+        }
+    }
+}
@@ -45,6 +45,13 @@ public class BlockStreamMetrics {
     private LongGauge oldestUnacknowledgedBlockTimeGauge;
     private LongGauge latestAcknowledgedBlockNumberGauge;
     private DoubleGauge blockBufferSaturationGauge;
+    private LongGauge blockBufferMemoryBlocksGauge;
+    private LongGauge blockBufferDiskBlocksGauge;
+    private LongGauge blockBufferDiskBytesGauge;
+    private Counter blockBufferSpilledBlocksCounter;
+    private Counter blockBufferSpilledBytesCounter;
+    private Counter blockBufferReplayedBlocksCounter;
+    private Counter blockBufferReplayedBytesCounter;
 
     @Inject
     public BlockStreamMetrics(@NonNull final Metrics metrics, @NonNull final NodeInfo selfNodeInfo) {
@@ -127,6 +134,37 @@ public class BlockStreamMetrics {
                                 + "saturation and backpressure may be applied, and values at or above 100 mean the "
                                 + "buffer is fully saturated and potentially overflowing"));
 
+        // Block buffer tiers - blocks held in memory, and blocks moved to disk because block nodes are lagging
+        final String bufferMemoryBlocksMetricName = "blockBufferMemoryBlocks" + nodeLabel;
+        blockBufferMemoryBlocksGauge =
+                metrics.getOrCreate(new LongGauge.Config(APP_CATEGORY, bufferMemoryBlocksMetricName)
+                        .withDescription("Number of blocks held in the in-memory tier of the block buffer"));
+
+        final String bufferDiskBlocksMetricName = "blockBufferDiskBlocks" + nodeLabel;
+        blockBufferDiskBlocksGauge = metrics.getOrCreate(new LongGauge.Config(APP_CATEGORY, bufferDiskBlocksMetricName)
+                .withDescription("Number of blocks held in the on-disk tier of the block buffer"));
+
+        final String bufferDiskBytesMetricName = "blockBufferDiskBytes" + nodeLabel;
+        blockBufferDiskBytesGauge = metrics.getOrCreate(new LongGauge.Config(APP_CATEGORY, bufferDiskBytesMetricName)
+                .withDescription("Number of bytes used on disk by the on-disk tier of the block buffer"));
+
+        final String spilledBlocksMetricName = "blockBufferSpilledBlocks" + nodeLabel;
+        blockBufferSpilledBlocksCounter = metrics.getOrCreate(new Counter.Config(APP_CATEGORY, spilledBlocksMetricName)
+                .withDescription("Total number of blocks moved from the in-memory to the on-disk block buffer tier"));
+
+        final String spilledBytesMetricName = "blockBufferSpilledBytes" + nodeLabel;
+        blockBufferSpilledBytesCounter = metrics.getOrCreate(new Counter.Config(APP_CATEGORY, spilledBytesMetricName)
+                .withDescription("Total number of bytes written to the on-disk block buffer tier"));
+
+        final String replayedBlocksMetricName = "blockBufferReplayedBlocks" + nodeLabel;
+        blockBufferReplayedBlocksCounter =
+                metrics.getOrCreate(new Counter.Config(APP_CATEGORY, replayedBlocksMetricName)
+                        .withDescription("Total number of blocks read back from the on-disk block buffer tier"));
+
+        final String replayedBytesMetricName = "blockBufferReplayedBytes" + nodeLabel;
+        blockBufferReplayedBytesCounter = metrics.getOrCreate(new Counter.Config(APP_CATEGORY, replayedBytesMetricName)
+                .withDescription("Total number of bytes read back from the on-disk block buffer tier"));
+
         logger.info("Finished registering BlockStreamMetrics for node {}", localNodeId);
     }
 
@@ -254,4 +292,43 @@ public class BlockStreamMetrics {
             blockBufferSaturationGauge.set(saturation);
         }
     }
+
+    /**
+     * Updates the sizes of the block buffer tiers.
+     *
+     * @param memoryBlocks the number of blocks held in memory
+     * @param diskBlocks the number of blocks held on disk
+     * @param diskBytes the number of bytes used on disk
+     */
+    public void updateBlockBufferTiers(final long memoryBlocks, final long diskBlocks, final long diskBytes) {
+        if (blockBufferMemoryBlocksGauge != null) {
+            blockBufferMemoryBlocksGauge.set(memoryBlocks);
+            blockBufferDiskBlocksGauge.set(diskBlocks);
+            blockBufferDiskBytesGauge.set(diskBytes);
+        }
+    }
+
+    /**
+     * Records a block that was moved from the in-memory to the on-disk block buffer tier.
+     *
+     * @param sizeBytes the number of bytes written to disk
+     */
+    public void recordBlockSpilled(final long sizeBytes) {
+        if (blockBufferSpilledBlocksCounter != null) {
+            blockBufferSpilledBlocksCounter.increment();
+            blockBufferSpilledBytesCounter.add(sizeBytes);
+        }
+    }
+
+    /**
+     * Records a block that was read back from the on-disk block buffer tier.
+     *
+     * @param sizeBytes the number of bytes read from disk
+     */
+    public void recordBlockReplayed(final long sizeBytes) {
+        if (blockBufferReplayedBlocksCounter != null) {
+            blockBufferReplayedBlocksCounter.increment();
+            blockBufferReplayedBytesCounter.add(sizeBytes);
+        }
+    }
 }
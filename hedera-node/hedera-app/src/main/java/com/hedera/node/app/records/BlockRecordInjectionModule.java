@@ -19,6 +19,9 @@ import dagger.Provides;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.nio.file.FileSystem;
 import java.nio.file.FileSystems;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import javax.inject.Named;
 import javax.inject.Singleton;
 
 /** A Dagger module for facilities in the {@link com.hedera.node.app.records} package. */
@@ -36,6 +39,18 @@ public abstract class BlockRecordInjectionModule {
         return FileSystems.getDefault();
     }
 
+    /**
+     * Provides the executor record stream files are written on. It has a single thread, since the writes to a file are
+     * sequential anyway, and is not shared so slow disk writes can not hold up any other work.
+     */
+    @Provides
+    @Singleton
+    @Named("RecordStreamWriter")
+    static ExecutorService provideRecordStreamWriterExecutor() {
+        return Executors.newSingleThreadExecutor(
+                Thread.ofPlatform().name("RecordStreamWriter").daemon().factory());
+    }
+
     /**
      * Provides a {@link BlockRecordStreamProducer} based on the configuration. It is possible to use a concurrent producer,
      * or a single-threaded producer, based on configuration.
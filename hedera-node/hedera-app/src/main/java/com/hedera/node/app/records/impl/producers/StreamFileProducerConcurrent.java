@@ -11,16 +11,22 @@ import com.hedera.hapi.streams.HashObject;
 import com.hedera.node.app.annotations.CommonExecutor;
 import com.hedera.node.app.records.impl.BlockRecordStreamProducer;
 import com.hedera.node.app.state.SingleTransactionRecord;
+import com.hedera.node.config.ConfigProvider;
+import com.hedera.node.config.data.BlockRecordStreamConfig;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
+import com.swirlds.metrics.api.Counter;
+import com.swirlds.metrics.api.Metrics;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
 import java.time.Instant;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Stream;
 import javax.inject.Inject;
+import javax.inject.Named;
 import javax.inject.Singleton;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -32,6 +38,12 @@ import org.apache.logging.log4j.Logger;
  * the handle transaction thread, so they are single threaded and executed in the correct order. The information
  * provided by calls to the public methods are then processed into files by the background threads. All async task are
  * done with {@link CompletableFuture}s.
+ *
+ * <p>Serializing records and updating the running hash is done on the common executor, since the handle thread needs
+ * the running hashes. Creating, writing, compressing and closing files is done on a dedicated writer executor, so a
+ * slow disk never delays the running hashes. At most {@link BlockRecordStreamConfig#queueCapacity()} transactions can
+ * have their records waiting to be written; once that many are queued the handle thread waits for the writer, and
+ * counts that in the {@code recordStreamBackpressure} metric.
  */
 @Singleton
 public final class StreamFileProducerConcurrent implements BlockRecordStreamProducer {
@@ -48,6 +60,12 @@ public final class StreamFileProducerConcurrent implements BlockRecordStreamProd
     private final BlockRecordFormat format;
     /** The executor service to use for background tasks */
     private final ExecutorService executorService;
+    /** The executor service to write files on */
+    private final ExecutorService writerExecutorService;
+    /** The permits for transactions whose records may be queued for writing */
+    private final Semaphore writePermits;
+    /** Counts the times the handle thread had to wait for the writer to catch up */
+    private final Counter backpressureCounter;
     /** The lock to protect the following state */
     private final Lock lock = new ReentrantLock();
     /** Future for running hash results of last running hash updates task */
@@ -72,17 +90,32 @@ public final class StreamFileProducerConcurrent implements BlockRecordStreamProd
      * @param format          The format to use for the record stream
      * @param writerFactory   the factory used to create new {@link BlockRecordWriter} instances
      * @param executorService The executor service to use for background threads
+     * @param writerExecutorService The executor service to write files on
+     * @param hapiVersion     The HAPI protobuf version
+     * @param configProvider  The configuration provider, for the capacity of the write queue
+     * @param metrics         The metrics to register the backpressure counter with
      */
     @Inject
     public StreamFileProducerConcurrent(
             @NonNull final BlockRecordFormat format,
             @NonNull final BlockRecordWriterFactory writerFactory,
             @CommonExecutor @NonNull final ExecutorService executorService,
-            @NonNull final SemanticVersion hapiVersion) {
+            @Named("RecordStreamWriter") @NonNull final ExecutorService writerExecutorService,
+            @NonNull final SemanticVersion hapiVersion,
+            @NonNull final ConfigProvider configProvider,
+            @NonNull final Metrics metrics) {
         this.writerFactory = requireNonNull(writerFactory);
         this.format = requireNonNull(format);
         this.hapiVersion = requireNonNull(hapiVersion);
         this.executorService = requireNonNull(executorService);
+        this.writerExecutorService = requireNonNull(writerExecutorService);
+        this.writePermits = new Semaphore(configProvider
+                .getConfiguration()
+                .getConfigData(BlockRecordStreamConfig.class)
+                .queueCapacity());
+        this.backpressureCounter = requireNonNull(metrics)
+                .getOrCreate(new Counter.Config("app", "recordStreamBackpressure")
+                        .withDescription("The number of times handle waited for record stream files to be written"));
     }
 
     // =================================================================================================================
@@ -150,8 +183,10 @@ public final class StreamFileProducerConcurrent implements BlockRecordStreamProd
             if (currentRecordFileWriter == null) {
                 // We are at the start of a new block and there is no old one to close or wait for. So just create a new
                 // one which creates a new file and writes initializes it in the background
-                currentRecordFileWriter = lastRecordHashingResult.thenApply(lastRunningHash -> createBlockRecordWriter(
-                        lastRunningHash, newBlockFirstTransactionConsensusTime, newBlockNumber));
+                currentRecordFileWriter = lastRecordHashingResult.thenApplyAsync(
+                        lastRunningHash -> createBlockRecordWriter(
+                                lastRunningHash, newBlockFirstTransactionConsensusTime, newBlockNumber),
+                        writerExecutorService);
             } else {
                 // Reassign our fileWriter future to a future that will complete once:
                 //   (1) The running hash of the last record in the current block is available; and,
@@ -168,7 +203,7 @@ public final class StreamFileProducerConcurrent implements BlockRecordStreamProd
                                     return createBlockRecordWriter(
                                             lastRunningHash, newBlockFirstTransactionConsensusTime, newBlockNumber);
                                 },
-                                executorService);
+                                writerExecutorService);
             }
         } finally {
             lock.unlock(); // Always unlock.
@@ -221,7 +256,8 @@ public final class StreamFileProducerConcurrent implements BlockRecordStreamProd
                 // pattern; nor will a node going through event stream recovery.
                 return;
             }
-            // write serialized items to record file in a background thread
+            // write serialized items to record file in a background thread, once there is room in the write queue
+            acquireWritePermit();
             currentRecordFileWriter = currentRecordFileWriter
                     .thenCombine(futureSerializedRecords, TwoResults::new)
                     .thenApplyAsync(
@@ -237,7 +273,9 @@ public final class StreamFileProducerConcurrent implements BlockRecordStreamProd
                                 });
                                 return writer;
                             },
-                            executorService);
+                            writerExecutorService)
+                    // release the permit even if an earlier write failed, so handle can never wait forever
+                    .whenComplete((writer, error) -> writePermits.release());
         } finally {
             lock.unlock(); // Always unlock.
         }
@@ -246,7 +284,8 @@ public final class StreamFileProducerConcurrent implements BlockRecordStreamProd
     /**
      * Closes this StreamFileProducerBase wait for any background thread, close all files etc. This method is
      * synchronous, so waits for all background threads to finish and files to be closed. This method is thread-safe and
-     * can be called outside the context of the handle thread.
+     * can be called outside the context of the handle thread. The writer executor is shut down, so no more records can
+     * be written once this producer is closed.
      */
     @Override
     public void close() {
@@ -268,6 +307,8 @@ public final class StreamFileProducerConcurrent implements BlockRecordStreamProd
                 lastRecordHashingResultNMinus3 = null;
                 currentRecordFileWriter = null;
             }
+            // all writes are done, and this producer is only closed when the node shuts down
+            writerExecutorService.shutdown();
         } finally {
             lock.unlock(); // Always unlock.
         }
@@ -276,6 +317,13 @@ public final class StreamFileProducerConcurrent implements BlockRecordStreamProd
     // =================================================================================================================
     // private implementation
 
+    private void acquireWritePermit() {
+        if (!writePermits.tryAcquire()) {
+            backpressureCounter.increment();
+            writePermits.acquireUninterruptibly();
+        }
+    }
+
     private BlockRecordWriter createBlockRecordWriter(
             @NonNull Bytes lastRunningHash, @NonNull final Instant startConsensusTime, final long blockNumber) {
         try {
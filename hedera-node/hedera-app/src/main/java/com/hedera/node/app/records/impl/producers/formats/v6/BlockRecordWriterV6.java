@@ -63,6 +63,11 @@ public final class BlockRecordWriterV6 implements BlockRecordWriter {
     public static final String RECORD_EXTENSION = "rcd";
     /** The suffix added to RECORD_EXTENSION when they are compressed as per the v6 specification */
     public static final String COMPRESSION_ALGORITHM_EXTENSION = ".gz";
+    /**
+     * The size of the buffers before and after compression, so records are compressed and written to disk in large
+     * batches instead of one small write per record
+     */
+    static final int OUTPUT_BUFFER_SIZE = 64 * 1024;
 
     private enum State {
         UNINITIALIZED,
@@ -116,7 +121,7 @@ public final class BlockRecordWriterV6 implements BlockRecordWriter {
     private SidecarWriterV6 sidecarFileWriter;
     /** The path to the record file we are writing */
     private Path recordFilePath;
-    /** The file output stream we are writing to, which writes to {@link #recordFilePath} */
+    /** The buffered file output stream we are writing to, which writes to {@link #recordFilePath} */
     private OutputStream fileOutputStream;
     /** The gzip output stream we are writing to, wraps {@link #fileOutputStream} */
     private GZIPOutputStream gzipOutputStream = null;
@@ -205,10 +210,10 @@ public final class BlockRecordWriterV6 implements BlockRecordWriter {
         // need to close all these streams individually, which means we have to maintain references to them.
         this.recordFilePath = getRecordFilePath(startConsensusTime);
         try {
-            fileOutputStream = Files.newOutputStream(recordFilePath);
-            gzipOutputStream = new GZIPOutputStream(fileOutputStream);
+            fileOutputStream = new BufferedOutputStream(Files.newOutputStream(recordFilePath), OUTPUT_BUFFER_SIZE);
+            gzipOutputStream = new GZIPOutputStream(fileOutputStream, OUTPUT_BUFFER_SIZE);
             hashingOutputStream = new HashingOutputStream(createWholeFileMessageDigest(), gzipOutputStream);
-            bufferedOutputStream = new BufferedOutputStream(hashingOutputStream);
+            bufferedOutputStream = new BufferedOutputStream(hashingOutputStream, OUTPUT_BUFFER_SIZE);
             outputStream = new WritableStreamingData(bufferedOutputStream);
 
             // Write the header
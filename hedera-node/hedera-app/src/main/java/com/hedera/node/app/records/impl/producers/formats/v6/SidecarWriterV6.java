@@ -4,6 +4,7 @@ package com.hedera.node.app.records.impl.producers.formats.v6;
 import static com.hedera.hapi.streams.schema.SidecarFileSchema.SIDECAR_RECORDS;
 import static com.hedera.node.app.records.impl.producers.BlockRecordFormat.TAG_TYPE_BITS;
 import static com.hedera.node.app.records.impl.producers.BlockRecordFormat.WIRE_TYPE_DELIMITED;
+import static com.hedera.node.app.records.impl.producers.formats.v6.BlockRecordWriterV6.OUTPUT_BUFFER_SIZE;
 
 import com.hedera.hapi.streams.SidecarType;
 import com.hedera.hapi.streams.TransactionSidecarRecord;
@@ -66,11 +67,11 @@ final class SidecarWriterV6 implements AutoCloseable {
             throw new RuntimeException(e);
         }
         // create streams
-        final var fout = Files.newOutputStream(file);
-        GZIPOutputStream gout = new GZIPOutputStream(fout);
+        final var fout = new BufferedOutputStream(Files.newOutputStream(file), OUTPUT_BUFFER_SIZE);
+        GZIPOutputStream gout = new GZIPOutputStream(fout, OUTPUT_BUFFER_SIZE);
         hashingDelegateStream = gout;
         hashingOutputStream = new HashingOutputStream(wholeFileDigest, gout);
-        BufferedOutputStream bout = new BufferedOutputStream(hashingOutputStream);
+        BufferedOutputStream bout = new BufferedOutputStream(hashingOutputStream, OUTPUT_BUFFER_SIZE);
         outputStream = new WritableStreamingData(bout);
     }
 
@@ -10,8 +10,8 @@
  *     applications want a lightweight, blocking, test server to utilize.</li>
  *     <li>{@link com.hedera.node.app.records.impl.producers.StreamFileProducerConcurrent} is a heavily concurrent
  *     implementation utilizing the fork-join framework and extensive use of
- *     {@link java.util.concurrent.CompletableFuture}. This implementation may provide the best performance at the
- *     cost of increased complexity</li>
+ *     {@link java.util.concurrent.CompletableFuture}, with all file output on a dedicated writer thread behind a
+ *     bounded queue. This implementation may provide the best performance at the cost of increased complexity</li>
  *     <li>An as-yet unimplemented alternative concurrent producer could be written utilizing a work queue and a single
  *     background thread. It is something of a mixture between the single-threaded and concurrent implementations in
  *     terms of complexity and performance.</li>
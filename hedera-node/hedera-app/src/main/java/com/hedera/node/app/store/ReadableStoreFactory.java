@@ -69,6 +69,11 @@ import org.hiero.consensus.roster.ReadableRosterStoreImpl;
  *
  * <p>The initial implementation creates all known stores hard-coded. In a future version, this will be replaced by a
  * dynamic approach.
+ *
+ * <p>Stores are cheap views of the state, so each factory creates a store at most once and returns the same instance
+ * for all further requests. Since a factory is usually created per transaction or query, this avoids resolving the
+ * same states over and over while handling it. Every known store has a small index that is used to look up the cached
+ * instance. The cache is not synchronized, concurrent callers may create a store more than once.
  */
 public class ReadableStoreFactory {
     // This is the hard-coded part that needs to be replaced by a dynamic approach later,
@@ -136,10 +141,19 @@ public class ReadableStoreFactory {
         newMap.put(
                 ReadableHistoryStore.class,
                 new StoreEntry(HistoryService.NAME, (states, entityCounters) -> new ReadableHistoryStoreImpl(states)));
-        return Collections.unmodifiableMap(newMap);
+        return withIndices(newMap);
+    }
+
+    private static Map<Class<?>, StoreEntry> withIndices(@NonNull final Map<Class<?>, StoreEntry> entries) {
+        final Map<Class<?>, StoreEntry> indexedEntries = new HashMap<>();
+        entries.forEach((storeInterface, entry) ->
+                indexedEntries.put(storeInterface, entry.withIndex(indexedEntries.size())));
+        return Collections.unmodifiableMap(indexedEntries);
     }
 
     private final State state;
+    private final Object[] stores = new Object[STORE_FACTORY.size()];
+    private ReadableEntityIdStoreImpl readableEntityIdStore;
 
     /**
      * Constructor of {@code ReadableStoreFactory}
@@ -151,7 +165,8 @@ public class ReadableStoreFactory {
     }
 
     /**
-     * Create a new store given the store's interface. This gives read-only access to the store.
+     * Get the store for the given store's interface, creating it on first use. This gives read-only access to the
+     * store.
      *
      * @param storeInterface The store interface to find and create a store for
      * @param <C>            Interface class for a Store
@@ -164,26 +179,44 @@ public class ReadableStoreFactory {
         requireNonNull(storeInterface, "The supplied argument 'storeInterface' cannot be null!");
         final var entry = STORE_FACTORY.get(storeInterface);
         if (entry != null) {
+            final var cachedStore = stores[entry.index()];
+            if (cachedStore != null) {
+                return storeInterface.cast(cachedStore);
+            }
             final var readableStates = state.getReadableStates(entry.name);
-            final var readableEntityIdStore =
-                    new ReadableEntityIdStoreImpl(state.getReadableStates(EntityIdService.NAME));
+            if (readableEntityIdStore == null) {
+                readableEntityIdStore = new ReadableEntityIdStoreImpl(state.getReadableStates(EntityIdService.NAME));
+            }
             final var store = entry.createFrom(readableStates, readableEntityIdStore);
             if (!storeInterface.isInstance(store)) {
                 throw new IllegalArgumentException("No instance " + storeInterface
                         + " is available"); // This needs to be ensured while stores are registered
             }
+            stores[entry.index()] = store;
             return storeInterface.cast(store);
         }
         throw new IllegalArgumentException("No store of class " + storeInterface + " is available");
     }
 
     private record StoreEntry(
-            @NonNull String name, @Nullable BiFunction<ReadableStates, ReadableEntityCounters, ?> fromStates) {
+            int index,
+            @NonNull String name,
+            @Nullable BiFunction<ReadableStates, ReadableEntityCounters, ?> fromStates) {
         private StoreEntry {
             requireNonNull(name);
             requireNonNull(fromStates);
         }
 
+        private StoreEntry(
+                @NonNull final String name,
+                @NonNull final BiFunction<ReadableStates, ReadableEntityCounters, ?> fromStates) {
+            this(-1, name, fromStates);
+        }
+
+        private StoreEntry withIndex(final int index) {
+            return new StoreEntry(index, name, fromStates);
+        }
+
         @SuppressWarnings("unchecked")
         public <T> T createFrom(
                 @NonNull final ReadableStates readableStates, @NonNull ReadableEntityCounters entityCounters) {
@@ -48,6 +48,9 @@ import org.hiero.consensus.roster.WritableRosterStore;
  *
  * <p>The initial implementation creates all known stores hard-coded. In a future version, this will be replaced by a
  * dynamic approach.
+ *
+ * <p>Like the {@link ReadableStoreFactory}, each factory creates a store at most once and returns the cached instance,
+ * looked up by the index of the store, for all further requests.
  */
 public class WritableStoreFactory {
     // This is the hard-coded part that needs to be replaced by a dynamic approach later,
@@ -101,12 +104,20 @@ public class WritableStoreFactory {
         newMap.put(
                 WritableHistoryStore.class,
                 new StoreEntry(HistoryService.NAME, (states, entityCounters) -> new WritableHistoryStoreImpl(states)));
-        return Collections.unmodifiableMap(newMap);
+        return withIndices(newMap);
+    }
+
+    private static Map<Class<?>, StoreEntry> withIndices(@NonNull final Map<Class<?>, StoreEntry> entries) {
+        final Map<Class<?>, StoreEntry> indexedEntries = new HashMap<>();
+        entries.forEach((storeInterface, entry) ->
+                indexedEntries.put(storeInterface, entry.withIndex(indexedEntries.size())));
+        return Collections.unmodifiableMap(indexedEntries);
     }
 
     private final String serviceName;
     private final WritableStates states;
     private final WritableEntityCounters entityCounters;
+    private final Object[] stores = new Object[STORE_FACTORY.size()];
 
     /**
      * Constructor of {@code WritableStoreFactory}
@@ -128,7 +139,8 @@ public class WritableStoreFactory {
     }
 
     /**
-     * Create a new store given the store's interface. This gives read and write access to the store.
+     * Get the store for the given store's interface, creating it on first use. This gives read and write access to the
+     * store.
      *
      * @param <C>            Interface class for a Store
      * @param storeInterface The store interface to find and create a store for
@@ -141,11 +153,16 @@ public class WritableStoreFactory {
         requireNonNull(storeInterface, "The supplied argument 'storeInterface' cannot be null!");
         final var entry = STORE_FACTORY.get(storeInterface);
         if (entry != null && serviceName.equals(entry.name())) {
+            final var cachedStore = stores[entry.index()];
+            if (cachedStore != null) {
+                return storeInterface.cast(cachedStore);
+            }
             final var store = entry.factory().create(states, entityCounters);
             if (!storeInterface.isInstance(store)) {
                 throw new IllegalArgumentException("No instance " + storeInterface
                         + " is available"); // This needs to be ensured while stores are registered
             }
+            stores[entry.index()] = store;
             return storeInterface.cast(store);
         }
         throw new IllegalArgumentException("No store of the given class is available " + storeInterface.getName());
@@ -164,5 +181,13 @@ public class WritableStoreFactory {
         Object create(@NonNull WritableStates states, @NonNull WritableEntityCounters entityCounters);
     }
 
-    private record StoreEntry(@NonNull String name, @NonNull StoreFactory factory) {}
+    private record StoreEntry(int index, @NonNull String name, @NonNull StoreFactory factory) {
+        private StoreEntry(@NonNull final String name, @NonNull final StoreFactory factory) {
+            this(-1, name, factory);
+        }
+
+        private StoreEntry withIndex(final int index) {
+            return new StoreEntry(index, name, factory);
+        }
+    }
 }
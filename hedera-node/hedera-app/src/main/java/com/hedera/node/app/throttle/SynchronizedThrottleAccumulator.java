@@ -13,7 +13,6 @@ import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
 import java.time.Instant;
 import java.time.InstantSource;
-import java.util.List;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
@@ -45,13 +44,13 @@ public class SynchronizedThrottleAccumulator {
      *
      * @param txnInfo the transaction to update the throttle requirements for
      * @param state the current state of the node
-     * @param throttleUsages a list to accumulate throttle usages during the decision
+     * @param throttleUsages the ledger to record the throttle usages of the decision in
      * @return whether the transaction should be throttled
      */
     public synchronized boolean shouldThrottle(
             @NonNull final TransactionInfo txnInfo,
             @NonNull final State state,
-            @NonNull final List<ThrottleUsage> throttleUsages) {
+            @NonNull final ThrottleUsageLedger throttleUsages) {
         requireNonNull(txnInfo);
         requireNonNull(state);
         requireNonNull(throttleUsages);
@@ -172,14 +172,14 @@ public class ThrottleAccumulator {
      * @param txnInfo the transaction to update the throttle requirements for
      * @param now the instant of time the transaction throttling should be checked for
      * @param state the current state of the node
-     * @param throttleUsages if not null, a list to accumulate throttle usages into
+     * @param throttleUsages if not null, the ledger to record the throttle usages in
      * @return whether the transaction should be throttled
      */
     public boolean checkAndEnforceThrottle(
             @NonNull final TransactionInfo txnInfo,
             @NonNull final Instant now,
             @NonNull final State state,
-            @Nullable final List<ThrottleUsage> throttleUsages) {
+            @Nullable final ThrottleUsageLedger throttleUsages) {
         if (throttleType == NOOP_THROTTLE) {
             return false;
         }
@@ -408,7 +408,7 @@ public class ThrottleAccumulator {
             @NonNull final TransactionInfo txnInfo,
             @NonNull final Instant now,
             @NonNull final State state,
-            List<ThrottleUsage> throttleUsages) {
+            ThrottleUsageLedger throttleUsages) {
         final var function = txnInfo.functionality();
         final var configuration = configSupplier.get();
         final boolean isJumboTransactionsEnabled =
@@ -485,7 +485,7 @@ public class ThrottleAccumulator {
             final TransactionInfo txnInfo,
             final Instant now,
             final State state,
-            List<ThrottleUsage> throttleUsages) {
+            ThrottleUsageLedger throttleUsages) {
         final var txnBody = txnInfo.txBody();
         final var op = txnBody.scheduleCreateOrThrow();
         final var scheduled = op.scheduledTransactionBodyOrThrow();
@@ -601,14 +601,14 @@ public class ThrottleAccumulator {
             @NonNull final TransactionInfo txnInfo,
             @NonNull final Instant now,
             @NonNull final Configuration configuration,
-            @Nullable final List<ThrottleUsage> throttleUsages) {
+            @Nullable final ThrottleUsageLedger throttleUsages) {
         final boolean shouldThrottleByGas =
                 configuration.getConfigData(ContractsConfig.class).throttleThrottleByGas();
         if (shouldThrottleByGas && isGasThrottled(txnInfo.functionality())) {
             final long amount = getGasLimitForContractTx(txnInfo.txBody(), txnInfo.functionality());
             final boolean answer = !gasThrottle.allow(now, amount);
             if (!answer && throttleUsages != null) {
-                throttleUsages.add(new BucketThrottleUsage(gasThrottle, amount));
+                throttleUsages.recordBucketUsage(gasThrottle, amount);
             }
             return answer;
         } else {
@@ -621,7 +621,7 @@ public class ThrottleAccumulator {
             @NonNull final TokenMintTransactionBody op,
             @NonNull final Instant now,
             @NonNull final Configuration configuration,
-            List<ThrottleUsage> throttleUsages) {
+            ThrottleUsageLedger throttleUsages) {
         final int numNfts = op.metadata().size();
         if (numNfts == 0) {
             return !manager.allReqsMetAt(now, throttleUsages);
@@ -638,7 +638,7 @@ public class ThrottleAccumulator {
             @NonNull final Configuration configuration,
             final int implicitCreationsCount,
             final int autoAssociationsCount,
-            List<ThrottleUsage> throttleUsages) {
+            ThrottleUsageLedger throttleUsages) {
         final boolean unlimitedAutoAssociations =
                 configuration.getConfigData(EntitiesConfig.class).unlimitedAutoAssociationsEnabled();
         if (implicitCreationsCount > 0) {
@@ -654,7 +654,7 @@ public class ThrottleAccumulator {
             @NonNull final ThrottleReqsManager manager,
             @NonNull final Instant now,
             final int implicitCreationsCount,
-            @Nullable final List<ThrottleUsage> throttleUsages) {
+            @Nullable final ThrottleUsageLedger throttleUsages) {
         return shouldThrottleBasedOnImplicitCreations(manager, implicitCreationsCount, now, throttleUsages);
     }
 
@@ -825,19 +825,19 @@ public class ThrottleAccumulator {
             @NonNull final ThrottleReqsManager manager,
             final int implicitCreationsCount,
             @NonNull final Instant now,
-            @Nullable final List<ThrottleUsage> throttleUsages) {
+            @Nullable final ThrottleUsageLedger throttleUsages) {
         return (implicitCreationsCount == 0)
                 ? !manager.allReqsMetAt(now, throttleUsages)
                 : shouldThrottleImplicitCreations(implicitCreationsCount, now, throttleUsages);
     }
 
     private boolean shouldThrottleBasedExcessBytes(
-            final long bytesUsed, @NonNull final Instant now, @Nullable final List<ThrottleUsage> throttleUsages) {
+            final long bytesUsed, @NonNull final Instant now, @Nullable final ThrottleUsageLedger throttleUsages) {
         // If the bucket doesn't allow the txn enforce the throttle
         final boolean shouldThrottle = bytesThrottle != null && !bytesThrottle.allow(now, bytesUsed);
         // If the bucket allows the txn, record the usage
-        if (!shouldThrottle && throttleUsages != null) {
-            throttleUsages.add(new BucketThrottleUsage(bytesThrottle, bytesUsed));
+        if (!shouldThrottle && bytesThrottle != null && throttleUsages != null) {
+            throttleUsages.recordBucketUsage(bytesThrottle, bytesUsed);
         }
         return shouldThrottle;
     }
@@ -846,20 +846,20 @@ public class ThrottleAccumulator {
             @NonNull final ThrottleReqsManager manager,
             final int autoAssociations,
             @NonNull final Instant now,
-            @Nullable final List<ThrottleUsage> throttleUsages) {
+            @Nullable final ThrottleUsageLedger throttleUsages) {
         return (autoAssociations == 0)
                 ? !manager.allReqsMetAt(now, throttleUsages)
                 : shouldThrottleAutoAssociations(autoAssociations, now, throttleUsages);
     }
 
     private boolean shouldThrottleImplicitCreations(
-            final int n, @NonNull final Instant now, @Nullable final List<ThrottleUsage> throttleUsages) {
+            final int n, @NonNull final Instant now, @Nullable final ThrottleUsageLedger throttleUsages) {
         final var manager = functionReqs.get(CRYPTO_CREATE);
         return manager == null || !manager.allReqsMetAt(now, n, ONE_TO_ONE, throttleUsages);
     }
 
     private boolean shouldThrottleAutoAssociations(
-            final int n, @NonNull final Instant now, @Nullable final List<ThrottleUsage> throttleUsages) {
+            final int n, @NonNull final Instant now, @Nullable final ThrottleUsageLedger throttleUsages) {
         final var manager = functionReqs.get(TOKEN_ASSOCIATE_TO_ACCOUNT);
         return manager == null || !manager.allReqsMetAt(now, n, ONE_TO_ONE, throttleUsages);
     }
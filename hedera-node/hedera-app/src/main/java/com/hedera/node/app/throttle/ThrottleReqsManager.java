@@ -13,13 +13,24 @@ import org.apache.commons.lang3.tuple.Pair;
 public class ThrottleReqsManager {
     private final boolean[] passedReq;
     private final List<Pair<DeterministicThrottle, Integer>> allReqs;
+    // The requirements as parallel arrays, so checking them does not unbox or allocate
+    private final DeterministicThrottle[] throttles;
+    private final int[] opsRequired;
+    private final List<DeterministicThrottle> managedThrottles;
 
     public ThrottleReqsManager(List<Pair<DeterministicThrottle, Integer>> allReqs) {
         this.allReqs = allReqs;
         passedReq = new boolean[allReqs.size()];
+        throttles = new DeterministicThrottle[allReqs.size()];
+        opsRequired = new int[allReqs.size()];
+        for (int i = 0; i < throttles.length; i++) {
+            throttles[i] = allReqs.get(i).getLeft();
+            opsRequired[i] = allReqs.get(i).getRight();
+        }
+        managedThrottles = List.of(throttles);
     }
 
-    public boolean allReqsMetAt(Instant now, @Nullable final List<ThrottleUsage> throttleUsages) {
+    public boolean allReqsMetAt(Instant now, @Nullable final ThrottleUsageLedger throttleUsages) {
         return allVerboseReqsMetAt(now, 0, null, throttleUsages);
     }
 
@@ -27,7 +38,7 @@ public class ThrottleReqsManager {
             Instant now,
             int nTransactions,
             ScaleFactor scaleFactor,
-            @Nullable final List<ThrottleUsage> throttleUsages) {
+            @Nullable final ThrottleUsageLedger throttleUsages) {
         return allVerboseReqsMetAt(now, nTransactions, scaleFactor, throttleUsages);
     }
 
@@ -46,11 +57,8 @@ public class ThrottleReqsManager {
      * @param nTransactions the number of transactions to undo
      */
     public void undoClaimedReqsFor(int nTransactions) {
-        for (int i = 0; i < passedReq.length; i++) {
-            final var req = allReqs.get(i);
-            final var opsRequired = req.getRight();
-            final var bucket = req.getLeft();
-            bucket.leakCapacity(nTransactions * opsRequired * BucketThrottle.capacityUnitsPerTxn());
+        for (int i = 0; i < throttles.length; i++) {
+            throttles[i].leakCapacity(nTransactions * opsRequired[i] * BucketThrottle.capacityUnitsPerTxn());
         }
     }
 
@@ -58,17 +66,16 @@ public class ThrottleReqsManager {
             Instant now,
             int nTransactions,
             ScaleFactor scaleFactor,
-            @Nullable final List<ThrottleUsage> throttleUsages) {
+            @Nullable final ThrottleUsageLedger throttleUsages) {
         var allPassed = true;
-        for (int i = 0; i < passedReq.length; i++) {
-            var req = allReqs.get(i);
-            var opsRequired = req.getRight();
+        for (int i = 0; i < throttles.length; i++) {
+            var opsRequired = this.opsRequired[i];
             if (scaleFactor != null) {
                 opsRequired = scaleFactor.scaling(nTransactions * opsRequired);
             }
-            passedReq[i] = req.getLeft().allow(opsRequired, now);
+            passedReq[i] = throttles[i].allow(opsRequired, now);
             if (throttleUsages != null && passedReq[i]) {
-                throttleUsages.add(new DeterministicThrottleUsage(req.getLeft(), opsRequired));
+                throttleUsages.recordThrottleUsage(throttles[i], opsRequired);
             }
             allPassed &= passedReq[i];
         }
@@ -77,7 +84,7 @@ public class ThrottleReqsManager {
     }
 
     public List<DeterministicThrottle> managedThrottles() {
-        return allReqs.stream().map(Pair::getLeft).toList();
+        return managedThrottles;
     }
 
     public String asReadableRequirements() {
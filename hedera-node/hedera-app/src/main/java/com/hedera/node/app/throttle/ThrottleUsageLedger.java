@@ -0,0 +1,96 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.node.app.throttle;
+
+import static java.util.Objects.requireNonNull;
+
+import com.hedera.node.app.hapi.utils.throttles.DeterministicThrottle;
+import com.hedera.node.app.hapi.utils.throttles.LeakyBucketDeterministicThrottle;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.Arrays;
+
+/**
+ * A reusable record of the throttle capacity claimed by a throttle decision, so the capacity can be reclaimed if the
+ * throttled transaction is rejected later.
+ *
+ * <p>Usages are kept in parallel arrays of throttles and amounts instead of one object per usage, and the arrays are
+ * only grown but never shrunk; so once a ledger has seen its largest decision, recording and reclaiming usages does
+ * not allocate. A ledger is not thread-safe, and is meant to be confined to a single thread and {@link #clear()}ed
+ * before each decision.
+ */
+public final class ThrottleUsageLedger {
+    private static final int INITIAL_CAPACITY = 8;
+
+    private DeterministicThrottle[] throttles = new DeterministicThrottle[INITIAL_CAPACITY];
+    private int[] opsUsed = new int[INITIAL_CAPACITY];
+    private int numThrottleUsages;
+
+    private LeakyBucketDeterministicThrottle[] buckets = new LeakyBucketDeterministicThrottle[INITIAL_CAPACITY];
+    private long[] amountsUsed = new long[INITIAL_CAPACITY];
+    private int numBucketUsages;
+
+    /**
+     * Records that the given number of operations were claimed from the given throttle.
+     *
+     * @param throttle the throttle used
+     * @param n the number of operations claimed
+     */
+    public void recordThrottleUsage(@NonNull final DeterministicThrottle throttle, final int n) {
+        requireNonNull(throttle);
+        if (numThrottleUsages == throttles.length) {
+            throttles = Arrays.copyOf(throttles, 2 * throttles.length);
+            opsUsed = Arrays.copyOf(opsUsed, throttles.length);
+        }
+        throttles[numThrottleUsages] = throttle;
+        opsUsed[numThrottleUsages++] = n;
+    }
+
+    /**
+     * Records that the given amount was claimed from the given leaky bucket throttle.
+     *
+     * @param bucket the leaky bucket throttle used
+     * @param amount the amount claimed
+     */
+    public void recordBucketUsage(@NonNull final LeakyBucketDeterministicThrottle bucket, final long amount) {
+        requireNonNull(bucket);
+        if (numBucketUsages == buckets.length) {
+            buckets = Arrays.copyOf(buckets, 2 * buckets.length);
+            amountsUsed = Arrays.copyOf(amountsUsed, buckets.length);
+        }
+        buckets[numBucketUsages] = bucket;
+        amountsUsed[numBucketUsages++] = amount;
+    }
+
+    /**
+     * Returns the number of usages recorded since the last time this ledger was cleared.
+     *
+     * @return the number of recorded usages
+     */
+    public int size() {
+        return numThrottleUsages + numBucketUsages;
+    }
+
+    /**
+     * Reclaims the capacity of all recorded usages from their throttles, and clears this ledger so the capacity can
+     * not be reclaimed twice.
+     */
+    public void reclaimCapacity() {
+        for (int i = 0; i < numThrottleUsages; i++) {
+            throttles[i].leakInstantaneous(opsUsed[i]);
+        }
+        for (int i = 0; i < numBucketUsages; i++) {
+            buckets[i].leakUnusedGasPreviouslyReserved(amountsUsed[i]);
+        }
+        clear();
+    }
+
+    /**
+     * Forgets all recorded usages, without reclaiming their capacity.
+     */
+    public void clear() {
+        // Drop the references, so a ledger does not keep the throttles of old throttle definitions alive
+        Arrays.fill(throttles, 0, numThrottleUsages, null);
+        Arrays.fill(buckets, 0, numBucketUsages, null);
+        numThrottleUsages = 0;
+        numBucketUsages = 0;
+    }
+}
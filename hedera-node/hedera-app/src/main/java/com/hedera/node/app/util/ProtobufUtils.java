@@ -36,6 +36,39 @@ public class ProtobufUtils {
         return extractFieldBytes(queryHeader.toReadableSequentialData(), QueryHeaderSchema.PAYMENT);
     }
 
+    /**
+     * Extracts the serialized query of the given serialized {@link com.hedera.hapi.node.transaction.Query}, without
+     * its query header. Two queries for which this method returns equal bytes ask the same question, regardless of the
+     * response types and payments in their headers.
+     *
+     * @param serializedQuery the serialized query
+     * @return the serialized query without its header
+     * @throws IOException if the query can not be read
+     * @throws ParseException if the query is malformed
+     */
+    @NonNull
+    public static Bytes extractQueryBytesWithoutHeader(@NonNull final Bytes serializedQuery)
+            throws IOException, ParseException {
+        final var queryBody = extractQuery(serializedQuery.toReadableSequentialData());
+        final var input = queryBody.toReadableSequentialData();
+        final int headerFieldNum = TransactionGetReceiptQuerySchema.HEADER.number();
+        Bytes withoutHeader = Bytes.EMPTY;
+        long segmentStart = 0;
+        while (input.hasRemaining()) {
+            final long fieldStart = input.position();
+            final int tag = input.readVarInt(false);
+            ProtoParserTools.skipField(input, ProtoConstants.get(tag & ProtoConstants.TAG_WIRE_TYPE_MASK));
+            if (tag >> TAG_FIELD_OFFSET == headerFieldNum) {
+                withoutHeader = Bytes.merge(withoutHeader, queryBody.slice(segmentStart, fieldStart - segmentStart));
+                segmentStart = input.position();
+            }
+        }
+        if (segmentStart == 0) {
+            return queryBody;
+        }
+        return Bytes.merge(withoutHeader, queryBody.slice(segmentStart, queryBody.length() - segmentStart));
+    }
+
     @NonNull
     private static Bytes extractFieldBytes(
             @NonNull final ReadableSequentialData input, @NonNull final FieldDefinition field)
@@ -10,6 +10,7 @@ import com.swirlds.common.metrics.IntegerPairAccumulator;
 import com.swirlds.common.metrics.RunningAverageMetric;
 import com.swirlds.common.metrics.RunningAverageMetric.Config;
 import com.swirlds.metrics.api.Counter;
+import com.swirlds.metrics.api.Histogram;
 import com.swirlds.metrics.api.IntegerAccumulator;
 import com.swirlds.metrics.api.Metrics;
 import edu.umd.cs.findbugs.annotations.NonNull;
@@ -31,6 +32,10 @@ public class OpWorkflowMetrics {
             .withDescription("average EVM gas used per second of consensus time")
             .withFormat("%,13.6f");
 
+    private static final Histogram.Config HANDLE_DURATION_CONFIG = new Histogram.Config("app", "handleDuration")
+            .withDescription("The distribution of the durations of handling user transactions in nanoseconds")
+            .withUnit("ns");
+
     private final Map<HederaFunctionality, TransactionMetric> transactionDurationMetrics =
             new EnumMap<>(HederaFunctionality.class);
 
@@ -39,6 +44,8 @@ public class OpWorkflowMetrics {
 
     private final RunningAverageMetric gasPerConsSec;
 
+    private final Histogram handleDuration;
+
     private long gasUsedThisConsensusSecond = 0L;
 
     /**
@@ -79,6 +86,7 @@ public class OpWorkflowMetrics {
 
         final StatsConfig statsConfig = configProvider.getConfiguration().getConfigData(StatsConfig.class);
         gasPerConsSec = metrics.getOrCreate(GAS_PER_CONS_SEC_CONFIG.withHalfLife(statsConfig.runningAvgHalfLifeSecs()));
+        handleDuration = metrics.getOrCreate(HANDLE_DURATION_CONFIG);
     }
 
     /**
@@ -102,6 +110,18 @@ public class OpWorkflowMetrics {
         }
     }
 
+    /**
+     * Update the transaction duration metrics for the given functionality after handling a user transaction, and
+     * record the duration in the distribution of all handle durations
+     *
+     * @param functionality the {@link HederaFunctionality} of the handled transaction
+     * @param duration the duration of handling the transaction in {@code ns}
+     */
+    public void updateHandleDuration(@NonNull final HederaFunctionality functionality, final long duration) {
+        updateDuration(functionality, (int) Math.min(duration, Integer.MAX_VALUE));
+        handleDuration.update(duration);
+    }
+
     /**
      * Increment the throttled metrics for the given functionality, to track the number of transactions per second that
      * failed due to throttling
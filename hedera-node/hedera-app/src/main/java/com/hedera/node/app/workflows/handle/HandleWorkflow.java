@@ -469,7 +469,7 @@ public class HandleWorkflow {
             handleOutput.blockRecordSourceOrThrow().forEachItem(blockStreamManager::writeItem);
         }
 
-        opWorkflowMetrics.updateDuration(userTxn.functionality(), (int) (System.nanoTime() - handleStart));
+        opWorkflowMetrics.updateHandleDuration(userTxn.functionality(), System.nanoTime() - handleStart);
         congestionMetrics.updateMultiplier(userTxn.txnInfo(), userTxn.readableStoreFactory());
 
         if (streamMode == RECORDS) {
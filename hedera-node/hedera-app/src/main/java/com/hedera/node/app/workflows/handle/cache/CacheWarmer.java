@@ -79,7 +79,7 @@ public class CacheWarmer {
                         if (payerID != null) {
                             accountStore.warm(payerID);
                         }
-                        final var context = new WarmupContextImpl(txBody, storeFactory);
+                        final var context = new WarmupContextImpl(txBody, storeFactory, executor);
                         dispatcher.dispatchWarmup(context);
                     }
                 }));
@@ -120,16 +120,23 @@ public class CacheWarmer {
         @NonNull
         private final ReadableStoreFactory storeFactory;
 
+        @NonNull
+        private final Executor executor;
+
         /**
          * Constructor of {@code WarmupContextImpl}
          *
          * @param txBody the {@link TransactionInfo} of the transaction
          * @param storeFactory the {@link ReadableStoreFactory} to create stores
+         * @param executor the {@link Executor} that runs the warmups
          */
         public WarmupContextImpl(
-                @NonNull final TransactionBody txBody, @NonNull final ReadableStoreFactory storeFactory) {
+                @NonNull final TransactionBody txBody,
+                @NonNull final ReadableStoreFactory storeFactory,
+                @NonNull final Executor executor) {
             this.txBody = txBody;
             this.storeFactory = storeFactory;
+            this.executor = executor;
         }
 
         @NonNull
@@ -143,5 +150,11 @@ public class CacheWarmer {
         public <C> C createStore(@NonNull final Class<C> storeInterface) {
             return storeFactory.getStore(storeInterface);
         }
+
+        @NonNull
+        @Override
+        public Executor executor() {
+            return executor;
+        }
     }
 }
@@ -355,7 +355,8 @@ public class ChildDispatchFactory {
                     preHandleContext.requiredHollowAccounts(),
                     null,
                     null,
-                    0);
+                    0,
+                    null);
         } catch (final PreCheckException e) {
             return new PreHandleResult(
                     null,
@@ -368,7 +369,8 @@ public class ChildDispatchFactory {
                     Collections.emptySet(),
                     null,
                     null,
-                    0);
+                    0,
+                    null);
         }
     }
 
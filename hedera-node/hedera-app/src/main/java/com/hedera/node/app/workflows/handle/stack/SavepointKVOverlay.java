@@ -0,0 +1,415 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.node.app.workflows.handle.stack;
+
+import static java.util.Objects.requireNonNull;
+
+import com.swirlds.state.spi.WritableKVState;
+import com.swirlds.state.spi.WritableKVStateBase;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * The key/value changes made to a single state in all savepoints above the first savepoint of a
+ * {@link SavepointStackImpl}, kept in one versioned map instead of a chain of wrapped states.
+ *
+ * <p>Every modified key maps to a stack of entries, one for each savepoint level that modified it, with the entry of
+ * the highest level on top. Reading a key in the savepoint on top of the stack only looks at the top entry, no matter
+ * how deep the stack is. Rolling back a savepoint pops the entries of its level, and committing a savepoint relabels
+ * them with the level below, merging with an entry of that level if there is one.
+ *
+ * <p>The first savepoint of the stack is not part of the overlay. Its changes are still kept in the
+ * {@link com.hedera.node.app.state.WrappedState} of the savepoint, so committing a full stack notifies state change
+ * listeners exactly as before. When the second savepoint is committed, its changes are put into that state in the
+ * order they were first made, which is the order nested wrapped states would have used.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the values
+ */
+final class SavepointKVOverlay<K, V> {
+    /**
+     * The lowest savepoint level kept in the overlay. Level 1 is the first savepoint of the stack.
+     */
+    static final int FIRST_OVERLAY_LEVEL = 2;
+
+    private final String stateKey;
+    private final WritableKVState<K, V> base;
+    private final Map<K, VersionedValue<V>> entries = new HashMap<>();
+    private final List<LevelState> levels = new ArrayList<>();
+
+    /**
+     * Creates an overlay on top of the given state of the first savepoint of a stack.
+     *
+     * @param base the state of the first savepoint
+     */
+    SavepointKVOverlay(@NonNull final WritableKVState<K, V> base) {
+        this.base = requireNonNull(base);
+        this.stateKey = base.getStateKey();
+    }
+
+    /**
+     * Returns the view of the state in the savepoint at the given level. The same view is returned until the
+     * savepoint is committed or rolled back.
+     *
+     * @param level the savepoint level, at least {@link #FIRST_OVERLAY_LEVEL}
+     * @return the view of the state in the savepoint
+     */
+    @NonNull
+    WritableKVState<K, V> atLevel(final int level) {
+        return levelState(level);
+    }
+
+    /**
+     * Commits the changes of the savepoint at the given level into the savepoint below.
+     *
+     * @param level the level of the savepoint on top of the stack
+     */
+    void commitLevel(final int level) {
+        final var state = existingLevelState(level);
+        if (state != null) {
+            state.commit();
+        }
+    }
+
+    /**
+     * Moves the change of a key in the savepoint at the given level into the savepoint below, which is the first
+     * savepoint if the level is {@link #FIRST_OVERLAY_LEVEL}.
+     *
+     * @param level the level of the savepoint on top of the stack
+     * @param key the modified key
+     */
+    private void commitKey(final int level, @NonNull final K key) {
+        if (level == FIRST_OVERLAY_LEVEL) {
+            final var entry = entries.remove(key);
+            if (entry.value == null) {
+                base.remove(key);
+            } else {
+                base.put(key, entry.value);
+            }
+        } else {
+            final var entry = entries.get(key);
+            final var below = entry.below;
+            if (below != null && below.level == level - 1) {
+                below.value = entry.value;
+                entries.put(key, below);
+            } else {
+                entry.level = level - 1;
+            }
+            // Like a LinkedHashMap, the target keeps the position of a key it already modified
+            levelState(level - 1).modifications.keys.add(key);
+        }
+    }
+
+    /**
+     * Discards the changes of the savepoint at the given level.
+     *
+     * @param level the level of the savepoint on top of the stack
+     */
+    void rollbackLevel(final int level) {
+        final var state = existingLevelState(level);
+        if (state != null) {
+            state.modifications.clear();
+            levels.set(level, null);
+        }
+    }
+
+    @NonNull
+    private LevelState levelState(final int level) {
+        if (level < FIRST_OVERLAY_LEVEL) {
+            throw new IllegalArgumentException("Level " + level + " is not part of the overlay");
+        }
+        while (levels.size() <= level) {
+            levels.add(null);
+        }
+        var state = levels.get(level);
+        if (state == null) {
+            state = new LevelState(stateKey, new LevelModifications(level));
+            levels.set(level, state);
+        }
+        return state;
+    }
+
+    @Nullable
+    private LevelState existingLevelState(final int level) {
+        return level < levels.size() ? levels.get(level) : null;
+    }
+
+    /**
+     * Returns the entry of the given key visible to a savepoint at the given level, not counting the changes of that
+     * savepoint itself.
+     */
+    @Nullable
+    private VersionedValue<V> entryBelow(@Nullable VersionedValue<V> entry, final int level) {
+        while (entry != null && entry.level >= level) {
+            entry = entry.below;
+        }
+        return entry;
+    }
+
+    /**
+     * A change of a key in one savepoint level, a {@code null} value meaning the key was removed.
+     */
+    private static final class VersionedValue<V> {
+        private int level;
+
+        @Nullable
+        private V value;
+
+        @Nullable
+        private final VersionedValue<V> below;
+
+        private VersionedValue(final int level, @Nullable final V value, @Nullable final VersionedValue<V> below) {
+            this.level = level;
+            this.value = value;
+            this.below = below;
+        }
+    }
+
+    /**
+     * The view of the state in one savepoint. Modifications are stored in the overlay entries of its level, and
+     * everything below is read from the overlay or the first savepoint without walking intermediate levels.
+     */
+    private final class LevelState extends WritableKVStateBase<K, V> {
+        private final LevelModifications modifications;
+
+        private LevelState(@NonNull final String stateKey, @NonNull final LevelModifications modifications) {
+            super(stateKey, modifications);
+            this.modifications = modifications;
+        }
+
+        /**
+         * Commits the changes of this savepoint into the savepoint below, key by key through
+         * {@link #putIntoDataSource} and {@link #removeFromDataSource}; and then discards this view.
+         */
+        @Override
+        public void commit() {
+            super.commit();
+            levels.set(modifications.level, null);
+        }
+
+        @Override
+        protected V readFromDataSource(@NonNull final K key) {
+            final var entry = entryBelow(entries.get(key), modifications.level);
+            return entry != null ? entry.value : base.get(key);
+        }
+
+        @NonNull
+        @Override
+        protected Iterator<K> iterateFromDataSource() {
+            final var removedKeys = new HashSet<K>();
+            final var maybeAddedKeys = new LinkedHashSet<K>();
+            for (final var mod : entries.entrySet()) {
+                final var entry = entryBelow(mod.getValue(), modifications.level);
+                if (entry == null) {
+                    continue;
+                }
+                if (entry.value == null) {
+                    removedKeys.add(mod.getKey());
+                } else {
+                    maybeAddedKeys.add(mod.getKey());
+                }
+            }
+            return new OverlayKeyIterator<>(base.keys(), removedKeys, maybeAddedKeys);
+        }
+
+        @Override
+        protected long sizeOfDataSource() {
+            long size = base.size();
+            for (final var mod : entries.entrySet()) {
+                final var entry = entryBelow(mod.getValue(), modifications.level);
+                if (entry == null) {
+                    continue;
+                }
+                final boolean isPresentInBase = base.get(mod.getKey()) != null;
+                if (isPresentInBase && entry.value == null) {
+                    size--;
+                } else if (!isPresentInBase && entry.value != null) {
+                    size++;
+                }
+            }
+            return size;
+        }
+
+        @Override
+        protected void putIntoDataSource(@NonNull final K key, @NonNull final V value) {
+            commitKey(modifications.level, key);
+        }
+
+        @Override
+        protected void removeFromDataSource(@NonNull final K key) {
+            commitKey(modifications.level, key);
+        }
+    }
+
+    /**
+     * The modifications of one savepoint level, as seen by {@link WritableKVStateBase}. Keys are kept in the order
+     * they were first modified in the level, values are the overlay entries of the level.
+     */
+    private final class LevelModifications extends AbstractMap<K, V> {
+        private final int level;
+        private final Set<K> keys = new LinkedHashSet<>();
+
+        private LevelModifications(final int level) {
+            this.level = level;
+        }
+
+        @Override
+        public boolean containsKey(final Object key) {
+            return keys.contains(key);
+        }
+
+        @Override
+        public V get(final Object key) {
+            var entry = entries.get(key);
+            while (entry != null && entry.level > level) {
+                entry = entry.below;
+            }
+            return entry != null && entry.level == level ? entry.value : null;
+        }
+
+        @Override
+        public V put(final K key, final V value) {
+            final var top = entries.get(key);
+            if (top != null && top.level == level) {
+                final var previous = top.value;
+                top.value = value;
+                return previous;
+            }
+            entries.put(key, new VersionedValue<>(level, value, top));
+            keys.add(key);
+            return null;
+        }
+
+        /**
+         * Pops the entries of this level, which rolls back the savepoint. Once the savepoint is committed, its
+         * entries have already been moved to the level below, and only the keys are cleared.
+         */
+        @Override
+        public void clear() {
+            for (final var key : keys) {
+                final var entry = entries.get(key);
+                if (entry == null || entry.level != level) {
+                    continue;
+                }
+                if (entry.below == null) {
+                    entries.remove(key);
+                } else {
+                    entries.put(key, entry.below);
+                }
+            }
+            keys.clear();
+        }
+
+        @Override
+        public int size() {
+            return keys.size();
+        }
+
+        @NonNull
+        @Override
+        public Set<K> keySet() {
+            return Collections.unmodifiableSet(keys);
+        }
+
+        @NonNull
+        @Override
+        public Set<Map.Entry<K, V>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public Iterator<Map.Entry<K, V>> iterator() {
+                    final var itr = keys.iterator();
+                    return new Iterator<>() {
+                        @Override
+                        public boolean hasNext() {
+                            return itr.hasNext();
+                        }
+
+                        @Override
+                        public Map.Entry<K, V> next() {
+                            final var key = itr.next();
+                            return new SimpleImmutableEntry<>(key, get(key));
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return keys.size();
+                }
+            };
+        }
+    }
+
+    /**
+     * Iterates the keys of the first savepoint, skipping the keys removed in the overlay, followed by the keys added
+     * in the overlay that the first savepoint doesn't have.
+     */
+    private static final class OverlayKeyIterator<K> implements Iterator<K> {
+        private final Iterator<K> baseItr;
+        private final Set<K> removedKeys;
+        private final Set<K> maybeAddedKeys;
+
+        @Nullable
+        private Iterator<K> addedItr;
+
+        @Nullable
+        private K next;
+
+        private OverlayKeyIterator(
+                @NonNull final Iterator<K> baseItr,
+                @NonNull final Set<K> removedKeys,
+                @NonNull final Set<K> maybeAddedKeys) {
+            this.baseItr = baseItr;
+            this.removedKeys = removedKeys;
+            this.maybeAddedKeys = maybeAddedKeys;
+        }
+
+        @Override
+        public boolean hasNext() {
+            prepareNext();
+            return next != null;
+        }
+
+        @Override
+        public K next() {
+            prepareNext();
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            final var ret = next;
+            next = null;
+            return ret;
+        }
+
+        private void prepareNext() {
+            while (next == null) {
+                if (baseItr.hasNext()) {
+                    final var candidate = baseItr.next();
+                    if (!removedKeys.contains(candidate)) {
+                        maybeAddedKeys.remove(candidate);
+                        next = candidate;
+                    }
+                } else {
+                    if (addedItr == null) {
+                        addedItr = maybeAddedKeys.iterator();
+                    }
+                    if (addedItr.hasNext()) {
+                        next = addedItr.next();
+                    }
+                    return;
+                }
+            }
+        }
+    }
+}
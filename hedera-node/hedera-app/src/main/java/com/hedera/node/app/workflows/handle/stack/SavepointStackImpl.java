@@ -52,6 +52,7 @@ import com.swirlds.common.merkle.crypto.MerkleCryptography;
 import com.swirlds.metrics.api.Metrics;
 import com.swirlds.state.State;
 import com.swirlds.state.spi.ReadableStates;
+import com.swirlds.state.spi.WritableKVState;
 import com.swirlds.state.spi.WritableStates;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
@@ -76,6 +77,11 @@ public class SavepointStackImpl implements HandleContext.SavepointStack, State {
     private final State state;
     private final Deque<Savepoint> stack = new ArrayDeque<>();
     private final Map<String, WritableStatesStack> writableStatesMap = new HashMap<>();
+    /**
+     * The key/value changes of all savepoints above the first savepoint, by service name and state key. Changes of
+     * singleton and queue states are still kept in the {@link WrappedState} of each savepoint.
+     */
+    private final Map<String, Map<String, SavepointKVOverlay<?, ?>>> kvOverlays = new HashMap<>();
     /**
      * The stream builder for the transaction whose dispatch created this stack.
      */
@@ -216,7 +222,9 @@ public class SavepointStackImpl implements HandleContext.SavepointStack, State {
         if (stack.size() <= 1) {
             throw new IllegalStateException("The savepoint stack is empty");
         }
+        final int level = stack.size();
         stack.pop().commit();
+        forEachKVOverlay(overlay -> overlay.commitLevel(level));
     }
 
     @Override
@@ -224,7 +232,9 @@ public class SavepointStackImpl implements HandleContext.SavepointStack, State {
         if (stack.size() <= 1) {
             throw new IllegalStateException("The savepoint stack is empty");
         }
+        final int level = stack.size();
         stack.pop().rollback();
+        forEachKVOverlay(overlay -> overlay.rollbackLevel(level));
     }
 
     @Override
@@ -254,12 +264,16 @@ public class SavepointStackImpl implements HandleContext.SavepointStack, State {
             kvStateChangeListener.reset();
         }
         while (!stack.isEmpty()) {
+            final int level = stack.size();
             final var savepoint = stack.pop();
             // If this is a root stack, track the collected node fees for the block
             if (boundaryStateChangeListener != null && stack.isEmpty()) {
                 boundaryStateChangeListener.trackCollectedNodeFees(savepoint.getNodeFeesCollected());
             }
             savepoint.commit();
+            if (level >= SavepointKVOverlay.FIRST_OVERLAY_LEVEL) {
+                forEachKVOverlay(overlay -> overlay.commitLevel(level));
+            }
         }
         if (streamMode != RECORDS && kvStateChangeListener != null) {
             builder.stateChanges(kvStateChangeListener.getStateChanges());
@@ -299,6 +313,34 @@ public class SavepointStackImpl implements HandleContext.SavepointStack, State {
                         && parent.txnCategory() == USER);
     }
 
+    /**
+     * Returns the {@link WritableKVState} of the savepoint on top of the stack for the given service name and state
+     * key. Package-private, because it should only be called by {@link WritableStatesStack}.
+     *
+     * @param serviceName the name of the service
+     * @param stateKey the state key
+     * @return the {@link WritableKVState} of the savepoint on top of the stack
+     */
+    @NonNull
+    @SuppressWarnings("unchecked")
+    <K, V> WritableKVState<K, V> currentKVState(@NonNull final String serviceName, @NonNull final String stateKey) {
+        final int level = stack.size();
+        if (level < SavepointKVOverlay.FIRST_OVERLAY_LEVEL) {
+            return peek().state().getWritableStates(serviceName).get(stateKey);
+        }
+        final var overlays = kvOverlays.computeIfAbsent(serviceName, k -> new HashMap<>());
+        var overlay = (SavepointKVOverlay<K, V>) overlays.get(stateKey);
+        if (overlay == null) {
+            final WritableKVState<K, V> base = requireNonNull(stack.peekLast())
+                    .state()
+                    .getWritableStates(serviceName)
+                    .get(stateKey);
+            overlay = new SavepointKVOverlay<>(base);
+            overlays.put(stateKey, overlay);
+        }
+        return overlay.atLevel(level);
+    }
+
     /**
      * Returns the root {@link ReadableStates} for the given service name.
      *
@@ -622,7 +664,13 @@ public class SavepointStackImpl implements HandleContext.SavepointStack, State {
         return new HandleOutput(blockRecordSource, recordSource, firstAssignedConsensusTime);
     }
 
+    private void forEachKVOverlay(@NonNull final Consumer<SavepointKVOverlay<?, ?>> action) {
+        kvOverlays.values().forEach(overlays -> overlays.values().forEach(action));
+    }
+
     private void setupFirstSavepoint(@NonNull final TransactionCategory category) {
+        // All savepoints above the first one are gone, and overlays must not outlive the state they are based on
+        kvOverlays.clear();
         if (state instanceof SavepointStackImpl parent) {
             stack.push(new FirstChildSavepoint(new WrappedState(state), parent.peek(), category));
         } else {
@@ -47,7 +47,7 @@ public class WritableKVStateStack<K, V> implements WritableKVState<K, V> {
 
     @NonNull
     private WritableKVState<K, V> getCurrent() {
-        return writableStatesStack.getCurrent().get(stateKey);
+        return writableStatesStack.getCurrentKV(stateKey);
     }
 
     /**
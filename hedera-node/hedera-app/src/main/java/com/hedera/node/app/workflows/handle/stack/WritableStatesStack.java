@@ -47,6 +47,18 @@ public class WritableStatesStack implements WritableStates {
         return stack.peek().state().getWritableStates(statesName);
     }
 
+    /**
+     * Returns the current {@link WritableKVState} for the given state key in the stack. Package-private, because it
+     * should only be called by {@link WritableKVStateStack}.
+     *
+     * @param stateKey the state key
+     * @return the current {@link WritableKVState} in the stack
+     */
+    @NonNull
+    <K, V> WritableKVState<K, V> getCurrentKV(@NonNull final String stateKey) {
+        return stack.currentKVState(statesName, stateKey);
+    }
+
     /**
      * Returns the root {@link ReadableStates} of the stack. Package-private, because it should only be called by
      * {@link WritableKVStateStack}.
@@ -29,6 +29,7 @@ import com.hedera.node.app.blocks.impl.KVStateChangeListener;
 import com.hedera.node.app.fees.ExchangeRateManager;
 import com.hedera.node.app.fees.FeeAccumulator;
 import com.hedera.node.app.fees.FeeManager;
+import com.hedera.node.app.fees.FeeQuoteManager;
 import com.hedera.node.app.fees.ResourcePriceCalculatorImpl;
 import com.hedera.node.app.ids.EntityIdService;
 import com.hedera.node.app.ids.EntityNumGeneratorImpl;
@@ -108,6 +109,7 @@ public class ParentTxnFactory {
     private final BlockStreamManager blockStreamManager;
     private final ChildDispatchFactory childDispatchFactory;
     private final TransactionChecker transactionChecker;
+    private final FeeQuoteManager feeQuoteManager;
 
     @Inject
     public ParentTxnFactory(
@@ -127,7 +129,8 @@ public class ParentTxnFactory {
             @NonNull final BlockStreamManager blockStreamManager,
             @NonNull final ChildDispatchFactory childDispatchFactory,
             @NonNull final SemanticVersion softwareVersionFactory,
-            @NonNull final TransactionChecker transactionChecker) {
+            @NonNull final TransactionChecker transactionChecker,
+            @NonNull final FeeQuoteManager feeQuoteManager) {
         this.configProvider = requireNonNull(configProvider);
         this.kvStateChangeListener = requireNonNull(kvStateChangeListener);
         this.boundaryStateChangeListener = requireNonNull(boundaryStateChangeListener);
@@ -149,6 +152,7 @@ public class ParentTxnFactory {
                 .streamMode();
         this.softwareVersionFactory = softwareVersionFactory;
         this.transactionChecker = requireNonNull(transactionChecker);
+        this.feeQuoteManager = requireNonNull(feeQuoteManager);
     }
 
     /**
@@ -317,6 +321,7 @@ public class ParentTxnFactory {
         final var creatorInfo = parentTxn.creatorInfo();
         final var tokenContextImpl = parentTxn.tokenContextImpl();
         final var entityIdStore = new WritableEntityIdStore(stack.getWritableStates(EntityIdService.NAME));
+        final var payerKey = preHandleResult.payerKey() == null ? Key.DEFAULT : preHandleResult.payerKey();
 
         final var readableStoreFactory = new ReadableStoreFactory(stack);
         final var entityNumGenerator = new EntityNumGeneratorImpl(entityIdStore);
@@ -342,7 +347,7 @@ public class ParentTxnFactory {
                 requireNonNull(txnInfo.payerID()),
                 keyVerifier,
                 txnInfo.functionality(),
-                preHandleResult.payerKey() == null ? Key.DEFAULT : preHandleResult.payerKey(),
+                payerKey,
                 exchangeRateManager,
                 stack,
                 entityNumGenerator,
@@ -356,13 +361,18 @@ public class ParentTxnFactory {
                 transactionChecker,
                 preHandleResult.innerResults(),
                 transactionCategory);
-        final var fees = dispatcher.dispatchComputeFees(dispatchHandleContext);
-        if (streamMode != RECORDS) {
-            final var congestionMultiplier = feeManager.congestionMultiplierFor(
-                    txnInfo.txBody(), txnInfo.functionality(), storeFactory.asReadOnly());
-            if (congestionMultiplier > 1) {
-                baseBuilder.congestionMultiplier(congestionMultiplier);
-            }
+        final var congestionMultiplier = feeManager.congestionMultiplierFor(
+                txnInfo.txBody(), txnInfo.functionality(), storeFactory.asReadOnly());
+        final var quotedFees = feeQuoteManager.reusableFees(
+                preHandleResult.feeQuote(),
+                consensusNow,
+                congestionMultiplier,
+                payerKey,
+                keyVerifier.numSignaturesVerified(),
+                configProvider.getConfiguration().getVersion());
+        final var fees = quotedFees != null ? quotedFees : dispatcher.dispatchComputeFees(dispatchHandleContext);
+        if (streamMode != RECORDS && congestionMultiplier > 1) {
+            baseBuilder.congestionMultiplier(congestionMultiplier);
         }
         return new RecordDispatch(
                 baseBuilder,
@@ -443,7 +453,8 @@ public class ParentTxnFactory {
                     Set.of(),
                     Map.of(),
                     null,
-                    0);
+                    0,
+                    null);
         }
         try {
             final var pureChecksContext = new PureChecksContextImpl(body, dispatcher);
@@ -463,7 +474,8 @@ public class ParentTxnFactory {
                     preHandleContext.requiredHollowAccounts(),
                     null,
                     null,
-                    0);
+                    0,
+                    null);
         } catch (final PreCheckException e) {
             return new PreHandleResult(
                     null,
@@ -476,7 +488,8 @@ public class ParentTxnFactory {
                     emptySet(),
                     null,
                     null,
-                    0);
+                    0,
+                    null);
         }
     }
 }
@@ -44,7 +44,7 @@ import com.hedera.node.app.spi.workflows.PreCheckException;
 import com.hedera.node.app.state.DeduplicationCache;
 import com.hedera.node.app.store.ReadableStoreFactory;
 import com.hedera.node.app.throttle.SynchronizedThrottleAccumulator;
-import com.hedera.node.app.throttle.ThrottleUsage;
+import com.hedera.node.app.throttle.ThrottleUsageLedger;
 import com.hedera.node.app.workflows.OpWorkflowMetrics;
 import com.hedera.node.app.workflows.SolvencyPreCheck;
 import com.hedera.node.app.workflows.TransactionChecker;
@@ -60,7 +60,6 @@ import com.swirlds.state.State;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
 import java.time.InstantSource;
-import java.util.ArrayList;
 import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.List;
@@ -102,12 +101,23 @@ public final class IngestChecker {
 
     /**
      * The result of running all checks.
+     *
+     * <p>To avoid allocating throttle usages for every transaction, each thread reuses the same
+     * {@link ThrottleUsageLedger} for all its results; so a thread must be done with a result before creating the next.
      */
     public static class Result {
+        private static final ThreadLocal<ThrottleUsageLedger> THROTTLE_USAGES =
+                ThreadLocal.withInitial(ThrottleUsageLedger::new);
+
         @Nullable
         private TransactionInfo txnInfo;
 
-        private List<ThrottleUsage> throttleUsages = List.of();
+        private final ThrottleUsageLedger throttleUsages;
+
+        public Result() {
+            throttleUsages = THROTTLE_USAGES.get();
+            throttleUsages.clear();
+        }
 
         public @NonNull TransactionInfo txnInfoOrThrow() {
             return requireNonNull(txnInfo);
@@ -117,13 +127,9 @@ public final class IngestChecker {
             this.txnInfo = txnInfo;
         }
 
-        public @NonNull List<ThrottleUsage> throttleUsages() {
+        public @NonNull ThrottleUsageLedger throttleUsages() {
             return throttleUsages;
         }
-
-        public void setThrottleUsages(@Nullable List<ThrottleUsage> throttleUsages) {
-            this.throttleUsages = throttleUsages;
-        }
     }
 
     /**
@@ -251,18 +257,12 @@ public final class IngestChecker {
         }
 
         // 4. Check throttles
-        final List<ThrottleUsage> throttleUsages = new ArrayList<>();
+        // (usages are recorded straight into the result, so they can be reclaimed even if a check fails)
+        final var throttleUsages = result.throttleUsages();
         final var hederaConfig = configuration.getConfigData(HederaConfig.class);
-
-        try {
-            checkThrottles(txInfo, state, hederaConfig, throttleUsages);
-            if (functionality == ATOMIC_BATCH) {
-                checkThrottlesForInnerTxns(
-                        state, configuration, txBody.atomicBatch().transactions(), throttleUsages);
-            }
-        } finally {
-            // Always keep throttle usages up to date for refund logic
-            result.setThrottleUsages(throttleUsages);
+        checkThrottles(txInfo, state, hederaConfig, throttleUsages);
+        if (functionality == ATOMIC_BATCH) {
+            checkThrottlesForInnerTxns(state, configuration, txBody.atomicBatch().transactions(), throttleUsages);
         }
 
         // 4a. Run pure checks
@@ -306,7 +306,7 @@ public final class IngestChecker {
             @NonNull final TransactionInfo txInfo,
             @NonNull final State state,
             @NonNull final HederaConfig hederaConfig,
-            @NonNull final List<ThrottleUsage> throttleUsages)
+            @NonNull final ThrottleUsageLedger throttleUsages)
             throws PreCheckException {
         assertThrottlingPreconditions(txInfo, hederaConfig);
         if (hederaConfig.ingestThrottleEnabled()
@@ -328,7 +328,7 @@ public final class IngestChecker {
             @NonNull final State state,
             @NonNull final Configuration configuration,
             @NonNull final List<Bytes> innerTxnsBytes,
-            @NonNull final List<ThrottleUsage> throttleUsages)
+            @NonNull final ThrottleUsageLedger throttleUsages)
             throws PreCheckException {
 
         if (innerTxnsBytes.isEmpty()) {
@@ -9,7 +9,6 @@ import com.hedera.hapi.node.transaction.TransactionResponse;
 import com.hedera.node.app.spi.workflows.HandleException;
 import com.hedera.node.app.spi.workflows.InsufficientBalanceException;
 import com.hedera.node.app.spi.workflows.PreCheckException;
-import com.hedera.node.app.throttle.ThrottleUsage;
 import com.hedera.node.config.ConfigProvider;
 import com.hedera.pbj.runtime.io.buffer.BufferedData;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
@@ -93,7 +92,7 @@ public final class IngestWorkflowImpl implements IngestWorkflow {
         }
         // Reclaim any used throttle capacity if we failed (i.e., did not submit the transaction to consensus)
         if (result != OK) {
-            checkerResult.throttleUsages().forEach(ThrottleUsage::reclaimCapacity);
+            checkerResult.throttleUsages().reclaimCapacity();
         }
 
         // 8. Return PreCheck code and estimated fee
@@ -10,6 +10,7 @@ import com.hedera.hapi.node.base.AccountID;
 import com.hedera.hapi.node.base.Key;
 import com.hedera.hapi.node.base.ResponseCodeEnum;
 import com.hedera.hapi.node.state.token.Account;
+import com.hedera.node.app.fees.FeeQuote;
 import com.hedera.node.app.signature.SignatureVerificationFuture;
 import com.hedera.node.app.spi.workflows.PreHandleContext;
 import com.hedera.node.app.state.HederaRecordCache;
@@ -44,6 +45,7 @@ import java.util.concurrent.Future;
  *                            are used as the key of this map.
  * @param innerResults {@link PreHandleResult}s of the inner transactions if this is an atomic batch transaction.
  * @param configVersion The version of the configuration that was used during pre-handle
+ * @param feeQuote The fees of the transaction quoted during pre-handle, or {@code null} if they were not quoted.
  */
 public record PreHandleResult(
         @Nullable AccountID payer,
@@ -56,7 +58,8 @@ public record PreHandleResult(
         @Nullable Set<Account> hollowAccounts,
         @Nullable Map<Key, SignatureVerificationFuture> verificationResults,
         @Nullable List<PreHandleResult> innerResults,
-        long configVersion) {
+        long configVersion,
+        @Nullable FeeQuote feeQuote) {
 
     /**
      * Returns whether this result's verification results are valid for the given context. This is <b>only</b>
@@ -160,7 +163,7 @@ public record PreHandleResult(
     @NonNull
     public static PreHandleResult unknownFailure() {
         return new PreHandleResult(
-                null, null, Status.UNKNOWN_FAILURE, UNKNOWN, null, null, null, null, null, null, UNKNOWN_VERSION);
+                null, null, Status.UNKNOWN_FAILURE, UNKNOWN, null, null, null, null, null, null, UNKNOWN_VERSION, null);
     }
 
     /**
@@ -192,7 +195,8 @@ public record PreHandleResult(
                 null,
                 null,
                 null,
-                configVersion);
+                configVersion,
+                null);
     }
 
     /**
@@ -227,7 +231,8 @@ public record PreHandleResult(
                 hollowAccounts,
                 verificationResults,
                 null,
-                UNKNOWN_VERSION);
+                UNKNOWN_VERSION,
+                null);
     }
 
     /**
@@ -236,6 +241,17 @@ public record PreHandleResult(
     @NonNull
     public static PreHandleResult stateSignatureTransactionEncountered(@NonNull final TransactionInfo txInfo) {
         return new PreHandleResult(
-                null, null, Status.SO_FAR_SO_GOOD, UNKNOWN, txInfo, null, null, null, null, null, UNKNOWN_VERSION);
+                null,
+                null,
+                Status.SO_FAR_SO_GOOD,
+                UNKNOWN,
+                txInfo,
+                null,
+                null,
+                null,
+                null,
+                null,
+                UNKNOWN_VERSION,
+                null);
     }
 }
@@ -20,6 +20,8 @@ import com.hedera.hapi.node.base.SignaturePair;
 import com.hedera.hapi.node.state.token.Account;
 import com.hedera.hapi.node.transaction.TransactionBody;
 import com.hedera.hapi.platform.event.StateSignatureTransaction;
+import com.hedera.node.app.fees.FeeQuote;
+import com.hedera.node.app.fees.FeeQuoteManager;
 import com.hedera.node.app.service.token.ReadableAccountStore;
 import com.hedera.node.app.signature.ExpandedSignaturePair;
 import com.hedera.node.app.signature.SignatureExpander;
@@ -89,6 +91,10 @@ public class PreHandleWorkflowImpl implements PreHandleWorkflow {
      * Used for registering notice of transactionIDs seen by this node
      */
     private final DeduplicationCache deduplicationCache;
+    /**
+     * Quotes the fees of transactions, so they need not be computed again at consensus
+     */
+    private final FeeQuoteManager feeQuoteManager;
 
     /**
      * Creates a new instance of {@code PreHandleWorkflowImpl}.
@@ -97,6 +103,7 @@ public class PreHandleWorkflowImpl implements PreHandleWorkflow {
      *                           transaction.
      * @param transactionChecker the {@link TransactionChecker} for parsing and verifying the transaction
      * @param signatureVerifier  the {@link SignatureVerifier} to verify signatures
+     * @param feeQuoteManager    the {@link FeeQuoteManager} to quote the fees of transactions
      * @throws NullPointerException if any of the parameters is {@code null}
      */
     @Inject
@@ -106,13 +113,15 @@ public class PreHandleWorkflowImpl implements PreHandleWorkflow {
             @NonNull final SignatureVerifier signatureVerifier,
             @NonNull final SignatureExpander signatureExpander,
             @NonNull final ConfigProvider configProvider,
-            @NonNull final DeduplicationCache deduplicationCache) {
+            @NonNull final DeduplicationCache deduplicationCache,
+            @NonNull final FeeQuoteManager feeQuoteManager) {
         this.dispatcher = requireNonNull(dispatcher);
         this.transactionChecker = requireNonNull(transactionChecker);
         this.signatureVerifier = requireNonNull(signatureVerifier);
         this.signatureExpander = requireNonNull(signatureExpander);
         this.configProvider = requireNonNull(configProvider);
         this.deduplicationCache = requireNonNull(deduplicationCache);
+        this.feeQuoteManager = requireNonNull(feeQuoteManager);
     }
 
     /**
@@ -168,7 +177,8 @@ public class PreHandleWorkflowImpl implements PreHandleWorkflow {
             @NonNull final Consumer<StateSignatureTransaction> stateSignatureTransactionCallback,
             @NonNull final InnerTransaction innerTransaction) {
         // 0. Ignore the previous result if it was computed using different node configuration
-        if (!wasComputedWithCurrentNodeConfiguration(previousResult)) {
+        final boolean redoneForConfigChange = !wasComputedWithCurrentNodeConfiguration(previousResult);
+        if (redoneForConfigChange) {
             previousResult = null;
         }
 
@@ -339,7 +349,25 @@ public class PreHandleWorkflowImpl implements PreHandleWorkflow {
         // 3. Get the verification results
         final var results = verifySignatures(txInfo, context, VerifyOnlyPayerKey.NO, payerIsHollow, previousResult);
 
-        // 4. Create and return TransactionMetadata
+        // 4. Quote the fees of a top-level transaction; a quote is only charged at consensus if nothing the fees
+        // depend on changed, so the quote of a previous result can be carried over if it was computed with the
+        // same configuration. If pre-handle is redone because the configuration changed, we are already on the
+        // handle thread and nothing is gained by quoting the fees, so the quote is dropped
+        final FeeQuote feeQuote;
+        if (previousResult != null) {
+            final var previousQuote = previousResult.feeQuote();
+            feeQuote = previousQuote != null && previousQuote.configVersion() == configuration.getVersion()
+                    ? previousQuote
+                    : null;
+        } else if (redoneForConfigChange) {
+            feeQuote = null;
+        } else if (innerTransaction == InnerTransaction.NO && payerKey != null) {
+            feeQuote = feeQuoteManager.quote(txInfo, payerKey, results.size(), storeFactory, configuration);
+        } else {
+            feeQuote = null;
+        }
+
+        // 5. Create and return TransactionMetadata
         return new PreHandleResult(
                 payer,
                 payerKey,
@@ -351,7 +379,8 @@ public class PreHandleWorkflowImpl implements PreHandleWorkflow {
                 context.requiredHollowAccounts(),
                 results,
                 isAtomicBatch(txInfo) ? new ArrayList<>() : null,
-                configuration.getVersion());
+                configuration.getVersion(),
+                feeQuote);
     }
 
     /**
@@ -0,0 +1,182 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.node.app.workflows.query;
+
+import static com.hedera.node.app.hapi.utils.CommonPbjConverters.fromPbj;
+import static java.util.Objects.requireNonNull;
+
+import com.hedera.hapi.node.base.HederaFunctionality;
+import com.hedera.node.app.util.ProtobufUtils;
+import com.hedera.node.config.ConfigProvider;
+import com.hedera.node.config.data.CacheConfig;
+import com.hedera.pbj.runtime.ParseException;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import com.swirlds.metrics.api.Counter;
+import com.swirlds.metrics.api.Metrics;
+import com.swirlds.state.State;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.io.IOException;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * A cache of serialized answers to free queries. Clients often ask the same question about the same entity many times
+ * while the state they are answered from does not change, e.g. when polling the balance of an account. An answer is
+ * cached for the query type and the serialized query without its header, and is only reused while queries are answered
+ * from the same {@link State} instance; as soon as a query is answered from a different state, all cached answers are
+ * dropped.
+ */
+@Singleton
+public class QueryResponseCache {
+    private static final Logger logger = LogManager.getLogger(QueryResponseCache.class);
+
+    /**
+     * The key of a cached answer.
+     *
+     * @param function the type of the query
+     * @param query the serialized query without its header
+     */
+    public record CacheKey(@NonNull HederaFunctionality function, @NonNull Bytes query) {}
+
+    /**
+     * The answers cached for a single state.
+     */
+    private record Generation(
+            @NonNull WeakReference<State> state,
+            @NonNull ConcurrentMap<CacheKey, Bytes> responses,
+            @NonNull AtomicLong sizeBytes) {
+        private Generation(@NonNull final State state) {
+            this(new WeakReference<>(state), new ConcurrentHashMap<>(), new AtomicLong());
+        }
+    }
+
+    private record CacheMetrics(@NonNull Counter hits, @NonNull Counter misses, @NonNull Counter bytesSaved) {}
+
+    private final ConfigProvider configProvider;
+    private final Metrics metrics;
+    private final AtomicReference<Generation> generation = new AtomicReference<>();
+    private final ConcurrentMap<HederaFunctionality, CacheMetrics> cacheMetrics = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor of {@code QueryResponseCache}
+     *
+     * @param configProvider the {@link ConfigProvider} to get the current configuration
+     * @param metrics the {@link Metrics} to register the cache metrics with
+     */
+    @Inject
+    public QueryResponseCache(@NonNull final ConfigProvider configProvider, @NonNull final Metrics metrics) {
+        this.configProvider = requireNonNull(configProvider, "configProvider must not be null");
+        this.metrics = requireNonNull(metrics, "metrics must not be null");
+    }
+
+    /**
+     * Returns the key under which the answer to the given query is cached.
+     *
+     * @param function the type of the query
+     * @param serializedQuery the serialized query
+     * @return the key of the query, or {@code null} if answers to the query are not cached
+     */
+    public @Nullable CacheKey keyFor(@NonNull final HederaFunctionality function, @NonNull final Bytes serializedQuery) {
+        requireNonNull(function, "function must not be null");
+        requireNonNull(serializedQuery, "serializedQuery must not be null");
+        final var cacheConfig = configProvider.getConfiguration().getConfigData(CacheConfig.class);
+        if (!cacheConfig.queriesEnabled() || !cacheConfig.queriesFunctionalities().contains(fromPbj(function))) {
+            return null;
+        }
+        try {
+            return new CacheKey(function, ProtobufUtils.extractQueryBytesWithoutHeader(serializedQuery));
+        } catch (IOException | ParseException e) {
+            logger.debug("Unable to extract the query body of a {} query", function, e);
+            return null;
+        }
+    }
+
+    /**
+     * Returns the cached answer to a query against the given state.
+     *
+     * @param state the state the query is answered from
+     * @param key the key of the query
+     * @return the serialized answer, or {@code null} if no answer was cached for the query and state
+     */
+    public @Nullable Bytes get(@NonNull final State state, @NonNull final CacheKey key) {
+        requireNonNull(key, "key must not be null");
+        final var response = generationFor(state).responses().get(key);
+        final var functionMetrics = metricsFor(key.function());
+        if (response == null) {
+            functionMetrics.misses().increment();
+        } else {
+            functionMetrics.hits().increment();
+            functionMetrics.bytesSaved().add(response.length());
+        }
+        return response;
+    }
+
+    /**
+     * Caches the answer to a query against the given state, unless the cache for the state is full.
+     *
+     * @param state the state the query was answered from
+     * @param key the key of the query
+     * @param response the serialized answer
+     */
+    public void put(@NonNull final State state, @NonNull final CacheKey key, @NonNull final Bytes response) {
+        requireNonNull(key, "key must not be null");
+        requireNonNull(response, "response must not be null");
+        final var current = generationFor(state);
+        final long entrySize = key.query().length() + response.length();
+        final long maxSizeBytes =
+                configProvider.getConfiguration().getConfigData(CacheConfig.class).queriesMaxSizeBytes();
+        if (current.sizeBytes().addAndGet(entrySize) > maxSizeBytes) {
+            current.sizeBytes().addAndGet(-entrySize);
+            return;
+        }
+        // The key may be a slice of a request buffer that is reused, so it must be copied before it is retained
+        final var retainedKey = new CacheKey(key.function(), Bytes.wrap(key.query().toByteArray()));
+        if (current.responses().putIfAbsent(retainedKey, response) != null) {
+            current.sizeBytes().addAndGet(-entrySize);
+        }
+    }
+
+    /**
+     * Returns the answers cached for the given state, dropping the answers cached for any other state.
+     *
+     * @param state the state
+     * @return the answers cached for the state
+     */
+    private Generation generationFor(@NonNull final State state) {
+        requireNonNull(state, "state must not be null");
+        while (true) {
+            final var current = generation.get();
+            if (current != null && current.state().get() == state) {
+                return current;
+            }
+            final var next = new Generation(state);
+            if (generation.compareAndSet(current, next)) {
+                return next;
+            }
+        }
+    }
+
+    private CacheMetrics metricsFor(@NonNull final HederaFunctionality function) {
+        return cacheMetrics.computeIfAbsent(function, f -> {
+            final var protoName = f.protoName();
+            final var name = protoName.substring(0, 1).toLowerCase() + protoName.substring(1);
+            final var hits = metrics.getOrCreate(new Counter.Config("app", name + "CacheHits")
+                    .withDescription("The number of " + name + " queries answered from the query response cache"));
+            final var misses = metrics.getOrCreate(new Counter.Config("app", name + "CacheMisses")
+                    .withDescription("The number of cacheable " + name + " queries not found in the query "
+                            + "response cache"));
+            final var bytesSaved = metrics.getOrCreate(new Counter.Config("app", name + "CacheBytesSaved")
+                    .withDescription("The number of response bytes of " + name + " queries that were reused "
+                            + "from the query response cache")
+                    .withUnit("bytes"));
+            return new CacheMetrics(hits, misses, bytesSaved);
+        });
+    }
+}
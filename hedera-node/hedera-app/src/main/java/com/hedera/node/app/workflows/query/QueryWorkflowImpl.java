@@ -36,7 +36,6 @@ import com.hedera.node.app.spi.workflows.QueryContext;
 import com.hedera.node.app.spi.workflows.QueryHandler;
 import com.hedera.node.app.store.ReadableStoreFactory;
 import com.hedera.node.app.throttle.SynchronizedThrottleAccumulator;
-import com.hedera.node.app.throttle.ThrottleUsage;
 import com.hedera.node.app.util.ProtobufUtils;
 import com.hedera.node.app.workflows.OpWorkflowMetrics;
 import com.hedera.node.app.workflows.ingest.IngestChecker;
@@ -87,6 +86,7 @@ public final class QueryWorkflowImpl implements QueryWorkflow {
     private final SynchronizedThrottleAccumulator synchronizedThrottleAccumulator;
     private final InstantSource instantSource;
     private final OpWorkflowMetrics workflowMetrics;
+    private final QueryResponseCache queryResponseCache;
 
     /**
      * Indicates if the QueryWorkflow should charge for handling queries.
@@ -111,6 +111,7 @@ public final class QueryWorkflowImpl implements QueryWorkflow {
      * @param synchronizedThrottleAccumulator the {@link SynchronizedThrottleAccumulator} that checks transaction should be throttled
      * @param instantSource the {@link InstantSource} to get the current time
      * @param workflowMetrics the {@link OpWorkflowMetrics} to update the metrics
+     * @param queryResponseCache the {@link QueryResponseCache} to reuse answers to identical free queries
      * @param shouldCharge If the workflow should charge for handling queries.
      * @throws NullPointerException if one of the arguments is {@code null}
      */
@@ -130,6 +131,7 @@ public final class QueryWorkflowImpl implements QueryWorkflow {
             @NonNull final SynchronizedThrottleAccumulator synchronizedThrottleAccumulator,
             @NonNull final InstantSource instantSource,
             @NonNull final OpWorkflowMetrics workflowMetrics,
+            @NonNull final QueryResponseCache queryResponseCache,
             final boolean shouldCharge) {
         this.stateAccessor = requireNonNull(stateAccessor, "stateAccessor must not be null");
         this.submissionManager = requireNonNull(submissionManager, "submissionManager must not be null");
@@ -146,6 +148,7 @@ public final class QueryWorkflowImpl implements QueryWorkflow {
                 requireNonNull(synchronizedThrottleAccumulator, "hapiThrottling must not be null");
         this.instantSource = requireNonNull(instantSource);
         this.workflowMetrics = requireNonNull(workflowMetrics);
+        this.queryResponseCache = requireNonNull(queryResponseCache);
         this.shouldCharge = shouldCharge;
     }
 
@@ -164,7 +167,8 @@ public final class QueryWorkflowImpl implements QueryWorkflow {
         logger.debug("Received query: {}", query);
         final var function = functionOf(query);
 
-        Response response;
+        Response response = null;
+        Bytes responseBytes = null;
         if (!HederaFunctionality.NONE.equals(function)) {
             final var handler = dispatcher.getHandler(query);
             var queryHeader = handler.extractHeader(query);
@@ -246,7 +250,7 @@ public final class QueryWorkflowImpl implements QueryWorkflow {
                             submissionManager.submit(txBody, paymentBytes);
                         }
                     } catch (Exception e) {
-                        checkerResult.throttleUsages().forEach(ThrottleUsage::reclaimCapacity);
+                        checkerResult.throttleUsages().reclaimCapacity();
                         throw e;
                     }
                 } else {
@@ -264,8 +268,14 @@ public final class QueryWorkflowImpl implements QueryWorkflow {
                             null);
                 }
 
-                // 4. Check validity of query
-                handler.validate(context);
+                // 4. Check validity of query, unless the answer to an identical query against this state is cached
+                final var cacheKey = (shouldCharge && paymentRequired) || handler.needsAnswerOnlyCost(responseType)
+                        ? null
+                        : queryResponseCache.keyFor(function, requestBuffer);
+                final var cachedResponse = cacheKey == null ? null : queryResponseCache.get(state, cacheKey);
+                if (cachedResponse == null) {
+                    handler.validate(context);
+                }
 
                 // 5. Check query throttles
                 if (shouldCharge && synchronizedThrottleAccumulator.shouldThrottle(function, query, state, payerID)) {
@@ -273,16 +283,23 @@ public final class QueryWorkflowImpl implements QueryWorkflow {
                     throw new PreCheckException(BUSY);
                 }
 
-                if (handler.needsAnswerOnlyCost(responseType)) {
-                    // 6.i Estimate costs
+                if (cachedResponse != null) {
+                    // 6.i Reuse the cached answer
+                    responseBytes = cachedResponse;
+                } else if (handler.needsAnswerOnlyCost(responseType)) {
+                    // 6.ii Estimate costs
                     final var queryFees = handler.computeFees(context).totalFee();
 
                     final var header = createResponseHeader(responseType, OK, queryFees);
                     response = handler.createEmptyResponse(header);
                 } else {
-                    // 6.ii Find response
+                    // 6.iii Find response
                     final var header = createResponseHeader(responseType, OK, 0L);
                     response = handler.findResponse(context, header);
+                    if (cacheKey != null) {
+                        responseBytes = Response.PROTOBUF.toBytes(response);
+                        queryResponseCache.put(state, cacheKey, responseBytes);
+                    }
                 }
             } catch (InsufficientBalanceException e) {
                 response = createErrorResponse(handler, responseType, e.responseCode(), e.getEstimatedFee());
@@ -303,7 +320,11 @@ public final class QueryWorkflowImpl implements QueryWorkflow {
         }
 
         try {
-            Response.PROTOBUF.write(response, responseBuffer);
+            if (responseBytes != null) {
+                responseBuffer.writeBytes(responseBytes);
+            } else {
+                Response.PROTOBUF.write(response, responseBuffer);
+            }
             logger.debug("Finished handling a query request in Query workflow");
         } catch (IOException e) {
             logger.warn("Unexpected IO exception while writing protobuf", e);
@@ -58,7 +58,8 @@ public interface QueryWorkflowInjectionModule {
             @NonNull final FeeManager feeManager,
             @NonNull final SynchronizedThrottleAccumulator synchronizedThrottleAccumulator,
             @NonNull final InstantSource instantSource,
-            @NonNull final OpWorkflowMetrics opWorkflowMetrics) {
+            @NonNull final OpWorkflowMetrics opWorkflowMetrics,
+            @NonNull final QueryResponseCache queryResponseCache) {
         return new QueryWorkflowImpl(
                 stateAccessor,
                 submissionManager,
@@ -74,6 +75,7 @@ public interface QueryWorkflowInjectionModule {
                 synchronizedThrottleAccumulator,
                 instantSource,
                 opWorkflowMetrics,
+                queryResponseCache,
                 true);
     }
 
@@ -94,7 +96,8 @@ public interface QueryWorkflowInjectionModule {
             @NonNull final FeeManager feeManager,
             @NonNull final SynchronizedThrottleAccumulator synchronizedThrottleAccumulator,
             @NonNull final InstantSource instantSource,
-            @NonNull final OpWorkflowMetrics opWorkflowMetrics) {
+            @NonNull final OpWorkflowMetrics opWorkflowMetrics,
+            @NonNull final QueryResponseCache queryResponseCache) {
         return new QueryWorkflowImpl(
                 stateAccessor,
                 submissionManager,
@@ -110,6 +113,7 @@ public interface QueryWorkflowInjectionModule {
                 synchronizedThrottleAccumulator,
                 instantSource,
                 opWorkflowMetrics,
+                queryResponseCache,
                 false);
     }
 
@@ -81,9 +81,12 @@ class BlockImplUtilsTest {
             case STATE_ID_TOPICS -> "ConsensusService.TOPICS";
             case STATE_ID_CONTRACT_BYTECODE -> "ContractService.BYTECODE";
             case STATE_ID_CONTRACT_STORAGE -> "ContractService.STORAGE";
+            case STATE_ID_CONTRACT_STORAGE_INDEX -> "ContractService.STORAGE_INDEX";
+            case STATE_ID_CONTRACT_STORAGE_SLOT_INDEXED -> "ContractService.STORAGE_SLOT_INDEXED";
             case STATE_ID_ENTITY_ID -> "EntityIdService.ENTITY_ID";
             case STATE_ID_MIDNIGHT_RATES -> "FeeService.MIDNIGHT_RATES";
             case STATE_ID_FILES -> "FileService.FILES";
+            case STATE_ID_FILE_CHUNKS -> "FileService.FILE_CHUNKS";
             case STATE_ID_UPGRADE_DATA_150 -> "FileService.UPGRADE_DATA[FileID[shardNum=0, realmNum=0, fileNum=150]]";
             case STATE_ID_UPGRADE_DATA_151 -> "FileService.UPGRADE_DATA[FileID[shardNum=0, realmNum=0, fileNum=151]]";
             case STATE_ID_UPGRADE_DATA_152 -> "FileService.UPGRADE_DATA[FileID[shardNum=0, realmNum=0, fileNum=152]]";
@@ -54,6 +54,7 @@ import com.hedera.node.config.testfixtures.HederaTestConfigBuilder;
 import com.hedera.pbj.runtime.ParseException;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
 import com.swirlds.metrics.api.Counter;
+import com.swirlds.metrics.api.Histogram;
 import com.swirlds.metrics.api.Metrics;
 import com.swirlds.platform.state.service.PlatformStateService;
 import com.swirlds.platform.system.state.notifications.StateHashedNotification;
@@ -161,6 +162,9 @@ class BlockStreamManagerImplTest {
     @Mock
     private Counter indirectProofsCounter;
 
+    @Mock
+    private Histogram rootHashLatency;
+
     private final AtomicReference<Bytes> lastAItem = new AtomicReference<>();
     private final AtomicReference<Bytes> lastBItem = new AtomicReference<>();
     private final AtomicReference<PlatformState> stateRef = new AtomicReference<>();
@@ -174,6 +178,7 @@ class BlockStreamManagerImplTest {
     void setUp() {
         writableStates = mock(WritableStates.class, withSettings().extraInterfaces(CommittableWritableStates.class));
         lenient().when(metrics.getOrCreate(any(Counter.Config.class))).thenReturn(indirectProofsCounter);
+        lenient().when(metrics.getOrCreate(any(Histogram.Config.class))).thenReturn(rootHashLatency);
     }
 
     @Test
@@ -229,6 +234,7 @@ class BlockStreamManagerImplTest {
                 blockHashSigner,
                 () -> aWriter,
                 ForkJoinPool.commonPool(),
+                ForkJoinPool.commonPool(),
                 configProvider,
                 networkInfo,
                 boundaryStateChangeListener,
@@ -253,6 +259,7 @@ class BlockStreamManagerImplTest {
                 blockHashSigner,
                 () -> aWriter,
                 ForkJoinPool.commonPool(),
+                ForkJoinPool.commonPool(),
                 configProvider,
                 networkInfo,
                 boundaryStateChangeListener,
@@ -939,6 +946,7 @@ class BlockStreamManagerImplTest {
                 blockHashSigner,
                 () -> writers[nextWriter.getAndIncrement()],
                 ForkJoinPool.commonPool(),
+                ForkJoinPool.commonPool(),
                 configProvider,
                 networkInfo,
                 boundaryStateChangeListener,
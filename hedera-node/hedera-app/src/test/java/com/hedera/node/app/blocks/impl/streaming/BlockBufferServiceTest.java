@@ -4,10 +4,13 @@ package com.hedera.node.app.blocks.impl.streaming;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -26,6 +29,8 @@ import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodHandles.Lookup;
 import java.lang.invoke.VarHandle;
 import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentMap;
@@ -36,11 +41,13 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -749,6 +756,100 @@ class BlockBufferServiceTest extends BlockNodeCommunicationTestBase {
         verifyNoInteractions(connectionManager);
     }
 
+    @Test
+    void testBufferSpillsToDiskAndReplays(@TempDir final Path spillDir) throws Throwable {
+        final Duration blockTtl = Duration.ofSeconds(2);
+        final Configuration config = HederaTestConfigBuilder.create()
+                .withConfigDataType(BlockStreamConfig.class)
+                .withValue("blockStream.writerMode", "GRPC")
+                .withValue("blockStream.blockPeriod", Duration.ofSeconds(1))
+                .withValue("blockStream.blockBufferTtl", blockTtl)
+                .withValue("blockStream.blockBufferPruneInterval", Duration.ZERO) // disable auto pruning
+                .withValue("blockStream.blockBufferSpillEnabled", true)
+                .withValue("blockStream.blockBufferSpillDir", spillDir.toString())
+                .withValue("blockStream.blockBufferSpillSegmentSize", 4096)
+                .getOrCreateConfig();
+        when(configProvider.getConfiguration()).thenReturn(new VersionedConfigImpl(config, 1));
+        when(connectionManager.currentStreamingBlockNumber()).thenReturn(1L);
+
+        blockBufferService = new BlockBufferService(configProvider, blockStreamMetrics);
+        blockBufferService.setBlockNodeConnectionManager(connectionManager);
+        final ConcurrentMap<Long, BlockState> buffer = blockBuffer(blockBufferService);
+        final AtomicBoolean isBufferSaturated = isBufferSaturated(blockBufferService);
+
+        // IdealMaxBufferSize = BlockTtl (2s) / BlockPeriod (1s) = 2
+        for (long blockNumber = 1; blockNumber <= 5; ++blockNumber) {
+            blockBufferService.openBlock(blockNumber);
+            blockBufferService.addItem(blockNumber, newBlockHeaderItem());
+            blockBufferService.addItem(blockNumber, newBlockTxItem());
+            blockBufferService.addItem(blockNumber, newBlockProofItem());
+            blockBufferService.closeBlock(blockNumber);
+        }
+        final BlockState block4 = buffer.get(4L);
+
+        checkBufferHandle.invoke(blockBufferService);
+
+        // the block being streamed and the next block stay in memory, the blocks furthest ahead are moved to disk
+        assertThat(isBufferSaturated).isFalse();
+        assertThat(buffer).containsOnlyKeys(1L, 2L);
+        verify(blockStreamMetrics, times(3)).recordBlockSpilled(anyLong());
+        verify(blockStreamMetrics).updateBlockBufferTiers(eq(2L), eq(3L), anyLong());
+        verify(blockStreamMetrics).updateBlockBufferSaturation(100.0);
+
+        // a block that was moved to disk is read back when requested
+        final BlockState restoredBlock4 = blockBufferService.getBlockState(4L);
+        assertThat(restoredBlock4).isNotNull();
+        assertThat(restoredBlock4.items()).isEqualTo(block4.items());
+        assertThat(restoredBlock4.closedTimestamp()).isEqualTo(block4.closedTimestamp());
+        assertThat(buffer).containsKey(4L);
+        verify(blockStreamMetrics).recordBlockReplayed(anyLong());
+
+        // once all blocks are acknowledged and expired, they are removed from memory and disk
+        reset(blockStreamMetrics);
+        blockBufferService.setLatestAcknowledgedBlock(5L);
+        Thread.sleep(blockTtl.plusMillis(250));
+        checkBufferHandle.invoke(blockBufferService);
+        assertThat(buffer).isEmpty();
+        assertThat(blockBufferService.getBlockState(3L)).isNull();
+        verify(blockStreamMetrics).updateBlockBufferTiers(0L, 0L, 0L);
+        try (final Stream<Path> files = Files.list(spillDir)) {
+            assertThat(files).isEmpty();
+        }
+    }
+
+    @Test
+    void testBufferSaturatedWhenDiskBudgetExhausted(@TempDir final Path spillDir) throws Throwable {
+        final Configuration config = HederaTestConfigBuilder.create()
+                .withConfigDataType(BlockStreamConfig.class)
+                .withValue("blockStream.writerMode", "GRPC")
+                .withValue("blockStream.blockPeriod", Duration.ofSeconds(1))
+                .withValue("blockStream.blockBufferTtl", Duration.ofSeconds(2))
+                .withValue("blockStream.blockBufferPruneInterval", Duration.ZERO) // disable auto pruning
+                .withValue("blockStream.blockBufferSpillEnabled", true)
+                .withValue("blockStream.blockBufferSpillDir", spillDir.toString())
+                .withValue("blockStream.blockBufferSpillMaxDiskSize", 0)
+                .getOrCreateConfig();
+        when(configProvider.getConfiguration()).thenReturn(new VersionedConfigImpl(config, 1));
+
+        blockBufferService = new BlockBufferService(configProvider, blockStreamMetrics);
+        blockBufferService.setBlockNodeConnectionManager(connectionManager);
+        final ConcurrentMap<Long, BlockState> buffer = blockBuffer(blockBufferService);
+        final AtomicBoolean isBufferSaturated = isBufferSaturated(blockBufferService);
+
+        for (long blockNumber = 1; blockNumber <= 3; ++blockNumber) {
+            blockBufferService.openBlock(blockNumber);
+            blockBufferService.closeBlock(blockNumber);
+        }
+
+        checkBufferHandle.invoke(blockBufferService);
+
+        // no block could be moved to disk, so backpressure is applied
+        assertThat(isBufferSaturated).isTrue();
+        assertThat(buffer).hasSize(3);
+        verify(blockStreamMetrics, never()).recordBlockSpilled(anyLong());
+        verify(blockStreamMetrics).updateBlockBufferSaturation(150.0);
+    }
+
     // Utilities
 
     private AtomicLong highestAckedBlockNumber(final BlockBufferService bufferService) {
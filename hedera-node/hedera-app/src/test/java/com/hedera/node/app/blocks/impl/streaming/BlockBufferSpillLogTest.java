@@ -0,0 +1,182 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.node.app.blocks.impl.streaming;
+
+import static com.hedera.node.app.blocks.impl.streaming.BlockNodeCommunicationTestBase.newBlockProofItem;
+import static com.hedera.node.app.blocks.impl.streaming.BlockNodeCommunicationTestBase.newPreProofBlockStateChangesItem;
+import static java.util.Objects.requireNonNull;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.hedera.hapi.block.stream.Block;
+import com.hedera.hapi.block.stream.BlockItem;
+import com.hedera.hapi.block.stream.output.BlockHeader;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class BlockBufferSpillLogTest {
+
+    private static final long SEGMENT_SIZE = 1024;
+
+    @TempDir
+    private Path spillDir;
+
+    @Test
+    void testAppendAndRead() {
+        final BlockBufferSpillLog spillLog = new BlockBufferSpillLog(spillDir, SEGMENT_SIZE, 10 * SEGMENT_SIZE);
+        final Instant closedTimestamp = Instant.ofEpochSecond(1_234_567L, 890);
+        final List<BlockItem> items = blockItems(1L);
+
+        final int sizeBytes = spillLog.append(1L, closedTimestamp, serialize(items));
+
+        assertThat(sizeBytes).isPositive();
+        assertThat(spillLog.contains(1L)).isTrue();
+        assertThat(spillLog.contains(2L)).isFalse();
+        assertThat(spillLog.numBlocks()).isEqualTo(1);
+        assertThat(spillLog.sizeBytes()).isEqualTo(SEGMENT_SIZE);
+
+        final BlockBufferSpillLog.SpilledBlock spilledBlock = spillLog.read(1L);
+        assertThat(spilledBlock).isNotNull();
+        assertThat(spilledBlock.items()).isEqualTo(items);
+        assertThat(spilledBlock.closedTimestamp()).isEqualTo(closedTimestamp);
+        assertThat(spilledBlock.sizeBytes()).isEqualTo(sizeBytes);
+        assertThat(spillLog.read(2L)).isNull();
+    }
+
+    @Test
+    void testAppendWritesSameBytesAsSerializedBlock() {
+        final BlockBufferSpillLog spillLog = new BlockBufferSpillLog(spillDir, SEGMENT_SIZE, 10 * SEGMENT_SIZE);
+        final List<BlockItem> items = blockItems(1L);
+        final int expectedLength = (int)
+                Block.PROTOBUF.toBytes(Block.newBuilder().items(items).build()).length();
+
+        final int sizeBytes = spillLog.append(1L, Instant.now(), serialize(items));
+
+        assertThat(sizeBytes).isEqualTo(Long.BYTES + Long.BYTES + Integer.BYTES + Integer.BYTES + expectedLength);
+        assertThat(requireNonNull(spillLog.read(1L)).items()).isEqualTo(items);
+    }
+
+    @Test
+    void testSegmentsAreReusedOrDeletedWhenAcknowledged() throws IOException {
+        final BlockBufferSpillLog spillLog = new BlockBufferSpillLog(spillDir, SEGMENT_SIZE, 10 * SEGMENT_SIZE);
+        final Instant closedTimestamp = Instant.now();
+
+        // fill more than two segments
+        long blockNumber = 0;
+        while (spillLog.sizeBytes() < 3 * SEGMENT_SIZE) {
+            assertThat(spillLog.append(++blockNumber, closedTimestamp, serialize(blockItems(blockNumber))))
+                    .isPositive();
+        }
+        final long lastBlockNumber = blockNumber;
+        assertThat(segmentFiles()).hasSize(3);
+        assertThat(spillLog.oldestUnacknowledgedTimestamp(0L)).isEqualTo(closedTimestamp);
+
+        // blocks closed after the cutoff are kept
+        assertThat(spillLog.removeAcknowledged(lastBlockNumber, closedTimestamp)).isZero();
+
+        // emptying the first two segments keeps the first one for reuse and deletes the second one
+        final Instant cutoff = closedTimestamp.plusSeconds(1);
+        assertThat(spillLog.removeAcknowledged(lastBlockNumber - 1, cutoff)).isEqualTo((int) lastBlockNumber - 1);
+        assertThat(segmentFiles()).containsExactlyInAnyOrder(segmentFile(0), segmentFile(2));
+        assertThat(spillLog.numBlocks()).isEqualTo(1);
+        assertThat(spillLog.sizeBytes()).isEqualTo(2 * SEGMENT_SIZE);
+        assertThat(spillLog.read(lastBlockNumber)).isNotNull();
+        assertThat(spillLog.oldestUnacknowledgedTimestamp(lastBlockNumber)).isNull();
+
+        // once the newest segment is full, the free segment is reused instead of creating a new file
+        final int numBlocks = 2 * (int) (lastBlockNumber / 3);
+        for (int i = 0; i < numBlocks; i++) {
+            assertThat(spillLog.append(++blockNumber, closedTimestamp, serialize(blockItems(blockNumber))))
+                    .isPositive();
+        }
+        assertThat(segmentFiles()).containsExactlyInAnyOrder(segmentFile(0), segmentFile(2));
+        assertThat(spillLog.sizeBytes()).isEqualTo(2 * SEGMENT_SIZE);
+        assertThat(spillLog.read(blockNumber)).isNotNull();
+
+        // emptying the newest segment rewinds it, and the other one is kept for reuse
+        assertThat(spillLog.removeAcknowledged(blockNumber, cutoff)).isEqualTo(numBlocks + 1);
+        assertThat(segmentFiles()).hasSize(2);
+        assertThat(spillLog.numBlocks()).isZero();
+        assertThat(spillLog.isFull()).isFalse();
+
+        spillLog.clear();
+        assertThat(segmentFiles()).isEmpty();
+        assertThat(spillLog.sizeBytes()).isZero();
+    }
+
+    @Test
+    void testNotFullWhileNewestSegmentHasRoom() {
+        final BlockBufferSpillLog spillLog = new BlockBufferSpillLog(spillDir, SEGMENT_SIZE, SEGMENT_SIZE);
+
+        assertThat(spillLog.append(1L, Instant.now(), serialize(blockItems(1L)))).isPositive();
+
+        // there is no room for another segment file, but the next block still fits into the newest segment
+        assertThat(spillLog.sizeBytes()).isEqualTo(SEGMENT_SIZE);
+        assertThat(spillLog.isFull()).isFalse();
+    }
+
+    @Test
+    void testAppendFailsWhenDiskBudgetIsUsedUp() {
+        final BlockBufferSpillLog spillLog = new BlockBufferSpillLog(spillDir, SEGMENT_SIZE, SEGMENT_SIZE);
+        final Instant closedTimestamp = Instant.now();
+
+        long blockNumber = 0;
+        while (spillLog.append(++blockNumber, closedTimestamp, serialize(blockItems(blockNumber))) > 0) {
+            assertThat(blockNumber).isLessThan(SEGMENT_SIZE);
+        }
+
+        assertThat(spillLog.contains(blockNumber)).isFalse();
+        assertThat(spillLog.numBlocks()).isEqualTo((int) blockNumber - 1);
+        assertThat(spillLog.sizeBytes()).isEqualTo(SEGMENT_SIZE);
+        assertThat(spillLog.isFull()).isTrue();
+    }
+
+    @Test
+    void testStaleSegmentsAreDeleted() throws IOException {
+        final BlockBufferSpillLog spillLog = new BlockBufferSpillLog(spillDir, SEGMENT_SIZE, 10 * SEGMENT_SIZE);
+        spillLog.append(1L, Instant.now(), serialize(blockItems(1L)));
+        assertThat(segmentFiles()).hasSize(1);
+
+        final BlockBufferSpillLog newSpillLog = new BlockBufferSpillLog(spillDir, SEGMENT_SIZE, 10 * SEGMENT_SIZE);
+
+        assertThat(segmentFiles()).isEmpty();
+        assertThat(newSpillLog.contains(1L)).isFalse();
+    }
+
+    @Test
+    void testInvalidSegmentSize() {
+        assertThatThrownBy(() -> new BlockBufferSpillLog(spillDir, 8, SEGMENT_SIZE))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new BlockBufferSpillLog(spillDir, Integer.MAX_VALUE + 1L, SEGMENT_SIZE))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static List<BlockItem> blockItems(final long blockNumber) {
+        return List.of(
+                BlockItem.newBuilder()
+                        .blockHeader(BlockHeader.newBuilder().number(blockNumber).build())
+                        .build(),
+                newPreProofBlockStateChangesItem(),
+                newBlockProofItem());
+    }
+
+    private static List<Bytes> serialize(final List<BlockItem> items) {
+        return items.stream().map(BlockItem.PROTOBUF::toBytes).toList();
+    }
+
+    private Path segmentFile(final long segmentId) {
+        return spillDir.resolve("segment-" + segmentId + ".log");
+    }
+
+    private List<Path> segmentFiles() throws IOException {
+        try (final Stream<Path> files = Files.list(spillDir)) {
+            return files.toList();
+        }
+    }
+}
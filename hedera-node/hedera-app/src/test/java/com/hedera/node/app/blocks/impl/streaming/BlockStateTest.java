@@ -12,10 +12,12 @@ import com.hedera.hapi.block.stream.BlockItem;
 import com.hedera.node.app.blocks.impl.streaming.BlockState.ItemInfo;
 import com.hedera.node.app.blocks.impl.streaming.BlockState.ItemState;
 import com.hedera.node.app.blocks.impl.streaming.BlockState.RequestWrapper;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodHandles.Lookup;
 import java.lang.invoke.VarHandle;
 import java.time.Instant;
+import java.util.List;
 import java.util.Map;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentMap;
@@ -433,6 +435,27 @@ class BlockStateTest {
         assertThat(rw.isSent()).isTrue();
     }
 
+    @Test
+    void testEncodeItems() {
+        final BlockItem headerItem = newBlockHeaderItem();
+        final BlockItem txItem = newBlockTxItem();
+        final BlockItem proofItem = newBlockProofItem();
+
+        block.addItem(headerItem);
+        block.addItem(txItem);
+        block.processPendingItems(2);
+        block.addItem(proofItem);
+
+        final List<Bytes> encodedItems = block.encodeItems();
+
+        // items already packed into requests as well as pending items are encoded, in the order they were added
+        assertThat(encodedItems)
+                .containsExactly(
+                        BlockItem.PROTOBUF.toBytes(headerItem),
+                        BlockItem.PROTOBUF.toBytes(txItem),
+                        BlockItem.PROTOBUF.toBytes(proofItem));
+    }
+
     // Utilities
 
     private Queue<BlockItem> pendingItems() {
@@ -11,9 +11,11 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.when;
 
+import com.hedera.hapi.block.stream.Block;
 import com.hedera.hapi.block.stream.BlockItem;
 import com.hedera.hapi.block.stream.MerkleSiblingHash;
 import com.hedera.hapi.block.stream.input.RoundHeader;
+import com.hedera.hapi.block.stream.output.BlockHeader;
 import com.hedera.hapi.node.base.AccountID;
 import com.hedera.node.app.info.NodeInfoImpl;
 import com.hedera.node.config.ConfigProvider;
@@ -159,6 +161,41 @@ class FileBlockItemWriterTest {
         }
     }
 
+    @Test
+    protected void testWritePbjItemAndBytes() throws IOException {
+        when(configProvider.getConfiguration()).thenReturn(versionedConfiguration);
+        when(versionedConfiguration.getConfigData(BlockStreamConfig.class)).thenReturn(blockStreamConfig);
+        when(blockStreamConfig.blockFileDir()).thenReturn("N/A");
+        when(fileSystem.getPath(anyString())).thenReturn(tempDir);
+
+        FileBlockItemWriter fileBlockItemWriter = new FileBlockItemWriter(configProvider, selfNodeInfo, fileSystem);
+
+        // Open a block
+        fileBlockItemWriter.openBlock(1);
+
+        // Write an item along with its serialized form
+        final var item = BlockItem.newBuilder()
+                .blockHeader(BlockHeader.newBuilder().number(1L))
+                .build();
+        final var serializedItem = BlockItem.PROTOBUF.toBytes(item);
+        fileBlockItemWriter.writePbjItemAndBytes(item, serializedItem);
+
+        // Close the block
+        fileBlockItemWriter.closeCompleteBlock();
+
+        final Path expectedBlockFile =
+                tempDir.resolve("block-0.0.3").resolve("000000000000000000000000000000000001.blk.gz");
+        assertThat(Files.exists(expectedBlockFile)).isTrue();
+
+        // The serialized item is written as it is, which is the same as writing a block with the item
+        try (GZIPInputStream gzis = new GZIPInputStream(Files.newInputStream(expectedBlockFile))) {
+            final byte[] expectedBytes = Block.PROTOBUF
+                    .toBytes(Block.newBuilder().items(item).build())
+                    .toByteArray();
+            assertArrayEquals(expectedBytes, gzis.readAllBytes(), "Serialized item was not written correctly");
+        }
+    }
+
     @Test
     protected void testWriteItemBeforeOpen() {
         when(configProvider.getConfiguration()).thenReturn(versionedConfiguration);
@@ -0,0 +1,208 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.node.app.fees;
+
+import static com.hedera.hapi.node.base.HederaFunctionality.CRYPTO_TRANSFER;
+import static com.hedera.hapi.node.base.HederaFunctionality.UTIL_PRNG;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.hedera.hapi.node.base.AccountID;
+import com.hedera.hapi.node.base.HederaFunctionality;
+import com.hedera.hapi.node.base.Key;
+import com.hedera.hapi.node.base.SignatureMap;
+import com.hedera.hapi.node.base.Transaction;
+import com.hedera.hapi.node.base.TransactionID;
+import com.hedera.hapi.node.token.CryptoTransferTransactionBody;
+import com.hedera.hapi.node.transaction.ExchangeRate;
+import com.hedera.hapi.node.transaction.TransactionBody;
+import com.hedera.hapi.node.util.UtilPrngTransactionBody;
+import com.hedera.node.app.service.token.ReadableAccountStore;
+import com.hedera.node.app.spi.authorization.Authorizer;
+import com.hedera.node.app.spi.fees.FeeContext;
+import com.hedera.node.app.spi.fees.Fees;
+import com.hedera.node.app.store.ReadableStoreFactory;
+import com.hedera.node.app.workflows.TransactionInfo;
+import com.hedera.node.app.workflows.dispatcher.TransactionDispatcher;
+import com.hedera.node.config.VersionedConfigImpl;
+import com.hedera.node.config.VersionedConfiguration;
+import com.hedera.node.config.testfixtures.HederaTestConfigBuilder;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import com.swirlds.metrics.api.Counter;
+import com.swirlds.metrics.api.Metrics;
+import java.time.Instant;
+import java.time.InstantSource;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class FeeQuoteManagerTest {
+    private static final long CONFIG_VERSION = 1L;
+    private static final VersionedConfiguration DEFAULT_CONFIG =
+            new VersionedConfigImpl(HederaTestConfigBuilder.createConfig(), CONFIG_VERSION);
+    private static final VersionedConfiguration QUOTES_CONFIG = new VersionedConfigImpl(
+            HederaTestConfigBuilder.create()
+                    .withValue("fees.quotes.enabled", true)
+                    .getOrCreateConfig(),
+            CONFIG_VERSION);
+    private static final Instant NOW = Instant.ofEpochSecond(1_234_567, 890);
+    private static final AccountID PAYER_ID =
+            AccountID.newBuilder().accountNum(666L).build();
+    private static final Key PAYER_KEY =
+            Key.newBuilder().ed25519(Bytes.wrap(new byte[32])).build();
+    private static final Object FEE_SCHEDULE = Map.of();
+    private static final ExchangeRate RATE =
+            ExchangeRate.newBuilder().hbarEquiv(1).centEquiv(12).build();
+    private static final Fees FEES = new Fees(1L, 2L, 3L);
+
+    @Mock
+    private FeeManager feeManager;
+
+    @Mock
+    private ExchangeRateManager exchangeRateManager;
+
+    @Mock
+    private TransactionDispatcher dispatcher;
+
+    @Mock
+    private Authorizer authorizer;
+
+    @Mock
+    private Metrics metrics;
+
+    @Mock
+    private Counter quotesReused;
+
+    @Mock
+    private Counter quotesRecomputed;
+
+    @Mock
+    private ReadableStoreFactory storeFactory;
+
+    private FeeQuoteManager subject;
+
+    @BeforeEach
+    void setUp() {
+        given(metrics.getOrCreate(argThat((Counter.Config config) ->
+                        config != null && config.getName().equals("feeQuotesReused"))))
+                .willReturn(quotesReused);
+        given(metrics.getOrCreate(argThat((Counter.Config config) ->
+                        config != null && config.getName().equals("feeQuotesRecomputed"))))
+                .willReturn(quotesRecomputed);
+        subject = new FeeQuoteManager(
+                feeManager, exchangeRateManager, dispatcher, authorizer, InstantSource.fixed(NOW), metrics);
+    }
+
+    @Test
+    void quotesFeesOfConfiguredFunctionality() {
+        final var txInfo = txInfoWith(
+                TransactionBody.newBuilder().utilPrng(UtilPrngTransactionBody.DEFAULT), UTIL_PRNG);
+        givenFeeInputs(1L);
+        given(dispatcher.dispatchComputeFees(any())).willAnswer(invocation -> {
+            final FeeContext feeContext = invocation.getArgument(0);
+            assertThat(feeContext.body()).isSameAs(txInfo.txBody());
+            assertThat(feeContext.payer()).isEqualTo(PAYER_ID);
+            assertThat(feeContext.numTxnSignatures()).isEqualTo(2);
+            return FEES;
+        });
+
+        final var quote = subject.quote(txInfo, PAYER_KEY, 2, storeFactory, QUOTES_CONFIG);
+
+        assertThat(quote).isEqualTo(new FeeQuote(FEES, FEE_SCHEDULE, RATE, 1L, PAYER_KEY, 2, CONFIG_VERSION));
+    }
+
+    @Test
+    void doesNotQuoteFeesByDefault() {
+        final var txInfo = txInfoWith(
+                TransactionBody.newBuilder().utilPrng(UtilPrngTransactionBody.DEFAULT), UTIL_PRNG);
+
+        assertThat(subject.quote(txInfo, PAYER_KEY, 2, storeFactory, DEFAULT_CONFIG))
+                .isNull();
+        verifyNoInteractions(dispatcher);
+    }
+
+    @Test
+    void doesNotQuoteFeesOfOtherFunctionalities() {
+        final var txInfo = txInfoWith(
+                TransactionBody.newBuilder().cryptoTransfer(CryptoTransferTransactionBody.DEFAULT), CRYPTO_TRANSFER);
+
+        assertThat(subject.quote(txInfo, PAYER_KEY, 2, storeFactory, QUOTES_CONFIG))
+                .isNull();
+        verifyNoInteractions(dispatcher);
+    }
+
+    @Test
+    void doesNotQuoteFeesThatDependOnState() {
+        final var txInfo = txInfoWith(
+                TransactionBody.newBuilder().utilPrng(UtilPrngTransactionBody.DEFAULT), UTIL_PRNG);
+        givenFeeInputs(1L);
+        given(dispatcher.dispatchComputeFees(any())).willAnswer(invocation -> {
+            final FeeContext feeContext = invocation.getArgument(0);
+            feeContext.readableStore(ReadableAccountStore.class);
+            return FEES;
+        });
+
+        assertThat(subject.quote(txInfo, PAYER_KEY, 2, storeFactory, QUOTES_CONFIG))
+                .isNull();
+    }
+
+    @Test
+    void doesNotQuoteFeesIfTheCongestionMultiplierChanged() {
+        final var txInfo = txInfoWith(
+                TransactionBody.newBuilder().utilPrng(UtilPrngTransactionBody.DEFAULT), UTIL_PRNG);
+        given(feeManager.feeScheduleAt(NOW)).willReturn(FEE_SCHEDULE);
+        given(exchangeRateManager.activeRate(NOW)).willReturn(RATE);
+        given(feeManager.congestionMultiplierFor(txInfo.txBody(), UTIL_PRNG, storeFactory))
+                .willReturn(1L, 10L);
+        given(dispatcher.dispatchComputeFees(any())).willReturn(FEES);
+
+        assertThat(subject.quote(txInfo, PAYER_KEY, 2, storeFactory, QUOTES_CONFIG))
+                .isNull();
+    }
+
+    @Test
+    void reusesQuotedFeesOnlyIfInputsAreUnchanged() {
+        final var quote = new FeeQuote(FEES, FEE_SCHEDULE, RATE, 1L, PAYER_KEY, 2, CONFIG_VERSION);
+        given(feeManager.feeScheduleAt(NOW)).willReturn(FEE_SCHEDULE);
+        given(exchangeRateManager.activeRate(NOW)).willReturn(RATE);
+
+        assertThat(subject.reusableFees(quote, NOW, 1L, PAYER_KEY, 2, CONFIG_VERSION))
+                .isSameAs(FEES);
+        verify(quotesReused).increment();
+
+        assertThat(subject.reusableFees(quote, NOW, 10L, PAYER_KEY, 2, CONFIG_VERSION))
+                .isNull();
+        assertThat(subject.reusableFees(quote, NOW, 1L, Key.DEFAULT, 2, CONFIG_VERSION))
+                .isNull();
+        assertThat(subject.reusableFees(quote, NOW, 1L, PAYER_KEY, 1, CONFIG_VERSION))
+                .isNull();
+        assertThat(subject.reusableFees(quote, NOW, 1L, PAYER_KEY, 2, CONFIG_VERSION + 1))
+                .isNull();
+        verify(quotesRecomputed, times(4)).increment();
+
+        assertThat(subject.reusableFees(null, NOW, 1L, PAYER_KEY, 2, CONFIG_VERSION))
+                .isNull();
+    }
+
+    private void givenFeeInputs(final long congestionMultiplier) {
+        given(feeManager.feeScheduleAt(NOW)).willReturn(FEE_SCHEDULE);
+        given(exchangeRateManager.activeRate(NOW)).willReturn(RATE);
+        given(feeManager.congestionMultiplierFor(any(), any(), any())).willReturn(congestionMultiplier);
+    }
+
+    private static TransactionInfo txInfoWith(
+            final TransactionBody.Builder bodyBuilder, final HederaFunctionality functionality) {
+        final var body = bodyBuilder
+                .transactionID(TransactionID.newBuilder().accountID(PAYER_ID))
+                .build();
+        return new TransactionInfo(Transaction.DEFAULT, body, SignatureMap.DEFAULT, Bytes.EMPTY, functionality, null);
+    }
+}
@@ -13,8 +13,6 @@ import com.hedera.hapi.node.transaction.Query;
 import com.hedera.node.app.workflows.TransactionInfo;
 import com.swirlds.state.State;
 import java.time.InstantSource;
-import java.util.ArrayList;
-import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -43,7 +41,7 @@ class SynchronizedThrottleAccumulatorTest {
     void verifyCheckAndEnforceThrottleIsCalled() {
         // given
         final var state = mock(State.class);
-        final List<ThrottleUsage> usages = new ArrayList<>();
+        final var usages = new ThrottleUsageLedger();
 
         // when
         subject.shouldThrottle(transactionInfo, state, usages);
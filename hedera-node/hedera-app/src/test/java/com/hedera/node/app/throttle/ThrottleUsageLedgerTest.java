@@ -0,0 +1,54 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.node.app.throttle;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.hedera.node.app.hapi.utils.throttles.DeterministicThrottle;
+import com.hedera.node.app.hapi.utils.throttles.LeakyBucketDeterministicThrottle;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ThrottleUsageLedgerTest {
+    @Mock
+    private DeterministicThrottle throttle;
+
+    @Mock
+    private LeakyBucketDeterministicThrottle bucket;
+
+    private final ThrottleUsageLedger subject = new ThrottleUsageLedger();
+
+    @Test
+    void reclaimsAllRecordedUsagesOnce() {
+        // Record more usages than the initial capacity to also exercise growing the ledger
+        for (int i = 0; i < 20; i++) {
+            subject.recordThrottleUsage(throttle, 2);
+            subject.recordBucketUsage(bucket, 1_000L);
+        }
+        assertThat(subject.size()).isEqualTo(40);
+
+        subject.reclaimCapacity();
+        subject.reclaimCapacity();
+
+        verify(throttle, times(20)).leakInstantaneous(2);
+        verify(bucket, times(20)).leakUnusedGasPreviouslyReserved(1_000L);
+        assertThat(subject.size()).isZero();
+    }
+
+    @Test
+    void clearedUsagesAreNotReclaimed() {
+        subject.recordThrottleUsage(throttle, 1);
+        subject.recordBucketUsage(bucket, 1L);
+
+        subject.clear();
+        subject.reclaimCapacity();
+
+        verifyNoInteractions(throttle, bucket);
+        assertThat(subject.size()).isZero();
+    }
+}
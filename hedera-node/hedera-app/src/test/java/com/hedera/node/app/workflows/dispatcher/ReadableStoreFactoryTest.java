@@ -4,6 +4,8 @@ package com.hedera.node.app.workflows.dispatcher;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 import com.hedera.node.app.service.addressbook.ReadableNodeStore;
 import com.hedera.node.app.service.consensus.ReadableTopicStore;
@@ -19,6 +21,7 @@ import com.hedera.node.app.store.ReadableStoreFactory;
 import com.swirlds.state.State;
 import com.swirlds.state.spi.ReadableKVState;
 import com.swirlds.state.spi.ReadableStates;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
@@ -64,4 +67,23 @@ class ReadableStoreFactoryTest {
         // then
         assertThat(store).isInstanceOf(storeClass);
     }
+
+    @Test
+    void returnsCachedStoreOnRepeatedRequests() {
+        // given
+        given(readableStates.get(anyString())).willReturn(readableKVState);
+        given(state.getReadableStates(anyString())).willReturn(readableStates);
+        final ReadableStoreFactory subject = new ReadableStoreFactory(state);
+
+        // when
+        final var accountStore = subject.getStore(ReadableAccountStore.class);
+        final var tokenStore = subject.getStore(ReadableTokenStore.class);
+
+        // then
+        assertThat(subject.getStore(ReadableAccountStore.class)).isSameAs(accountStore);
+        assertThat(subject.getStore(ReadableTokenStore.class)).isSameAs(tokenStore);
+        assertThat(accountStore).isNotSameAs(tokenStore);
+        // two token service stores and a single entity id store
+        verify(state, times(3)).getReadableStates(anyString());
+    }
 }
@@ -29,6 +29,7 @@ import com.swirlds.state.spi.WritableKVState;
 import com.swirlds.state.spi.WritableStates;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
@@ -81,4 +82,19 @@ class WritableStoreFactoryImplTest {
         // then
         assertThat(store).isInstanceOf(storeClass);
     }
+
+    @Test
+    void returnsCachedStoreOnRepeatedRequests() {
+        // given
+        given(stack.getWritableStates(TokenService.NAME)).willReturn(writableStates);
+        final WritableStoreFactory subject =
+                new WritableStoreFactory(stack, TokenService.NAME, mock(WritableEntityCounters.class));
+
+        // when
+        final var accountStore = subject.getStore(WritableAccountStore.class);
+
+        // then
+        assertThat(subject.getStore(WritableAccountStore.class)).isSameAs(accountStore);
+        assertThat(subject.getStore(WritableTokenStore.class)).isNotSameAs(accountStore);
+    }
 }
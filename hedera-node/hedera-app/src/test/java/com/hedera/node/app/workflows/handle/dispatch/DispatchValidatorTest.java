@@ -490,7 +490,8 @@ class DispatchValidatorTest {
             Collections.emptySet(),
             null,
             null,
-            0);
+            0,
+            null);
     private static final PreHandleResult SUCCESSFUL_PREHANDLE = new PreHandleResult(
             null,
             null,
@@ -502,7 +503,8 @@ class DispatchValidatorTest {
             Collections.emptySet(),
             null,
             null,
-            0);
+            0,
+            null);
     private static final PreHandleResult UNSUCCESSFUL_PREHANDLE = new PreHandleResult(
             null,
             null,
@@ -514,7 +516,8 @@ class DispatchValidatorTest {
             Collections.emptySet(),
             null,
             null,
-            0);
+            0,
+            null);
 
     private static final TransactionBody TXN_BODY = TransactionBody.newBuilder()
             .transactionID(
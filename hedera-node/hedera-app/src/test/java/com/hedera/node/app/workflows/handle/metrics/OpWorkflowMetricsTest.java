@@ -13,6 +13,7 @@ import com.hedera.node.config.ConfigProvider;
 import com.hedera.node.config.VersionedConfigImpl;
 import com.hedera.node.config.testfixtures.HederaTestConfigBuilder;
 import com.swirlds.metrics.api.Counter;
+import com.swirlds.metrics.api.Histogram;
 import com.swirlds.metrics.api.Metrics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -42,8 +43,8 @@ class OpWorkflowMetricsTest {
         // then
         // subtract 1 to exclude HederaFunctionality.NONE
         // multiply by 3 to account for max, avg, and throttle metrics which are created for each functionality
-        // add 1 to account for gasPerConsSec metric which is not functionality specific
-        final int transactionMetricsCount = ((HederaFunctionality.values().length - 1) * 3) + 1;
+        // add 2 to account for gasPerConsSec and handleDuration metrics which are not functionality specific
+        final int transactionMetricsCount = ((HederaFunctionality.values().length - 1) * 3) + 2;
         assertThat(metrics.findMetricsByCategory("app")).hasSize(transactionMetricsCount);
     }
 
@@ -130,6 +131,23 @@ class OpWorkflowMetricsTest {
                 .isEqualTo(7);
     }
 
+    @Test
+    void testUpdateHandleDuration() {
+        // given
+        final var handleWorkflowMetrics = new OpWorkflowMetrics(metrics, configProvider);
+
+        // when
+        handleWorkflowMetrics.updateHandleDuration(HederaFunctionality.CRYPTO_CREATE, 42);
+        handleWorkflowMetrics.updateHandleDuration(HederaFunctionality.CRYPTO_CREATE, 3L * Integer.MAX_VALUE);
+
+        // then
+        assertThat(metrics.getMetric("app", "cryptoCreateDurationMax").get(VALUE))
+                .isEqualTo(Integer.MAX_VALUE);
+        final var histogram = (Histogram) metrics.getMetric("app", "handleDuration");
+        assertThat(histogram.getSnapshot().count()).isEqualTo(2L);
+        assertThat(histogram.getSnapshot().percentile(0.5)).isEqualTo(47L);
+    }
+
     @Test
     void testIncrementThrottled() {
         // given
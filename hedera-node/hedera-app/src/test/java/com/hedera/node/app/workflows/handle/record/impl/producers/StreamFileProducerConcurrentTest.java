@@ -1,19 +1,185 @@
 // SPDX-License-Identifier: Apache-2.0
 package com.hedera.node.app.workflows.handle.record.impl.producers;
 
+import static com.hedera.node.app.records.RecordTestData.STARTING_RUNNING_HASH_OBJ;
+import static com.hedera.node.app.records.RecordTestData.TEST_BLOCKS;
 import static com.hedera.node.app.records.RecordTestData.VERSION;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
 
+import com.hedera.hapi.node.base.SemanticVersion;
+import com.hedera.hapi.node.state.blockrecords.RunningHashes;
+import com.hedera.hapi.streams.HashObject;
 import com.hedera.node.app.records.impl.BlockRecordStreamProducer;
+import com.hedera.node.app.records.impl.producers.BlockRecordWriter;
 import com.hedera.node.app.records.impl.producers.BlockRecordWriterFactory;
+import com.hedera.node.app.records.impl.producers.SerializedSingleTransactionRecord;
 import com.hedera.node.app.records.impl.producers.StreamFileProducerConcurrent;
 import com.hedera.node.app.records.impl.producers.formats.v6.BlockRecordFormatV6;
+import com.hedera.node.config.ConfigProvider;
+import com.hedera.node.config.VersionedConfigImpl;
+import com.hedera.node.config.testfixtures.HederaTestConfigBuilder;
+import com.swirlds.common.metrics.noop.NoOpMetrics;
+import com.swirlds.metrics.api.Counter;
+import com.swirlds.metrics.api.Metrics;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
 
 final class StreamFileProducerConcurrentTest extends StreamFileProducerTest {
+    private final List<ExecutorService> executors = new CopyOnWriteArrayList<>();
+
+    @AfterEach
+    void shutDownExecutors() {
+        executors.forEach(ExecutorService::shutdownNow);
+    }
+
     @Override
     BlockRecordStreamProducer createStreamProducer(@NonNull final BlockRecordWriterFactory factory) {
+        return createStreamProducer(factory, HederaTestConfigBuilder.createConfigProvider(), new NoOpMetrics());
+    }
+
+    @Test
+    @DisplayName("Handle waits for the writer once the write queue is full, and resumes after a write")
+    void handleWaitsForWriterAtQueueCapacity() throws Exception {
+        final var writeStarted = new CountDownLatch(1);
+        final var writeAllowed = new CountDownLatch(1);
+        final var counter = mock(Counter.class);
+        final var subject = createStreamProducer(
+                () -> new BlockRecordWriterStub() {
+                    @Override
+                    public void writeItem(@NonNull final SerializedSingleTransactionRecord item) {
+                        writeStarted.countDown();
+                        try {
+                            writeAllowed.await();
+                        } catch (final InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                    }
+                },
+                configProviderWithQueueCapacity(1),
+                metricsWith(counter));
+        final var records = TEST_BLOCKS.get(0);
+        subject.initRunningHash(new RunningHashes(STARTING_RUNNING_HASH_OBJ.hash(), null, null, null));
+        subject.switchBlocks(0, 1, Instant.now());
+
+        // The first transaction takes the only permit, and its write blocks on the writer thread
+        subject.writeRecordStreamItems(Stream.of(records.get(0)));
+        assertThat(writeStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        verify(counter, never()).increment();
+
+        // The second transaction has to wait for the first one to be written
+        final var secondWrite = onHandleThread(() -> subject.writeRecordStreamItems(Stream.of(records.get(1))));
+        verify(counter, timeout(5_000)).increment();
+        assertThat(secondWrite).isNotDone();
+
+        writeAllowed.countDown();
+        secondWrite.get(5, TimeUnit.SECONDS);
+        subject.close();
+    }
+
+    @Test
+    @DisplayName("A failed write still releases its place in the write queue")
+    void failedWriteReleasesPermit() throws Exception {
+        final var subject = createStreamProducer(
+                () -> new BlockRecordWriterStub() {
+                    @Override
+                    public void init(
+                            @NonNull final SemanticVersion hapiProtoVersion,
+                            @NonNull final HashObject startRunningHash,
+                            @NonNull final Instant startConsensusTime,
+                            final long blockNumber) {
+                        throw new IllegalStateException("The record file cannot be created");
+                    }
+                },
+                configProviderWithQueueCapacity(1),
+                new NoOpMetrics());
+        final var records = TEST_BLOCKS.get(0);
+        subject.initRunningHash(new RunningHashes(STARTING_RUNNING_HASH_OBJ.hash(), null, null, null));
+        subject.switchBlocks(0, 1, Instant.now());
+
+        // Every write fails because there is no writer, but none of them may leave handle waiting for a permit
+        final var writes = onHandleThread(() -> {
+            subject.writeRecordStreamItems(Stream.of(records.get(0)));
+            subject.writeRecordStreamItems(Stream.of(records.get(1)));
+            subject.writeRecordStreamItems(Stream.of(records.get(2)));
+        });
+        writes.get(5, TimeUnit.SECONDS);
+    }
+
+    private BlockRecordStreamProducer createStreamProducer(
+            @NonNull final BlockRecordWriterFactory factory,
+            @NonNull final ConfigProvider configProvider,
+            @NonNull final Metrics metrics) {
+        final var writerExecutor = Executors.newSingleThreadExecutor();
+        executors.add(writerExecutor);
         return new StreamFileProducerConcurrent(
-                BlockRecordFormatV6.INSTANCE, factory, ForkJoinPool.commonPool(), VERSION);
+                BlockRecordFormatV6.INSTANCE,
+                factory,
+                ForkJoinPool.commonPool(),
+                writerExecutor,
+                VERSION,
+                configProvider,
+                metrics);
+    }
+
+    /**
+     * Runs the given work on its own thread, so a blocked handle thread does not hold up any thread of the common pool
+     * the producer serializes and hashes records on.
+     */
+    private CompletableFuture<Void> onHandleThread(@NonNull final Runnable work) {
+        final var handleExecutor = Executors.newSingleThreadExecutor();
+        executors.add(handleExecutor);
+        return CompletableFuture.runAsync(work, handleExecutor);
+    }
+
+    private static ConfigProvider configProviderWithQueueCapacity(final int queueCapacity) {
+        final var config = HederaTestConfigBuilder.create()
+                .withValue("hedera.recordStream.queueCapacity", queueCapacity)
+                .getOrCreateConfig();
+        return () -> new VersionedConfigImpl(config, 1);
+    }
+
+    private static Metrics metricsWith(@NonNull final Counter counter) {
+        final var metrics = mock(Metrics.class);
+        given(metrics.getOrCreate(any(Counter.Config.class))).willReturn(counter);
+        return metrics;
+    }
+
+    private static class BlockRecordWriterStub implements BlockRecordWriter {
+        @Override
+        public void init(
+                @NonNull final SemanticVersion hapiProtoVersion,
+                @NonNull final HashObject startRunningHash,
+                @NonNull final Instant startConsensusTime,
+                final long blockNumber) {
+            // Nothing to do
+        }
+
+        @Override
+        public void writeItem(@NonNull final SerializedSingleTransactionRecord item) {
+            // Nothing to do
+        }
+
+        @Override
+        public void close(@NonNull final HashObject endRunningHash) {
+            // Nothing to do
+        }
     }
 }
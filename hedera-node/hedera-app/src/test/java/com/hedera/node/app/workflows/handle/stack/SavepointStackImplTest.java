@@ -31,6 +31,7 @@ import com.swirlds.state.test.fixtures.MapWritableKVState;
 import com.swirlds.state.test.fixtures.MapWritableStates;
 import com.swirlds.state.test.fixtures.StateTestBase;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Objects;
 import java.util.function.Predicate;
@@ -653,6 +654,80 @@ class SavepointStackImplTest extends StateTestBase {
         }
     }
 
+    @Nested
+    @DisplayName("Tests for changing the same keys in several savepoints")
+    class NestedChangeTests {
+        @Test
+        void testRollbacksRestoreValuesOfLowerSavepoints() {
+            // given
+            final var stack = SavepointStackImpl.newRootStack(
+                    baseState, 3, 50, roundStateChangeListener, kvStateChangeListener, streamMode);
+            final var writableStatesStack = stack.getWritableStates(FOOD_SERVICE);
+            final var fruits = writableStatesStack.<String, String>get(FRUIT_STATE_KEY);
+            stack.createSavepoint();
+            fruits.put(A_KEY, ACAI);
+            stack.createSavepoint();
+            fruits.remove(A_KEY);
+            fruits.put(B_KEY, BLUEBERRY);
+            final var keysWithoutA = new HashSet<String>();
+            fruits.keys().forEachRemaining(keysWithoutA::add);
+            stack.createSavepoint();
+            fruits.put(A_KEY, CHERRY);
+
+            // then
+            final var topData = new HashMap<>(BASE_DATA);
+            topData.put(A_KEY, CHERRY);
+            topData.put(B_KEY, BLUEBERRY);
+            assertThat(keysWithoutA).containsExactlyInAnyOrder(B_KEY, C_KEY, D_KEY, E_KEY, F_KEY, G_KEY);
+            assertThat(writableStatesStack).has(content(topData));
+
+            // when
+            stack.rollback();
+
+            // then
+            final var removedData = new HashMap<>(BASE_DATA);
+            removedData.remove(A_KEY);
+            removedData.put(B_KEY, BLUEBERRY);
+            assertThat(fruits.get(A_KEY)).isNull();
+            assertThat(writableStatesStack).has(content(removedData));
+
+            // when
+            stack.rollback();
+            stack.commit();
+
+            // then
+            final var committedData = new HashMap<>(BASE_DATA);
+            committedData.put(A_KEY, ACAI);
+            assertThat(stack.depth()).isEqualTo(1);
+            assertThat(writableStatesStack).has(content(committedData));
+            assertThat(stack.rootStates(FOOD_SERVICE)).has(content(BASE_DATA));
+        }
+
+        @Test
+        void testCommitsKeepOrderOfFirstModification() {
+            // given
+            final var stack = SavepointStackImpl.newRootStack(
+                    baseState, 3, 50, roundStateChangeListener, kvStateChangeListener, streamMode);
+            final var fruits = stack.getWritableStates(FOOD_SERVICE).<String, String>get(FRUIT_STATE_KEY);
+            fruits.put(C_KEY, CRANBERRY);
+            stack.createSavepoint();
+            fruits.put(A_KEY, ACAI);
+            stack.createSavepoint();
+            fruits.put(B_KEY, BLUEBERRY);
+            fruits.put(C_KEY, CHERRY);
+            fruits.remove(A_KEY);
+
+            // when
+            stack.commit();
+            stack.commit();
+
+            // then
+            assertThat(fruits.modifiedKeys()).containsExactly(C_KEY, A_KEY, B_KEY);
+            assertThat(fruits.get(A_KEY)).isNull();
+            assertThat(fruits.get(C_KEY)).isEqualTo(CHERRY);
+        }
+    }
+
     @Nested
     @DisplayName("Tests for committing the full stack")
     class FullStackCommitTests {
@@ -32,6 +32,7 @@ import com.hedera.node.app.blocks.impl.KVStateChangeListener;
 import com.hedera.node.app.blocks.impl.PairedStreamBuilder;
 import com.hedera.node.app.fees.ExchangeRateManager;
 import com.hedera.node.app.fees.FeeManager;
+import com.hedera.node.app.fees.FeeQuoteManager;
 import com.hedera.node.app.records.BlockRecordManager;
 import com.hedera.node.app.service.consensus.impl.ConsensusServiceImpl;
 import com.hedera.node.app.services.ServiceScopeLookup;
@@ -138,6 +139,9 @@ class ParentTxnTest {
     @Mock
     private TransactionChecker transactionChecker;
 
+    @Mock
+    private FeeQuoteManager feeQuoteManager;
+
     @Mock
     private Consumer<StateSignatureTransaction> stateSignatureTxnCallback;
 
@@ -273,6 +277,7 @@ class ParentTxnTest {
                 blockStreamManager,
                 childDispatchFactory,
                 softwareVersionFactory,
-                transactionChecker);
+                transactionChecker,
+                feeQuoteManager);
     }
 }
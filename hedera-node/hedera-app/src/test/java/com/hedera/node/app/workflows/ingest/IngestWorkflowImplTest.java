@@ -43,7 +43,6 @@ import com.hedera.pbj.runtime.io.buffer.Bytes;
 import com.swirlds.common.utility.AutoCloseableWrapper;
 import com.swirlds.state.State;
 import edu.umd.cs.findbugs.annotations.NonNull;
-import java.util.List;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 import org.hiero.consensus.model.status.PlatformStatus;
@@ -128,7 +127,6 @@ class IngestWorkflowImplTest extends AppTestBase {
                 null);
         doAnswer(invocationOnMock -> {
                     final var result = invocationOnMock.getArgument(3, IngestChecker.Result.class);
-                    result.setThrottleUsages(List.of());
                     result.setTxnInfo(transactionInfo);
                     return null;
                 })
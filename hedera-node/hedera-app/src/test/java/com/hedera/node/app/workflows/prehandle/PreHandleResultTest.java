@@ -47,7 +47,8 @@ final class PreHandleResultTest implements Scenarios {
             Set.of(ERIN.account()),
             Map.of(),
             null,
-            1L);
+            1L,
+            null);
 
     @Mock
     private PreHandleContext context;
@@ -118,7 +119,8 @@ final class PreHandleResultTest implements Scenarios {
                             Set.of(),
                             DEFAULT_VERIFICATION_RESULTS,
                             List.of(innerResult),
-                            DEFAULT_CONFIG_VERSION))
+                            DEFAULT_CONFIG_VERSION,
+                            null))
                     .isInstanceOf(NullPointerException.class);
         }
 
@@ -141,7 +143,8 @@ final class PreHandleResultTest implements Scenarios {
                             Set.of(),
                             DEFAULT_VERIFICATION_RESULTS,
                             List.of(innerResult),
-                            DEFAULT_CONFIG_VERSION))
+                            DEFAULT_CONFIG_VERSION,
+                            null))
                     .isInstanceOf(NullPointerException.class);
         }
 
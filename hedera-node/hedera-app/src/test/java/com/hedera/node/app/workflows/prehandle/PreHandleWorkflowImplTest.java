@@ -27,9 +27,13 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import com.hedera.hapi.node.base.Key;
 import com.hedera.hapi.node.base.ResponseCodeEnum;
 import com.hedera.hapi.node.state.common.EntityNumber;
 import com.hedera.hapi.node.state.entity.EntityCounts;
+import com.hedera.hapi.node.transaction.ExchangeRate;
+import com.hedera.node.app.fees.FeeQuote;
+import com.hedera.node.app.fees.FeeQuoteManager;
 import com.hedera.node.app.fixtures.AppTestBase;
 import com.hedera.node.app.fixtures.state.FakeState;
 import com.hedera.node.app.ids.EntityIdService;
@@ -41,6 +45,7 @@ import com.hedera.node.app.signature.SignatureExpander;
 import com.hedera.node.app.signature.SignatureVerificationFuture;
 import com.hedera.node.app.signature.SignatureVerifier;
 import com.hedera.node.app.signature.impl.SignatureVerificationImpl;
+import com.hedera.node.app.spi.fees.Fees;
 import com.hedera.node.app.spi.fixtures.Scenarios;
 import com.hedera.node.app.spi.workflows.PreCheckException;
 import com.hedera.node.app.spi.workflows.PreHandleContext;
@@ -112,6 +117,10 @@ final class PreHandleWorkflowImplTest extends AppTestBase implements Scenarios {
     @Mock
     private DeduplicationCache deduplicationCache;
 
+    /** We use a mocked {@link FeeQuoteManager}, so no fees are quoted. */
+    @Mock
+    private FeeQuoteManager feeQuoteManager;
+
     /** We use a real functional store factory with our standard test data set. Needed by the workflow. */
     private ReadableStoreFactory storeFactory;
 
@@ -154,7 +163,8 @@ final class PreHandleWorkflowImplTest extends AppTestBase implements Scenarios {
                 signatureVerifier,
                 signatureExpander,
                 configProvider,
-                deduplicationCache);
+                deduplicationCache,
+                feeQuoteManager);
     }
 
     /**
@@ -596,7 +606,8 @@ final class PreHandleWorkflowImplTest extends AppTestBase implements Scenarios {
                     Set.of(),
                     Map.of(payerKey, sigFuture),
                     null,
-                    DEFAULT_CONFIG_VERSION + 1);
+                    DEFAULT_CONFIG_VERSION + 1,
+                    feeQuoteWith(payerKey, DEFAULT_CONFIG_VERSION + 1));
 
             // When we pre-handle the transaction
             final var result = workflow.preHandleAllTransactions(
@@ -618,6 +629,9 @@ final class PreHandleWorkflowImplTest extends AppTestBase implements Scenarios {
             assertThat(result.txInfo()).isNotNull();
             assertThat(result.txInfo()).isSameAs(txInfo);
             assertThat(result.configVersion()).isEqualTo(DEFAULT_CONFIG_VERSION);
+            // And the fees quoted with the previous configuration are dropped, without quoting them again
+            assertThat(result.feeQuote()).isNull();
+            verifyNoInteractions(feeQuoteManager);
             // And we do see this transaction registered with the deduplication cache
             verify(deduplicationCache).add(txInfo.txBody().transactionIDOrThrow());
         }
@@ -648,7 +662,8 @@ final class PreHandleWorkflowImplTest extends AppTestBase implements Scenarios {
                     Set.of(),
                     Map.of(payerKey, sigFuture),
                     new ArrayList<>(),
-                    DEFAULT_CONFIG_VERSION + 1);
+                    DEFAULT_CONFIG_VERSION + 1,
+                    null);
 
             // When we pre-handle the transaction
             final var result = workflow.preHandleAllTransactions(
@@ -700,7 +715,8 @@ final class PreHandleWorkflowImplTest extends AppTestBase implements Scenarios {
                     Set.of(),
                     Map.of(payerKey, sigFuture),
                     null,
-                    DEFAULT_CONFIG_VERSION);
+                    DEFAULT_CONFIG_VERSION,
+                    feeQuoteWith(payerKey, DEFAULT_CONFIG_VERSION));
 
             // When we pre-handle the transaction
             final var result = workflow.preHandleAllTransactions(
@@ -722,6 +738,7 @@ final class PreHandleWorkflowImplTest extends AppTestBase implements Scenarios {
             assertThat(result.txInfo()).isNotNull();
             assertThat(result.txInfo()).isSameAs(previousResult.txInfo());
             assertThat(result.configVersion()).isEqualTo(DEFAULT_CONFIG_VERSION);
+            assertThat(result.feeQuote()).isSameAs(previousResult.feeQuote());
             // And we do see this transaction registered with the deduplication cache
             verifyNoInteractions(deduplicationCache);
         }
@@ -816,4 +833,8 @@ final class PreHandleWorkflowImplTest extends AppTestBase implements Scenarios {
             verify(deduplicationCache).add(txInfo.txBody().transactionIDOrThrow());
         }
     }
+
+    private static FeeQuote feeQuoteWith(final Key payerKey, final long configVersion) {
+        return new FeeQuote(new Fees(1L, 2L, 3L), Map.of(), ExchangeRate.DEFAULT, 1L, payerKey, 1, configVersion);
+    }
 }
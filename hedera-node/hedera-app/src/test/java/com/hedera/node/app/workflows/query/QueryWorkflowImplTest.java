@@ -26,6 +26,7 @@ import static org.mockito.Mock.Strictness.LENIENT;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -73,11 +74,11 @@ import com.hedera.pbj.runtime.io.ReadableSequentialData;
 import com.hedera.pbj.runtime.io.buffer.BufferedData;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
 import com.swirlds.common.utility.AutoCloseableWrapper;
+import com.swirlds.metrics.api.Counter;
 import com.swirlds.state.State;
 import io.grpc.Status;
 import io.grpc.StatusRuntimeException;
 import java.time.InstantSource;
-import java.util.List;
 import java.util.function.Function;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -140,6 +141,7 @@ class QueryWorkflowImplTest extends AppTestBase {
     @Mock
     private OpWorkflowMetrics opWorkflowMetrics;
 
+    private QueryResponseCache queryResponseCache;
     private VersionedConfiguration configuration;
     private Bytes serializedPayment;
     private TransactionBody txBody;
@@ -167,6 +169,7 @@ class QueryWorkflowImplTest extends AppTestBase {
 
         configuration = new VersionedConfigImpl(HederaTestConfigBuilder.createConfig(), DEFAULT_CONFIG_VERSION);
         when(configProvider.getConfiguration()).thenReturn(configuration);
+        queryResponseCache = new QueryResponseCache(configProvider, metrics);
 
         when(feeManager.createFeeCalculator(eq(FILE_GET_INFO), any(), any())).thenReturn(feeCalculator);
 
@@ -175,7 +178,6 @@ class QueryWorkflowImplTest extends AppTestBase {
                 payment, txBody, signatureMap, payment.signedTransactionBytes(), CRYPTO_TRANSFER, serializedPayment);
         doAnswer(invocationOnMock -> {
                     final var result = invocationOnMock.getArgument(3, IngestChecker.Result.class);
-                    result.setThrottleUsages(List.of());
                     result.setTxnInfo(transactionInfo);
                     return null;
                 })
@@ -216,6 +218,7 @@ class QueryWorkflowImplTest extends AppTestBase {
                 synchronizedThrottleAccumulator,
                 instantSource,
                 opWorkflowMetrics,
+                queryResponseCache,
                 true);
     }
 
@@ -242,6 +245,7 @@ class QueryWorkflowImplTest extends AppTestBase {
                         synchronizedThrottleAccumulator,
                         instantSource,
                         opWorkflowMetrics,
+                        queryResponseCache,
                         true))
                 .isInstanceOf(NullPointerException.class);
         assertThatThrownBy(() -> new QueryWorkflowImpl(
@@ -259,6 +263,7 @@ class QueryWorkflowImplTest extends AppTestBase {
                         synchronizedThrottleAccumulator,
                         instantSource,
                         opWorkflowMetrics,
+                        queryResponseCache,
                         true))
                 .isInstanceOf(NullPointerException.class);
         assertThatThrownBy(() -> new QueryWorkflowImpl(
@@ -276,6 +281,7 @@ class QueryWorkflowImplTest extends AppTestBase {
                         synchronizedThrottleAccumulator,
                         instantSource,
                         opWorkflowMetrics,
+                        queryResponseCache,
                         true))
                 .isInstanceOf(NullPointerException.class);
         assertThatThrownBy(() -> new QueryWorkflowImpl(
@@ -293,6 +299,7 @@ class QueryWorkflowImplTest extends AppTestBase {
                         synchronizedThrottleAccumulator,
                         instantSource,
                         opWorkflowMetrics,
+                        queryResponseCache,
                         true))
                 .isInstanceOf(NullPointerException.class);
         assertThatThrownBy(() -> new QueryWorkflowImpl(
@@ -310,6 +317,7 @@ class QueryWorkflowImplTest extends AppTestBase {
                         synchronizedThrottleAccumulator,
                         instantSource,
                         opWorkflowMetrics,
+                        queryResponseCache,
                         true))
                 .isInstanceOf(NullPointerException.class);
         assertThatThrownBy(() -> new QueryWorkflowImpl(
@@ -327,6 +335,7 @@ class QueryWorkflowImplTest extends AppTestBase {
                         synchronizedThrottleAccumulator,
                         instantSource,
                         opWorkflowMetrics,
+                        queryResponseCache,
                         true))
                 .isInstanceOf(NullPointerException.class);
         assertThatThrownBy(() -> new QueryWorkflowImpl(
@@ -344,6 +353,7 @@ class QueryWorkflowImplTest extends AppTestBase {
                         synchronizedThrottleAccumulator,
                         instantSource,
                         opWorkflowMetrics,
+                        queryResponseCache,
                         true))
                 .isInstanceOf(NullPointerException.class);
         assertThatThrownBy(() -> new QueryWorkflowImpl(
@@ -361,6 +371,7 @@ class QueryWorkflowImplTest extends AppTestBase {
                         synchronizedThrottleAccumulator,
                         instantSource,
                         opWorkflowMetrics,
+                        queryResponseCache,
                         true))
                 .isInstanceOf(NullPointerException.class);
         assertThatThrownBy(() -> new QueryWorkflowImpl(
@@ -378,6 +389,7 @@ class QueryWorkflowImplTest extends AppTestBase {
                         synchronizedThrottleAccumulator,
                         instantSource,
                         opWorkflowMetrics,
+                        queryResponseCache,
                         true))
                 .isInstanceOf(NullPointerException.class);
         assertThatThrownBy(() -> new QueryWorkflowImpl(
@@ -395,6 +407,7 @@ class QueryWorkflowImplTest extends AppTestBase {
                         synchronizedThrottleAccumulator,
                         instantSource,
                         opWorkflowMetrics,
+                        queryResponseCache,
                         true))
                 .isInstanceOf(NullPointerException.class);
         assertThatThrownBy(() -> new QueryWorkflowImpl(
@@ -412,6 +425,7 @@ class QueryWorkflowImplTest extends AppTestBase {
                         synchronizedThrottleAccumulator,
                         instantSource,
                         opWorkflowMetrics,
+                        queryResponseCache,
                         true))
                 .isInstanceOf(NullPointerException.class);
         assertThatThrownBy(() -> new QueryWorkflowImpl(
@@ -429,6 +443,7 @@ class QueryWorkflowImplTest extends AppTestBase {
                         null,
                         instantSource,
                         opWorkflowMetrics,
+                        queryResponseCache,
                         true))
                 .isInstanceOf(NullPointerException.class);
         assertThatThrownBy(() -> new QueryWorkflowImpl(
@@ -446,6 +461,7 @@ class QueryWorkflowImplTest extends AppTestBase {
                         synchronizedThrottleAccumulator,
                         null,
                         opWorkflowMetrics,
+                        queryResponseCache,
                         true))
                 .isInstanceOf(NullPointerException.class);
         assertThatThrownBy(() -> new QueryWorkflowImpl(
@@ -463,6 +479,25 @@ class QueryWorkflowImplTest extends AppTestBase {
                         synchronizedThrottleAccumulator,
                         instantSource,
                         null,
+                        queryResponseCache,
+                        true))
+                .isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> new QueryWorkflowImpl(
+                        stateAccessor,
+                        submissionManager,
+                        queryChecker,
+                        ingestChecker,
+                        dispatcher,
+                        queryParser,
+                        configProvider,
+                        recordCache,
+                        authorizer,
+                        exchangeRateManager,
+                        feeManager,
+                        synchronizedThrottleAccumulator,
+                        instantSource,
+                        opWorkflowMetrics,
+                        null,
                         true))
                 .isInstanceOf(NullPointerException.class);
         verify(opWorkflowMetrics, never()).incrementThrottled(any());
@@ -500,6 +535,7 @@ class QueryWorkflowImplTest extends AppTestBase {
                 synchronizedThrottleAccumulator,
                 instantSource,
                 opWorkflowMetrics,
+                queryResponseCache,
                 shouldCharge);
         final var responseBuffer = newEmptyBuffer();
         // when
@@ -520,7 +556,6 @@ class QueryWorkflowImplTest extends AppTestBase {
     void testSuccessIfPaymentRequired(boolean shouldCharge) throws ParseException, PreCheckException {
         doAnswer(invocationOnMock -> {
                     final var result = invocationOnMock.getArgument(3, IngestChecker.Result.class);
-                    result.setThrottleUsages(List.of());
                     result.setTxnInfo(transactionInfo);
                     return null;
                 })
@@ -542,6 +577,7 @@ class QueryWorkflowImplTest extends AppTestBase {
                 synchronizedThrottleAccumulator,
                 instantSource,
                 opWorkflowMetrics,
+                queryResponseCache,
                 shouldCharge);
         given(handler.computeFees(any(QueryContext.class))).willReturn(new Fees(100L, 0L, 100L));
         given(handler.requiresNodePayment(any())).willReturn(true);
@@ -570,7 +606,6 @@ class QueryWorkflowImplTest extends AppTestBase {
     void testSuccessIfPaymentRequiredAndNotProvided() throws ParseException, PreCheckException {
         doAnswer(invocationOnMock -> {
                     final var result = invocationOnMock.getArgument(3, IngestChecker.Result.class);
-                    result.setThrottleUsages(List.of());
                     result.setTxnInfo(transactionInfo);
                     return null;
                 })
@@ -774,6 +809,7 @@ class QueryWorkflowImplTest extends AppTestBase {
                 synchronizedThrottleAccumulator,
                 instantSource,
                 opWorkflowMetrics,
+                queryResponseCache,
                 false);
         when(synchronizedThrottleAccumulator.shouldThrottle(eq(HederaFunctionality.FILE_GET_INFO), any(), any(), any()))
                 .thenReturn(true);
@@ -820,7 +856,6 @@ class QueryWorkflowImplTest extends AppTestBase {
         // given
         doAnswer(invocationOnMock -> {
                     final var result = invocationOnMock.getArgument(3, IngestChecker.Result.class);
-                    result.setThrottleUsages(List.of());
                     result.setTxnInfo(transactionInfo);
                     return null;
                 })
@@ -860,7 +895,6 @@ class QueryWorkflowImplTest extends AppTestBase {
         given(authorizer.isSuperUser(ALICE.accountID())).willReturn(true);
         doAnswer(invocationOnMock -> {
                     final var result = invocationOnMock.getArgument(3, IngestChecker.Result.class);
-                    result.setThrottleUsages(List.of());
                     result.setTxnInfo(transactionInfo);
                     return null;
                 })
@@ -892,7 +926,6 @@ class QueryWorkflowImplTest extends AppTestBase {
         final var responseBuffer = newEmptyBuffer();
         doAnswer(invocationOnMock -> {
                     final var result = invocationOnMock.getArgument(3, IngestChecker.Result.class);
-                    result.setThrottleUsages(List.of());
                     result.setTxnInfo(transactionInfo);
                     return null;
                 })
@@ -917,7 +950,6 @@ class QueryWorkflowImplTest extends AppTestBase {
         // given
         doAnswer(invocationOnMock -> {
                     final var result = invocationOnMock.getArgument(3, IngestChecker.Result.class);
-                    result.setThrottleUsages(List.of());
                     result.setTxnInfo(transactionInfo);
                     return null;
                 })
@@ -1022,7 +1054,6 @@ class QueryWorkflowImplTest extends AppTestBase {
         final var responseBuffer = newEmptyBuffer();
         doAnswer(invocationOnMock -> {
                     final var result = invocationOnMock.getArgument(3, IngestChecker.Result.class);
-                    result.setThrottleUsages(List.of());
                     result.setTxnInfo(transactionInfo);
                     return null;
                 })
@@ -1042,6 +1073,69 @@ class QueryWorkflowImplTest extends AppTestBase {
         verify(opWorkflowMetrics, never()).incrementThrottled(any());
     }
 
+    @Test
+    void testCachedResponseIsReusedForSameState() throws ParseException, PreCheckException {
+        // given
+        enableQueryResponseCache();
+        final var firstResponseBuffer = newEmptyBuffer();
+        final var secondResponseBuffer = newEmptyBuffer();
+
+        // when
+        workflow.handleQuery(requestBuffer, firstResponseBuffer);
+        workflow.handleQuery(requestBuffer, secondResponseBuffer);
+
+        // then
+        assertThat(parseResponse(secondResponseBuffer)).isEqualTo(parseResponse(firstResponseBuffer));
+        verify(handler).validate(any());
+        verify(handler).findResponse(any(), any());
+        verify(synchronizedThrottleAccumulator, times(2)).shouldThrottle(eq(FILE_GET_INFO), any(), eq(state), any());
+        assertThat(counterValue("fileGetInfoCacheHits")).isEqualTo(1);
+        assertThat(counterValue("fileGetInfoCacheMisses")).isEqualTo(1);
+        assertThat(counterValue("fileGetInfoCacheBytesSaved")).isEqualTo(secondResponseBuffer.position());
+    }
+
+    @Test
+    void testCachedResponseIsNotReusedForNewState(@Mock State newState) throws ParseException, PreCheckException {
+        // given
+        enableQueryResponseCache();
+        when(stateAccessor.apply(any()))
+                .thenReturn(new AutoCloseableWrapper<>(state, () -> {}))
+                .thenReturn(new AutoCloseableWrapper<>(newState, () -> {}));
+
+        // when
+        workflow.handleQuery(requestBuffer, newEmptyBuffer());
+        workflow.handleQuery(requestBuffer, newEmptyBuffer());
+
+        // then
+        verify(handler, times(2)).validate(any());
+        verify(handler, times(2)).findResponse(any(), any());
+        assertThat(counterValue("fileGetInfoCacheHits")).isZero();
+    }
+
+    @Test
+    void testCachedResponseIsNotReusedWhenCacheIsDisabled() throws ParseException, PreCheckException {
+        // when
+        workflow.handleQuery(requestBuffer, newEmptyBuffer());
+        workflow.handleQuery(requestBuffer, newEmptyBuffer());
+
+        // then
+        verify(handler, times(2)).validate(any());
+        verify(handler, times(2)).findResponse(any(), any());
+    }
+
+    private void enableQueryResponseCache() {
+        final var cacheConfig = HederaTestConfigBuilder.create()
+                .withValue("cache.queries.enabled", true)
+                .withValue("cache.queries.functionalities", "FileGetInfo")
+                .getOrCreateConfig();
+        when(configProvider.getConfiguration())
+                .thenReturn(new VersionedConfigImpl(cacheConfig, DEFAULT_CONFIG_VERSION));
+    }
+
+    private long counterValue(final String name) {
+        return ((Counter) metrics.getMetric("app", name)).get();
+    }
+
     private void verifyMetricsSent() {
         verify(opWorkflowMetrics).updateDuration(eq(FILE_GET_INFO), anyInt());
     }
@@ -14,7 +14,7 @@ import com.swirlds.config.api.validation.annotation.Min;
  * @param logDir directory for writing record files
  * @param sidecarDir directory for writing sidecar files, it is specified relative to logDir; blank==same dir
  * @param logPeriod the number of seconds in consensus time between writing record files
- * @param queueCapacity ?? the number of files to queue for writing before blocking
+ * @param queueCapacity the number of transactions whose records can be queued for writing before handle blocks
  * @param sidecarMaxSizeMb the maximum size of a sidecar file in MB before rolling over to a new file
  * @param recordFileVersion the format version number for record files
  * @param signatureFileVersion the format version number for signature files
@@ -16,12 +16,19 @@ import java.time.Duration;
  * @param writerMode if we are writing to a file or gRPC stream
  * @param blockFileDir directory to store block files
  * @param hashCombineBatchSize the number of items to hash in a batch
+ * @param hashingThreads the number of threads of the pool dedicated to hashing the block item trees
  * @param roundsPerBlock the number of rounds per block
  * @param blockPeriod the block period
  * @param blockItemBatchSize the number of items to send in a batch to block nodes
  * @param blockBufferTtl the TTL for entries in the block buffer
  * @param blockBufferPruneInterval interval to prune block buffer and check for whether backpressure is needed; if set
  *                                 to 0 then pruning is effectively disabled
+ * @param blockBufferSpillEnabled whether unacknowledged blocks beyond the in-memory buffer capacity (the block buffer
+ *                                TTL divided by the block period) are moved to disk instead of applying backpressure
+ * @param blockBufferSpillDir directory to store block buffer spill segments
+ * @param blockBufferSpillSegmentSize the size in bytes of a single block buffer spill segment file
+ * @param blockBufferSpillMaxDiskSize the maximum number of bytes block buffer spill segments may use on disk; once this
+ *                                    budget is used up, backpressure is applied
  */
 @ConfigData("blockStream")
 public record BlockStreamConfig(
@@ -29,11 +36,16 @@ public record BlockStreamConfig(
         @ConfigProperty(defaultValue = "FILE") @NodeProperty BlockStreamWriterMode writerMode,
         @ConfigProperty(defaultValue = "/opt/hgcapp/blockStreams") @NodeProperty String blockFileDir,
         @ConfigProperty(defaultValue = "32") @NetworkProperty int hashCombineBatchSize,
+        @ConfigProperty(defaultValue = "4") @Min(1) @NodeProperty int hashingThreads,
         @ConfigProperty(defaultValue = "1") @NetworkProperty int roundsPerBlock,
         @ConfigProperty(defaultValue = "2s") @Min(0) @NetworkProperty Duration blockPeriod,
         @ConfigProperty(defaultValue = "256") @Min(0) @NetworkProperty int blockItemBatchSize,
         @ConfigProperty(defaultValue = "5m") @Min(0) @NetworkProperty Duration blockBufferTtl,
-        @ConfigProperty(defaultValue = "1s") @Min(0) @NetworkProperty Duration blockBufferPruneInterval) {
+        @ConfigProperty(defaultValue = "1s") @Min(0) @NetworkProperty Duration blockBufferPruneInterval,
+        @ConfigProperty(defaultValue = "false") @NodeProperty boolean blockBufferSpillEnabled,
+        @ConfigProperty(defaultValue = "/opt/hgcapp/blockBuffer") @NodeProperty String blockBufferSpillDir,
+        @ConfigProperty(defaultValue = "67108864") @Min(1024) @NodeProperty long blockBufferSpillSegmentSize,
+        @ConfigProperty(defaultValue = "4294967296") @Min(0) @NodeProperty long blockBufferSpillMaxDiskSize) {
 
     /**
      * Whether to stream to block nodes.
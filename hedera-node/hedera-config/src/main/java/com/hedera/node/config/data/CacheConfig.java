@@ -2,10 +2,32 @@
 package com.hedera.node.config.data;
 
 import com.hedera.node.config.NetworkProperty;
+import com.hedera.node.config.NodeProperty;
+import com.hederahashgraph.api.proto.java.HederaFunctionality;
 import com.swirlds.config.api.ConfigData;
 import com.swirlds.config.api.ConfigProperty;
+import java.util.Set;
 
+/**
+ * Configuration for the caches of the node.
+ *
+ * @param recordsTtl the number of seconds records are kept in the record cache
+ * @param warmThreads the number of threads used to warm the cache before handling a round
+ * @param queriesEnabled whether answers to free queries are reused for identical queries against the same state; a
+ * reused answer reflects the state as it was when the answer was first computed, which may lag the working state by up
+ * to one round
+ * @param queriesMaxSizeBytes the maximum number of bytes of queries and answers cached for a single state
+ * @param queriesFunctionalities the query types whose answers may be reused
+ */
 @ConfigData("cache")
 public record CacheConfig(
         @ConfigProperty(value = "records.ttl", defaultValue = "180") @NetworkProperty int recordsTtl,
-        @ConfigProperty(value = "warmThreads", defaultValue = "30") @NetworkProperty int warmThreads) {}
+        @ConfigProperty(value = "warmThreads", defaultValue = "30") @NetworkProperty int warmThreads,
+        @ConfigProperty(value = "queries.enabled", defaultValue = "false") @NodeProperty boolean queriesEnabled,
+        @ConfigProperty(value = "queries.maxSizeBytes", defaultValue = "33554432") @NodeProperty
+                long queriesMaxSizeBytes,
+        @ConfigProperty(
+                        value = "queries.functionalities",
+                        defaultValue = "CryptoGetAccountBalance,ConsensusGetTopicInfo,TokenGetInfo")
+                @NodeProperty
+                Set<HederaFunctionality> queriesFunctionalities) {}
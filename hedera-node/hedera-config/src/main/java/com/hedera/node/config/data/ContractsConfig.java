@@ -3,6 +3,7 @@ package com.hedera.node.config.data;
 
 import com.hedera.hapi.streams.SidecarType;
 import com.hedera.node.config.NetworkProperty;
+import com.hedera.node.config.NodeProperty;
 import com.swirlds.config.api.ConfigData;
 import com.swirlds.config.api.ConfigProperty;
 import java.util.Set;
@@ -119,4 +120,11 @@ public record ContractsConfig(
         @ConfigProperty(value = "metrics.smartContract.primary.enabled", defaultValue = "true") @NetworkProperty
                 boolean metricsSmartContractPrimaryEnabled,
         @ConfigProperty(value = "metrics.smartContract.secondary.enabled", defaultValue = "true") @NetworkProperty
-                boolean metricsSmartContractSecondaryEnabled) {}
+                boolean metricsSmartContractSecondaryEnabled,
+        @ConfigProperty(value = "storagePrefetch.enabled", defaultValue = "false") @NodeProperty
+                boolean storagePrefetchEnabled,
+        @ConfigProperty(value = "storagePrefetch.maxSlotsPerContract", defaultValue = "256") @NodeProperty
+                int storagePrefetchMaxSlotsPerContract,
+        // Only read when upgrading to the v0.64 contract schema, which records the chosen layout in state for good
+        @ConfigProperty(value = "storage.slotIndexed", defaultValue = "false") @NetworkProperty
+                boolean storageSlotIndexed) {}
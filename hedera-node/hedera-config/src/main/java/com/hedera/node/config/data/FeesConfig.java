@@ -4,12 +4,34 @@ package com.hedera.node.config.data;
 import com.hedera.node.config.NetworkProperty;
 import com.hedera.node.config.types.CongestionMultipliers;
 import com.hedera.node.config.types.EntityScaleFactors;
+import com.hederahashgraph.api.proto.java.HederaFunctionality;
 import com.swirlds.config.api.ConfigData;
 import com.swirlds.config.api.ConfigProperty;
+import java.util.Set;
 
+/**
+ * Configuration of the fees charged for transactions.
+ *
+ * @param minCongestionPeriod the number of seconds a throttle must be congested before its multiplier applies
+ * @param percentCongestionMultipliers the congestion multipliers by percent utilization
+ * @param percentUtilizationScaleFactors the entity utilization scale factors
+ * @param tokenTransferUsageMultiplier the usage multiplier of token transfers
+ * @param quotesEnabled whether the fees computed during pre-handle are reused at consensus when the fee schedule,
+ * exchange rate, congestion multiplier, payer key, number of verified signatures and configuration version are
+ * unchanged
+ * @param quotesFunctionalities the transaction types whose fees only depend on the transaction and the inputs above,
+ * and not on the state, so that fees quoted during pre-handle may be reused
+ */
 @ConfigData("fees")
 public record FeesConfig(
         @ConfigProperty(defaultValue = "60") @NetworkProperty int minCongestionPeriod,
         @ConfigProperty(defaultValue = "90,10x,95,25x,99,100x") CongestionMultipliers percentCongestionMultipliers,
         @ConfigProperty(defaultValue = "DEFAULT(0,1:1)") EntityScaleFactors percentUtilizationScaleFactors,
-        @ConfigProperty(defaultValue = "380") @NetworkProperty int tokenTransferUsageMultiplier) {}
+        @ConfigProperty(defaultValue = "380") @NetworkProperty int tokenTransferUsageMultiplier,
+        @ConfigProperty(value = "quotes.enabled", defaultValue = "false") @NetworkProperty boolean quotesEnabled,
+        @ConfigProperty(
+                        value = "quotes.functionalities",
+                        defaultValue = "ConsensusCreateTopic,FileCreate,ScheduleCreate,TokenBurn,TokenCreate,"
+                                + "TokenMint,UtilPrng")
+                @NetworkProperty
+                Set<HederaFunctionality> quotesFunctionalities) {}
@@ -21,7 +21,9 @@ public record FilesConfig(
         @ConfigProperty(defaultValue = "150-159") LongPair softwareUpdateRange,
         @ConfigProperty(defaultValue = "123") @NetworkProperty long throttleDefinitions,
         @ConfigProperty(defaultValue = "1000000") @NetworkProperty long maxNumber,
-        @ConfigProperty(defaultValue = "1024") @NetworkProperty int maxSizeKb) {
+        @ConfigProperty(defaultValue = "1024") @NetworkProperty int maxSizeKb,
+        @ConfigProperty(value = "chunkedContents.enabled", defaultValue = "false") @NetworkProperty
+                boolean chunkedContentsEnabled) {
 
     /**
      * Returns true if the given file ID is an override file for properties or permissions.
@@ -1,5 +1,8 @@
 // SPDX-License-Identifier: Apache-2.0
-plugins { id("org.hiero.gradle.module.library") }
+plugins {
+    id("org.hiero.gradle.module.library")
+    id("org.hiero.gradle.feature.benchmark")
+}
 
 description = "Default Hedera Consensus Service Implementation"
 
@@ -14,6 +17,14 @@ testModuleInfo {
     requires("com.swirlds.config.extensions.test.fixtures")
     requires("org.assertj.core")
     requires("org.junit.jupiter.api")
+    requires("org.junit.jupiter.params")
     requires("org.mockito")
     requires("org.mockito.junit.jupiter")
 }
+
+jmhModuleInfo {
+    requires("com.hedera.node.app.service.consensus.impl")
+    requires("com.hedera.node.hapi")
+    requires("com.hedera.pbj.runtime")
+    requires("jmh.core")
+}
@@ -0,0 +1,98 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.node.app.service.consensus.impl.handlers;
+
+import static com.hedera.node.app.service.consensus.impl.handlers.ConsensusSubmitMessageHandler.RUNNING_HASH_VERSION;
+import static com.hedera.node.app.service.consensus.impl.handlers.ConsensusSubmitMessageHandler.noThrowSha384HashOf;
+
+import com.hedera.hapi.node.base.AccountID;
+import com.hedera.hapi.node.base.TopicID;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.time.Instant;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares computing a topic running hash through an {@link ObjectOutputStream}, as submitted messages used to be
+ * hashed, against the {@link TopicRunningHashCalculator}. Run with {@code -prof gc} to also compare the bytes
+ * allocated per message.
+ */
+@State(Scope.Thread)
+@Fork(value = 1)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TopicRunningHashBenchmark {
+    private static final AccountID PAYER = AccountID.newBuilder().accountNum(1001L).build();
+    private static final TopicID TOPIC_ID = TopicID.newBuilder().topicNum(1234L).build();
+    private static final Instant CONSENSUS_NOW = Instant.ofEpochSecond(1_234_567L, 890);
+
+    public static void main(String... args) throws Exception {
+        org.openjdk.jmh.Main.main(new String[] {"com.hedera.node.app.service.consensus.impl.handlers"
+                + ".TopicRunningHashBenchmark"});
+    }
+
+    /**
+     * The size of the submitted message; the default maximum message size is 1024 bytes.
+     */
+    @Param({"100", "1024"})
+    private int messageSize;
+
+    private Bytes runningHash;
+    private Bytes message;
+    private long sequenceNumber;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final var random = new Random(1234L);
+        final var hash = new byte[48];
+        random.nextBytes(hash);
+        runningHash = Bytes.wrap(hash);
+        final var contents = new byte[messageSize];
+        random.nextBytes(contents);
+        message = Bytes.wrap(contents);
+    }
+
+    @Benchmark
+    public Bytes objectStream() throws IOException {
+        final var boas = new ByteArrayOutputStream();
+        try (final var out = new ObjectOutputStream(boas)) {
+            out.writeObject(runningHash.toByteArray());
+            out.writeLong(RUNNING_HASH_VERSION);
+            out.writeLong(PAYER.shardNum());
+            out.writeLong(PAYER.realmNum());
+            out.writeLong(PAYER.accountNumOrElse(0L));
+            out.writeLong(TOPIC_ID.shardNum());
+            out.writeLong(TOPIC_ID.realmNum());
+            out.writeLong(TOPIC_ID.topicNum());
+            out.writeLong(CONSENSUS_NOW.getEpochSecond());
+            out.writeInt(CONSENSUS_NOW.getNano());
+            out.writeLong(++sequenceNumber);
+            out.writeObject(noThrowSha384HashOf(message.toByteArray()));
+            out.flush();
+            return Bytes.wrap(noThrowSha384HashOf(boas.toByteArray()));
+        }
+    }
+
+    @Benchmark
+    public Bytes calculator() {
+        return TopicRunningHashCalculator.forCurrentThread()
+                .nextRunningHash(
+                        runningHash, RUNNING_HASH_VERSION, PAYER, TOPIC_ID, CONSENSUS_NOW, ++sequenceNumber, message);
+    }
+}
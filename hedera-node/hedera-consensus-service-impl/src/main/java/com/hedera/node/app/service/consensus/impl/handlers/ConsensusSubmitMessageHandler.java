@@ -40,7 +40,6 @@ import com.hedera.hapi.node.transaction.CustomFeeLimit;
 import com.hedera.hapi.node.transaction.FixedCustomFee;
 import com.hedera.hapi.node.transaction.FixedFee;
 import com.hedera.hapi.node.transaction.TransactionBody;
-import com.hedera.node.app.hapi.utils.CommonPbjConverters;
 import com.hedera.node.app.service.consensus.ReadableTopicStore;
 import com.hedera.node.app.service.consensus.impl.WritableTopicStore;
 import com.hedera.node.app.service.consensus.impl.handlers.customfee.ConsensusCustomFeeAssessor;
@@ -62,9 +61,7 @@ import com.hedera.node.config.data.ConsensusConfig;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.io.ObjectOutputStream;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.time.Instant;
@@ -268,41 +265,21 @@ public class ConsensusSubmitMessageHandler implements TransactionHandler {
         final var submitMessage = txn.consensusSubmitMessageOrThrow();
         final var payer = txn.transactionIDOrElse(TransactionID.DEFAULT).accountIDOrElse(AccountID.DEFAULT);
         final var topicId = submitMessage.topicIDOrElse(TopicID.DEFAULT);
-        final var message = CommonPbjConverters.asBytes(submitMessage.message());
-
-        // This line will be uncommented once there is PBJ fix to make copyBuilder() public
-        final var topicBuilder = topic.copyBuilder();
-
         final var effectiveConsensusNow = (consensusNow == null) ? Instant.ofEpochSecond(0) : consensusNow;
-
-        var sequenceNumber = topic.sequenceNumber();
-        var runningHash = topic.runningHash();
-
-        final var boas = new ByteArrayOutputStream();
-        try (final var out = new ObjectOutputStream(boas)) {
-            out.writeObject(CommonPbjConverters.asBytes(runningHash));
-            out.writeLong(RUNNING_HASH_VERSION);
-            out.writeLong(payer.shardNum());
-            out.writeLong(payer.realmNum());
-            out.writeLong(payer.accountNumOrElse(0L));
-            out.writeLong(topicId.shardNum());
-            out.writeLong(topicId.realmNum());
-            out.writeLong(topicId.topicNum());
-            out.writeLong(effectiveConsensusNow.getEpochSecond());
-            out.writeInt(effectiveConsensusNow.getNano());
-
-            /* Update the sequence number */
-            topicBuilder.sequenceNumber(++sequenceNumber);
-
-            out.writeLong(sequenceNumber);
-            out.writeObject(noThrowSha384HashOf(message));
-            out.flush();
-            runningHash = Bytes.wrap(noThrowSha384HashOf(boas.toByteArray()));
-
-            /* Update the running hash */
-            topicBuilder.runningHash(runningHash);
-        }
-        return topicBuilder.build();
+        final var sequenceNumber = topic.sequenceNumber() + 1;
+        final var runningHash = TopicRunningHashCalculator.forCurrentThread()
+                .nextRunningHash(
+                        topic.runningHash(),
+                        RUNNING_HASH_VERSION,
+                        payer,
+                        topicId,
+                        effectiveConsensusNow,
+                        sequenceNumber,
+                        submitMessage.message());
+        return topic.copyBuilder()
+                .sequenceNumber(sequenceNumber)
+                .runningHash(runningHash)
+                .build();
     }
 
     /**
@@ -0,0 +1,150 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.node.app.service.consensus.impl.handlers;
+
+import static java.util.Objects.requireNonNull;
+
+import com.hedera.hapi.node.base.AccountID;
+import com.hedera.hapi.node.base.TopicID;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.nio.ByteBuffer;
+import java.security.DigestException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+
+/**
+ * Computes the next running hash of a topic for a submitted message.
+ *
+ * <p>The running hash is the SHA-384 hash of the bytes that a {@link java.io.ObjectOutputStream} writes for the
+ * previous running hash (as a {@code byte[]}), the running hash version, the payer and topic ids, the consensus
+ * time, the new sequence number, and the SHA-384 hash of the message (again as a {@code byte[]}). Instead of
+ * creating an object stream and its buffers for every message, this class writes exactly those bytes into a
+ * reusable buffer, and hashes them with a reused digest; so the only allocation per message is the new running
+ * hash itself.
+ *
+ * <p>Instances are not thread-safe; {@link #forCurrentThread()} returns the instance confined to the calling
+ * thread.
+ */
+public final class TopicRunningHashCalculator {
+    private static final ThreadLocal<TopicRunningHashCalculator> CALCULATORS =
+            ThreadLocal.withInitial(TopicRunningHashCalculator::new);
+
+    private static final int HASH_LENGTH = 48;
+
+    /**
+     * The object stream header, followed by the start of a {@code byte[]} with a new class descriptor for
+     * {@code [B}: {@code TC_ARRAY}, {@code TC_CLASSDESC}, the class name, the {@code serialVersionUID} of
+     * {@code byte[]}, the {@code SC_SERIALIZABLE} flag, no fields, {@code TC_ENDBLOCKDATA}, and {@code TC_NULL} as
+     * the super class descriptor.
+     */
+    private static final byte[] HEADER_AND_NEW_BYTE_ARRAY = {
+        (byte) 0xac, (byte) 0xed, 0x00, 0x05,
+        0x75, 0x72, 0x00, 0x02, '[', 'B',
+        (byte) 0xac, (byte) 0xf3, 0x17, (byte) 0xf8, 0x06, 0x08, 0x54, (byte) 0xe0,
+        0x02, 0x00, 0x00, 0x78, 0x70
+    };
+
+    /**
+     * The length of the primitives written between the two arrays: eight longs for the running hash version,
+     * payer id, topic id and consensus second; an int for the consensus nanos; and a long for the sequence number.
+     */
+    private static final int PRIMITIVES_LENGTH = 9 * Long.BYTES + Integer.BYTES;
+
+    /**
+     * The {@code TC_BLOCKDATA} header the object stream writes before the primitives.
+     */
+    private static final byte[] PRIMITIVES_BLOCK_HEADER = {0x77, (byte) PRIMITIVES_LENGTH};
+
+    /**
+     * The start of a {@code byte[]} that refers back to the class descriptor written for the first array:
+     * {@code TC_ARRAY}, {@code TC_REFERENCE}, and the first handle of the stream.
+     */
+    private static final byte[] REFERENCED_BYTE_ARRAY = {0x75, 0x71, 0x00, 0x7e, 0x00, 0x00};
+
+    private static final int FIXED_LENGTH = HEADER_AND_NEW_BYTE_ARRAY.length
+            + Integer.BYTES
+            + PRIMITIVES_BLOCK_HEADER.length
+            + PRIMITIVES_LENGTH
+            + REFERENCED_BYTE_ARRAY.length
+            + Integer.BYTES
+            + HASH_LENGTH;
+
+    private final MessageDigest digest;
+    private byte[] buffer = new byte[FIXED_LENGTH + HASH_LENGTH];
+
+    private TopicRunningHashCalculator() {
+        try {
+            digest = MessageDigest.getInstance("SHA-384");
+        } catch (final NoSuchAlgorithmException fatal) {
+            throw new IllegalStateException(fatal);
+        }
+    }
+
+    /**
+     * Returns the calculator confined to the calling thread.
+     *
+     * @return the calculator for the current thread
+     */
+    public static TopicRunningHashCalculator forCurrentThread() {
+        return CALCULATORS.get();
+    }
+
+    /**
+     * Computes the running hash of a topic after the given message is submitted to it.
+     *
+     * @param runningHash the current running hash of the topic
+     * @param runningHashVersion the running hash version
+     * @param payer the payer of the submit message transaction
+     * @param topicId the id of the topic
+     * @param consensusNow the consensus time of the submit message transaction
+     * @param sequenceNumber the new sequence number of the topic
+     * @param message the submitted message
+     * @return the new running hash
+     */
+    public @NonNull Bytes nextRunningHash(
+            @NonNull final Bytes runningHash,
+            final long runningHashVersion,
+            @NonNull final AccountID payer,
+            @NonNull final TopicID topicId,
+            @NonNull final Instant consensusNow,
+            final long sequenceNumber,
+            @NonNull final Bytes message) {
+        requireNonNull(runningHash);
+        requireNonNull(payer);
+        requireNonNull(topicId);
+        requireNonNull(consensusNow);
+        requireNonNull(message);
+        final int runningHashLength = Math.toIntExact(runningHash.length());
+        final int length = FIXED_LENGTH + runningHashLength;
+        if (buffer.length < length) {
+            buffer = new byte[length];
+        }
+        final var out = ByteBuffer.wrap(buffer);
+        out.put(HEADER_AND_NEW_BYTE_ARRAY);
+        out.putInt(runningHashLength);
+        runningHash.getBytes(0, buffer, out.position(), runningHashLength);
+        out.position(out.position() + runningHashLength);
+        out.put(PRIMITIVES_BLOCK_HEADER);
+        out.putLong(runningHashVersion);
+        out.putLong(payer.shardNum());
+        out.putLong(payer.realmNum());
+        out.putLong(payer.accountNumOrElse(0L));
+        out.putLong(topicId.shardNum());
+        out.putLong(topicId.realmNum());
+        out.putLong(topicId.topicNum());
+        out.putLong(consensusNow.getEpochSecond());
+        out.putInt(consensusNow.getNano());
+        out.putLong(sequenceNumber);
+        out.put(REFERENCED_BYTE_ARRAY);
+        out.putInt(HASH_LENGTH);
+        try {
+            message.writeTo(digest);
+            digest.digest(buffer, out.position(), HASH_LENGTH);
+        } catch (final DigestException fatal) {
+            throw new IllegalStateException(fatal);
+        }
+        digest.update(buffer, 0, length);
+        return Bytes.wrap(digest.digest());
+    }
+}
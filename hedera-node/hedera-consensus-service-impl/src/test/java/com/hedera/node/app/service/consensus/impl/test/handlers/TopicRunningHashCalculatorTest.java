@@ -0,0 +1,83 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.node.app.service.consensus.impl.test.handlers;
+
+import static com.hedera.node.app.service.consensus.impl.handlers.ConsensusSubmitMessageHandler.RUNNING_HASH_VERSION;
+import static com.hedera.node.app.service.consensus.impl.handlers.ConsensusSubmitMessageHandler.noThrowSha384HashOf;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.hedera.hapi.node.base.AccountID;
+import com.hedera.hapi.node.base.TopicID;
+import com.hedera.node.app.service.consensus.impl.handlers.TopicRunningHashCalculator;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.time.Instant;
+import java.util.Random;
+import java.util.stream.Stream;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class TopicRunningHashCalculatorTest {
+    private static final AccountID PAYER =
+            AccountID.newBuilder().shardNum(1L).realmNum(2L).accountNum(1001L).build();
+    private static final TopicID TOPIC_ID =
+            TopicID.newBuilder().shardNum(1L).realmNum(2L).topicNum(1234L).build();
+
+    @ParameterizedTest
+    @MethodSource("runningHashInputs")
+    void matchesObjectStreamEncoding(
+            final Bytes runningHash, final AccountID payer, final Instant consensusNow, final Bytes message)
+            throws IOException {
+        final var subject = TopicRunningHashCalculator.forCurrentThread();
+
+        final var actual =
+                subject.nextRunningHash(runningHash, RUNNING_HASH_VERSION, payer, TOPIC_ID, consensusNow, 42L, message);
+
+        assertEquals(objectStreamRunningHash(runningHash, payer, consensusNow, 42L, message), actual);
+    }
+
+    private static Stream<Arguments> runningHashInputs() {
+        final var random = new Random(1234L);
+        final var now = Instant.ofEpochSecond(1_234_567L, 890);
+        return Stream.of(
+                Arguments.of(Bytes.wrap(new byte[48]), PAYER, now, Bytes.wrap("message".getBytes())),
+                Arguments.of(randomBytes(random, 48), PAYER, Instant.ofEpochSecond(0), Bytes.EMPTY),
+                Arguments.of(Bytes.EMPTY, AccountID.DEFAULT, now, randomBytes(random, 1024)),
+                Arguments.of(randomBytes(random, 300), PAYER, now, randomBytes(random, 6144)),
+                Arguments.of(randomBytes(random, 48), PAYER, Instant.ofEpochSecond(-1L, 999_999_999), Bytes.EMPTY));
+    }
+
+    private static Bytes randomBytes(final Random random, final int length) {
+        final var bytes = new byte[length];
+        random.nextBytes(bytes);
+        return Bytes.wrap(bytes);
+    }
+
+    private static Bytes objectStreamRunningHash(
+            final Bytes runningHash,
+            final AccountID payer,
+            final Instant consensusNow,
+            final long sequenceNumber,
+            final Bytes message)
+            throws IOException {
+        final var boas = new ByteArrayOutputStream();
+        try (final var out = new ObjectOutputStream(boas)) {
+            out.writeObject(runningHash.toByteArray());
+            out.writeLong(RUNNING_HASH_VERSION);
+            out.writeLong(payer.shardNum());
+            out.writeLong(payer.realmNum());
+            out.writeLong(payer.accountNumOrElse(0L));
+            out.writeLong(TOPIC_ID.shardNum());
+            out.writeLong(TOPIC_ID.realmNum());
+            out.writeLong(TOPIC_ID.topicNum());
+            out.writeLong(consensusNow.getEpochSecond());
+            out.writeInt(consensusNow.getNano());
+            out.writeLong(sequenceNumber);
+            out.writeObject(noThrowSha384HashOf(message.toByteArray()));
+            out.flush();
+            return Bytes.wrap(noThrowSha384HashOf(boas.toByteArray()));
+        }
+    }
+}
@@ -9,6 +9,7 @@ testModuleInfo {
     requires("com.hedera.node.app")
     requires("com.hedera.node.app.service.file.impl")
     requires("com.hedera.node.app.service.token")
+    requires("com.swirlds.common")
     requires("com.swirlds.state.api.test.fixtures")
     requires("com.hedera.node.app.spi.test.fixtures")
     requires("com.hedera.node.config.test.fixtures")
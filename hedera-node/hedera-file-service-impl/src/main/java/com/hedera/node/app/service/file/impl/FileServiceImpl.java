@@ -4,6 +4,7 @@ package com.hedera.node.app.service.file.impl;
 import com.hedera.node.app.service.addressbook.ReadableNodeStore;
 import com.hedera.node.app.service.file.FileService;
 import com.hedera.node.app.service.file.impl.schemas.V0490FileSchema;
+import com.hedera.node.app.service.file.impl.schemas.V0640FileSchema;
 import com.hedera.node.app.spi.RpcService;
 import com.hedera.node.app.spi.workflows.SystemContext;
 import com.swirlds.state.lifecycle.SchemaRegistry;
@@ -31,6 +32,7 @@ public final class FileServiceImpl implements FileService {
     @Override
     public void registerSchemas(@NonNull final SchemaRegistry registry) {
         registry.register(fileSchema);
+        registry.register(new V0640FileSchema());
     }
 
     /**
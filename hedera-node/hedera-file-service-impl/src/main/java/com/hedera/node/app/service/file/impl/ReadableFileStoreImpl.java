@@ -2,14 +2,18 @@
 package com.hedera.node.app.service.file.impl;
 
 import static com.hedera.node.app.service.file.impl.schemas.V0490FileSchema.BLOBS_KEY;
+import static com.hedera.node.app.service.file.impl.schemas.V0640FileSchema.FILE_CHUNKS_KEY;
 import static java.util.Objects.requireNonNull;
 
 import com.hedera.hapi.node.base.FileID;
 import com.hedera.hapi.node.state.file.File;
+import com.hedera.hapi.node.state.file.FileChunk;
+import com.hedera.hapi.node.state.file.FileChunkId;
 import com.hedera.node.app.hapi.utils.EntityType;
 import com.hedera.node.app.service.file.FileMetadata;
 import com.hedera.node.app.service.file.ReadableFileStore;
 import com.hedera.node.app.spi.ids.ReadableEntityCounters;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
 import com.swirlds.state.spi.ReadableKVState;
 import com.swirlds.state.spi.ReadableStates;
 import edu.umd.cs.findbugs.annotations.NonNull;
@@ -19,12 +23,18 @@ import edu.umd.cs.findbugs.annotations.Nullable;
  * Provides read-only methods for interacting with the underlying data storage mechanisms for
  * working with Files.
  *
+ * <p>The contents of a file may be stored in chunks rather than in the {@link File} itself (see
+ * {@link WritableFileStore#append(FileID, Bytes, boolean)}); {@link #getFileLeaf(FileID)} and
+ * {@link #getFileMetadata(FileID)} assemble such contents when they are read, so callers never
+ * see the chunks.
+ *
  * <p>This class is not exported from the module. It is an internal implementation detail.
  */
 public class ReadableFileStoreImpl extends FileStore implements ReadableFileStore {
     /** The underlying data storage class that holds the file data. */
     private final ReadableKVState<FileID, File> fileState;
 
+    private final ReadableStates states;
     private final ReadableEntityCounters entityCounters;
 
     /**
@@ -34,6 +44,7 @@ public class ReadableFileStoreImpl extends FileStore implements ReadableFileStor
      */
     public ReadableFileStoreImpl(
             @NonNull final ReadableStates states, @NonNull final ReadableEntityCounters entityCounters) {
+        this.states = requireNonNull(states);
         this.fileState = requireNonNull(states.get(BLOBS_KEY));
         this.entityCounters = requireNonNull(entityCounters);
     }
@@ -57,9 +68,60 @@ public class ReadableFileStoreImpl extends FileStore implements ReadableFileStor
      * @return the file for the given file id
      */
     public @Nullable File getFileLeaf(@NonNull FileID id) {
+        final var file = fileState.get(id);
+        if (file == null || file.contents().length() > 0) {
+            return file;
+        }
+        final var header = chunkHeaderOf(id);
+        return header == null ? file : file.copyBuilder().contents(assemble(id, header)).build();
+    }
+
+    @Override
+    public @Nullable File getFileLeafWithoutChunks(@NonNull final FileID id) {
         return fileState.get(id);
     }
 
+    /**
+     * Returns the size of the contents of the given file, without reading any chunks of its contents.
+     *
+     * @param file the file as stored in state
+     * @return the size of its contents
+     */
+    public long contentsSizeOf(@NonNull final File file) {
+        requireNonNull(file);
+        if (file.contents().length() > 0) {
+            return file.contents().length();
+        }
+        final var header = chunkHeaderOf(file.fileIdOrThrow());
+        return header == null ? 0 : header.size();
+    }
+
+    /**
+     * Returns the header of the chunks of the given file's contents, or null if they are not stored in chunks.
+     *
+     * @param id the file id
+     * @return the header chunk, or null
+     */
+    protected @Nullable FileChunk chunkHeaderOf(@NonNull final FileID id) {
+        // The chunks state only exists once the v0.64 schema has been migrated to
+        if (!states.contains(FILE_CHUNKS_KEY)) {
+            return null;
+        }
+        return states.<FileChunkId, FileChunk>get(FILE_CHUNKS_KEY).get(new FileChunkId(id, 0));
+    }
+
+    private @NonNull Bytes assemble(@NonNull final FileID id, @NonNull final FileChunk header) {
+        final ReadableKVState<FileChunkId, FileChunk> chunks = states.get(FILE_CHUNKS_KEY);
+        final var contents = new byte[Math.toIntExact(header.size())];
+        int offset = 0;
+        for (int i = 1; i <= header.chunkCount(); i++) {
+            final var chunk = requireNonNull(chunks.get(new FileChunkId(id, i)));
+            chunk.contents().getBytes(0, contents, offset, (int) chunk.contents().length());
+            offset += (int) chunk.contents().length();
+        }
+        return Bytes.wrap(contents);
+    }
+
     /**
      * Returns the number of files in the state.
      *
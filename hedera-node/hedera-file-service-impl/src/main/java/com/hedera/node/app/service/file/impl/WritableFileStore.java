@@ -2,17 +2,23 @@
 package com.hedera.node.app.service.file.impl;
 
 import static com.hedera.node.app.service.file.impl.schemas.V0490FileSchema.BLOBS_KEY;
+import static com.hedera.node.app.service.file.impl.schemas.V0640FileSchema.FILE_CHUNKS_KEY;
 import static java.util.Objects.requireNonNull;
 
 import com.hedera.hapi.node.base.FileID;
 import com.hedera.hapi.node.state.file.File;
+import com.hedera.hapi.node.state.file.FileChunk;
+import com.hedera.hapi.node.state.file.FileChunkId;
+import com.hedera.node.app.hapi.utils.CommonPbjConverters;
 import com.hedera.node.app.hapi.utils.EntityType;
 import com.hedera.node.app.spi.ids.WritableEntityCounters;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
 import com.swirlds.state.spi.WritableKVState;
 import com.swirlds.state.spi.WritableStates;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.util.Optional;
 import java.util.Set;
+import org.apache.commons.lang3.ArrayUtils;
 
 /**
  * Provides write methods for modifying underlying data storage mechanisms for working with Files.
@@ -24,6 +30,7 @@ public class WritableFileStore extends ReadableFileStoreImpl {
     /** The underlying data storage class that holds the file data. */
     private final WritableKVState<FileID, File> filesState;
 
+    private final WritableStates states;
     private final WritableEntityCounters entityCounters;
 
     /**
@@ -34,18 +41,73 @@ public class WritableFileStore extends ReadableFileStoreImpl {
     public WritableFileStore(
             @NonNull final WritableStates states, @NonNull final WritableEntityCounters entityCounters) {
         super(states, entityCounters);
+        this.states = states;
         this.filesState = requireNonNull(states.get(BLOBS_KEY));
         this.entityCounters = entityCounters;
     }
 
     /**
      * Persists an updated {@link File} into the state, as well as exporting its ID to the transaction
-     * receipt. If a file with the same ID already exists, it will be overwritten.
+     * receipt. If a file with the same ID already exists, it will be overwritten; including any chunks
+     * its contents were stored in, since the given file holds its entire contents.
      *
      * @param file - the file to be persisted.
      */
     public void put(@NonNull final File file) {
-        filesState.put(requireNonNull(file).fileId(), file);
+        final var fileId = requireNonNull(file).fileId();
+        removeChunksOf(fileId);
+        filesState.put(fileId, file);
+    }
+
+    /**
+     * Appends the given bytes to the contents of the given existing file. If the file's contents are stored in
+     * chunks, or {@code chunked} is set, this only writes the given bytes as a new chunk, plus the small header of
+     * the file's chunks; the first time a file is chunked, this also moves its existing contents into a chunk.
+     * Otherwise, the file is written with its entire new contents.
+     *
+     * @param fileId the id of the file to append to
+     * @param data the bytes to append
+     * @param chunked whether to store the contents of the file in chunks if they are not already
+     * @return the number of content bytes written to state
+     */
+    public long append(@NonNull final FileID fileId, @NonNull final Bytes data, final boolean chunked) {
+        requireNonNull(fileId);
+        requireNonNull(data);
+        final var file = requireNonNull(filesState.get(fileId));
+        final var inlineContents = file.contents();
+        var header = inlineContents.length() == 0 ? chunkHeaderOf(fileId) : null;
+        if (header == null && !chunked) {
+            final var newContents =
+                    ArrayUtils.addAll(CommonPbjConverters.asBytes(inlineContents), CommonPbjConverters.asBytes(data));
+            filesState.put(fileId, file.copyBuilder().contents(Bytes.wrap(newContents)).build());
+            return newContents.length;
+        }
+        if (data.length() == 0) {
+            return 0;
+        }
+        final WritableKVState<FileChunkId, FileChunk> chunks = states.get(FILE_CHUNKS_KEY);
+        long bytesWritten = 0;
+        if (header == null) {
+            header = FileChunk.DEFAULT;
+            if (inlineContents.length() > 0) {
+                chunks.put(new FileChunkId(fileId, 1), FileChunk.newBuilder().contents(inlineContents).build());
+                header = FileChunk.newBuilder()
+                        .chunkCount(1)
+                        .size(inlineContents.length())
+                        .build();
+                bytesWritten += inlineContents.length();
+                filesState.put(fileId, file.copyBuilder().contents(Bytes.EMPTY).build());
+            }
+        }
+        final var chunkIndex = header.chunkCount() + 1;
+        chunks.put(new FileChunkId(fileId, chunkIndex), FileChunk.newBuilder().contents(data).build());
+        chunks.put(
+                new FileChunkId(fileId, 0),
+                FileChunk.newBuilder()
+                        .chunkCount(chunkIndex)
+                        .size(header.size() + data.length())
+                        .build());
+        return bytesWritten + data.length();
     }
 
     /**
@@ -65,8 +127,7 @@ public class WritableFileStore extends ReadableFileStoreImpl {
      * @param fileId - the id of the file to be retrieved.
      */
     public @NonNull Optional<File> get(final FileID fileId) {
-        final var file = filesState.get(fileId);
-        return Optional.ofNullable(file);
+        return Optional.ofNullable(getFileLeaf(fileId));
     }
 
     /**
@@ -84,7 +145,23 @@ public class WritableFileStore extends ReadableFileStoreImpl {
      * @param fileId - the id of the file to be removed from state.
      */
     public void removeFile(final FileID fileId) {
+        removeChunksOf(fileId);
         filesState.remove(fileId);
         entityCounters.decrementEntityTypeCounter(EntityType.FILE);
     }
+
+    private void removeChunksOf(@NonNull final FileID fileId) {
+        final var existing = filesState.get(fileId);
+        // Only a file with no inline contents can have its contents stored in chunks
+        if (existing == null || existing.contents().length() > 0) {
+            return;
+        }
+        final var header = chunkHeaderOf(fileId);
+        if (header != null) {
+            final WritableKVState<FileChunkId, FileChunk> chunks = states.get(FILE_CHUNKS_KEY);
+            for (int i = 0; i <= header.chunkCount(); i++) {
+                chunks.remove(new FileChunkId(fileId, i));
+            }
+        }
+    }
 }
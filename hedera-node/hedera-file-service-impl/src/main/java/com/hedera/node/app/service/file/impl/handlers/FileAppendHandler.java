@@ -8,7 +8,7 @@ import static com.hedera.node.app.hapi.utils.fee.FeeBuilder.BASIC_ENTITY_ID_SIZE
 import static com.hedera.node.app.service.file.impl.FileServiceImpl.THREE_MONTHS_IN_SECONDS;
 import static com.hedera.node.app.service.file.impl.utils.FileServiceUtils.preValidate;
 import static com.hedera.node.app.service.file.impl.utils.FileServiceUtils.validateAndAddRequiredKeys;
-import static com.hedera.node.app.service.file.impl.utils.FileServiceUtils.validateContent;
+import static com.hedera.node.app.service.file.impl.utils.FileServiceUtils.validateContentSize;
 import static com.hedera.node.app.spi.workflows.HandleException.validateFalse;
 import static java.util.Objects.requireNonNull;
 
@@ -16,7 +16,6 @@ import com.hedera.hapi.node.base.HederaFunctionality;
 import com.hedera.hapi.node.base.SubType;
 import com.hedera.hapi.node.file.FileAppendTransactionBody;
 import com.hedera.hapi.node.state.file.File;
-import com.hedera.node.app.hapi.utils.CommonPbjConverters;
 import com.hedera.node.app.service.file.FileSignatureWaivers;
 import com.hedera.node.app.service.file.ReadableFileStore;
 import com.hedera.node.app.service.file.impl.WritableFileStore;
@@ -30,27 +29,35 @@ import com.hedera.node.app.spi.workflows.PreHandleContext;
 import com.hedera.node.app.spi.workflows.PureChecksContext;
 import com.hedera.node.app.spi.workflows.TransactionHandler;
 import com.hedera.node.config.data.FilesConfig;
-import com.hedera.pbj.runtime.io.buffer.Bytes;
+import com.hedera.node.config.data.LedgerConfig;
+import com.swirlds.common.metrics.RunningAverageMetric;
+import com.swirlds.metrics.api.Metrics;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import javax.inject.Inject;
 import javax.inject.Singleton;
-import org.apache.commons.lang3.ArrayUtils;
 
 /**
  * This class contains all workflow-related functionality regarding {@link HederaFunctionality#FILE_APPEND}.
  */
 @Singleton
 public class FileAppendHandler implements TransactionHandler {
+    private static final RunningAverageMetric.Config BYTES_WRITTEN_CONFIG = new RunningAverageMetric.Config(
+                    "app", "fileAppendBytesWritten")
+            .withDescription("Average number of file content bytes written to state per FileAppend");
+
     private final FileSignatureWaivers fileSignatureWaivers;
+    private final RunningAverageMetric bytesWritten;
 
     /**
      * Default constructor for injection.
      *
      * @param fileSignatureWaivers the file signature waivers
+     * @param metrics the metrics to report the bytes written per append to
      */
     @Inject
-    public FileAppendHandler(final FileSignatureWaivers fileSignatureWaivers) {
+    public FileAppendHandler(final FileSignatureWaivers fileSignatureWaivers, @NonNull final Metrics metrics) {
         this.fileSignatureWaivers = fileSignatureWaivers;
+        this.bytesWritten = metrics.getOrCreate(BYTES_WRITTEN_CONFIG);
     }
 
     /**
@@ -90,7 +97,7 @@ public class FileAppendHandler implements TransactionHandler {
             return;
         }
 
-        var file = fileStore.getFileLeaf(transactionFileId);
+        var file = fileStore.getFileLeafWithoutChunks(transactionFileId);
         validateAndAddRequiredKeys(file, null, context);
     }
 
@@ -115,12 +122,10 @@ public class FileAppendHandler implements TransactionHandler {
         }
 
         final var fileStore = handleContext.storeFactory().writableStore(WritableFileStore.class);
-        final var optionalFile = fileStore.get(target);
-
-        if (optionalFile.isEmpty()) {
+        final var file = fileStore.getFileLeafWithoutChunks(target);
+        if (file == null) {
             throw new HandleException(INVALID_FILE_ID);
         }
-        final var file = optionalFile.get();
 
         // First validate this file is mutable; and the pending mutations are allowed
         validateFalse(file.keys() == null, UNAUTHORIZED);
@@ -129,22 +134,14 @@ public class FileAppendHandler implements TransactionHandler {
             throw new HandleException(FILE_DELETED);
         }
 
-        var contents = CommonPbjConverters.asBytes(file.contents());
-
-        var newContents = ArrayUtils.addAll(contents, CommonPbjConverters.asBytes(data));
-        validateContent(newContents, fileServiceConfig);
-        /* Copy all the fields from existing file and change deleted flag */
-        final var fileBuilder = new File.Builder()
-                .fileId(file.fileId())
-                .expirationSecond(file.expirationSecond())
-                .keys(file.keys())
-                .contents(Bytes.wrap(newContents))
-                .memo(file.memo())
-                .deleted(file.deleted());
-
-        /* --- Put the modified file. It will be in underlying state's modifications map.
-        It will not be committed to state until commit is called on the state.--- */
-        fileStore.put(fileBuilder.build());
+        validateContentSize(fileStore.contentsSizeOf(file) + data.length(), fileServiceConfig);
+        // System files are read directly from state elsewhere, so only ever store the contents of user files in chunks
+        final var ledgerConfig = handleContext.configuration().getConfigData(LedgerConfig.class);
+        final var chunked = fileServiceConfig.chunkedContentsEnabled()
+                && target.fileNum() > ledgerConfig.numReservedSystemEntities();
+        /* --- Append to the file. The changes will be in underlying state's modifications map.
+        They will not be committed to state until commit is called on the state.--- */
+        bytesWritten.update(fileStore.append(target, data, chunked));
     }
 
     @NonNull
@@ -164,7 +161,7 @@ public class FileAppendHandler implements TransactionHandler {
          * PR conversation: 8089
          */
         final long effectiveLifeTime;
-        final var file = fileStore.getFileLeaf(fileID);
+        final var file = fileStore.getFileLeafWithoutChunks(fileID);
 
         if (file == null) {
             return feeContext
@@ -0,0 +1,94 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.node.app.service.file.impl.schemas;
+
+import static com.hedera.node.app.service.file.impl.schemas.V0490FileSchema.BLOBS_KEY;
+
+import com.hedera.hapi.node.base.FileID;
+import com.hedera.hapi.node.base.SemanticVersion;
+import com.hedera.hapi.node.state.file.File;
+import com.hedera.hapi.node.state.file.FileChunk;
+import com.hedera.hapi.node.state.file.FileChunkId;
+import com.hedera.node.config.data.FilesConfig;
+import com.hedera.node.config.data.LedgerConfig;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import com.swirlds.state.lifecycle.MigrationContext;
+import com.swirlds.state.lifecycle.Schema;
+import com.swirlds.state.lifecycle.StateDefinition;
+import com.swirlds.state.spi.WritableKVState;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * The schema for the {@code v0.64.0} version of the file service, which adds the chunks that the contents
+ * of user files can be stored in, so that a {@code FileAppend} only writes the appended bytes to state
+ * instead of the file's entire accumulated contents.
+ *
+ * <p>If chunked contents are enabled when this schema is migrated to, the migration moves the contents of
+ * every existing user file into a single chunk.
+ */
+public class V0640FileSchema extends Schema {
+    private static final Logger log = LogManager.getLogger(V0640FileSchema.class);
+
+    private static final long MAX_FILE_CHUNKS = 1_000_000L;
+    private static final SemanticVersion VERSION =
+            SemanticVersion.newBuilder().major(0).minor(64).patch(0).build();
+
+    public static final String FILE_CHUNKS_KEY = "FILE_CHUNKS";
+
+    public V0640FileSchema() {
+        super(VERSION);
+    }
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public @NonNull Set<StateDefinition> statesToCreate() {
+        return Set.of(StateDefinition.onDisk(
+                FILE_CHUNKS_KEY, FileChunkId.PROTOBUF, FileChunk.PROTOBUF, MAX_FILE_CHUNKS));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void migrate(@NonNull final MigrationContext ctx) {
+        if (ctx.isGenesis()
+                || !ctx.appConfig().getConfigData(FilesConfig.class).chunkedContentsEnabled()) {
+            return;
+        }
+        final var numReservedSystemEntities =
+                ctx.appConfig().getConfigData(LedgerConfig.class).numReservedSystemEntities();
+        final WritableKVState<FileID, File> files = ctx.newStates().get(BLOBS_KEY);
+        final WritableKVState<FileChunkId, FileChunk> chunks = ctx.newStates().get(FILE_CHUNKS_KEY);
+        final List<FileID> toChunk = new ArrayList<>();
+        for (final var iter = files.keys(); iter.hasNext(); ) {
+            final var fileId = iter.next();
+            if (fileId.fileNum() > numReservedSystemEntities) {
+                toChunk.add(fileId);
+            }
+        }
+        long numBytes = 0;
+        int numChunked = 0;
+        for (final var fileId : toChunk) {
+            final var file = files.get(fileId);
+            if (file == null || file.contents().length() == 0) {
+                continue;
+            }
+            final var contents = file.contents();
+            chunks.put(new FileChunkId(fileId, 1), FileChunk.newBuilder().contents(contents).build());
+            chunks.put(
+                    new FileChunkId(fileId, 0),
+                    FileChunk.newBuilder()
+                            .chunkCount(1)
+                            .size(contents.length())
+                            .build());
+            files.put(fileId, file.copyBuilder().contents(Bytes.EMPTY).build());
+            numBytes += contents.length();
+            numChunked++;
+        }
+        log.info("Moved {} bytes of contents of {} user files into chunks", numBytes, numChunked);
+    }
+}
@@ -41,8 +41,16 @@ public class FileServiceUtils {
      * @param fileServiceConfig the file service configuration
      */
     public static void validateContent(@NonNull byte[] content, @NonNull FilesConfig fileServiceConfig) {
-        var contentLength = content.length;
+        validateContentSize(content.length, fileServiceConfig);
+    }
 
+    /**
+     * Validates the size of the content of a file is not above max size 1MB.
+     *
+     * @param contentLength the size of the file content
+     * @param fileServiceConfig the file service configuration
+     */
+    public static void validateContentSize(final long contentLength, @NonNull FilesConfig fileServiceConfig) {
         if (contentLength > fileServiceConfig.maxSizeKb() * 1024L) {
             throw new HandleException(MAX_FILE_SIZE_EXCEEDED);
         }
@@ -9,10 +9,12 @@ module com.hedera.node.app.service.file.impl {
     requires transitive com.hedera.node.hapi;
     requires transitive com.hedera.pbj.runtime;
     requires transitive com.swirlds.config.api;
+    requires transitive com.swirlds.metrics.api;
     requires transitive com.swirlds.state.api;
     requires transitive dagger;
     requires transitive java.compiler; // javax.annotation.processing.Generated
     requires transitive javax.inject;
+    requires com.swirlds.common;
     requires org.hiero.base.crypto;
     requires org.hiero.base.utility;
     requires com.fasterxml.jackson.databind;
@@ -2,11 +2,13 @@
 package com.hedera.node.app.service.file.impl.test;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import com.hedera.node.app.service.file.FileService;
 import com.hedera.node.app.service.file.impl.FileServiceImpl;
 import com.hedera.node.app.service.file.impl.schemas.V0490FileSchema;
+import com.hedera.node.app.service.file.impl.schemas.V0640FileSchema;
 import com.hedera.node.config.testfixtures.HederaTestConfigBuilder;
 import com.swirlds.config.api.Configuration;
 import com.swirlds.state.lifecycle.Schema;
@@ -31,15 +33,20 @@ class FileServiceImplTest {
 
         subject().registerSchemas(registry);
 
-        verify(registry).register(schemaCaptor.capture());
+        verify(registry, times(2)).register(schemaCaptor.capture());
 
-        final var schema = schemaCaptor.getValue();
+        final var schema = schemaCaptor.getAllValues().getFirst();
 
         final var statesToCreate = schema.statesToCreate(DEFAULT_CONFIG);
         assertThat(11).isEqualTo(statesToCreate.size());
         final var iter =
                 statesToCreate.stream().map(StateDefinition::stateKey).sorted().iterator();
         assertThat(V0490FileSchema.BLOBS_KEY).isEqualTo(iter.next());
+
+        final var chunksSchema = schemaCaptor.getAllValues().getLast();
+        assertThat(chunksSchema).isInstanceOf(V0640FileSchema.class);
+        assertThat(chunksSchema.statesToCreate(DEFAULT_CONFIG).iterator().next().stateKey())
+                .isEqualTo(V0640FileSchema.FILE_CHUNKS_KEY);
     }
 
     private FileService subject() {
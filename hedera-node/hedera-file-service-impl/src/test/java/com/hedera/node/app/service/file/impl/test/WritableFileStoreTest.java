@@ -1,14 +1,20 @@
 // SPDX-License-Identifier: Apache-2.0
 package com.hedera.node.app.service.file.impl.test;
 
+import static com.hedera.node.app.service.file.impl.schemas.V0640FileSchema.FILE_CHUNKS_KEY;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.BDDMockito.given;
 
 import com.hedera.hapi.node.state.file.File;
+import com.hedera.hapi.node.state.file.FileChunk;
+import com.hedera.hapi.node.state.file.FileChunkId;
 import com.hedera.node.app.service.file.impl.WritableFileStore;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import com.swirlds.state.test.fixtures.MapWritableKVState;
 import java.util.Optional;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -69,4 +75,60 @@ class WritableFileStoreTest extends FileTestBase {
         final var readFile = writableStore.get(fileId);
         assertEquals(readFile, Optional.empty());
     }
+
+    @Test
+    void appendsInlineWhenNotChunked() {
+        file = createFile();
+        writableStore.put(file);
+
+        assertEquals(contents.length + 3L, writableStore.append(fileId, Bytes.wrap("abc".getBytes()), false));
+
+        assertEquals(Bytes.wrap("contentsabc".getBytes()), writableFileState.get(fileId).contents());
+    }
+
+    @Test
+    void chunkedAppendOnlyWritesAppendedBytesAfterFirstChunk() {
+        final var chunks = givenChunksState();
+        file = createFile();
+        writableStore.put(file);
+
+        assertEquals(contents.length + 3L, writableStore.append(fileId, Bytes.wrap("abc".getBytes()), true));
+        assertEquals(3L, writableStore.append(fileId, Bytes.wrap("def".getBytes()), false));
+
+        final var leaf = writableFileState.get(fileId);
+        assertEquals(Bytes.EMPTY, leaf.contents());
+        assertEquals(3, chunks.get(new FileChunkId(fileId, 0)).chunkCount());
+        assertEquals(contents.length + 6L, writableStore.contentsSizeOf(leaf));
+        assertEquals(leaf, writableStore.getFileLeafWithoutChunks(fileId));
+        assertEquals(Bytes.wrap("contentsabcdef".getBytes()), writableStore.get(fileId).orElseThrow().contents());
+    }
+
+    @Test
+    void putAndRemoveDropChunks() {
+        final var chunks = givenChunksState();
+        file = createFile();
+        writableStore.put(file);
+        writableStore.append(fileId, Bytes.wrap("abc".getBytes()), true);
+
+        writableStore.put(file);
+
+        assertEquals(file, writableFileState.get(fileId));
+        assertFalse(chunks.contains(new FileChunkId(fileId, 0)));
+        assertFalse(chunks.contains(new FileChunkId(fileId, 2)));
+
+        writableStore.put(file.copyBuilder().contents(Bytes.EMPTY).build());
+        writableStore.append(fileId, Bytes.wrap("abc".getBytes()), true);
+        writableStore.removeFile(fileId);
+
+        assertFalse(chunks.contains(new FileChunkId(fileId, 0)));
+        assertFalse(chunks.contains(new FileChunkId(fileId, 1)));
+    }
+
+    private MapWritableKVState<FileChunkId, FileChunk> givenChunksState() {
+        final var chunks =
+                MapWritableKVState.<FileChunkId, FileChunk>builder(FILE_CHUNKS_KEY).build();
+        given(writableStates.contains(FILE_CHUNKS_KEY)).willReturn(true);
+        given(writableStates.<FileChunkId, FileChunk>get(FILE_CHUNKS_KEY)).willReturn(chunks);
+        return chunks;
+    }
 }
@@ -3,6 +3,7 @@ package com.hedera.node.app.service.file.impl.test.handlers;
 
 import static com.hedera.hapi.node.base.ResponseCodeEnum.FILE_DELETED;
 import static com.hedera.hapi.node.base.ResponseCodeEnum.INVALID_FILE_ID;
+import static com.hedera.node.app.service.file.impl.schemas.V0640FileSchema.FILE_CHUNKS_KEY;
 import static com.hedera.node.app.spi.fixtures.workflows.ExceptionConditions.responseCode;
 import static org.assertj.core.api.Assertions.assertThatNoException;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -10,11 +11,13 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.notNull;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mock.Strictness.LENIENT;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.hedera.hapi.node.base.FileID;
@@ -23,6 +26,8 @@ import com.hedera.hapi.node.base.Timestamp;
 import com.hedera.hapi.node.base.TransactionID;
 import com.hedera.hapi.node.file.FileAppendTransactionBody;
 import com.hedera.hapi.node.state.file.File;
+import com.hedera.hapi.node.state.file.FileChunk;
+import com.hedera.hapi.node.state.file.FileChunkId;
 import com.hedera.hapi.node.state.primitives.ProtoBytes;
 import com.hedera.hapi.node.state.token.Account;
 import com.hedera.hapi.node.transaction.TransactionBody;
@@ -47,8 +52,11 @@ import com.hedera.node.app.workflows.dispatcher.TransactionDispatcher;
 import com.hedera.node.app.workflows.prehandle.PreHandleContextImpl;
 import com.hedera.node.config.testfixtures.HederaTestConfigBuilder;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
+import com.swirlds.common.metrics.RunningAverageMetric;
 import com.swirlds.config.api.Configuration;
+import com.swirlds.metrics.api.Metrics;
 import com.swirlds.state.lifecycle.info.NodeInfo;
+import com.swirlds.state.test.fixtures.MapWritableKVState;
 import org.apache.commons.lang3.ArrayUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -89,13 +97,20 @@ class FileAppendHandlerTest extends FileTestBase {
     @Mock
     private TransactionChecker transactionChecker;
 
+    @Mock
+    private Metrics metrics;
+
+    @Mock
+    private RunningAverageMetric bytesWritten;
+
     protected Configuration testConfig;
 
     private FileAppendHandler subject;
 
     @BeforeEach
     void setUp() {
-        subject = new FileAppendHandler(waivers);
+        given(metrics.getOrCreate(any(RunningAverageMetric.Config.class))).willReturn(bytesWritten);
+        subject = new FileAppendHandler(waivers, metrics);
         testConfig = HederaTestConfigBuilder.createConfig();
         when(preHandleContext.configuration()).thenReturn(testConfig);
         when(handleContext.configuration()).thenReturn(testConfig);
@@ -264,6 +279,41 @@ class FileAppendHandlerTest extends FileTestBase {
         assertEquals(bytesNewContentExpected, appendedFile.contents());
     }
 
+    @Test
+    void appliesNewContentInChunksIfEnabled() {
+        final var additionalContent = "STUFF".getBytes();
+        givenValidFile(false);
+        refreshStoresWithCurrentFileInBothReadableAndWritable();
+        final var chunks =
+                MapWritableKVState.<FileChunkId, FileChunk>builder(FILE_CHUNKS_KEY).build();
+        given(writableStates.contains(FILE_CHUNKS_KEY)).willReturn(true);
+        given(writableStates.<FileChunkId, FileChunk>get(FILE_CHUNKS_KEY)).willReturn(chunks);
+        testConfig = HederaTestConfigBuilder.create()
+                .withValue("files.chunkedContents.enabled", true)
+                .getOrCreateConfig();
+        given(handleContext.configuration()).willReturn(testConfig);
+
+        final var txBody = TransactionBody.newBuilder()
+                .fileAppend(OP_BUILDER.fileID(wellKnownId()).contents(Bytes.wrap(additionalContent)))
+                .transactionID(TransactionID.newBuilder()
+                        .transactionValidStart(
+                                Timestamp.newBuilder().seconds(111111).build())
+                        .build())
+                .build();
+        given(handleContext.body()).willReturn(txBody);
+
+        subject.handle(handleContext);
+        subject.handle(handleContext);
+
+        assertEquals(Bytes.EMPTY, writableFileState.get(fileId).contents());
+        assertEquals(3, chunks.get(new FileChunkId(fileId, 0)).chunkCount());
+        final var expectedContents =
+                ArrayUtils.addAll(ArrayUtils.addAll(contents, additionalContent), additionalContent);
+        assertEquals(Bytes.wrap(expectedContents), writableStore.get(fileId).orElseThrow().contents());
+        verify(bytesWritten).update(contents.length + additionalContent.length);
+        verify(bytesWritten).update(additionalContent.length);
+    }
+
     @Test
     void nothingHappensIfUpdateIsNoop() {
         refreshStoresWithCurrentFileInBothReadableAndWritable();
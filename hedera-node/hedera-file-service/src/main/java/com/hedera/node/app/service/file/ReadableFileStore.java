@@ -33,6 +33,16 @@ public interface ReadableFileStore {
     @Nullable
     File getFileLeaf(@NonNull FileID id);
 
+    /**
+     * Returns the file needed from state as it is stored, if not exist will return null. Unlike
+     * {@link #getFileLeaf(FileID)}, this does not read the contents of a file stored in chunks, so the
+     * returned file's contents are empty in that case; but its keys and other metadata are complete.
+     * @param id file id being looked up
+     * @return file if found, null otherwise
+     */
+    @Nullable
+    File getFileLeafWithoutChunks(@NonNull FileID id);
+
     /**
      * Returns the number of files in the state.
      *
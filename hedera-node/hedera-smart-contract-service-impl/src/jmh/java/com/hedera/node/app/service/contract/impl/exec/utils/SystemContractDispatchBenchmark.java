@@ -0,0 +1,111 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.node.app.service.contract.impl.exec.utils;
+
+import static com.hedera.node.app.service.contract.impl.exec.utils.SystemContractMethod.ALL_CONTRACT_ID;
+
+import com.hedera.hapi.node.base.ContractID;
+import com.hedera.node.app.service.contract.impl.exec.utils.SystemContractMethod.SystemContract;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares finding the translators for a selector by asking every translator about its methods, as system contract
+ * calls used to be dispatched, against a lookup in a {@link SystemContractDispatchTable}.
+ */
+@State(Scope.Benchmark)
+@Fork(value = 1)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SystemContractDispatchBenchmark {
+    private static final ContractID CONTRACT_ID = ALL_CONTRACT_ID;
+
+    public static void main(String... args) throws Exception {
+        org.openjdk.jmh.Main.main(new String[] {"com.hedera.node.app.service.contract.impl.exec.utils"
+                + ".SystemContractDispatchBenchmark"});
+    }
+
+    /**
+     * Roughly the number of HTS translators, and the number of methods each registers.
+     */
+    @Param({"60"})
+    private int numTranslators;
+
+    @Param({"3"})
+    private int methodsPerTranslator;
+
+    /**
+     * Which translator handles the selector: the first, the middle, or the last one in the list, or none at all.
+     */
+    @Param({"first", "middle", "last", "unknown"})
+    private String position;
+
+    private List<List<SystemContractMethod>> translators;
+    private SystemContractDispatchTable<List<SystemContractMethod>> table;
+    private byte[] selector;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final var registry = new SystemContractMethodRegistry();
+        translators = new ArrayList<>(numTranslators);
+        for (int i = 0; i < numTranslators; i++) {
+            final List<SystemContractMethod> methods = new ArrayList<>(methodsPerTranslator);
+            for (int j = 0; j < methodsPerTranslator; j++) {
+                final var method = SystemContractMethod.declare("method" + i + "_" + j + "(address,uint256)");
+                methods.add(method.withContract(SystemContract.HTS));
+            }
+            translators.add(methods);
+            for (final var method : methods) {
+                registry.register(method, method, methods);
+            }
+        }
+        table = registry.dispatchTableFor(CONTRACT_ID, translators);
+        selector =
+                switch (position) {
+                    case "first" -> translators.getFirst().getLast().selector();
+                    case "middle" -> translators.get(numTranslators / 2).getLast().selector();
+                    case "last" -> translators.getLast().getLast().selector();
+                    default -> SystemContractMethod.declare("unknown()").selector();
+                };
+    }
+
+    @Benchmark
+    public void scanAllTranslators(@NonNull final Blackhole blackhole) {
+        for (final var methods : translators) {
+            blackhole.consume(handles(methods, selector));
+        }
+    }
+
+    @Benchmark
+    public void lookUpDispatchTable(@NonNull final Blackhole blackhole) {
+        for (final var methods : table.candidatesFor(SystemContractDispatchTable.selectorOf(selector))) {
+            blackhole.consume(handles(methods, selector));
+        }
+    }
+
+    private static boolean handles(@NonNull final List<SystemContractMethod> methods, @NonNull final byte[] selector) {
+        for (final var method : methods) {
+            if (Arrays.equals(method.selector(), selector) && method.hasSupportedAddress(CONTRACT_ID)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
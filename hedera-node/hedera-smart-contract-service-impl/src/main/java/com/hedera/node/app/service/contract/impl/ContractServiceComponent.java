@@ -10,6 +10,7 @@ import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hss.HssCal
 import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.HtsCallAttempt;
 import com.hedera.node.app.service.contract.impl.exec.utils.SystemContractMethodRegistry;
 import com.hedera.node.app.service.contract.impl.handlers.ContractHandlers;
+import com.hedera.node.app.service.contract.impl.infra.StoragePrefetcher;
 import com.hedera.node.app.spi.signatures.SignatureVerifier;
 import com.swirlds.state.lifecycle.EntityIdFactory;
 import dagger.BindsInstance;
@@ -45,6 +46,7 @@ public interface ContractServiceComponent {
          * @param systemContractMethodRegistry registry of all system contract methods
          * @param customOps any additional custom operations to use when constructing the EVM
          * @param entityIdFactory a factory for creating entity IDs
+         * @param storagePrefetcher the prefetcher of contract storage slots
          * @return the contract service component
          */
         ContractServiceComponent create(
@@ -55,7 +57,8 @@ public interface ContractServiceComponent {
                 @BindsInstance ContractMetrics contractMetrics,
                 @BindsInstance SystemContractMethodRegistry systemContractMethodRegistry,
                 @BindsInstance @CustomOps Set<Operation> customOps,
-                @BindsInstance EntityIdFactory entityIdFactory);
+                @BindsInstance EntityIdFactory entityIdFactory,
+                @BindsInstance StoragePrefetcher storagePrefetcher);
     }
 
     /**
@@ -73,6 +76,11 @@ public interface ContractServiceComponent {
      */
     SystemContractMethodRegistry systemContractMethodRegistry();
 
+    /**
+     * @return the prefetcher of contract storage slots
+     */
+    StoragePrefetcher storagePrefetcher();
+
     @Named("HasTranslators")
     Provider<List<CallTranslator<HasCallAttempt>>> hasCallTranslators();
 
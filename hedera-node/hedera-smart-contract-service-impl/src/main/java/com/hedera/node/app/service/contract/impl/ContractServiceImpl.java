@@ -12,7 +12,9 @@ import com.hedera.node.app.service.contract.impl.exec.systemcontracts.common.Abs
 import com.hedera.node.app.service.contract.impl.exec.systemcontracts.common.CallTranslator;
 import com.hedera.node.app.service.contract.impl.exec.utils.SystemContractMethodRegistry;
 import com.hedera.node.app.service.contract.impl.handlers.ContractHandlers;
+import com.hedera.node.app.service.contract.impl.infra.StoragePrefetcher;
 import com.hedera.node.app.service.contract.impl.schemas.V0490ContractSchema;
+import com.hedera.node.app.service.contract.impl.schemas.V0640ContractSchema;
 import com.hedera.node.app.spi.AppContext;
 import com.hedera.node.config.data.ContractsConfig;
 import com.swirlds.metrics.api.Metrics;
@@ -67,6 +69,8 @@ public class ContractServiceImpl implements ContractService {
                 () -> appContext.configSupplier().get().getConfigData(ContractsConfig.class);
         final var systemContractMethodRegistry = new SystemContractMethodRegistry();
         final var contractMetrics = new ContractMetrics(metrics, contractsConfigSupplier, systemContractMethodRegistry);
+        final var storagePrefetcher =
+                new StoragePrefetcher(contractsConfigSupplier, contractMetrics, appContext.idFactory());
 
         this.component = DaggerContractServiceComponent.factory()
                 .create(
@@ -79,12 +83,14 @@ public class ContractServiceImpl implements ContractService {
                         contractMetrics,
                         systemContractMethodRegistry,
                         customOps,
-                        appContext.idFactory());
+                        appContext.idFactory(),
+                        storagePrefetcher);
     }
 
     @Override
     public void registerSchemas(@NonNull final SchemaRegistry registry) {
         registry.register(new V0490ContractSchema());
+        registry.register(new V0640ContractSchema());
     }
 
     public void createMetrics() {
@@ -3,6 +3,7 @@ package com.hedera.node.app.service.contract.impl.exec;
 
 import static com.hedera.node.app.service.contract.impl.exec.failure.CustomExceptionalHaltReason.INSUFFICIENT_CHILD_RECORDS;
 import static com.hedera.node.app.service.contract.impl.exec.failure.CustomExceptionalHaltReason.INVALID_CONTRACT_ID;
+import static com.hedera.node.app.service.contract.impl.exec.utils.FrameUtils.accessTrackerFor;
 import static com.hedera.node.app.service.contract.impl.exec.utils.FrameUtils.contractsConfigOf;
 import static com.hedera.node.app.service.contract.impl.exec.utils.FrameUtils.getAndClearPropagatedCallFailure;
 import static com.hedera.node.app.service.contract.impl.exec.utils.FrameUtils.maybeNext;
@@ -23,6 +24,7 @@ import com.hedera.node.app.service.contract.impl.exec.gas.CustomGasCalculator;
 import com.hedera.node.app.service.contract.impl.exec.processors.CustomMessageCallProcessor;
 import com.hedera.node.app.service.contract.impl.hevm.HederaEvmTransactionResult;
 import com.hedera.node.app.service.contract.impl.hevm.HevmPropagatedCallFailure;
+import com.hedera.node.app.service.contract.impl.infra.StoragePrefetcher;
 import com.swirlds.state.lifecycle.EntityIdFactory;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
@@ -42,15 +44,21 @@ import org.hyperledger.besu.evm.processor.ContractCreationProcessor;
 public class FrameRunner {
     private final CustomGasCalculator gasCalculator;
     private final EntityIdFactory entityIdFactory;
+    private final StoragePrefetcher storagePrefetcher;
 
     /**
      * @param gasCalculator the gas calculator to be used
+     * @param entityIdFactory the entity id factory
+     * @param storagePrefetcher the prefetcher to record the storage slots touched by each transaction in
      */
     @Inject
     public FrameRunner(
-            @NonNull final CustomGasCalculator gasCalculator, @NonNull final EntityIdFactory entityIdFactory) {
+            @NonNull final CustomGasCalculator gasCalculator,
+            @NonNull final EntityIdFactory entityIdFactory,
+            @NonNull final StoragePrefetcher storagePrefetcher) {
         this.gasCalculator = gasCalculator;
         this.entityIdFactory = entityIdFactory;
+        this.storagePrefetcher = requireNonNull(storagePrefetcher);
     }
 
     /**
@@ -91,6 +99,12 @@ public class FrameRunner {
         }
         tracer.sanitizeTracedActions(frame);
 
+        // Remember the storage slots this transaction touched, so they can be prefetched next time
+        final var accessTracker = accessTrackerFor(frame);
+        if (accessTracker != null && contractsConfigOf(frame).storagePrefetchEnabled()) {
+            storagePrefetcher.recordTouched(accessTracker.touchedSlotKeys());
+        }
+
         // And return the result, success or failure
         final var gasUsed = effectiveGasUsed(gasLimit, frame);
         if (frame.getState() == COMPLETED_SUCCESS) {
@@ -56,6 +56,16 @@ public class ContractMetrics {
     private final HashMap<HederaFunctionality, Counter> rejectedTxsLackingIntrinsicGas = new HashMap<>();
     private Counter rejectedEthType3Counter;
 
+    // Counters for lookups in the EVM code cache, from which the hit rate is derived
+    private Counter codeCacheHitsCounter;
+    private Counter codeCacheMissesCounter;
+
+    // Counters for storage slot prefetching, from which precision (useful / prefetched) and
+    // recall (useful / touched) are derived
+    private Counter prefetchedSlotsCounter;
+    private Counter usefulPrefetchedSlotsCounter;
+    private Counter touchedSlotsCounter;
+
     private enum MethodMetricType {
         TOTAL(0, "total"),
         FAILED(1, "failed");
@@ -113,6 +123,16 @@ public class ContractMetrics {
     private static final String REJECTED_FOR_GAS_SHORT_DESCR = "txns with not even intrinsic gas";
     private static final String REJECTED_TYPE3_FUNCTIONALITY = "ethType3BlobTransaction";
 
+    private static final String CODE_CACHE_HITS_NAME = "%s:CodeCache_hits_total".formatted(METRIC_SERVICE);
+    private static final String CODE_CACHE_MISSES_NAME = "%s:CodeCache_misses_total".formatted(METRIC_SERVICE);
+    private static final String CODE_CACHE_UNIT = "lookups";
+
+    private static final String PREFETCHED_SLOTS_NAME = "%s:StoragePrefetch_prefetched_total".formatted(METRIC_SERVICE);
+    private static final String USEFUL_PREFETCHED_SLOTS_NAME =
+            "%s:StoragePrefetch_useful_total".formatted(METRIC_SERVICE);
+    private static final String TOUCHED_SLOTS_NAME = "%s:StoragePrefetch_touched_total".formatted(METRIC_SERVICE);
+    private static final String STORAGE_PREFETCH_UNIT = "slots";
+
     // The `SystemContractMethod.Category` enum has "categories" for both ERC-20/ERC-721, and method groups:
     // These maps distinguish them
 
@@ -185,6 +205,35 @@ public class ContractMetrics {
                 final var metric = newCounter(metrics, config);
                 rejectedEthType3Counter = metric;
             }
+
+            // Lookups of contract and redirect proxy code that did, or did not, find analyzed code in the cache
+            codeCacheHitsCounter = newCounter(
+                    metrics,
+                    new Counter.Config(METRIC_CATEGORY, CODE_CACHE_HITS_NAME)
+                            .withDescription("EVM code lookups served from the code cache")
+                            .withUnit(CODE_CACHE_UNIT));
+            codeCacheMissesCounter = newCounter(
+                    metrics,
+                    new Counter.Config(METRIC_CATEGORY, CODE_CACHE_MISSES_NAME)
+                            .withDescription("EVM code lookups that had to create and hash the code")
+                            .withUnit(CODE_CACHE_UNIT));
+
+            // Storage slots prefetched before execution, the ones of them execution touched, and all it touched
+            prefetchedSlotsCounter = newCounter(
+                    metrics,
+                    new Counter.Config(METRIC_CATEGORY, PREFETCHED_SLOTS_NAME)
+                            .withDescription("Contract storage slots prefetched before execution")
+                            .withUnit(STORAGE_PREFETCH_UNIT));
+            usefulPrefetchedSlotsCounter = newCounter(
+                    metrics,
+                    new Counter.Config(METRIC_CATEGORY, USEFUL_PREFETCHED_SLOTS_NAME)
+                            .withDescription("Prefetched contract storage slots that execution then touched")
+                            .withUnit(STORAGE_PREFETCH_UNIT));
+            touchedSlotsCounter = newCounter(
+                    metrics,
+                    new Counter.Config(METRIC_CATEGORY, TOUCHED_SLOTS_NAME)
+                            .withDescription("Contract storage slots touched by execution")
+                            .withUnit(STORAGE_PREFETCH_UNIT));
         }
     }
 
@@ -297,6 +346,35 @@ public class ContractMetrics {
         }
     }
 
+    public void incrementCodeCacheHit() {
+        if (p1MetricsEnabled) {
+            codeCacheHitsCounter.increment();
+        }
+    }
+
+    public void incrementCodeCacheMiss() {
+        if (p1MetricsEnabled) {
+            codeCacheMissesCounter.increment();
+        }
+    }
+
+    public void addPrefetchedSlots(final long slots) {
+        if (p1MetricsEnabled && slots > 0) {
+            prefetchedSlotsCounter.add(slots);
+        }
+    }
+
+    public void addTouchedSlots(final long touched, final long usefulPrefetched) {
+        if (p1MetricsEnabled) {
+            if (touched > 0) {
+                touchedSlotsCounter.add(touched);
+            }
+            if (usefulPrefetched > 0) {
+                usefulPrefetchedSlotsCounter.add(usefulPrefetched);
+            }
+        }
+    }
+
     // ---------------------------------------------
     // P2 metrics: System contract per-method counts
 
@@ -399,6 +477,27 @@ public class ContractMetrics {
         return allCounters;
     }
 
+    @VisibleForTesting
+    public @NonNull Map<String, Long> getCodeCacheCounterValues() {
+        if (codeCacheHitsCounter == null) {
+            return Map.of();
+        }
+        return Map.of(
+                codeCacheHitsCounter.getName(), codeCacheHitsCounter.get(),
+                codeCacheMissesCounter.getName(), codeCacheMissesCounter.get());
+    }
+
+    @VisibleForTesting
+    public @NonNull Map<String, Long> getStoragePrefetchCounterValues() {
+        if (prefetchedSlotsCounter == null) {
+            return Map.of();
+        }
+        return Map.of(
+                prefetchedSlotsCounter.getName(), prefetchedSlotsCounter.get(),
+                usefulPrefetchedSlotsCounter.getName(), usefulPrefetchedSlotsCounter.get(),
+                touchedSlotsCounter.getName(), touchedSlotsCounter.get());
+    }
+
     @VisibleForTesting
     public @NonNull Map<String, Long> getAllP1CounterValues() {
         return getAllP1Counters().stream().collect(toMap(Counter::getName, Counter::get));
@@ -1,12 +1,9 @@
 // SPDX-License-Identifier: Apache-2.0
 package com.hedera.node.app.service.contract.impl.exec.operations;
 
-import static com.hedera.hapi.streams.SidecarType.CONTRACT_STATE_CHANGE;
 import static com.hedera.node.app.service.contract.impl.exec.operations.utils.OpUtils.maybeTrackReadIn;
 import static java.util.Objects.requireNonNull;
 
-import com.hedera.hapi.streams.SidecarType;
-import com.hedera.node.app.service.contract.impl.exec.FeatureFlags;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import org.apache.tuweni.units.bigints.UInt256;
 import org.hyperledger.besu.evm.EVM;
@@ -14,20 +11,16 @@ import org.hyperledger.besu.evm.frame.MessageFrame;
 import org.hyperledger.besu.evm.operation.SLoadOperation;
 
 /**
- * A wrapper around {@link SLoadOperation} that takes the extra step of tracking the read storage value if
- * {@link FeatureFlags#isSidecarEnabled(MessageFrame, SidecarType)} returns true for the
- * {@link SidecarType#CONTRACT_STATE_CHANGE} type.
+ * A wrapper around {@link SLoadOperation} that takes the extra step of tracking the read storage value if the
+ * frame has a {@link com.hedera.node.app.service.contract.impl.infra.StorageAccessTracker}; that is, if either
+ * {@code CONTRACT_STATE_CHANGE} sidecars or storage prefetching are enabled.
  */
 public class CustomSLoadOperation extends DelegatingOperation {
-    private final FeatureFlags featureFlags;
-
     /**
-     * @param featureFlags current evm module feature flags
      * @param delegate the delegate operation
      */
-    public CustomSLoadOperation(@NonNull final FeatureFlags featureFlags, @NonNull final SLoadOperation delegate) {
+    public CustomSLoadOperation(@NonNull final SLoadOperation delegate) {
         super(delegate);
-        this.featureFlags = requireNonNull(featureFlags);
     }
 
     /**
@@ -40,7 +33,7 @@ public class CustomSLoadOperation extends DelegatingOperation {
 
         final var key = frame.getStackItem(0);
         final var result = super.execute(frame, evm);
-        if (result.getHaltReason() == null && featureFlags.isSidecarEnabled(frame, CONTRACT_STATE_CHANGE)) {
+        if (result.getHaltReason() == null) {
             // The base SLOAD operation returns its read value on the stack
             final var value = frame.getStackItem(0);
             maybeTrackReadIn(frame, UInt256.fromBytes(key), UInt256.fromBytes(value));
@@ -11,6 +11,7 @@ import com.hedera.node.app.service.contract.impl.exec.gas.SystemContractGasCalcu
 import com.hedera.node.app.service.contract.impl.exec.scope.HederaNativeOperations;
 import com.hedera.node.app.service.contract.impl.exec.scope.VerificationStrategy;
 import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.AddressIdConverter;
+import com.hedera.node.app.service.contract.impl.exec.utils.SystemContractDispatchTable;
 import com.hedera.node.app.service.contract.impl.exec.utils.SystemContractMethod;
 import com.hedera.node.app.service.contract.impl.exec.utils.SystemContractMethod.SystemContract;
 import com.hedera.node.app.service.contract.impl.exec.utils.SystemContractMethodRegistry;
@@ -130,7 +131,10 @@ public abstract class AbstractCallAttempt<T extends AbstractCallAttempt<T>> {
      */
     public @Nullable Call asExecutableCall() {
         final var self = self();
-        for (final var translator : options.callTranslators()) {
+        // Only ask the translators that registered this selector (or registered nothing at all)
+        final var dispatchTable = options.systemContractMethodRegistry()
+                .dispatchTableFor(options.contractID(), options.callTranslators());
+        for (final var translator : dispatchTable.candidatesFor(SystemContractDispatchTable.selectorOf(selector))) {
             final var call = translator.translateCallAttempt(self);
             if (call != null) {
                 return call;
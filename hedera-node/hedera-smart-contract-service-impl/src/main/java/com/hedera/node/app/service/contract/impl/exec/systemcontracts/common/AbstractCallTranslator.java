@@ -66,7 +66,7 @@ public abstract class AbstractCallTranslator<T extends AbstractCallAttempt<T>> i
         methodWithContract.verifyComplete();
 
         if (systemContractMethodRegistry != null) {
-            systemContractMethodRegistry.register(methodWithoutContract, methodWithContract);
+            systemContractMethodRegistry.register(methodWithoutContract, methodWithContract, this);
         }
     }
 
@@ -125,6 +125,8 @@ public class FrameBuilder {
         final var sidecars = contractConfig.sidecars();
         if (sidecars.contains(CONTRACT_STATE_CHANGE)) {
             contextEntries.put(TRACKER_CONTEXT_VARIABLE, new StorageAccessTracker());
+        } else if (contractConfig.storagePrefetchEnabled()) {
+            contextEntries.put(TRACKER_CONTEXT_VARIABLE, StorageAccessTracker.forPrefetchOnly());
         }
         if (sidecars.contains(CONTRACT_ACTION)) {
             contextEntries.put(ACTION_SIDECARS_VARIABLE, true);
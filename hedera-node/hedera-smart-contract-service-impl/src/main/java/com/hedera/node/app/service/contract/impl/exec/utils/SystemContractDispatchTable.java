@@ -0,0 +1,159 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.node.app.service.contract.impl.exec.utils;
+
+import static java.util.Objects.requireNonNull;
+
+import com.hedera.hapi.node.base.ContractID;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * An immutable table from 4-byte function selectors to the translators that can handle a call with that selector
+ * at one system contract address.
+ * <p>
+ * The candidates for a selector are the translators that registered a method with that selector supported at the
+ * address, plus every translator that registered no methods at all (and so must be asked about every selector).
+ * Candidates are always returned in the order of the translator list the table was built from, so trying them in
+ * turn gives the same result as trying every translator in the list, just without asking the ones that can't match.
+ * <p>
+ * Config gates and other checks a translator makes before accepting a call are not part of the table; they are
+ * still applied by the translator itself.
+ *
+ * @param <T> the type of the translators
+ */
+public final class SystemContractDispatchTable<T> {
+    private static final int EMPTY_SLOT = -1;
+
+    private final List<T> translators;
+    private final int mask;
+    private final int[] selectors;
+    private final int[] candidateIndexes;
+    private final List<List<T>> candidatesBySlot;
+    private final List<T> fallbackCandidates;
+
+    private SystemContractDispatchTable(
+            @NonNull final List<T> translators,
+            @NonNull final Map<Integer, List<T>> candidatesBySelector,
+            @NonNull final List<T> fallbackCandidates) {
+        this.translators = translators;
+        this.fallbackCandidates = fallbackCandidates;
+        // Keep the load factor at or below one half so probe sequences stay short
+        final int capacity = Integer.highestOneBit(Math.max(2, candidatesBySelector.size()) * 2 - 1) << 1;
+        this.mask = capacity - 1;
+        this.selectors = new int[capacity];
+        this.candidateIndexes = new int[capacity];
+        Arrays.fill(candidateIndexes, EMPTY_SLOT);
+        this.candidatesBySlot = new ArrayList<>(candidatesBySelector.size());
+        candidatesBySelector.forEach((selector, candidates) -> {
+            int slot = slotOf(selector);
+            while (candidateIndexes[slot] != EMPTY_SLOT) {
+                slot = (slot + 1) & mask;
+            }
+            selectors[slot] = selector;
+            candidateIndexes[slot] = candidatesBySlot.size();
+            candidatesBySlot.add(candidates);
+        });
+    }
+
+    /**
+     * Builds the dispatch table for the given system contract address and translators.
+     *
+     * @param contractId the system contract address
+     * @param translators the translators, in the order they should be tried
+     * @param methodsOf the methods registered by a translator, or null if it registered none
+     * @return the dispatch table
+     * @param <T> the type of the translators
+     */
+    public static <T> @NonNull SystemContractDispatchTable<T> build(
+            @NonNull final ContractID contractId,
+            @NonNull final List<T> translators,
+            @NonNull final Function<T, Collection<SystemContractMethod>> methodsOf) {
+        requireNonNull(contractId);
+        requireNonNull(translators);
+        requireNonNull(methodsOf);
+        final var fallback = new BitSet(translators.size());
+        final Map<Integer, BitSet> indexesBySelector = new HashMap<>();
+        for (int i = 0, n = translators.size(); i < n; i++) {
+            final var methods = methodsOf.apply(translators.get(i));
+            if (methods == null || methods.isEmpty()) {
+                fallback.set(i);
+                continue;
+            }
+            for (final var method : methods) {
+                if (method.hasSupportedAddress(contractId)) {
+                    indexesBySelector
+                            .computeIfAbsent(selectorOf(method.selector()), ignore -> new BitSet(n))
+                            .set(i);
+                }
+            }
+        }
+        final Map<Integer, List<T>> candidatesBySelector = new HashMap<>();
+        indexesBySelector.forEach((selector, indexes) -> {
+            indexes.or(fallback);
+            candidatesBySelector.put(selector, translatorsAt(translators, indexes));
+        });
+        return new SystemContractDispatchTable<>(
+                translators, candidatesBySelector, translatorsAt(translators, fallback));
+    }
+
+    /**
+     * Returns the translators that may handle a call with the given selector, in the order they should be tried.
+     *
+     * @param selector the selector of the call, as a big-endian int
+     * @return the candidate translators
+     */
+    public @NonNull List<T> candidatesFor(final int selector) {
+        int slot = slotOf(selector);
+        int index;
+        while ((index = candidateIndexes[slot]) != EMPTY_SLOT) {
+            if (selectors[slot] == selector) {
+                return candidatesBySlot.get(index);
+            }
+            slot = (slot + 1) & mask;
+        }
+        return fallbackCandidates;
+    }
+
+    /**
+     * Returns whether this table was built from the given list of translators.
+     *
+     * @param translators the translators
+     * @return whether this table was built from them
+     */
+    public boolean isFor(@NonNull final List<?> translators) {
+        return this.translators == translators;
+    }
+
+    /**
+     * Returns the given 4-byte selector as a big-endian int.
+     *
+     * @param selector the selector bytes
+     * @return the selector as an int
+     */
+    public static int selectorOf(@NonNull final byte[] selector) {
+        return ((selector[0] & 0xFF) << 24)
+                | ((selector[1] & 0xFF) << 16)
+                | ((selector[2] & 0xFF) << 8)
+                | (selector[3] & 0xFF);
+    }
+
+    private int slotOf(final int selector) {
+        // Selectors are already hash output, but mix the high bits in anyway
+        return (selector ^ (selector >>> 16)) & mask;
+    }
+
+    private static <T> List<T> translatorsAt(@NonNull final List<T> translators, @NonNull final BitSet indexes) {
+        final List<T> result = new ArrayList<>(indexes.cardinality());
+        for (int i = indexes.nextSetBit(0); i >= 0; i = indexes.nextSetBit(i + 1)) {
+            result.add(translators.get(i));
+        }
+        return List.copyOf(result);
+    }
+}
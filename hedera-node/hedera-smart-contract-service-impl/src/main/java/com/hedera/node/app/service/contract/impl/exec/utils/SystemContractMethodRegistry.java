@@ -5,9 +5,15 @@ import static java.util.Comparator.comparing;
 import static java.util.Objects.requireNonNull;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.hedera.hapi.node.base.ContractID;
 import com.hedera.node.app.service.contract.impl.exec.utils.SystemContractMethod.CallVia;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.SequencedCollection;
 import java.util.concurrent.ConcurrentHashMap;
 import javax.inject.Inject;
@@ -22,7 +28,9 @@ import javax.inject.Singleton;
  * for use to enumerate all system contract methods.
  * <p>
  * The principal use case for this registry is to be able to generate various per-system-contract-method
- * metrics.
+ * metrics.  It also remembers which translator registered each method, so it can build the
+ * {@link SystemContractDispatchTable} used to find the translators for a call's selector without
+ * asking every translator in turn.
  */
 @Singleton
 public class SystemContractMethodRegistry {
@@ -44,6 +52,14 @@ public class SystemContractMethodRegistry {
     private final ConcurrentHashMap<SystemContractMethod, SystemContractMethod> withoutToWithSystemContract =
             new ConcurrentHashMap<>(EXPECTED_SYSTEM_CONTRACT_METHODS_UPPER_BOUND);
 
+    // The methods (with system contract) registered by each translator, by translator identity
+    private final Map<Object, List<SystemContractMethod>> methodsByTranslator =
+            Collections.synchronizedMap(new IdentityHashMap<>());
+
+    // The dispatch table of each system contract address, built on first use
+    private final ConcurrentHashMap<ContractID, SystemContractDispatchTable<?>> dispatchTables =
+            new ConcurrentHashMap<>();
+
     @Inject
     public SystemContractMethodRegistry() {
         requireNonNull(SystemContractMethod.SystemContract.HTS); // DEBUGGING
@@ -66,8 +82,56 @@ public class SystemContractMethodRegistry {
         withoutToWithSystemContract.putIfAbsent(systemContractMethodWithoutContract, systemContractMethodWithContract);
     }
 
+    /**
+     * Add a system contract method into the registry of system contract methods, remembering the translator
+     * that handles it for selector dispatch
+     */
+    public void register(
+            @NonNull final SystemContractMethod systemContractMethodWithoutContract,
+            @NonNull final SystemContractMethod systemContractMethodWithContract,
+            @NonNull final Object translator) {
+        requireNonNull(translator);
+        register(systemContractMethodWithoutContract, systemContractMethodWithContract);
+        synchronized (methodsByTranslator) {
+            methodsByTranslator
+                    .computeIfAbsent(translator, ignore -> new ArrayList<>())
+                    .add(systemContractMethodWithContract);
+        }
+        dispatchTables.clear();
+    }
+
     // Queries:
 
+    /**
+     * Returns the dispatch table for calls to the given system contract address handled by the given translators,
+     * building it on first use.  Translators that never registered a method here are candidates for every selector.
+     *
+     * @param contractId the system contract address
+     * @param translators the translators of the system contract, in the order they should be tried
+     * @return the dispatch table
+     * @param <T> the type of the translators
+     */
+    @SuppressWarnings("unchecked")
+    public <T> @NonNull SystemContractDispatchTable<T> dispatchTableFor(
+            @NonNull final ContractID contractId, @NonNull final List<T> translators) {
+        requireNonNull(contractId);
+        requireNonNull(translators);
+        final var table = dispatchTables.get(contractId);
+        if (table != null && table.isFor(translators)) {
+            return (SystemContractDispatchTable<T>) table;
+        }
+        final var newTable = SystemContractDispatchTable.build(contractId, translators, this::methodsRegisteredBy);
+        dispatchTables.put(contractId, newTable);
+        return newTable;
+    }
+
+    private Collection<SystemContractMethod> methodsRegisteredBy(@NonNull final Object translator) {
+        synchronized (methodsByTranslator) {
+            final var methods = methodsByTranslator.get(translator);
+            return methods == null ? null : List.copyOf(methods);
+        }
+    }
+
     public long size() {
         return byName.size();
     }
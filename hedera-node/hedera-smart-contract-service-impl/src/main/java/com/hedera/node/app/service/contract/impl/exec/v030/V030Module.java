@@ -299,16 +299,14 @@ public interface V030Module {
     @Provides
     @IntoSet
     @ServicesV030
-    static Operation provideSLoadOperation(
-            @NonNull final GasCalculator gasCalculator, @ServicesV030 @NonNull final FeatureFlags featureFlags) {
-        return new CustomSLoadOperation(featureFlags, new SLoadOperation(gasCalculator));
+    static Operation provideSLoadOperation(@NonNull final GasCalculator gasCalculator) {
+        return new CustomSLoadOperation(new SLoadOperation(gasCalculator));
     }
 
     @Provides
     @IntoSet
     @ServicesV030
-    static Operation provideSStoreOperation(
-            @NonNull final GasCalculator gasCalculator, @ServicesV030 @NonNull final FeatureFlags featureFlags) {
-        return new CustomSStoreOperation(featureFlags, new SStoreOperation(gasCalculator, FRONTIER_MINIMUM));
+    static Operation provideSStoreOperation(@NonNull final GasCalculator gasCalculator) {
+        return new CustomSStoreOperation(new SStoreOperation(gasCalculator, FRONTIER_MINIMUM));
     }
 }
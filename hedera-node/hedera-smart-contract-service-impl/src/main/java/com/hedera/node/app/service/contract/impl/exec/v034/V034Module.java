@@ -309,16 +309,14 @@ public interface V034Module {
     @Provides
     @IntoSet
     @ServicesV034
-    static Operation provideSLoadOperation(
-            @NonNull final GasCalculator gasCalculator, @ServicesV034 @NonNull final FeatureFlags featureFlags) {
-        return new CustomSLoadOperation(featureFlags, new SLoadOperation(gasCalculator));
+    static Operation provideSLoadOperation(@NonNull final GasCalculator gasCalculator) {
+        return new CustomSLoadOperation(new SLoadOperation(gasCalculator));
     }
 
     @Provides
     @IntoSet
     @ServicesV034
-    static Operation provideSStoreOperation(
-            @NonNull final GasCalculator gasCalculator, @ServicesV034 @NonNull final FeatureFlags featureFlags) {
-        return new CustomSStoreOperation(featureFlags, new SStoreOperation(gasCalculator, FRONTIER_MINIMUM));
+    static Operation provideSStoreOperation(@NonNull final GasCalculator gasCalculator) {
+        return new CustomSStoreOperation(new SStoreOperation(gasCalculator, FRONTIER_MINIMUM));
     }
 }
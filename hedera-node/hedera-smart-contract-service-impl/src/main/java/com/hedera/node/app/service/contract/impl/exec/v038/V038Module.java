@@ -309,16 +309,14 @@ public interface V038Module {
     @Provides
     @IntoSet
     @ServicesV038
-    static Operation provideSLoadOperation(
-            @NonNull final GasCalculator gasCalculator, @ServicesV038 @NonNull final FeatureFlags featureFlags) {
-        return new CustomSLoadOperation(featureFlags, new SLoadOperation(gasCalculator));
+    static Operation provideSLoadOperation(@NonNull final GasCalculator gasCalculator) {
+        return new CustomSLoadOperation(new SLoadOperation(gasCalculator));
     }
 
     @Provides
     @IntoSet
     @ServicesV038
-    static Operation provideSStoreOperation(
-            @NonNull final GasCalculator gasCalculator, @ServicesV038 @NonNull final FeatureFlags featureFlags) {
-        return new CustomSStoreOperation(featureFlags, new SStoreOperation(gasCalculator, FRONTIER_MINIMUM));
+    static Operation provideSStoreOperation(@NonNull final GasCalculator gasCalculator) {
+        return new CustomSStoreOperation(new SStoreOperation(gasCalculator, FRONTIER_MINIMUM));
     }
 }
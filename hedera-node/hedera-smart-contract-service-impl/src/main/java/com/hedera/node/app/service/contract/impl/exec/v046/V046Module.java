@@ -309,16 +309,14 @@ public interface V046Module {
     @Provides
     @IntoSet
     @ServicesV046
-    static Operation provideSLoadOperation(
-            @NonNull final GasCalculator gasCalculator, @ServicesV046 @NonNull final FeatureFlags featureFlags) {
-        return new CustomSLoadOperation(featureFlags, new SLoadOperation(gasCalculator));
+    static Operation provideSLoadOperation(@NonNull final GasCalculator gasCalculator) {
+        return new CustomSLoadOperation(new SLoadOperation(gasCalculator));
     }
 
     @Provides
     @IntoSet
     @ServicesV046
-    static Operation provideSStoreOperation(
-            @NonNull final GasCalculator gasCalculator, @ServicesV046 @NonNull final FeatureFlags featureFlags) {
-        return new CustomSStoreOperation(featureFlags, new SStoreOperation(gasCalculator, FRONTIER_MINIMUM));
+    static Operation provideSStoreOperation(@NonNull final GasCalculator gasCalculator) {
+        return new CustomSStoreOperation(new SStoreOperation(gasCalculator, FRONTIER_MINIMUM));
     }
 }
@@ -323,16 +323,14 @@ public interface V050Module {
     @Provides
     @IntoSet
     @ServicesV050
-    static Operation provideSLoadOperation(
-            @NonNull final GasCalculator gasCalculator, @ServicesV050 @NonNull final FeatureFlags featureFlags) {
-        return new CustomSLoadOperation(featureFlags, new SLoadOperation(gasCalculator));
+    static Operation provideSLoadOperation(@NonNull final GasCalculator gasCalculator) {
+        return new CustomSLoadOperation(new SLoadOperation(gasCalculator));
     }
 
     @Provides
     @IntoSet
     @ServicesV050
-    static Operation provideSStoreOperation(
-            @NonNull final GasCalculator gasCalculator, @ServicesV050 @NonNull final FeatureFlags featureFlags) {
-        return new CustomSStoreOperation(featureFlags, new SStoreOperation(gasCalculator, FRONTIER_MINIMUM));
+    static Operation provideSStoreOperation(@NonNull final GasCalculator gasCalculator) {
+        return new CustomSStoreOperation(new SStoreOperation(gasCalculator, FRONTIER_MINIMUM));
     }
 }
@@ -16,11 +16,14 @@ import com.hedera.node.app.hapi.utils.fee.SmartContractFeeBuilder;
 import com.hedera.node.app.service.contract.impl.ContractServiceComponent;
 import com.hedera.node.app.service.contract.impl.exec.TransactionComponent;
 import com.hedera.node.app.service.contract.impl.records.ContractCallStreamBuilder;
+import com.hedera.node.app.service.contract.impl.state.ContractStateStore;
+import com.hedera.node.app.service.token.ReadableAccountStore;
 import com.hedera.node.app.spi.workflows.HandleContext;
 import com.hedera.node.app.spi.workflows.HandleException;
 import com.hedera.node.app.spi.workflows.PreCheckException;
 import com.hedera.node.app.spi.workflows.PreHandleContext;
 import com.hedera.node.app.spi.workflows.PureChecksContext;
+import com.hedera.node.app.spi.workflows.WarmupContext;
 import com.hederahashgraph.api.proto.java.FeeData;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import javax.inject.Inject;
@@ -63,6 +66,21 @@ public class ContractCallHandler extends AbstractContractTransactionHandler {
         throwIfUnsuccessfulCall(outcome, component.hederaOperations(), streamBuilder);
     }
 
+    @Override
+    public void warm(@NonNull final WarmupContext context) {
+        requireNonNull(context);
+        final var prefetcher = component.storagePrefetcher();
+        if (prefetcher.isEnabled()) {
+            final var op = context.body().contractCallOrThrow();
+            prefetcher.warm(
+                    context.createStore(ContractStateStore.class),
+                    context.createStore(ReadableAccountStore.class),
+                    op.contractID(),
+                    null,
+                    context.executor());
+        }
+    }
+
     @Override
     public void preHandle(@NonNull final PreHandleContext context) {
         // No non-payer signatures to verify
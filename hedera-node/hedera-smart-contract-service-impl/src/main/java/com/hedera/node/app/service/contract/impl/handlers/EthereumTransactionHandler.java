@@ -17,6 +17,7 @@ import static com.hedera.node.app.spi.workflows.PreCheckException.validateTruePr
 import static java.util.Objects.nonNull;
 import static java.util.Objects.requireNonNull;
 
+import com.hedera.hapi.node.base.ContractID;
 import com.hedera.hapi.node.base.HederaFunctionality;
 import com.hedera.hapi.node.base.SubType;
 import com.hedera.hapi.node.contract.EthereumTransactionBody;
@@ -28,7 +29,9 @@ import com.hedera.node.app.service.contract.impl.infra.EthereumCallDataHydration
 import com.hedera.node.app.service.contract.impl.records.ContractCallStreamBuilder;
 import com.hedera.node.app.service.contract.impl.records.ContractCreateStreamBuilder;
 import com.hedera.node.app.service.contract.impl.records.EthereumTransactionStreamBuilder;
+import com.hedera.node.app.service.contract.impl.state.ContractStateStore;
 import com.hedera.node.app.service.file.ReadableFileStore;
+import com.hedera.node.app.service.token.ReadableAccountStore;
 import com.hedera.node.app.spi.fees.FeeContext;
 import com.hedera.node.app.spi.fees.Fees;
 import com.hedera.node.app.spi.workflows.HandleContext;
@@ -36,6 +39,7 @@ import com.hedera.node.app.spi.workflows.HandleException;
 import com.hedera.node.app.spi.workflows.PreCheckException;
 import com.hedera.node.app.spi.workflows.PreHandleContext;
 import com.hedera.node.app.spi.workflows.PureChecksContext;
+import com.hedera.node.app.spi.workflows.WarmupContext;
 import com.hedera.node.config.data.HederaConfig;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
 import com.swirlds.config.api.Configuration;
@@ -85,6 +89,29 @@ public class EthereumTransactionHandler extends AbstractContractTransactionHandl
                 context.configuration());
     }
 
+    @Override
+    public void warm(@NonNull final WarmupContext context) {
+        requireNonNull(context);
+        final var prefetcher = component.storagePrefetcher();
+        if (!prefetcher.isEnabled()) {
+            return;
+        }
+        final var ethereumData = context.body().ethereumTransactionOrThrow().ethereumData();
+        final var ethTxData = ethereumData == null ? null : populateEthTxData(ethereumData.toByteArray());
+        if (ethTxData == null) {
+            return;
+        }
+        final var calledId = ethTxData.hasToAddress() && ethTxData.to().length == EVM_ADDRESS_LENGTH_AS_INT
+                ? ContractID.newBuilder().evmAddress(Bytes.wrap(ethTxData.to())).build()
+                : null;
+        prefetcher.warm(
+                context.createStore(ContractStateStore.class),
+                context.createStore(ReadableAccountStore.class),
+                calledId,
+                ethTxData.accessList(),
+                context.executor());
+    }
+
     @Override
     public void pureChecks(@NonNull final PureChecksContext context) throws PreCheckException {
         requireNonNull(context);
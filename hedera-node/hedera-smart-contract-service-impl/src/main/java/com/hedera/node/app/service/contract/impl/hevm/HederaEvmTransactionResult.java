@@ -408,7 +408,7 @@ public record HederaEvmTransactionResult(
             @NonNull final MessageFrame frame, final boolean includeWrites) {
         requireNonNull(frame);
         final var accessTracker = accessTrackerFor(frame);
-        if (accessTracker == null) {
+        if (accessTracker == null || accessTracker.isPrefetchOnly()) {
             return null;
         } else {
             final List<StorageAccesses> accesses;
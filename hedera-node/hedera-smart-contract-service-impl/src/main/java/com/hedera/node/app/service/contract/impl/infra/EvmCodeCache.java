@@ -0,0 +1,120 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.node.app.service.contract.impl.infra;
+
+import static com.hedera.node.app.service.contract.impl.utils.ConversionUtils.pbjToTuweniBytes;
+import static java.util.Objects.requireNonNull;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hedera.hapi.node.base.ContractID;
+import com.hedera.node.app.service.contract.impl.exec.metrics.ContractMetrics;
+import com.hedera.node.app.service.contract.impl.utils.RedirectBytecodeUtils;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import org.hyperledger.besu.datatypes.Address;
+import org.hyperledger.besu.evm.Code;
+import org.hyperledger.besu.evm.code.CodeFactory;
+
+/**
+ * A bounded cache of Besu {@link Code} objects, shared by all transactions and queries. A cached {@link Code} keeps
+ * its code hash and jump destination analysis, so neither is recomputed when the same contract is called, or its
+ * code hash is asked for, again.
+ *
+ * <p>Contract code is cached by contract id, along with the bytecode it was created from. A cached entry is only
+ * used when the bytecode in state is still equal to that bytecode, so a stale entry can never be returned even if it
+ * was not invalidated; {@link #invalidate(ContractID)} just drops entries that can no longer be used. Redirect proxy
+ * code is a pure function of the redirect type and address, so it is cached by those.
+ */
+@Singleton
+public class EvmCodeCache {
+    private static final int MAX_CONTRACT_CODES = 4096;
+    private static final int MAX_REDIRECT_CODES = 4096;
+
+    /**
+     * The types of redirect proxy code.
+     */
+    public enum RedirectType {
+        TOKEN,
+        ACCOUNT,
+        SCHEDULE
+    }
+
+    private record CachedCode(@NonNull Bytes bytecode, @NonNull Code code) {}
+
+    private record RedirectKey(@NonNull RedirectType type, @Nullable Address address) {}
+
+    private final Cache<ContractID, CachedCode> contractCodes =
+            Caffeine.newBuilder().maximumSize(MAX_CONTRACT_CODES).build();
+    private final Cache<RedirectKey, Code> redirectCodes =
+            Caffeine.newBuilder().maximumSize(MAX_REDIRECT_CODES).build();
+    private final ContractMetrics contractMetrics;
+
+    /**
+     * @param contractMetrics the metrics to report cache hits and misses to
+     */
+    @Inject
+    public EvmCodeCache(@NonNull final ContractMetrics contractMetrics) {
+        this.contractMetrics = requireNonNull(contractMetrics);
+    }
+
+    /**
+     * Returns the code of the given contract, created from the given bytecode if there is no cached code for
+     * exactly this bytecode.
+     *
+     * @param contractId the contract id
+     * @param bytecode the bytecode of the contract in state
+     * @return the code of the contract
+     */
+    public @NonNull Code contractCode(@NonNull final ContractID contractId, @NonNull final Bytes bytecode) {
+        requireNonNull(contractId);
+        requireNonNull(bytecode);
+        final var cached = contractCodes.getIfPresent(contractId);
+        if (cached != null && cached.bytecode().equals(bytecode)) {
+            contractMetrics.incrementCodeCacheHit();
+            return cached.code();
+        }
+        contractMetrics.incrementCodeCacheMiss();
+        final var code = CodeFactory.createCode(pbjToTuweniBytes(bytecode), 0, false);
+        contractCodes.put(contractId, new CachedCode(bytecode, code));
+        return code;
+    }
+
+    /**
+     * Returns the redirect proxy code of the given type for the given address.
+     *
+     * @param type the redirect type
+     * @param address the address of the entity, or null for the empty code of an account or schedule
+     * @return the redirect proxy code
+     */
+    public @NonNull Code redirectCode(@NonNull final RedirectType type, @Nullable final Address address) {
+        requireNonNull(type);
+        final var key = new RedirectKey(type, address);
+        final var cached = redirectCodes.getIfPresent(key);
+        if (cached != null) {
+            contractMetrics.incrementCodeCacheHit();
+            return cached;
+        }
+        contractMetrics.incrementCodeCacheMiss();
+        final var bytecode =
+                switch (type) {
+                    case TOKEN -> RedirectBytecodeUtils.tokenProxyBytecodeFor(requireNonNull(address));
+                    case ACCOUNT -> RedirectBytecodeUtils.accountProxyBytecodeFor(address);
+                    case SCHEDULE -> RedirectBytecodeUtils.scheduleProxyBytecodeFor(address);
+                };
+        final var code = CodeFactory.createCode(bytecode, 0, false);
+        redirectCodes.put(key, code);
+        return code;
+    }
+
+    /**
+     * Drops the cached code of the given contract, because its bytecode was created or changed.
+     *
+     * @param contractId the contract id
+     */
+    public void invalidate(@NonNull final ContractID contractId) {
+        contractCodes.invalidate(requireNonNull(contractId));
+    }
+}
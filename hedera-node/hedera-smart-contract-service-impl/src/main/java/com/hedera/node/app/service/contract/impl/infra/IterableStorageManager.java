@@ -9,13 +9,16 @@ import com.hedera.hapi.node.state.contract.SlotKey;
 import com.hedera.hapi.node.state.contract.SlotValue;
 import com.hedera.node.app.service.contract.impl.exec.scope.HandleHederaOperations;
 import com.hedera.node.app.service.contract.impl.hevm.HederaWorldUpdater.Enhancement;
+import com.hedera.node.app.service.contract.impl.state.ContractSlotIndex;
 import com.hedera.node.app.service.contract.impl.state.ContractStateStore;
+import com.hedera.node.app.service.contract.impl.state.SlotIndexPages;
 import com.hedera.node.app.service.contract.impl.state.StorageAccess.StorageAccessType;
 import com.hedera.node.app.service.contract.impl.state.StorageAccesses;
 import com.hedera.node.app.service.contract.impl.state.StorageSizeChange;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import javax.inject.Inject;
@@ -24,9 +27,9 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 /**
- * Provides the logic for maintaining per-contract linked lists of owned storage, and keeping the
- * number of slots used per contract up to date; i.e., the logic for keeping per-contract storage
- * "legible" even though all slots are stored in a single map.
+ * Provides the logic for maintaining per-contract linked lists (or, in the slot-indexed layout, index pages)
+ * of owned storage, and keeping the number of slots used per contract up to date; i.e., the logic for keeping
+ * per-contract storage "legible" even though all slots are stored in a single map.
  */
 @Singleton
 public class IterableStorageManager {
@@ -56,6 +59,38 @@ public class IterableStorageManager {
             @NonNull final List<StorageAccesses> allAccesses,
             @NonNull final List<StorageSizeChange> allSizeChanges,
             @NonNull final ContractStateStore store) {
+        persistChanges(enhancement, allAccesses, allSizeChanges, store, false);
+    }
+
+    /**
+     * Given a writable storage K/V state and the pending changes to storage values and sizes made in this
+     * scope, persists the pending changes using either the per-contract linked lists of owned storage, as
+     * {@link #persistChanges(Enhancement, List, List, ContractStateStore)} does; or the slot-indexed layout.
+     *
+     * <p>In the slot-indexed layout, an inserted or removed slot is only written itself, along with the index
+     * header and the one or two bounded index pages its key affects (see {@link SlotIndexPages}). No neighbouring
+     * slots are read or rewritten, and the index pages touched by several changes to the same contract are only
+     * written once.
+     *
+     * @param enhancement the enhancement for the current transaction
+     * @param allAccesses the pending changes to storage values
+     * @param allSizeChanges the pending changes to storage sizes
+     * @param store the writable state store
+     * @param slotIndexed whether to use the slot-indexed layout, as recorded in state (see
+     *     {@link ContractStateStore#isSlotIndexed()}); never from live configuration, since switching layouts
+     *     with storage in place would leave the linked lists or index pages incomplete
+     */
+    public void persistChanges(
+            @NonNull final Enhancement enhancement,
+            @NonNull final List<StorageAccesses> allAccesses,
+            @NonNull final List<StorageSizeChange> allSizeChanges,
+            @NonNull final ContractStateStore store,
+            final boolean slotIndexed) {
+        if (slotIndexed) {
+            persistSlotIndexedChanges(allAccesses, store);
+            updateStorageMetadata(enhancement, allSizeChanges, Map.of(), store);
+            return;
+        }
         // map to store the first storage key for each contract
         final Map<ContractID, Bytes> firstKeys = new HashMap<>();
 
@@ -96,6 +131,14 @@ public class IterableStorageManager {
             }
         }));
 
+        updateStorageMetadata(enhancement, allSizeChanges, firstKeys, store);
+    }
+
+    private void updateStorageMetadata(
+            @NonNull final Enhancement enhancement,
+            @NonNull final List<StorageSizeChange> allSizeChanges,
+            @NonNull final Map<ContractID, Bytes> firstKeys,
+            @NonNull final ContractStateStore store) {
         // Update contract metadata with the net change in slots used
         long slotUsageChange = 0;
         for (final var change : allSizeChanges) {
@@ -114,6 +157,36 @@ public class IterableStorageManager {
         }
     }
 
+    private void persistSlotIndexedChanges(
+            @NonNull final List<StorageAccesses> allAccesses, @NonNull final ContractStateStore store) {
+        // The indexes of the contracts changed so far, written once all accesses are persisted
+        final Map<ContractID, ContractSlotIndex> indexes = new LinkedHashMap<>();
+        allAccesses.forEach(contractAccesses -> contractAccesses.accesses().forEach(access -> {
+            if (access.isUpdate()) {
+                final var contractId = contractAccesses.contractID();
+                final var key = tuweniToPbjBytes(access.key());
+                final var slotKey = new SlotKey(contractId, key);
+                switch (StorageAccessType.getAccessType(access)) {
+                    case UNKNOWN, READ_ONLY, UPDATE -> {
+                        // The value was already written in place, and the index is unchanged
+                    }
+                    case ZERO_INTO_EMPTY_SLOT -> store.removeSlot(slotKey);
+                    case REMOVAL -> {
+                        store.removeSlot(slotKey);
+                        indexes.computeIfAbsent(contractId, cid -> new ContractSlotIndex(cid, store))
+                                .remove(key);
+                    }
+                    case INSERTION -> {
+                        // The new value was already written in place, without any links
+                        indexes.computeIfAbsent(contractId, cid -> new ContractSlotIndex(cid, store))
+                                .insert(key);
+                    }
+                }
+            }
+        }));
+        indexes.values().forEach(ContractSlotIndex::write);
+    }
+
     /**
      * Returns the first storage key for the contract or Bytes.Empty if none exists.
      *
@@ -9,8 +9,10 @@ import com.hedera.node.app.service.contract.impl.state.StorageAccesses;
 import com.hedera.services.stream.proto.SidecarType;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.TreeMap;
 import java.util.function.Function;
 import org.apache.tuweni.units.bigints.UInt256;
@@ -22,6 +24,38 @@ public class StorageAccessTracker {
     private static final Function<ContractID, Map<UInt256, StorageAccess>> MAP_FACTORY = ignored -> new TreeMap<>();
     private final Map<ContractID, Map<UInt256, StorageAccess>> accessesByContract =
             new TreeMap<>(HapiUtils.CONTRACT_ID_COMPARATOR);
+    private final boolean prefetchOnly;
+
+    /**
+     * Creates a tracker whose accesses are reported in {@link SidecarType#CONTRACT_STATE_CHANGE} sidecars.
+     */
+    public StorageAccessTracker() {
+        this(false);
+    }
+
+    private StorageAccessTracker(final boolean prefetchOnly) {
+        this.prefetchOnly = prefetchOnly;
+    }
+
+    /**
+     * Creates a tracker that only records the touched slots for the {@link StoragePrefetcher}, and whose
+     * accesses are not reported in sidecars.
+     *
+     * @return the new tracker
+     */
+    public static StorageAccessTracker forPrefetchOnly() {
+        return new StorageAccessTracker(true);
+    }
+
+    /**
+     * Returns whether this tracker only exists for the {@link StoragePrefetcher}, so its accesses must not be
+     * reported in sidecars.
+     *
+     * @return whether this tracker is only for prefetching
+     */
+    public boolean isPrefetchOnly() {
+        return prefetchOnly;
+    }
 
     /**
      * The first time this method is called for a particular {@link SlotKey}, tracks its
@@ -36,6 +70,18 @@ public class StorageAccessTracker {
         accessesByContract.computeIfAbsent(contractID, MAP_FACTORY).putIfAbsent(key, StorageAccess.newRead(key, value));
     }
 
+    /**
+     * Returns the keys of all slots read so far, by contract. Since {@code SSTORE} also tracks the value it
+     * overwrites, this includes every slot written, too.
+     *
+     * @return the touched slot keys by contract
+     */
+    public Map<ContractID, Set<UInt256>> touchedSlotKeys() {
+        final Map<ContractID, Set<UInt256>> touched = new TreeMap<>(HapiUtils.CONTRACT_ID_COMPARATOR);
+        accessesByContract.forEach((contract, accesses) -> touched.put(contract, accesses.keySet()));
+        return Collections.unmodifiableMap(touched);
+    }
+
     /**
      * Returns the list of all storage reads (i.e. the tracked {@code SLOAD}'s).
      * This is a convenience methods equivalent to passing an empty list to
@@ -0,0 +1,257 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.node.app.service.contract.impl.infra;
+
+import static com.hedera.node.app.service.contract.impl.utils.ConversionUtils.EVM_ADDRESS_LENGTH_AS_INT;
+import static com.hedera.node.app.service.contract.impl.utils.ConversionUtils.asEvmContractId;
+import static com.hedera.node.app.service.contract.impl.utils.ConversionUtils.asNumberedContractId;
+import static com.hedera.node.app.service.contract.impl.utils.ConversionUtils.asNumericContractId;
+import static com.hedera.node.app.service.contract.impl.utils.ConversionUtils.isLongZero;
+import static com.hedera.node.app.service.contract.impl.utils.ConversionUtils.pbjToBesuAddress;
+import static com.hedera.node.app.service.contract.impl.utils.ConversionUtils.tuweniToPbjBytes;
+import static java.util.Objects.requireNonNull;
+
+import com.esaulpaugh.headlong.rlp.RLPDecoder;
+import com.esaulpaugh.headlong.rlp.RLPItem;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hedera.hapi.node.base.ContractID;
+import com.hedera.hapi.node.state.contract.SlotKey;
+import com.hedera.node.app.service.contract.impl.exec.metrics.ContractMetrics;
+import com.hedera.node.app.service.contract.impl.state.ContractStateStore;
+import com.hedera.node.app.service.token.ReadableAccountStore;
+import com.hedera.node.config.data.ContractsConfig;
+import com.swirlds.state.lifecycle.EntityIdFactory;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.apache.tuweni.units.bigints.UInt256;
+import org.hyperledger.besu.datatypes.Address;
+
+/**
+ * Prefetches contract storage slots before a contract call is handled, so that its {@code SLOAD}s and
+ * {@code SSTORE}s find them in memory instead of reading them from disk on the handle thread.
+ *
+ * <p>The slots of a contract worth prefetching are the ones listed for it in the EIP-2930 access list of an
+ * Ethereum transaction, and the ones the last execution against the contract touched. The latter are kept in a
+ * bounded history that the {@link com.hedera.node.app.service.contract.impl.exec.FrameRunner} updates after
+ * each transaction from its {@link StorageAccessTracker}.
+ *
+ * <p>Prefetching is driven by the {@code CacheWarmer} through {@code TransactionHandler#warm()}, which runs on
+ * its own threads ahead of handling; many slots of one contract are read in parallel on those same threads, via the
+ * executor of the warmup context. To report precision and recall, the slots prefetched for each contract are
+ * remembered until execution next touches the contract, and then compared with the slots it actually touched.
+ */
+public class StoragePrefetcher {
+    private static final Logger log = LogManager.getLogger(StoragePrefetcher.class);
+
+    private static final int MAX_CONTRACTS = 4096;
+    private static final int PARALLEL_WARM_THRESHOLD = 8;
+
+    private final Cache<ContractID, List<UInt256>> touchedLastTime =
+            Caffeine.newBuilder().maximumSize(MAX_CONTRACTS).build();
+    private final Cache<ContractID, Set<UInt256>> outstanding =
+            Caffeine.newBuilder().maximumSize(MAX_CONTRACTS).build();
+    private final Supplier<ContractsConfig> contractsConfigSupplier;
+    private final ContractMetrics contractMetrics;
+    private final EntityIdFactory entityIdFactory;
+
+    /**
+     * @param contractsConfigSupplier the supplier of the current contracts config
+     * @param contractMetrics the metrics to report prefetched and touched slots to
+     * @param entityIdFactory the factory for contract ids
+     */
+    public StoragePrefetcher(
+            @NonNull final Supplier<ContractsConfig> contractsConfigSupplier,
+            @NonNull final ContractMetrics contractMetrics,
+            @NonNull final EntityIdFactory entityIdFactory) {
+        this.contractsConfigSupplier = requireNonNull(contractsConfigSupplier);
+        this.contractMetrics = requireNonNull(contractMetrics);
+        this.entityIdFactory = requireNonNull(entityIdFactory);
+    }
+
+    /**
+     * Returns whether storage prefetching is enabled.
+     *
+     * @return whether prefetching is enabled
+     */
+    public boolean isEnabled() {
+        return contractsConfigSupplier.get().storagePrefetchEnabled();
+    }
+
+    /**
+     * Prefetches the slots the last execution touched for the given contract, along with any given extra slots.
+     *
+     * @param store the store to warm the slots in
+     * @param contractId the numbered id of the contract
+     * @param extraKeys the slots to prefetch in addition to the ones touched last time
+     * @param executor the executor to read many slots in parallel with
+     */
+    public void warm(
+            @NonNull final ContractStateStore store,
+            @NonNull final ContractID contractId,
+            @NonNull final Collection<UInt256> extraKeys,
+            @NonNull final Executor executor) {
+        requireNonNull(store);
+        requireNonNull(contractId);
+        requireNonNull(extraKeys);
+        requireNonNull(executor);
+        if (!isEnabled()) {
+            return;
+        }
+        final var keys = new LinkedHashSet<>(extraKeys);
+        final var history = touchedLastTime.getIfPresent(contractId);
+        if (history != null) {
+            keys.addAll(history);
+        }
+        if (keys.isEmpty()) {
+            return;
+        }
+        final boolean inParallel = keys.size() >= PARALLEL_WARM_THRESHOLD;
+        for (final var key : keys) {
+            final var slotKey = new SlotKey(contractId, tuweniToPbjBytes(key));
+            if (inParallel) {
+                executor.execute(() -> store.warm(slotKey));
+            } else {
+                store.warm(slotKey);
+            }
+        }
+        outstanding
+                .asMap()
+                .computeIfAbsent(contractId, ignore -> ConcurrentHashMap.newKeySet())
+                .addAll(keys);
+        contractMetrics.addPrefetchedSlots(keys.size());
+    }
+
+    /**
+     * Prefetches the slots the last execution touched for the given called contract, along with the slots of
+     * every contract in the given EIP-2930 access list. A called contract or access list entry that is not an
+     * existing contract is ignored, as is an access list that cannot be decoded.
+     *
+     * @param store the store to warm the slots in
+     * @param accountStore the store to resolve contract ids and addresses in
+     * @param calledId the id of the called contract, or null for a contract creation
+     * @param accessList the RLP-encoded access list, without its list prefix; may be null or empty
+     * @param executor the executor to read many slots in parallel with
+     */
+    public void warm(
+            @NonNull final ContractStateStore store,
+            @NonNull final ReadableAccountStore accountStore,
+            @Nullable final ContractID calledId,
+            @Nullable final byte[] accessList,
+            @NonNull final Executor executor) {
+        requireNonNull(store);
+        requireNonNull(accountStore);
+        requireNonNull(executor);
+        if (!isEnabled()) {
+            return;
+        }
+        final Map<ContractID, Collection<UInt256>> keysByContract = new LinkedHashMap<>();
+        if (calledId != null) {
+            final var contractId = numberedIdOf(accountStore, calledId);
+            if (contractId != null) {
+                keysByContract.put(contractId, new ArrayList<>());
+            }
+        }
+        Map<Address, Collection<UInt256>> accessedKeys;
+        try {
+            accessedKeys = accessListKeys(accessList);
+        } catch (final RuntimeException e) {
+            log.debug("Ignoring undecodable access list", e);
+            accessedKeys = Map.of();
+        }
+        accessedKeys.forEach((address, keys) -> {
+            final var contractId = numberedIdOf(accountStore, asEvmContractId(entityIdFactory, address));
+            if (contractId != null) {
+                keysByContract.computeIfAbsent(contractId, ignore -> new ArrayList<>()).addAll(keys);
+            }
+        });
+        keysByContract.forEach((contractId, keys) -> warm(store, contractId, keys, executor));
+    }
+
+    /**
+     * Records the slots touched by an execution, reporting how many of them had been prefetched, and remembers
+     * them (up to the configured limit per contract) as the slots to prefetch next time.
+     *
+     * @param touchedSlotKeys the touched slot keys by numbered contract id
+     */
+    public void recordTouched(@NonNull final Map<ContractID, Set<UInt256>> touchedSlotKeys) {
+        requireNonNull(touchedSlotKeys);
+        final int maxSlots = contractsConfigSupplier.get().storagePrefetchMaxSlotsPerContract();
+        touchedSlotKeys.forEach((contractId, keys) -> {
+            if (!contractId.hasContractNum()) {
+                return;
+            }
+            final var prefetched = outstanding.asMap().remove(contractId);
+            long useful = 0;
+            if (prefetched != null) {
+                for (final var key : keys) {
+                    if (prefetched.contains(key)) {
+                        useful++;
+                    }
+                }
+            }
+            contractMetrics.addTouchedSlots(keys.size(), useful);
+            if (keys.isEmpty() || maxSlots <= 0) {
+                touchedLastTime.invalidate(contractId);
+            } else {
+                touchedLastTime.put(contractId, keys.stream().limit(maxSlots).toList());
+            }
+        });
+    }
+
+    /**
+     * Decodes the storage keys listed for each address in the given EIP-2930 access list. Keys that are not
+     * 32 bytes long are skipped.
+     *
+     * @param accessList the RLP-encoded access list, without its list prefix; may be null or empty
+     * @return the keys by address, in access list order
+     */
+    public static @NonNull Map<Address, Collection<UInt256>> accessListKeys(@Nullable final byte[] accessList) {
+        final Map<Address, Collection<UInt256>> keysByAddress = new LinkedHashMap<>();
+        if (accessList == null || accessList.length == 0) {
+            return keysByAddress;
+        }
+        final var entries = RLPDecoder.RLP_STRICT.sequenceIterator(accessList);
+        while (entries.hasNext()) {
+            final List<RLPItem> entry = entries.next().asRLPList().elements();
+            final var address = Address.wrap(Bytes.wrap(entry.get(0).asBytes()));
+            final var keys = keysByAddress.computeIfAbsent(address, ignore -> new LinkedHashSet<>());
+            for (final var key : entry.get(1).asRLPList().elements()) {
+                final var bytes = key.asBytes();
+                if (bytes.length == Bytes32.SIZE) {
+                    keys.add(UInt256.fromBytes(Bytes32.wrap(bytes)));
+                }
+            }
+        }
+        return keysByAddress;
+    }
+
+    private @Nullable ContractID numberedIdOf(
+            @NonNull final ReadableAccountStore accountStore, @NonNull final ContractID contractId) {
+        if (contractId.hasContractNum()) {
+            return entityIdFactory.newContractId(contractId.contractNumOrThrow());
+        }
+        if (!contractId.hasEvmAddress() || contractId.evmAddressOrThrow().length() != EVM_ADDRESS_LENGTH_AS_INT) {
+            return null;
+        }
+        final var address = pbjToBesuAddress(contractId.evmAddressOrThrow());
+        if (isLongZero(address)) {
+            return asNumberedContractId(entityIdFactory, address);
+        }
+        final var contract = accountStore.getContractById(contractId);
+        return contract == null ? null : asNumericContractId(entityIdFactory, contract.accountIdOrThrow());
+    }
+}
@@ -0,0 +1,140 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.node.app.service.contract.impl.schemas;
+
+import static com.hedera.node.app.service.contract.impl.schemas.V0490ContractSchema.STORAGE_KEY;
+import static com.hedera.node.app.service.contract.impl.state.SlotIndexPages.headerKey;
+import static com.hedera.node.app.service.contract.impl.state.SlotIndexPages.headerOf;
+import static com.hedera.node.app.service.contract.impl.state.SlotIndexPages.numPagesFor;
+import static com.hedera.node.app.service.contract.impl.state.SlotIndexPages.pageKey;
+import static com.hedera.node.app.service.contract.impl.state.SlotIndexPages.pageNumberFor;
+import static com.hedera.node.app.service.contract.impl.state.SlotIndexPages.pageOf;
+
+import com.hedera.hapi.node.base.SemanticVersion;
+import com.hedera.hapi.node.state.contract.SlotKey;
+import com.hedera.hapi.node.state.contract.SlotValue;
+import com.hedera.hapi.node.state.primitives.ProtoBoolean;
+import com.hedera.hapi.node.state.primitives.ProtoBytes;
+import com.hedera.node.app.service.contract.impl.state.SlotIndexPages;
+import com.hedera.node.config.data.ContractsConfig;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import com.swirlds.state.lifecycle.MigrationContext;
+import com.swirlds.state.lifecycle.Schema;
+import com.swirlds.state.lifecycle.StateDefinition;
+import com.swirlds.state.spi.WritableKVState;
+import com.swirlds.state.spi.WritableSingletonState;
+import com.swirlds.state.spi.WritableStates;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * The schema for the {@code v0.64.0} version of the contract service, which adds the index pages of the
+ * slot-indexed contract storage layout (see {@link SlotIndexPages}), and a singleton recording whether that
+ * layout is in use.
+ *
+ * <p>The layout is chosen once, from {@link ContractsConfig#storageSlotIndexed()}, when this schema is
+ * migrated to; and is read from state ever after, so that changing the property later has no effect. If the
+ * slot-indexed layout is chosen, the migration builds the index pages of every contract from the slots already
+ * in storage. From then on, the per-contract linked lists through {@link SlotValue#previousKey()} and
+ * {@link SlotValue#nextKey()} are no longer maintained.
+ */
+public class V0640ContractSchema extends Schema {
+    private static final Logger log = LogManager.getLogger(V0640ContractSchema.class);
+
+    /**
+     * One page per {@link SlotIndexPages#PAGE_CAPACITY} of the storage entries in {@link V0490ContractSchema}, plus
+     * a header and a partly filled page for as many contracts as there may be bytecodes.
+     */
+    private static final int MAX_STORAGE_INDEX_PAGES = 1_000_000 / SlotIndexPages.PAGE_CAPACITY + 2 * 50_000;
+
+    private static final SemanticVersion VERSION =
+            SemanticVersion.newBuilder().major(0).minor(64).patch(0).build();
+
+    public static final String STORAGE_INDEX_KEY = "STORAGE_INDEX";
+    public static final String STORAGE_SLOT_INDEXED_KEY = "STORAGE_SLOT_INDEXED";
+
+    public V0640ContractSchema() {
+        super(VERSION);
+    }
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public @NonNull Set<StateDefinition> statesToCreate() {
+        return Set.of(storageIndexDef(), StateDefinition.singleton(STORAGE_SLOT_INDEXED_KEY, ProtoBoolean.PROTOBUF));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void migrate(@NonNull final MigrationContext ctx) {
+        final WritableSingletonState<ProtoBoolean> slotIndexedState =
+                ctx.newStates().getSingleton(STORAGE_SLOT_INDEXED_KEY);
+        if (slotIndexedState.get() != null) {
+            // The layout was already chosen, and must never change
+            return;
+        }
+        final boolean slotIndexed =
+                ctx.appConfig().getConfigData(ContractsConfig.class).storageSlotIndexed();
+        slotIndexedState.put(new ProtoBoolean(slotIndexed));
+        log.info("Using the {} contract storage layout", slotIndexed ? "slot-indexed" : "linked list");
+        if (slotIndexed && !ctx.isGenesis()) {
+            indexStorage(ctx.newStates());
+        }
+    }
+
+    /**
+     * Builds the index header and pages of every contract, one contract at a time. The slots of a contract are
+     * found by following its linked list from the one slot without a previous key, so only the slot keys of a
+     * single contract are ever held in memory.
+     *
+     * @param newStates the states of the contract service
+     */
+    private void indexStorage(@NonNull final WritableStates newStates) {
+        final WritableKVState<SlotKey, SlotValue> storage = newStates.get(STORAGE_KEY);
+        final WritableKVState<SlotKey, ProtoBytes> storageIndex = newStates.get(STORAGE_INDEX_KEY);
+        final List<Bytes> slotKeys = new ArrayList<>();
+        final Map<Integer, List<Bytes>> pages = new HashMap<>();
+        long numContracts = 0;
+        long numSlots = 0;
+        long numPages = 0;
+        for (final var iter = storage.keys(); iter.hasNext(); ) {
+            final var firstSlotKey = iter.next();
+            var slotValue = storage.get(firstSlotKey);
+            if (slotValue == null || !Bytes.EMPTY.equals(slotValue.previousKey())) {
+                continue;
+            }
+            final var contractId = firstSlotKey.contractIDOrThrow();
+            var key = firstSlotKey.key();
+            while (slotValue != null) {
+                slotKeys.add(key);
+                key = slotValue.nextKey();
+                slotValue = Bytes.EMPTY.equals(key) ? null : storage.get(new SlotKey(contractId, key));
+            }
+            final int numContractPages = numPagesFor(slotKeys.size());
+            for (final var slotKey : slotKeys) {
+                pages.computeIfAbsent(pageNumberFor(slotKey, numContractPages), ignore -> new ArrayList<>())
+                        .add(slotKey);
+            }
+            pages.forEach((pageNumber, pageSlotKeys) ->
+                    storageIndex.put(pageKey(contractId, pageNumber), pageOf(pageSlotKeys)));
+            storageIndex.put(headerKey(contractId), headerOf(slotKeys.size()));
+            numSlots += slotKeys.size();
+            numPages += pages.size();
+            numContracts++;
+            slotKeys.clear();
+            pages.clear();
+        }
+        log.info("Indexed {} contract storage slots of {} contracts in {} pages", numSlots, numContracts, numPages);
+    }
+
+    private @NonNull StateDefinition<SlotKey, ProtoBytes> storageIndexDef() {
+        return StateDefinition.onDisk(
+                STORAGE_INDEX_KEY, SlotKey.PROTOBUF, ProtoBytes.PROTOBUF, MAX_STORAGE_INDEX_PAGES);
+    }
+}
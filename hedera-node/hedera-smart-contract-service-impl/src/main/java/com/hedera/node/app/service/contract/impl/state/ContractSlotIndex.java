@@ -0,0 +1,139 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.node.app.service.contract.impl.state;
+
+import static com.hedera.node.app.service.contract.impl.state.SlotIndexPages.headerKey;
+import static com.hedera.node.app.service.contract.impl.state.SlotIndexPages.numPagesFor;
+import static com.hedera.node.app.service.contract.impl.state.SlotIndexPages.pageKey;
+import static com.hedera.node.app.service.contract.impl.state.SlotIndexPages.pageNumberFor;
+import static java.util.Objects.requireNonNull;
+
+import com.hedera.hapi.node.base.ContractID;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.SequencedSet;
+import java.util.Set;
+
+/**
+ * The index pages of the slots of a single contract in the slot-indexed storage layout (see {@link SlotIndexPages}),
+ * as changed by inserting and removing slots. Pages are read from the store when first needed, and only the changed
+ * pages and header are written back, once, by {@link #write()}.
+ */
+public final class ContractSlotIndex {
+    private final ContractID contractId;
+    private final ContractStateStore store;
+    private final long originalSlotCount;
+    private final Map<Integer, SequencedSet<Bytes>> pages = new HashMap<>();
+    private final Set<Integer> changedPages = new LinkedHashSet<>();
+    private long slotCount;
+
+    /**
+     * Creates the index of the given contract, as currently in the given store.
+     *
+     * @param contractId the id of the contract
+     * @param store the store to read the header and pages from
+     */
+    public ContractSlotIndex(@NonNull final ContractID contractId, @NonNull final ContractStateStore store) {
+        this.contractId = requireNonNull(contractId);
+        this.store = requireNonNull(store);
+        this.originalSlotCount = SlotIndexPages.slotCountIn(store.getSlotIndexPage(headerKey(contractId)));
+        this.slotCount = originalSlotCount;
+    }
+
+    /**
+     * Adds the given slot key to the index, splitting a page if the contract now has enough slots for one more page.
+     *
+     * @param slotKey the key of the inserted slot
+     */
+    public void insert(@NonNull final Bytes slotKey) {
+        final int pageNumber = pageNumberFor(slotKey, numPagesFor(slotCount));
+        if (page(pageNumber).add(slotKey)) {
+            changedPages.add(pageNumber);
+            slotCount++;
+            final int numPages = numPagesFor(slotCount);
+            if (numPages > numPagesFor(slotCount - 1)) {
+                split(numPages - 1);
+            }
+        }
+    }
+
+    /**
+     * Removes the given slot key from the index, merging the last page if the contract now has one page too many.
+     *
+     * @param slotKey the key of the removed slot
+     */
+    public void remove(@NonNull final Bytes slotKey) {
+        final int pageNumber = pageNumberFor(slotKey, numPagesFor(slotCount));
+        if (page(pageNumber).remove(slotKey)) {
+            changedPages.add(pageNumber);
+            slotCount--;
+            final int numPages = numPagesFor(slotCount);
+            if (numPages < numPagesFor(slotCount + 1)) {
+                merge(numPages);
+            }
+        }
+    }
+
+    /**
+     * Writes the changed pages and, if the number of slots changed, the header to the store the index was read from.
+     */
+    public void write() {
+        for (final var pageNumber : changedPages) {
+            final var slotKeys = pages.get(pageNumber);
+            if (slotKeys.isEmpty()) {
+                store.removeSlotIndexPage(pageKey(contractId, pageNumber));
+            } else {
+                store.putSlotIndexPage(pageKey(contractId, pageNumber), SlotIndexPages.pageOf(slotKeys));
+            }
+        }
+        if (slotCount != originalSlotCount) {
+            if (slotCount == 0) {
+                store.removeSlotIndexPage(headerKey(contractId));
+            } else {
+                store.putSlotIndexPage(headerKey(contractId), SlotIndexPages.headerOf(slotCount));
+            }
+        }
+    }
+
+    /**
+     * Moves the slot keys that belong to the given new page out of the page it is split from.
+     */
+    private void split(final int newPageNumber) {
+        final int numPages = newPageNumber + 1;
+        final int splitPageNumber = newPageNumber - Integer.highestOneBit(newPageNumber);
+        final var splitPage = page(splitPageNumber);
+        final var newPage = page(newPageNumber);
+        for (final var iter = splitPage.iterator(); iter.hasNext(); ) {
+            final var slotKey = iter.next();
+            if (pageNumberFor(slotKey, numPages) == newPageNumber) {
+                iter.remove();
+                newPage.add(slotKey);
+            }
+        }
+        if (!newPage.isEmpty()) {
+            changedPages.add(splitPageNumber);
+            changedPages.add(newPageNumber);
+        }
+    }
+
+    /**
+     * Moves the slot keys of the given last page back into the page it was split from.
+     */
+    private void merge(final int lastPageNumber) {
+        final var lastPage = page(lastPageNumber);
+        if (!lastPage.isEmpty()) {
+            final int mergePageNumber = lastPageNumber - Integer.highestOneBit(lastPageNumber);
+            page(mergePageNumber).addAll(lastPage);
+            lastPage.clear();
+            changedPages.add(mergePageNumber);
+            changedPages.add(lastPageNumber);
+        }
+    }
+
+    private SequencedSet<Bytes> page(final int pageNumber) {
+        return pages.computeIfAbsent(
+                pageNumber, n -> SlotIndexPages.slotKeysIn(store.getSlotIndexPage(pageKey(contractId, n))));
+    }
+}
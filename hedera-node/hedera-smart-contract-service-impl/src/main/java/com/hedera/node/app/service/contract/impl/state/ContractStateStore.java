@@ -5,6 +5,7 @@ import com.hedera.hapi.node.base.ContractID;
 import com.hedera.hapi.node.state.contract.Bytecode;
 import com.hedera.hapi.node.state.contract.SlotKey;
 import com.hedera.hapi.node.state.contract.SlotValue;
+import com.hedera.hapi.node.state.primitives.ProtoBytes;
 import com.hedera.node.app.spi.ids.WritableEntityCounters;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
@@ -82,6 +83,39 @@ public interface ContractStateStore {
     @Nullable
     SlotValue getOriginalSlotValue(@NonNull SlotKey key);
 
+    /**
+     * Returns whether contract storage uses the slot-indexed layout. The layout is chosen once, when the
+     * state is upgraded to the schema introducing it, and never changes afterward.
+     *
+     * @return true if the slot-indexed layout is in use, false if the per-contract linked lists are
+     */
+    boolean isSlotIndexed();
+
+    /**
+     * Returns the page of the slot-indexed storage layout with the given key, or null if not found.
+     *
+     * @param pageKey the key of the page, as returned by {@link SlotIndexPages#pageKey(ContractID, int)} or
+     *     {@link SlotIndexPages#headerKey(ContractID)}
+     * @return the page, or null if not found
+     */
+    @Nullable
+    ProtoBytes getSlotIndexPage(@NonNull SlotKey pageKey);
+
+    /**
+     * Puts the given page of the slot-indexed storage layout.
+     *
+     * @param pageKey the key of the page
+     * @param page the page
+     */
+    void putSlotIndexPage(@NonNull SlotKey pageKey, @NonNull ProtoBytes page);
+
+    /**
+     * Removes the page of the slot-indexed storage layout with the given key.
+     *
+     * @param pageKey the key of the page
+     */
+    void removeSlotIndexPage(@NonNull SlotKey pageKey);
+
     /**
      * Returns the number of slots.
      *
@@ -95,4 +129,13 @@ public interface ContractStateStore {
      * @return the number of bytecodes
      */
     long getNumBytecodes();
+
+    /**
+     * Warms the system by preloading a storage slot into memory
+     *
+     * <p>The default implementation is empty because preloading data into memory is only used for some implementations.
+     *
+     * @param key the {@link SlotKey} of the slot
+     */
+    default void warm(@NonNull final SlotKey key) {}
 }
@@ -37,7 +37,8 @@ import com.hedera.node.app.service.contract.impl.exec.scope.ActiveContractVerifi
 import com.hedera.node.app.service.contract.impl.exec.scope.ActiveContractVerificationStrategy.UseTopLevelSigs;
 import com.hedera.node.app.service.contract.impl.exec.scope.HandleHederaNativeOperations;
 import com.hedera.node.app.service.contract.impl.exec.scope.HederaNativeOperations;
-import com.hedera.node.app.service.contract.impl.utils.RedirectBytecodeUtils;
+import com.hedera.node.app.service.contract.impl.infra.EvmCodeCache;
+import com.hedera.node.app.service.contract.impl.infra.EvmCodeCache.RedirectType;
 import com.swirlds.state.lifecycle.EntityIdFactory;
 import com.swirlds.state.spi.WritableKVState;
 import edu.umd.cs.findbugs.annotations.NonNull;
@@ -52,9 +53,10 @@ import org.apache.tuweni.units.bigints.UInt256;
 import org.hyperledger.besu.datatypes.Address;
 import org.hyperledger.besu.datatypes.Hash;
 import org.hyperledger.besu.datatypes.Wei;
+import org.hyperledger.besu.evm.Code;
 import org.hyperledger.besu.evm.account.Account;
 import org.hyperledger.besu.evm.account.MutableAccount;
-import org.hyperledger.besu.evm.code.CodeFactory;
+import org.hyperledger.besu.evm.code.CodeV0;
 import org.hyperledger.besu.evm.frame.ExceptionalHaltReason;
 import org.hyperledger.besu.evm.frame.MessageFrame;
 
@@ -67,7 +69,8 @@ import org.hyperledger.besu.evm.frame.MessageFrame;
  * point it might be necessary to cache the converted values and invalidate them when
  * the state changes.
  * <p>
- * TODO - get a little further to clarify DI strategy, then bring back a code cache.
+ * Besu {@link Code} objects for contract bytecode and redirect proxies come from a shared {@link EvmCodeCache},
+ * so their code hashes and jump destination analysis are not recomputed on every access.
  */
 public class DispatchingEvmFrameState implements EvmFrameState {
     /**
@@ -78,16 +81,20 @@ public class DispatchingEvmFrameState implements EvmFrameState {
 
     private final HederaNativeOperations nativeOperations;
     private final ContractStateStore contractStateStore;
+    private final EvmCodeCache codeCache;
 
     /**
      * @param nativeOperations the Hedera native operation
      * @param contractStateStore the contract store that manages the key/value states
+     * @param codeCache the cache of Besu code objects
      */
     public DispatchingEvmFrameState(
             @NonNull final HederaNativeOperations nativeOperations,
-            @NonNull final ContractStateStore contractStateStore) {
+            @NonNull final ContractStateStore contractStateStore,
+            @NonNull final EvmCodeCache codeCache) {
         this.nativeOperations = requireNonNull(nativeOperations);
         this.contractStateStore = requireNonNull(contractStateStore);
+        this.codeCache = requireNonNull(codeCache);
     }
 
     /**
@@ -189,6 +196,20 @@ public class DispatchingEvmFrameState implements EvmFrameState {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NonNull Code getEvmCode(@NonNull final ContractID contractID) {
+        requireNonNull(contractID);
+        final var numberedBytecode = contractStateStore.getBytecode(contractID);
+        if (numberedBytecode == null) {
+            return CodeV0.EMPTY_CODE;
+        } else {
+            return codeCache.contractCode(contractID, numberedBytecode.code());
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -200,8 +221,7 @@ public class DispatchingEvmFrameState implements EvmFrameState {
         if (numberedBytecode == null) {
             return Hash.EMPTY;
         } else {
-            return CodeFactory.createCode(pbjToTuweniBytes(numberedBytecode.code()), 0, false)
-                    .getCodeHash();
+            return codeCache.contractCode(contractID, numberedBytecode.code()).getCodeHash();
         }
     }
 
@@ -210,7 +230,15 @@ public class DispatchingEvmFrameState implements EvmFrameState {
      */
     @Override
     public @NonNull Bytes getTokenRedirectCode(@NonNull final Address address) {
-        return RedirectBytecodeUtils.tokenProxyBytecodeFor(address);
+        return getTokenRedirectEvmCode(address).getBytes();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NonNull Code getTokenRedirectEvmCode(@NonNull final Address address) {
+        return codeCache.redirectCode(RedirectType.TOKEN, requireNonNull(address));
     }
 
     /**
@@ -218,8 +246,7 @@ public class DispatchingEvmFrameState implements EvmFrameState {
      */
     @Override
     public @NonNull Hash getTokenRedirectCodeHash(@NonNull final Address address) {
-        return CodeFactory.createCode(RedirectBytecodeUtils.tokenProxyBytecodeFor(address), 0, false)
-                .getCodeHash();
+        return getTokenRedirectEvmCode(address).getCodeHash();
     }
 
     /**
@@ -227,7 +254,15 @@ public class DispatchingEvmFrameState implements EvmFrameState {
      */
     @Override
     public @NonNull Bytes getAccountRedirectCode(@Nullable final Address address) {
-        return RedirectBytecodeUtils.accountProxyBytecodeFor(address);
+        return getAccountRedirectEvmCode(address).getBytes();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NonNull Code getAccountRedirectEvmCode(@Nullable final Address address) {
+        return codeCache.redirectCode(RedirectType.ACCOUNT, address);
     }
 
     /**
@@ -235,8 +270,7 @@ public class DispatchingEvmFrameState implements EvmFrameState {
      */
     @Override
     public @NonNull Hash getAccountRedirectCodeHash(@Nullable final Address address) {
-        return CodeFactory.createCode(RedirectBytecodeUtils.accountProxyBytecodeFor(address), 0, false)
-                .getCodeHash();
+        return getAccountRedirectEvmCode(address).getCodeHash();
     }
 
     /**
@@ -244,7 +278,15 @@ public class DispatchingEvmFrameState implements EvmFrameState {
      */
     @Override
     public @NonNull Bytes getScheduleRedirectCode(@Nullable final Address address) {
-        return RedirectBytecodeUtils.scheduleProxyBytecodeFor(address);
+        return getScheduleRedirectEvmCode(address).getBytes();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NonNull Code getScheduleRedirectEvmCode(@Nullable final Address address) {
+        return codeCache.redirectCode(RedirectType.SCHEDULE, address);
     }
 
     /**
@@ -252,8 +294,7 @@ public class DispatchingEvmFrameState implements EvmFrameState {
      */
     @Override
     public @NonNull Hash getScheduleRedirectCodeHash(@Nullable final Address address) {
-        return CodeFactory.createCode(RedirectBytecodeUtils.scheduleProxyBytecodeFor(address), 0, false)
-                .getCodeHash();
+        return getScheduleRedirectEvmCode(address).getCodeHash();
     }
 
     /**
@@ -299,6 +340,7 @@ public class DispatchingEvmFrameState implements EvmFrameState {
     @Override
     public void setCode(final ContractID contractID, @NonNull final Bytes code) {
         contractStateStore.putBytecode(contractID, new Bytecode(tuweniToPbjBytes(requireNonNull(code))));
+        codeCache.invalidate(contractID);
     }
 
     /**
@@ -14,6 +14,7 @@ import org.apache.tuweni.units.bigints.UInt256;
 import org.hyperledger.besu.datatypes.Address;
 import org.hyperledger.besu.datatypes.Hash;
 import org.hyperledger.besu.datatypes.Wei;
+import org.hyperledger.besu.evm.Code;
 import org.hyperledger.besu.evm.account.Account;
 import org.hyperledger.besu.evm.account.MutableAccount;
 import org.hyperledger.besu.evm.frame.ExceptionalHaltReason;
@@ -179,6 +180,17 @@ public interface EvmFrameState {
     @NonNull
     Bytes getCode(ContractID contractID);
 
+    /**
+     * Returns the Besu {@link Code} for the account with the given contract id, or empty code if no such code exists.
+     * Unlike code created from {@link #getCode(ContractID)}, the returned code may be shared, and keeps its code
+     * hash and jump destination analysis between calls.
+     *
+     * @param contractID the contract id
+     * @return the Besu code for the account
+     */
+    @NonNull
+    Code getEvmCode(ContractID contractID);
+
     /**
      * Sets the code for the contract with the given contract id. Only used during contract creation.
      *
@@ -199,6 +211,16 @@ public interface EvmFrameState {
     @NonNull
     Bytes getTokenRedirectCode(@NonNull Address address);
 
+    /**
+     * Returns the Besu {@link Code} of the redirect bytecode for the token with the given address, which must be a
+     * long-zero address.
+     *
+     * @param address the token long-zero address
+     * @return the redirect code for the token
+     */
+    @NonNull
+    Code getTokenRedirectEvmCode(@NonNull Address address);
+
     /**
      * @param contractID the contract to extract its code hash
      * @return the code hash of the contract
@@ -229,6 +251,15 @@ public interface EvmFrameState {
     @NonNull
     Bytes getAccountRedirectCode(@Nullable Address address);
 
+    /**
+     * Returns the Besu {@link Code} of the redirect bytecode for the account with the given address.
+     *
+     * @param address the account address
+     * @return the redirect code for the account
+     */
+    @NonNull
+    Code getAccountRedirectEvmCode(@Nullable Address address);
+
     /**
      * Returns the hash of the redirect bytecode for the account with the given address.
      *
@@ -248,6 +279,15 @@ public interface EvmFrameState {
     @NonNull
     Bytes getScheduleRedirectCode(@Nullable Address address);
 
+    /**
+     * Returns the Besu {@link Code} of the redirect bytecode for the schedule with the given address.
+     *
+     * @param address the schedule address
+     * @return the redirect code for the schedule
+     */
+    @NonNull
+    Code getScheduleRedirectEvmCode(@Nullable Address address);
+
     /**
      * Returns the hash of the redirect bytecode for the schedule with the given address.
      *
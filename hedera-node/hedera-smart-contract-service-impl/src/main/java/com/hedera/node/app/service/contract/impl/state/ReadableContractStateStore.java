@@ -7,8 +7,11 @@ import com.hedera.hapi.node.base.ContractID;
 import com.hedera.hapi.node.state.contract.Bytecode;
 import com.hedera.hapi.node.state.contract.SlotKey;
 import com.hedera.hapi.node.state.contract.SlotValue;
+import com.hedera.hapi.node.state.primitives.ProtoBoolean;
+import com.hedera.hapi.node.state.primitives.ProtoBytes;
 import com.hedera.node.app.hapi.utils.EntityType;
 import com.hedera.node.app.service.contract.impl.schemas.V0490ContractSchema;
+import com.hedera.node.app.service.contract.impl.schemas.V0640ContractSchema;
 import com.hedera.node.app.spi.ids.ReadableEntityCounters;
 import com.swirlds.state.spi.ReadableKVState;
 import com.swirlds.state.spi.ReadableStates;
@@ -28,10 +31,11 @@ public class ReadableContractStateStore implements ContractStateStore {
     private final ReadableKVState<SlotKey, SlotValue> storage;
     private final ReadableKVState<ContractID, Bytecode> bytecode;
     private final ReadableEntityCounters entityCounters;
+    private final ReadableStates states;
 
     public ReadableContractStateStore(
             @NonNull final ReadableStates states, @NonNull final ReadableEntityCounters entityCounters) {
-        requireNonNull(states);
+        this.states = requireNonNull(states);
         this.entityCounters = requireNonNull(entityCounters);
         this.storage = states.get(V0490ContractSchema.STORAGE_KEY);
         this.bytecode = states.get(V0490ContractSchema.BYTECODE_KEY);
@@ -82,6 +86,50 @@ public class ReadableContractStateStore implements ContractStateStore {
         throw new UnsupportedOperationException("Cannot put slots in a read-only store");
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isSlotIndexed() {
+        // Looked up on demand, since it is only needed when committing storage changes
+        final ProtoBoolean slotIndexed =
+                states.<ProtoBoolean>getSingleton(V0640ContractSchema.STORAGE_SLOT_INDEXED_KEY).get();
+        return slotIndexed != null && slotIndexed.value();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @Nullable ProtoBytes getSlotIndexPage(@NonNull final SlotKey pageKey) {
+        // Looked up on demand, since only the slot-indexed storage layout uses this state
+        return states.<SlotKey, ProtoBytes>get(V0640ContractSchema.STORAGE_INDEX_KEY)
+                .get(requireNonNull(pageKey));
+    }
+
+    /**
+     * Refuses to put slot index pages.
+     *
+     * @param pageKey the key of the page
+     * @param page the page
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void putSlotIndexPage(@NonNull final SlotKey pageKey, @NonNull final ProtoBytes page) {
+        throw new UnsupportedOperationException("Cannot put slot index pages in a read-only store");
+    }
+
+    /**
+     * Refuses to remove slot index pages.
+     *
+     * @param pageKey the key of the page
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void removeSlotIndexPage(@NonNull final SlotKey pageKey) {
+        throw new UnsupportedOperationException("Cannot remove slot index pages from a read-only store");
+    }
+
     /**
      * Returns an empty set of modified slot keys.
      *
@@ -120,4 +168,9 @@ public class ReadableContractStateStore implements ContractStateStore {
     public long getNumBytecodes() {
         return entityCounters.getCounterFor(EntityType.CONTRACT_BYTECODE);
     }
+
+    @Override
+    public void warm(@NonNull final SlotKey key) {
+        storage.warm(key);
+    }
 }
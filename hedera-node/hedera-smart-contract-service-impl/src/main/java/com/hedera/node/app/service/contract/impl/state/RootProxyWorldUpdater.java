@@ -63,7 +63,7 @@ public class RootProxyWorldUpdater extends ProxyWorldUpdater {
      *     <li>Gets the list of pending storage changes and summarizes their effects on size.</li>
      *     <li>Validates the effects on size are legal.</li>
      *     <li>For each increase in storage size, calculates rent and tries to charge the allocating contract.</li>
-     *     <li>"Rewrites" the pending storage changes to preserve per-contract linked lists.</li>
+     *     <li>"Rewrites" the pending storage changes to preserve per-contract linked lists (or index pages).</li>
      * </ol>
      *
      * @throws ResourceExhaustedException if the storage size limit is exceeded or rent cannot be paid
@@ -77,12 +77,9 @@ public class RootProxyWorldUpdater extends ProxyWorldUpdater {
                 sizeEffects.finalSlotsUsed(), enhancement.operations(), sizeEffects.sizeChanges());
         // Charge rent for each increase in storage size
         chargeRentFor(sizeEffects);
-        // "Rewrite" the pending storage changes to preserve per-contract linked lists
-        storageManager.persistChanges(
-                enhancement,
-                changes,
-                sizeEffects.sizeChanges(),
-                enhancement.operations().getStore());
+        // "Rewrite" the pending storage changes to preserve per-contract linked lists (or index pages)
+        final var store = enhancement.operations().getStore();
+        storageManager.persistChanges(enhancement, changes, sizeEffects.sizeChanges(), store, store.isSlotIndexed());
 
         // We now have an apparently valid change set, and want to capture some summary
         // information for the Hedera record
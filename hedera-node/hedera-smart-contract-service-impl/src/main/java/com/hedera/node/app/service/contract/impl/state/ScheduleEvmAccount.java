@@ -11,7 +11,7 @@ import org.hyperledger.besu.datatypes.Hash;
 import org.hyperledger.besu.evm.Code;
 import org.hyperledger.besu.evm.account.Account;
 import org.hyperledger.besu.evm.account.MutableAccount;
-import org.hyperledger.besu.evm.code.CodeFactory;
+import org.hyperledger.besu.evm.code.CodeV0;
 
 /**
  * An {@link Account} whose code proxies all calls to the {@code 0x16b} system contract, and thus can
@@ -59,9 +59,9 @@ public class ScheduleEvmAccount extends AbstractEvmEntityAccount {
         // Check to see if the account needs to return the proxy redirect for schedule bytecode
         final int selector = functionSelector.size() >= FUNCTION_SELECTOR_LENGTH ? functionSelector.getInt(0) : 0;
         if (!SCHEDULE_PROXY_FUNCTION_SELECTOR.contains(selector)) {
-            return CodeFactory.createCode(Bytes.EMPTY, 0, false);
+            return CodeV0.EMPTY_CODE;
         }
-        return CodeFactory.createCode(getCode(), 0, false);
+        return state.getScheduleRedirectEvmCode(address);
     }
 
     @Override
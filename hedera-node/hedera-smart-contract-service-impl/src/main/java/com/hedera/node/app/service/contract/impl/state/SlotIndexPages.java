@@ -0,0 +1,187 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.node.app.service.contract.impl.state;
+
+import static java.util.Objects.requireNonNull;
+
+import com.hedera.hapi.node.base.ContractID;
+import com.hedera.hapi.node.state.contract.SlotKey;
+import com.hedera.hapi.node.state.primitives.ProtoBytes;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.SequencedSet;
+
+/**
+ * Encoding and addressing of the pages of the slot-indexed contract storage layout.
+ *
+ * <p>In this layout, the keys of the slots a contract owns are spread over index pages by linear hashing. A contract
+ * with {@code n} slots has {@link #numPagesFor(long)} pages, that is one page per {@link #PAGE_CAPACITY} slots; so a
+ * page holds about {@link #PAGE_CAPACITY} slot keys on average, no matter how many slots the contract has. Whenever
+ * the number of pages grows by one, a single page is split in two; and whenever it shrinks by one, the last page is
+ * merged back into the page it was split from (see {@link ContractSlotIndex}).
+ *
+ * <p>A page is stored under a {@link SlotKey} whose key is the four-byte page number, and holds the slot keys
+ * assigned to it, each prefixed by its length. The number of slots of the contract, which determines the number of
+ * pages, is stored in a header under a {@link SlotKey} with an empty key.
+ *
+ * <p>Inserting or removing a slot thus only rewrites the header, and one or two pages of bounded size, no matter how
+ * many slots a contract has; and all the slots of a contract can still be enumerated by reading its pages.
+ */
+public final class SlotIndexPages {
+    /**
+     * The number of slots per index page a contract has pages for.
+     */
+    public static final int PAGE_CAPACITY = 32;
+
+    private SlotIndexPages() {
+        throw new UnsupportedOperationException("Utility Class");
+    }
+
+    /**
+     * Returns the number of index pages of a contract with the given number of slots.
+     *
+     * @param slotCount the number of slots
+     * @return the number of index pages, at least one
+     */
+    public static int numPagesFor(final long slotCount) {
+        return Math.toIntExact(Math.max(1, (slotCount + PAGE_CAPACITY - 1) / PAGE_CAPACITY));
+    }
+
+    /**
+     * Returns the number of the index page the given slot key belongs to, in a contract with the given number of
+     * index pages.
+     *
+     * @param slotKey the key of the slot
+     * @param numPages the number of index pages
+     * @return the page number, in {@code [0, numPages)}
+     */
+    public static int pageNumberFor(@NonNull final Bytes slotKey, final int numPages) {
+        requireNonNull(slotKey);
+        if (numPages <= 0) {
+            throw new IllegalArgumentException("Number of pages " + numPages + " is not positive");
+        }
+        final long hash = hashOf(slotKey);
+        final long lowPages = Integer.highestOneBit(numPages);
+        final long pageNumber = hash & (lowPages - 1);
+        // Pages below numPages - lowPages have already been split, and use one more bit of the hash
+        return (int) (pageNumber < numPages - lowPages ? hash & (2 * lowPages - 1) : pageNumber);
+    }
+
+    /**
+     * Returns the key of the given index page of the given contract.
+     *
+     * @param contractId the id of the contract
+     * @param pageNumber the page number, not negative
+     * @return the key of the index page
+     */
+    public static @NonNull SlotKey pageKey(@NonNull final ContractID contractId, final int pageNumber) {
+        requireNonNull(contractId);
+        if (pageNumber < 0) {
+            throw new IllegalArgumentException("Page number " + pageNumber + " is out of range");
+        }
+        return new SlotKey(
+                contractId,
+                Bytes.wrap(new byte[] {
+                    (byte) (pageNumber >>> 24), (byte) (pageNumber >>> 16), (byte) (pageNumber >>> 8), (byte) pageNumber
+                }));
+    }
+
+    /**
+     * Returns the key of the index header of the given contract.
+     *
+     * @param contractId the id of the contract
+     * @return the key of the index header
+     */
+    public static @NonNull SlotKey headerKey(@NonNull final ContractID contractId) {
+        requireNonNull(contractId);
+        return new SlotKey(contractId, Bytes.EMPTY);
+    }
+
+    /**
+     * Decodes the number of slots in the given index header.
+     *
+     * @param header the header, or null if the contract has no indexed slots
+     * @return the number of slots
+     */
+    public static long slotCountIn(@Nullable final ProtoBytes header) {
+        return header == null ? 0 : header.value().getLong(0);
+    }
+
+    /**
+     * Encodes the given number of slots as an index header.
+     *
+     * @param slotCount the number of slots
+     * @return the encoded header
+     */
+    public static @NonNull ProtoBytes headerOf(final long slotCount) {
+        final var encoded = new byte[Long.BYTES];
+        for (int i = 0; i < Long.BYTES; i++) {
+            encoded[i] = (byte) (slotCount >>> (8 * (Long.BYTES - 1 - i)));
+        }
+        return new ProtoBytes(Bytes.wrap(encoded));
+    }
+
+    /**
+     * Decodes the slot keys in the given index page, in insertion order.
+     *
+     * @param page the page, or null for an empty page
+     * @return the slot keys in the page
+     */
+    public static @NonNull SequencedSet<Bytes> slotKeysIn(@Nullable final ProtoBytes page) {
+        final SequencedSet<Bytes> slotKeys = new LinkedHashSet<>();
+        if (page == null) {
+            return slotKeys;
+        }
+        final var encoded = page.value();
+        long offset = 0;
+        while (offset < encoded.length()) {
+            final int length = Byte.toUnsignedInt(encoded.getByte(offset));
+            slotKeys.add(encoded.slice(offset + 1, length));
+            offset += 1 + length;
+        }
+        return slotKeys;
+    }
+
+    /**
+     * Encodes the given slot keys as an index page.
+     *
+     * @param slotKeys the slot keys
+     * @return the encoded page
+     */
+    public static @NonNull ProtoBytes pageOf(@NonNull final Collection<Bytes> slotKeys) {
+        requireNonNull(slotKeys);
+        int size = 0;
+        for (final var slotKey : slotKeys) {
+            size += 1 + (int) slotKey.length();
+        }
+        final var encoded = new byte[size];
+        int offset = 0;
+        for (final var slotKey : slotKeys) {
+            final var bytes = slotKey.toByteArray();
+            encoded[offset++] = (byte) bytes.length;
+            System.arraycopy(bytes, 0, encoded, offset, bytes.length);
+            offset += bytes.length;
+        }
+        return new ProtoBytes(Bytes.wrap(encoded));
+    }
+
+    /**
+     * A hash of all the bytes of a slot key, mixed so that its low bits are spread evenly whether the key is a small
+     * integer or a Keccak-256 hash. Part of the layout in state, so it must never change.
+     */
+    private static long hashOf(@NonNull final Bytes slotKey) {
+        long hash = 0;
+        for (long i = 0, n = slotKey.length(); i < n; i++) {
+            hash = 31 * hash + Byte.toUnsignedInt(slotKey.getByte(i));
+        }
+        // The finalizer of MurmurHash3
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
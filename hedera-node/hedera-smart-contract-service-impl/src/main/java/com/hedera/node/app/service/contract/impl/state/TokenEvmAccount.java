@@ -8,7 +8,6 @@ import org.hyperledger.besu.datatypes.Hash;
 import org.hyperledger.besu.evm.Code;
 import org.hyperledger.besu.evm.account.Account;
 import org.hyperledger.besu.evm.account.MutableAccount;
-import org.hyperledger.besu.evm.code.CodeFactory;
 
 /**
  * An {@link Account} whose code proxies all calls to the {@code 0x167} system contract, and thus can
@@ -43,7 +42,7 @@ public class TokenEvmAccount extends AbstractEvmEntityAccount {
 
     @Override
     public @NonNull Code getEvmCode(@NonNull final Bytes functionSelector) {
-        return CodeFactory.createCode(getCode(), 0, false);
+        return state.getTokenRedirectEvmCode(address);
     }
 
     @Override
@@ -7,8 +7,10 @@ import com.hedera.hapi.node.base.ContractID;
 import com.hedera.hapi.node.state.contract.Bytecode;
 import com.hedera.hapi.node.state.contract.SlotKey;
 import com.hedera.hapi.node.state.contract.SlotValue;
+import com.hedera.hapi.node.state.primitives.ProtoBytes;
 import com.hedera.node.app.hapi.utils.EntityType;
 import com.hedera.node.app.service.contract.impl.schemas.V0490ContractSchema;
+import com.hedera.node.app.service.contract.impl.schemas.V0640ContractSchema;
 import com.hedera.node.app.spi.ids.WritableEntityCounters;
 import com.swirlds.state.spi.WritableKVState;
 import com.swirlds.state.spi.WritableStates;
@@ -23,6 +25,7 @@ public class WritableContractStateStore extends ReadableContractStateStore imple
     private final WritableKVState<SlotKey, SlotValue> storage;
     private final WritableKVState<ContractID, Bytecode> bytecode;
     private final WritableEntityCounters entityCounters;
+    private final WritableStates states;
 
     /**
      * Create a new {@link WritableContractStateStore} instance.
@@ -32,7 +35,7 @@ public class WritableContractStateStore extends ReadableContractStateStore imple
     public WritableContractStateStore(
             @NonNull final WritableStates states, @NonNull final WritableEntityCounters entityCounters) {
         super(states, entityCounters);
-        requireNonNull(states);
+        this.states = requireNonNull(states);
         this.storage = states.get(V0490ContractSchema.STORAGE_KEY);
         this.bytecode = states.get(V0490ContractSchema.BYTECODE_KEY);
         this.entityCounters = requireNonNull(entityCounters);
@@ -76,6 +79,30 @@ public class WritableContractStateStore extends ReadableContractStateStore imple
         storage.put(requireNonNull(key), requireNonNull(value));
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @Nullable ProtoBytes getSlotIndexPage(@NonNull final SlotKey pageKey) {
+        return slotIndex().get(requireNonNull(pageKey));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void putSlotIndexPage(@NonNull final SlotKey pageKey, @NonNull final ProtoBytes page) {
+        slotIndex().put(requireNonNull(pageKey), requireNonNull(page));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void removeSlotIndexPage(@NonNull final SlotKey pageKey) {
+        slotIndex().remove(requireNonNull(pageKey));
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -99,4 +126,9 @@ public class WritableContractStateStore extends ReadableContractStateStore imple
     public @Nullable SlotValue getOriginalSlotValue(@NonNull final SlotKey key) {
         return storage.getOriginalValue(requireNonNull(key));
     }
+
+    private WritableKVState<SlotKey, ProtoBytes> slotIndex() {
+        // Looked up on demand, since only the slot-indexed storage layout uses this state
+        return states.get(V0640ContractSchema.STORAGE_INDEX_KEY);
+    }
 }
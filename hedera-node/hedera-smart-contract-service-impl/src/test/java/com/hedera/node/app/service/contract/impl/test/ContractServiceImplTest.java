@@ -10,6 +10,7 @@ import static org.mockito.Mockito.when;
 
 import com.hedera.node.app.service.contract.impl.ContractServiceImpl;
 import com.hedera.node.app.service.contract.impl.schemas.V0490ContractSchema;
+import com.hedera.node.app.service.contract.impl.schemas.V0640ContractSchema;
 import com.hedera.node.app.spi.AppContext;
 import com.hedera.node.app.spi.signatures.SignatureVerifier;
 import com.hedera.node.config.data.ContractsConfig;
@@ -70,8 +71,9 @@ class ContractServiceImplTest {
         final var captor = ArgumentCaptor.forClass(Schema.class);
         final var mockRegistry = mock(SchemaRegistry.class);
         subject.registerSchemas(mockRegistry);
-        verify(mockRegistry, times(1)).register(captor.capture());
+        verify(mockRegistry, times(2)).register(captor.capture());
         final var schemas = captor.getAllValues();
         assertInstanceOf(V0490ContractSchema.class, schemas.getFirst());
+        assertInstanceOf(V0640ContractSchema.class, schemas.getLast());
     }
 }
@@ -39,6 +39,7 @@ import com.hedera.node.app.service.contract.impl.exec.utils.FrameUtils;
 import com.hedera.node.app.service.contract.impl.exec.utils.PropagatedCallFailureRef;
 import com.hedera.node.app.service.contract.impl.hevm.HederaEvmTransactionResult;
 import com.hedera.node.app.service.contract.impl.hevm.HevmPropagatedCallFailure;
+import com.hedera.node.app.service.contract.impl.infra.StoragePrefetcher;
 import com.hedera.node.app.service.contract.impl.state.ProxyWorldUpdater;
 import com.hedera.node.config.testfixtures.HederaTestConfigBuilder;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
@@ -87,13 +88,16 @@ class FrameRunnerTest {
     @Mock
     private EntityIdFactory entityIdFactory;
 
+    @Mock
+    private StoragePrefetcher storagePrefetcher;
+
     private final PropagatedCallFailureRef propagatedCallFailure = new PropagatedCallFailureRef();
 
     private FrameRunner subject;
 
     @BeforeEach
     void setUp() {
-        subject = new FrameRunner(gasCalculator, entityIdFactory);
+        subject = new FrameRunner(gasCalculator, entityIdFactory, storagePrefetcher);
     }
 
     @Test
@@ -1,19 +1,19 @@
 // SPDX-License-Identifier: Apache-2.0
 package com.hedera.node.app.service.contract.impl.test.exec.operations;
 
-import static com.hedera.hapi.streams.SidecarType.CONTRACT_STATE_CHANGE;
 import static com.hedera.node.app.service.contract.impl.test.TestHelpers.CALLED_CONTRACT_ID;
 import static com.hedera.node.app.service.contract.impl.test.TestHelpers.EIP_1014_ADDRESS;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
 
-import com.hedera.node.app.service.contract.impl.exec.FeatureFlags;
 import com.hedera.node.app.service.contract.impl.exec.operations.CustomSLoadOperation;
 import com.hedera.node.app.service.contract.impl.exec.utils.FrameUtils;
 import com.hedera.node.app.service.contract.impl.infra.StorageAccessTracker;
 import com.hedera.node.app.service.contract.impl.state.ProxyWorldUpdater;
 import java.util.Deque;
+import java.util.Map;
+import java.util.Set;
 import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import org.apache.tuweni.units.bigints.UInt256;
@@ -34,9 +34,6 @@ class CustomSLoadOperationTest {
     private static final Bytes A_STORAGE_KEY = Bytes32.fromHexString("0x1234");
     private static final Bytes A_STORAGE_VALUE = Bytes32.fromHexString("0x5678");
 
-    @Mock
-    private FeatureFlags featureFlags;
-
     @Mock
     private SLoadOperation delegate;
 
@@ -65,7 +62,7 @@ class CustomSLoadOperationTest {
     @BeforeEach
     void setUp() {
         realSLoadOperation = new SLoadOperation(gasCalculator);
-        subject = new CustomSLoadOperation(featureFlags, delegate);
+        subject = new CustomSLoadOperation(delegate);
     }
 
     @Test
@@ -79,25 +76,31 @@ class CustomSLoadOperationTest {
     }
 
     @Test
-    void doesNoTrackingIfSidecarDisabled() {
+    void tracksReadValueWithStateChangeSidecarsDisabled() {
         final var successResult = new Operation.OperationResult(123, null);
+        final var prefetchOnlyTracker = StorageAccessTracker.forPrefetchOnly();
 
-        given(frame.getStackItem(0)).willReturn(A_STORAGE_KEY);
+        given(frame.getContextVariable(FrameUtils.TRACKER_CONTEXT_VARIABLE)).willReturn(prefetchOnlyTracker);
+        given(frame.getStackItem(0)).willReturn(A_STORAGE_KEY).willReturn(A_STORAGE_VALUE);
+        given(frame.getWorldUpdater()).willReturn(proxyWorldUpdater);
+        given(proxyWorldUpdater.getHederaContractId(EIP_1014_ADDRESS)).willReturn(CALLED_CONTRACT_ID);
         given(delegate.execute(frame, evm)).willReturn(successResult);
+        given(frame.getRecipientAddress()).willReturn(EIP_1014_ADDRESS);
+        given(frame.getMessageFrameStack()).willReturn(stack);
+        given(stack.isEmpty()).willReturn(true);
 
         final var result = subject.execute(frame, evm);
 
         assertSame(successResult, result);
-
-        verify(featureFlags).isSidecarEnabled(frame, CONTRACT_STATE_CHANGE);
-        verifyNoMoreInteractions(frame);
+        assertEquals(
+                Map.of(CALLED_CONTRACT_ID, Set.of(UInt256.fromBytes(A_STORAGE_KEY))),
+                prefetchOnlyTracker.touchedSlotKeys());
     }
 
     @Test
     void tracksReadValueOnSuccess() {
         final var successResult = new Operation.OperationResult(123, null);
 
-        given(featureFlags.isSidecarEnabled(frame, CONTRACT_STATE_CHANGE)).willReturn(true);
         given(frame.getContextVariable(FrameUtils.TRACKER_CONTEXT_VARIABLE)).willReturn(accessTracker);
         given(frame.getStackItem(0)).willReturn(A_STORAGE_KEY).willReturn(A_STORAGE_VALUE);
         given(frame.getWorldUpdater()).willReturn(proxyWorldUpdater);
@@ -119,7 +122,6 @@ class CustomSLoadOperationTest {
     void worksAroundUnexpectedlyMissingAccessTracker() {
         final var successResult = new Operation.OperationResult(123, null);
 
-        given(featureFlags.isSidecarEnabled(frame, CONTRACT_STATE_CHANGE)).willReturn(true);
         given(frame.getStackItem(0)).willReturn(A_STORAGE_KEY).willReturn(A_STORAGE_VALUE);
         given(delegate.execute(frame, evm)).willReturn(successResult);
         given(frame.getMessageFrameStack()).willReturn(stack);
@@ -163,6 +163,7 @@ class FrameBuilderTest {
         final var config = HederaTestConfigBuilder.create()
                 .withValue("ledger.fundingAccount", DEFAULT_COINBASE)
                 .withValue("contracts.sidecars", "CONTRACT_BYTECODE,CONTRACT_ACTION")
+                .withValue("contracts.storagePrefetch.enabled", false)
                 .getOrCreateConfig();
 
         final var frame = subject.buildInitialFrameWith(
@@ -199,6 +200,35 @@ class FrameBuilderTest {
         assertSame(tinybarValues, tinybarValuesFor(frame));
     }
 
+    @Test
+    void constructsExpectedFrameIncludingPrefetchOnlyAccessTrackerWithSidecarDisabled() {
+        final var transaction = wellKnownHapiCall();
+        givenContractExists();
+        given(worldUpdater.updater()).willReturn(stackedUpdater);
+        given(blocks.blockValuesOf(GAS_LIMIT)).willReturn(blockValues);
+        given(worldUpdater.getHederaAccount(CALLED_CONTRACT_ID)).willReturn(account);
+        given(account.getEvmCode(Bytes.wrap(CALL_DATA.toByteArray()))).willReturn(CONTRACT_CODE);
+        final var config = HederaTestConfigBuilder.create()
+                .withValue("ledger.fundingAccount", DEFAULT_COINBASE)
+                .withValue("contracts.sidecars", "CONTRACT_BYTECODE,CONTRACT_ACTION")
+                .withValue("contracts.storagePrefetch.enabled", true)
+                .getOrCreateConfig();
+
+        final var frame = subject.buildInitialFrameWith(
+                transaction,
+                worldUpdater,
+                wellKnownContextWith(blocks, tinybarValues, systemContractGasCalculator),
+                config,
+                featureFlags,
+                EIP_1014_ADDRESS,
+                NON_SYSTEM_LONG_ZERO_ADDRESS,
+                INTRINSIC_GAS);
+
+        final var tracker = accessTrackerFor(frame);
+        assertNotNull(tracker);
+        assertTrue(tracker.isPrefetchOnly());
+    }
+
     @Test
     void callFailsWhenContractNotFound() {
         final var transaction = wellKnownHapiCall();
@@ -0,0 +1,91 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.node.app.service.contract.impl.test.exec.utils;
+
+import static com.hedera.node.app.service.contract.impl.exec.systemcontracts.HtsSystemContract.HTS_167_CONTRACT_ID;
+import static com.hedera.node.app.service.contract.impl.exec.systemcontracts.HtsSystemContract.HTS_16C_CONTRACT_ID;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hedera.node.app.service.contract.impl.exec.utils.SystemContractDispatchTable;
+import com.hedera.node.app.service.contract.impl.exec.utils.SystemContractMethod;
+import com.hedera.node.app.service.contract.impl.exec.utils.SystemContractMethod.SystemContract;
+import com.hedera.node.app.service.contract.impl.exec.utils.SystemContractMethodRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class SystemContractDispatchTableTest {
+    private static final SystemContractMethod TRANSFER = SystemContractMethod.declare("transfer(address,uint256)");
+    private static final SystemContractMethod APPROVE = SystemContractMethod.declare("approve(address,uint256)");
+    private static final SystemContractMethod ONLY_ON_16C =
+            SystemContractMethod.declare("burn(address,uint256)").withSupportedAddress(HTS_16C_CONTRACT_ID);
+    private static final SystemContractMethod UNKNOWN = SystemContractMethod.declare("unknown()");
+
+    private final SystemContractMethodRegistry registry = new SystemContractMethodRegistry();
+
+    @Test
+    void returnsOnlyTranslatorsRegisteringSelectorInListOrder() {
+        final var first = register("first", TRANSFER);
+        final var catchAll = "catchAll";
+        final var second = register("second", APPROVE, TRANSFER);
+        final var translators = List.of(first, catchAll, second);
+
+        final var subject = registry.dispatchTableFor(HTS_167_CONTRACT_ID, translators);
+
+        assertThat(subject.candidatesFor(selectorOf(TRANSFER))).containsExactly(first, catchAll, second);
+        assertThat(subject.candidatesFor(selectorOf(APPROVE))).containsExactly(catchAll, second);
+        assertThat(subject.candidatesFor(selectorOf(UNKNOWN))).containsExactly(catchAll);
+    }
+
+    @Test
+    void onlyIncludesMethodsSupportedAtAddress() {
+        final var burner = register("burner", ONLY_ON_16C);
+        final var translators = List.of(burner);
+
+        assertThat(registry.dispatchTableFor(HTS_167_CONTRACT_ID, translators)
+                        .candidatesFor(selectorOf(ONLY_ON_16C)))
+                .isEmpty();
+        assertThat(registry.dispatchTableFor(HTS_16C_CONTRACT_ID, translators)
+                        .candidatesFor(selectorOf(ONLY_ON_16C)))
+                .containsExactly(burner);
+    }
+
+    @Test
+    void reusesTableForSameTranslatorList() {
+        final var translators = List.of(register("first", TRANSFER));
+
+        final var subject = registry.dispatchTableFor(HTS_167_CONTRACT_ID, translators);
+
+        assertThat(registry.dispatchTableFor(HTS_167_CONTRACT_ID, translators)).isSameAs(subject);
+        assertThat(registry.dispatchTableFor(HTS_167_CONTRACT_ID, new ArrayList<>(translators)))
+                .isNotSameAs(subject);
+    }
+
+    @Test
+    void findsEverySelectorOfALargeTable() {
+        final var translators = new ArrayList<String>();
+        final var methods = new ArrayList<SystemContractMethod>();
+        for (int i = 0; i < 200; i++) {
+            final var method = SystemContractMethod.declare("method" + i + "(uint256)");
+            methods.add(method);
+            translators.add(register("translator" + i, method));
+        }
+
+        final var subject = registry.dispatchTableFor(HTS_167_CONTRACT_ID, List.copyOf(translators));
+
+        for (int i = 0; i < 200; i++) {
+            assertThat(subject.candidatesFor(selectorOf(methods.get(i)))).containsExactly(translators.get(i));
+        }
+        assertThat(subject.candidatesFor(selectorOf(UNKNOWN))).isEmpty();
+    }
+
+    private String register(final String translator, final SystemContractMethod... methods) {
+        for (final var method : methods) {
+            registry.register(method, method.withContract(SystemContract.HTS), translator);
+        }
+        return translator;
+    }
+
+    private static int selectorOf(final SystemContractMethod method) {
+        return SystemContractDispatchTable.selectorOf(method.selector());
+    }
+}
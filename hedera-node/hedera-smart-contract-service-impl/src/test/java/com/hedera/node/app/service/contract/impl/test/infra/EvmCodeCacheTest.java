@@ -0,0 +1,71 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.node.app.service.contract.impl.test.infra;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.hedera.hapi.node.base.ContractID;
+import com.hedera.node.app.service.contract.impl.exec.metrics.ContractMetrics;
+import com.hedera.node.app.service.contract.impl.infra.EvmCodeCache;
+import com.hedera.node.app.service.contract.impl.infra.EvmCodeCache.RedirectType;
+import com.hedera.node.app.service.contract.impl.utils.RedirectBytecodeUtils;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import org.hyperledger.besu.datatypes.Address;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class EvmCodeCacheTest {
+    private static final ContractID CONTRACT_ID =
+            ContractID.newBuilder().contractNum(1234L).build();
+    private static final Bytes BYTECODE = Bytes.wrap(new byte[] {0x60, 0x00, 0x56, 0x5b});
+    private static final Address ADDRESS = Address.fromHexString("0x00000000000000000000000000000000000004d2");
+
+    @Mock
+    private ContractMetrics contractMetrics;
+
+    private EvmCodeCache subject;
+
+    @BeforeEach
+    void setUp() {
+        subject = new EvmCodeCache(contractMetrics);
+    }
+
+    @Test
+    void reusesCodeForSameBytecodeOnly() {
+        final var code = subject.contractCode(CONTRACT_ID, BYTECODE);
+
+        assertSame(code, subject.contractCode(CONTRACT_ID, Bytes.wrap(BYTECODE.toByteArray())));
+        assertNotSame(code, subject.contractCode(CONTRACT_ID, Bytes.wrap(new byte[] {0x00})));
+        verify(contractMetrics).incrementCodeCacheHit();
+        verify(contractMetrics, times(2)).incrementCodeCacheMiss();
+    }
+
+    @Test
+    void createsCodeAgainAfterInvalidation() {
+        final var code = subject.contractCode(CONTRACT_ID, BYTECODE);
+        subject.invalidate(CONTRACT_ID);
+
+        final var recreated = subject.contractCode(CONTRACT_ID, BYTECODE);
+
+        assertNotSame(code, recreated);
+        assertEquals(code, recreated);
+    }
+
+    @Test
+    void cachesRedirectCodeByTypeAndAddress() {
+        final var tokenCode = subject.redirectCode(RedirectType.TOKEN, ADDRESS);
+        final var accountCode = subject.redirectCode(RedirectType.ACCOUNT, ADDRESS);
+
+        assertSame(tokenCode, subject.redirectCode(RedirectType.TOKEN, ADDRESS));
+        assertEquals(RedirectBytecodeUtils.tokenProxyBytecodeFor(ADDRESS), tokenCode.getBytes());
+        assertEquals(RedirectBytecodeUtils.accountProxyBytecodeFor(ADDRESS), accountCode.getBytes());
+        verify(contractMetrics).incrementCodeCacheHit();
+    }
+}
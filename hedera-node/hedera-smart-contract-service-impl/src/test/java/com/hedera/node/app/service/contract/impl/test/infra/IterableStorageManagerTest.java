@@ -17,6 +17,7 @@ import com.hedera.node.app.service.contract.impl.exec.scope.HederaOperations;
 import com.hedera.node.app.service.contract.impl.hevm.HederaWorldUpdater.Enhancement;
 import com.hedera.node.app.service.contract.impl.infra.IterableStorageManager;
 import com.hedera.node.app.service.contract.impl.state.ContractStateStore;
+import com.hedera.node.app.service.contract.impl.state.SlotIndexPages;
 import com.hedera.node.app.service.contract.impl.state.StorageAccess;
 import com.hedera.node.app.service.contract.impl.state.StorageAccesses;
 import com.hedera.node.app.service.contract.impl.state.StorageSizeChange;
@@ -375,4 +376,57 @@ class IterableStorageManagerTest {
         verifyNoMoreInteractions(store);
         verifyNoMoreInteractions(hederaOperations);
     }
+
+    @Test
+    void slotIndexedLayoutOnlyWritesChangedSlotsAndIndexPages() {
+        final var accesses = List.of(new StorageAccesses(
+                CONTRACT_1,
+                List.of(
+                        StorageAccess.newWrite(UInt256.ONE, UInt256.ZERO, UInt256.MAX_VALUE),
+                        StorageAccess.newWrite(UInt256.valueOf(2L), UInt256.MAX_VALUE, UInt256.ZERO),
+                        StorageAccess.newWrite(UInt256.valueOf(3L), UInt256.ONE, UInt256.MAX_VALUE))));
+        final var sizeChanges = List.of(new StorageSizeChange(CONTRACT_1, 1, 1));
+        final var headerKey = SlotIndexPages.headerKey(CONTRACT_1);
+        final var pageKey = SlotIndexPages.pageKey(CONTRACT_1, 0);
+        given(store.getSlotIndexPage(headerKey)).willReturn(SlotIndexPages.headerOf(1));
+        given(store.getSlotIndexPage(pageKey)).willReturn(SlotIndexPages.pageOf(List.of(BYTES_2)));
+        given(enhancement.operations()).willReturn(hederaOperations);
+
+        subject.persistChanges(enhancement, accesses, sizeChanges, store, true);
+
+        verify(store).getSlotIndexPage(headerKey);
+        verify(store).getSlotIndexPage(pageKey);
+        verify(store).putSlotIndexPage(pageKey, SlotIndexPages.pageOf(List.of(BYTES_1)));
+        verify(store).removeSlot(new SlotKey(CONTRACT_1, BYTES_2));
+        // The number of slots is unchanged, so the header is not rewritten
+        verifyNoMoreInteractions(store);
+        verify(hederaOperations).updateStorageMetadata(CONTRACT_1, Bytes.EMPTY, 0);
+        verify(enhancement, never()).nativeOperations();
+    }
+
+    @Test
+    void slotIndexedLayoutWritesEachChangedPageOnce() {
+        final var otherKey = UInt256.fromHexString("0x0101");
+        final var existingKey = tuweniToPbjBytes(UInt256.fromHexString("0x0201"));
+        final var accesses = List.of(new StorageAccesses(
+                CONTRACT_1,
+                List.of(
+                        StorageAccess.newWrite(UInt256.ONE, UInt256.ZERO, UInt256.MAX_VALUE),
+                        StorageAccess.newWrite(otherKey, UInt256.ZERO, UInt256.MAX_VALUE))));
+        final var sizeChanges = List.of(new StorageSizeChange(CONTRACT_1, 0, 2));
+        final var headerKey = SlotIndexPages.headerKey(CONTRACT_1);
+        final var pageKey = SlotIndexPages.pageKey(CONTRACT_1, 0);
+        given(store.getSlotIndexPage(headerKey)).willReturn(SlotIndexPages.headerOf(1));
+        given(store.getSlotIndexPage(pageKey)).willReturn(SlotIndexPages.pageOf(List.of(existingKey)));
+        given(enhancement.operations()).willReturn(hederaOperations);
+
+        subject.persistChanges(enhancement, accesses, sizeChanges, store, true);
+
+        verify(store)
+                .putSlotIndexPage(
+                        pageKey, SlotIndexPages.pageOf(List.of(existingKey, BYTES_1, tuweniToPbjBytes(otherKey))));
+        verify(store).putSlotIndexPage(headerKey, SlotIndexPages.headerOf(3));
+        verify(store).adjustSlotCount(2);
+        verify(hederaOperations).updateStorageMetadata(CONTRACT_1, Bytes.EMPTY, 2);
+    }
 }
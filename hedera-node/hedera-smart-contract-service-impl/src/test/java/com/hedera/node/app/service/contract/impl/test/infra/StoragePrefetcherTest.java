@@ -0,0 +1,171 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.node.app.service.contract.impl.test.infra;
+
+import static com.hedera.node.app.service.contract.impl.test.TestHelpers.DEFAULT_CONTRACTS_CONFIG;
+import static com.hedera.node.app.service.contract.impl.test.TestHelpers.entityIdFactory;
+import static com.hedera.node.app.service.contract.impl.utils.ConversionUtils.tuweniToPbjBytes;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.esaulpaugh.headlong.rlp.RLPEncoder;
+import com.hedera.hapi.node.base.AccountID;
+import com.hedera.hapi.node.base.ContractID;
+import com.hedera.hapi.node.state.contract.SlotKey;
+import com.hedera.hapi.node.state.token.Account;
+import com.hedera.node.app.service.contract.impl.exec.metrics.ContractMetrics;
+import com.hedera.node.app.service.contract.impl.infra.StoragePrefetcher;
+import com.hedera.node.app.service.contract.impl.state.ContractStateStore;
+import com.hedera.node.app.service.token.ReadableAccountStore;
+import com.hedera.node.config.data.ContractsConfig;
+import com.hedera.node.config.testfixtures.HederaTestConfigBuilder;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.LongStream;
+import org.apache.tuweni.units.bigints.UInt256;
+import org.hyperledger.besu.datatypes.Address;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class StoragePrefetcherTest {
+    private static final ContractID CONTRACT_ID = entityIdFactory.newContractId(1234L);
+    private static final Address EVM_ADDRESS = Address.fromHexString("0x1234567890123456789012345678901234567890");
+    private static final UInt256 FIRST_KEY = UInt256.valueOf(1L);
+    private static final UInt256 SECOND_KEY = UInt256.valueOf(2L);
+    private static final UInt256 THIRD_KEY = UInt256.valueOf(3L);
+
+    @Mock
+    private ContractMetrics contractMetrics;
+
+    @Mock
+    private ContractStateStore store;
+
+    @Mock
+    private ReadableAccountStore accountStore;
+
+    private StoragePrefetcher subject;
+
+    @BeforeEach
+    void setUp() {
+        final var config = HederaTestConfigBuilder.create()
+                .withValue("contracts.storagePrefetch.enabled", true)
+                .getOrCreateConfig()
+                .getConfigData(ContractsConfig.class);
+        subject = new StoragePrefetcher(() -> config, contractMetrics, entityIdFactory);
+    }
+
+    @Test
+    void prefetchesSlotsTouchedLastTime() {
+        subject.recordTouched(Map.of(CONTRACT_ID, Set.of(FIRST_KEY, SECOND_KEY)));
+
+        subject.warm(store, CONTRACT_ID, List.of(), Runnable::run);
+
+        verify(store).warm(slotKey(CONTRACT_ID, FIRST_KEY));
+        verify(store).warm(slotKey(CONTRACT_ID, SECOND_KEY));
+        verify(contractMetrics).addPrefetchedSlots(2);
+    }
+
+    @Test
+    void readsManySlotsOnTheGivenExecutor() {
+        final var keys = LongStream.range(0, 8).mapToObj(UInt256::valueOf).toList();
+        final List<Runnable> tasks = new ArrayList<>();
+
+        subject.warm(store, CONTRACT_ID, keys, tasks::add);
+
+        verify(store, never()).warm(any());
+        assertThat(tasks).hasSize(keys.size());
+        tasks.forEach(Runnable::run);
+        keys.forEach(key -> verify(store).warm(slotKey(CONTRACT_ID, key)));
+        verify(contractMetrics).addPrefetchedSlots(keys.size());
+    }
+
+    @Test
+    void reportsHowManyPrefetchedSlotsWereTouched() {
+        subject.warm(store, CONTRACT_ID, List.of(FIRST_KEY, SECOND_KEY), Runnable::run);
+
+        subject.recordTouched(Map.of(CONTRACT_ID, Set.of(SECOND_KEY, THIRD_KEY)));
+        subject.recordTouched(Map.of(CONTRACT_ID, Set.of(SECOND_KEY)));
+
+        verify(contractMetrics).addTouchedSlots(2, 1);
+        verify(contractMetrics).addTouchedSlots(1, 0);
+    }
+
+    @Test
+    void remembersAtMostConfiguredSlotsPerContract() {
+        final var config = HederaTestConfigBuilder.create()
+                .withValue("contracts.storagePrefetch.enabled", true)
+                .withValue("contracts.storagePrefetch.maxSlotsPerContract", 1)
+                .getOrCreateConfig()
+                .getConfigData(ContractsConfig.class);
+        subject = new StoragePrefetcher(() -> config, contractMetrics, entityIdFactory);
+
+        subject.recordTouched(Map.of(CONTRACT_ID, Set.of(FIRST_KEY, SECOND_KEY)));
+        subject.warm(store, CONTRACT_ID, List.of(), Runnable::run);
+
+        verify(contractMetrics).addPrefetchedSlots(1);
+    }
+
+    @Test
+    void prefetchesAccessListSlotsOfExistingContracts() {
+        final var otherAddress = Address.fromHexString("0x0000000000000000000000000000000000000bad");
+        given(accountStore.getContractById(entityIdFactory.newContractIdWithEvmAddress(tuweniToPbjBytes(EVM_ADDRESS))))
+                .willReturn(Account.newBuilder()
+                        .accountId(AccountID.newBuilder().accountNum(1234L))
+                        .smartContract(true)
+                        .build());
+        final var accessList = RLPEncoder.sequence(
+                List.of(EVM_ADDRESS.toArray(), List.of(FIRST_KEY.toArray(), new byte[] {1})),
+                List.of(otherAddress.toArray(), List.of(SECOND_KEY.toArray())));
+
+        subject.warm(store, accountStore, null, accessList, Runnable::run);
+
+        verify(store).warm(slotKey(CONTRACT_ID, FIRST_KEY));
+        verify(store).warm(slotKey(entityIdFactory.newContractId(0xbadL), SECOND_KEY));
+        verify(contractMetrics, times(2)).addPrefetchedSlots(1);
+    }
+
+    @Test
+    void stillPrefetchesCalledContractWithUndecodableAccessList() {
+        subject.recordTouched(Map.of(CONTRACT_ID, Set.of(FIRST_KEY)));
+
+        subject.warm(store, accountStore, CONTRACT_ID, new byte[] {(byte) 0xc2, 0x01}, Runnable::run);
+
+        verify(store).warm(slotKey(CONTRACT_ID, FIRST_KEY));
+    }
+
+    @Test
+    void decodesAccessListKeysByAddress() {
+        final var accessList =
+                RLPEncoder.sequence(List.of(EVM_ADDRESS.toArray(), List.of(FIRST_KEY.toArray(), SECOND_KEY.toArray())));
+
+        assertThat(StoragePrefetcher.accessListKeys(accessList))
+                .containsExactly(Map.entry(EVM_ADDRESS, Set.of(FIRST_KEY, SECOND_KEY)));
+        assertThat(StoragePrefetcher.accessListKeys(null)).isEmpty();
+    }
+
+    @Test
+    void doesNothingWhenDisabled() {
+        subject = new StoragePrefetcher(() -> DEFAULT_CONTRACTS_CONFIG, contractMetrics, entityIdFactory);
+
+        subject.warm(store, CONTRACT_ID, List.of(FIRST_KEY), Runnable::run);
+        subject.warm(store, accountStore, CONTRACT_ID, null, Runnable::run);
+
+        verify(store, never()).warm(any());
+        verifyNoInteractions(contractMetrics, accountStore);
+    }
+
+    private static SlotKey slotKey(final ContractID contractId, final UInt256 key) {
+        return new SlotKey(contractId, Bytes.wrap(key.toArrayUnsafe()));
+    }
+}
@@ -0,0 +1,100 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.node.app.service.contract.impl.test.state;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+
+import com.hedera.hapi.node.base.ContractID;
+import com.hedera.hapi.node.state.contract.SlotKey;
+import com.hedera.hapi.node.state.primitives.ProtoBytes;
+import com.hedera.node.app.service.contract.impl.state.ContractSlotIndex;
+import com.hedera.node.app.service.contract.impl.state.ContractStateStore;
+import com.hedera.node.app.service.contract.impl.state.SlotIndexPages;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mock.Strictness;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ContractSlotIndexTest {
+    private static final ContractID CONTRACT_ID =
+            ContractID.newBuilder().contractNum(1234L).build();
+    private static final int NUM_SLOTS = 10_000;
+
+    private final Map<SlotKey, ProtoBytes> pages = new HashMap<>();
+
+    // A map-backed store, whose stubs not every test uses
+    @Mock(strictness = Strictness.LENIENT)
+    private ContractStateStore store;
+
+    @BeforeEach
+    void setUp() {
+        given(store.getSlotIndexPage(any())).willAnswer(invocation -> pages.get(invocation.<SlotKey>getArgument(0)));
+        willAnswer(invocation -> pages.put(invocation.getArgument(0), invocation.getArgument(1)))
+                .given(store)
+                .putSlotIndexPage(any(), any());
+        willAnswer(invocation -> pages.remove(invocation.<SlotKey>getArgument(0)))
+                .given(store)
+                .removeSlotIndexPage(any());
+    }
+
+    @Test
+    void keepsPagesBoundedAsSlotsAreInsertedAndRemoved() {
+        final List<Bytes> slotKeys = new ArrayList<>();
+        for (int i = 0; i < NUM_SLOTS; i++) {
+            slotKeys.add(Bytes.wrap(new byte[] {(byte) (i >>> 8), (byte) i}));
+        }
+        // Insert and remove over several writes, as over several transactions
+        for (int i = 0; i < NUM_SLOTS; i += 1_000) {
+            final var index = new ContractSlotIndex(CONTRACT_ID, store);
+            slotKeys.subList(i, i + 1_000).forEach(index::insert);
+            index.write();
+        }
+
+        assertEquals(NUM_SLOTS, SlotIndexPages.slotCountIn(pages.get(SlotIndexPages.headerKey(CONTRACT_ID))));
+        final int numPages = SlotIndexPages.numPagesFor(NUM_SLOTS);
+        int numIndexed = 0;
+        for (int pageNumber = 0; pageNumber < numPages; pageNumber++) {
+            final var pageSlotKeys =
+                    SlotIndexPages.slotKeysIn(pages.get(SlotIndexPages.pageKey(CONTRACT_ID, pageNumber)));
+            assertThat(pageSlotKeys).hasSizeLessThanOrEqualTo(4 * SlotIndexPages.PAGE_CAPACITY);
+            for (final var slotKey : pageSlotKeys) {
+                assertEquals(pageNumber, SlotIndexPages.pageNumberFor(slotKey, numPages));
+            }
+            numIndexed += pageSlotKeys.size();
+        }
+        assertEquals(NUM_SLOTS, numIndexed);
+
+        for (int i = 0; i < NUM_SLOTS; i += 1_000) {
+            final var index = new ContractSlotIndex(CONTRACT_ID, store);
+            slotKeys.subList(i, i + 1_000).forEach(index::remove);
+            index.write();
+        }
+
+        assertThat(pages).isEmpty();
+    }
+
+    @Test
+    void ignoresRepeatedInsertionsAndMissingRemovals() {
+        final var slotKey = Bytes.wrap(new byte[] {1});
+        final var index = new ContractSlotIndex(CONTRACT_ID, store);
+        index.insert(slotKey);
+        index.insert(slotKey);
+        index.remove(Bytes.wrap(new byte[] {2}));
+        index.write();
+
+        assertEquals(1, SlotIndexPages.slotCountIn(pages.get(SlotIndexPages.headerKey(CONTRACT_ID))));
+        assertThat(SlotIndexPages.slotKeysIn(pages.get(SlotIndexPages.pageKey(CONTRACT_ID, 0))))
+                .containsExactly(slotKey);
+    }
+}
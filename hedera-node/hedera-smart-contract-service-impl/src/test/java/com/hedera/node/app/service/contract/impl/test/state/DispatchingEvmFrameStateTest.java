@@ -45,9 +45,11 @@ import com.hedera.hapi.node.state.schedule.Schedule;
 import com.hedera.hapi.node.state.token.Account;
 import com.hedera.hapi.node.state.token.Token;
 import com.hedera.node.app.service.contract.impl.exec.failure.CustomExceptionalHaltReason;
+import com.hedera.node.app.service.contract.impl.exec.metrics.ContractMetrics;
 import com.hedera.node.app.service.contract.impl.exec.scope.ActiveContractVerificationStrategy;
 import com.hedera.node.app.service.contract.impl.exec.scope.HederaNativeOperations;
 import com.hedera.node.app.service.contract.impl.exec.scope.VerificationStrategy;
+import com.hedera.node.app.service.contract.impl.infra.EvmCodeCache;
 import com.hedera.node.app.service.contract.impl.state.ContractStateStore;
 import com.hedera.node.app.service.contract.impl.state.DispatchingEvmFrameState;
 import com.hedera.node.app.service.contract.impl.state.ProxyEvmAccount;
@@ -134,11 +136,14 @@ class DispatchingEvmFrameStateTest {
     @Mock
     private MessageFrame frame;
 
+    @Mock
+    private ContractMetrics contractMetrics;
+
     private DispatchingEvmFrameState subject;
 
     @BeforeEach
     void setUp() {
-        subject = new DispatchingEvmFrameState(nativeOperations, contractStateStore);
+        subject = new DispatchingEvmFrameState(nativeOperations, contractStateStore, new EvmCodeCache(contractMetrics));
     }
 
     @Test
@@ -411,6 +416,30 @@ class DispatchingEvmFrameStateTest {
         assertEquals(SOME_PRETEND_CODE_HASH, actualCodeHash);
     }
 
+    @Test
+    void reusesEvmCodeUntilBytecodeChanges() {
+        givenWellKnownBytecode();
+
+        final var firstCode = subject.getEvmCode(A_CONTRACT_ID);
+        final var secondCode = subject.getEvmCode(A_CONTRACT_ID);
+        given(contractStateStore.getBytecode(A_CONTRACT_ID))
+                .willReturn(new Bytecode(Bytes.wrap("<OTHER-PRETEND-CODE>")));
+        final var changedCode = subject.getEvmCode(A_CONTRACT_ID);
+
+        assertSame(firstCode, secondCode);
+        assertEquals(SOME_PRETEND_CODE_HASH, firstCode.getCodeHash());
+        assertEquals(Bytes.wrap("<OTHER-PRETEND-CODE>"), tuweniToPbjBytes(changedCode.getBytes()));
+        verify(contractMetrics).incrementCodeCacheHit();
+    }
+
+    @Test
+    void reusesRedirectEvmCode() {
+        final var code = subject.getTokenRedirectEvmCode(TOKEN_ADDRESS);
+
+        assertSame(code, subject.getTokenRedirectEvmCode(TOKEN_ADDRESS));
+        assertEquals(code.getCodeHash(), subject.getTokenRedirectCodeHash(TOKEN_ADDRESS));
+    }
+
     @Test
     void getsEmptyCodeHashForMissing() {
         final var actualCodeHash = subject.getCodeHash(A_CONTRACT_ID);
@@ -54,7 +54,8 @@ class ProxyEvmAccountTest {
         final var expected = org.apache.tuweni.bytes.Bytes.fromHexString(
                 ACCOUNT_CALL_REDIRECT_CONTRACT_BINARY.replace(ADDRESS_BYTECODE_PATTERN, accountInHex));
         given(state.getAddress(ACCOUNT_ID)).willReturn(Address.fromHexString(accountInHex));
-        given(state.getAccountRedirectCode(Address.fromHexString(accountInHex))).willCallRealMethod();
+        given(state.getAccountRedirectEvmCode(Address.fromHexString(accountInHex)))
+                .willReturn(CodeFactory.createCode(expected, 0, false));
 
         assertEquals(
                 CodeFactory.createCode(expected, 0, false),
@@ -63,7 +64,8 @@ class ProxyEvmAccountTest {
 
     @Test
     void returnsEvmCodeOfEmptyBytes() {
-        given(state.getAccountRedirectCode(null)).willCallRealMethod();
+        given(state.getAccountRedirectEvmCode(null))
+                .willReturn(CodeFactory.createCode(org.apache.tuweni.bytes.Bytes.EMPTY, 0, false));
 
         assertEquals(
                 CodeFactory.createCode(org.apache.tuweni.bytes.Bytes.EMPTY, 0, false),
@@ -76,11 +78,9 @@ class ProxyEvmAccountTest {
         final var expected = org.apache.tuweni.bytes.Bytes.fromHexString(
                 ACCOUNT_CALL_REDIRECT_CONTRACT_BINARY.replace(ADDRESS_BYTECODE_PATTERN, accountInHex));
         given(state.getAddress(ACCOUNT_ID)).willReturn(Address.fromHexString(accountInHex));
-        given(state.getAccountRedirectCode(Address.fromHexString(accountInHex))).willCallRealMethod();
-        given(state.getAccountRedirectCodeHash(Address.fromHexString(accountInHex)))
-                .willCallRealMethod();
-
         final var expectedHash = CodeFactory.createCode(expected, 0, false).getCodeHash();
+        given(state.getAccountRedirectCodeHash(Address.fromHexString(accountInHex)))
+                .willReturn(expectedHash);
 
         subject.getEvmCode(org.apache.tuweni.bytes.Bytes.wrap(HBAR_ALLOWANCE_PROXY.selector()));
         final var hash = subject.getCodeHash();
@@ -90,11 +90,9 @@ class ProxyEvmAccountTest {
 
     @Test
     void returnsEvmCodeHashOfEmptyBytes() {
-        given(state.getAccountRedirectCode(null)).willCallRealMethod();
-        given(state.getAccountRedirectCodeHash(null)).willCallRealMethod();
-
         final var expectedHash = CodeFactory.createCode(org.apache.tuweni.bytes.Bytes.EMPTY, 0, false)
                 .getCodeHash();
+        given(state.getAccountRedirectCodeHash(null)).willReturn(expectedHash);
 
         subject.getEvmCode(org.apache.tuweni.bytes.Bytes.wrap(SOME_PRETEND_CODE.toByteArray()));
         final var hash = subject.getCodeHash();
@@ -123,6 +123,8 @@ class RootProxyWorldUpdaterTest {
                 .willReturn(rentInTinycents);
         given(hederaOperations.valueInTinybars(rentInTinycents)).willReturn(rentInTinybars);
         given(hederaOperations.getStore()).willReturn(store);
+        // The storage layout is read from state, not from configuration
+        given(store.isSlotIndexed()).willReturn(true);
         final var createdIds = new ArrayList<>(List.of(CALLED_CONTRACT_ID));
         final var updatedNonces = new ArrayList<>(List.of(new ContractNonceInfo(CALLED_CONTRACT_ID, 1L)));
         given(hederaOperations.summarizeContractChanges())
@@ -133,7 +135,8 @@ class RootProxyWorldUpdaterTest {
         inOrder.verify(storageSizeValidator)
                 .assertValid(sizeExcludingPendingRemovals, hederaOperations, expectedSizeChanges());
         inOrder.verify(hederaOperations).chargeStorageRent(A_CONTRAC_ID, rentInTinybars, true);
-        inOrder.verify(storageManager).persistChanges(enhancement, pendingChanges(), expectedSizeChanges(), store);
+        inOrder.verify(storageManager)
+                .persistChanges(enhancement, pendingChanges(), expectedSizeChanges(), store, true);
         inOrder.verify(hederaOperations).commit();
 
         assertSame(createdIds, subject.getCreatedContractIds());
@@ -90,7 +90,7 @@ class ScheduleEvmAccountTest {
     @Test
     void returnsEvmCode() {
         final var code = pbjToTuweniBytes(SOME_PRETEND_CODE);
-        given(state.getScheduleRedirectCode(SCHEDULE_ADDRESS)).willReturn(code);
+        given(state.getScheduleRedirectEvmCode(SCHEDULE_ADDRESS)).willReturn(CodeFactory.createCode(code, 0, false));
         assertEquals(
                 CodeFactory.createCode(code, 0, false),
                 subject.getEvmCode(org.apache.tuweni.bytes.Bytes.fromHexString(SIGN_SCHEDULE_FUNCTION_SELECTOR)));
@@ -142,7 +142,7 @@ class ScheduleEvmAccountTest {
     @Test
     void returnEvmCodeWhenCalledWithExpectedFunctionSelectorBytes() {
         final var code = pbjToTuweniBytes(SOME_PRETEND_CODE);
-        given(state.getScheduleRedirectCode(SCHEDULE_ADDRESS)).willReturn(code);
+        given(state.getScheduleRedirectEvmCode(SCHEDULE_ADDRESS)).willReturn(CodeFactory.createCode(code, 0, false));
         assertEquals(
                 CodeFactory.createCode(code, 0, false),
                 subject.getEvmCode(org.apache.tuweni.bytes.Bytes.fromHexString(SIGN_SCHEDULE_FUNCTION_SELECTOR)));
@@ -0,0 +1,61 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.node.app.service.contract.impl.test.state;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.hedera.hapi.node.base.ContractID;
+import com.hedera.hapi.node.state.contract.SlotKey;
+import com.hedera.node.app.service.contract.impl.state.SlotIndexPages;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class SlotIndexPagesTest {
+    private static final ContractID CONTRACT_ID =
+            ContractID.newBuilder().contractNum(1234L).build();
+
+    @Test
+    void hasOnePagePerCapacityOfSlots() {
+        assertEquals(1, SlotIndexPages.numPagesFor(0));
+        assertEquals(1, SlotIndexPages.numPagesFor(SlotIndexPages.PAGE_CAPACITY));
+        assertEquals(2, SlotIndexPages.numPagesFor(SlotIndexPages.PAGE_CAPACITY + 1));
+        assertEquals(100, SlotIndexPages.numPagesFor(100L * SlotIndexPages.PAGE_CAPACITY));
+    }
+
+    @Test
+    void assignsSlotKeysToExistingPages() {
+        for (int numPages = 1; numPages <= 100; numPages++) {
+            for (int i = 0; i < 100; i++) {
+                final int pageNumber = SlotIndexPages.pageNumberFor(Bytes.wrap(new byte[] {(byte) i}), numPages);
+                assertThat(pageNumber).isBetween(0, numPages - 1);
+            }
+        }
+        assertThrows(IllegalArgumentException.class, () -> SlotIndexPages.pageNumberFor(Bytes.EMPTY, 0));
+    }
+
+    @Test
+    void keysPagesByNumberAndHeaderByEmptyKey() {
+        assertEquals(
+                new SlotKey(CONTRACT_ID, Bytes.wrap(new byte[] {0, 0, 1, 2})),
+                SlotIndexPages.pageKey(CONTRACT_ID, 258));
+        assertEquals(new SlotKey(CONTRACT_ID, Bytes.EMPTY), SlotIndexPages.headerKey(CONTRACT_ID));
+        assertThrows(IllegalArgumentException.class, () -> SlotIndexPages.pageKey(CONTRACT_ID, -1));
+    }
+
+    @Test
+    void roundTripsSlotCounts() {
+        assertEquals(123_456_789_012L, SlotIndexPages.slotCountIn(SlotIndexPages.headerOf(123_456_789_012L)));
+        assertEquals(0, SlotIndexPages.slotCountIn(null));
+    }
+
+    @Test
+    void roundTripsSlotKeysOfAnyLength() {
+        final var slotKeys = List.of(
+                Bytes.wrap(new byte[32]), Bytes.wrap(new byte[] {0x01}), Bytes.EMPTY, Bytes.wrap(new byte[] {2, 3}));
+
+        assertThat(SlotIndexPages.slotKeysIn(SlotIndexPages.pageOf(slotKeys))).containsExactlyElementsOf(slotKeys);
+        assertThat(SlotIndexPages.slotKeysIn(null)).isEmpty();
+    }
+}
@@ -85,7 +85,7 @@ class TokenEvmAccountTest {
     @Test
     void returnsEvmCode() {
         final var code = pbjToTuweniBytes(SOME_PRETEND_CODE);
-        given(state.getTokenRedirectCode(TOKEN_ADDRESS)).willReturn(code);
+        given(state.getTokenRedirectEvmCode(TOKEN_ADDRESS)).willReturn(CodeFactory.createCode(code, 0, false));
         assertEquals(CodeFactory.createCode(code, 0, false), subject.getEvmCode(org.apache.tuweni.bytes.Bytes.EMPTY));
     }
 
@@ -135,7 +135,7 @@ class TokenEvmAccountTest {
     @Test
     void returnEvmCodeWhenCalledWithExpectedFunctionSelectorBytes() {
         final var code = pbjToTuweniBytes(SOME_PRETEND_CODE);
-        given(state.getTokenRedirectCode(TOKEN_ADDRESS)).willReturn(code);
+        given(state.getTokenRedirectEvmCode(TOKEN_ADDRESS)).willReturn(CodeFactory.createCode(code, 0, false));
         assertEquals(
                 CodeFactory.createCode(code, 0, false),
                 subject.getEvmCode(org.apache.tuweni.bytes.Bytes.wrap(HBAR_ALLOWANCE_PROXY.selector())));
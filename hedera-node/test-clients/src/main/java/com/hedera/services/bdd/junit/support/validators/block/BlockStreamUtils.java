@@ -19,9 +19,12 @@ public class BlockStreamUtils {
             case STATE_ID_TOPICS -> "ConsensusService.TOPICS";
             case STATE_ID_CONTRACT_BYTECODE -> "ContractService.BYTECODE";
             case STATE_ID_CONTRACT_STORAGE -> "ContractService.STORAGE";
+            case STATE_ID_CONTRACT_STORAGE_INDEX -> "ContractService.STORAGE_INDEX";
+            case STATE_ID_CONTRACT_STORAGE_SLOT_INDEXED -> "ContractService.STORAGE_SLOT_INDEXED";
             case STATE_ID_ENTITY_ID -> "EntityIdService.ENTITY_ID";
             case STATE_ID_MIDNIGHT_RATES -> "FeeService.MIDNIGHT_RATES";
             case STATE_ID_FILES -> "FileService.FILES";
+            case STATE_ID_FILE_CHUNKS -> "FileService.FILE_CHUNKS";
             case STATE_ID_UPGRADE_DATA_150 -> String.format(UPGRADE_DATA_FILE_NUM_FORMAT, shard, realm, 150);
             case STATE_ID_UPGRADE_DATA_151 -> String.format(UPGRADE_DATA_FILE_NUM_FORMAT, shard, realm, 151);
             case STATE_ID_UPGRADE_DATA_152 -> String.format(UPGRADE_DATA_FILE_NUM_FORMAT, shard, realm, 152);
@@ -45,6 +45,7 @@ import com.hedera.hapi.node.state.entity.EntityCounts;
 import com.hedera.hapi.node.state.hints.HintsConstruction;
 import com.hedera.hapi.node.state.hints.PreprocessedKeys;
 import com.hedera.hapi.node.state.history.HistoryProofConstruction;
+import com.hedera.hapi.node.state.primitives.ProtoBoolean;
 import com.hedera.hapi.node.state.primitives.ProtoBytes;
 import com.hedera.hapi.node.state.primitives.ProtoLong;
 import com.hedera.hapi.node.state.primitives.ProtoString;
@@ -843,6 +844,7 @@ public class StateChangesValidator implements BlockStreamValidator {
             case NODE_REWARDS_VALUE -> singletonUpdateChange.nodeRewardsValueOrThrow();
             case BYTES_VALUE -> new ProtoBytes(singletonUpdateChange.bytesValueOrThrow());
             case STRING_VALUE -> new ProtoString(singletonUpdateChange.stringValueOrThrow());
+            case BOOL_VALUE -> new ProtoBoolean(singletonUpdateChange.boolValueOrThrow());
             case RUNNING_HASHES_VALUE -> singletonUpdateChange.runningHashesValueOrThrow();
             case THROTTLE_USAGE_SNAPSHOTS_VALUE -> singletonUpdateChange.throttleUsageSnapshotsValueOrThrow();
             case TIMESTAMP_VALUE -> singletonUpdateChange.timestampValueOrThrow();
@@ -889,6 +891,7 @@ public class StateChangesValidator implements BlockStreamValidator {
             case PREPROCESSING_VOTE_ID_KEY -> mapChangeKey.preprocessingVoteIdKeyOrThrow();
             case NODE_ID_KEY -> mapChangeKey.nodeIdKeyOrThrow();
             case CONSTRUCTION_NODE_ID_KEY -> mapChangeKey.constructionNodeIdKeyOrThrow();
+            case FILE_CHUNK_ID_KEY -> mapChangeKey.fileChunkIdKeyOrThrow();
         };
     }
 
@@ -923,6 +926,8 @@ public class StateChangesValidator implements BlockStreamValidator {
             case HISTORY_PROOF_VOTE_VALUE -> mapChangeValue.historyProofVoteValue();
             case HISTORY_SIGNATURE_VALUE -> mapChangeValue.historySignatureValue();
             case PROOF_KEY_SET_VALUE -> mapChangeValue.proofKeySetValue();
+            case PROTO_BYTES_VALUE -> new ProtoBytes(mapChangeValue.protoBytesValueOrThrow());
+            case FILE_CHUNK_VALUE -> mapChangeValue.fileChunkValueOrThrow();
         };
     }
 
@@ -24,6 +24,8 @@ import picocli.CommandLine.ParentCommand;
  * All validators are expecting 2 parameters:<br>
  * 1. State directory - the directory where the state is stored<br>
  * 2. Tag to run - the tag of the test to run (optional) If no tags are provided, all tests are run.<br>
+ * The {@code scan} tag validates the data files of all virtual maps in a single sequential pass per file, it covers
+ * most of the {@code internal}, {@code leaf} and {@code account} validations in a fraction of their time.<br>
  */
 @Command(
         name = "validate",
@@ -36,8 +38,8 @@ public class ValidateCommand implements Callable<Integer> {
 
     @CommandLine.Parameters(
             arity = "1..*",
-            description =
-                    "Tag to run: [stateAnalyzer, internal, leaf, hdhm, account, tokenRelations, rehash, files, compaction]")
+            description = "Tag to run: [stateAnalyzer, internal, leaf, hdhm, account, tokenRelations, rehash, files, "
+                    + "compaction, scan]")
     private String[] tags = {
         "stateAnalyzer", "internal", "leaf", "hdhm", "account", "tokenRelations", "rehash", "files", "compaction"
     };
@@ -0,0 +1,145 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.statevalidation.merkledb;
+
+import static com.hedera.pbj.runtime.ProtoParserTools.TAG_FIELD_OFFSET;
+
+import com.hedera.pbj.runtime.io.buffer.BufferedData;
+import com.swirlds.merkledb.files.DataFileCommon;
+import com.swirlds.merkledb.files.DataFileReader;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * An alternative to {@link com.swirlds.merkledb.files.DataFileIterator} that reads a data file sequentially through
+ * memory mapped windows instead of an input stream. The data items are not copied, {@link #getDataItemData()} returns
+ * a slice of the mapped window, so the returned buffers stay valid after the iterator has moved on and can be handed
+ * over to other threads.
+ */
+public final class MappedDataFileIterator implements AutoCloseable {
+
+    // mirror the package private field definitions of DataFileCommon
+    private static final int FIELD_DATAFILE_METADATA = 1;
+    private static final int FIELD_DATAFILE_ITEMS = 11;
+
+    /** The maximum number of bytes to read a data item header, i.e. the tag and the size varints */
+    private static final int MAX_HEADER_SIZE = 10;
+
+    /** The maximum size of a mapped window */
+    private static final long MAX_WINDOW_SIZE = 1L << 30;
+
+    private final Path path;
+    private final int fileIndex;
+    private final FileChannel channel;
+    private final long fileSize;
+
+    private BufferedData window;
+    private long windowStart;
+    private long windowSize;
+
+    /** The file position of the next data item header */
+    private long position;
+
+    private BufferedData dataItemData;
+    private long dataItemPosition;
+
+    /**
+     * Create a new iterator over the data items of the file of the given reader.
+     *
+     * @param reader the reader of a completed data file
+     * @throws IOException if the file can not be opened
+     */
+    public MappedDataFileIterator(final DataFileReader reader) throws IOException {
+        this.path = reader.getPath();
+        this.fileIndex = reader.getIndex();
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        this.fileSize = channel.size();
+    }
+
+    /**
+     * Advance to the next data item.
+     *
+     * @return true if a data item was read or false if the end of the file has been reached
+     * @throws IOException if the file can not be read or is malformed
+     */
+    public boolean next() throws IOException {
+        while (position < fileSize) {
+            final long headerPosition = position;
+            map(headerPosition, Math.min(MAX_HEADER_SIZE, fileSize - headerPosition));
+            window.position(headerPosition - windowStart);
+            final int tag = window.readVarInt(false);
+            final int size = window.readVarInt(false);
+            final long dataPosition = windowStart + window.position();
+            position = dataPosition + size;
+
+            final int fieldNum = tag >> TAG_FIELD_OFFSET;
+            if (fieldNum == FIELD_DATAFILE_ITEMS) {
+                if (size <= 0) {
+                    throw new IOException("Malformed file [" + path + "], data item at [" + headerPosition
+                            + "], requested bytes [" + size + "]");
+                }
+                map(dataPosition, size);
+                dataItemData = window.slice(dataPosition - windowStart, size);
+                dataItemPosition = headerPosition;
+                return true;
+            } else if (fieldNum != FIELD_DATAFILE_METADATA) {
+                throw new IllegalArgumentException("Unknown data file field: " + fieldNum + " in " + path);
+            }
+        }
+        dataItemData = null;
+        return false;
+    }
+
+    /**
+     * Get the data of the current data item.
+     *
+     * @return a read only slice of the mapped file containing the data item
+     */
+    public BufferedData getDataItemData() {
+        return dataItemData;
+    }
+
+    /**
+     * Get the data location (file + offset) for the current data item.
+     *
+     * @return current data item location
+     */
+    public long getDataItemDataLocation() {
+        return DataFileCommon.dataLocation(fileIndex, dataItemPosition);
+    }
+
+    /**
+     * Get the number of bytes of the file that have been read so far.
+     *
+     * @return the number of bytes read
+     */
+    public long getBytesRead() {
+        return Math.min(position, fileSize);
+    }
+
+    @Override
+    public void close() throws IOException {
+        window = null;
+        dataItemData = null;
+        channel.close();
+    }
+
+    /**
+     * Make sure the given range of the file is covered by the current window, mapping a new window starting at the
+     * given position if it is not.
+     */
+    private void map(final long start, final long length) throws IOException {
+        if (window != null && start >= windowStart && start + length <= windowStart + windowSize) {
+            return;
+        }
+        if (start + length > fileSize) {
+            throw new IOException("Malformed file [" + path + "], [" + length + "] bytes at [" + start
+                    + "] exceed the file size [" + fileSize + "]");
+        }
+        windowStart = start;
+        windowSize = Math.max(length, Math.min(MAX_WINDOW_SIZE, fileSize - start));
+        window = BufferedData.wrap(channel.map(MapMode.READ_ONLY, windowStart, windowSize));
+    }
+}
@@ -0,0 +1,47 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.statevalidation.validators.scan;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.hedera.hapi.node.state.token.Account;
+import com.swirlds.state.merkle.disk.OnDiskValue;
+import com.swirlds.virtualmap.datasource.VirtualLeafBytes;
+import com.swirlds.virtualmap.serialize.ValueSerializer;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The single pass counterpart of {@link com.hedera.statevalidation.validators.servicesstate.AccountValidator}.
+ * Validates that no account has a negative balance and that the balances add up to the total supply of hbars.
+ */
+public class AccountBalanceValidator implements ItemValidator<VirtualLeafBytes> {
+
+    // 1_000_000_000 tiny bar  = 1 h
+    private static final long TOTAL_tHBAR_SUPPLY = 5_000_000_000_000_000_000L;
+
+    private final ValueSerializer<?> valueSerializer;
+    private final LongAdder totalBalance = new LongAdder();
+    private final LongAdder negativeBalanceCount = new LongAdder();
+
+    public AccountBalanceValidator(final ValueSerializer<?> valueSerializer) {
+        this.valueSerializer = valueSerializer;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void validate(final long dataLocation, final VirtualLeafBytes leaf) {
+        final Account account = ((OnDiskValue<Account>)
+                        valueSerializer.deserialize(leaf.valueBytes().toReadableSequentialData()))
+                .getValue();
+        final long tinybarBalance = account.tinybarBalance();
+        if (tinybarBalance < 0) {
+            negativeBalanceCount.increment();
+        }
+        totalBalance.add(tinybarBalance);
+    }
+
+    @Override
+    public void finish() {
+        assertEquals(0, negativeBalanceCount.sum(), "Some accounts have a negative balance");
+        assertEquals(TOTAL_tHBAR_SUPPLY, totalBalance.sum());
+    }
+}
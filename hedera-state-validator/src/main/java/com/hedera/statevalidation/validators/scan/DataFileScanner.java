@@ -0,0 +1,188 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.statevalidation.validators.scan;
+
+import static com.hedera.statevalidation.validators.Constants.PARALLELISM;
+import static com.hedera.statevalidation.validators.ParallelProcessingUtil.VALIDATOR_FORK_JOIN_POOL;
+import static com.hedera.statevalidation.validators.ParallelProcessingUtil.processObjects;
+import static com.hedera.statevalidation.validators.ParallelProcessingUtil.processRange;
+import static com.swirlds.merkledb.files.DataFileCommon.dataLocationToString;
+
+import com.hedera.pbj.runtime.io.buffer.BufferedData;
+import com.hedera.statevalidation.merkledb.MappedDataFileIterator;
+import com.swirlds.merkledb.collections.LongList;
+import com.swirlds.merkledb.files.DataFileCollection;
+import com.swirlds.merkledb.files.DataFileCommon;
+import com.swirlds.merkledb.files.DataFileReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Scans all data items of a data file collection in a single pass and feeds the live items, i.e. the items the index
+ * of the collection points to, to a number of {@link ItemValidator}s.
+ * <p>
+ * Every data file is read sequentially through memory mapped windows, which is much faster than looking up the items
+ * one by one through the index. The files are scanned in parallel, and the items of each file are parsed and validated
+ * in batches on the {@link com.hedera.statevalidation.validators.ParallelProcessingUtil#VALIDATOR_FORK_JOIN_POOL}, so
+ * even a collection consisting of a single large file keeps all cores busy.
+ *
+ * @param <T> the type of the parsed data items
+ */
+public class DataFileScanner<T> {
+
+    private static final Logger log = LogManager.getLogger(DataFileScanner.class);
+
+    private static final int BATCH_SIZE = 1024;
+
+    /**
+     * The result of a scan.
+     *
+     * @param liveItems the number of items the index points to
+     * @param staleItems the number of items the index does not point to (anymore)
+     * @param failedItems the number of items that could not be parsed
+     */
+    public record ScanResult(long liveItems, long staleItems, long failedItems) {}
+
+    private final String name;
+    private final DataFileCollection dataFileCollection;
+    private final LongList index;
+    private final Function<BufferedData, T> parser;
+    private final ToLongFunction<T> pathFunction;
+    private final List<ItemValidator<T>> validators;
+
+    private final LongAdder liveItems = new LongAdder();
+    private final LongAdder staleItems = new LongAdder();
+    private final LongAdder failedItems = new LongAdder();
+
+    /**
+     * @param name the name of the scanned data, used for logging
+     * @param dataFileCollection the data file collection to scan
+     * @param index the index from paths to data locations of the collection
+     * @param parser parses a data item
+     * @param pathFunction returns the path of a parsed data item
+     * @param validators the validators to feed with the live items
+     */
+    public DataFileScanner(
+            final String name,
+            final DataFileCollection dataFileCollection,
+            final LongList index,
+            final Function<BufferedData, T> parser,
+            final ToLongFunction<T> pathFunction,
+            final List<ItemValidator<T>> validators) {
+        this.name = name;
+        this.dataFileCollection = dataFileCollection;
+        this.index = index;
+        this.parser = parser;
+        this.pathFunction = pathFunction;
+        this.validators = validators;
+    }
+
+    /**
+     * Scan all completed files of the collection and finish all validators.
+     *
+     * @return the result of the scan
+     */
+    public ScanResult scan() {
+        final List<DataFileReader> readers = dataFileCollection.getAllCompletedFiles();
+        final ScanProgress progress = new ScanProgress(name, DataFileCommon.getSizeOfFiles(readers));
+        processObjects(readers, reader -> scanFile(reader, progress)).join();
+        progress.finish();
+        validators.forEach(ItemValidator::finish);
+        return new ScanResult(liveItems.sum(), staleItems.sum(), failedItems.sum());
+    }
+
+    /**
+     * Count the paths in the given range the index points to a data location for. After a scan, this is the number of
+     * live items that is expected if every index entry points to an item with a matching path.
+     *
+     * @param index the index
+     * @param firstPath the first path, inclusive
+     * @param lastPath the last path, inclusive
+     * @return the number of paths with a data location
+     */
+    public static long countIndexedPaths(final LongList index, final long firstPath, final long lastPath) {
+        final LongAdder count = new LongAdder();
+        processRange(firstPath, lastPath + 1, path -> {
+                    if (index.get(path, DataFileCommon.NON_EXISTENT_DATA_LOCATION)
+                            != DataFileCommon.NON_EXISTENT_DATA_LOCATION) {
+                        count.increment();
+                    }
+                })
+                .join();
+        return count.sum();
+    }
+
+    private void scanFile(final DataFileReader reader, final ScanProgress progress) {
+        final Deque<ForkJoinTask<?>> pendingBatches = new ArrayDeque<>();
+        try (final MappedDataFileIterator iterator = new MappedDataFileIterator(reader)) {
+            long[] locations = new long[BATCH_SIZE];
+            List<BufferedData> items = new ArrayList<>(BATCH_SIZE);
+            long reportedBytes = 0;
+            while (iterator.next()) {
+                locations[items.size()] = iterator.getDataItemDataLocation();
+                items.add(iterator.getDataItemData());
+                if (items.size() == BATCH_SIZE) {
+                    final long bytesRead = iterator.getBytesRead();
+                    submitBatch(pendingBatches, locations, items, bytesRead - reportedBytes, progress);
+                    reportedBytes = bytesRead;
+                    locations = new long[BATCH_SIZE];
+                    items = new ArrayList<>(BATCH_SIZE);
+                }
+            }
+            submitBatch(pendingBatches, locations, items, iterator.getBytesRead() - reportedBytes, progress);
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Failed to scan " + reader.getPath(), e);
+        } finally {
+            pendingBatches.forEach(ForkJoinTask::join);
+        }
+    }
+
+    private void submitBatch(
+            final Deque<ForkJoinTask<?>> pendingBatches,
+            final long[] locations,
+            final List<BufferedData> items,
+            final long bytes,
+            final ScanProgress progress) {
+        // limit the number of batches in flight, so a fast reader doesn't buffer the whole file
+        while (pendingBatches.size() >= PARALLELISM) {
+            pendingBatches.removeFirst().join();
+        }
+        pendingBatches.addLast(VALIDATOR_FORK_JOIN_POOL.submit(() -> {
+            for (int i = 0; i < items.size(); i++) {
+                processItem(locations[i], items.get(i));
+            }
+            progress.update(bytes, items.size());
+        }));
+    }
+
+    private void processItem(final long dataLocation, final BufferedData data) {
+        final T item;
+        try {
+            item = parser.apply(data);
+        } catch (final Exception e) {
+            failedItems.increment();
+            log.error("Failed to parse the data item at {} of {}", dataLocationToString(dataLocation), name, e);
+            return;
+        }
+        final long path = pathFunction.applyAsLong(item);
+        if (path < 0
+                || path >= index.size()
+                || index.get(path, DataFileCommon.NON_EXISTENT_DATA_LOCATION) != dataLocation) {
+            staleItems.increment();
+            return;
+        }
+        liveItems.increment();
+        for (final ItemValidator<T> validator : validators) {
+            validator.validate(dataLocation, item);
+        }
+    }
+}
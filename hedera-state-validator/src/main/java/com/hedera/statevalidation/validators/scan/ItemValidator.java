@@ -0,0 +1,24 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.statevalidation.validators.scan;
+
+/**
+ * A validator that is fed by a {@link DataFileScanner} with the live data items of a data file collection, i.e. the
+ * items that are referenced by the index of the collection. Several validators can share a single scan.
+ *
+ * @param <T> the type of the parsed data items
+ */
+public interface ItemValidator<T> {
+
+    /**
+     * Validate a live data item. This method is called concurrently from several threads.
+     *
+     * @param dataLocation the data location of the item
+     * @param item the parsed item
+     */
+    void validate(long dataLocation, T item);
+
+    /**
+     * Called once all items have been validated, asserts that no validation has failed.
+     */
+    void finish();
+}
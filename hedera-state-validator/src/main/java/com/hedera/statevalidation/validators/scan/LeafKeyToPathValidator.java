@@ -0,0 +1,57 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.statevalidation.validators.scan;
+
+import static com.swirlds.merkledb.files.DataFileCommon.dataLocationToString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.swirlds.merkledb.files.hashmap.HalfDiskHashMap;
+import com.swirlds.virtualmap.datasource.VirtualLeafBytes;
+import com.swirlds.virtualmap.serialize.KeySerializer;
+import java.util.concurrent.atomic.LongAdder;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Validates that the key to path map of a data source maps the key of every live leaf to the path of the leaf.
+ */
+public class LeafKeyToPathValidator implements ItemValidator<VirtualLeafBytes> {
+
+    private static final Logger log = LogManager.getLogger(LeafKeyToPathValidator.class);
+
+    private final String name;
+    private final HalfDiskHashMap keyToPath;
+    private final KeySerializer<?> keySerializer;
+    private final LongAdder mismatchCount = new LongAdder();
+
+    public LeafKeyToPathValidator(
+            final String name, final HalfDiskHashMap keyToPath, final KeySerializer<?> keySerializer) {
+        this.name = name;
+        this.keyToPath = keyToPath;
+        this.keySerializer = keySerializer;
+    }
+
+    @Override
+    public void validate(final long dataLocation, final VirtualLeafBytes leaf) {
+        try {
+            final Object key = keySerializer.deserialize(leaf.keyBytes().toReadableSequentialData());
+            final long path = keyToPath.get(leaf.keyBytes(), key.hashCode(), -1);
+            if (path != leaf.path()) {
+                mismatchCount.increment();
+                log.error(
+                        "Key of the leaf at {} with path {} of {} is mapped to path {}",
+                        dataLocationToString(dataLocation),
+                        leaf.path(),
+                        name,
+                        path);
+            }
+        } catch (final Exception e) {
+            mismatchCount.increment();
+            log.error("Failed to look up the key of the leaf at {} of {}", dataLocationToString(dataLocation), name, e);
+        }
+    }
+
+    @Override
+    public void finish() {
+        assertEquals(0, mismatchCount.sum(), "Some leaf keys are not mapped to the path of the leaf");
+    }
+}
@@ -0,0 +1,75 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.statevalidation.validators.scan;
+
+import static com.swirlds.base.units.UnitConstants.BYTES_TO_MEBIBYTES;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Tracks the progress of a {@link DataFileScanner} and periodically logs the scanned share and throughput.
+ */
+public class ScanProgress {
+
+    private static final Logger log = LogManager.getLogger(ScanProgress.class);
+
+    private static final long REPORT_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    private final String name;
+    private final long totalBytes;
+    private final long startNanos = System.nanoTime();
+    private final AtomicLong lastReportNanos = new AtomicLong(startNanos);
+    private final LongAdder scannedBytes = new LongAdder();
+    private final LongAdder scannedItems = new LongAdder();
+
+    /**
+     * @param name the name of the scanned data, used in the log messages
+     * @param totalBytes the total size of the scanned files
+     */
+    public ScanProgress(final String name, final long totalBytes) {
+        this.name = name;
+        this.totalBytes = totalBytes;
+    }
+
+    /**
+     * Record that the given number of bytes and items have been scanned, logging the progress if the last report is
+     * older than the report interval.
+     *
+     * @param bytes the number of scanned bytes
+     * @param items the number of scanned items
+     */
+    public void update(final long bytes, final long items) {
+        scannedBytes.add(bytes);
+        scannedItems.add(items);
+        final long now = System.nanoTime();
+        final long lastReport = lastReportNanos.get();
+        if (now - lastReport >= REPORT_INTERVAL_NANOS && lastReportNanos.compareAndSet(lastReport, now)) {
+            log(now, "Scanning");
+        }
+    }
+
+    /**
+     * Log the final throughput of the scan.
+     */
+    public void finish() {
+        log(System.nanoTime(), "Finished scanning");
+    }
+
+    private void log(final long now, final String prefix) {
+        final double seconds = Math.max(now - startNanos, 1) / 1_000_000_000.0;
+        final long bytes = scannedBytes.sum();
+        final long items = scannedItems.sum();
+        log.info(
+                "{} {}: {}% ({} of {} MB), {} MB/s, {} items/s",
+                prefix,
+                name,
+                totalBytes == 0 ? 100 : bytes * 100 / totalBytes,
+                (long) (bytes * BYTES_TO_MEBIBYTES),
+                (long) (totalBytes * BYTES_TO_MEBIBYTES),
+                String.format("%.1f", bytes * BYTES_TO_MEBIBYTES / seconds),
+                (long) (items / seconds));
+    }
+}
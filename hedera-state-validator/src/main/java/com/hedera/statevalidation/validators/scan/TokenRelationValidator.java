@@ -0,0 +1,53 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.statevalidation.validators.scan;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.hedera.hapi.node.state.common.EntityIDPair;
+import com.hedera.hapi.node.state.token.TokenRelation;
+import com.swirlds.state.merkle.disk.OnDiskKey;
+import com.swirlds.state.merkle.disk.OnDiskValue;
+import com.swirlds.virtualmap.datasource.VirtualLeafBytes;
+import com.swirlds.virtualmap.serialize.KeySerializer;
+import com.swirlds.virtualmap.serialize.ValueSerializer;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Validates that the account and token ids of every token relation match the ids of its key. Whether the referenced
+ * accounts and tokens exist is validated by
+ * {@link com.hedera.statevalidation.validators.servicesstate.TokenRelationsIntegrity}.
+ */
+public class TokenRelationValidator implements ItemValidator<VirtualLeafBytes> {
+
+    private final KeySerializer<?> keySerializer;
+    private final ValueSerializer<?> valueSerializer;
+    private final LongAdder mismatchCount = new LongAdder();
+
+    public TokenRelationValidator(final KeySerializer<?> keySerializer, final ValueSerializer<?> valueSerializer) {
+        this.keySerializer = keySerializer;
+        this.valueSerializer = valueSerializer;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void validate(final long dataLocation, final VirtualLeafBytes leaf) {
+        final EntityIDPair key = ((OnDiskKey<EntityIDPair>)
+                        keySerializer.deserialize(leaf.keyBytes().toReadableSequentialData()))
+                .getKey();
+        final TokenRelation value = ((OnDiskValue<TokenRelation>)
+                        valueSerializer.deserialize(leaf.valueBytes().toReadableSequentialData()))
+                .getValue();
+        if (key.accountId() == null
+                || key.tokenId() == null
+                || !Objects.equals(key.accountId(), value.accountId())
+                || !Objects.equals(key.tokenId(), value.tokenId())) {
+            mismatchCount.increment();
+        }
+    }
+
+    @Override
+    public void finish() {
+        assertEquals(0, mismatchCount.sum(), "Some token relations don't match their keys");
+    }
+}
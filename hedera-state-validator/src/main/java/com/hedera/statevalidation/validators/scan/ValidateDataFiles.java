@@ -0,0 +1,112 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.statevalidation.validators.scan;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.hedera.node.app.service.token.impl.TokenServiceImpl;
+import com.hedera.node.app.service.token.impl.schemas.V0490TokenSchema;
+import com.hedera.statevalidation.merkledb.reflect.MemoryIndexDiskKeyValueStoreW;
+import com.hedera.statevalidation.parameterresolver.ReportResolver;
+import com.hedera.statevalidation.parameterresolver.VirtualMapAndDataSourceProvider;
+import com.hedera.statevalidation.parameterresolver.VirtualMapAndDataSourceRecord;
+import com.hedera.statevalidation.reporting.Report;
+import com.hedera.statevalidation.reporting.SlackReportGenerator;
+import com.swirlds.merkledb.MerkleDbDataSource;
+import com.swirlds.state.lifecycle.StateMetadata;
+import com.swirlds.virtualmap.datasource.VirtualHashRecord;
+import com.swirlds.virtualmap.datasource.VirtualLeafBytes;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ArgumentsSource;
+
+/**
+ * Validates the leaf and hash stores of every virtual map with a single sequential pass over their data files, see
+ * {@link DataFileScanner}. All validators that work on leaves share the pass over the leaf store:
+ * <ul>
+ *     <li>every leaf index entry points to a leaf with the same path, and every leaf path has an index entry</li>
+ *     <li>the key of every live leaf is mapped to its path (like {@code leaf})</li>
+ *     <li>the account balances add up to the total supply (like {@code account})</li>
+ *     <li>the ids of every token relation match its key (part of {@code tokenRelations})</li>
+ * </ul>
+ * The pass over the hash store validates that every index entry points to a hash record with the same path (like
+ * {@code internal}).
+ */
+@SuppressWarnings("NewClassNamingConvention")
+@ExtendWith({ReportResolver.class, SlackReportGenerator.class})
+@Tag("scan")
+public class ValidateDataFiles {
+
+    private static final Logger log = LogManager.getLogger(ValidateDataFiles.class);
+
+    private static final String ACCOUNTS_LABEL =
+            StateMetadata.computeLabel(TokenServiceImpl.NAME, V0490TokenSchema.ACCOUNTS_KEY);
+    private static final String TOKEN_RELS_LABEL =
+            StateMetadata.computeLabel(TokenServiceImpl.NAME, V0490TokenSchema.TOKEN_RELS_KEY);
+
+    @ParameterizedTest
+    @ArgumentsSource(VirtualMapAndDataSourceProvider.class)
+    public void validateLeafStore(VirtualMapAndDataSourceRecord<?, ?> record, Report report) {
+        final MerkleDbDataSource dataSource = record.dataSource();
+        if (dataSource.getFirstLeafPath() == -1) {
+            log.info("Skipping the validation for {} as the map is empty", record.name());
+            return;
+        }
+
+        final List<ItemValidator<VirtualLeafBytes>> validators = new ArrayList<>();
+        validators.add(new LeafKeyToPathValidator(record.name(), dataSource.getKeyToPath(), record.keySerializer()));
+        if (ACCOUNTS_LABEL.equals(record.name())) {
+            validators.add(new AccountBalanceValidator(record.valueSerializer()));
+        } else if (TOKEN_RELS_LABEL.equals(record.name())) {
+            validators.add(new TokenRelationValidator(record.keySerializer(), record.valueSerializer()));
+        }
+
+        final var index = dataSource.getPathToDiskLocationLeafNodes();
+        final var result = new DataFileScanner<VirtualLeafBytes>(
+                        record.name() + " leaves",
+                        new MemoryIndexDiskKeyValueStoreW<>(dataSource.getPathToKeyValue()).getFileCollection(),
+                        index,
+                        VirtualLeafBytes::parseFrom,
+                        VirtualLeafBytes::path,
+                        validators)
+                .scan();
+        log.info("Scanned the leaves of {}: {}", record.name(), result);
+
+        assertEquals(0, result.failedItems(), "Some leaves could not be parsed");
+        assertEquals(
+                dataSource.getLastLeafPath() - dataSource.getFirstLeafPath() + 1,
+                result.liveItems(),
+                "Some leaf paths are not indexed or their index entries don't point to a leaf with the same path");
+    }
+
+    @ParameterizedTest
+    @ArgumentsSource(VirtualMapAndDataSourceProvider.class)
+    public void validateHashStore(VirtualMapAndDataSourceRecord<?, ?> record, Report report) {
+        final MerkleDbDataSource dataSource = record.dataSource();
+        if (dataSource.getFirstLeafPath() == -1) {
+            log.info("Skipping the validation for {} as the map is empty", record.name());
+            return;
+        }
+
+        final var index = dataSource.getPathToDiskLocationInternalNodes();
+        final var result = new DataFileScanner<VirtualHashRecord>(
+                        record.name() + " hashes",
+                        new MemoryIndexDiskKeyValueStoreW<>(dataSource.getHashStoreDisk()).getFileCollection(),
+                        index,
+                        VirtualHashRecord::parseFrom,
+                        VirtualHashRecord::path,
+                        List.of())
+                .scan();
+        log.info("Scanned the hashes of {}: {}", record.name(), result);
+
+        assertEquals(0, result.failedItems(), "Some hash records could not be parsed");
+        assertEquals(
+                DataFileScanner.countIndexedPaths(index, 0, dataSource.getLastLeafPath()),
+                result.liveItems(),
+                "Some index entries don't point to a hash record with the same path");
+    }
+}
@@ -7,13 +7,29 @@ import org.hiero.consensus.model.event.PlatformEvent;
 
 /**
  * Default implementation of the {@link EventHasher}.
+ * <p>
+ * This hasher is called from a concurrent scheduler. Each thread reuses its own {@link PbjStreamHasher}, rather than
+ * building two new message digests for every event.
  */
 public class DefaultEventHasher implements EventHasher {
+
+    /**
+     * The hasher used by each thread. A {@link PbjStreamHasher} resets its digests after computing a hash, so it can be
+     * reused for any number of events, but it is not thread safe.
+     */
+    private static final ThreadLocal<PbjStreamHasher> HASHERS = ThreadLocal.withInitial(PbjStreamHasher::new);
+
     @Override
     @NonNull
     public PlatformEvent hashEvent(@NonNull final PlatformEvent event) {
         Objects.requireNonNull(event);
-        new PbjStreamHasher().hashEvent(event);
+        try {
+            HASHERS.get().hashEvent(event);
+        } catch (final RuntimeException e) {
+            // a failure may leave partial data in the digests, don't let it leak into the next event
+            HASHERS.remove();
+            throw e;
+        }
         return event;
     }
 }
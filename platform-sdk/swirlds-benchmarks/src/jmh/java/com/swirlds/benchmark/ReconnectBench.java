@@ -83,6 +83,14 @@ public class ReconnectBench extends VirtualMapBaseBench {
     @Param({"0.15"})
     public double delayNetworkFuzzRangePercent;
 
+    /**
+     * Number of helper teachers serving a share of the virtual map requests in parallel with the teacher,
+     * each over its own pair of streams. Helpers are only used with a pull reconnect mode, which is set with
+     * virtualMap.reconnectMode in settings.txt, and without emulated delays.
+     */
+    @Param({"0"})
+    public int helperTeachers;
+
     private List<VirtualMap<BenchmarkKey, BenchmarkValue>> teacherMaps;
     private List<VirtualMap<BenchmarkKey, BenchmarkValue>> learnerMaps;
 
@@ -249,6 +257,7 @@ public class ReconnectBench extends VirtualMapBaseBench {
                 delayStorageFuzzRangePercent,
                 delayNetworkMicroseconds,
                 delayNetworkFuzzRangePercent,
+                helperTeachers,
                 new NodeId(),
                 configuration);
     }
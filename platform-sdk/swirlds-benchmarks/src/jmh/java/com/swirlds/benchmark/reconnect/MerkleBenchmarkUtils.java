@@ -15,6 +15,7 @@ import com.swirlds.common.merkle.MerkleNode;
 import com.swirlds.common.merkle.synchronization.LearningSynchronizer;
 import com.swirlds.common.merkle.synchronization.TeachingSynchronizer;
 import com.swirlds.common.merkle.synchronization.config.ReconnectConfig;
+import com.swirlds.common.merkle.synchronization.streams.HelperTeacherStreams;
 import com.swirlds.common.merkle.synchronization.utility.MerkleSynchronizationException;
 import com.swirlds.common.test.fixtures.merkle.TestMerkleCryptoFactory;
 import com.swirlds.common.threading.pool.StandardWorkGroup;
@@ -22,7 +23,9 @@ import com.swirlds.config.api.Configuration;
 import com.swirlds.platform.gossip.config.GossipConfig;
 import com.swirlds.platform.network.SocketConfig;
 import com.swirlds.virtualmap.VirtualMap;
+import com.swirlds.virtualmap.VirtualMapHelperTeacher;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
@@ -51,6 +54,7 @@ public class MerkleBenchmarkUtils {
             final double delayStorageFuzzRangePercent,
             final long delayNetworkMicroseconds,
             final double delayNetworkFuzzRangePercent,
+            final int helperTeachers,
             final NodeId selfId,
             final Configuration configuration)
             throws Exception {
@@ -72,12 +76,15 @@ public class MerkleBenchmarkUtils {
                 delayStorageFuzzRangePercent,
                 delayNetworkMicroseconds,
                 delayNetworkFuzzRangePercent,
+                helperTeachers,
                 selfId,
                 configuration);
     }
 
     /**
-     * Synchronize two trees and verify that the end result is the expected result.
+     * Synchronize two trees and verify that the end result is the expected result. If helper teachers are
+     * requested, every helper serves a share of the virtual map requests from the desired tree, over its own
+     * pair of streams. Helper teachers aren't supported with emulated delays.
      */
     @SuppressWarnings("unchecked")
     private static <T extends MerkleNode> T testSynchronization(
@@ -88,6 +95,7 @@ public class MerkleBenchmarkUtils {
             final double delayStorageFuzzRangePercent,
             final long delayNetworkMicroseconds,
             final double delayNetworkFuzzRangePercent,
+            final int helperTeachers,
             final NodeId selfId,
             final Configuration configuration)
             throws Exception {
@@ -95,27 +103,45 @@ public class MerkleBenchmarkUtils {
         final GossipConfig gossipConfig = configuration.getConfigData(GossipConfig.class);
         final ReconnectConfig reconnectConfig = configuration.getConfigData(ReconnectConfig.class);
 
+        final boolean delays = delayStorageMicroseconds != 0 || delayNetworkMicroseconds != 0;
+        if (helperTeachers > 0 && delays) {
+            throw new IllegalArgumentException("Helper teachers are not supported with emulated delays");
+        }
+
+        final List<PairedStreams> helperStreams = new ArrayList<>(helperTeachers);
         try (PairedStreams streams = new PairedStreams(selfId, socketConfig, gossipConfig)) {
+            for (int i = 0; i < helperTeachers; i++) {
+                helperStreams.add(new PairedStreams(selfId, socketConfig, gossipConfig));
+            }
+            final Runnable breakConnection = () -> {
+                try {
+                    streams.disconnect();
+                    for (final PairedStreams helper : helperStreams) {
+                        helper.disconnect();
+                    }
+                } catch (final IOException e) {
+                    // test code, no danger
+                    e.printStackTrace();
+                }
+            };
+
             final LearningSynchronizer learner;
             final TeachingSynchronizer teacher;
 
-            if (delayStorageMicroseconds == 0 && delayNetworkMicroseconds == 0) {
+            if (!delays) {
                 learner = new LearningSynchronizer(
                         getStaticThreadManager(),
                         streams.getLearnerInput(),
                         streams.getLearnerOutput(),
                         startingTree,
-                        () -> {
-                            try {
-                                streams.disconnect();
-                            } catch (final IOException e) {
-                                // test code, no danger
-                                e.printStackTrace();
-                            }
-                        },
+                        breakConnection,
                         TestMerkleCryptoFactory.getInstance(),
                         reconnectConfig,
-                        BenchmarkMetrics.getMetrics());
+                        BenchmarkMetrics.getMetrics(),
+                        helperStreams.stream()
+                                .map(helper ->
+                                        new HelperTeacherStreams(helper.getLearnerInput(), helper.getLearnerOutput()))
+                                .toList());
                 teacher = new TeachingSynchronizer(
                         configuration,
                         Time.getCurrent(),
@@ -123,14 +149,7 @@ public class MerkleBenchmarkUtils {
                         streams.getTeacherInput(),
                         streams.getTeacherOutput(),
                         desiredTree,
-                        () -> {
-                            try {
-                                streams.disconnect();
-                            } catch (final IOException e) {
-                                // test code, no danger
-                                e.printStackTrace();
-                            }
-                        },
+                        breakConnection,
                         reconnectConfig);
             } else {
                 learner = new BenchmarkSlowLearningSynchronizer(
@@ -142,14 +161,7 @@ public class MerkleBenchmarkUtils {
                         delayStorageFuzzRangePercent,
                         delayNetworkMicroseconds,
                         delayNetworkFuzzRangePercent,
-                        () -> {
-                            try {
-                                streams.disconnect();
-                            } catch (final IOException e) {
-                                // test code, no danger
-                                e.printStackTrace();
-                            }
-                        },
+                        breakConnection,
                         reconnectConfig,
                         BenchmarkMetrics.getMetrics());
                 teacher = new BenchmarkSlowTeachingSynchronizer(
@@ -162,14 +174,7 @@ public class MerkleBenchmarkUtils {
                         delayStorageFuzzRangePercent,
                         delayNetworkMicroseconds,
                         delayNetworkFuzzRangePercent,
-                        () -> {
-                            try {
-                                streams.disconnect();
-                            } catch (final IOException e) {
-                                // test code, no danger
-                                e.printStackTrace();
-                            }
-                        },
+                        breakConnection,
                         reconnectConfig);
             }
 
@@ -182,6 +187,17 @@ public class MerkleBenchmarkUtils {
                     new StandardWorkGroup(getStaticThreadManager(), "synchronization-test", null, exceptionListener);
             workGroup.execute("teaching-synchronizer-main", () -> teachingSynchronizerThread(teacher));
             workGroup.execute("learning-synchronizer-main", () -> learningSynchronizerThread(learner));
+            for (final PairedStreams helper : helperStreams) {
+                final VirtualMapHelperTeacher helperTeacher = new VirtualMapHelperTeacher(
+                        getStaticThreadManager(),
+                        Time.getCurrent(),
+                        reconnectConfig,
+                        desiredTree,
+                        helper.getTeacherInput(),
+                        helper.getTeacherOutput(),
+                        breakConnection);
+                workGroup.execute("helper-teacher-main", () -> helperTeacherThread(helperTeacher));
+            }
 
             try {
                 workGroup.waitForTermination();
@@ -197,6 +213,10 @@ public class MerkleBenchmarkUtils {
 
             final MerkleNode generatedTree = learner.getRoot();
             return (T) generatedTree;
+        } finally {
+            for (final PairedStreams helper : helperStreams) {
+                helper.close();
+            }
         }
     }
 
@@ -208,6 +228,16 @@ public class MerkleBenchmarkUtils {
         }
     }
 
+    private static void helperTeacherThread(final VirtualMapHelperTeacher helperTeacher) {
+        try {
+            helperTeacher.serve();
+        } catch (final IOException e) {
+            throw new MerkleSynchronizationException("Helper teacher failed", e);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
     private static void learningSynchronizerThread(final LearningSynchronizer learner) {
         try {
             learner.synchronize();
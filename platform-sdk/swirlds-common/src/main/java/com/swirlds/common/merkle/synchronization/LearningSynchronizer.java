@@ -13,6 +13,7 @@ import com.swirlds.common.merkle.synchronization.config.ReconnectConfig;
 import com.swirlds.common.merkle.synchronization.stats.ReconnectMapMetrics;
 import com.swirlds.common.merkle.synchronization.stats.ReconnectMapStats;
 import com.swirlds.common.merkle.synchronization.streams.AsyncOutputStream;
+import com.swirlds.common.merkle.synchronization.streams.HelperTeacherStreams;
 import com.swirlds.common.merkle.synchronization.task.ReconnectNodeCount;
 import com.swirlds.common.merkle.synchronization.utility.MerkleSynchronizationException;
 import com.swirlds.common.merkle.synchronization.views.CustomReconnectRoot;
@@ -24,8 +25,10 @@ import com.swirlds.common.threading.pool.StandardWorkGroup;
 import com.swirlds.logging.legacy.payload.SynchronizationCompletePayload;
 import com.swirlds.metrics.api.Metrics;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.IOException;
 import java.util.Deque;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Objects;
 import java.util.Queue;
 import java.util.concurrent.ExecutionException;
@@ -58,6 +61,13 @@ public class LearningSynchronizer implements ReconnectNodeCount {
     private final Queue<MerkleNode> rootsToReceive;
     private final Deque<LearnerTreeView<?>> viewsToInitialize;
     private final Runnable breakConnection;
+
+    /**
+     * Streams to helper teachers, which serve a share of the requests for trees that support it. Empty if the whole
+     * tree is received from a single teacher.
+     */
+    private final List<HelperTeacherStreams> helperTeachers;
+
     /**
      * The root of the merkle tree that resulted from the synchronization operation.
      */
@@ -105,6 +115,43 @@ public class LearningSynchronizer implements ReconnectNodeCount {
             @NonNull final MerkleCryptography merkleCryptography,
             @NonNull final ReconnectConfig reconnectConfig,
             @NonNull final Metrics metrics) {
+        this(
+                threadManager,
+                in,
+                out,
+                root,
+                breakConnection,
+                merkleCryptography,
+                reconnectConfig,
+                metrics,
+                List.of());
+    }
+
+    /**
+     * Create a new learning synchronizer that receives parts of the tree from helper teachers, in addition to the main
+     * teacher.
+     *
+     * @param threadManager   responsible for managing thread lifecycles
+     * @param in              the input stream
+     * @param out             the output stream
+     * @param root            the root of the tree
+     * @param breakConnection a method that breaks the connection. Used iff an exception is encountered. Prevents
+     *                        deadlock if there is a thread stuck on a blocking IO operation that will never finish due
+     *                        to a failure. Must break the connections to the helper teachers, too.
+     * @param reconnectConfig the configuration for the reconnect
+     * @param metrics         a Metrics instance for ReconnectMapStats
+     * @param helperTeachers  streams to helper teachers that hold the same state as the main teacher
+     */
+    public LearningSynchronizer(
+            @NonNull final ThreadManager threadManager,
+            @NonNull final MerkleDataInputStream in,
+            @NonNull final MerkleDataOutputStream out,
+            @NonNull final MerkleNode root,
+            @NonNull final Runnable breakConnection,
+            @NonNull final MerkleCryptography merkleCryptography,
+            @NonNull final ReconnectConfig reconnectConfig,
+            @NonNull final Metrics metrics,
+            @NonNull final List<HelperTeacherStreams> helperTeachers) {
 
         this.threadManager = Objects.requireNonNull(threadManager, "threadManager is null");
 
@@ -118,6 +165,7 @@ public class LearningSynchronizer implements ReconnectNodeCount {
         rootsToReceive.add(root);
 
         this.breakConnection = breakConnection;
+        this.helperTeachers = List.copyOf(helperTeachers);
 
         this.mapStats = new ReconnectMapMetrics(metrics, null, null);
     }
@@ -184,11 +232,25 @@ public class LearningSynchronizer implements ReconnectNodeCount {
                 newRoot = root;
             }
         }
+        releaseHelperTeachers();
 
         synchronizationTimeMilliseconds = System.currentTimeMillis() - start;
         logger.info(RECONNECT.getMarker(), "synchronization complete");
     }
 
+    /**
+     * Tell all helper teachers there are no more trees to serve.
+     */
+    private void releaseHelperTeachers() {
+        for (final HelperTeacherStreams helperTeacher : helperTeachers) {
+            try {
+                helperTeacher.writeEndOfTrees();
+            } catch (final IOException e) {
+                throw new MerkleSynchronizationException("Failed to release a helper teacher", e);
+            }
+        }
+    }
+
     /**
      * Initialize the tree.
      */
@@ -239,6 +301,16 @@ public class LearningSynchronizer implements ReconnectNodeCount {
         logger.info(RECONNECT.getMarker(), () -> mapStats.format());
     }
 
+    /**
+     * Get the streams to helper teachers, which serve a share of the requests for trees that support it.
+     *
+     * @return the helper teacher streams, empty if the whole tree is received from a single teacher
+     */
+    @NonNull
+    public List<HelperTeacherStreams> getHelperTeachers() {
+        return helperTeachers;
+    }
+
     /**
      * Get the root of the resulting tree. May return an incomplete tree if called before synchronization is finished.
      */
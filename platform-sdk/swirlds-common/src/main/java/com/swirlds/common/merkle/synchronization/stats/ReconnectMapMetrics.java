@@ -1,6 +1,7 @@
 // SPDX-License-Identifier: Apache-2.0
 package com.swirlds.common.merkle.synchronization.stats;
 
+import com.swirlds.metrics.api.DoubleGauge;
 import com.swirlds.metrics.api.LongGauge;
 import com.swirlds.metrics.api.Metrics;
 import edu.umd.cs.findbugs.annotations.NonNull;
@@ -33,6 +34,12 @@ public class ReconnectMapMetrics implements ReconnectMapStats {
     private final LongGauge leafData;
     private final LongGauge leafCleanData;
 
+    private final DoubleGauge leafProgress;
+    private final LongGauge secondsRemaining;
+
+    /** The time this instance was created, i.e. when the reconnect of this map started. */
+    private final long startNanos = System.nanoTime();
+
     /**
      * Create an instance of ReconnectMapMetrics.
      * @param metrics a non-null Metrics object
@@ -83,6 +90,13 @@ public class ReconnectMapMetrics implements ReconnectMapStats {
                 metrics.getOrCreate(new LongGauge.Config(RECONNECT_MAP_CATEGORY, formatName("leafCleanData", label))
                         .withDescription("number of clean leaf node data transferred"));
 
+        this.leafProgress = metrics.getOrCreate(
+                new DoubleGauge.Config(RECONNECT_MAP_CATEGORY, formatName("leafProgressPercent", label))
+                        .withDescription("percentage of leaves received or confirmed clean"));
+        this.secondsRemaining = metrics.getOrCreate(
+                new LongGauge.Config(RECONNECT_MAP_CATEGORY, formatName("estimatedSecondsRemaining", label))
+                        .withDescription("estimated seconds until all leaves are received, or -1 if unknown"));
+
         // Reset metric values to zeros on reconnect start
         resetMetrics();
     }
@@ -115,6 +129,9 @@ public class ReconnectMapMetrics implements ReconnectMapStats {
         leafCleanHashes.set(0);
         leafData.set(0);
         leafCleanData.set(0);
+
+        leafProgress.set(0);
+        secondsRemaining.set(-1);
     }
 
     /**
@@ -187,6 +204,26 @@ public class ReconnectMapMetrics implements ReconnectMapStats {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The time remaining is extrapolated from the average rate since this map's reconnect started.
+     */
+    @Override
+    public void setLeafProgress(final long completedLeaves, final long totalLeaves) {
+        if (totalLeaves <= 0) {
+            return;
+        }
+        final long completed = Math.min(completedLeaves, totalLeaves);
+        leafProgress.set(100.0 * completed / totalLeaves);
+        if (completed == 0) {
+            secondsRemaining.set(-1);
+            return;
+        }
+        final double elapsedSeconds = (System.nanoTime() - startNanos) / 1_000_000_000.0;
+        secondsRemaining.set(Math.round(elapsedSeconds * (totalLeaves - completed) / completed));
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -208,7 +245,8 @@ public class ReconnectMapMetrics implements ReconnectMapStats {
         sb.append("leafHashes=").append(leafHashes.get()).append("; ");
         sb.append("leafCleanHashes=").append(leafCleanHashes.get()).append("; ");
         sb.append("leafData=").append(leafData.get()).append("; ");
-        sb.append("leafCleanData=").append(leafCleanData.get());
+        sb.append("leafCleanData=").append(leafCleanData.get()).append("; ");
+        sb.append("leafProgressPercent=").append(leafProgress.get());
 
         return sb.toString();
     }
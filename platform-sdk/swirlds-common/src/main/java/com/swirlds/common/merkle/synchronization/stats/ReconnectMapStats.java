@@ -58,6 +58,16 @@ public interface ReconnectMapStats {
      */
     default void incrementLeafData(int dataNum, int cleanDataNum) {}
 
+    /**
+     * Report how much of the tree is known to be complete on the learner, measured in leaves. A leaf is complete
+     * once it has been received, or once it or one of its ancestors has been confirmed clean by the teacher.
+     * <p>
+     * Progress is specific to a single tree, so implementations should not forward it to aggregate stats.
+     * @param completedLeaves the number of leaves known to be complete so far
+     * @param totalLeaves the total number of leaves in the tree being received
+     */
+    default void setLeafProgress(long completedLeaves, long totalLeaves) {}
+
     /**
      * Formats a string with all the accumulated stats and any other useful information
      * maintained by the implementation of this interface, such as the map name and similar.
@@ -0,0 +1,85 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.common.merkle.synchronization.streams;
+
+import com.swirlds.common.io.streams.MerkleDataInputStream;
+import com.swirlds.common.io.streams.MerkleDataOutputStream;
+import com.swirlds.common.merkle.route.MerkleRoute;
+import com.swirlds.common.merkle.route.MerkleRouteFactory;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Streams to a helper teacher. A helper teacher holds the same state as the main teacher of a reconnect, and serves
+ * a share of the learner's requests for trees that support it, so a reconnect isn't bounded by the bandwidth and CPU
+ * of a single peer.
+ *
+ * <p>The learner starts every tree served by a helper by writing the route of the tree root, see {@link
+ * #writeRoute(MerkleRoute)}. After the last tree, the learner writes {@link #END_OF_TREES} instead of a route. What
+ * is exchanged for every tree is defined by the tree's learner view.
+ *
+ * @param in  the stream to read from the helper teacher
+ * @param out the stream to write to the helper teacher
+ */
+public record HelperTeacherStreams(@NonNull MerkleDataInputStream in, @NonNull MerkleDataOutputStream out) {
+
+    /**
+     * Written by the learner instead of a route length to tell a helper teacher there are no more trees to serve.
+     */
+    public static final int END_OF_TREES = -1;
+
+    public HelperTeacherStreams {
+        Objects.requireNonNull(in, "in must not be null");
+        Objects.requireNonNull(out, "out must not be null");
+    }
+
+    /**
+     * Ask the helper teacher to serve the tree at the given route.
+     *
+     * @param route the route of the tree root
+     * @throws IOException if an I/O error occurs
+     */
+    public void writeRoute(@NonNull final MerkleRoute route) throws IOException {
+        out.writeInt(route.size());
+        for (final int step : route) {
+            out.writeInt(step);
+        }
+        out.flush();
+    }
+
+    /**
+     * Tell the helper teacher there are no more trees to serve.
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    public void writeEndOfTrees() throws IOException {
+        out.writeInt(END_OF_TREES);
+        out.flush();
+    }
+
+    /**
+     * Read the next tree requested by the learner. Called by the helper teacher, on its side of the streams.
+     *
+     * @param in the stream to read from the learner
+     * @return the route of the tree root, or null if there are no more trees to serve
+     * @throws IOException if an I/O error occurs
+     */
+    @Nullable
+    public static MerkleRoute readRoute(@NonNull final MerkleDataInputStream in) throws IOException {
+        final int size = in.readInt();
+        if (size == END_OF_TREES) {
+            return null;
+        }
+        if ((size < 0) || (size > MerkleRoute.MAX_ROUTE_LENGTH)) {
+            throw new IOException("Invalid route length: " + size);
+        }
+        final List<Integer> steps = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            steps.add(in.readInt());
+        }
+        return MerkleRouteFactory.buildRoute(steps);
+    }
+}
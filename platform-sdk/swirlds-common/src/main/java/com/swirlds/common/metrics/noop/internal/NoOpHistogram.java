@@ -0,0 +1,39 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.common.metrics.noop.internal;
+
+import com.swirlds.metrics.api.Histogram;
+import com.swirlds.metrics.api.MetricConfig;
+import com.swirlds.metrics.api.snapshot.HistogramSnapshot;
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+/**
+ * A no-op histogram.
+ */
+public class NoOpHistogram extends AbstractNoOpMetric implements Histogram {
+
+    public NoOpHistogram(final @NonNull MetricConfig<?, ?> config) {
+        super(config);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void update(final long value) {}
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NonNull HistogramSnapshot getSnapshot() {
+        return HistogramSnapshot.EMPTY;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NonNull HistogramSnapshot getIntervalSnapshot() {
+        return HistogramSnapshot.EMPTY;
+    }
+}
@@ -0,0 +1,20 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.common.metrics.platform;
+
+import com.swirlds.common.metrics.PlatformMetric;
+import com.swirlds.metrics.impl.DefaultHistogram;
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+/**
+ * A histogram metric that is associated with the platform.
+ */
+public class PlatformHistogram extends DefaultHistogram implements PlatformMetric {
+
+    /**
+     * Constructs a new PlatformHistogram with the given configuration.
+     * @param config the configuration for this histogram
+     */
+    public PlatformHistogram(@NonNull final Config config) {
+        super(config);
+    }
+}
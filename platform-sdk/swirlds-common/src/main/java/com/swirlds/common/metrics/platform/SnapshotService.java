@@ -200,9 +200,13 @@ public class SnapshotService implements Startable {
         subscribers.forEach(subscriber -> subscriber.accept(globalEvent));
 
         for (final DefaultPlatformMetrics platformMetrics : platformMetricsList) {
+            // Some metrics (e.g. accumulators and histograms) reset their values when a snapshot is taken, so a
+            // global metric must not be snapshotted a second time here
             final List<Snapshot> platformSnapshots = platformMetrics.getAll().stream()
-                    .map(metric -> globalSnapshots.getOrDefault(
-                            calculateMetricKey(metric), Snapshot.of((SnapshotableMetric) metric)))
+                    .map(metric -> {
+                        final Snapshot globalSnapshot = globalSnapshots.get(calculateMetricKey(metric));
+                        return globalSnapshot != null ? globalSnapshot : Snapshot.of((SnapshotableMetric) metric);
+                    })
                     .toList();
 
             logger.trace(() -> String.format(
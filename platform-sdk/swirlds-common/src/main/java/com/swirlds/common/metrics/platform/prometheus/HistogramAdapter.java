@@ -0,0 +1,145 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.common.metrics.platform.prometheus;
+
+import static com.swirlds.common.metrics.platform.prometheus.PrometheusEndpoint.AdapterType.GLOBAL;
+import static com.swirlds.common.metrics.platform.prometheus.PrometheusEndpoint.NODE_LABEL;
+
+import com.swirlds.common.metrics.platform.prometheus.PrometheusEndpoint.AdapterType;
+import com.swirlds.metrics.api.Histogram;
+import com.swirlds.metrics.api.Metric;
+import com.swirlds.metrics.api.snapshot.HistogramSnapshot;
+import com.swirlds.metrics.api.snapshot.Snapshot;
+import io.prometheus.client.Collector;
+import io.prometheus.client.CollectorRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import org.hiero.consensus.model.node.NodeId;
+
+/**
+ * Adapter that synchronizes a {@link Histogram} with a Prometheus histogram, i.e. with the cumulative
+ * {@code _bucket}, {@code _sum}, and {@code _count} series of all values recorded so far.
+ * <p>
+ * Only the buckets between the lowest and the highest bucket that ever contained a value are exported, so the
+ * number of series stays proportional to the range of the recorded values.
+ */
+public class HistogramAdapter extends AbstractMetricAdapter {
+
+    private static final String GLOBAL_KEY = "";
+
+    private final HistogramCollector collector;
+    private final Map<String, HistogramSnapshot> snapshots = new ConcurrentHashMap<>();
+    private volatile int lowestBucket = HistogramSnapshot.NUM_BUCKETS;
+    private volatile int highestBucket = -1;
+
+    /**
+     * Constructor of {@code HistogramAdapter}.
+     *
+     * @param registry
+     * 		The {@link CollectorRegistry} with which the Prometheus {@link Collector} should be registered
+     * @param metric
+     * 		The {@link Metric} which value should be reported to Prometheus
+     * @param adapterType
+     * 		Scope of the {@link Metric}, either {@link AdapterType#GLOBAL} or {@link AdapterType#PLATFORM}
+     * @throws NullPointerException if any of the following parameters are {@code null}.
+     *     <ul>
+     *       <li>{@code registry}</li>
+     *       <li>{@code metric}</li>
+     *     </ul>
+     */
+    public HistogramAdapter(final CollectorRegistry registry, final Metric metric, final AdapterType adapterType) {
+        super(adapterType, metric);
+        Objects.requireNonNull(registry, "registry must not be null");
+        Objects.requireNonNull(metric, "metric must not be null");
+        final String unit = NameConverter.fix(metric.getUnit());
+        String name = NameConverter.fix(metric.getCategory()) + "_" + NameConverter.fix(metric.getName());
+        if (!unit.isEmpty() && !name.endsWith("_" + unit)) {
+            name += "_" + unit;
+        }
+        this.collector = new HistogramCollector(name, unit, metric.getDescription()).register(registry);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void update(final Snapshot snapshot, final NodeId nodeId) {
+        Objects.requireNonNull(snapshot, "snapshot must not be null");
+        if (adapterType != GLOBAL) {
+            Objects.requireNonNull(nodeId, "nodeId must not be null");
+        }
+        final HistogramSnapshot histogram = ((Histogram) snapshot.metric()).getSnapshot();
+        synchronized (this) {
+            lowestBucket = Math.min(lowestBucket, histogram.lowestNonEmptyBucket());
+            highestBucket = Math.max(highestBucket, histogram.highestNonEmptyBucket());
+        }
+        snapshots.put(adapterType == GLOBAL ? GLOBAL_KEY : nodeId.toString(), histogram);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void unregister(final CollectorRegistry registry) {
+        registry.unregister(collector);
+    }
+
+    private class HistogramCollector extends Collector {
+        private final String name;
+        private final String unit;
+        private final String help;
+
+        private HistogramCollector(final String name, final String unit, final String help) {
+            this.name = name;
+            this.unit = unit;
+            this.help = help;
+        }
+
+        @Override
+        public List<MetricFamilySamples> collect() {
+            final List<MetricFamilySamples.Sample> samples = new ArrayList<>();
+            if (snapshots.isEmpty()) {
+                // register the series of an empty histogram, like Prometheus' own histograms do
+                addSamples(samples, List.of(), List.of(), HistogramSnapshot.EMPTY);
+            }
+            snapshots.forEach((key, histogram) -> {
+                final List<String> labelNames = adapterType == GLOBAL ? List.of() : List.of(NODE_LABEL);
+                final List<String> labelValues = adapterType == GLOBAL ? List.of() : List.of(key);
+                addSamples(samples, labelNames, labelValues, histogram);
+            });
+            return List.of(new MetricFamilySamples(name, unit, Type.HISTOGRAM, help, samples));
+        }
+
+        private void addSamples(
+                final List<MetricFamilySamples.Sample> samples,
+                final List<String> labelNames,
+                final List<String> labelValues,
+                final HistogramSnapshot histogram) {
+            final List<String> bucketLabelNames = new ArrayList<>(labelNames);
+            bucketLabelNames.add("le");
+            long cumulativeCount = 0L;
+            for (int i = 0, high = highestBucket; i <= high; i++) {
+                cumulativeCount += histogram.countOf(i);
+                if (i >= lowestBucket) {
+                    samples.add(bucketSample(
+                            bucketLabelNames,
+                            labelValues,
+                            doubleToGoString(HistogramSnapshot.upperBoundOf(i)),
+                            cumulativeCount));
+                }
+            }
+            samples.add(bucketSample(bucketLabelNames, labelValues, "+Inf", histogram.count()));
+            samples.add(new MetricFamilySamples.Sample(name + "_count", labelNames, labelValues, histogram.count()));
+            samples.add(new MetricFamilySamples.Sample(name + "_sum", labelNames, labelValues, histogram.sum()));
+        }
+
+        private MetricFamilySamples.Sample bucketSample(
+                final List<String> labelNames, final List<String> labelValues, final String le, final long count) {
+            final List<String> bucketLabelValues = new ArrayList<>(labelValues);
+            bucketLabelValues.add(le);
+            return new MetricFamilySamples.Sample(name + "_bucket", labelNames, bucketLabelValues, count);
+        }
+    }
+}
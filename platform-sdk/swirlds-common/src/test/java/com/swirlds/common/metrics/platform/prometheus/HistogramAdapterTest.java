@@ -0,0 +1,125 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.common.metrics.platform.prometheus;
+
+import static com.swirlds.common.metrics.platform.prometheus.PrometheusEndpoint.AdapterType.GLOBAL;
+import static com.swirlds.common.metrics.platform.prometheus.PrometheusEndpoint.AdapterType.PLATFORM;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.swirlds.common.metrics.platform.PlatformHistogram;
+import com.swirlds.metrics.api.Histogram;
+import com.swirlds.metrics.api.Metric;
+import com.swirlds.metrics.api.snapshot.Snapshot;
+import io.prometheus.client.Collector;
+import io.prometheus.client.CollectorRegistry;
+import org.hiero.consensus.model.node.NodeId;
+import org.junit.jupiter.api.Test;
+
+class HistogramAdapterTest {
+
+    private static final String CATEGORY = "CaTeGoRy";
+    private static final String NAME = "NaMe";
+    private static final String MAPPING_NAME = "CaTeGoRy_NaMe";
+    private static final String DESCRIPTION = "DeScRiPtIoN";
+    private static final String UNIT = "UnIt";
+
+    @Test
+    void testCreateGlobalMetric() {
+        // given
+        final CollectorRegistry registry = new CollectorRegistry();
+        final Metric metric = new PlatformHistogram(
+                new Histogram.Config(CATEGORY, NAME).withDescription(DESCRIPTION).withUnit(UNIT));
+
+        // when
+        new HistogramAdapter(registry, metric, GLOBAL);
+
+        // then
+        final Collector.MetricFamilySamples mapping =
+                registry.metricFamilySamples().nextElement();
+        assertThat(mapping.type).isEqualTo(Collector.Type.HISTOGRAM);
+        assertThat(mapping.name).isEqualTo(MAPPING_NAME + "_" + UNIT);
+        assertThat(mapping.help).isEqualTo(DESCRIPTION);
+        assertThat(mapping.unit).isEqualTo(UNIT);
+        assertThat(registry.getSampleValue(MAPPING_NAME + "_" + UNIT + "_count"))
+                .isZero();
+    }
+
+    @Test
+    void testConstructorWithNullParameters() {
+        // given
+        final CollectorRegistry registry = new CollectorRegistry();
+        final Metric metric = new PlatformHistogram(new Histogram.Config(CATEGORY, NAME));
+
+        // then
+        assertThatThrownBy(() -> new HistogramAdapter(null, metric, GLOBAL)).isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> new HistogramAdapter(registry, null, GLOBAL))
+                .isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> new HistogramAdapter(registry, metric, null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void testUpdateGlobalMetricExportsCumulativeBuckets() {
+        // given
+        final CollectorRegistry registry = new CollectorRegistry();
+        final PlatformHistogram metric = new PlatformHistogram(new Histogram.Config(CATEGORY, NAME));
+        final HistogramAdapter adapter = new HistogramAdapter(registry, metric, GLOBAL);
+        metric.update(2L);
+        metric.update(5L);
+        metric.update(42L);
+
+        // when
+        adapter.update(Snapshot.of(metric), null);
+        metric.update(5L);
+        adapter.update(Snapshot.of(metric), null);
+
+        // then
+        final String[] le = new String[] {"le"};
+        assertThat(registry.getSampleValue(MAPPING_NAME + "_bucket", le, new String[] {"2.0"}))
+                .isEqualTo(1.0);
+        assertThat(registry.getSampleValue(MAPPING_NAME + "_bucket", le, new String[] {"5.0"}))
+                .isEqualTo(3.0);
+        assertThat(registry.getSampleValue(MAPPING_NAME + "_bucket", le, new String[] {"47.0"}))
+                .isEqualTo(4.0);
+        assertThat(registry.getSampleValue(MAPPING_NAME + "_bucket", le, new String[] {"+Inf"}))
+                .isEqualTo(4.0);
+        assertThat(registry.getSampleValue(MAPPING_NAME + "_bucket", le, new String[] {"1.0"}))
+                .isNull();
+        assertThat(registry.getSampleValue(MAPPING_NAME + "_count")).isEqualTo(4.0);
+        assertThat(registry.getSampleValue(MAPPING_NAME + "_sum")).isEqualTo(54.0);
+    }
+
+    @Test
+    void testUpdatePlatformMetric() {
+        // given
+        final CollectorRegistry registry = new CollectorRegistry();
+        final PlatformHistogram metric = new PlatformHistogram(new Histogram.Config(CATEGORY, NAME));
+        final HistogramAdapter adapter = new HistogramAdapter(registry, metric, PLATFORM);
+        metric.update(3L);
+
+        // when
+        adapter.update(Snapshot.of(metric), NodeId.of(1L));
+
+        // then
+        assertThat(registry.getSampleValue(
+                        MAPPING_NAME + "_bucket", new String[] {"node", "le"}, new String[] {"1", "3.0"}))
+                .isEqualTo(1.0);
+        assertThat(registry.getSampleValue(MAPPING_NAME + "_count", new String[] {"node"}, new String[] {"1"}))
+                .isEqualTo(1.0);
+        assertThatThrownBy(() -> adapter.update(Snapshot.of(metric), null)).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void testUnregister() {
+        // given
+        final CollectorRegistry registry = new CollectorRegistry();
+        final Metric metric = new PlatformHistogram(new Histogram.Config(CATEGORY, NAME));
+        final HistogramAdapter adapter = new HistogramAdapter(registry, metric, GLOBAL);
+
+        // when
+        adapter.unregister(registry);
+
+        // then
+        assertThat(registry.metricFamilySamples().hasMoreElements()).isFalse();
+    }
+}
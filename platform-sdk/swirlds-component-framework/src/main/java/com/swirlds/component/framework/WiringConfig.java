@@ -24,6 +24,10 @@ import java.time.Duration;
  * @param healthLogPeriod                the minimum amount of time that must pass between health log messages for the
  *                                       same scheduler
  * @param healthyReportThreshold         indicates how long between two consecutive reports when the system is healthy.
+ * @param virtualThreadsEnabled          whether SEQUENTIAL_VIRTUAL and VIRTUAL_THREAD schedulers run on virtual
+ *                                       threads. If false, they are built as SEQUENTIAL_THREAD and CONCURRENT
+ *                                       schedulers respectively. Disabled by default; no scheduler uses these types
+ *                                       unless configured to.
  *
  */
 @ConfigData("platform.wiring")
@@ -36,4 +40,5 @@ public record WiringConfig(
         @ConfigProperty(defaultValue = "1ms") Duration healthMonitorHeartbeatPeriod,
         @ConfigProperty(defaultValue = "1s") Duration healthLogThreshold,
         @ConfigProperty(defaultValue = "10m") Duration healthLogPeriod,
-        @ConfigProperty(defaultValue = "1s") Duration healthyReportThreshold) {}
+        @ConfigProperty(defaultValue = "1s") Duration healthyReportThreshold,
+        @ConfigProperty(defaultValue = "false") boolean virtualThreadsEnabled) {}
@@ -4,6 +4,7 @@ package com.swirlds.component.framework.model;
 import static com.swirlds.component.framework.schedulers.builders.TaskSchedulerType.NO_OP;
 import static com.swirlds.component.framework.schedulers.builders.TaskSchedulerType.SEQUENTIAL;
 import static com.swirlds.component.framework.schedulers.builders.TaskSchedulerType.SEQUENTIAL_THREAD;
+import static com.swirlds.component.framework.schedulers.builders.TaskSchedulerType.SEQUENTIAL_VIRTUAL;
 
 import com.swirlds.base.time.Time;
 import com.swirlds.component.framework.model.diagram.HyperlinkBuilder;
@@ -68,6 +69,11 @@ public class StandardWiringModel extends TraceableWiringModel {
      */
     private final ForkJoinPool defaultPool;
 
+    /**
+     * If false, then schedulers of a virtual thread type are built with the equivalent platform thread type.
+     */
+    private final boolean virtualThreadsEnabled;
+
     /**
      * Used to prevent the JVM from prematurely exiting.
      */
@@ -104,6 +110,7 @@ public class StandardWiringModel extends TraceableWiringModel {
         this.metrics = Objects.requireNonNull(builder.getMetrics());
         this.time = Objects.requireNonNull(builder.getTime());
         this.defaultPool = Objects.requireNonNull(builder.getDefaultPool());
+        this.virtualThreadsEnabled = builder.isVirtualThreadsEnabled();
 
         final TaskSchedulerBuilder<Duration> healthMonitorSchedulerBuilder = this.schedulerBuilder("HealthMonitor");
         healthMonitorSchedulerBuilder.withHyperlink(HyperlinkBuilder.platformCoreHyperlink(HealthMonitor.class));
@@ -139,8 +146,8 @@ public class StandardWiringModel extends TraceableWiringModel {
     @Override
     public final <O> TaskSchedulerBuilder<O> schedulerBuilder(@NonNull final String name) {
         throwIfStarted();
-        final StandardTaskSchedulerBuilder<O> builder =
-                new StandardTaskSchedulerBuilder<>(this.time, this.metrics, this, name, defaultPool);
+        final StandardTaskSchedulerBuilder<O> builder = new StandardTaskSchedulerBuilder<>(
+                this.time, this.metrics, this, name, defaultPool, virtualThreadsEnabled);
         if (taskSchedulerExceptionHandler != null) {
             builder.withUncaughtExceptionHandler(taskSchedulerExceptionHandler);
         }
@@ -192,7 +199,7 @@ public class StandardWiringModel extends TraceableWiringModel {
     @Override
     public void registerScheduler(@NonNull final TaskScheduler<?> scheduler, @Nullable final String hyperlink) {
         super.registerScheduler(scheduler, hyperlink);
-        if (scheduler.getType() == SEQUENTIAL_THREAD) {
+        if (scheduler.getType() == SEQUENTIAL_THREAD || scheduler.getType() == SEQUENTIAL_VIRTUAL) {
             threadSchedulers.add((SequentialThreadTaskScheduler<?>) scheduler);
         }
     }
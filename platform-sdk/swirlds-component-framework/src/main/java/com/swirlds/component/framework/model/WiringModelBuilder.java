@@ -2,6 +2,7 @@
 package com.swirlds.component.framework.model;
 
 import com.swirlds.base.time.Time;
+import com.swirlds.component.framework.schedulers.builders.TaskSchedulerType;
 import com.swirlds.metrics.api.Metrics;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.lang.Thread.UncaughtExceptionHandler;
@@ -19,6 +20,7 @@ public class WiringModelBuilder {
     private boolean healthMonitorEnabled = true;
     private boolean hardBackpressureEnabled = false;
     private boolean jvmAnchorEnabled = false;
+    private boolean virtualThreadsEnabled = true;
     private int healthMonitorCapacity = 500;
     private Duration healthMonitorPeriod = Duration.ofMillis(100);
     private Duration healthLogThreshold = Duration.ofSeconds(5);
@@ -101,6 +103,21 @@ public class WiringModelBuilder {
         return this;
     }
 
+    /**
+     * Set if schedulers of type {@link TaskSchedulerType#SEQUENTIAL_VIRTUAL SEQUENTIAL_VIRTUAL} and
+     * {@link TaskSchedulerType#VIRTUAL_THREAD VIRTUAL_THREAD} should run on virtual threads. Default is true. If
+     * disabled, these schedulers are built as {@link TaskSchedulerType#SEQUENTIAL_THREAD SEQUENTIAL_THREAD} and
+     * {@link TaskSchedulerType#CONCURRENT CONCURRENT} schedulers respectively. Has no effect in deterministic mode.
+     *
+     * @param virtualThreadsEnabled whether to enable virtual threads
+     * @return this
+     */
+    @NonNull
+    public WiringModelBuilder withVirtualThreadsEnabled(final boolean virtualThreadsEnabled) {
+        this.virtualThreadsEnabled = virtualThreadsEnabled;
+        return this;
+    }
+
     /**
      * Set if the JVM anchor should be enabled. Default is false. If enabled and {@link WiringModel#start()} has been
      * called, the JVM will not automatically exit due to lack of non-daemon threads until {@link WiringModel#stop()} is
@@ -236,6 +253,15 @@ public class WiringModelBuilder {
         return hardBackpressureEnabled;
     }
 
+    /**
+     * Check if virtual threads are enabled.
+     *
+     * @return true if virtual threads are enabled
+     */
+    boolean isVirtualThreadsEnabled() {
+        return virtualThreadsEnabled;
+    }
+
     /**
      * Check if the JVM anchor is enabled.
      *
@@ -31,14 +31,15 @@ public final class DirectSchedulerChecks {
      * <ul>
      * <li>
      * Calling into a component with type {@link TaskSchedulerType#DIRECT DIRECT}
-     * from a component with {@link TaskSchedulerType#CONCURRENT CONCURRENT} is not
-     * allowed.
+     * from a component with {@link TaskSchedulerType#CONCURRENT CONCURRENT} or
+     * {@link TaskSchedulerType#VIRTUAL_THREAD VIRTUAL_THREAD} is not allowed.
      * </li>
      * <li>
      * Calling into a component with type {@link TaskSchedulerType#DIRECT DIRECT}
      * from more than one component with type
-     * {@link TaskSchedulerType#SEQUENTIAL SEQUENTIAL} or type
-     * {@link TaskSchedulerType#SEQUENTIAL_THREAD SEQUENTIAL_THREAD} is not allowed.
+     * {@link TaskSchedulerType#SEQUENTIAL SEQUENTIAL}, type
+     * {@link TaskSchedulerType#SEQUENTIAL_THREAD SEQUENTIAL_THREAD} or type
+     * {@link TaskSchedulerType#SEQUENTIAL_VIRTUAL SEQUENTIAL_VIRTUAL} is not allowed.
      * </li>
      * <li>
      * Calling into a component A with type
@@ -74,7 +75,8 @@ public final class DirectSchedulerChecks {
 
             final Set<ModelVertex> directSchedulersAccessed = collectDirectVerticesAccessedByScheduler(vertex);
 
-            if (vertexType == TaskSchedulerType.CONCURRENT && !directSchedulersAccessed.isEmpty()) {
+            if ((vertexType == TaskSchedulerType.CONCURRENT || vertexType == TaskSchedulerType.VIRTUAL_THREAD)
+                    && !directSchedulersAccessed.isEmpty()) {
                 // It is illegal for a concurrent scheduler to call into a direct scheduler.
                 illegalAccessDetected = true;
                 sb.append("  ")
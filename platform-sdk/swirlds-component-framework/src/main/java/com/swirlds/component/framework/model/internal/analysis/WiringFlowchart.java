@@ -8,6 +8,8 @@ import static com.swirlds.component.framework.schedulers.builders.TaskSchedulerT
 import static com.swirlds.component.framework.schedulers.builders.TaskSchedulerType.DIRECT_THREADSAFE;
 import static com.swirlds.component.framework.schedulers.builders.TaskSchedulerType.SEQUENTIAL;
 import static com.swirlds.component.framework.schedulers.builders.TaskSchedulerType.SEQUENTIAL_THREAD;
+import static com.swirlds.component.framework.schedulers.builders.TaskSchedulerType.SEQUENTIAL_VIRTUAL;
+import static com.swirlds.component.framework.schedulers.builders.TaskSchedulerType.VIRTUAL_THREAD;
 
 import com.swirlds.component.framework.model.diagram.ModelEdgeSubstitution;
 import com.swirlds.component.framework.model.diagram.ModelGroup;
@@ -290,11 +292,13 @@ public class WiringFlowchart {
         boolean hasState = false;
 
         for (final ModelVertex vertex : groupVertices) {
-            if (vertex.getType() == CONCURRENT) {
+            if (vertex.getType() == CONCURRENT || vertex.getType() == VIRTUAL_THREAD) {
                 return CONCURRENT;
             }
 
-            if (vertex.getType() == SEQUENTIAL || vertex.getType() == SEQUENTIAL_THREAD) {
+            if (vertex.getType() == SEQUENTIAL
+                    || vertex.getType() == SEQUENTIAL_THREAD
+                    || vertex.getType() == SEQUENTIAL_VIRTUAL) {
                 if (hasSequential) {
                     // We've detected more than one sequential scheduler type, so there is more than one logical
                     // thread of execution within this group.
@@ -8,6 +8,7 @@ import static org.hiero.base.CompareTo.isGreaterThanOrEqualTo;
 import com.swirlds.base.time.Time;
 import com.swirlds.component.framework.schedulers.TaskScheduler;
 import com.swirlds.component.framework.schedulers.builders.TaskSchedulerBuilder;
+import com.swirlds.component.framework.schedulers.internal.BatchingSequentialTaskScheduler;
 import com.swirlds.metrics.api.Metrics;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
@@ -35,6 +36,11 @@ public class HealthMonitor {
      */
     private final List<Instant> lastHealthyTimes = new ArrayList<>();
 
+    /**
+     * The task schedulers that handle their tasks in batches, regardless of their capacities.
+     */
+    private final List<BatchingSequentialTaskScheduler<?>> batchingSchedulers = new ArrayList<>();
+
     /**
      * The previous value returned by {@link #checkSystemHealth(Instant)}. Used to avoid sending repeat output.
      */
@@ -94,6 +100,9 @@ public class HealthMonitor {
                 this.schedulers.add(Objects.requireNonNull(scheduler));
                 lastHealthyTimes.add(null);
             }
+            if (scheduler instanceof final BatchingSequentialTaskScheduler<?> batchingScheduler) {
+                batchingSchedulers.add(batchingScheduler);
+            }
         }
 
         logger = new HealthMonitorLogger(time, this.schedulers, healthLogThreshold, healthLogPeriod);
@@ -116,6 +125,10 @@ public class HealthMonitor {
      */
     @Nullable
     public Duration checkSystemHealth(@NonNull final Instant now) {
+        for (final BatchingSequentialTaskScheduler<?> scheduler : batchingSchedulers) {
+            metrics.reportAverageBatchSize(scheduler.getName(), scheduler.takeAverageBatchSize());
+        }
+
         Duration longestUnhealthyDuration = Duration.ZERO;
 
         for (int i = 0; i < lastHealthyTimes.size(); i++) {
@@ -4,11 +4,14 @@ package com.swirlds.component.framework.model.internal.monitor;
 import static org.hiero.base.CompareTo.isLessThan;
 
 import com.swirlds.common.metrics.DurationGauge;
+import com.swirlds.metrics.api.DoubleGauge;
 import com.swirlds.metrics.api.IntegerGauge;
 import com.swirlds.metrics.api.Metrics;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.time.Duration;
 import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Encapsulates metrics for the wiring health monitor.
@@ -27,6 +30,9 @@ public class HealthMonitorMetrics {
 
     private final Duration healthThreshold;
 
+    private final Metrics metrics;
+    private final Map<String /* scheduler name */, DoubleGauge> averageBatchSizes = new HashMap<>();
+
     /**
      * Constructor.
      *
@@ -34,6 +40,7 @@ public class HealthMonitorMetrics {
      * @param healthLogThreshold the duration after which the system is considered unhealthy
      */
     public HealthMonitorMetrics(@NonNull final Metrics metrics, @NonNull final Duration healthLogThreshold) {
+        this.metrics = metrics;
         unhealthyDuration = metrics.getOrCreate(DURATION_GAUGE_CONFIG);
         healthy = metrics.getOrCreate(HEALTHY_CONFIG);
 
@@ -52,4 +59,24 @@ public class HealthMonitorMetrics {
         unhealthyDuration.set(duration);
         healthy.set(isLessThan(duration, healthThreshold) ? 1 : 0);
     }
+
+    /**
+     * Set the average number of tasks that a batching scheduler handled at a time since the last report.
+     *
+     * @param schedulerName    the name of the batching scheduler
+     * @param averageBatchSize the average batch size
+     */
+    public void reportAverageBatchSize(@NonNull final String schedulerName, final double averageBatchSize) {
+        averageBatchSizes
+                .computeIfAbsent(schedulerName, this::createAverageBatchSizeGauge)
+                .set(averageBatchSize);
+    }
+
+    @NonNull
+    private DoubleGauge createAverageBatchSizeGauge(@NonNull final String schedulerName) {
+        final DoubleGauge.Config config = new DoubleGauge.Config("platform", schedulerName + "_average_batch_size")
+                .withDescription("The average number of tasks handled at a time by the task scheduler " + schedulerName)
+                .withFormat("%.1f");
+        return metrics.getOrCreate(config);
+    }
 }
@@ -173,6 +173,18 @@ public interface TaskSchedulerBuilder<OUT> {
     @NonNull
     TaskSchedulerBuilder<OUT> withDataCounter(@NonNull ToLongFunction<Object> dataCounter);
 
+    /**
+     * Set the maximum number of queued tasks that are handled by a single task of a
+     * {@link TaskSchedulerType#SEQUENTIAL} task scheduler. Default 1, i.e. each piece of data is handled by its own task. If greater than 1, consecutive
+     * data for wires bound with {@code bindBatch()} is passed to the handler as a single list. Ordering and back
+     * pressure are the same as without batching.
+     *
+     * @param maxBatchSize the maximum batch size, must be at least 1
+     * @return this
+     */
+    @NonNull
+    TaskSchedulerBuilder<OUT> withMaxBatchSize(int maxBatchSize);
+
     /**
      * Build the task scheduler.
      *
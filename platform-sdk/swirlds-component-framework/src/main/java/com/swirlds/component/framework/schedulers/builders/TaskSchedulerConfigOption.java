@@ -3,7 +3,8 @@ package com.swirlds.component.framework.schedulers.builders;
 
 /**
  * Various configuration options for a task scheduler. Note that the task scheduler type uses values from
- * {@link TaskSchedulerType}, and that the unhandled task capacity is represented as an integer value.
+ * {@link TaskSchedulerType}, and that the unhandled task capacity and the maximum batch size are represented as integer
+ * values.
  */
 public enum TaskSchedulerConfigOption {
     /**
@@ -28,4 +29,11 @@ public enum TaskSchedulerConfigOption {
      * use a string in the form "CAPACITY(1234)" where 1234 is the desired capacity.
      */
     public static final String CAPACITY = "CAPACITY";
+
+    /**
+     * This is not defined as an enum constant because it is used in a special way. To specify the maximum number of
+     * queued tasks that a {@link TaskSchedulerType#SEQUENTIAL} scheduler drains at a time, use a string in the form
+     * "BATCH(64)" where 64 is the desired maximum batch size.
+     */
+    public static final String BATCH = "BATCH";
 }
@@ -20,6 +20,8 @@ import edu.umd.cs.findbugs.annotations.Nullable;
  * @param busyFractionMetricEnabled  whether the busy fraction metric should be enabled, if null then false is used
  * @param flushingEnabled            whether flushing is enabled, if null then false is used
  * @param squelchingEnabled          whether squelching is enabled, if null then false is used
+ * @param maxBatchSize               the maximum number of queued tasks handled by a single task of a
+ *                                   {@link TaskSchedulerType#SEQUENTIAL} scheduler, if null then 1 is used
  */
 public record TaskSchedulerConfiguration(
         @Nullable TaskSchedulerType type,
@@ -27,28 +29,29 @@ public record TaskSchedulerConfiguration(
         @Nullable Boolean unhandledTaskMetricEnabled,
         @Nullable Boolean busyFractionMetricEnabled,
         @Nullable Boolean flushingEnabled,
-        @Nullable Boolean squelchingEnabled) {
+        @Nullable Boolean squelchingEnabled,
+        @Nullable Integer maxBatchSize) {
 
     /**
      * This configuration is for a no-op task scheduler. It is not necessary to use this constant for a no-op task
      * scheduler, but it is provided for convenience.
      */
     public static final TaskSchedulerConfiguration NO_OP_CONFIGURATION =
-            new TaskSchedulerConfiguration(TaskSchedulerType.NO_OP, 0L, false, false, false, false);
+            new TaskSchedulerConfiguration(TaskSchedulerType.NO_OP, 0L, false, false, false, false, null);
 
     /**
      * This configuration is for a simple direct task scheduler. It is not necessary to use this constant for a direct
      * task scheduler, but it is provided for convenience.
      */
     public static final TaskSchedulerConfiguration DIRECT_CONFIGURATION =
-            new TaskSchedulerConfiguration(TaskSchedulerType.DIRECT, 0L, false, false, false, false);
+            new TaskSchedulerConfiguration(TaskSchedulerType.DIRECT, 0L, false, false, false, false, null);
 
     /**
      * This configuration is for a thread-safe direct task scheduler. It is not necessary to use this constant for a
      * thread-safe direct task scheduler, but it is provided for convenience.
      */
     public static final TaskSchedulerConfiguration DIRECT_THREADSAFE_CONFIGURATION =
-            new TaskSchedulerConfiguration(TaskSchedulerType.DIRECT_THREADSAFE, 0L, false, false, false, false);
+            new TaskSchedulerConfiguration(TaskSchedulerType.DIRECT_THREADSAFE, 0L, false, false, false, false, null);
 
     /**
      * Parse a string representation of a task scheduler configuration.
@@ -63,12 +66,16 @@ public record TaskSchedulerConfiguration(
      *         Zero or one string of the form "CAPACITY(1234)", specifies the maximum number of unhandled tasks.
      *     </li>
      *     <li>
+     *         Zero or one string of the form "BATCH(64)", specifies the maximum number of queued tasks that are
+     *         drained at a time.
+     *     </li>
+     *     <li>
      *         Zero or more values from the {@link TaskSchedulerConfigOption} enum, specifies the configuration options.
      *         Sets a boolean configuration option to true if the value is present, and false if the value is prefixed
      *         with a "!". If not present then the default is used.
      *     </li>
      * </ul>
-     * Example: "SEQUENTIAL CAPACITY(500) !FLUSHABLE UNHANDLED_TASK_METRIC"
+     * Example: "SEQUENTIAL CAPACITY(500) BATCH(64) !FLUSHABLE UNHANDLED_TASK_METRIC"
      * <p>
      * Note that default values are not specified within this class. Default values are the responsibility of the
      * {@link TaskSchedulerBuilder} class.
@@ -84,6 +91,7 @@ public record TaskSchedulerConfiguration(
         Boolean busyFractionMetricEnabled = null;
         Boolean flushingEnabled = null;
         Boolean squelchingEnabled = null;
+        Integer maxBatchSize = null;
 
         final String[] parts = string.split(" ");
         for (final String part : parts) {
@@ -110,6 +118,15 @@ public record TaskSchedulerConfiguration(
                 continue;
             }
 
+            final Integer parsedBatchSize = tryToParseBatchSize(strippedPart);
+            if (parsedBatchSize != null) {
+                if (maxBatchSize != null) {
+                    throw new IllegalArgumentException("Multiple batch sizes specified: " + string);
+                }
+                maxBatchSize = parsedBatchSize;
+                continue;
+            }
+
             final Boolean parsedUnhandledTaskMetric = tryToParseOption(UNHANDLED_TASK_METRIC, strippedPart);
             if (parsedUnhandledTaskMetric != null) {
                 if (unhandledTaskMetricEnabled != null) {
@@ -157,7 +174,8 @@ public record TaskSchedulerConfiguration(
                 unhandledTaskMetricEnabled,
                 busyFractionMetricEnabled,
                 flushingEnabled,
-                squelchingEnabled);
+                squelchingEnabled,
+                maxBatchSize);
     }
 
     /**
@@ -201,6 +219,32 @@ public record TaskSchedulerConfiguration(
         return null;
     }
 
+    /**
+     * Try to parse a string as a maximum batch size.
+     *
+     * @param string the string to parse
+     * @return the parsed batch size, or null if the string is not a valid batch size
+     */
+    @Nullable
+    private static Integer tryToParseBatchSize(@NonNull final String string) {
+        if (string.startsWith(TaskSchedulerConfigOption.BATCH)) {
+
+            try {
+                // parse a string in the form "BATCH(64)"
+                final int openParenIndex = string.indexOf('(');
+                final int closeParenIndex = string.indexOf(')');
+                if (openParenIndex == -1 || closeParenIndex == -1) {
+                    throw new IllegalArgumentException("Invalid batch size \"" + string + "\"");
+                }
+                final String batchSizeString = string.substring(openParenIndex + 1, closeParenIndex);
+                return Integer.parseInt(batchSizeString);
+            } catch (final NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid batch size \"" + string + "\"", e);
+            }
+        }
+        return null;
+    }
+
     /**
      * Try to parse a string as a configuration option that is represented by an enum string and an optional "!".
      *
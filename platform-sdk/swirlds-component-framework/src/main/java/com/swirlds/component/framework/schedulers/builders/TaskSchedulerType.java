@@ -17,19 +17,33 @@ public enum TaskSchedulerType {
      * the implementation and performance characteristics are not identical.
      */
     SEQUENTIAL_THREAD,
+    /**
+     * Tasks are executed on a dedicated virtual thread one at a time in the order they were enqueued. There is a
+     * happens before relationship between each task. This scheduler type has the same semantics as
+     * {@link #SEQUENTIAL_THREAD}, but a task that blocks on I/O releases its carrier thread instead of parking a
+     * platform thread. Suitable for components that spend most of their time waiting on disk or network I/O.
+     */
+    SEQUENTIAL_VIRTUAL,
     /**
      * Tasks are executed on a fork join pool. Tasks may be executed in parallel with each other. Ordering is not
      * guaranteed.
      */
     CONCURRENT,
+    /**
+     * Each task is executed on its own virtual thread. Tasks may be executed in parallel with each other. Ordering is
+     * not guaranteed. This scheduler type has the same semantics as {@link #CONCURRENT}, but tasks that block on I/O
+     * do not occupy a thread of a fork join pool while they wait.
+     */
+    VIRTUAL_THREAD,
     /**
      * Tasks are executed immediately on the caller's thread. There is no queue for tasks waiting to be handled (logical
      * or otherwise). Useful for scenarios where tasks are extremely small and not worth the scheduling overhead.
      * <p>
      * Only a single logical thread of execution is permitted to send data to a direct task scheduler.
-     * {@link #SEQUENTIAL} and {@link #SEQUENTIAL_THREAD} schedulers are permitted to send data to a direct task
-     * scheduler, but it is illegal for more than one of these schedulers to send data to the same direct task
-     * scheduler. {@link #CONCURRENT} task schedulers are forbidden from sending data to a direct task scheduler. It is
+     * {@link #SEQUENTIAL}, {@link #SEQUENTIAL_THREAD} and {@link #SEQUENTIAL_VIRTUAL} schedulers are permitted to send
+     * data to a direct task scheduler, but it is illegal for more than one of these schedulers to send data to the same
+     * direct task scheduler. {@link #CONCURRENT} and {@link #VIRTUAL_THREAD} task schedulers are forbidden from sending
+     * data to a direct task scheduler. It is
      * legal for operations that are executed on the calling thread (e.g. filters, transformers, stateless/stateful
      * direct schedulers) to call into a direct scheduler as long as the calling thread is not in a concurrent scheduler
      * or originating from more than one sequential scheduler.
@@ -39,10 +53,11 @@ public enum TaskSchedulerType {
      * <li>Create a directed graph where vertices are schedulers and edges are wires between schedulers</li>
      * <li>Starting from each vertex, walk over the graph in depth first order. Follow edges that lead to
      * DIRECT or DIRECT_THREADSAFE vertices, but do not follow edges that lead into SEQUENTIAL, SEQUENTIAL_THREAD,
-     * or CONCURRENT vertices.</li>
-     * <li>If a DIRECT vertex is reachable starting from a CONCURRENT vertex, the wiring is illegal.</li>
-     * <li>For each vertex with type DIRECT, count the number of unique SEQUENTIAL or SEQUENTIAL_THREAD vertexes that
-     * it can be reached by. If that number exceeds 1, then the wiring is illegal.</li>
+     * SEQUENTIAL_VIRTUAL, CONCURRENT or VIRTUAL_THREAD vertices.</li>
+     * <li>If a DIRECT vertex is reachable starting from a CONCURRENT or VIRTUAL_THREAD vertex, the wiring is
+     * illegal.</li>
+     * <li>For each vertex with type DIRECT, count the number of unique SEQUENTIAL, SEQUENTIAL_THREAD or
+     * SEQUENTIAL_VIRTUAL vertexes that it can be reached by. If that number exceeds 1, then the wiring is illegal.</li>
      * </ul>
      *
      * <p>
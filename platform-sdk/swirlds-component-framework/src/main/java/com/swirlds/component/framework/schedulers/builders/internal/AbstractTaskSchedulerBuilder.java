@@ -51,6 +51,7 @@ public abstract class AbstractTaskSchedulerBuilder<OUT> implements TaskScheduler
     protected UncaughtExceptionHandler uncaughtExceptionHandler;
     protected String hyperlink;
     protected ToLongFunction<Object> dataCounter = data -> 1L;
+    protected int maxBatchSize = 1;
 
     protected boolean unhandledTaskMetricEnabled = false;
     protected boolean busyFractionMetricEnabled = false;
@@ -113,6 +114,9 @@ public abstract class AbstractTaskSchedulerBuilder<OUT> implements TaskScheduler
         if (configuration.squelchingEnabled() != null) {
             withSquelchingEnabled(configuration.squelchingEnabled());
         }
+        if (configuration.maxBatchSize() != null) {
+            withMaxBatchSize(configuration.maxBatchSize());
+        }
         return this;
     }
 
@@ -257,6 +261,19 @@ public abstract class AbstractTaskSchedulerBuilder<OUT> implements TaskScheduler
         return this;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @NonNull
+    public AbstractTaskSchedulerBuilder<OUT> withMaxBatchSize(final int maxBatchSize) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("Max batch size must be at least 1");
+        }
+        this.maxBatchSize = maxBatchSize;
+        return this;
+    }
+
     /**
      * Build an uncaught exception handler if one was not provided.
      *
@@ -1,8 +1,12 @@
 // SPDX-License-Identifier: Apache-2.0
 package com.swirlds.component.framework.schedulers.builders.internal;
 
+import static com.swirlds.component.framework.schedulers.builders.TaskSchedulerType.CONCURRENT;
 import static com.swirlds.component.framework.schedulers.builders.TaskSchedulerType.DIRECT_THREADSAFE;
 import static com.swirlds.component.framework.schedulers.builders.TaskSchedulerType.NO_OP;
+import static com.swirlds.component.framework.schedulers.builders.TaskSchedulerType.SEQUENTIAL_THREAD;
+import static com.swirlds.component.framework.schedulers.builders.TaskSchedulerType.SEQUENTIAL_VIRTUAL;
+import static com.swirlds.component.framework.schedulers.builders.TaskSchedulerType.VIRTUAL_THREAD;
 
 import com.swirlds.base.time.Time;
 import com.swirlds.common.metrics.FunctionGauge;
@@ -12,11 +16,13 @@ import com.swirlds.common.metrics.extensions.StandardFractionalTimer;
 import com.swirlds.component.framework.model.StandardWiringModel;
 import com.swirlds.component.framework.schedulers.TaskScheduler;
 import com.swirlds.component.framework.schedulers.builders.TaskSchedulerType;
+import com.swirlds.component.framework.schedulers.internal.BatchingSequentialTaskScheduler;
 import com.swirlds.component.framework.schedulers.internal.ConcurrentTaskScheduler;
 import com.swirlds.component.framework.schedulers.internal.DirectTaskScheduler;
 import com.swirlds.component.framework.schedulers.internal.NoOpTaskScheduler;
 import com.swirlds.component.framework.schedulers.internal.SequentialTaskScheduler;
 import com.swirlds.component.framework.schedulers.internal.SequentialThreadTaskScheduler;
+import com.swirlds.component.framework.schedulers.internal.VirtualThreadTaskScheduler;
 import com.swirlds.metrics.api.Metrics;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
@@ -34,6 +40,11 @@ public class StandardTaskSchedulerBuilder<OUT> extends AbstractTaskSchedulerBuil
 
     protected final Time time;
 
+    /**
+     * If false, then schedulers of a virtual thread type are built with the equivalent platform thread type.
+     */
+    private final boolean virtualThreadsEnabled;
+
     /**
      * Constructor.
      *
@@ -43,16 +54,22 @@ public class StandardTaskSchedulerBuilder<OUT> extends AbstractTaskSchedulerBuil
      * @param name            the name of the task scheduler. Used for metrics and debugging. Must be unique. Must only
      *                        contain alphanumeric characters and underscores.
      * @param defaultPool     the default fork join pool, if none is provided then this pool will be used
+     * @param virtualThreadsEnabled if false, then {@link TaskSchedulerType#SEQUENTIAL_VIRTUAL} and
+     *                        {@link TaskSchedulerType#VIRTUAL_THREAD} schedulers are built as
+     *                        {@link TaskSchedulerType#SEQUENTIAL_THREAD} and {@link TaskSchedulerType#CONCURRENT}
+     *                        schedulers respectively
      */
     public StandardTaskSchedulerBuilder(
             @NonNull final Time time,
             @NonNull final Metrics metrics,
             @NonNull final StandardWiringModel model,
             @NonNull final String name,
-            @NonNull final ForkJoinPool defaultPool) {
+            @NonNull final ForkJoinPool defaultPool,
+            final boolean virtualThreadsEnabled) {
 
         super(metrics, model, name, defaultPool);
         this.time = time;
+        this.virtualThreadsEnabled = virtualThreadsEnabled;
     }
 
     /**
@@ -65,7 +82,7 @@ public class StandardTaskSchedulerBuilder<OUT> extends AbstractTaskSchedulerBuil
         if (!busyFractionMetricEnabled || type == NO_OP) {
             return NoOpFractionalTimer.getInstance();
         }
-        if (type == TaskSchedulerType.CONCURRENT) {
+        if (type == CONCURRENT || type == VIRTUAL_THREAD) {
             throw new IllegalStateException("Busy fraction metric is not compatible with concurrent schedulers");
         }
         return new StandardFractionalTimer(time);
@@ -110,6 +127,16 @@ public class StandardTaskSchedulerBuilder<OUT> extends AbstractTaskSchedulerBuil
     @Override
     @NonNull
     public TaskScheduler<OUT> build() {
+        if (maxBatchSize > 1 && type != TaskSchedulerType.SEQUENTIAL && type != NO_OP) {
+            throw new IllegalStateException("Batching is only supported by sequential schedulers");
+        }
+        if (!virtualThreadsEnabled) {
+            if (type == SEQUENTIAL_VIRTUAL) {
+                type = SEQUENTIAL_THREAD;
+            } else if (type == VIRTUAL_THREAD) {
+                type = CONCURRENT;
+            }
+        }
         final Counters counters = buildCounters();
         final FractionalTimer busyFractionTimer = buildBusyTimer();
         final boolean insertionIsBlocking =
@@ -128,19 +155,43 @@ public class StandardTaskSchedulerBuilder<OUT> extends AbstractTaskSchedulerBuil
                             flushingEnabled,
                             squelchingEnabled,
                             insertionIsBlocking);
-                    case SEQUENTIAL -> new SequentialTaskScheduler<>(
+                    case VIRTUAL_THREAD -> new VirtualThreadTaskScheduler<>(
                             model,
                             name,
-                            pool,
                             buildUncaughtExceptionHandler(),
                             counters.onRamp(),
                             counters.offRamp(),
-                            busyFractionTimer,
                             unhandledTaskCapacity,
                             flushingEnabled,
                             squelchingEnabled,
                             insertionIsBlocking);
-                    case SEQUENTIAL_THREAD -> new SequentialThreadTaskScheduler<>(
+                    case SEQUENTIAL -> maxBatchSize > 1
+                            ? new BatchingSequentialTaskScheduler<>(
+                                    model,
+                                    name,
+                                    pool,
+                                    buildUncaughtExceptionHandler(),
+                                    counters.onRamp(),
+                                    counters.offRamp(),
+                                    busyFractionTimer,
+                                    unhandledTaskCapacity,
+                                    maxBatchSize,
+                                    flushingEnabled,
+                                    squelchingEnabled,
+                                    insertionIsBlocking)
+                            : new SequentialTaskScheduler<>(
+                                    model,
+                                    name,
+                                    pool,
+                                    buildUncaughtExceptionHandler(),
+                                    counters.onRamp(),
+                                    counters.offRamp(),
+                                    busyFractionTimer,
+                                    unhandledTaskCapacity,
+                                    flushingEnabled,
+                                    squelchingEnabled,
+                                    insertionIsBlocking);
+                    case SEQUENTIAL_THREAD, SEQUENTIAL_VIRTUAL -> new SequentialThreadTaskScheduler<>(
                             model,
                             name,
                             buildUncaughtExceptionHandler(),
@@ -149,6 +200,7 @@ public class StandardTaskSchedulerBuilder<OUT> extends AbstractTaskSchedulerBuil
                             dataCounter,
                             busyFractionTimer,
                             unhandledTaskCapacity,
+                            type == SEQUENTIAL_VIRTUAL,
                             flushingEnabled,
                             squelchingEnabled,
                             insertionIsBlocking);
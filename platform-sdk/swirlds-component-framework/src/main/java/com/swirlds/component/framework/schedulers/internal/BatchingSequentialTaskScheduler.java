@@ -0,0 +1,256 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.component.framework.schedulers.internal;
+
+import com.swirlds.common.metrics.extensions.FractionalTimer;
+import com.swirlds.component.framework.counters.ObjectCounter;
+import com.swirlds.component.framework.model.TraceableWiringModel;
+import com.swirlds.component.framework.schedulers.TaskScheduler;
+import com.swirlds.component.framework.schedulers.builders.TaskSchedulerType;
+import com.swirlds.component.framework.wires.input.BatchHandler;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.lang.Thread.UncaughtExceptionHandler;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * A {@link TaskScheduler} that guarantees that tasks are executed sequentially in the order they are received, like
+ * {@link SequentialTaskScheduler}. Instead of submitting one fork join task per piece of data, this scheduler queues
+ * the data and submits a single drain task that handles up to a configured number of queued items. Consecutive items
+ * for a wire bound with a {@link BatchHandler} are passed to that handler as a single list.
+ * <p>
+ * The counters are decremented once per drain task, by the number of items that were handled, so back pressure behaves
+ * exactly as for a {@link SequentialTaskScheduler}.
+ *
+ * @param <OUT> the output type of the scheduler (use {@link Void} for a task scheduler with no output type)
+ */
+public class BatchingSequentialTaskScheduler<OUT> extends TaskScheduler<OUT> {
+
+    private final Queue<SequentialThreadTask> tasks = new ConcurrentLinkedQueue<>();
+
+    /**
+     * The number of tasks that have been inserted but not yet handled. A drain task is submitted whenever this value
+     * goes from 0 to 1, and a drain task re-submits itself as long as this value is positive after it is done. This
+     * guarantees that at most one drain task is running at any time.
+     */
+    private final AtomicLong pendingTasks = new AtomicLong();
+
+    private final Runnable drainTask = this::drain;
+
+    /**
+     * The number of drain tasks and the number of items they handled since the batch sizes were last taken.
+     */
+    private final LongAdder drainCount = new LongAdder();
+
+    private final LongAdder drainedItemCount = new LongAdder();
+
+    private final ObjectCounter onRamp;
+    private final ObjectCounter offRamp;
+    private final FractionalTimer busyTimer;
+    private final ForkJoinPool pool;
+    private final long capacity;
+    private final int maxBatchSize;
+
+    /**
+     * Constructor.
+     *
+     * @param model                    the wiring model containing this scheduler
+     * @param name                     the name of the task scheduler
+     * @param pool                     the fork join pool that will execute tasks on this scheduler
+     * @param uncaughtExceptionHandler the uncaught exception handler
+     * @param onRamp                   an object counter that is incremented when data is added to the task scheduler
+     * @param offRamp                  an object counter that is decremented when data is removed from the task
+     *                                 scheduler
+     * @param busyTimer                a timer that tracks the amount of time the scheduler is busy
+     * @param capacity                 the maximum desired capacity for this task scheduler
+     * @param maxBatchSize             the maximum number of queued items handled by a single drain task
+     * @param flushEnabled             if true, then {@link #flush()} will be enabled, otherwise it will throw.
+     * @param squelchingEnabled        if true, then squelching will be enabled, otherwise trying to squelch will throw
+     * @param insertionIsBlocking      when data is inserted into this task scheduler, will it block until capacity is
+     *                                 available?
+     */
+    public BatchingSequentialTaskScheduler(
+            @NonNull final TraceableWiringModel model,
+            @NonNull final String name,
+            @NonNull final ForkJoinPool pool,
+            @NonNull final UncaughtExceptionHandler uncaughtExceptionHandler,
+            @NonNull final ObjectCounter onRamp,
+            @NonNull final ObjectCounter offRamp,
+            @NonNull final FractionalTimer busyTimer,
+            final long capacity,
+            final int maxBatchSize,
+            final boolean flushEnabled,
+            final boolean squelchingEnabled,
+            final boolean insertionIsBlocking) {
+
+        super(
+                model,
+                name,
+                TaskSchedulerType.SEQUENTIAL,
+                uncaughtExceptionHandler,
+                flushEnabled,
+                squelchingEnabled,
+                insertionIsBlocking);
+
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("Max batch size must be at least 1");
+        }
+
+        this.pool = Objects.requireNonNull(pool);
+        this.onRamp = Objects.requireNonNull(onRamp);
+        this.offRamp = Objects.requireNonNull(offRamp);
+        this.busyTimer = Objects.requireNonNull(busyTimer);
+        this.capacity = capacity;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void put(@NonNull final Consumer<Object> handler, @NonNull final Object data) {
+        onRamp.onRamp();
+        scheduleTask(handler, data);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean offer(@NonNull final Consumer<Object> handler, @NonNull final Object data) {
+        final boolean accepted = onRamp.attemptOnRamp();
+        if (accepted) {
+            scheduleTask(handler, data);
+        }
+        return accepted;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void inject(@NonNull final Consumer<Object> handler, @NonNull final Object data) {
+        onRamp.forceOnRamp();
+        scheduleTask(handler, data);
+    }
+
+    /**
+     * Queue a task to be handled. This should only be called after successfully on-ramping (one way or another).
+     *
+     * @param handler the method that will be called when this task is executed
+     * @param data    the data to be passed to the consumer for this task
+     */
+    private void scheduleTask(@NonNull final Consumer<Object> handler, @NonNull final Object data) {
+        // The task must be queued before it is counted, so that a drain task never finds fewer queued tasks
+        // than the count it was submitted for.
+        tasks.add(new SequentialThreadTask(handler, data));
+        if (pendingTasks.getAndIncrement() == 0) {
+            pool.execute(drainTask);
+        }
+    }
+
+    /**
+     * Handle up to {@code maxBatchSize} queued tasks in order, then re-submit this drain task if there is more work.
+     */
+    private void drain() {
+        int drained = 0;
+        busyTimer.activate();
+        try {
+            SequentialThreadTask task;
+            while (drained < maxBatchSize && (task = tasks.poll()) != null) {
+                drained++;
+                if (task.handler() instanceof BatchHandler batchHandler) {
+                    final List<Object> batch = new ArrayList<>();
+                    batch.add(task.data());
+                    // This is the only thread consuming the queue, so the head cannot change between peek and poll
+                    SequentialThreadTask next;
+                    while (drained < maxBatchSize
+                            && (next = tasks.peek()) != null
+                            && next.handler() == batchHandler) {
+                        tasks.poll();
+                        batch.add(next.data());
+                        drained++;
+                    }
+                    handle(() -> batchHandler.acceptBatch(batch));
+                } else {
+                    handle(task::handle);
+                }
+            }
+        } finally {
+            busyTimer.deactivate();
+            offRamp.offRamp(drained);
+            drainCount.increment();
+            drainedItemCount.add(drained);
+
+            if (pendingTasks.addAndGet(-drained) > 0) {
+                pool.execute(drainTask);
+            }
+        }
+    }
+
+    /**
+     * Run a handler, passing any exception to the uncaught exception handler so that the remaining tasks of the batch
+     * are still handled.
+     *
+     * @param handler the handler to run
+     */
+    private void handle(@NonNull final Runnable handler) {
+        try {
+            handler.run();
+        } catch (final Throwable t) {
+            getUncaughtExceptionHandler().uncaughtException(Thread.currentThread(), t);
+        }
+    }
+
+    /**
+     * Get the average number of items handled per drain task since the last time this method was called, and start a
+     * new measurement interval.
+     *
+     * @return the average batch size, or 0 if no drain task ran during the interval
+     */
+    public double takeAverageBatchSize() {
+        final long drains = drainCount.sumThenReset();
+        final long items = drainedItemCount.sumThenReset();
+        return drains == 0 ? 0.0 : (double) items / drains;
+    }
+
+    /**
+     * Get the maximum number of queued items handled by a single drain task.
+     *
+     * @return the maximum batch size
+     */
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getUnprocessedTaskCount() {
+        return onRamp.getCount();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void flush() {
+        throwIfFlushDisabled();
+        onRamp.waitUntilEmpty();
+    }
+}
@@ -20,7 +20,9 @@ import java.util.function.ToLongFunction;
 
 /**
  * A scheduler that performs work sequentially on a dedicated thread. This class has very similar semantics to
- * {@link DirectTaskScheduler}, except that work is done on a thread instead of on a fork join pool.
+ * {@link DirectTaskScheduler}, except that work is done on a thread instead of on a fork join pool. The dedicated
+ * thread is either a platform thread ({@link TaskSchedulerType#SEQUENTIAL_THREAD}) or a virtual thread
+ * ({@link TaskSchedulerType#SEQUENTIAL_VIRTUAL}).
  *
  * @param <OUT> the type of the primary output wire
  */
@@ -59,6 +61,7 @@ public class SequentialThreadTaskScheduler<OUT> extends TaskScheduler<OUT> imple
      * @param dataCounter              the function to weight input data objects for health monitoring
      * @param busyTimer                the timer to activate when a task is being handled
      * @param capacity                 the maximum desired capacity for this task scheduler
+     * @param virtualThread            if true, then work is done on a virtual thread, otherwise on a platform thread
      * @param flushEnabled             if true, then {@link #flush()} will be enabled, otherwise it will throw.
      * @param squelchingEnabled        if true, then squelching will be enabled, otherwise trying to squelch will throw
      * @param insertionIsBlocking      when data is inserted into this task scheduler, will it block until capacity is
@@ -73,13 +76,14 @@ public class SequentialThreadTaskScheduler<OUT> extends TaskScheduler<OUT> imple
             @NonNull final ToLongFunction<Object> dataCounter,
             @NonNull final FractionalTimer busyTimer,
             final long capacity,
+            final boolean virtualThread,
             final boolean flushEnabled,
             final boolean squelchingEnabled,
             final boolean insertionIsBlocking) {
         super(
                 model,
                 name,
-                TaskSchedulerType.SEQUENTIAL_THREAD,
+                virtualThread ? TaskSchedulerType.SEQUENTIAL_VIRTUAL : TaskSchedulerType.SEQUENTIAL_THREAD,
                 uncaughtExceptionHandler,
                 flushEnabled,
                 squelchingEnabled,
@@ -91,7 +95,10 @@ public class SequentialThreadTaskScheduler<OUT> extends TaskScheduler<OUT> imple
         this.busyTimer = Objects.requireNonNull(busyTimer);
         this.capacity = capacity;
 
-        thread = new Thread(this::run, THREAD_NAME_PREFIX + name + THREAD_NAME_SUFFIX);
+        final String threadName = THREAD_NAME_PREFIX + name + THREAD_NAME_SUFFIX;
+        thread = virtualThread
+                ? Thread.ofVirtual().name(threadName).unstarted(this::run)
+                : new Thread(this::run, threadName);
     }
 
     /**
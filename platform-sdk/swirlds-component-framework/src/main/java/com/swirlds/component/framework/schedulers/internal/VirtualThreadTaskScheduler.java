@@ -0,0 +1,147 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.component.framework.schedulers.internal;
+
+import static com.swirlds.component.framework.schedulers.internal.SequentialThreadTaskScheduler.THREAD_NAME_PREFIX;
+import static com.swirlds.component.framework.schedulers.internal.SequentialThreadTaskScheduler.THREAD_NAME_SUFFIX;
+
+import com.swirlds.component.framework.counters.ObjectCounter;
+import com.swirlds.component.framework.model.TraceableWiringModel;
+import com.swirlds.component.framework.schedulers.TaskScheduler;
+import com.swirlds.component.framework.schedulers.builders.TaskSchedulerType;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.lang.Thread.UncaughtExceptionHandler;
+import java.util.Objects;
+import java.util.concurrent.ThreadFactory;
+import java.util.function.Consumer;
+
+/**
+ * A {@link TaskScheduler} that executes each task on its own virtual thread. This class has the same semantics as
+ * {@link ConcurrentTaskScheduler}, except that a task blocked on I/O does not occupy a thread of a fork join pool.
+ *
+ * @param <OUT> the output type of the scheduler (use {@link Void} for a task scheduler with no output type)
+ */
+public class VirtualThreadTaskScheduler<OUT> extends TaskScheduler<OUT> {
+
+    private final ObjectCounter onRamp;
+    private final ObjectCounter offRamp;
+    private final ThreadFactory threadFactory;
+    private final long capacity;
+
+    /**
+     * Constructor.
+     *
+     * @param model                    the wiring model containing this scheduler
+     * @param name                     the name of the scheduler
+     * @param uncaughtExceptionHandler the handler for uncaught exceptions
+     * @param onRamp                   an object counter that is incremented when data is added to the scheduler
+     * @param offRamp                  an object counter that is decremented when data is removed from the scheduler
+     * @param capacity                 the maximum desired capacity for this scheduler
+     * @param flushEnabled             if true, then {@link #flush()} will be enabled, otherwise it will throw.
+     * @param squelchingEnabled        if true, then squelching will be enabled, otherwise trying to squelch will throw
+     * @param insertionIsBlocking      when data is inserted into this scheduler, will it block until capacity is
+     *                                 available?
+     */
+    public VirtualThreadTaskScheduler(
+            @NonNull final TraceableWiringModel model,
+            @NonNull final String name,
+            @NonNull final UncaughtExceptionHandler uncaughtExceptionHandler,
+            @NonNull final ObjectCounter onRamp,
+            @NonNull final ObjectCounter offRamp,
+            final long capacity,
+            final boolean flushEnabled,
+            final boolean squelchingEnabled,
+            final boolean insertionIsBlocking) {
+
+        super(
+                model,
+                name,
+                TaskSchedulerType.VIRTUAL_THREAD,
+                uncaughtExceptionHandler,
+                flushEnabled,
+                squelchingEnabled,
+                insertionIsBlocking);
+
+        this.onRamp = Objects.requireNonNull(onRamp);
+        this.offRamp = Objects.requireNonNull(offRamp);
+        this.capacity = capacity;
+        this.threadFactory = Thread.ofVirtual()
+                .name(THREAD_NAME_PREFIX + name + THREAD_NAME_SUFFIX + "#", 0)
+                .factory();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void put(@NonNull final Consumer<Object> handler, @NonNull final Object data) {
+        onRamp.onRamp();
+        startTask(handler, data);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean offer(@NonNull final Consumer<Object> handler, @NonNull final Object data) {
+        final boolean accepted = onRamp.attemptOnRamp();
+        if (accepted) {
+            startTask(handler, data);
+        }
+        return accepted;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void inject(@NonNull final Consumer<Object> handler, @NonNull final Object data) {
+        onRamp.forceOnRamp();
+        startTask(handler, data);
+    }
+
+    /**
+     * Start a virtual thread that handles the data. This should only be called after successfully on-ramping (one way
+     * or another).
+     *
+     * @param handler the method that will be called on the new thread
+     * @param data    the data to be passed to the consumer
+     */
+    private void startTask(@NonNull final Consumer<Object> handler, @NonNull final Object data) {
+        threadFactory
+                .newThread(() -> {
+                    try {
+                        handler.accept(data);
+                    } catch (final Throwable t) {
+                        getUncaughtExceptionHandler().uncaughtException(Thread.currentThread(), t);
+                    } finally {
+                        offRamp.offRamp();
+                    }
+                })
+                .start();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getUnprocessedTaskCount() {
+        return onRamp.getCount();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void flush() {
+        throwIfFlushDisabled();
+        onRamp.waitUntilEmpty();
+    }
+}
@@ -0,0 +1,32 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.component.framework.wires.input;
+
+import com.swirlds.component.framework.schedulers.builders.TaskSchedulerBuilder;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * A handler that is capable of handling several consecutive pieces of data in a single invocation. Task schedulers that
+ * drain batches (see {@link TaskSchedulerBuilder#withMaxBatchSize(int)}) pass queued data to {@link #acceptBatch(List)},
+ * all other task schedulers pass one piece of data at a time to {@link #accept(Object)}.
+ */
+public interface BatchHandler extends Consumer<Object> {
+
+    /**
+     * Handle a batch of data, in the order in which it was inserted into the task scheduler.
+     *
+     * @param batch the data to handle, never empty
+     */
+    void acceptBatch(@NonNull List<Object> batch);
+
+    /**
+     * Handle a single piece of data as a batch of size one.
+     *
+     * @param data the data to handle
+     */
+    @Override
+    default void accept(@NonNull final Object data) {
+        acceptBatch(List.of(data));
+    }
+}
@@ -2,6 +2,7 @@
 package com.swirlds.component.framework.wires.input;
 
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.List;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -30,4 +31,16 @@ public interface Bindable<IN, OUT> {
      * @throws IllegalStateException if a handler is already bound and this method is called a second time
      */
     void bind(@NonNull final Function<IN, OUT> handler);
+
+    /**
+     * Bind this object to a handler that accepts several consecutive pieces of data at a time. For things that don't
+     * send data to the output wire. If the task scheduler drains batches (see
+     * {@link com.swirlds.component.framework.schedulers.builders.TaskSchedulerBuilder#withMaxBatchSize(int)
+     * withMaxBatchSize()}), then the handler receives up to that many queued items in the order they were inserted.
+     * Otherwise, the handler receives batches of size one.
+     *
+     * @param handler the handler to bind to this input wire, must not retain the list after it returns
+     * @throws IllegalStateException if a handler is already bound and this method is called a second time
+     */
+    void bindBatch(@NonNull Consumer<List<IN>> handler);
 }
@@ -6,6 +6,7 @@ import static com.swirlds.component.framework.schedulers.builders.TaskSchedulerT
 import com.swirlds.component.framework.model.TraceableWiringModel;
 import com.swirlds.component.framework.schedulers.TaskScheduler;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.List;
 import java.util.Objects;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -100,4 +101,24 @@ public class BindableInputWire<IN, OUT> extends InputWire<IN> implements Bindabl
         });
         model.registerInputWireBinding(taskSchedulerName, getName());
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void bindBatch(@NonNull final Consumer<List<IN>> handler) {
+        Objects.requireNonNull(handler);
+        if (noOp) {
+            return;
+        }
+        setHandler((BatchHandler) batch -> {
+            if (currentlySquelching.get()) {
+                return;
+            }
+
+            handler.accept((List<IN>) (List<?>) batch);
+        });
+        model.registerInputWireBinding(taskSchedulerName, getName());
+    }
 }
@@ -24,6 +24,7 @@ class TaskSchedulerConfigurationTests {
         assertNull(config.busyFractionMetricEnabled());
         assertNull(config.flushingEnabled());
         assertNull(config.squelchingEnabled());
+        assertNull(config.maxBatchSize());
     }
 
     @Test
@@ -87,6 +88,14 @@ class TaskSchedulerConfigurationTests {
                 expectedSquelchingEnabled = null;
             }
 
+            final Integer expectedMaxBatchSize;
+            if (random.nextBoolean()) {
+                expectedMaxBatchSize = random.nextInt(1, 100);
+                configStringBuilder.append("BATCH(").append(expectedMaxBatchSize).append(") ");
+            } else {
+                expectedMaxBatchSize = null;
+            }
+
             final String configString = configStringBuilder.toString();
 
             final TaskSchedulerConfiguration config = TaskSchedulerConfiguration.parse(configString);
@@ -97,6 +106,7 @@ class TaskSchedulerConfigurationTests {
             assertEquals(expectedBusyFractionMetricEnabled, config.busyFractionMetricEnabled());
             assertEquals(expectedFlushingEnabled, config.flushingEnabled());
             assertEquals(expectedSquelchingEnabled, config.squelchingEnabled());
+            assertEquals(expectedMaxBatchSize, config.maxBatchSize());
         }
     }
 
@@ -130,6 +140,7 @@ class TaskSchedulerConfigurationTests {
         assertThrows(
                 IllegalArgumentException.class, () -> TaskSchedulerConfiguration.parse("SQUELCHABLE !SQUELCHABLE"));
         assertThrows(IllegalArgumentException.class, () -> TaskSchedulerConfiguration.parse("SQUELCHABLE SQUELCHABLE"));
+        assertThrows(IllegalArgumentException.class, () -> TaskSchedulerConfiguration.parse("BATCH(16) BATCH(32)"));
     }
 
     @Test
@@ -8,8 +8,11 @@ import static java.util.concurrent.TimeUnit.MICROSECONDS;
 import static org.hiero.base.utility.test.fixtures.RandomUtils.getRandomPrintSeed;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import com.swirlds.base.time.Time;
+import com.swirlds.common.metrics.noop.NoOpMetrics;
 import com.swirlds.component.framework.TestWiringModelBuilder;
 import com.swirlds.component.framework.model.WiringModel;
+import com.swirlds.component.framework.model.WiringModelBuilder;
 import com.swirlds.component.framework.schedulers.builders.TaskSchedulerType;
 import com.swirlds.component.framework.wires.input.BindableInputWire;
 import edu.umd.cs.findbugs.annotations.Nullable;
@@ -22,14 +25,17 @@ import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 class ConcurrentTaskSchedulerTests {
 
     /**
      * Add a bunch of operations to a wire and ensure that they are all eventually handled.
      */
-    @Test
-    void allOperationsHandledTest() {
+    @ParameterizedTest
+    @ValueSource(strings = {"CONCURRENT", "VIRTUAL_THREAD"})
+    void allOperationsHandledTest(final String typeString) {
         final WiringModel model = TestWiringModelBuilder.create();
 
         final Random random = getRandomPrintSeed();
@@ -45,7 +51,7 @@ class ConcurrentTaskSchedulerTests {
         };
 
         final TaskScheduler<Void> taskScheduler = model.<Void>schedulerBuilder("test")
-                .withType(TaskSchedulerType.CONCURRENT)
+                .withType(TaskSchedulerType.valueOf(typeString))
                 .withUnhandledTaskCapacity(UNLIMITED_CAPACITY)
                 .build();
         final BindableInputWire<Integer, Void> channel = taskScheduler.buildInputWire("channel");
@@ -68,8 +74,9 @@ class ConcurrentTaskSchedulerTests {
     /**
      * Verify that operations can be handled in parallel.
      */
-    @Test
-    void parallelOperationTest() {
+    @ParameterizedTest
+    @ValueSource(strings = {"CONCURRENT", "VIRTUAL_THREAD"})
+    void parallelOperationTest(final String typeString) {
         final WiringModel model = TestWiringModelBuilder.create();
 
         final Random random = getRandomPrintSeed();
@@ -94,7 +101,7 @@ class ConcurrentTaskSchedulerTests {
         };
 
         final TaskScheduler<Void> taskScheduler = model.<Void>schedulerBuilder("test")
-                .withType(TaskSchedulerType.CONCURRENT)
+                .withType(TaskSchedulerType.valueOf(typeString))
                 .withUnhandledTaskCapacity(UNLIMITED_CAPACITY)
                 .build();
         final BindableInputWire<Operation, Void> channel = taskScheduler.buildInputWire("channel");
@@ -136,9 +143,10 @@ class ConcurrentTaskSchedulerTests {
         assertEquals(-1, taskScheduler.getUnprocessedTaskCount());
     }
 
-    @Test
+    @ParameterizedTest
+    @ValueSource(strings = {"CONCURRENT", "VIRTUAL_THREAD"})
     @DisplayName("Test squelching")
-    void squelching() {
+    void squelching(final String typeString) {
         final WiringModel model = TestWiringModelBuilder.create();
 
         final AtomicInteger handleCount = new AtomicInteger();
@@ -147,7 +155,7 @@ class ConcurrentTaskSchedulerTests {
         };
 
         final TaskScheduler<Void> taskScheduler = model.<Void>schedulerBuilder("test")
-                .withType(TaskSchedulerType.CONCURRENT)
+                .withType(TaskSchedulerType.valueOf(typeString))
                 .withUnhandledTaskCapacity(100)
                 .withFlushingEnabled(true)
                 .withSquelchingEnabled(true)
@@ -183,4 +191,25 @@ class ConcurrentTaskSchedulerTests {
 
         model.stop();
     }
+
+    /**
+     * When virtual threads are disabled for the model, virtual thread schedulers fall back to their platform thread
+     * equivalents.
+     */
+    @Test
+    void virtualThreadsDisabledTest() {
+        final WiringModel model = WiringModelBuilder.create(new NoOpMetrics(), Time.getCurrent())
+                .withVirtualThreadsEnabled(false)
+                .build();
+
+        final TaskScheduler<Void> concurrent = model.<Void>schedulerBuilder("concurrent")
+                .withType(TaskSchedulerType.VIRTUAL_THREAD)
+                .build();
+        final TaskScheduler<Void> sequential = model.<Void>schedulerBuilder("sequential")
+                .withType(TaskSchedulerType.SEQUENTIAL_VIRTUAL)
+                .build();
+
+        assertEquals(TaskSchedulerType.CONCURRENT, concurrent.getType());
+        assertEquals(TaskSchedulerType.SEQUENTIAL_THREAD, sequential.getType());
+    }
 }
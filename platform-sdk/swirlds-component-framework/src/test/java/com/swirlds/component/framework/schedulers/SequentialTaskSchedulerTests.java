@@ -7,6 +7,7 @@ import static org.hiero.base.utility.test.fixtures.RandomUtils.getRandomPrintSee
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
@@ -20,6 +21,7 @@ import com.swirlds.component.framework.counters.ObjectCounter;
 import com.swirlds.component.framework.model.WiringModel;
 import com.swirlds.component.framework.model.WiringModelBuilder;
 import com.swirlds.component.framework.schedulers.builders.TaskSchedulerType;
+import com.swirlds.component.framework.schedulers.internal.BatchingSequentialTaskScheduler;
 import com.swirlds.component.framework.schedulers.internal.SequentialThreadTaskScheduler;
 import com.swirlds.component.framework.wires.SolderType;
 import com.swirlds.component.framework.wires.input.BindableInputWire;
@@ -30,6 +32,7 @@ import java.lang.Thread.State;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Random;
@@ -85,7 +88,7 @@ class SequentialTaskSchedulerTests {
      * Add values to the task scheduler, ensure that each value was processed in the correct order.
      */
     @ParameterizedTest
-    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD"})
+    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD", "SEQUENTIAL_VIRTUAL"})
     void orderOfOperationsTest(final String typeString) {
         this.model = TestWiringModelBuilder.create();
 
@@ -122,7 +125,7 @@ class SequentialTaskSchedulerTests {
      * sequentially regardless of the number of threads adding work.
      */
     @ParameterizedTest
-    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD"})
+    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD", "SEQUENTIAL_VIRTUAL"})
     void multipleChannelsTest(final String typeString) {
         this.model = TestWiringModelBuilder.create();
         final TaskSchedulerType type = TaskSchedulerType.valueOf(typeString);
@@ -166,7 +169,7 @@ class SequentialTaskSchedulerTests {
      * Ensure that the work happening on the task scheduler is not happening on the caller's thread.
      */
     @ParameterizedTest
-    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD"})
+    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD", "SEQUENTIAL_VIRTUAL"})
     void wireDoesNotBlockCallingThreadTest(final String typeString) {
         this.model = TestWiringModelBuilder.create();
         final TaskSchedulerType type = TaskSchedulerType.valueOf(typeString);
@@ -214,7 +217,7 @@ class SequentialTaskSchedulerTests {
      * Sanity checks on the unprocessed event count.
      */
     @ParameterizedTest
-    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD"})
+    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD", "SEQUENTIAL_VIRTUAL"})
     void unprocessedEventCountTest(final String typeString) {
         this.model = TestWiringModelBuilder.create();
         final TaskSchedulerType type = TaskSchedulerType.valueOf(typeString);
@@ -273,7 +276,7 @@ class SequentialTaskSchedulerTests {
      * Make sure backpressure works.
      */
     @ParameterizedTest
-    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD"})
+    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD", "SEQUENTIAL_VIRTUAL"})
     void backpressureTest(final String typeString) {
 
         this.model = WiringModelBuilder.create(NO_OP_METRICS, Time.getCurrent())
@@ -358,7 +361,7 @@ class SequentialTaskSchedulerTests {
      * interrupting the caller thread does not produce the caller thread to do anything.
      */
     @ParameterizedTest
-    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD"})
+    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD", "SEQUENTIAL_VIRTUAL"})
     void uninterruptableTest(final String typeString) {
 
         this.model = WiringModelBuilder.create(NO_OP_METRICS, Time.getCurrent())
@@ -433,7 +436,7 @@ class SequentialTaskSchedulerTests {
      * Offering tasks is equivalent to calling put() if there is no backpressure.
      */
     @ParameterizedTest
-    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD"})
+    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD", "SEQUENTIAL_VIRTUAL"})
     void offerNoBackpressureTest(final String typeString) {
         this.model = TestWiringModelBuilder.create();
         final TaskSchedulerType type = TaskSchedulerType.valueOf(typeString);
@@ -480,7 +483,7 @@ class SequentialTaskSchedulerTests {
      * </pre>
      */
     @ParameterizedTest
-    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD"})
+    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD", "SEQUENTIAL_VIRTUAL"})
     void circularDataFlowTest(final String typeString) {
         this.model = TestWiringModelBuilder.create();
         final TaskSchedulerType type = TaskSchedulerType.valueOf(typeString);
@@ -603,7 +606,7 @@ class SequentialTaskSchedulerTests {
      * Validate the behavior when there are multiple channels.
      */
     @ParameterizedTest
-    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD"})
+    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD", "SEQUENTIAL_VIRTUAL"})
     void multipleChannelTypesTest(final String typeString) {
         this.model = TestWiringModelBuilder.create();
         final TaskSchedulerType type = TaskSchedulerType.valueOf(typeString);
@@ -660,7 +663,7 @@ class SequentialTaskSchedulerTests {
      * Make sure backpressure works when there are multiple channels.
      */
     @ParameterizedTest
-    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD"})
+    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD", "SEQUENTIAL_VIRTUAL"})
     void multipleChannelBackpressureTest(final String typeString) {
 
         this.model = WiringModelBuilder.create(NO_OP_METRICS, Time.getCurrent())
@@ -749,7 +752,7 @@ class SequentialTaskSchedulerTests {
      * Make sure backpressure works when a single counter spans multiple wires.
      */
     @ParameterizedTest
-    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD"})
+    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD", "SEQUENTIAL_VIRTUAL"})
     void backpressureOverMultipleWiresTest(final String typeString) {
         this.model = TestWiringModelBuilder.create();
         final TaskSchedulerType type = TaskSchedulerType.valueOf(typeString);
@@ -857,7 +860,7 @@ class SequentialTaskSchedulerTests {
      * Validate the behavior of the flush() method.
      */
     @ParameterizedTest
-    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD"})
+    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD", "SEQUENTIAL_VIRTUAL"})
     void flushTest(final String typeString) {
 
         this.model = WiringModelBuilder.create(NO_OP_METRICS, Time.getCurrent())
@@ -953,7 +956,7 @@ class SequentialTaskSchedulerTests {
     }
 
     @ParameterizedTest
-    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD"})
+    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD", "SEQUENTIAL_VIRTUAL"})
     void flushDisabledTest(final String typeString) {
         this.model = TestWiringModelBuilder.create();
         final TaskSchedulerType type = TaskSchedulerType.valueOf(typeString);
@@ -971,7 +974,7 @@ class SequentialTaskSchedulerTests {
     }
 
     @ParameterizedTest
-    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD"})
+    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD", "SEQUENTIAL_VIRTUAL"})
     void exceptionHandlingTest(String typeString) {
         this.model = TestWiringModelBuilder.create();
         final TaskSchedulerType type = TaskSchedulerType.valueOf(typeString);
@@ -1029,7 +1032,7 @@ class SequentialTaskSchedulerTests {
      * than the number of blocking wires.
      */
     @ParameterizedTest
-    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD"})
+    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD", "SEQUENTIAL_VIRTUAL"})
     void deadlockTestOneThread(final String typeString) {
         this.model = TestWiringModelBuilder.create();
         final TaskSchedulerType type = TaskSchedulerType.valueOf(typeString);
@@ -1093,7 +1096,7 @@ class SequentialTaskSchedulerTests {
     }
 
     @ParameterizedTest
-    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD"})
+    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD", "SEQUENTIAL_VIRTUAL"})
     void deadlockTestThreeThreads(final String typeString) {
         this.model = TestWiringModelBuilder.create();
         final TaskSchedulerType type = TaskSchedulerType.valueOf(typeString);
@@ -1159,7 +1162,7 @@ class SequentialTaskSchedulerTests {
      * Solder together a simple sequence of wires.
      */
     @ParameterizedTest
-    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD"})
+    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD", "SEQUENTIAL_VIRTUAL"})
     void simpleSolderingTest(final String typeString) {
         this.model = TestWiringModelBuilder.create();
         final TaskSchedulerType type = TaskSchedulerType.valueOf(typeString);
@@ -1236,7 +1239,7 @@ class SequentialTaskSchedulerTests {
      * Test soldering to a lambda function.
      */
     @ParameterizedTest
-    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD"})
+    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD", "SEQUENTIAL_VIRTUAL"})
     void lambdaSolderingTest(final String typeString) {
         this.model = TestWiringModelBuilder.create();
         final TaskSchedulerType type = TaskSchedulerType.valueOf(typeString);
@@ -1318,7 +1321,7 @@ class SequentialTaskSchedulerTests {
      * Solder the output of a wire to the inputs of multiple other wires.
      */
     @ParameterizedTest
-    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD"})
+    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD", "SEQUENTIAL_VIRTUAL"})
     void multiWireSolderingTest(final String typeString) {
         this.model = TestWiringModelBuilder.create();
         final TaskSchedulerType type = TaskSchedulerType.valueOf(typeString);
@@ -1439,7 +1442,7 @@ class SequentialTaskSchedulerTests {
      * Validate that a wire soldered to another using injection ignores backpressure constraints.
      */
     @ParameterizedTest
-    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD"})
+    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD", "SEQUENTIAL_VIRTUAL"})
     void injectionSolderingTest(final String typeString) {
 
         this.model = WiringModelBuilder.create(NO_OP_METRICS, Time.getCurrent())
@@ -1555,7 +1558,7 @@ class SequentialTaskSchedulerTests {
      * When a handler returns null, the wire should not forward the null value to the next wire.
      */
     @ParameterizedTest
-    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD"})
+    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD", "SEQUENTIAL_VIRTUAL"})
     void discardNullValuesInWiresTest(final String typeString) {
         this.model = TestWiringModelBuilder.create();
         final TaskSchedulerType type = TaskSchedulerType.valueOf(typeString);
@@ -1664,7 +1667,7 @@ class SequentialTaskSchedulerTests {
      * now the metrics framework makes it complex to do so.
      */
     @ParameterizedTest
-    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD"})
+    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD", "SEQUENTIAL_VIRTUAL"})
     void metricsEnabledTest(final String typeString) {
         this.model = TestWiringModelBuilder.create();
         final TaskSchedulerType type = TaskSchedulerType.valueOf(typeString);
@@ -1750,7 +1753,7 @@ class SequentialTaskSchedulerTests {
     }
 
     @ParameterizedTest
-    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD"})
+    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD", "SEQUENTIAL_VIRTUAL"})
     void multipleOutputChannelsTest(final String typeString) {
         this.model = TestWiringModelBuilder.create();
         final TaskSchedulerType type = TaskSchedulerType.valueOf(typeString);
@@ -1824,7 +1827,7 @@ class SequentialTaskSchedulerTests {
     }
 
     @ParameterizedTest
-    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD"})
+    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD", "SEQUENTIAL_VIRTUAL"})
     void externalBackPressureTest(final String typeString) {
         this.model = TestWiringModelBuilder.create();
         final TaskSchedulerType type = TaskSchedulerType.valueOf(typeString);
@@ -1936,7 +1939,7 @@ class SequentialTaskSchedulerTests {
     }
 
     @ParameterizedTest
-    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD"})
+    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD", "SEQUENTIAL_VIRTUAL"})
     void multipleCountersInternalBackpressureTest(final String typeString) {
 
         this.model = WiringModelBuilder.create(NO_OP_METRICS, Time.getCurrent())
@@ -2049,7 +2052,7 @@ class SequentialTaskSchedulerTests {
     }
 
     @ParameterizedTest
-    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD"})
+    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD", "SEQUENTIAL_VIRTUAL"})
     void offerSolderingTest(final String typeString) {
 
         this.model = WiringModelBuilder.create(NO_OP_METRICS, Time.getCurrent())
@@ -2139,7 +2142,7 @@ class SequentialTaskSchedulerTests {
      *  This test asserts that a task scheduler being squelched does not accept new tasks.
      */
     @ParameterizedTest
-    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD"})
+    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD", "SEQUENTIAL_VIRTUAL"})
     void squelching(final String typeString) {
         this.model = TestWiringModelBuilder.create();
         final TaskSchedulerType type = TaskSchedulerType.valueOf(typeString);
@@ -2222,6 +2225,152 @@ class SequentialTaskSchedulerTests {
         model.stop();
     }
 
+    /**
+     * A batching scheduler should pass queued data to a batch handler in order, never exceeding the maximum batch size,
+     * and should keep the order of data sent through wires that are not batched.
+     */
+    @Test
+    void batchOrderOfOperationsTest() {
+        this.model = TestWiringModelBuilder.create();
+        final int maxBatchSize = 8;
+
+        final Gate gate = Gate.closedGate();
+        final List<Integer> handled = Collections.synchronizedList(new ArrayList<>());
+        final List<Integer> batchSizes = Collections.synchronizedList(new ArrayList<>());
+        final AtomicInteger blockedTasks = new AtomicInteger(1);
+
+        final TaskScheduler<Void> taskScheduler = model.<Void>schedulerBuilder("test")
+                .withType(TaskSchedulerType.SEQUENTIAL)
+                .withUnhandledTaskCapacity(UNLIMITED_CAPACITY)
+                .withMaxBatchSize(maxBatchSize)
+                .withFlushingEnabled(true)
+                .build();
+        assertInstanceOf(BatchingSequentialTaskScheduler.class, taskScheduler);
+        final BindableInputWire<Integer, Void> batchChannel = taskScheduler.buildInputWire("batchChannel");
+        batchChannel.bindBatch(batch -> {
+            if (blockedTasks.getAndDecrement() > 0) {
+                // hold the first batch so that the following data queues up
+                gate.knock(AWAIT_MAX_DURATION.toMillis());
+            }
+            batchSizes.add(batch.size());
+            handled.addAll(batch);
+        });
+        final BindableInputWire<Integer, Void> channel = taskScheduler.buildInputWire("channel");
+        channel.bindConsumer(x -> handled.add(-x));
+
+        model.start();
+        final List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < DEFAULT_OPERATIONS; i++) {
+            if (i % 25 == 24) {
+                channel.put(i);
+                expected.add(-i);
+            } else {
+                batchChannel.put(i);
+                expected.add(i);
+            }
+        }
+        gate.open();
+        taskScheduler.flush();
+
+        assertEquals(expected, handled, "Data was not handled in order");
+        assertTrue(batchSizes.stream().allMatch(size -> size > 0 && size <= maxBatchSize), "Illegal batch size");
+        assertTrue(batchSizes.stream().anyMatch(size -> size > 1), "Queued data should have been batched");
+        assertTrue(((BatchingSequentialTaskScheduler<?>) taskScheduler).takeAverageBatchSize() > 1.0);
+        assertUnprocessedTasksValueIs(taskScheduler, 0L);
+
+        model.stop();
+    }
+
+    /**
+     * Batching must not change back pressure: the capacity applies to individual pieces of data, not to batches.
+     */
+    @Test
+    void batchBackpressureTest() {
+        this.model = WiringModelBuilder.create(NO_OP_METRICS, Time.getCurrent())
+                .withHardBackpressureEnabled(true)
+                .build();
+        final int capacity = 11;
+
+        final Gate gate = Gate.closedGate();
+        final AtomicInteger wireValue = new AtomicInteger();
+        final AtomicInteger handledCount = new AtomicInteger();
+
+        final TaskScheduler<Void> taskScheduler = model.<Void>schedulerBuilder("test")
+                .withType(TaskSchedulerType.SEQUENTIAL)
+                .withUnhandledTaskCapacity(capacity)
+                .withMaxBatchSize(4)
+                .withSleepDuration(Duration.ofMillis(1))
+                .build();
+        final BindableInputWire<Integer, Void> channel = taskScheduler.buildInputWire("channel");
+        channel.bindBatch(batch -> {
+            gate.knock(AWAIT_MAX_DURATION.toMillis());
+            for (final Integer x : batch) {
+                wireValue.set(hash32(wireValue.get(), x));
+            }
+            handledCount.addAndGet(batch.size());
+        });
+
+        model.start();
+
+        int value = 0;
+        for (int i = 0; i < capacity; i++) {
+            channel.put(i);
+            value = hash32(value, i);
+        }
+        assertEquals(capacity, taskScheduler.getUnprocessedTaskCount());
+        assertFalse(channel.offer(1234), "Offer should be rejected while the scheduler is full");
+
+        final int expectedValue = value;
+        final RunnableCompletionControl producer = RunnableCompletionControl.unblocked(() -> {
+            for (int i = capacity; i < DEFAULT_OPERATIONS; i++) {
+                channel.put(i);
+            }
+        });
+        final Thread producerThread = producer.start();
+        assertEventuallyEquals(State.TIMED_WAITING, producerThread::getState, "Producer thread was not blocked");
+        assertEquals(capacity, taskScheduler.getUnprocessedTaskCount());
+
+        gate.open();
+        producer.waitIsFinished(AWAIT_MAX_DURATION);
+        assertEventuallyEquals(DEFAULT_OPERATIONS, handledCount::get, "Not all data was handled");
+        assertUnprocessedTasksValueIs(taskScheduler, 0L);
+
+        int fullValue = expectedValue;
+        for (int i = capacity; i < DEFAULT_OPERATIONS; i++) {
+            fullValue = hash32(fullValue, i);
+        }
+        assertEquals(fullValue, wireValue.get(), "Wire sum did not match expected sum");
+
+        model.stop();
+    }
+
+    /**
+     * Batching is only supported by sequential schedulers.
+     */
+    @Test
+    void batchingRequiresSequentialSchedulerTest() {
+        this.model = TestWiringModelBuilder.create();
+
+        assertThrows(IllegalArgumentException.class, () -> model.schedulerBuilder("test0").withMaxBatchSize(0));
+        assertThrows(IllegalStateException.class, () -> model.schedulerBuilder("test1")
+                .withType(TaskSchedulerType.CONCURRENT)
+                .withMaxBatchSize(2)
+                .build());
+
+        // Without batching, a batch handler receives one piece of data at a time
+        final List<List<Integer>> batches = new ArrayList<>();
+        final TaskScheduler<Void> taskScheduler = model.<Void>schedulerBuilder("test2")
+                .withType(TaskSchedulerType.DIRECT)
+                .build();
+        final BindableInputWire<Integer, Void> channel = taskScheduler.buildInputWire("channel");
+        channel.bindBatch(batches::add);
+        model.start();
+        channel.put(1);
+        channel.put(2);
+        assertEquals(List.of(List.of(1), List.of(2)), batches);
+        model.stop();
+    }
+
     @AfterEach
     void tierDown() throws InterruptedException {
         // This is a "best effort" attempt to not leave any thread alive before finishing the test.
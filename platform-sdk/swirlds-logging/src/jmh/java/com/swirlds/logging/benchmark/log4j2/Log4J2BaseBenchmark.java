@@ -4,11 +4,13 @@ package com.swirlds.logging.benchmark.log4j2;
 import static com.swirlds.logging.benchmark.config.Constants.CONSOLE_AND_FILE_TYPE;
 import static com.swirlds.logging.benchmark.config.Constants.CONSOLE_TYPE;
 import static com.swirlds.logging.benchmark.config.Constants.FILE_TYPE;
+import static com.swirlds.logging.benchmark.config.Constants.MODE_ASYNC;
 import static com.swirlds.logging.benchmark.config.Constants.MODE_NOT_ROLLING;
 import static com.swirlds.logging.benchmark.config.Constants.MODE_ROLLING;
 
 import com.swirlds.logging.benchmark.config.Constants;
 import com.swirlds.logging.benchmark.config.LoggingBenchmarkConfig;
+import com.swirlds.logging.benchmark.log4j2.async.Log4JAsyncConfig;
 import com.swirlds.logging.benchmark.log4j2.plain.Log4JConfig;
 import com.swirlds.logging.benchmark.log4j2.rolling.Log4JRollingConfig;
 import com.swirlds.logging.benchmark.util.LogFiles;
@@ -30,7 +32,7 @@ public class Log4J2BaseBenchmark {
     @Param({CONSOLE_TYPE, FILE_TYPE, CONSOLE_AND_FILE_TYPE})
     public String loggingType;
 
-    @Param({MODE_NOT_ROLLING, MODE_ROLLING})
+    @Param({MODE_NOT_ROLLING, MODE_ROLLING, MODE_ASYNC})
     public String mode;
 
     protected Logger logger;
@@ -40,7 +42,11 @@ public class Log4J2BaseBenchmark {
 
     @Setup(Level.Trial)
     public void init() {
-        config = Objects.equals(mode, MODE_NOT_ROLLING) ? new Log4JConfig() : new Log4JRollingConfig();
+        config = switch (mode) {
+            case MODE_NOT_ROLLING -> new Log4JConfig();
+            case MODE_ASYNC -> new Log4JAsyncConfig();
+            default -> new Log4JRollingConfig();
+        };
         if (Objects.equals(loggingType, FILE_TYPE)) {
             logger = config.configureFileLogging(LogFiles.provideLogFilePath(Constants.LOG4J2, FILE_TYPE, mode))
                     .getLogger(LOGGER_NAME);
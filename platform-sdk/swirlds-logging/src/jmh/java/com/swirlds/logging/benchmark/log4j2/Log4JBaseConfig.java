@@ -52,7 +52,7 @@ public abstract class Log4JBaseConfig implements LoggingBenchmarkConfig<LoggerCo
         final ConfigurationBuilder<BuiltConfiguration> builder = ConfigurationBuilderFactory.newConfigurationBuilder();
         builder.setStatusLevel(Level.DEBUG);
         builder.setConfigurationName("fileLoggingConfig");
-        builder.add(createFileAppender(builder, logFile));
+        addFileAppender(builder, logFile);
         builder.add(builder.newRootLogger(Level.DEBUG).add(builder.newAppenderRef(FILE_APPENDER_NAME)));
         return create(builder);
     }
@@ -68,7 +68,7 @@ public abstract class Log4JBaseConfig implements LoggingBenchmarkConfig<LoggerCo
         final ConfigurationBuilder<BuiltConfiguration> builder = ConfigurationBuilderFactory.newConfigurationBuilder();
         builder.setStatusLevel(Level.ERROR);
         builder.setConfigurationName("fileAndConsoleLoggingConfig");
-        builder.add(createFileAppender(builder, logFile));
+        addFileAppender(builder, logFile);
         builder.add(createConsoleAppender(builder));
         builder.add(builder.newRootLogger(Level.DEBUG)
                 .add(builder.newAppenderRef(FILE_APPENDER_NAME))
@@ -94,6 +94,17 @@ public abstract class Log4JBaseConfig implements LoggingBenchmarkConfig<LoggerCo
                 .add(layoutComponentBuilder);
     }
 
+    /**
+     * Adds the appender named {@link #FILE_APPENDER_NAME} that writes to the given file to the configuration.
+     *
+     * @param builder the configuration builder
+     * @param logFile the path of the log file
+     */
+    protected void addFileAppender(
+            final @NonNull ConfigurationBuilder<BuiltConfiguration> builder, final @NonNull String logFile) {
+        builder.add(createFileAppender(builder, logFile));
+    }
+
     @NonNull
     protected abstract AppenderComponentBuilder createFileAppender(
             final @NonNull ConfigurationBuilder<BuiltConfiguration> builder, final @NonNull String path);
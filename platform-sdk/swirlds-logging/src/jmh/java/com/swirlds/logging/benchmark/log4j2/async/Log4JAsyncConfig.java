@@ -0,0 +1,39 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.logging.benchmark.log4j2.async;
+
+import com.swirlds.logging.benchmark.log4j2.Log4JBaseConfig;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import org.apache.logging.log4j.core.config.builder.api.AppenderComponentBuilder;
+import org.apache.logging.log4j.core.config.builder.api.ConfigurationBuilder;
+import org.apache.logging.log4j.core.config.builder.api.LayoutComponentBuilder;
+import org.apache.logging.log4j.core.config.builder.impl.BuiltConfiguration;
+
+/**
+ * Convenience methods for configuring log4j logger that writes to the file with an async appender
+ */
+public class Log4JAsyncConfig extends Log4JBaseConfig {
+
+    private static final String SYNC_FILE_APPENDER_NAME = "syncFile";
+    private static final int BUFFER_SIZE = 4 * 1024;
+
+    @Override
+    protected void addFileAppender(
+            final @NonNull ConfigurationBuilder<BuiltConfiguration> builder, final @NonNull String logFile) {
+        builder.add(createFileAppender(builder, logFile));
+        builder.add(builder.newAppender(FILE_APPENDER_NAME, "Async")
+                .addAttribute("bufferSize", BUFFER_SIZE)
+                .addAttribute("blocking", true)
+                .addComponent(builder.newAppenderRef(SYNC_FILE_APPENDER_NAME)));
+    }
+
+    @NonNull
+    protected AppenderComponentBuilder createFileAppender(
+            final @NonNull ConfigurationBuilder<BuiltConfiguration> builder, final @NonNull String path) {
+        final LayoutComponentBuilder layoutBuilder =
+                builder.newLayout("PatternLayout").addAttribute("pattern", PATTERN);
+        return builder.newAppender(SYNC_FILE_APPENDER_NAME, "File")
+                .addAttribute("fileName", path)
+                .addAttribute("append", true)
+                .add(layoutBuilder);
+    }
+}
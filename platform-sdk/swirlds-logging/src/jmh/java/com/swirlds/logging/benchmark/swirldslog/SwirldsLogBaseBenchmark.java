@@ -4,6 +4,7 @@ package com.swirlds.logging.benchmark.swirldslog;
 import static com.swirlds.logging.benchmark.config.Constants.CONSOLE_AND_FILE_TYPE;
 import static com.swirlds.logging.benchmark.config.Constants.CONSOLE_TYPE;
 import static com.swirlds.logging.benchmark.config.Constants.FILE_TYPE;
+import static com.swirlds.logging.benchmark.config.Constants.MODE_ASYNC;
 import static com.swirlds.logging.benchmark.config.Constants.MODE_NOT_ROLLING;
 import static com.swirlds.logging.benchmark.config.Constants.MODE_ROLLING;
 
@@ -11,6 +12,7 @@ import com.swirlds.logging.api.Logger;
 import com.swirlds.logging.api.internal.LoggingSystem;
 import com.swirlds.logging.benchmark.config.Constants;
 import com.swirlds.logging.benchmark.config.LoggingBenchmarkConfig;
+import com.swirlds.logging.benchmark.swirldslog.async.AsyncSwirldsLogConfig;
 import com.swirlds.logging.benchmark.swirldslog.plain.SwirldsLogConfig;
 import com.swirlds.logging.benchmark.swirldslog.rolling.RollingSwirldsLogConfig;
 import com.swirlds.logging.benchmark.util.LogFiles;
@@ -28,7 +30,7 @@ public class SwirldsLogBaseBenchmark {
     @Param({CONSOLE_TYPE, FILE_TYPE, CONSOLE_AND_FILE_TYPE})
     public String loggingType;
 
-    @Param({MODE_NOT_ROLLING, MODE_ROLLING})
+    @Param({MODE_NOT_ROLLING, MODE_ROLLING, MODE_ASYNC})
     public String mode;
 
     private static final String LOGGER_NAME = Constants.SWIRLDS + "Benchmark";
@@ -39,7 +41,11 @@ public class SwirldsLogBaseBenchmark {
 
     @Setup(Level.Trial)
     public void init() {
-        config = Objects.equals(mode, MODE_NOT_ROLLING) ? new SwirldsLogConfig() : new RollingSwirldsLogConfig();
+        config = switch (mode) {
+            case MODE_NOT_ROLLING -> new SwirldsLogConfig();
+            case MODE_ASYNC -> new AsyncSwirldsLogConfig();
+            default -> new RollingSwirldsLogConfig();
+        };
 
         if (Objects.equals(loggingType, FILE_TYPE)) {
             loggingSystem = config.configureFileLogging(LogFiles.provideLogFilePath(Constants.LOG4J2, FILE_TYPE, mode));
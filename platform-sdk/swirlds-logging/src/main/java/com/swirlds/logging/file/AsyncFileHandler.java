@@ -0,0 +1,447 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.logging.file;
+
+import com.swirlds.config.api.Configuration;
+import com.swirlds.logging.api.Level;
+import com.swirlds.logging.api.extensions.event.LogEvent;
+import com.swirlds.logging.api.extensions.event.LogMessage;
+import com.swirlds.logging.api.extensions.handler.AbstractLogHandler;
+import com.swirlds.logging.api.internal.event.MutableLogEvent;
+import com.swirlds.logging.api.internal.format.FormattedLinePrinter;
+import com.swirlds.logging.io.OutputStreamFactory;
+import com.swirlds.logging.utils.ConfigUtils;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A {@link com.swirlds.logging.api.extensions.handler.LogHandler} that writes log events to a file like the
+ * {@link FileHandler}, but formats and writes them on a single background thread.
+ * <p>
+ * Log events are copied into a preallocated ring of reusable {@link MutableLogEvent} instances, so that the logging
+ * threads only pay for resolving the message and copying the event. The writer thread drains all queued events at
+ * once, formats each of them into a reusable {@link StringBuilder} and encodes it as UTF-8 directly into a reusable
+ * {@link ByteBuffer} that is written to the file whenever it is full and after each batch. In the steady state no
+ * objects are created per log event besides the resolved message.
+ * <p>
+ * If the ring is full the {@link OverflowPolicy} decides whether the logging thread waits for the writer thread or
+ * whether the event is dropped. Dropped events are counted per level and a warning with the number of dropped events
+ * is written to the file.
+ * <p>
+ * In addition to the properties supported by the {@link FileHandler} the handler can be configured with the following
+ * properties:
+ * <ul>
+ *     <li>{@code async.bufferSize} - The number of log events that can be queued for the writer thread.</li>
+ *     <li>{@code async.overflowPolicy} - The {@link OverflowPolicy} that is used when the queue is full.</li>
+ * </ul>
+ */
+public class AsyncFileHandler extends AbstractLogHandler {
+
+    /**
+     * Defines what happens to a log event that is handled while the queue of the writer thread is full.
+     */
+    public enum OverflowPolicy {
+        /**
+         * The logging thread waits until the writer thread has made room for the event.
+         */
+        BLOCK,
+        /**
+         * {@link Level#DEBUG} and {@link Level#TRACE} events are dropped, for all other events the logging thread
+         * waits until the writer thread has made room for the event.
+         */
+        DROP_DEBUG,
+        /**
+         * All events are dropped.
+         */
+        DROP_ALL
+    }
+
+    private static final String BUFFER_SIZE_PROPERTY = ".async.bufferSize";
+    private static final String OVERFLOW_POLICY_PROPERTY = ".async.overflowPolicy";
+    private static final int DEFAULT_BUFFER_SIZE = 4 * 1024;
+    private static final int EVENT_LOG_PRINTER_SIZE = 4 * 1024;
+    private static final int WRITE_BUFFER_CAPACITY = 8192 * 8;
+    private static final int MAX_UTF8_BYTES_PER_CHAR = 4;
+    private static final String WRITER_THREAD_NAME_PREFIX = "swirlds-logging-writer-";
+    private static final String DROPPED_EVENTS_LOGGER_NAME = AsyncFileHandler.class.getName();
+
+    private final OutputStream outputStream;
+    private final FormattedLinePrinter format;
+    private final OverflowPolicy overflowPolicy;
+
+    /**
+     * The ring of events that are queued for the writer thread.
+     */
+    private final MutableLogEvent[] events;
+
+    /**
+     * The resolved messages of the queued events, index by index.
+     */
+    private final ResolvedLogMessage[] messages;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+    private final Condition written = lock.newCondition();
+
+    /**
+     * The sequence number of the next event that is written by the writer thread. Guarded by {@link #lock}.
+     */
+    private long readSequence;
+
+    /**
+     * The sequence number of the next event that is queued. Guarded by {@link #lock}.
+     */
+    private long writeSequence;
+
+    /**
+     * Whether the handler accepts new events. Guarded by {@link #lock}.
+     */
+    private boolean running = true;
+
+    private final LongAdder[] droppedEvents;
+    private final AtomicLong unreportedDroppedEvents = new AtomicLong();
+
+    // the following fields are only used by the writer thread
+    private final StringBuilder lineBuilder = new StringBuilder(EVENT_LOG_PRINTER_SIZE);
+    private final ByteBuffer writeBuffer = ByteBuffer.allocate(WRITE_BUFFER_CAPACITY);
+    private final MutableLogEvent droppedEventsEvent = new MutableLogEvent();
+    private final ResolvedLogMessage droppedEventsMessage = new ResolvedLogMessage();
+
+    private final Thread writerThread;
+
+    /**
+     * Creates a new asynchronous file handler and starts its writer thread.
+     *
+     * @param handlerName   the unique handler name
+     * @param configuration the configuration
+     * @throws IOException if the file can not be created
+     */
+    public AsyncFileHandler(@NonNull final String handlerName, @NonNull final Configuration configuration)
+            throws IOException {
+        super(handlerName, configuration);
+
+        final String propertyPrefix = PROPERTY_HANDLER.formatted(handlerName);
+        final int bufferSize = ConfigUtils.configValueOrElse(
+                configuration, propertyPrefix + BUFFER_SIZE_PROPERTY, Integer.class, DEFAULT_BUFFER_SIZE);
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("The async buffer size of handler " + handlerName
+                    + " must be positive but is " + bufferSize);
+        }
+        this.overflowPolicy = ConfigUtils.configValueOrElse(
+                configuration, propertyPrefix + OVERFLOW_POLICY_PROPERTY, OverflowPolicy.class, OverflowPolicy.BLOCK);
+
+        this.events = new MutableLogEvent[bufferSize];
+        this.messages = new ResolvedLogMessage[bufferSize];
+        for (int i = 0; i < bufferSize; i++) {
+            events[i] = new MutableLogEvent();
+            messages[i] = new ResolvedLogMessage();
+        }
+        this.droppedEvents = new LongAdder[Level.values().length];
+        for (int i = 0; i < droppedEvents.length; i++) {
+            droppedEvents[i] = new LongAdder();
+        }
+
+        this.format = FormattedLinePrinter.createForHandler(handlerName, configuration);
+        try {
+            this.outputStream = OutputStreamFactory.getInstance().outputStream(configuration, handlerName);
+        } catch (IOException e) {
+            throw new IOException("Could not create AsyncFileHandler", e);
+        }
+
+        this.writerThread = new Thread(this::writeEvents, WRITER_THREAD_NAME_PREFIX + handlerName);
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    /**
+     * Queues a log event for the writer thread. The message of the event is resolved on the calling thread, so that
+     * mutable message parameters can safely be changed once this method returns.
+     *
+     * @param event The log event to be printed.
+     */
+    @Override
+    public void handle(@NonNull final LogEvent event) {
+        Objects.requireNonNull(event, "event must not be null");
+        final Level level = event.level();
+        final LogMessage message = event.message();
+        final String resolvedMessage = message != null ? message.getMessage() : null;
+
+        lock.lock();
+        try {
+            while (running && writeSequence - readSequence == events.length) {
+                if (isDropped(level)) {
+                    droppedEvents[level.ordinal()].increment();
+                    unreportedDroppedEvents.incrementAndGet();
+                    return;
+                }
+                notFull.awaitUninterruptibly();
+            }
+            if (running) {
+                final int index = (int) (writeSequence % events.length);
+                final ResolvedLogMessage slotMessage = messages[index];
+                slotMessage.set(resolvedMessage);
+                events[index].update(
+                        level,
+                        event.loggerName(),
+                        event.threadName(),
+                        event.timestamp(),
+                        resolvedMessage != null ? slotMessage : null,
+                        event.throwable(),
+                        event.marker(),
+                        event.context());
+                if (writeSequence++ == readSequence) {
+                    notEmpty.signal();
+                }
+                return;
+            }
+        } finally {
+            lock.unlock();
+        }
+        // FORWARDING the event to the emergency logger since the handler has been stopped
+        EMERGENCY_LOGGER.log(event);
+    }
+
+    /**
+     * Waits until all events that have been queued before this call have been written and flushes the file.
+     */
+    @Override
+    public void flush() {
+        lock.lock();
+        try {
+            final long target = writeSequence;
+            while (readSequence < target && writerThread.isAlive()) {
+                written.awaitUninterruptibly();
+            }
+        } finally {
+            lock.unlock();
+        }
+        try {
+            outputStream.flush();
+        } catch (IOException e) {
+            EMERGENCY_LOGGER.log(Level.WARN, "Failed to flush to file output stream " + this.getName(), e);
+        }
+    }
+
+    /**
+     * Stops the handler, writes all queued events and closes the file. Events that are handled afterward are forwarded
+     * to the emergency logger.
+     */
+    @Override
+    public void stopAndFinalize() {
+        super.stopAndFinalize();
+        lock.lock();
+        try {
+            running = false;
+            notEmpty.signalAll();
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        try {
+            writerThread.join();
+        } catch (final InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            EMERGENCY_LOGGER.log(Level.ERROR, "Interrupted while waiting for the writer thread of " + getName());
+        }
+        try {
+            outputStream.close();
+        } catch (final Exception exception) {
+            EMERGENCY_LOGGER.log(Level.ERROR, "Failed to close file output stream", exception);
+        }
+    }
+
+    /**
+     * Returns the number of events that have been dropped because the queue of the writer thread was full.
+     *
+     * @return the number of dropped events
+     */
+    public long getDroppedEventCount() {
+        long count = 0;
+        for (final LongAdder dropped : droppedEvents) {
+            count += dropped.sum();
+        }
+        return count;
+    }
+
+    /**
+     * Returns the number of events of the given level that have been dropped because the queue of the writer thread
+     * was full.
+     *
+     * @param level the level
+     * @return the number of dropped events of the level
+     */
+    public long getDroppedEventCount(@NonNull final Level level) {
+        Objects.requireNonNull(level, "level must not be null");
+        return droppedEvents[level.ordinal()].sum();
+    }
+
+    /**
+     * Returns true if an event of the given level is dropped instead of waiting for room in the queue.
+     *
+     * @param level the level of the event
+     * @return true if the event is dropped
+     */
+    private boolean isDropped(@NonNull final Level level) {
+        return switch (overflowPolicy) {
+            case BLOCK -> false;
+            case DROP_DEBUG -> level == Level.DEBUG || level == Level.TRACE;
+            case DROP_ALL -> true;
+        };
+    }
+
+    /**
+     * The loop of the writer thread. Writes batches of queued events until the handler is stopped and the queue is
+     * empty.
+     */
+    private void writeEvents() {
+        while (true) {
+            final long from;
+            final long to;
+            lock.lock();
+            try {
+                while (running && readSequence == writeSequence) {
+                    notEmpty.awaitUninterruptibly();
+                }
+                if (readSequence == writeSequence) {
+                    written.signalAll();
+                    return;
+                }
+                from = readSequence;
+                to = writeSequence;
+            } finally {
+                lock.unlock();
+            }
+
+            for (long sequence = from; sequence < to; sequence++) {
+                writeEvent(events[(int) (sequence % events.length)]);
+            }
+            writeDroppedEventsWarning();
+            writeBufferToFile();
+
+            lock.lock();
+            try {
+                readSequence = to;
+                notFull.signalAll();
+                written.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Formats the given event and encodes it into the write buffer.
+     *
+     * @param event the event
+     */
+    private void writeEvent(@NonNull final LogEvent event) {
+        try {
+            lineBuilder.setLength(0);
+            format.print(lineBuilder, event);
+            encode(lineBuilder);
+        } catch (final Exception exception) {
+            EMERGENCY_LOGGER.log(Level.ERROR, "Failed to write to file output stream", exception);
+            // FORWARDING the event to the emergency logger
+            EMERGENCY_LOGGER.log(event);
+        }
+    }
+
+    /**
+     * Writes a warning with the number of events that have been dropped since the last warning, if any.
+     */
+    private void writeDroppedEventsWarning() {
+        final long dropped = unreportedDroppedEvents.getAndSet(0);
+        if (dropped > 0) {
+            droppedEventsMessage.set(dropped + " log events have been dropped since the log buffer was full");
+            droppedEventsEvent.update(
+                    Level.WARN,
+                    DROPPED_EVENTS_LOGGER_NAME,
+                    writerThread.getName(),
+                    System.currentTimeMillis(),
+                    droppedEventsMessage,
+                    null,
+                    null,
+                    Map.of());
+            writeEvent(droppedEventsEvent);
+        }
+    }
+
+    /**
+     * Encodes the given characters as UTF-8 into the write buffer. The buffer is written to the file whenever it can
+     * not hold the next character. Unpaired surrogates are replaced by {@code '?'} like {@link String#getBytes} does.
+     *
+     * @param chars the characters to encode
+     */
+    private void encode(@NonNull final CharSequence chars) {
+        final int length = chars.length();
+        for (int i = 0; i < length; i++) {
+            if (writeBuffer.remaining() < MAX_UTF8_BYTES_PER_CHAR) {
+                writeBufferToFile();
+            }
+            final char c = chars.charAt(i);
+            if (c < 0x80) {
+                writeBuffer.put((byte) c);
+            } else if (c < 0x800) {
+                writeBuffer.put((byte) (0xC0 | (c >> 6)));
+                writeBuffer.put((byte) (0x80 | (c & 0x3F)));
+            } else if (!Character.isSurrogate(c)) {
+                writeBuffer.put((byte) (0xE0 | (c >> 12)));
+                writeBuffer.put((byte) (0x80 | ((c >> 6) & 0x3F)));
+                writeBuffer.put((byte) (0x80 | (c & 0x3F)));
+            } else if (Character.isHighSurrogate(c)
+                    && i + 1 < length
+                    && Character.isLowSurrogate(chars.charAt(i + 1))) {
+                final int codePoint = Character.toCodePoint(c, chars.charAt(++i));
+                writeBuffer.put((byte) (0xF0 | (codePoint >> 18)));
+                writeBuffer.put((byte) (0x80 | ((codePoint >> 12) & 0x3F)));
+                writeBuffer.put((byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+                writeBuffer.put((byte) (0x80 | (codePoint & 0x3F)));
+            } else {
+                writeBuffer.put((byte) '?');
+            }
+        }
+    }
+
+    /**
+     * Writes the content of the write buffer to the file and clears the buffer.
+     */
+    private void writeBufferToFile() {
+        if (writeBuffer.position() == 0) {
+            return;
+        }
+        try {
+            outputStream.write(writeBuffer.array(), 0, writeBuffer.position());
+        } catch (final IOException exception) {
+            EMERGENCY_LOGGER.log(Level.ERROR, "Failed to write to file output stream", exception);
+        } finally {
+            writeBuffer.clear();
+        }
+    }
+
+    /**
+     * A reusable {@link LogMessage} that holds an already resolved message.
+     */
+    private static final class ResolvedLogMessage implements LogMessage {
+
+        private String message = "";
+
+        private void set(@Nullable final String message) {
+            this.message = message;
+        }
+
+        @NonNull
+        @Override
+        public String getMessage() {
+            return message;
+        }
+    }
+}
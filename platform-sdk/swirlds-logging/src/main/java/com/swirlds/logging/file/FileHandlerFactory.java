@@ -5,6 +5,7 @@ import com.google.auto.service.AutoService;
 import com.swirlds.config.api.Configuration;
 import com.swirlds.logging.api.extensions.handler.LogHandler;
 import com.swirlds.logging.api.extensions.handler.LogHandlerFactory;
+import com.swirlds.logging.utils.ConfigUtils;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.io.IOException;
 import java.util.ServiceLoader;
@@ -13,10 +14,12 @@ import java.util.ServiceLoader;
  * A factory for creating new {@link FileHandler} instances.
  * <p>
  * This is a {@link LogHandlerFactory} and is discovered by the {@link ServiceLoader} at runtime. The factory creates
- * new {@link FileHandler} instances with the specified {@link Configuration}.
+ * new {@link FileHandler} instances with the specified {@link Configuration}. If the {@code logging.handler.NAME.async}
+ * property is set to true, an {@link AsyncFileHandler} is created instead.
  *
  * @see LogHandlerFactory
  * @see FileHandler
+ * @see AsyncFileHandler
  * @see ServiceLoader
  * @see Configuration
  */
@@ -28,19 +31,26 @@ public class FileHandlerFactory implements LogHandlerFactory {
      */
     public static final String FILE_HANDLER_TYPE = "file";
 
+    private static final String ASYNC_PROPERTY = ".async";
+
     /**
-     * Creates a new {@link FileHandler} instance with the specified {@link Configuration}.
+     * Creates a new {@link FileHandler} or {@link AsyncFileHandler} instance with the specified {@link Configuration}.
      *
      * @param handlerName   The name of the handler instance.
      * @param configuration The configuration for the new handler instance.
-     * @return A new {@link FileHandler} instance.
+     * @return A new {@link FileHandler} or {@link AsyncFileHandler} instance.
      * @throws NullPointerException if the provided {@code configuration} is {@code null}.
      * @throws RuntimeException     if there was an error trying to create the {@link FileHandler}.
      */
     @NonNull
     @Override
     public LogHandler create(@NonNull final String handlerName, @NonNull final Configuration configuration) {
+        final String asyncProperty = LogHandler.PROPERTY_HANDLER.formatted(handlerName) + ASYNC_PROPERTY;
+        final boolean async = ConfigUtils.configValueOrElse(configuration, asyncProperty, Boolean.class, false);
         try {
+            if (async) {
+                return new AsyncFileHandler(handlerName, configuration);
+            }
             return new FileHandler(handlerName, configuration, true);
         } catch (IOException e) {
             throw new RuntimeException("Unable to create FileHandler", e);
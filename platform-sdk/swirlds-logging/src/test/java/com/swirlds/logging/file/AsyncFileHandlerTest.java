@@ -0,0 +1,127 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.logging.file;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.swirlds.config.api.Configuration;
+import com.swirlds.config.extensions.test.fixtures.TestConfigBuilder;
+import com.swirlds.logging.api.Level;
+import com.swirlds.logging.api.extensions.event.LogEventFactory;
+import com.swirlds.logging.api.extensions.handler.LogHandler;
+import com.swirlds.logging.api.internal.event.SimpleLogEventFactory;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.CleanupMode;
+import org.junit.jupiter.api.io.TempDir;
+
+class AsyncFileHandlerTest {
+
+    private static final String HANDLER_NAME = "asyncFile";
+    private static final int EVENT_COUNT = 10_000;
+
+    private final LogEventFactory eventFactory = new SimpleLogEventFactory();
+
+    @TempDir(cleanup = CleanupMode.ALWAYS)
+    private Path testFolder;
+
+    @Test
+    void testFactoryCreatesAsyncHandler() {
+        // given
+        final Configuration configuration = createConfiguration("BLOCK", 16);
+
+        // when
+        final LogHandler handler = new FileHandlerFactory().create(HANDLER_NAME, configuration);
+
+        // then
+        assertInstanceOf(AsyncFileHandler.class, handler);
+        handler.stopAndFinalize();
+    }
+
+    @Test
+    void testAllEventsAreWrittenWithBlockingPolicy() throws IOException {
+        // given
+        final AsyncFileHandler handler = new AsyncFileHandler(HANDLER_NAME, createConfiguration("BLOCK", 16));
+
+        // when
+        for (int i = 0; i < EVENT_COUNT; i++) {
+            handler.handle(eventFactory.createLogEvent(Level.DEBUG, "test-logger", "message-" + i + " ä€😀"));
+        }
+        handler.flush();
+
+        // then
+        final List<String> lines = readLines();
+        assertEquals(EVENT_COUNT, lines.size());
+        for (int i = 0; i < EVENT_COUNT; i++) {
+            assertTrue(lines.get(i).contains("message-" + i + " ä€😀"), lines.get(i));
+        }
+        assertEquals(0, handler.getDroppedEventCount());
+        handler.stopAndFinalize();
+    }
+
+    @Test
+    void testEventsAreDroppedWithDropAllPolicy() throws IOException {
+        // given
+        final AsyncFileHandler handler = new AsyncFileHandler(HANDLER_NAME, createConfiguration("DROP_ALL", 1));
+
+        // when
+        for (int i = 0; i < EVENT_COUNT; i++) {
+            handler.handle(eventFactory.createLogEvent(Level.INFO, "test-logger", "message-" + i));
+        }
+        handler.stopAndFinalize();
+
+        // then
+        final long writtenEvents =
+                readLines().stream().filter(line -> line.contains("message-")).count();
+        assertEquals(EVENT_COUNT, writtenEvents + handler.getDroppedEventCount());
+        assertEquals(handler.getDroppedEventCount(), handler.getDroppedEventCount(Level.INFO));
+    }
+
+    @Test
+    void testOnlyDebugEventsAreDroppedWithDropDebugPolicy() throws IOException {
+        // given
+        final AsyncFileHandler handler = new AsyncFileHandler(HANDLER_NAME, createConfiguration("DROP_DEBUG", 1));
+
+        // when
+        for (int i = 0; i < EVENT_COUNT; i++) {
+            final Level level = i % 2 == 0 ? Level.INFO : Level.TRACE;
+            handler.handle(eventFactory.createLogEvent(level, "test-logger", level + "-message-" + i));
+        }
+        handler.stopAndFinalize();
+
+        // then
+        final List<String> lines = readLines();
+        assertEquals(
+                EVENT_COUNT / 2,
+                lines.stream().filter(line -> line.contains("INFO-message-")).count());
+        assertEquals(0, handler.getDroppedEventCount(Level.INFO));
+        assertEquals(
+                EVENT_COUNT / 2,
+                lines.stream().filter(line -> line.contains("TRACE-message-")).count()
+                        + handler.getDroppedEventCount(Level.TRACE));
+    }
+
+    private Configuration createConfiguration(final String overflowPolicy, final int bufferSize) {
+        return new TestConfigBuilder()
+                .withValue("logging.handler." + HANDLER_NAME + ".enabled", "true")
+                .withValue("logging.handler." + HANDLER_NAME + ".file", logFile().toString())
+                .withValue("logging.handler." + HANDLER_NAME + ".append", "false")
+                .withValue("logging.handler." + HANDLER_NAME + ".async", "true")
+                .withValue("logging.handler." + HANDLER_NAME + ".async.bufferSize", String.valueOf(bufferSize))
+                .withValue("logging.handler." + HANDLER_NAME + ".async.overflowPolicy", overflowPolicy)
+                .getOrCreateConfig();
+    }
+
+    private List<String> readLines() throws IOException {
+        return Files.readAllLines(logFile(), StandardCharsets.UTF_8);
+    }
+
+    private Path logFile() {
+        return testFolder.resolve("async.log");
+    }
+}
@@ -0,0 +1,172 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.metrics.api;
+
+import static com.swirlds.metrics.api.Metric.ValueType.MAX;
+import static com.swirlds.metrics.api.Metric.ValueType.VALUE;
+
+import com.swirlds.base.utility.ToStringBuilder;
+import com.swirlds.metrics.api.snapshot.HistogramSnapshot;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.EnumSet;
+import java.util.Objects;
+
+/**
+ * A {@code Histogram} counts the distribution of recorded values, e.g. latencies, in buckets.
+ * <p>
+ * Unlike a running average, a {@code Histogram} can answer for percentiles. Its main value is the 99th percentile
+ * of the values recorded since the last snapshot was taken; its {@link ValueType#MAX MAX} is the largest of these
+ * values. Both are upper bounds of the bucket they fall in (see {@link HistogramSnapshot}).
+ * <p>
+ * Recording a value is lock-free and can be done by many threads concurrently.
+ */
+public interface Histogram extends Metric {
+
+    /**
+     * The percentile that is reported as the main value of a {@code Histogram}.
+     */
+    double MAIN_PERCENTILE = 0.99;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @NonNull
+    default MetricType getMetricType() {
+        return MetricType.HISTOGRAM;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @NonNull
+    default DataType getDataType() {
+        return DataType.INT;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @NonNull
+    default EnumSet<ValueType> getValueTypes() {
+        return EnumSet.of(VALUE, MAX);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @NonNull
+    default Long get(@NonNull final ValueType valueType) {
+        Objects.requireNonNull(valueType, "valueType must not be null");
+        return switch (valueType) {
+            case VALUE -> getIntervalSnapshot().percentile(MAIN_PERCENTILE);
+            case MAX -> getIntervalSnapshot().percentile(1.0);
+            default -> throw new IllegalArgumentException("Unsupported ValueType: " + valueType);
+        };
+    }
+
+    /**
+     * Records a value.
+     *
+     * @param value the value, negative values are recorded as {@code 0}
+     */
+    void update(final long value);
+
+    /**
+     * Returns the bucket counts of all values recorded since this {@code Histogram} was created or reset.
+     *
+     * @return the bucket counts
+     */
+    @NonNull
+    HistogramSnapshot getSnapshot();
+
+    /**
+     * Returns the bucket counts of the values recorded since the last snapshot was taken.
+     *
+     * @return the bucket counts
+     */
+    @NonNull
+    HistogramSnapshot getIntervalSnapshot();
+
+    /**
+     * Configuration of a {@link Histogram}.
+     */
+    final class Config extends MetricConfig<Histogram, Histogram.Config> {
+
+        /**
+         * Constructor of {@code Histogram.Config}
+         *
+         * @param category the kind of metric (metrics are grouped or filtered by this)
+         * @param name     a short name for the metric
+         * @throws NullPointerException     if one of the parameters is {@code null}
+         * @throws IllegalArgumentException if one of the parameters consists only of whitespaces
+         */
+        public Config(@NonNull final String category, @NonNull final String name) {
+            super(category, name, "%d");
+        }
+
+        /**
+         * Constructor of {@code Histogram.Config}
+         *
+         * @param category    the kind of metric (metrics are grouped or filtered by this)
+         * @param name        a short name for the metric
+         * @param description metric description
+         * @param unit        metric unit
+         * @throws NullPointerException     if one of the parameters is {@code null}
+         * @throws IllegalArgumentException if one of the parameters consists only of whitespaces
+         */
+        private Config(
+                @NonNull final String category,
+                @NonNull final String name,
+                @NonNull final String description,
+                @NonNull final String unit) {
+            super(category, name, description, unit, "%d");
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @NonNull
+        @Override
+        public Histogram.Config withDescription(@NonNull final String description) {
+            return new Histogram.Config(getCategory(), getName(), description, getUnit());
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @NonNull
+        @Override
+        public Histogram.Config withUnit(@NonNull final String unit) {
+            return new Histogram.Config(getCategory(), getName(), getDescription(), unit);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @NonNull
+        @Override
+        public Class<Histogram> getResultClass() {
+            return Histogram.class;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        @NonNull
+        public Histogram create(@NonNull final MetricsFactory factory) {
+            return factory.createHistogram(this);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this).appendSuper(super.toString()).toString();
+        }
+    }
+}
@@ -0,0 +1,201 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.metrics.api.snapshot;
+
+import com.swirlds.base.utility.ToStringBuilder;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * The bucket counts of a {@link com.swirlds.metrics.api.Histogram} at some point in time.
+ * <p>
+ * Values are counted in log-linear buckets: the values {@code 0} to {@code 3} have a bucket each, and every larger
+ * power-of-two range is split into {@value #SUB_BUCKETS} buckets of equal width. A bucket therefore covers at most
+ * a quarter of its lower bound, which bounds the relative error of a percentile read from the buckets by 25%,
+ * no matter the magnitude of the values.
+ */
+public final class HistogramSnapshot {
+
+    /**
+     * The number of buckets each power-of-two range is split into.
+     */
+    public static final int SUB_BUCKETS = 4;
+
+    private static final int SUB_BUCKET_BITS = 2;
+
+    /**
+     * The number of buckets needed to cover all non-negative {@code long} values.
+     */
+    public static final int NUM_BUCKETS = bucketIndexOf(Long.MAX_VALUE) + 1;
+
+    /**
+     * A snapshot without any values.
+     */
+    public static final HistogramSnapshot EMPTY = new HistogramSnapshot(new long[NUM_BUCKETS], 0L);
+
+    private final long[] counts;
+    private final long count;
+    private final long sum;
+
+    /**
+     * Constructor of {@code HistogramSnapshot}
+     *
+     * @param counts the number of values in each bucket, the array is not copied
+     * @param sum    the sum of all values
+     * @throws NullPointerException     if {@code counts} is {@code null}
+     * @throws IllegalArgumentException if {@code counts} does not have {@link #NUM_BUCKETS} entries
+     */
+    public HistogramSnapshot(@NonNull final long[] counts, final long sum) {
+        Objects.requireNonNull(counts, "counts must not be null");
+        if (counts.length != NUM_BUCKETS) {
+            throw new IllegalArgumentException("Expected " + NUM_BUCKETS + " buckets, got " + counts.length);
+        }
+        this.counts = counts;
+        this.count = Arrays.stream(counts).sum();
+        this.sum = sum;
+    }
+
+    /**
+     * Returns the index of the bucket the given value is counted in.
+     *
+     * @param value the value, negative values are counted as {@code 0}
+     * @return the index of the bucket
+     */
+    public static int bucketIndexOf(final long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) Math.max(0L, value);
+        }
+        final int exponent = 63 - Long.numberOfLeadingZeros(value);
+        final int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return SUB_BUCKETS + (exponent - SUB_BUCKET_BITS) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * Returns the largest value that is counted in the given bucket.
+     *
+     * @param index the index of the bucket
+     * @return the inclusive upper bound of the bucket
+     * @throws IndexOutOfBoundsException if {@code index} is not a valid bucket index
+     */
+    public static long upperBoundOf(final int index) {
+        Objects.checkIndex(index, NUM_BUCKETS);
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        final int shift = (index - SUB_BUCKETS) / SUB_BUCKETS;
+        final long lowerBound = (long) (SUB_BUCKETS + (index - SUB_BUCKETS) % SUB_BUCKETS) << shift;
+        return lowerBound + (1L << shift) - 1L;
+    }
+
+    /**
+     * Returns the number of values in the given bucket.
+     *
+     * @param index the index of the bucket
+     * @return the number of values
+     */
+    public long countOf(final int index) {
+        return counts[index];
+    }
+
+    /**
+     * Returns the number of values in all buckets.
+     *
+     * @return the number of values
+     */
+    public long count() {
+        return count;
+    }
+
+    /**
+     * Returns the sum of all values.
+     *
+     * @return the sum of all values
+     */
+    public long sum() {
+        return sum;
+    }
+
+    /**
+     * Returns the index of the highest bucket that contains a value.
+     *
+     * @return the index of the highest non-empty bucket, or {@code -1} if the snapshot is empty
+     */
+    public int highestNonEmptyBucket() {
+        for (int i = NUM_BUCKETS - 1; i >= 0; i--) {
+            if (counts[i] != 0L) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the lowest bucket that contains a value.
+     *
+     * @return the index of the lowest non-empty bucket, or {@link #NUM_BUCKETS} if the snapshot is empty
+     */
+    public int lowestNonEmptyBucket() {
+        for (int i = 0; i < NUM_BUCKETS; i++) {
+            if (counts[i] != 0L) {
+                return i;
+            }
+        }
+        return NUM_BUCKETS;
+    }
+
+    /**
+     * Returns an upper bound of the given percentile of the values, i.e. the upper bound of the bucket that contains
+     * the value at that percentile.
+     *
+     * @param percentile the percentile, between {@code 0.0} and {@code 1.0}
+     * @return the upper bound of the percentile, or {@code 0} if the snapshot is empty
+     * @throws IllegalArgumentException if {@code percentile} is not between {@code 0.0} and {@code 1.0}
+     */
+    public long percentile(final double percentile) {
+        if (!(percentile >= 0.0 && percentile <= 1.0)) {
+            throw new IllegalArgumentException("Percentile must be between 0.0 and 1.0, was " + percentile);
+        }
+        if (count == 0L) {
+            return 0L;
+        }
+        final long rank = Math.max(1L, (long) Math.ceil(percentile * count));
+        long seen = 0L;
+        for (int i = 0; i < NUM_BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return upperBoundOf(i);
+            }
+        }
+        return upperBoundOf(highestNonEmptyBucket());
+    }
+
+    /**
+     * Returns a snapshot of the values that were recorded after the given, earlier snapshot of the same histogram.
+     *
+     * @param earlier the earlier snapshot
+     * @return the difference between this and the earlier snapshot
+     * @throws NullPointerException if {@code earlier} is {@code null}
+     */
+    @NonNull
+    public HistogramSnapshot minus(@NonNull final HistogramSnapshot earlier) {
+        Objects.requireNonNull(earlier, "earlier must not be null");
+        final long[] difference = new long[NUM_BUCKETS];
+        for (int i = 0; i < NUM_BUCKETS; i++) {
+            difference[i] = Math.max(0L, counts[i] - earlier.counts[i]);
+        }
+        return new HistogramSnapshot(difference, sum - earlier.sum);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .append("count", count)
+                .append("sum", sum)
+                .append("p50", percentile(0.5))
+                .append("p99", percentile(0.99))
+                .toString();
+    }
+}
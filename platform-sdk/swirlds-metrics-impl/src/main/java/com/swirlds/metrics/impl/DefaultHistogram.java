@@ -0,0 +1,103 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.metrics.impl;
+
+import static com.swirlds.metrics.api.Metric.ValueType.MAX;
+import static com.swirlds.metrics.api.Metric.ValueType.VALUE;
+import static com.swirlds.metrics.api.snapshot.HistogramSnapshot.NUM_BUCKETS;
+
+import com.swirlds.base.utility.ToStringBuilder;
+import com.swirlds.metrics.api.Histogram;
+import com.swirlds.metrics.api.snapshot.HistogramSnapshot;
+import com.swirlds.metrics.api.snapshot.Snapshot.SnapshotEntry;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Platform-implementation of {@link Histogram}
+ * <p>
+ * Each bucket is a {@link LongAdder}, which stripes its count over several cells as soon as threads contend for it,
+ * so recording a value never blocks. The buckets are never reset when a snapshot is taken; instead the snapshot of the
+ * previous interval is kept and subtracted, so the cumulative counts remain available (e.g. for Prometheus).
+ */
+public class DefaultHistogram extends AbstractMetric implements Histogram {
+
+    private final LongAdder[] buckets = new LongAdder[NUM_BUCKETS];
+    private final LongAdder sum = new LongAdder();
+    private volatile HistogramSnapshot lastSnapshot = HistogramSnapshot.EMPTY;
+
+    public DefaultHistogram(@NonNull final Config config) {
+        super(config);
+        for (int i = 0; i < NUM_BUCKETS; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void update(final long value) {
+        buckets[HistogramSnapshot.bucketIndexOf(value)].increment();
+        sum.add(Math.max(0L, value));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @NonNull
+    @Override
+    public HistogramSnapshot getSnapshot() {
+        final long[] counts = new long[NUM_BUCKETS];
+        for (int i = 0; i < NUM_BUCKETS; i++) {
+            counts[i] = buckets[i].sum();
+        }
+        return new HistogramSnapshot(counts, sum.sum());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @NonNull
+    @Override
+    public HistogramSnapshot getIntervalSnapshot() {
+        return getSnapshot().minus(lastSnapshot);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @NonNull
+    @Override
+    public List<SnapshotEntry> takeSnapshot() {
+        final HistogramSnapshot snapshot = getSnapshot();
+        final HistogramSnapshot interval = snapshot.minus(lastSnapshot);
+        lastSnapshot = snapshot;
+        return List.of(
+                new SnapshotEntry(VALUE, interval.percentile(MAIN_PERCENTILE)),
+                new SnapshotEntry(MAX, interval.percentile(1.0)));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void reset() {
+        for (final LongAdder bucket : buckets) {
+            bucket.reset();
+        }
+        sum.reset();
+        lastSnapshot = HistogramSnapshot.EMPTY;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .appendSuper(super.toString())
+                .append("value", getIntervalSnapshot())
+                .toString();
+    }
+}
@@ -0,0 +1,138 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.metrics.impl.test;
+
+import static com.swirlds.metrics.api.Metric.ValueType.MAX;
+import static com.swirlds.metrics.api.Metric.ValueType.MIN;
+import static com.swirlds.metrics.api.Metric.ValueType.VALUE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.swirlds.metrics.api.Histogram;
+import com.swirlds.metrics.api.MetricType;
+import com.swirlds.metrics.api.snapshot.HistogramSnapshot;
+import com.swirlds.metrics.api.snapshot.Snapshot.SnapshotEntry;
+import com.swirlds.metrics.impl.DefaultHistogram;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class DefaultHistogramTest {
+
+    private static final String CATEGORY = "CaTeGoRy";
+    private static final String NAME = "NaMe";
+    private static final String DESCRIPTION = "DeScRiPtIoN";
+    private static final String UNIT = "UnIt";
+
+    @Test
+    @DisplayName("Constructor should store values")
+    void testConstructor() {
+        final Histogram.Config config =
+                new Histogram.Config(CATEGORY, NAME).withDescription(DESCRIPTION).withUnit(UNIT);
+        final Histogram histogram = new DefaultHistogram(config);
+
+        assertEquals(CATEGORY, histogram.getCategory(), "The category was not set correctly in the constructor");
+        assertEquals(NAME, histogram.getName(), "The name was not set correctly in the constructor");
+        assertEquals(DESCRIPTION, histogram.getDescription(), "The description was not set correctly");
+        assertEquals(UNIT, histogram.getUnit(), "The unit was not set correctly in the constructor");
+        assertEquals("%d", histogram.getFormat(), "The format was not set correctly in constructor");
+        assertEquals(MetricType.HISTOGRAM, histogram.getMetricType(), "The metric type is wrong");
+        assertEquals(0L, histogram.get(VALUE), "The value was not initialized correctly");
+        assertEquals(0L, histogram.getSnapshot().count(), "The histogram should be empty");
+        assertThat(histogram.getValueTypes()).containsExactly(VALUE, MAX);
+        assertThrows(IllegalArgumentException.class, () -> histogram.get(MIN));
+    }
+
+    @Test
+    @DisplayName("Buckets should cover all values with bounded relative error")
+    void testBuckets() {
+        assertEquals(0, HistogramSnapshot.bucketIndexOf(-5L), "Negative values belong to the first bucket");
+        for (long value = 0L; value < 100_000L; value++) {
+            final int index = HistogramSnapshot.bucketIndexOf(value);
+            final long upperBound = HistogramSnapshot.upperBoundOf(index);
+            assertThat(upperBound).isGreaterThanOrEqualTo(value);
+            assertThat(upperBound - value).isLessThanOrEqualTo(value / 4);
+            if (index > 0) {
+                assertThat(HistogramSnapshot.upperBoundOf(index - 1)).isLessThan(value);
+            }
+        }
+        assertEquals(
+                Long.MAX_VALUE,
+                HistogramSnapshot.upperBoundOf(HistogramSnapshot.bucketIndexOf(Long.MAX_VALUE)),
+                "The last bucket must end with Long.MAX_VALUE");
+        assertEquals(HistogramSnapshot.NUM_BUCKETS - 1, HistogramSnapshot.bucketIndexOf(Long.MAX_VALUE));
+    }
+
+    @Test
+    @DisplayName("Snapshot should report the percentiles of the last interval and reset them")
+    void testSnapshot() {
+        // given
+        final DefaultHistogram histogram = new DefaultHistogram(new Histogram.Config(CATEGORY, NAME));
+        IntStream.rangeClosed(1, 100).forEach(histogram::update);
+
+        // when
+        final List<SnapshotEntry> snapshot = histogram.takeSnapshot();
+
+        // then
+        assertThat(snapshot).containsExactly(new SnapshotEntry(VALUE, 111L), new SnapshotEntry(MAX, 111L));
+        assertEquals(0L, histogram.get(VALUE), "The interval should be reset by the snapshot");
+        assertEquals(100L, histogram.getSnapshot().count(), "The cumulative counts must not be reset");
+        assertEquals(5050L, histogram.getSnapshot().sum(), "The cumulative sum must not be reset");
+
+        // when
+        histogram.update(7L);
+
+        // then
+        assertThat(histogram.takeSnapshot())
+                .containsExactly(new SnapshotEntry(VALUE, 7L), new SnapshotEntry(MAX, 7L));
+        assertEquals(101L, histogram.getSnapshot().count(), "All values should be counted");
+    }
+
+    @Test
+    @DisplayName("Reset should remove all values")
+    void testReset() {
+        // given
+        final DefaultHistogram histogram = new DefaultHistogram(new Histogram.Config(CATEGORY, NAME));
+        histogram.update(1_000L);
+        histogram.takeSnapshot();
+
+        // when
+        histogram.reset();
+        histogram.update(2L);
+
+        // then
+        assertEquals(1L, histogram.getSnapshot().count(), "Only the value after reset should be counted");
+        assertEquals(2L, histogram.get(MAX), "Only the value after reset should be counted");
+    }
+
+    @Test
+    @DisplayName("Values recorded concurrently should all be counted")
+    void testConcurrentUpdates() throws Exception {
+        // given
+        final DefaultHistogram histogram = new DefaultHistogram(new Histogram.Config(CATEGORY, NAME));
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            // when
+            final List<Future<?>> futures = IntStream.range(0, 4)
+                    .<Future<?>>mapToObj(thread -> executor.submit(() -> {
+                        for (int i = 0; i < 10_000; i++) {
+                            histogram.update(i);
+                        }
+                    }))
+                    .toList();
+            for (final Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // then
+        assertEquals(40_000L, histogram.getSnapshot().count(), "All values should be counted");
+        assertEquals(4L * 49_995_000L, histogram.getSnapshot().sum(), "All values should be summed");
+    }
+}
@@ -4,6 +4,7 @@ package com.swirlds.platform.core.jmh;
 import com.swirlds.common.context.PlatformContext;
 import com.swirlds.common.test.fixtures.WeightGenerators;
 import com.swirlds.common.test.fixtures.platform.TestPlatformContextBuilder;
+import com.swirlds.config.extensions.test.fixtures.TestConfigBuilder;
 import com.swirlds.platform.Consensus;
 import com.swirlds.platform.ConsensusImpl;
 import com.swirlds.platform.internal.EventImpl;
@@ -31,7 +32,7 @@ import org.openjdk.jmh.infra.Blackhole;
 @Warmup(iterations = 1, time = 1)
 @Measurement(iterations = 3, time = 10)
 public class ConsensusBenchmark {
-    @Param({"39"})
+    @Param({"39", "64"})
     public int numNodes;
 
     @Param({"100000"})
@@ -40,13 +41,20 @@ public class ConsensusBenchmark {
     @Param({"0"})
     public long seed;
 
+    /** compares the default consensus representation with the dense per-member arrays */
+    @Param({"false", "true"})
+    public boolean denseMemberArrays;
+
     private List<EventImpl> events;
     private Consensus consensus;
 
     @Setup(Level.Iteration)
     public void setup() {
-        final PlatformContext platformContext =
-                TestPlatformContextBuilder.create().build();
+        final PlatformContext platformContext = TestPlatformContextBuilder.create()
+                .withConfiguration(new TestConfigBuilder()
+                        .withValue("consensus.denseMemberArrays", denseMemberArrays)
+                        .getOrCreateConfig())
+                .build();
         final StandardEventEmitter emitter = EventEmitterBuilder.newBuilder()
                 .setRandomSeed(seed)
                 .setNumNodes(numNodes)
@@ -35,6 +35,7 @@ import edu.umd.cs.findbugs.annotations.Nullable;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.LinkedList;
@@ -147,6 +148,12 @@ public class ConsensusImpl implements Consensus {
 
     private static final Logger logger = LogManager.getLogger(ConsensusImpl.class);
 
+    /**
+     * Node IDs are mapped to roster indices with a plain array when the largest node ID is less than this many times
+     * the roster size, otherwise the indices map is used.
+     */
+    private static final int MAX_DENSE_NODE_ID_FACTOR = 16;
+
     /** Consensus configuration */
     private final ConsensusConfig config;
     /** wall clock time */
@@ -157,6 +164,26 @@ public class ConsensusImpl implements Consensus {
     private final long rosterTotalWeight;
     /** roster indices map. */
     private final Map<Long, Integer> rosterIndicesMap;
+    /** the number of members in the roster */
+    private final int numMembers;
+    /**
+     * if true, use the primitive per-member arrays below instead of looking up the roster and the indices map, see
+     * {@link ConsensusConfig#denseMemberArrays()}
+     */
+    private final boolean denseMemberArrays;
+    /** the weight of each member, indexed by roster index */
+    private final long[] memberWeights;
+    /** the roster index of each node ID, or -1 if the node is not in the roster. null if node IDs are too sparse */
+    private final int[] nodeIdToIndex;
+    /**
+     * scratch rows holding lastSee(x, m) for every m, while calculating stronglySeeP(x). calculating the memo for one
+     * event can recurse into an ancestor, so there is one row per recursion depth
+     */
+    private final List<EventImpl[]> lastSeeRows = new ArrayList<>();
+    /** the number of rows of {@link #lastSeeRows} currently in use */
+    private int lastSeeRowsInUse = 0;
+    /** scratch buffer holding the witnesses strongly seen by a voting witness in the previous round */
+    private final EventImpl[] stronglySeenBuffer;
     /** metrics related to consensus */
     private final ConsensusMetrics consensusMetrics;
     /** used for searching the hashgraph */
@@ -222,6 +249,24 @@ public class ConsensusImpl implements Consensus {
         this.roster = roster;
         this.rosterTotalWeight = RosterUtils.computeTotalWeight(roster);
         this.rosterIndicesMap = RosterUtils.toIndicesMap(roster);
+        this.numMembers = roster.rosterEntries().size();
+        this.denseMemberArrays = config.denseMemberArrays();
+        this.memberWeights = new long[numMembers];
+        long maxNodeId = -1;
+        for (int i = 0; i < numMembers; i++) {
+            memberWeights[i] = roster.rosterEntries().get(i).weight();
+            maxNodeId = Math.max(maxNodeId, roster.rosterEntries().get(i).nodeId());
+        }
+        if (maxNodeId < MAX_DENSE_NODE_ID_FACTOR * (long) numMembers) {
+            this.nodeIdToIndex = new int[(int) maxNodeId + 1];
+            Arrays.fill(nodeIdToIndex, -1);
+            for (int i = 0; i < numMembers; i++) {
+                nodeIdToIndex[(int) roster.rosterEntries().get(i).nodeId()] = i;
+            }
+        } else {
+            this.nodeIdToIndex = null;
+        }
+        this.stronglySeenBuffer = new EventImpl[numMembers];
 
         this.rounds = new ConsensusRounds(config, roster);
 
@@ -530,12 +575,15 @@ public class ConsensusImpl implements Consensus {
 
         // if diff > 1, we are counting the votes of the witnesses in the previous round. Vote with
         // the majority of witnesses strongly seen.
-        final List<EventImpl> stronglySeen = getStronglySeenInPreviousRound(votingWitness);
+        final List<EventImpl> stronglySeen = denseMemberArrays ? null : getStronglySeenInPreviousRound(votingWitness);
+        final int numStronglySeen = denseMemberArrays ? fillStronglySeenInPreviousRound(votingWitness) : 0;
 
         for (final Iterator<CandidateWitness> it = roundElections.undecidedWitnesses(); it.hasNext(); ) {
             final CandidateWitness candidateWitness = it.next();
 
-            final CountingVote countingVote = getCountingVote(candidateWitness, stronglySeen);
+            final CountingVote countingVote = denseMemberArrays
+                    ? getCountingVote(candidateWitness, stronglySeenBuffer, numStronglySeen)
+                    : getCountingVote(candidateWitness, stronglySeen);
 
             if (isCoinRound(diff)) {
                 // a coin round. Don't decide.
@@ -611,6 +659,38 @@ public class ConsensusImpl implements Consensus {
         return CountingVote.get(countingVote, superMajority);
     }
 
+    /**
+     * The same as {@link #getCountingVote(CandidateWitness, List)}, but reading the strongly seen witnesses from an
+     * array filled by {@link #fillStronglySeenInPreviousRound(EventImpl)}, and weights from {@link #memberWeights}.
+     *
+     * @param candidateWitness the witness being voted on
+     * @param stronglySeen the witnesses VR-1 that the voting witness can strongly see
+     * @param numStronglySeen the number of valid entries in stronglySeen
+     * @return the outcome of the vote
+     */
+    @NonNull
+    private CountingVote getCountingVote(
+            @NonNull final CandidateWitness candidateWitness,
+            @NonNull final EventImpl[] stronglySeen,
+            final int numStronglySeen) {
+        long yesWeight = 0;
+        long noWeight = 0;
+        for (int i = 0; i < numStronglySeen; i++) {
+            final EventImpl w = stronglySeen[i];
+            final long weight = getWeight(w.getCreatorId());
+            if (w.getVote(candidateWitness)) {
+                yesWeight += weight;
+            } else {
+                noWeight += weight;
+            }
+        }
+        final boolean superMajority = Threshold.SUPER_MAJORITY.isSatisfiedBy(yesWeight, rosterTotalWeight)
+                || Threshold.SUPER_MAJORITY.isSatisfiedBy(noWeight, rosterTotalWeight);
+        final boolean countingVote = yesWeight >= noWeight;
+
+        return CountingVote.get(countingVote, superMajority);
+    }
+
     /**
      * Should this be a coin voting round
      *
@@ -696,6 +776,24 @@ public class ConsensusImpl implements Consensus {
         return stronglySeen;
     }
 
+    /**
+     * The same as {@link #getStronglySeenInPreviousRound(EventImpl)}, but writes the witnesses into
+     * {@link #stronglySeenBuffer} instead of allocating a new list for every voting witness.
+     *
+     * @param event the event to find who it sees
+     * @return the number of witnesses written to the buffer
+     */
+    private int fillStronglySeenInPreviousRound(@NonNull final EventImpl event) {
+        int count = 0;
+        for (int m = 0; m < numMembers; m++) {
+            final EventImpl s = stronglySeeS1(event, m);
+            if (s != null) {
+                stronglySeenBuffer[count++] = s;
+            }
+        }
+        return count;
+    }
+
     /**
      * This round has been decided, this means that the fame of all known witnesses in that round
      * has been decided, and so any new witnesses discovered in the future will be guaranteed to not
@@ -1067,6 +1165,10 @@ public class ConsensusImpl implements Consensus {
         final long prop = parentRound(op); // parent round of other parent of x
 
         x.initStronglySeeP(numMembers);
+        if (denseMemberArrays) {
+            calculateStronglySeeP(x, sp, op, prx, prsp, prop);
+            return x.getStronglySeeP((int) m);
+        }
         for (int mm = 0; mm < numMembers; mm++) {
             if (stronglySeeP(sp, mm) != null && prx == prsp) {
                 x.setStronglySeeP(mm, stronglySeeP(sp, mm));
@@ -1097,6 +1199,96 @@ public class ConsensusImpl implements Consensus {
         return x.getStronglySeeP((int) m);
     }
 
+    /**
+     * Fill in the stronglySeeP memo of x for every member. This is the same calculation as the one in
+     * {@link #stronglySeeP(EventImpl, long)}, but the lastSee values of x are read once into a row of
+     * {@link #lastSeeRows} instead of being looked up for every pair of members, and weights are read from
+     * {@link #memberWeights}.
+     *
+     * @param x    the event being queried, its stronglySeeP memo must already be initialized
+     * @param sp   the self parent of x
+     * @param op   the other parent of x
+     * @param prx  the parent round of x
+     * @param prsp the parent round of the self parent of x
+     * @param prop the parent round of the other parent of x
+     */
+    private void calculateStronglySeeP(
+            @NonNull final EventImpl x,
+            @Nullable final EventImpl sp,
+            @Nullable final EventImpl op,
+            final long prx,
+            final long prsp,
+            final long prop) {
+        EventImpl[] row = null;
+        try {
+            for (int mm = 0; mm < numMembers; mm++) {
+                if (stronglySeeP(sp, mm) != null && prx == prsp) {
+                    x.setStronglySeeP(mm, stronglySeeP(sp, mm));
+                } else if (stronglySeeP(op, mm) != null && prx == prop) {
+                    x.setStronglySeeP(mm, stronglySeeP(op, mm));
+                } else {
+                    if (row == null) {
+                        row = acquireLastSeeRow();
+                        for (int m2 = 0; m2 < numMembers; m2++) {
+                            row[m2] = lastSee(x, m2);
+                        }
+                    }
+                    // the canonical witness by mm that is seen by x thru someone else
+                    final EventImpl st = seeThruRow(x, row, mm, mm);
+                    if (round(st) != prx) { // ignore if the canonical is in the wrong round, or doesn't exist
+                        x.setStronglySeeP(mm, null);
+                    } else {
+                        long weight = 0;
+                        for (int m3 = 0; m3 < numMembers; m3++) {
+                            // only count intermediates that see the canonical witness
+                            if (seeThruRow(x, row, mm, m3) == st) {
+                                weight += memberWeights[m3];
+                            }
+                        }
+                        x.setStronglySeeP(
+                                mm, Threshold.SUPER_MAJORITY.isSatisfiedBy(weight, rosterTotalWeight) ? st : null);
+                    }
+                }
+            }
+        } finally {
+            if (row != null) {
+                releaseLastSeeRow(row);
+            }
+        }
+    }
+
+    /**
+     * The same as {@link #seeThru(EventImpl, int, int)} for a relevant, non-null x, reading lastSee(x, m2) from a row
+     * filled in by {@link #calculateStronglySeeP(EventImpl, EventImpl, EventImpl, long, long, long)}.
+     */
+    private @Nullable EventImpl seeThruRow(
+            @NonNull final EventImpl x, @NonNull final EventImpl[] lastSeeRow, final int m, final int m2) {
+        if (m == m2 && creatorIndexEquals(x, m2)) {
+            return firstSelfWitnessS(selfParent(x));
+        }
+        return firstSee(lastSeeRow[m2], m);
+    }
+
+    /**
+     * @return an unused scratch row for lastSee values, which must be returned with {@link #releaseLastSeeRow}
+     */
+    private @NonNull EventImpl[] acquireLastSeeRow() {
+        if (lastSeeRowsInUse == lastSeeRows.size()) {
+            lastSeeRows.add(new EventImpl[numMembers]);
+        }
+        return lastSeeRows.get(lastSeeRowsInUse++);
+    }
+
+    /**
+     * Return the most recently acquired scratch row, dropping the references it holds.
+     *
+     * @param row the row to release
+     */
+    private void releaseLastSeeRow(@NonNull final EventImpl[] row) {
+        Arrays.fill(row, null);
+        lastSeeRowsInUse--;
+    }
+
     /**
      * The round-created for event x (first round is 1), or 0 if x is null (function from
      * SWIRLDS-TR-2020-01). It also stores the round number with x.setRoundCreated(). This result is
@@ -1178,10 +1370,21 @@ public class ConsensusImpl implements Consensus {
         // sum of stake involved
         long weight = 0;
         int numStronglySeen = 0;
-        for (int m = 0; m < numMembers; m++) {
-            if (timedStronglySeeP(x, m) != null) {
-                weight += getWeight(m);
-                numStronglySeen++;
+        if (denseMemberArrays && numMembers > 0) {
+            // the first call memoizes the answer for every member, the rest are plain array reads
+            timedStronglySeeP(x, 0);
+            for (int m = 0; m < numMembers; m++) {
+                if (x.getStronglySeeP(m) != null) {
+                    weight += memberWeights[m];
+                    numStronglySeen++;
+                }
+            }
+        } else {
+            for (int m = 0; m < numMembers; m++) {
+                if (timedStronglySeeP(x, m) != null) {
+                    weight += getWeight(m);
+                    numStronglySeen++;
+                }
             }
         }
         consensusMetrics.witnessesStronglySeen(numStronglySeen);
@@ -1284,6 +1487,10 @@ public class ConsensusImpl implements Consensus {
      * @return the weight of the node, or 0 if the node is not in the address book
      */
     private long getWeight(@NonNull final NodeId nodeId) {
+        if (denseMemberArrays) {
+            final int index = memberIndex(nodeId.id());
+            return index < 0 ? 0 : memberWeights[index];
+        }
         if (!rosterIndicesMap.containsKey(nodeId.id())) {
             return 0;
         }
@@ -1306,12 +1513,28 @@ public class ConsensusImpl implements Consensus {
      * @return true if this creator is in the address book and has the given index
      */
     private boolean creatorIndexEquals(@NonNull final EventImpl e, final int index) {
+        if (denseMemberArrays) {
+            return memberIndex(e.getCreatorId().id()) == index;
+        }
         if (!rosterIndicesMap.containsKey(e.getCreatorId().id())) {
             return false;
         }
         return rosterIndicesMap.get(e.getCreatorId().id()) == index;
     }
 
+    /**
+     * Get the roster index of a node, without boxing if node IDs are dense enough to be indexed directly
+     * @param nodeId the ID of the node
+     * @return the index of the node in the roster, or -1 if it is not in the roster
+     */
+    private int memberIndex(final long nodeId) {
+        if (nodeIdToIndex != null) {
+            return nodeId >= 0 && nodeId < nodeIdToIndex.length ? nodeIdToIndex[(int) nodeId] : -1;
+        }
+        final Integer index = rosterIndicesMap.get(nodeId);
+        return index == null ? -1 : index;
+    }
+
     @Override
     public long getMaxRound() {
         return rounds.getMaxRound();
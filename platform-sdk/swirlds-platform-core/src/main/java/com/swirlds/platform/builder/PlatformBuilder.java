@@ -463,6 +463,7 @@ public final class PlatformBuilder {
                     .withHealthLogThreshold(wiringConfig.healthLogThreshold())
                     .withHealthLogPeriod(wiringConfig.healthLogPeriod())
                     .withHealthyReportThreshold(wiringConfig.healthyReportThreshold())
+                    .withVirtualThreadsEnabled(wiringConfig.virtualThreadsEnabled())
                     .build();
         }
 
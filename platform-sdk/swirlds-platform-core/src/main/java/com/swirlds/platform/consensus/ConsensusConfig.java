@@ -15,9 +15,13 @@ import com.swirlds.config.api.ConfigProperty;
  *                         and never have their transactions handled.
  * @param roundsExpired    Events this many rounds old are expired, and can be deleted from memory
  * @param coinFreq         a coin round happens every coinFreq rounds during an election (every other one is all true)
+ * @param denseMemberArrays if true, consensus keeps roster weights and creator indices in primitive arrays indexed by
+ *                         member, computes the strongly seen witnesses of an event from a single row of its lastSee
+ *                         values, and reuses buffers when counting votes. The output is identical either way.
  */
 @ConfigData("consensus")
 public record ConsensusConfig(
         @ConfigProperty(defaultValue = "26") int roundsNonAncient,
         @ConfigProperty(defaultValue = "1000") int roundsExpired,
-        @ConfigProperty(defaultValue = "12") int coinFreq) {}
+        @ConfigProperty(defaultValue = "12") int coinFreq,
+        @ConfigProperty(defaultValue = "false") boolean denseMemberArrays) {}
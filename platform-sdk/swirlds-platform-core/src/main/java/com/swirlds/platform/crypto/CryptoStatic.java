@@ -86,6 +86,13 @@ public final class CryptoStatic {
     private static final String ADDRESS_BOOK_MUST_NOT_BE_NULL = "addressBook must not be null";
     private static final String LOCAL_NODES_MUST_NOT_BE_NULL = "the local nodes must not be null";
 
+    /**
+     * One {@link Signature} per thread for {@link #verifySignature(Bytes, Bytes, PublicKey)}. Looking up a provider
+     * instance is costly compared to verifying a single event signature, and a {@link Signature} is not thread safe, so
+     * each verifying thread keeps its own.
+     */
+    private static final ThreadLocal<Signature> VERIFIER_SIGNATURES = new ThreadLocal<>();
+
     static {
         // used to generate certificates
         Security.addProvider(new BouncyCastleProvider());
@@ -251,7 +258,12 @@ public final class CryptoStatic {
         Objects.requireNonNull(signature);
         Objects.requireNonNull(publicKey);
         try {
-            final Signature sig = Signature.getInstance(CryptoConstants.SIG_TYPE2, CryptoConstants.SIG_PROVIDER);
+            Signature sig = VERIFIER_SIGNATURES.get();
+            if (sig == null) {
+                sig = Signature.getInstance(CryptoConstants.SIG_TYPE2, CryptoConstants.SIG_PROVIDER);
+                VERIFIER_SIGNATURES.set(sig);
+            }
+            // initVerify() resets any state left over from a previous verification on this thread
             sig.initVerify(publicKey);
             data.updateSignature(sig);
             return signature.verifySignature(sig);
@@ -6,6 +6,7 @@ import static org.apache.logging.log4j.Level.CATEGORY;
 
 import com.swirlds.base.time.Time;
 import com.swirlds.common.metrics.IntegerPairAccumulator;
+import com.swirlds.metrics.api.Histogram;
 import com.swirlds.metrics.api.Metrics;
 import edu.umd.cs.findbugs.annotations.NonNull;
 
@@ -21,6 +22,9 @@ class PcesWriterPerEventMetrics {
     private static final IntegerPairAccumulator.Config<Double> PCES_AVG_SYNC_DURATION =
             new IntegerPairAccumulator.Config<>(CATEGORY, "pcesAvgSyncDuration", Double.class, AVERAGE)
                     .withDescription("The amount of time it takes to complete a flush operation");
+    private static final Histogram.Config PCES_SYNC_DURATION = new Histogram.Config(CATEGORY, "pcesSyncDuration")
+            .withDescription("The distribution of the durations of flush operations in nanoseconds")
+            .withUnit("ns");
     private static final IntegerPairAccumulator.Config<Double> PCES_AVG_WRITE_DURATION =
             new IntegerPairAccumulator.Config<>(CATEGORY, "pcesAvgWriteDuration", Double.class, AVERAGE)
                     .withDescription("The amount of time it takes to complete a single write operation");
@@ -30,6 +34,7 @@ class PcesWriterPerEventMetrics {
 
     private final IntegerPairAccumulator<Double> avgWriteMetric;
     private final IntegerPairAccumulator<Double> avgSyncMetric;
+    private final Histogram syncDuration;
     private final IntegerPairAccumulator<Double> avgTotalWrite;
     private final IntegerPairAccumulator<Double> avgEventSizeMetric;
     private final Time time;
@@ -41,6 +46,7 @@ class PcesWriterPerEventMetrics {
     PcesWriterPerEventMetrics(@NonNull final Metrics metrics, @NonNull final Time time) {
         this.avgWriteMetric = metrics.getOrCreate(PCES_AVG_WRITE_DURATION);
         this.avgSyncMetric = metrics.getOrCreate(PCES_AVG_SYNC_DURATION);
+        this.syncDuration = metrics.getOrCreate(PCES_SYNC_DURATION);
         this.avgTotalWrite = metrics.getOrCreate(PCES_AVG_TOTAL_WRITE_DURATION);
         this.avgEventSizeMetric = metrics.getOrCreate(PCES_AVG_EVENT_SIZE);
         this.time = time;
@@ -86,7 +92,9 @@ class PcesWriterPerEventMetrics {
      * reports the duration of the sync operation
      */
     void endFileSync() {
-        avgSyncMetric.update(getDurationInNanos(syncStart), 1);
+        final long duration = time.nanoTime() - syncStart;
+        avgSyncMetric.update(asInt(duration), 1);
+        syncDuration.update(duration);
     }
 
     /**
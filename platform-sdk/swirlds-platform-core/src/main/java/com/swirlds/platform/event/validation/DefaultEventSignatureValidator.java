@@ -6,6 +6,7 @@ import static com.swirlds.metrics.api.Metrics.PLATFORM_CATEGORY;
 
 import com.hedera.hapi.node.state.roster.Roster;
 import com.hedera.hapi.node.state.roster.RosterEntry;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
 import com.swirlds.common.context.PlatformContext;
 import com.swirlds.common.utility.throttle.RateLimitedLogger;
 import com.swirlds.metrics.api.LongAccumulator;
@@ -16,7 +17,9 @@ import edu.umd.cs.findbugs.annotations.Nullable;
 import java.security.PublicKey;
 import java.security.cert.X509Certificate;
 import java.time.Duration;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.hiero.consensus.model.event.PlatformEvent;
@@ -52,6 +55,13 @@ public class DefaultEventSignatureValidator implements EventSignatureValidator {
      */
     private EventWindow eventWindow;
 
+    /**
+     * Public keys decoded from roster certificates, keyed by the encoded certificate. Decoding an X509 certificate is
+     * far more expensive than the lookup, and the same few certificates are used for every event. This validator runs
+     * on a concurrent scheduler, so the map must be thread safe. Cleared whenever the roster history changes.
+     */
+    private final Map<Bytes, PublicKey> publicKeyCache = new ConcurrentHashMap<>();
+
     /**
      * Keeps track of the number of events in the intake pipeline from each peer
      */
@@ -121,9 +131,7 @@ public class DefaultEventSignatureValidator implements EventSignatureValidator {
             return false;
         }
 
-        final X509Certificate cert = RosterUtils.fetchGossipCaCertificate(rosterEntry);
-
-        final PublicKey publicKey = cert == null ? null : cert.getPublicKey();
+        final PublicKey publicKey = getPublicKey(rosterEntry);
         if (publicKey == null) {
             rateLimitedLogger.error(
                     EXCEPTION.getMarker(), "Cannot find publicKey for creator with ID: {}", eventCreatorId);
@@ -145,6 +153,28 @@ public class DefaultEventSignatureValidator implements EventSignatureValidator {
         return isSignatureValid;
     }
 
+    /**
+     * Get the public key of a roster entry, decoding its certificate only the first time it is seen.
+     *
+     * @param rosterEntry the roster entry
+     * @return the public key, or null if the certificate cannot be decoded
+     */
+    @Nullable
+    private PublicKey getPublicKey(@NonNull final RosterEntry rosterEntry) {
+        final Bytes certificateBytes = rosterEntry.gossipCaCertificate();
+        final PublicKey cachedKey = publicKeyCache.get(certificateBytes);
+        if (cachedKey != null) {
+            return cachedKey;
+        }
+
+        final X509Certificate cert = RosterUtils.fetchGossipCaCertificate(rosterEntry);
+        final PublicKey publicKey = cert == null ? null : cert.getPublicKey();
+        if (publicKey != null) {
+            publicKeyCache.put(certificateBytes, publicKey);
+        }
+        return publicKey;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -181,5 +211,6 @@ public class DefaultEventSignatureValidator implements EventSignatureValidator {
     @Override
     public void updateRosterHistory(@NonNull final RosterHistory rosterHistory) {
         this.rosterHistory = Objects.requireNonNull(rosterHistory);
+        publicKeyCache.clear();
     }
 }
@@ -20,6 +20,8 @@ import com.swirlds.platform.gossip.sync.SyncManagerImpl;
 import com.swirlds.platform.metrics.ReconnectMetrics;
 import com.swirlds.platform.network.PeerCommunication;
 import com.swirlds.platform.network.PeerInfo;
+import com.swirlds.platform.network.SocketConfig;
+import com.swirlds.platform.network.communication.handshake.EventCompressionHandshake;
 import com.swirlds.platform.network.communication.handshake.VersionCompareHandshake;
 import com.swirlds.platform.network.protocol.HeartbeatProtocol;
 import com.swirlds.platform.network.protocol.Protocol;
@@ -161,9 +163,14 @@ public class SyncGossipModular implements Gossip {
                 syncProtocol);
 
         final ProtocolConfig protocolConfig = platformContext.getConfiguration().getConfigData(ProtocolConfig.class);
-        final VersionCompareHandshake versionCompareHandshake =
-                new VersionCompareHandshake(appVersion, !protocolConfig.tolerateMismatchedVersion());
-        final List<ProtocolRunnable> handshakeProtocols = List.of(versionCompareHandshake);
+        final SocketConfig socketConfig = platformContext.getConfiguration().getConfigData(SocketConfig.class);
+        final VersionCompareHandshake versionCompareHandshake = new VersionCompareHandshake(
+                appVersion,
+                !protocolConfig.tolerateMismatchedVersion(),
+                socketConfig.eventCompression() ? VersionCompareHandshake.EVENT_COMPRESSION_CAPABILITY : 0);
+        final List<ProtocolRunnable> handshakeProtocols = socketConfig.eventCompression()
+                ? List.of(versionCompareHandshake, new EventCompressionHandshake(socketConfig))
+                : List.of(versionCompareHandshake);
 
         network.initialize(threadManager, handshakeProtocols, protocols);
     }
@@ -199,8 +199,7 @@ public final class SyncUtils {
                         events.size());
             }
             for (final PlatformEvent event : events) {
-                connection.getDos().writeByte(ByteConstants.COMM_EVENT_NEXT);
-                connection.getDos().writePbjRecord(event.getGossipEvent(), GossipEvent.PROTOBUF);
+                connection.getDos().writeEvent(event.getGossipEvent());
             }
             if (writeAborted.get()) {
                 logger.info(SYNC_INFO.getMarker(), "{} writing events aborted", connection.getDescription());
@@ -275,14 +274,16 @@ public final class SyncUtils {
                     // this timeout will be triggered
                     checkEventExchangeTime(maxSyncTime, startTime);
                     switch (next) {
-                        case ByteConstants.COMM_EVENT_NEXT -> {
+                        case ByteConstants.COMM_EVENT_NEXT, ByteConstants.COMM_EVENT_NEXT_COMPRESSED -> {
                             if (maxEventCount > 0) {
                                 count++;
                                 if (count > maxEventCount) {
                                     throw new IOException("max event count " + maxEventCount + " exceeded");
                                 }
                             }
-                            final GossipEvent gossipEvent = connection.getDis().readPbjRecord(GossipEvent.PROTOBUF);
+                            final GossipEvent gossipEvent = next == ByteConstants.COMM_EVENT_NEXT
+                                    ? connection.getDis().readPbjRecord(GossipEvent.PROTOBUF)
+                                    : connection.getDis().readCompressedEvent();
                             final PlatformEvent platformEvent = new PlatformEvent(gossipEvent);
 
                             platformEvent.setSenderId(connection.getOtherId());
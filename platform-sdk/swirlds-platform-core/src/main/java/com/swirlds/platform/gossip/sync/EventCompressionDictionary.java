@@ -0,0 +1,91 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.platform.gossip.sync;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.zip.CRC32C;
+
+/**
+ * A sliding window over the most recent event bytes exchanged in one direction of a connection. The sender and the
+ * receiver each keep one, and since both append exactly the same uncompressed payloads in the same order, the two
+ * windows are always identical without the dictionary ever being sent over the wire. Instead, every frame compressed
+ * with the dictionary carries its {@link #id()}, a checksum of the size and of the whole history of the window, so a
+ * receiver whose window went out of sync fails on the first such frame instead of decoding garbage.
+ * <p>
+ * This class is not thread safe, each instance is owned by a single stream.
+ */
+final class EventCompressionDictionary {
+
+    /**
+     * Deflate cannot reference data further back than this, so a bigger dictionary would be wasted.
+     */
+    static final int MAX_DICTIONARY_SIZE = 32 * 1024;
+
+    private final byte[] window;
+    private final CRC32C checksum = new CRC32C();
+    private int size;
+    private int id;
+
+    /**
+     * Constructor
+     *
+     * @param capacity the requested number of bytes to keep, capped at {@link #MAX_DICTIONARY_SIZE}
+     */
+    EventCompressionDictionary(final int capacity) {
+        this.window = new byte[Math.max(0, Math.min(capacity, MAX_DICTIONARY_SIZE))];
+        this.id = window.length;
+    }
+
+    /**
+     * Append the payload of an event to the window, discarding the oldest bytes if the window is full.
+     *
+     * @param data the uncompressed event payload
+     */
+    void append(@NonNull final byte[] data) {
+        final int capacity = window.length;
+        if (capacity == 0) {
+            return;
+        }
+        checksum.reset();
+        checksum.update(data);
+        id = 31 * id + (int) checksum.getValue();
+        if (data.length >= capacity) {
+            System.arraycopy(data, data.length - capacity, window, 0, capacity);
+            size = capacity;
+            return;
+        }
+        final int keep = Math.min(size, capacity - data.length);
+        System.arraycopy(window, size - keep, window, 0, keep);
+        System.arraycopy(data, 0, window, keep, data.length);
+        size = keep + data.length;
+    }
+
+    /**
+     * @return the backing array, only the first {@link #size()} bytes are valid
+     */
+    @NonNull
+    byte[] bytes() {
+        return window;
+    }
+
+    /**
+     * @return the number of valid bytes in the window
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * @return the maximum number of bytes kept in the window
+     */
+    int capacity() {
+        return window.length;
+    }
+
+    /**
+     * @return an id of the current content of the window, which is the same on both sides of the connection as long
+     * as both windows are identical
+     */
+    int id() {
+        return id;
+    }
+}
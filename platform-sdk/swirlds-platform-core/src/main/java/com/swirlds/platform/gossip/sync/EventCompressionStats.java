@@ -0,0 +1,49 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.platform.gossip.sync;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counters describing the work done compressing or decompressing events on one side of a connection. Values are
+ * accumulated by the stream that owns this object and periodically drained by the metrics update thread.
+ */
+public class EventCompressionStats {
+
+    private final AtomicLong uncompressedBytes = new AtomicLong();
+    private final AtomicLong encodedBytes = new AtomicLong();
+    private final AtomicLong codecNanos = new AtomicLong();
+
+    /**
+     * Record a single event passing through the codec
+     *
+     * @param uncompressed the size of the event payload before compression
+     * @param encoded      the number of payload bytes that went over the wire
+     * @param nanos        the time spent in the codec
+     */
+    void record(final long uncompressed, final long encoded, final long nanos) {
+        uncompressedBytes.addAndGet(uncompressed);
+        encodedBytes.addAndGet(encoded);
+        codecNanos.addAndGet(nanos);
+    }
+
+    /**
+     * @return the uncompressed size of all events since the last reset, then resets it
+     */
+    public long getAndResetUncompressedBytes() {
+        return uncompressedBytes.getAndSet(0);
+    }
+
+    /**
+     * @return the on-the-wire size of all events since the last reset, then resets it
+     */
+    public long getAndResetEncodedBytes() {
+        return encodedBytes.getAndSet(0);
+    }
+
+    /**
+     * @return the time spent compressing or decompressing since the last reset, then resets it
+     */
+    public long getAndResetCodecNanos() {
+        return codecNanos.getAndSet(0);
+    }
+}
@@ -0,0 +1,137 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.platform.gossip.sync;
+
+import com.swirlds.platform.network.SocketConfig;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Objects;
+import java.util.zip.Deflater;
+
+/**
+ * Compresses event payloads one at a time for a single outgoing stream. Each payload is written as a frame:
+ * <pre>
+ * byte   codec ({@link #CODEC_RAW}, {@link #CODEC_DEFLATE} or {@link #CODEC_DEFLATE_DICTIONARY})
+ * int    uncompressed length
+ * int    compressed length (only if the codec is not {@link #CODEC_RAW})
+ * int    dictionary id (only if the codec is {@link #CODEC_DEFLATE_DICTIONARY})
+ * byte[] payload
+ * </pre>
+ * Since the codec is chosen per frame, the sender may fall back to raw bytes whenever compression does not pay off.
+ * <p>
+ * No dictionary is used until both peers agree on its size with
+ * {@link com.swirlds.platform.network.communication.handshake.EventCompressionHandshake}, see
+ * {@link #setDictionarySize(int)}.
+ * <p>
+ * This class is not thread safe.
+ */
+final class EventCompressor {
+
+    /** the payload is not compressed */
+    static final byte CODEC_RAW = 0;
+    /** the payload is compressed with raw deflate */
+    static final byte CODEC_DEFLATE = 1;
+    /** the payload is compressed with raw deflate, using the connection's dictionary */
+    static final byte CODEC_DEFLATE_DICTIONARY = 2;
+
+    /** the maximum uncompressed size of an event frame we are willing to read */
+    static final int MAX_EVENT_SIZE = 16 * 1024 * 1024;
+
+    private final Deflater deflater;
+    private final int minimumSize;
+    private EventCompressionDictionary dictionary = new EventCompressionDictionary(0);
+    private boolean started;
+    private final EventCompressionStats stats = new EventCompressionStats();
+    private byte[] buffer = new byte[0];
+
+    /**
+     * Constructor
+     *
+     * @param socketConfig the socket configuration
+     */
+    EventCompressor(@NonNull final SocketConfig socketConfig) {
+        Objects.requireNonNull(socketConfig);
+        final int level = Math.max(
+                Deflater.BEST_SPEED, Math.min(Deflater.BEST_COMPRESSION, socketConfig.eventCompressionLevel()));
+        this.deflater = new Deflater(level, true);
+        this.minimumSize = socketConfig.eventCompressionMinimumSize();
+    }
+
+    /**
+     * Set the size of the dictionary agreed with the peer. Must be called before the first event is written.
+     *
+     * @param dictionarySize the agreed dictionary size, or 0 to compress every event on its own
+     * @throws IllegalStateException if an event has already been written
+     */
+    void setDictionarySize(final int dictionarySize) {
+        if (started) {
+            throw new IllegalStateException("the dictionary size cannot change once events have been written");
+        }
+        dictionary = new EventCompressionDictionary(dictionarySize);
+    }
+
+    /**
+     * Write an event payload as a single frame
+     *
+     * @param out     the stream to write to
+     * @param payload the serialized event
+     * @throws IOException if the stream throws
+     */
+    void write(@NonNull final DataOutput out, @NonNull final byte[] payload) throws IOException {
+        final long start = System.nanoTime();
+        started = true;
+
+        byte codec = CODEC_RAW;
+        int compressedLength = 0;
+        final int dictionaryId = dictionary.id();
+        if (payload.length >= minimumSize) {
+            if (buffer.length < payload.length) {
+                buffer = new byte[payload.length];
+            }
+            deflater.reset();
+            if (dictionary.size() > 0) {
+                deflater.setDictionary(dictionary.bytes(), 0, dictionary.size());
+                codec = CODEC_DEFLATE_DICTIONARY;
+            } else {
+                codec = CODEC_DEFLATE;
+            }
+            deflater.setInput(payload);
+            deflater.finish();
+            // the output buffer is only as big as the input, if deflate does not fit then it is not worth it
+            while (!deflater.finished() && compressedLength < payload.length) {
+                final int written = deflater.deflate(buffer, compressedLength, payload.length - compressedLength);
+                if (written == 0) {
+                    break;
+                }
+                compressedLength += written;
+            }
+            if (!deflater.finished() || compressedLength >= payload.length) {
+                codec = CODEC_RAW;
+            }
+        }
+        dictionary.append(payload);
+        final long codecNanos = System.nanoTime() - start;
+
+        out.writeByte(codec);
+        out.writeInt(payload.length);
+        if (codec == CODEC_RAW) {
+            out.write(payload);
+            stats.record(payload.length, payload.length, codecNanos);
+        } else {
+            out.writeInt(compressedLength);
+            if (codec == CODEC_DEFLATE_DICTIONARY) {
+                out.writeInt(dictionaryId);
+            }
+            out.write(buffer, 0, compressedLength);
+            stats.record(payload.length, compressedLength, codecNanos);
+        }
+    }
+
+    /**
+     * @return the counters for this compressor
+     */
+    @NonNull
+    EventCompressionStats getStats() {
+        return stats;
+    }
+}
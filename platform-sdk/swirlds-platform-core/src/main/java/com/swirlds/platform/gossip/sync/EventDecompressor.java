@@ -0,0 +1,128 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.platform.gossip.sync;
+
+import static com.swirlds.platform.gossip.sync.EventCompressor.CODEC_DEFLATE;
+import static com.swirlds.platform.gossip.sync.EventCompressor.CODEC_DEFLATE_DICTIONARY;
+import static com.swirlds.platform.gossip.sync.EventCompressor.CODEC_RAW;
+import static com.swirlds.platform.gossip.sync.EventCompressor.MAX_EVENT_SIZE;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.DataInput;
+import java.io.IOException;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * Reads event frames written by an {@link EventCompressor} on the other side of the connection. The dictionary size
+ * must match the one used by the peer, so both sides agree on it with
+ * {@link com.swirlds.platform.network.communication.handshake.EventCompressionHandshake}, see
+ * {@link #setDictionarySize(int)}. Every frame compressed with the dictionary carries the id of the sender's
+ * dictionary, and is rejected if it does not match the id of ours.
+ * <p>
+ * This class is not thread safe.
+ */
+final class EventDecompressor {
+
+    private final Inflater inflater = new Inflater(true);
+    private final EventCompressionStats stats = new EventCompressionStats();
+    private EventCompressionDictionary dictionary = new EventCompressionDictionary(0);
+    private boolean started;
+    private byte[] buffer = new byte[0];
+
+    /**
+     * Set the size of the dictionary agreed with the peer. Must be called before the first event is read.
+     *
+     * @param dictionarySize the agreed dictionary size, or 0 if the peer compresses every event on its own
+     * @throws IllegalStateException if an event has already been read
+     */
+    void setDictionarySize(final int dictionarySize) {
+        if (started) {
+            throw new IllegalStateException("the dictionary size cannot change once events have been read");
+        }
+        dictionary = new EventCompressionDictionary(dictionarySize);
+    }
+
+    /**
+     * Read a single event frame
+     *
+     * @param in the stream to read from
+     * @return the uncompressed event payload
+     * @throws IOException if the stream throws or if the frame is malformed
+     */
+    @NonNull
+    byte[] read(@NonNull final DataInput in) throws IOException {
+        started = true;
+        final byte codec = in.readByte();
+        final int length = in.readInt();
+        if (length < 0 || length > MAX_EVENT_SIZE) {
+            throw new IOException("invalid event length " + length);
+        }
+        final byte[] payload = new byte[length];
+
+        final long codecNanos;
+        final int encodedLength;
+        switch (codec) {
+            case CODEC_RAW -> {
+                in.readFully(payload);
+                encodedLength = length;
+                codecNanos = 0;
+            }
+            case CODEC_DEFLATE, CODEC_DEFLATE_DICTIONARY -> {
+                encodedLength = in.readInt();
+                if (encodedLength < 0 || encodedLength > length) {
+                    throw new IOException("invalid compressed event length " + encodedLength);
+                }
+                if (codec == CODEC_DEFLATE_DICTIONARY) {
+                    final int dictionaryId = in.readInt();
+                    if (dictionary.size() == 0 || dictionaryId != dictionary.id()) {
+                        throw new IOException("compression dictionary mismatch, peer used dictionary "
+                                + Integer.toHexString(dictionaryId) + " but ours is "
+                                + Integer.toHexString(dictionary.id()));
+                    }
+                }
+                if (buffer.length < encodedLength) {
+                    buffer = new byte[encodedLength];
+                }
+                in.readFully(buffer, 0, encodedLength);
+                final long start = System.nanoTime();
+                inflate(codec, encodedLength, payload);
+                codecNanos = System.nanoTime() - start;
+            }
+            default -> throw new IOException("unknown event codec " + codec);
+        }
+        dictionary.append(payload);
+        stats.record(length, encodedLength, codecNanos);
+        return payload;
+    }
+
+    private void inflate(final byte codec, final int encodedLength, @NonNull final byte[] payload) throws IOException {
+        inflater.reset();
+        if (codec == CODEC_DEFLATE_DICTIONARY) {
+            inflater.setDictionary(dictionary.bytes(), 0, dictionary.size());
+        }
+        inflater.setInput(buffer, 0, encodedLength);
+        int inflated = 0;
+        try {
+            while (inflated < payload.length && !inflater.finished()) {
+                final int read = inflater.inflate(payload, inflated, payload.length - inflated);
+                if (read == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                inflated += read;
+            }
+        } catch (final DataFormatException e) {
+            throw new IOException("unable to decompress event", e);
+        }
+        if (inflated != payload.length || !inflater.finished()) {
+            throw new IOException("compressed event did not match its declared length " + payload.length);
+        }
+    }
+
+    /**
+     * @return the counters for this decompressor
+     */
+    @NonNull
+    EventCompressionStats getStats() {
+        return stats;
+    }
+}
@@ -3,6 +3,9 @@ package com.swirlds.platform.gossip.sync;
 
 import static com.swirlds.common.io.extendable.ExtendableInputStream.extendInputStream;
 
+import com.hedera.hapi.platform.event.GossipEvent;
+import com.hedera.pbj.runtime.ParseException;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
 import com.swirlds.common.context.PlatformContext;
 import com.swirlds.common.io.extendable.extensions.CountingStreamExtension;
 import com.swirlds.platform.network.SocketConfig;
@@ -22,10 +25,14 @@ public class SyncInputStream extends SerializableDataInputStream {
     private static final int MAX_TIPS_PER_NODE = 1000;
 
     private final CountingStreamExtension syncByteCounter;
+    /** decodes compressed event frames, always present since the peer decides whether to compress */
+    private final EventDecompressor eventDecompressor;
 
-    private SyncInputStream(InputStream in, CountingStreamExtension syncByteCounter) {
+    private SyncInputStream(
+            InputStream in, CountingStreamExtension syncByteCounter, EventDecompressor eventDecompressor) {
         super(in);
         this.syncByteCounter = syncByteCounter;
+        this.eventDecompressor = eventDecompressor;
     }
 
     public static SyncInputStream createSyncInputStream(
@@ -33,10 +40,8 @@ public class SyncInputStream extends SerializableDataInputStream {
 
         final CountingStreamExtension syncCounter = new CountingStreamExtension();
 
-        final boolean compress = platformContext
-                .getConfiguration()
-                .getConfigData(SocketConfig.class)
-                .gzipCompression();
+        final SocketConfig socketConfig = platformContext.getConfiguration().getConfigData(SocketConfig.class);
+        final boolean compress = socketConfig.gzipCompression();
 
         final InputStream meteredStream = extendInputStream(in, syncCounter);
 
@@ -47,13 +52,48 @@ public class SyncInputStream extends SerializableDataInputStream {
             wrappedStream = new BufferedInputStream(meteredStream, bufferSize);
         }
 
-        return new SyncInputStream(wrappedStream, syncCounter);
+        return new SyncInputStream(wrappedStream, syncCounter, new EventDecompressor());
     }
 
     public CountingStreamExtension getSyncByteCounter() {
         return syncByteCounter;
     }
 
+    /**
+     * @return the event decompression counters for this stream
+     */
+    @NonNull
+    public EventCompressionStats getEventCompressionStats() {
+        return eventDecompressor.getStats();
+    }
+
+    /**
+     * Set the event compression dictionary size agreed with the peer when connecting. Must be called before the first
+     * compressed event is read.
+     *
+     * @param dictionarySize the agreed dictionary size
+     */
+    public void setEventCompressionDictionarySize(final int dictionarySize) {
+        eventDecompressor.setDictionarySize(dictionarySize);
+    }
+
+    /**
+     * Read an event sent as a {@link com.swirlds.platform.network.ByteConstants#COMM_EVENT_NEXT_COMPRESSED} frame. The
+     * announcing byte must already have been consumed.
+     *
+     * @return the event
+     * @throws IOException if a stream exception occurs or the frame cannot be decoded
+     */
+    @NonNull
+    public GossipEvent readCompressedEvent() throws IOException {
+        final byte[] payload = eventDecompressor.read(this);
+        try {
+            return GossipEvent.PROTOBUF.parse(Bytes.wrap(payload));
+        } catch (final ParseException e) {
+            throw new IOException("unable to parse compressed event", e);
+        }
+    }
+
     /**
      * Read the other node's tip hashes
      *
@@ -3,10 +3,13 @@ package com.swirlds.platform.gossip.sync;
 
 import static com.swirlds.common.io.extendable.ExtendableOutputStream.extendOutputStream;
 
+import com.hedera.hapi.platform.event.GossipEvent;
 import com.swirlds.common.context.PlatformContext;
 import com.swirlds.common.io.extendable.extensions.CountingStreamExtension;
+import com.swirlds.platform.network.ByteConstants;
 import com.swirlds.platform.network.SocketConfig;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
 import java.io.BufferedOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
@@ -22,13 +25,21 @@ public class SyncOutputStream extends SerializableDataOutputStream {
     private final CountingStreamExtension syncByteCounter;
     private final CountingStreamExtension connectionByteCounter;
     private final AtomicReference<Instant> requestSent;
+    /** compresses outgoing events, or null if event compression is disabled */
+    private EventCompressor eventCompressor;
+    /** the capabilities announced by the peer in the version handshake, or 0 if it announced none */
+    private int peerCapabilities;
 
     protected SyncOutputStream(
-            OutputStream out, CountingStreamExtension syncByteCounter, CountingStreamExtension connectionByteCounter) {
+            OutputStream out,
+            CountingStreamExtension syncByteCounter,
+            CountingStreamExtension connectionByteCounter,
+            @Nullable EventCompressor eventCompressor) {
         super(out);
         this.syncByteCounter = syncByteCounter;
         this.connectionByteCounter = connectionByteCounter;
         this.requestSent = new AtomicReference<>(null);
+        this.eventCompressor = eventCompressor;
     }
 
     public static SyncOutputStream createSyncOutputStream(
@@ -36,10 +47,8 @@ public class SyncOutputStream extends SerializableDataOutputStream {
         CountingStreamExtension syncByteCounter = new CountingStreamExtension();
         CountingStreamExtension connectionByteCounter = new CountingStreamExtension();
 
-        final boolean compress = platformContext
-                .getConfiguration()
-                .getConfigData(SocketConfig.class)
-                .gzipCompression();
+        final SocketConfig socketConfig = platformContext.getConfiguration().getConfigData(SocketConfig.class);
+        final boolean compress = socketConfig.gzipCompression();
 
         final OutputStream meteredStream = extendOutputStream(out, connectionByteCounter);
 
@@ -52,7 +61,11 @@ public class SyncOutputStream extends SerializableDataOutputStream {
         }
 
         // we write the data to the buffer first, for efficiency
-        return new SyncOutputStream(wrappedStream, syncByteCounter, connectionByteCounter);
+        return new SyncOutputStream(
+                wrappedStream,
+                syncByteCounter,
+                connectionByteCounter,
+                socketConfig.eventCompression() ? new EventCompressor(socketConfig) : null);
     }
 
     public CountingStreamExtension getSyncByteCounter() {
@@ -63,6 +76,68 @@ public class SyncOutputStream extends SerializableDataOutputStream {
         return connectionByteCounter;
     }
 
+    /**
+     * @return the event compression counters for this stream, or null if event compression is disabled
+     */
+    @Nullable
+    public EventCompressionStats getEventCompressionStats() {
+        return eventCompressor == null ? null : eventCompressor.getStats();
+    }
+
+    /**
+     * @return the capabilities announced by the peer in the version handshake, or 0 if it announced none
+     */
+    public int getPeerCapabilities() {
+        return peerCapabilities;
+    }
+
+    /**
+     * Set the capabilities announced by the peer in the version handshake.
+     *
+     * @param peerCapabilities the peer capabilities
+     */
+    public void setPeerCapabilities(final int peerCapabilities) {
+        this.peerCapabilities = peerCapabilities;
+    }
+
+    /**
+     * Send events uncompressed on this connection, because the peer can't read compressed events or has event
+     * compression disabled. Must be called before the first event is written.
+     */
+    public void disableEventCompression() {
+        eventCompressor = null;
+    }
+
+    /**
+     * Set the event compression dictionary size agreed with the peer when connecting. Must be called before the first
+     * event is written. Has no effect if event compression is disabled.
+     *
+     * @param dictionarySize the agreed dictionary size
+     */
+    public void setEventCompressionDictionarySize(final int dictionarySize) {
+        if (eventCompressor != null) {
+            eventCompressor.setDictionarySize(dictionarySize);
+        }
+    }
+
+    /**
+     * Write an event to the {@link SyncOutputStream}, preceded by the byte that announces it. If event compression is
+     * enabled, the event is sent as a {@link ByteConstants#COMM_EVENT_NEXT_COMPRESSED} frame, otherwise as a plain
+     * {@link ByteConstants#COMM_EVENT_NEXT} record.
+     *
+     * @param event the event to write
+     * @throws IOException iff the {@link SyncOutputStream} throws
+     */
+    public void writeEvent(@NonNull final GossipEvent event) throws IOException {
+        if (eventCompressor == null) {
+            writeByte(ByteConstants.COMM_EVENT_NEXT);
+            writePbjRecord(event, GossipEvent.PROTOBUF);
+        } else {
+            writeByte(ByteConstants.COMM_EVENT_NEXT_COMPRESSED);
+            eventCompressor.write(this, GossipEvent.PROTOBUF.toBytes(event).toByteArray());
+        }
+    }
+
     /**
      * Write to the {@link SyncOutputStream} the hashes of the tip events from this node's shadow graph
      *
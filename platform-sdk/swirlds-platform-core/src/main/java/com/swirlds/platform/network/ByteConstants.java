@@ -24,6 +24,8 @@ public final class ByteConstants {
     public static final byte COMM_EVENT_ABORT = 0x49 /* 73 */;
     /** sent after all events have been sent for this sync */
     public static final byte COMM_EVENT_DONE = 0x4a /* 74 */;
+    /** sent before sending each event when the event is framed by the event compression codec */
+    public static final byte COMM_EVENT_NEXT_COMPRESSED = 0x4b /* 75 */;
     /**
      * Private constructor to never instantiate this class
      */
@@ -5,7 +5,9 @@ import com.swirlds.common.metrics.RunningAverageMetric;
 import com.swirlds.common.metrics.SpeedometerMetric;
 import com.swirlds.common.metrics.extensions.CountPerSecond;
 import com.swirlds.metrics.api.FloatFormats;
+import com.swirlds.metrics.api.Histogram;
 import com.swirlds.metrics.api.Metrics;
+import com.swirlds.platform.gossip.sync.EventCompressionStats;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
 import java.util.HashMap;
@@ -25,11 +27,16 @@ public class NetworkMetrics {
 
     private static final String PING_CATEGORY = "ping";
     private static final String BPSS_CATEGORY = "bpss";
+    private static final String EVENT_COMPRESSION_CATEGORY = "eventCompression";
 
     private static final RunningAverageMetric.Config AVG_PING_CONFIG = new RunningAverageMetric.Config(
                     Metrics.PLATFORM_CATEGORY, "ping")
             .withDescription("average time for a round trip message between 2 computers (in milliseconds)")
             .withFormat(FloatFormats.FORMAT_7_0);
+    private static final Histogram.Config PING_ROUND_TRIP_CONFIG = new Histogram.Config(
+                    Metrics.PLATFORM_CATEGORY, "pingRoundTrip")
+            .withDescription("distribution of the round trip times of messages to all other nodes (in microseconds)")
+            .withUnit("us");
     private static final SpeedometerMetric.Config BYTES_PER_SECOND_SENT_CONFIG = new SpeedometerMetric.Config(
                     Metrics.INTERNAL_CATEGORY, "bytes_per_sec_sent")
             .withDescription("number of bytes sent per second over the network (total for this member)")
@@ -61,10 +68,22 @@ public class NetworkMetrics {
      * the average number of bytes sent per second for each node
      */
     private final ConcurrentHashMap<NodeId, SpeedometerMetric> avgBytePerSecSent = new ConcurrentHashMap<>();
+    /**
+     * the average ratio of compressed to uncompressed event bytes sent to each node
+     */
+    private final ConcurrentHashMap<NodeId, RunningAverageMetric> eventCompressionRatio = new ConcurrentHashMap<>();
+    /**
+     * the time spent per second compressing events sent to, and decompressing events received from, each node
+     */
+    private final ConcurrentHashMap<NodeId, SpeedometerMetric> eventCodecMicrosPerSec = new ConcurrentHashMap<>();
     /**
      * the average ping to all nodes
      */
     private final RunningAverageMetric avgPing;
+    /**
+     * the distribution of the ping times to all nodes
+     */
+    private final Histogram pingRoundTrip;
     /**
      * the total bytes per second to all nodes
      */
@@ -92,6 +111,7 @@ public class NetworkMetrics {
         this.metrics = Objects.requireNonNull(metrics, "The metrics must not be null.");
 
         avgPing = metrics.getOrCreate(AVG_PING_CONFIG);
+        pingRoundTrip = metrics.getOrCreate(PING_ROUND_TRIP_CONFIG);
         bytesPerSecondSent = metrics.getOrCreate(BYTES_PER_SECOND_SENT_CONFIG);
         avgConnsCreated = metrics.getOrCreate(AVG_CONNS_CREATED_CONFIG);
     }
@@ -126,6 +146,7 @@ public class NetworkMetrics {
                                         "milliseconds to send node %02d a byte and receive a reply", nodeId.id()))
                                 .withFormat(FloatFormats.FORMAT_4_2)))
                 .update((pingNanos) / 1_000_000.0);
+        pingRoundTrip.update(pingNanos / 1_000L);
     }
 
     /**
@@ -171,6 +192,8 @@ public class NetworkMetrics {
                                         .withFormat(FloatFormats.FORMAT_16_2)))
                         .update(bytesSent);
 
+                updateEventCompression(conn);
+
                 if (!conn.connected()) {
                     iterator.remove();
                 }
@@ -180,6 +203,51 @@ public class NetworkMetrics {
         avgConnsCreated.update(connsCreated.sum());
     }
 
+    /**
+     * Updates the per-peer event compression metrics of a single connection. No metrics are created if event
+     * compression is disabled locally.
+     *
+     * @param conn the connection to read the compression counters from
+     */
+    private void updateEventCompression(@NonNull final Connection conn) {
+        final EventCompressionStats sent = conn.getDos().getEventCompressionStats();
+        final EventCompressionStats received = conn.getDis().getEventCompressionStats();
+        // the receive side keeps decoding even when compression is disabled locally, so only the nanos are interesting
+        final long receivedCodecNanos = received.getAndResetCodecNanos();
+        received.getAndResetUncompressedBytes();
+        received.getAndResetEncodedBytes();
+        if (sent == null) {
+            return;
+        }
+        final long codecNanos = receivedCodecNanos + sent.getAndResetCodecNanos();
+        final long uncompressed = sent.getAndResetUncompressedBytes();
+        final long encoded = sent.getAndResetEncodedBytes();
+        if (uncompressed > 0) {
+            eventCompressionRatio
+                    .computeIfAbsent(
+                            conn.getOtherId(),
+                            nodeId -> metrics.getOrCreate(new RunningAverageMetric.Config(
+                                            EVENT_COMPRESSION_CATEGORY,
+                                            String.format("event_compression_ratio_%02d", nodeId.id()))
+                                    .withDescription(String.format(
+                                            "compressed to uncompressed size of events sent to node %02d",
+                                            nodeId.id()))
+                                    .withFormat(FloatFormats.FORMAT_5_3)))
+                    .update((double) encoded / uncompressed);
+        }
+        eventCodecMicrosPerSec
+                .computeIfAbsent(
+                        conn.getOtherId(),
+                        nodeId -> metrics.getOrCreate(new SpeedometerMetric.Config(
+                                        EVENT_COMPRESSION_CATEGORY,
+                                        String.format("event_codec_micros_per_sec_%02d", nodeId.id()))
+                                .withDescription(String.format(
+                                        "microseconds per second spent in the event codec for node %02d",
+                                        nodeId.id()))
+                                .withFormat(FloatFormats.FORMAT_16_2)))
+                .update(codecNanos / 1_000.0);
+    }
+
     /**
      * Returns the time for a round-trip message to each member (in milliseconds).
      * <p>
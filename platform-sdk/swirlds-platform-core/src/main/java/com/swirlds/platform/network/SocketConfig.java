@@ -25,6 +25,17 @@ import com.swirlds.config.api.ConfigProperty;
  * @param maxSocketAcceptThreads     maximum amount of threads which will be spawned to handle incoming SSL socket
  *                                   accepts, needed because of length SSL handshake; at same time, we don't want it to
  *                                   be unlimited, to not run out of threads on some kind of DOS
+ * @param eventCompression           whether events sent during a sync are individually compressed. Unlike
+ *                                   {@link #gzipCompression()}, this only affects event payloads, and each frame
+ *                                   announces its own codec so peers always know how to decode it. Events are only
+ *                                   compressed on connections to peers with the same software version that have event
+ *                                   compression enabled too
+ * @param eventCompressionLevel      the deflate level used for event compression, from 1 (fastest) to 9 (smallest)
+ * @param eventCompressionDictionarySize the number of bytes of recently exchanged events kept per connection and used
+ *                                   as a preset dictionary, or 0 to compress every event on its own. Values above 32768
+ *                                   are capped, since deflate cannot reference anything further back. Each connection
+ *                                   uses the smaller of the sizes of both peers, agreed on in the connection handshake
+ * @param eventCompressionMinimumSize events smaller than this many bytes are sent uncompressed
  */
 @ConfigData("socket")
 public record SocketConfig(
@@ -37,4 +48,8 @@ public record SocketConfig(
         @ConfigProperty(defaultValue = "true") boolean tcpNoDelay,
         @ConfigProperty(defaultValue = "false") boolean gzipCompression,
         @ConfigProperty(defaultValue = "10") int waitBetweenConnectionRetries,
-        @ConfigProperty(defaultValue = "30") int maxSocketAcceptThreads) {}
+        @ConfigProperty(defaultValue = "30") int maxSocketAcceptThreads,
+        @ConfigProperty(defaultValue = "false") boolean eventCompression,
+        @ConfigProperty(defaultValue = "1") int eventCompressionLevel,
+        @ConfigProperty(defaultValue = "32768") int eventCompressionDictionarySize,
+        @ConfigProperty(defaultValue = "128") int eventCompressionMinimumSize) {}
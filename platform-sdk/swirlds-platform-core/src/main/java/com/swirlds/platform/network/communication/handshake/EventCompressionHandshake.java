@@ -0,0 +1,52 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.platform.network.communication.handshake;
+
+import com.swirlds.platform.network.Connection;
+import com.swirlds.platform.network.NetworkProtocolException;
+import com.swirlds.platform.network.SocketConfig;
+import com.swirlds.platform.network.protocol.ProtocolRunnable;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * Exchanges the event compression dictionary size with the peer, and configures both directions of the connection to
+ * use the smaller of the two. Both sides compute the same minimum, so events compressed by one side can always be
+ * decompressed by the other, even if the nodes are configured differently. Throws a {@link HandshakeException} if the
+ * peer sends an invalid size.
+ *
+ * <p>Only used by nodes with event compression enabled, and must run after the {@link VersionCompareHandshake}. The
+ * size is only exchanged with a peer that announced {@link VersionCompareHandshake#EVENT_COMPRESSION_CAPABILITY}.
+ * Events are sent uncompressed to any other peer, which may run a version that can't read them.
+ */
+public class EventCompressionHandshake implements ProtocolRunnable {
+    private final int dictionarySize;
+
+    /**
+     * @param socketConfig the socket configuration with the dictionary size of this node
+     * @throws NullPointerException in case {@code socketConfig} parameter is {@code null}
+     */
+    public EventCompressionHandshake(@NonNull final SocketConfig socketConfig) {
+        Objects.requireNonNull(socketConfig, "socketConfig must not be null");
+        this.dictionarySize = Math.max(0, socketConfig.eventCompressionDictionarySize());
+    }
+
+    @Override
+    public void runProtocol(@NonNull final Connection connection)
+            throws NetworkProtocolException, IOException, InterruptedException {
+        if ((connection.getDos().getPeerCapabilities() & VersionCompareHandshake.EVENT_COMPRESSION_CAPABILITY) == 0) {
+            connection.getDos().disableEventCompression();
+            return;
+        }
+        connection.getDos().writeInt(dictionarySize);
+        connection.getDos().flush();
+        final int peerDictionarySize = connection.getDis().readInt();
+        if (peerDictionarySize < 0) {
+            throw new HandshakeException(
+                    String.format("Invalid event compression dictionary size '%d' from peer", peerDictionarySize));
+        }
+        final int agreedSize = Math.min(dictionarySize, peerDictionarySize);
+        connection.getDos().setEventCompressionDictionarySize(agreedSize);
+        connection.getDis().setEventCompressionDictionarySize(agreedSize);
+    }
+}
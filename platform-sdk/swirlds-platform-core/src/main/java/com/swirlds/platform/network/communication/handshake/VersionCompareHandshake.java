@@ -15,12 +15,18 @@ import org.apache.logging.log4j.Logger;
 
 /**
  * Exchanges software versions with the peer, either throws a {@link HandshakeException} or logs an error if the versions
- * do not match
+ * do not match. If the versions match, both peers run the same software, and they also exchange their capabilities,
+ * which are stored in {@link com.swirlds.platform.gossip.sync.SyncOutputStream#setPeerCapabilities(int)}. A peer with
+ * a different version is assumed to have no capabilities, so nothing but the version is ever exchanged with it.
  */
 public class VersionCompareHandshake implements ProtocolRunnable {
+    /** The capability of a node with event compression enabled, see {@link EventCompressionHandshake} */
+    public static final int EVENT_COMPRESSION_CAPABILITY = 1;
+
     private static final Logger logger = LogManager.getLogger(VersionCompareHandshake.class);
     private final SemanticVersion version;
     private final boolean throwOnMismatch;
+    private final int capabilities;
 
     /**
      * Calls {@link #VersionCompareHandshake(SemanticVersion, boolean)} with throwOnMismatch set to true
@@ -29,18 +35,29 @@ public class VersionCompareHandshake implements ProtocolRunnable {
         this(version, true);
     }
 
+    /**
+     * Calls {@link #VersionCompareHandshake(SemanticVersion, boolean, int)} with no capabilities
+     */
+    public VersionCompareHandshake(final SemanticVersion version, final boolean throwOnMismatch) {
+        this(version, throwOnMismatch, 0);
+    }
+
     /**
      * @param version
      * 		the version of software this node is running
      * @param throwOnMismatch
      * 		if set to true, the protocol will throw an exception on a version mismatch. if set to false, it will log an
      * 		error and continue
+     * @param capabilities
+     * 		the capabilities of this node, sent to peers with the same version
      * @throws NullPointerException in case {@code version} parameter is {@code null}
      */
-    public VersionCompareHandshake(final SemanticVersion version, final boolean throwOnMismatch) {
+    public VersionCompareHandshake(
+            final SemanticVersion version, final boolean throwOnMismatch, final int capabilities) {
         Objects.requireNonNull(version, "version must not be null");
         this.version = version;
         this.throwOnMismatch = throwOnMismatch;
+        this.capabilities = capabilities;
     }
 
     @Override
@@ -57,6 +74,10 @@ public class VersionCompareHandshake implements ProtocolRunnable {
             } else {
                 logger.error(EXCEPTION.getMarker(), message);
             }
+        } else {
+            connection.getDos().writeInt(capabilities);
+            connection.getDos().flush();
+            connection.getDos().setPeerCapabilities(connection.getDis().readInt());
         }
     }
 }
@@ -0,0 +1,70 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.platform.consensus;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import com.swirlds.common.test.fixtures.WeightGenerators;
+import com.swirlds.platform.ConsensusImpl;
+import com.swirlds.platform.internal.EventImpl;
+import com.swirlds.platform.metrics.NoOpConsensusMetrics;
+import com.swirlds.platform.test.fixtures.PlatformTest;
+import com.swirlds.platform.test.fixtures.event.emitter.EventEmitterBuilder;
+import com.swirlds.platform.test.fixtures.event.emitter.StandardEventEmitter;
+import java.util.ArrayList;
+import java.util.List;
+import org.hiero.consensus.model.event.PlatformEvent;
+import org.hiero.consensus.model.hashgraph.ConsensusRound;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+/**
+ * Checks that {@link ConsensusConfig#denseMemberArrays()} does not change the output of consensus.
+ */
+class DenseMemberArraysTest extends PlatformTest {
+
+    private List<ConsensusRound> calculateConsensus(
+            final boolean denseMemberArrays, final int numNodes, final int numEvents, final long seed) {
+        final StandardEventEmitter emitter = EventEmitterBuilder.newBuilder()
+                .setRandomSeed(seed)
+                .setNumNodes(numNodes)
+                .setWeightGenerator(WeightGenerators.RANDOM)
+                .build();
+        final ConsensusImpl consensus = new ConsensusImpl(
+                createPlatformContext(
+                        null, builder -> builder.withValue("consensus.denseMemberArrays", denseMemberArrays)),
+                new NoOpConsensusMetrics(),
+                emitter.getGraphGenerator().getRoster());
+
+        final List<ConsensusRound> rounds = new ArrayList<>();
+        for (final EventImpl event : emitter.emitEvents(numEvents)) {
+            rounds.addAll(consensus.addEvent(event));
+        }
+        return rounds;
+    }
+
+    @ParameterizedTest
+    @CsvSource({"4, 2000, 0", "10, 5000, 1", "41, 10000, 2", "64, 10000, 3"})
+    void outputIsIdentical(final int numNodes, final int numEvents, final long seed) {
+        final List<ConsensusRound> expected = calculateConsensus(false, numNodes, numEvents, seed);
+        final List<ConsensusRound> actual = calculateConsensus(true, numNodes, numEvents, seed);
+
+        assertFalse(expected.isEmpty(), "the graph should be big enough to reach consensus");
+        assertEquals(expected.size(), actual.size(), "both should decide the same number of rounds");
+        for (int i = 0; i < expected.size(); i++) {
+            final ConsensusRound expectedRound = expected.get(i);
+            final ConsensusRound actualRound = actual.get(i);
+            assertEquals(expectedRound.getRoundNum(), actualRound.getRoundNum());
+            assertEquals(expectedRound.getSnapshot(), actualRound.getSnapshot());
+            assertEquals(expectedRound.getEventWindow(), actualRound.getEventWindow());
+            assertEquals(expectedRound.getEventCount(), actualRound.getEventCount());
+            for (int j = 0; j < expectedRound.getEventCount(); j++) {
+                final PlatformEvent expectedEvent = expectedRound.getConsensusEvents().get(j);
+                final PlatformEvent actualEvent = actualRound.getConsensusEvents().get(j);
+                assertEquals(expectedEvent.getHash(), actualEvent.getHash());
+                assertEquals(expectedEvent.getConsensusTimestamp(), actualEvent.getConsensusTimestamp());
+                assertEquals(expectedEvent.getConsensusOrder(), actualEvent.getConsensusOrder());
+            }
+        }
+    }
+}
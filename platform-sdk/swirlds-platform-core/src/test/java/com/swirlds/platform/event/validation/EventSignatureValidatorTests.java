@@ -5,6 +5,7 @@ import static org.hiero.base.utility.test.fixtures.RandomUtils.getRandomPrintSee
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
@@ -20,6 +21,7 @@ import com.swirlds.common.test.fixtures.platform.TestPlatformContextBuilder;
 import com.swirlds.platform.crypto.SignatureVerifier;
 import com.swirlds.platform.gossip.IntakeEventCounter;
 import com.swirlds.platform.test.fixtures.crypto.PreGeneratedX509Certs;
+import java.security.PublicKey;
 import java.security.cert.CertificateEncodingException;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -278,4 +280,37 @@ class EventSignatureValidatorTests {
         assertNull(validatorWithTrueVerifier.validateSignature(event));
         assertEquals(1, exitedIntakePipelineCount.get());
     }
+
+    @Test
+    @DisplayName("Public keys are decoded once per roster history")
+    void publicKeysAreReused() {
+        final List<PublicKey> verifiedKeys = new ArrayList<>();
+        final SignatureVerifier recordingVerifier = (data, signature, publicKey) -> {
+            verifiedKeys.add(publicKey);
+            return true;
+        };
+        final EventSignatureValidator validator = new DefaultEventSignatureValidator(
+                platformContext, recordingVerifier, rosterHistory, intakeEventCounter);
+
+        for (int i = 0; i < 3; i++) {
+            final PlatformEvent event = new TestingEventBuilder(random)
+                    .setCreatorId(CURRENT_ROSTER_NODE_ID)
+                    .setBirthRound(CURRENT_ROSTER_ROUND)
+                    .build();
+            assertNotNull(validator.validateSignature(event));
+        }
+        assertEquals(3, verifiedKeys.size());
+        assertSame(verifiedKeys.get(0), verifiedKeys.get(1));
+        assertSame(verifiedKeys.get(0), verifiedKeys.get(2));
+
+        // a new roster history must not be served stale keys, but the decoded key must still be equal
+        validator.updateRosterHistory(rosterHistory);
+        final PlatformEvent event = new TestingEventBuilder(random)
+                .setCreatorId(CURRENT_ROSTER_NODE_ID)
+                .setBirthRound(CURRENT_ROSTER_ROUND)
+                .build();
+        assertNotNull(validator.validateSignature(event));
+        assertEquals(verifiedKeys.get(0), verifiedKeys.get(3));
+        assertEquals(0, exitedIntakePipelineCount.get());
+    }
 }
@@ -0,0 +1,159 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.platform.gossip.sync;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.hedera.hapi.platform.event.GossipEvent;
+import com.swirlds.common.context.PlatformContext;
+import com.swirlds.common.test.fixtures.platform.TestPlatformContextBuilder;
+import com.swirlds.config.extensions.test.fixtures.TestConfigBuilder;
+import com.swirlds.platform.network.ByteConstants;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.hiero.base.utility.test.fixtures.RandomUtils;
+import org.hiero.consensus.model.test.fixtures.event.TestingEventBuilder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class EventCompressionTests {
+
+    private static PlatformContext context(final boolean compression, final int dictionarySize) {
+        return TestPlatformContextBuilder.create()
+                .withConfiguration(new TestConfigBuilder()
+                        .withValue("socket.eventCompression", compression)
+                        .withValue("socket.eventCompressionDictionarySize", dictionarySize)
+                        .withValue("socket.eventCompressionMinimumSize", 0)
+                        .getOrCreateConfig())
+                .build();
+    }
+
+    private static List<GossipEvent> events(final Random random, final int count) {
+        final List<GossipEvent> events = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            events.add(new TestingEventBuilder(random)
+                    .setAppTransactionCount(3)
+                    .build()
+                    .getGossipEvent());
+        }
+        return events;
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1024, 32 * 1024, 1024 * 1024})
+    void compressedEventsRoundTrip(final int dictionarySize) throws IOException {
+        final Random random = RandomUtils.getRandomPrintSeed();
+        final PlatformContext platformContext = context(true, dictionarySize);
+        final List<GossipEvent> events = events(random, 100);
+
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final SyncOutputStream out = SyncOutputStream.createSyncOutputStream(platformContext, bytes, 1024);
+        out.setEventCompressionDictionarySize(dictionarySize);
+        for (final GossipEvent event : events) {
+            out.writeEvent(event);
+            // the same event twice in a row is the best case for the dictionary
+            out.writeEvent(event);
+        }
+        out.flush();
+
+        final SyncInputStream in = SyncInputStream.createSyncInputStream(
+                platformContext, new ByteArrayInputStream(bytes.toByteArray()), 1024);
+        in.setEventCompressionDictionarySize(dictionarySize);
+        for (final GossipEvent event : events) {
+            for (int i = 0; i < 2; i++) {
+                assertEquals(ByteConstants.COMM_EVENT_NEXT_COMPRESSED, in.readByte());
+                assertEquals(event, in.readCompressedEvent());
+            }
+        }
+
+        final EventCompressionStats sent = out.getEventCompressionStats();
+        assertNotNull(sent);
+        final long uncompressed = sent.getAndResetUncompressedBytes();
+        final long encoded = sent.getAndResetEncodedBytes();
+        assertTrue(encoded <= uncompressed, "frames should never be bigger than the raw events");
+        if (dictionarySize >= 32 * 1024) {
+            assertTrue(encoded < uncompressed, "repeated events should compress with a dictionary");
+        }
+        assertEquals(uncompressed, in.getEventCompressionStats().getAndResetUncompressedBytes());
+        assertEquals(encoded, in.getEventCompressionStats().getAndResetEncodedBytes());
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void uncompressedEventsAreUnchanged(final boolean compressionOnReader) throws IOException {
+        final Random random = RandomUtils.getRandomPrintSeed();
+        final List<GossipEvent> events = events(random, 10);
+
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final SyncOutputStream out = SyncOutputStream.createSyncOutputStream(context(false, 0), bytes, 1024);
+        assertNull(out.getEventCompressionStats());
+        for (final GossipEvent event : events) {
+            out.writeEvent(event);
+        }
+        out.flush();
+
+        final SyncInputStream in = SyncInputStream.createSyncInputStream(
+                context(compressionOnReader, 1024), new ByteArrayInputStream(bytes.toByteArray()), 1024);
+        for (final GossipEvent event : events) {
+            assertEquals(ByteConstants.COMM_EVENT_NEXT, in.readByte());
+            assertEquals(event, in.readPbjRecord(GossipEvent.PROTOBUF));
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(bytes = {EventCompressor.CODEC_DEFLATE, EventCompressor.CODEC_DEFLATE_DICTIONARY, 42})
+    void malformedFramesAreRejected(final byte codec) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final SyncOutputStream out = SyncOutputStream.createSyncOutputStream(context(true, 1024), bytes, 1024);
+        out.writeByte(codec);
+        out.writeInt(100);
+        out.writeInt(4);
+        out.writeInt(0xDEADBEEF);
+        out.flush();
+
+        final SyncInputStream in = SyncInputStream.createSyncInputStream(
+                context(true, 1024), new ByteArrayInputStream(bytes.toByteArray()), 1024);
+        assertThrows(IOException.class, in::readCompressedEvent);
+    }
+
+    @Test
+    void mismatchedDictionariesAreRejected() throws IOException {
+        final Random random = RandomUtils.getRandomPrintSeed();
+        final PlatformContext platformContext = context(true, 1024);
+        final List<GossipEvent> events = events(random, 10);
+
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final SyncOutputStream out = SyncOutputStream.createSyncOutputStream(platformContext, bytes, 1024);
+        out.setEventCompressionDictionarySize(1024);
+        for (final GossipEvent event : events) {
+            out.writeEvent(event);
+        }
+        out.flush();
+
+        final SyncInputStream in = SyncInputStream.createSyncInputStream(
+                platformContext, new ByteArrayInputStream(bytes.toByteArray()), 1024);
+        in.setEventCompressionDictionarySize(2048);
+        // the first event is compressed without a dictionary, every later one must fail on the dictionary id
+        assertEquals(ByteConstants.COMM_EVENT_NEXT_COMPRESSED, in.readByte());
+        assertEquals(events.get(0), in.readCompressedEvent());
+        assertEquals(ByteConstants.COMM_EVENT_NEXT_COMPRESSED, in.readByte());
+        assertThrows(IOException.class, in::readCompressedEvent);
+    }
+
+    @Test
+    void dictionarySizeIsFixedOnceEventsFlow() throws IOException {
+        final Random random = RandomUtils.getRandomPrintSeed();
+        final SyncOutputStream out =
+                SyncOutputStream.createSyncOutputStream(context(true, 1024), new ByteArrayOutputStream(), 1024);
+        out.writeEvent(events(random, 1).get(0));
+        assertThrows(IllegalStateException.class, () -> out.setEventCompressionDictionarySize(1024));
+    }
+}
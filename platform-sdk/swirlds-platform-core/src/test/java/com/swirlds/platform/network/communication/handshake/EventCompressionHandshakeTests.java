@@ -0,0 +1,93 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.platform.network.communication.handshake;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.swirlds.base.utility.Pair;
+import com.swirlds.config.extensions.test.fixtures.TestConfigBuilder;
+import com.swirlds.platform.network.Connection;
+import com.swirlds.platform.network.SocketConfig;
+import com.swirlds.platform.network.protocol.ProtocolRunnable;
+import com.swirlds.platform.test.fixtures.sync.ConnectionFactory;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.IOException;
+import org.hiero.consensus.model.node.NodeId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link EventCompressionHandshake}
+ */
+class EventCompressionHandshakeTests {
+    private static final int OUR_DICTIONARY_SIZE = 4096;
+
+    private Connection theirConnection;
+    private Connection myConnection;
+
+    private ProtocolRunnable protocol;
+
+    private static void clearWriteFlush(@NonNull final Connection connection, final int dictionarySize)
+            throws IOException {
+        if (connection.getDis().available() > 0) {
+            connection.getDis().readInt();
+        }
+        connection.getDos().writeInt(dictionarySize);
+        connection.getDos().flush();
+    }
+
+    @BeforeEach
+    void setup() throws IOException {
+        final Pair<Connection, Connection> connections =
+                ConnectionFactory.createLocalConnections(NodeId.of(0L), NodeId.of(1));
+        myConnection = connections.left();
+        theirConnection = connections.right();
+
+        final SocketConfig socketConfig = new TestConfigBuilder()
+                .withValue("socket.eventCompressionDictionarySize", OUR_DICTIONARY_SIZE)
+                .getOrCreateConfig()
+                .getConfigData(SocketConfig.class);
+        protocol = new EventCompressionHandshake(socketConfig);
+        myConnection.getDos().setPeerCapabilities(VersionCompareHandshake.EVENT_COMPRESSION_CAPABILITY);
+    }
+
+    @Test
+    @DisplayName("We send our dictionary size to the peer")
+    void sendsOurDictionarySize() throws IOException {
+        clearWriteFlush(theirConnection, OUR_DICTIONARY_SIZE);
+        assertDoesNotThrow(() -> protocol.runProtocol(myConnection));
+        assertEquals(OUR_DICTIONARY_SIZE, theirConnection.getDis().readInt());
+    }
+
+    @Test
+    @DisplayName("They use a smaller or a bigger dictionary than us")
+    void differentDictionarySize() throws IOException {
+        clearWriteFlush(theirConnection, 1024);
+        assertDoesNotThrow(() -> protocol.runProtocol(myConnection));
+
+        clearWriteFlush(theirConnection, 2 * OUR_DICTIONARY_SIZE);
+        assertDoesNotThrow(() -> protocol.runProtocol(myConnection));
+
+        clearWriteFlush(theirConnection, 0);
+        assertDoesNotThrow(() -> protocol.runProtocol(myConnection));
+    }
+
+    @Test
+    @DisplayName("Nothing is exchanged with a peer without event compression")
+    void peerWithoutEventCompression() throws IOException {
+        myConnection.getDos().setPeerCapabilities(0);
+        assertDoesNotThrow(() -> protocol.runProtocol(myConnection));
+        assertEquals(0, theirConnection.getDis().available());
+        assertNull(myConnection.getDos().getEventCompressionStats());
+    }
+
+    @Test
+    @DisplayName("They send an invalid dictionary size")
+    void invalidDictionarySize() throws IOException {
+        clearWriteFlush(theirConnection, -1);
+        assertThrows(HandshakeException.class, () -> protocol.runProtocol(myConnection));
+    }
+}
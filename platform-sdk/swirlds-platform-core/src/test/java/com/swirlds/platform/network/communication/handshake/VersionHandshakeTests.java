@@ -2,6 +2,7 @@
 package com.swirlds.platform.network.communication.handshake;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import com.hedera.hapi.node.base.SemanticVersion;
@@ -29,10 +30,24 @@ class VersionHandshakeTests {
 
     private static void clearWriteFlush(@NonNull final Connection connection, @Nullable final SemanticVersion version)
             throws IOException {
+        clearWriteFlush(connection, version, null);
+    }
+
+    private static void clearWriteFlush(
+            @NonNull final Connection connection,
+            @Nullable final SemanticVersion version,
+            @Nullable final Integer capabilities)
+            throws IOException {
         if (connection.getDis().available() > 0) {
             connection.getDis().readPbjRecord(SemanticVersion.PROTOBUF);
         }
+        if (connection.getDis().available() > 0) {
+            connection.getDis().readInt();
+        }
         connection.getDos().writePbjRecord(version, SemanticVersion.PROTOBUF);
+        if (capabilities != null) {
+            connection.getDos().writeInt(capabilities);
+        }
         connection.getDos().flush();
     }
 
@@ -52,13 +67,35 @@ class VersionHandshakeTests {
     @DisplayName("They have the same software version as us")
     void sameVersion() throws IOException {
         SemanticVersion version = SemanticVersion.newBuilder().major(5).build();
-        clearWriteFlush(theirConnection, version);
+        clearWriteFlush(theirConnection, version, 0);
         assertDoesNotThrow(() -> protocolThrowingOnMismatch.runProtocol(myConnection));
 
-        clearWriteFlush(theirConnection, version);
+        clearWriteFlush(theirConnection, version, 0);
         assertDoesNotThrow(() -> protocolToleratingMismatch.runProtocol(myConnection));
     }
 
+    @Test
+    @DisplayName("Capabilities are only exchanged with peers that have the same software version")
+    void capabilities() throws IOException {
+        final SemanticVersion ourVersion = SemanticVersion.newBuilder().major(5).build();
+        final ProtocolRunnable protocol = new VersionCompareHandshake(
+                ourVersion, false, VersionCompareHandshake.EVENT_COMPRESSION_CAPABILITY);
+
+        clearWriteFlush(theirConnection, ourVersion, VersionCompareHandshake.EVENT_COMPRESSION_CAPABILITY);
+        assertDoesNotThrow(() -> protocol.runProtocol(myConnection));
+        assertEquals(VersionCompareHandshake.EVENT_COMPRESSION_CAPABILITY, myConnection.getDos().getPeerCapabilities());
+        assertEquals(ourVersion, theirConnection.getDis().readPbjRecord(SemanticVersion.PROTOBUF));
+        assertEquals(VersionCompareHandshake.EVENT_COMPRESSION_CAPABILITY, theirConnection.getDis().readInt());
+
+        // an older peer only sends its version, and only receives ours
+        myConnection.getDos().setPeerCapabilities(0);
+        clearWriteFlush(theirConnection, SemanticVersion.newBuilder().major(4).build());
+        assertDoesNotThrow(() -> protocol.runProtocol(myConnection));
+        assertEquals(0, myConnection.getDos().getPeerCapabilities());
+        assertEquals(ourVersion, theirConnection.getDis().readPbjRecord(SemanticVersion.PROTOBUF));
+        assertEquals(0, theirConnection.getDis().available());
+    }
+
     @Test
     @DisplayName("They have a different software version than us")
     void differentVersion() throws IOException {
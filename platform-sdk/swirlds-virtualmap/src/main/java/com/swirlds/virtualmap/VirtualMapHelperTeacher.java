@@ -0,0 +1,123 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.virtualmap;
+
+import static com.swirlds.logging.legacy.LogMarker.RECONNECT;
+
+import com.swirlds.base.time.Time;
+import com.swirlds.common.io.streams.MerkleDataInputStream;
+import com.swirlds.common.io.streams.MerkleDataOutputStream;
+import com.swirlds.common.merkle.MerkleNode;
+import com.swirlds.common.merkle.route.MerkleRoute;
+import com.swirlds.common.merkle.synchronization.config.ReconnectConfig;
+import com.swirlds.common.merkle.synchronization.streams.HelperTeacherStreams;
+import com.swirlds.common.merkle.synchronization.utility.MerkleSynchronizationException;
+import com.swirlds.common.merkle.synchronization.views.TeacherTreeView;
+import com.swirlds.common.threading.manager.ThreadManager;
+import com.swirlds.common.threading.pool.StandardWorkGroup;
+import com.swirlds.virtualmap.internal.merkle.VirtualRootNode;
+import com.swirlds.virtualmap.internal.reconnect.TeacherPullVirtualTreeView;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.IOException;
+import java.util.Objects;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Serves a share of a learner's requests for virtual maps as a helper teacher during a reconnect, see {@link
+ * com.swirlds.common.merkle.synchronization.streams.HelperTeacherStreams}. The helper must hold the same state as
+ * the main teacher of the reconnect, and virtual maps must be configured to use one of the pull reconnect modes.
+ *
+ * <p>For every tree requested by the learner, the virtual map at the requested route is looked up in the state, and
+ * a teacher view for the map is created. Trees are served one at a time, until the learner reports there are no more
+ * trees.
+ */
+public final class VirtualMapHelperTeacher {
+
+    private static final Logger logger = LogManager.getLogger(VirtualMapHelperTeacher.class);
+
+    private static final String WORK_GROUP_NAME = "reconnect-helper-teacher";
+
+    private final ThreadManager threadManager;
+    private final Time time;
+    private final ReconnectConfig reconnectConfig;
+    private final MerkleNode state;
+    private final MerkleDataInputStream in;
+    private final MerkleDataOutputStream out;
+    private final Runnable breakConnection;
+
+    /**
+     * Create a new helper teacher.
+     *
+     * @param threadManager
+     * 		responsible for managing thread lifecycles
+     * @param time
+     * 		the wall clock time
+     * @param reconnectConfig
+     * 		the reconnect configuration
+     * @param state
+     * 		the state to serve virtual maps from, must be the same state as on the main teacher
+     * @param in
+     * 		the input stream from the learner
+     * @param out
+     * 		the output stream to the learner
+     * @param breakConnection
+     * 		a method that breaks the connection to the learner, used if there is a failure
+     */
+    public VirtualMapHelperTeacher(
+            @NonNull final ThreadManager threadManager,
+            @NonNull final Time time,
+            @NonNull final ReconnectConfig reconnectConfig,
+            @NonNull final MerkleNode state,
+            @NonNull final MerkleDataInputStream in,
+            @NonNull final MerkleDataOutputStream out,
+            @NonNull final Runnable breakConnection) {
+        this.threadManager = Objects.requireNonNull(threadManager);
+        this.time = Objects.requireNonNull(time);
+        this.reconnectConfig = Objects.requireNonNull(reconnectConfig);
+        this.state = Objects.requireNonNull(state);
+        this.in = Objects.requireNonNull(in);
+        this.out = Objects.requireNonNull(out);
+        this.breakConnection = Objects.requireNonNull(breakConnection);
+    }
+
+    /**
+     * Serve trees requested by the learner, until the learner reports there are no more trees.
+     *
+     * @throws IOException
+     * 		if an I/O error occurs
+     * @throws InterruptedException
+     * 		if the thread is interrupted
+     */
+    public void serve() throws IOException, InterruptedException {
+        while (true) {
+            final MerkleRoute route = HelperTeacherStreams.readRoute(in);
+            if (route == null) {
+                logger.info(RECONNECT.getMarker(), "Helper teacher is complete as requested by the learner");
+                return;
+            }
+            serveTree(route);
+        }
+    }
+
+    private void serveTree(@NonNull final MerkleRoute route) throws InterruptedException, IOException {
+        final MerkleNode node = state.getNodeAtRoute(route);
+        if (!(node instanceof VirtualRootNode<?, ?> root)) {
+            throw new MerkleSynchronizationException("No virtual map in the helper state at route " + route);
+        }
+        final TeacherTreeView<Long> view = root.buildTeacherView(reconnectConfig);
+        if (!(view instanceof TeacherPullVirtualTreeView<?, ?> pullView)) {
+            view.close();
+            throw new MerkleSynchronizationException("Helper teachers require a pull reconnect mode");
+        }
+        logger.info(RECONNECT.getMarker(), "Helper teacher is serving the virtual map at route {}", route);
+        try (pullView) {
+            pullView.waitUntilReady();
+            final StandardWorkGroup workGroup = new StandardWorkGroup(threadManager, WORK_GROUP_NAME, breakConnection);
+            pullView.startHelperTeacherTasks(time, workGroup, in, out);
+            workGroup.waitForTermination();
+            if (workGroup.hasExceptions()) {
+                throw new MerkleSynchronizationException("Helper teacher failed to serve route " + route);
+            }
+        }
+    }
+}
@@ -29,6 +29,19 @@ import java.time.Duration;
  *      During reconnect, virtual nodes are periodically flushed to disk after they are hashed. This
  *      interval indicates the number of nodes to hash before they are flushed to disk. If zero, all
  *      hashed nodes are flushed in the end of reconnect hashing only.
+ * @param reconnectCheckpointMaxLeaves
+ *      The maximum number of leaves received from a teacher that a learner keeps in memory per virtual map, so that
+ *      a failed reconnect can be resumed without transferring them again. A leaf from the checkpoint is only reused
+ *      if the next teacher reports the same leaf hash at the same path. Only used by the pull reconnect modes.
+ *      If zero, no checkpoint is kept. If the value is changed, the next reconnect attempt of a map applies it to
+ *      the checkpoint of that map, dropping leaves if the checkpoint has become too big.
+ * @param reconnectCheckpointMaxRounds
+ *      The maximum number of rounds, counted as fast copies of the learner's virtual map, a reconnect checkpoint is
+ *      kept for. If the map a reconnect attempt starts from is more copies away from the map the checkpoint was
+ *      created for, the checkpoint is discarded.
+ * @param reconnectCheckpointMaxAge
+ *      The maximum time a reconnect checkpoint is kept for after it was created. Expired checkpoints of all maps
+ *      are discarded when the next reconnect attempt of any map starts.
  * @param percentCleanerThreads
  * 		Gets the percentage (from 0.0 to 100.0) of available processors to devote to cache
  * 		cleaner threads. Ignored if an explicit number of threads is given via {@code virtualMap.numCleanerThreads}.
@@ -77,6 +90,9 @@ public record VirtualMapConfig(
         @Min(1) @Max(64) @ConfigProperty(defaultValue = "3") int virtualHasherChunkHeight,
         @ConfigProperty(defaultValue = PUSH) String reconnectMode,
         @Min(0) @ConfigProperty(defaultValue = "500000") int reconnectFlushInterval,
+        @Min(0) @ConfigProperty(defaultValue = "0") int reconnectCheckpointMaxLeaves,
+        @Min(0) @ConfigProperty(defaultValue = "100") long reconnectCheckpointMaxRounds,
+        @ConfigProperty(defaultValue = "10m") Duration reconnectCheckpointMaxAge,
         @Min(0) @Max(100) @ConfigProperty(defaultValue = "25.0")
                 double percentCleanerThreads, // FUTURE WORK: We need to add min/max support for double values
         @Min(-1) @ConfigProperty(defaultValue = "-1") int numCleanerThreads,
@@ -63,6 +63,7 @@ import com.swirlds.virtualmap.internal.reconnect.ConcurrentBlockingIterator;
 import com.swirlds.virtualmap.internal.reconnect.LearnerPullVirtualTreeView;
 import com.swirlds.virtualmap.internal.reconnect.LearnerPushVirtualTreeView;
 import com.swirlds.virtualmap.internal.reconnect.NodeTraversalOrder;
+import com.swirlds.virtualmap.internal.reconnect.ReconnectCheckpoint;
 import com.swirlds.virtualmap.internal.reconnect.ReconnectHashLeafFlusher;
 import com.swirlds.virtualmap.internal.reconnect.ReconnectHashListener;
 import com.swirlds.virtualmap.internal.reconnect.ReconnectNodeRemover;
@@ -86,6 +87,7 @@ import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
 import java.util.stream.Stream;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -1521,6 +1523,15 @@ public final class VirtualRootNode<K extends VirtualKey, V extends VirtualValue>
                 originalState.getFirstLeafPath(),
                 originalState.getLastLeafPath(),
                 reconnectFlusher);
+        final int checkpointMaxLeaves = virtualMapConfig.reconnectCheckpointMaxLeaves();
+        final ReconnectCheckpoint<K, V> checkpoint = checkpointMaxLeaves > 0
+                ? ReconnectCheckpoint.forMap(
+                        originalState.getLabel(),
+                        originalMap.getFastCopyVersion(),
+                        checkpointMaxLeaves,
+                        virtualMapConfig.reconnectCheckpointMaxRounds(),
+                        virtualMapConfig.reconnectCheckpointMaxAge())
+                : null;
         return switch (virtualMapConfig.reconnectMode()) {
             case VirtualMapReconnectMode.PUSH -> new LearnerPushVirtualTreeView<>(
                     reconnectConfig, this, originalMap.records, originalState, reconnectState, nodeRemover, mapStats);
@@ -1534,7 +1545,8 @@ public final class VirtualRootNode<K extends VirtualKey, V extends VirtualValue>
                         reconnectState,
                         nodeRemover,
                         topToBottom,
-                        mapStats);
+                        mapStats,
+                        checkpoint);
             }
             case VirtualMapReconnectMode.PULL_TWO_PHASE_PESSIMISTIC -> {
                 final NodeTraversalOrder twoPhasePessimistic = new TwoPhasePessimisticTraversalOrder();
@@ -1546,7 +1558,8 @@ public final class VirtualRootNode<K extends VirtualKey, V extends VirtualValue>
                         reconnectState,
                         nodeRemover,
                         twoPhasePessimistic,
-                        mapStats);
+                        mapStats,
+                        checkpoint);
             }
             default -> throw new UnsupportedOperationException(
                     "Unknown reconnect mode: " + virtualMapConfig.reconnectMode());
@@ -1586,9 +1599,25 @@ public final class VirtualRootNode<K extends VirtualKey, V extends VirtualValue>
     }
 
     public void prepareReconnectHashing(final long firstLeafPath, final long lastLeafPath) {
+        prepareReconnectHashing(firstLeafPath, lastLeafPath, null);
+    }
+
+    /**
+     * Starts the thread that hashes the tree received during reconnect.
+     *
+     * @param firstLeafPath the first leaf path of the received tree
+     * @param lastLeafPath the last leaf path of the received tree
+     * @param nodeHashedObserver if not null, notified of every node hash on the hashing thread. If it throws,
+     *                           hashing fails, and so does the reconnect
+     */
+    public void prepareReconnectHashing(
+            final long firstLeafPath,
+            final long lastLeafPath,
+            @Nullable final BiConsumer<Long, Hash> nodeHashedObserver) {
         assert reconnectFlusher != null : "Cannot prepare reconnect hashing, since reconnect is not started";
         // The hash listener will be responsible for flushing stuff to the reconnect data source
-        final ReconnectHashListener<K, V> hashListener = new ReconnectHashListener<>(reconnectFlusher);
+        final ReconnectHashListener<K, V> hashListener =
+                new ReconnectHashListener<>(reconnectFlusher, nodeHashedObserver);
 
         // This background thread will be responsible for hashing the tree and sending the
         // data to the hash listener to flush.
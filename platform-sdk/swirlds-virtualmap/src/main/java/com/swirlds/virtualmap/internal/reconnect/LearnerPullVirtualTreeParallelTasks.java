@@ -0,0 +1,283 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.virtualmap.internal.reconnect;
+
+import static com.swirlds.logging.legacy.LogMarker.RECONNECT;
+
+import com.swirlds.common.merkle.route.MerkleRoute;
+import com.swirlds.common.merkle.synchronization.LearningSynchronizer;
+import com.swirlds.common.merkle.synchronization.config.ReconnectConfig;
+import com.swirlds.common.merkle.synchronization.streams.AsyncOutputStream;
+import com.swirlds.common.merkle.synchronization.streams.HelperTeacherStreams;
+import com.swirlds.common.merkle.synchronization.utility.MerkleSynchronizationException;
+import com.swirlds.common.threading.pool.StandardWorkGroup;
+import com.swirlds.virtualmap.internal.Path;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.hiero.base.crypto.DigestType;
+import org.hiero.base.crypto.Hash;
+import org.hiero.base.io.streams.SerializableDataInputStream;
+
+/**
+ * Learner tasks to receive a virtual tree from a teacher and one or more helper teachers at the same time.
+ *
+ * <p>Requests are sent in the order defined by the {@link NodeTraversalOrder}, just like in {@link
+ * LearnerPullVirtualTreeSendTask}, but every request is sent to the teacher or one of the helpers, depending on
+ * the path, see {@link ReconnectPathRanges}. Responses are read from all streams in parallel, but applied to the
+ * learner view on a single thread, in the order requests were sent. This way, the traversal order and the learner
+ * hasher see exactly the same sequence of nodes as if the tree was received from a single teacher.
+ *
+ * <p>Before any requests are sent to a helper, the learner sends it the route of the tree and, once the root
+ * response from the teacher is received, the roots of the ranges assigned to the helper. The helper replies with
+ * the hashes of these range roots. When the tree is received, these hashes are checked against the hashes of the
+ * reconstructed tree, so a helper can't make the learner accept a tree different from the tree of the teacher
+ * without the reconnect failing. The root hash of the tree is verified against the teacher as usual.
+ *
+ * <p>Exchange with a helper teacher for a single tree:
+ * <ul>
+ *     <li>learner: tree route, see {@link HelperTeacherStreams#writeRoute(MerkleRoute)}</li>
+ *     <li>learner: number of range roots, followed by range root paths</li>
+ *     <li>helper: range root hashes</li>
+ *     <li>learner: {@link PullVirtualTreeRequest}s, the last one is for {@link Path#INVALID_PATH}</li>
+ *     <li>helper: {@link PullVirtualTreeResponse}s, one for every request, except the last one</li>
+ * </ul>
+ */
+final class LearnerPullVirtualTreeParallelTasks {
+
+    private static final Logger logger = LogManager.getLogger(LearnerPullVirtualTreeParallelTasks.class);
+
+    private static final String SEND_TASK_NAME = "reconnect-learner-sender";
+    private static final String RECEIVE_TASK_NAME = "reconnect-learner-receiver";
+    private static final String APPLY_TASK_NAME = "reconnect-learner-applier";
+
+    // Marks the end of requestStreams
+    private static final int NO_STREAM = -1;
+
+    private final LearningSynchronizer learningSynchronizer;
+    private final StandardWorkGroup workGroup;
+    private final LearnerPullVirtualTreeView view;
+    private final NodeTraversalOrder traversalOrder;
+    private final MerkleRoute route;
+
+    // Stream 0 is the stream to the teacher, stream i > 0 is the stream to helper i - 1
+    private final int streamCount;
+    private final List<SerializableDataInputStream> inputStreams = new ArrayList<>();
+    private final AsyncOutputStream<PullVirtualTreeRequest> teacherOut;
+    private final List<HelperTeacherStreams> helperTeachers;
+
+    // Max time to wait for path 0 (virtual root) response from the teacher
+    private final Duration rootResponseTimeout;
+
+    // The sending task thread, unparked whenever a response is applied, as the traversal order may then have
+    // more paths to send
+    private volatile Thread sender;
+
+    // Indicates if a response for path 0 (virtual root) has been received and applied
+    private final CountDownLatch rootResponseReceived = new CountDownLatch(1);
+
+    // Indicates that range roots have been exchanged with all helpers, and responses to requests can be
+    // read from helper streams
+    private final CountDownLatch helpersReady = new CountDownLatch(1);
+
+    // Paths of requests sent to every stream, followed by Path.INVALID_PATH once the sending task is done. Added
+    // to in the sending task, taken from in the receiving tasks
+    private final List<BlockingQueue<Long>> sentRequests = new ArrayList<>();
+
+    // Responses read from every stream, but not applied to the view yet
+    private final List<BlockingQueue<PullVirtualTreeResponse>> receivedResponses = new ArrayList<>();
+
+    // Stream indices of all sent requests, except the root request, in the order the requests were sent,
+    // followed by NO_STREAM once the sending task is done
+    private final BlockingQueue<Integer> requestStreams = new LinkedBlockingQueue<>();
+
+    LearnerPullVirtualTreeParallelTasks(
+            @NonNull final ReconnectConfig reconnectConfig,
+            @NonNull final LearningSynchronizer learningSynchronizer,
+            @NonNull final StandardWorkGroup workGroup,
+            @NonNull final SerializableDataInputStream teacherIn,
+            @NonNull final AsyncOutputStream<PullVirtualTreeRequest> teacherOut,
+            @NonNull final LearnerPullVirtualTreeView view,
+            @NonNull final NodeTraversalOrder traversalOrder,
+            @NonNull final MerkleRoute route) {
+        this.learningSynchronizer = learningSynchronizer;
+        this.workGroup = workGroup;
+        this.view = view;
+        this.traversalOrder = traversalOrder;
+        this.route = route;
+        this.teacherOut = teacherOut;
+        this.helperTeachers = learningSynchronizer.getHelperTeachers();
+        this.streamCount = helperTeachers.size() + 1;
+        this.rootResponseTimeout = reconnectConfig.pullLearnerRootResponseTimeout();
+
+        inputStreams.add(teacherIn);
+        helperTeachers.forEach(helper -> inputStreams.add(helper.in()));
+        for (int i = 0; i < streamCount; i++) {
+            sentRequests.add(new LinkedBlockingQueue<>());
+            receivedResponses.add(new ArrayBlockingQueue<>(reconnectConfig.asyncStreamBufferSize()));
+        }
+    }
+
+    void exec() {
+        for (int i = 0; i < streamCount; i++) {
+            final int stream = i;
+            workGroup.execute(RECEIVE_TASK_NAME, () -> receive(stream));
+        }
+        workGroup.execute(APPLY_TASK_NAME, this::apply);
+        workGroup.execute(SEND_TASK_NAME, this::send);
+    }
+
+    private void send() {
+        final List<AsyncOutputStream<PullVirtualTreeRequest>> outs = new ArrayList<>(streamCount);
+        outs.add(teacherOut);
+        sender = Thread.currentThread();
+        try {
+            // Helpers can prepare their trees while the learner waits for the root response from the teacher
+            for (final HelperTeacherStreams helper : helperTeachers) {
+                helper.writeRoute(route);
+            }
+
+            // Send a request for the root node first. The response will contain virtual tree path range
+            teacherOut.sendAsync(new PullVirtualTreeRequest(Path.ROOT_PATH, new Hash()));
+            view.getMapStats().incrementTransfersFromLearner();
+            sentRequests.get(0).add(Path.ROOT_PATH);
+            if (!rootResponseReceived.await(rootResponseTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new MerkleSynchronizationException("Timed out waiting for root node response from the teacher");
+            }
+
+            final ReconnectPathRanges ranges = new ReconnectPathRanges(
+                    streamCount, view.reconnectState.getFirstLeafPath(), view.reconnectState.getLastLeafPath());
+            for (int i = 1; i < streamCount; i++) {
+                final HelperTeacherStreams helper = helperTeachers.get(i - 1);
+                exchangeRangeRoots(helper, i, ranges.getRangeRoots(i));
+                final AsyncOutputStream<PullVirtualTreeRequest> out =
+                        learningSynchronizer.buildOutputStream(workGroup, helper.out());
+                out.start();
+                outs.add(out);
+            }
+            helpersReady.countDown();
+
+            while (true) {
+                final long path = traversalOrder.getNextPathToSend();
+                logger.debug(RECONNECT.getMarker(), "Learner send path: " + path);
+                if (path < Path.INVALID_PATH) {
+                    // nothing to send until more responses are applied
+                    LockSupport.park(this);
+                    if (Thread.interrupted()) {
+                        throw new InterruptedException();
+                    }
+                    continue;
+                }
+                if (path == Path.INVALID_PATH) {
+                    for (final AsyncOutputStream<PullVirtualTreeRequest> out : outs) {
+                        out.sendAsync(new PullVirtualTreeRequest(Path.INVALID_PATH, null));
+                        view.getMapStats().incrementTransfersFromLearner();
+                    }
+                    view.allRequestsSent();
+                    break;
+                }
+                final int stream = ranges.getStream(path);
+                outs.get(stream).sendAsync(new PullVirtualTreeRequest(path, view.getNodeHashToRequest(path)));
+                view.getMapStats().incrementTransfersFromLearner();
+                requestStreams.add(stream);
+                sentRequests.get(stream).add(path);
+            }
+            logger.debug(RECONNECT.getMarker(), "Learner send done");
+        } catch (final InterruptedException ex) {
+            logger.warn(RECONNECT.getMarker(), "Learner's sending task interrupted");
+            Thread.currentThread().interrupt();
+        } catch (final Exception ex) {
+            throw new MerkleSynchronizationException("Exception in the learner's sending task", ex);
+        } finally {
+            outs.forEach(AsyncOutputStream::close);
+            helpersReady.countDown();
+            sentRequests.forEach(requests -> requests.add(Path.INVALID_PATH));
+            requestStreams.add(NO_STREAM);
+        }
+    }
+
+    private void exchangeRangeRoots(final HelperTeacherStreams helper, final int stream, final long[] rangeRoots)
+            throws IOException {
+        helper.out().writeInt(rangeRoots.length);
+        for (final long rangeRoot : rangeRoots) {
+            helper.out().writeLong(rangeRoot);
+        }
+        helper.out().flush();
+        for (final long rangeRoot : rangeRoots) {
+            final byte[] hashBytes = new byte[DigestType.SHA_384.digestLength()];
+            if (VirtualReconnectUtils.completelyRead(helper.in(), hashBytes) != hashBytes.length) {
+                throw new IOException("Failed to read range root hash from helper teacher " + stream);
+            }
+            view.expectRangeHash(rangeRoot, new Hash(hashBytes, DigestType.SHA_384), stream);
+        }
+    }
+
+    private void receive(final int stream) {
+        final SerializableDataInputStream in = inputStreams.get(stream);
+        final BlockingQueue<Long> requests = sentRequests.get(stream);
+        final BlockingQueue<PullVirtualTreeResponse> received = receivedResponses.get(stream);
+        try {
+            if (stream != 0) {
+                helpersReady.await();
+            }
+            while (true) {
+                final long path = requests.take();
+                if (path == Path.INVALID_PATH) {
+                    break;
+                }
+                if (path == Path.ROOT_PATH) {
+                    // the root response is applied right away, it's needed to start the traversal
+                    final PullVirtualTreeResponse response = new PullVirtualTreeResponse(view);
+                    response.deserialize(in, 0);
+                    view.getMapStats().incrementTransfersFromTeacher();
+                    rootResponseReceived.countDown();
+                } else {
+                    final PullVirtualTreeResponse response = new PullVirtualTreeResponse(view, true);
+                    response.deserialize(in, 0);
+                    logger.debug(RECONNECT.getMarker(), "Learner receive path: " + response.getPath());
+                    received.put(response);
+                }
+            }
+            logger.debug(RECONNECT.getMarker(), "Learner receive done, stream {}", stream);
+        } catch (final InterruptedException ex) {
+            logger.warn(RECONNECT.getMarker(), "Learner's receiving task interrupted");
+            Thread.currentThread().interrupt();
+        } catch (final Exception ex) {
+            throw new MerkleSynchronizationException("Exception in the learner's receiving task", ex);
+        }
+    }
+
+    private void apply() {
+        try (view) {
+            while (true) {
+                final int stream = requestStreams.take();
+                if (stream == NO_STREAM) {
+                    break;
+                }
+                final PullVirtualTreeResponse response = receivedResponses.get(stream).take();
+                // the learner tree is notified about the new response here
+                response.apply();
+                view.getMapStats().incrementTransfersFromTeacher();
+                LockSupport.unpark(sender);
+            }
+            if (!workGroup.hasExceptions()) {
+                view.allResponsesReceived();
+            }
+            logger.debug(RECONNECT.getMarker(), "Learner apply done");
+        } catch (final InterruptedException ex) {
+            logger.warn(RECONNECT.getMarker(), "Learner's applying task interrupted");
+            Thread.currentThread().interrupt();
+        } catch (final Exception ex) {
+            throw new MerkleSynchronizationException("Exception in the learner's applying task", ex);
+        }
+    }
+}
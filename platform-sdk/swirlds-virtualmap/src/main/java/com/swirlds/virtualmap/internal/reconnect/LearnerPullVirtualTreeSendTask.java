@@ -111,10 +111,11 @@ public class LearnerPullVirtualTreeSendTask {
                     Thread.onSpinWait();
                     continue;
                 }
-                final Hash hash = path == Path.INVALID_PATH ? null : view.getNodeHash(path);
+                final Hash hash = path == Path.INVALID_PATH ? null : view.getNodeHashToRequest(path);
                 out.sendAsync(new PullVirtualTreeRequest(path, hash));
                 view.getMapStats().incrementTransfersFromLearner();
                 if (path == Path.INVALID_PATH) {
+                    view.allRequestsSent();
                     break;
                 }
                 responsesExpected.incrementAndGet();
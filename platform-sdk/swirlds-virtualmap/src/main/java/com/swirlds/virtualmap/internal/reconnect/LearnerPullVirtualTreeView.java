@@ -1,6 +1,7 @@
 // SPDX-License-Identifier: Apache-2.0
 package com.swirlds.virtualmap.internal.reconnect;
 
+import static com.swirlds.logging.legacy.LogMarker.RECONNECT;
 import static com.swirlds.virtualmap.internal.Path.ROOT_PATH;
 
 import com.swirlds.common.io.streams.MerkleDataInputStream;
@@ -23,13 +24,18 @@ import com.swirlds.virtualmap.internal.RecordAccessor;
 import com.swirlds.virtualmap.internal.VirtualStateAccessor;
 import com.swirlds.virtualmap.internal.merkle.VirtualRootNode;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
 import java.io.IOException;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.hiero.base.crypto.Cryptography;
 import org.hiero.base.crypto.Hash;
 import org.hiero.base.io.streams.SerializableDataInputStream;
@@ -52,6 +58,8 @@ import org.hiero.base.io.streams.SerializableDataOutputStream;
 public final class LearnerPullVirtualTreeView<K extends VirtualKey, V extends VirtualValue>
         extends VirtualTreeViewBase<K, V> implements LearnerTreeView<Long> {
 
+    private static final Logger logger = LogManager.getLogger(LearnerPullVirtualTreeView.class);
+
     /**
      * Reconnect configuration.
      */
@@ -85,6 +93,45 @@ public final class LearnerPullVirtualTreeView<K extends VirtualKey, V extends Vi
      */
     private boolean firstNodeResponse = true;
 
+    /**
+     * Leaves received by previous, incomplete reconnects of this map. May be null, if checkpoints are disabled.
+     */
+    @Nullable
+    private final ReconnectCheckpoint<K, V> checkpoint;
+
+    /**
+     * The number of leaves in the checkpoint when this reconnect started.
+     */
+    private final int checkpointLeavesAtStart;
+
+    /**
+     * The number of checkpointed leaves confirmed by the teacher, and so not transferred again.
+     */
+    private long checkpointLeavesReused = 0;
+
+    /**
+     * The number of leaves received or confirmed clean so far. Only updated on the receiving thread.
+     */
+    private long completedLeaves = 0;
+
+    /**
+     * Set by the sending task once the traversal is complete and no more requests will be sent.
+     */
+    private volatile boolean allRequestsSent = false;
+
+    /**
+     * Set by the receiving task once responses to all requests have been received.
+     */
+    private volatile boolean allResponsesReceived = false;
+
+    /**
+     * Hashes of range roots reported by helper teachers, by range root path, that haven't been verified yet.
+     * Only used when the tree is received from a teacher and one or more helper teachers.
+     */
+    private final Map<Long, ExpectedRangeHash> expectedRangeHashes = new ConcurrentHashMap<>();
+
+    private record ExpectedRangeHash(Hash hash, int helper) {}
+
     /**
      * Create a new {@link LearnerPullVirtualTreeView}.
      *
@@ -102,6 +149,8 @@ public final class LearnerPullVirtualTreeView<K extends VirtualKey, V extends Vi
      * 		Cannot be null.
      * @param mapStats
      *      A ReconnectMapStats object to collect reconnect metrics
+     * @param checkpoint
+     *      Leaves received by previous, incomplete reconnects of this map, or null if checkpoints are disabled
      */
     public LearnerPullVirtualTreeView(
             final ReconnectConfig reconnectConfig,
@@ -111,13 +160,16 @@ public final class LearnerPullVirtualTreeView<K extends VirtualKey, V extends Vi
             final VirtualStateAccessor reconnectState,
             final ReconnectNodeRemover<K, V> nodeRemover,
             final NodeTraversalOrder traversalOrder,
-            @NonNull final ReconnectMapStats mapStats) {
+            @NonNull final ReconnectMapStats mapStats,
+            @Nullable final ReconnectCheckpoint<K, V> checkpoint) {
         super(root, originalState, reconnectState);
         this.reconnectConfig = reconnectConfig;
         this.originalRecords = Objects.requireNonNull(originalRecords);
         this.nodeRemover = nodeRemover;
         this.traversalOrder = traversalOrder;
         this.mapStats = mapStats;
+        this.checkpoint = checkpoint;
+        this.checkpointLeavesAtStart = checkpoint == null ? 0 : checkpoint.size();
     }
 
     @Override
@@ -134,6 +186,22 @@ public final class LearnerPullVirtualTreeView<K extends VirtualKey, V extends Vi
                 learningSynchronizer.buildOutputStream(workGroup, outputStream);
         out.start();
 
+        if (!learningSynchronizer.getHelperTeachers().isEmpty()) {
+            reconstructedRoot.set(0L);
+            assert traversalOrder != null;
+            new LearnerPullVirtualTreeParallelTasks(
+                            reconnectConfig,
+                            learningSynchronizer,
+                            workGroup,
+                            inputStream,
+                            out,
+                            this,
+                            traversalOrder,
+                            root.getRoute())
+                    .exec();
+            return;
+        }
+
         final AtomicBoolean senderIsFinished = new AtomicBoolean();
         final CountDownLatch rootResponseReceived = new CountDownLatch(1);
         final AtomicLong expectedResponses = new AtomicLong(0);
@@ -188,7 +256,7 @@ public final class LearnerPullVirtualTreeView<K extends VirtualKey, V extends Vi
             if (firstNodeResponse) {
                 reconnectState.setFirstLeafPath(firstLeafPath);
                 reconnectState.setLastLeafPath(lastLeafPath);
-                root.prepareReconnectHashing(firstLeafPath, lastLeafPath);
+                root.prepareReconnectHashing(firstLeafPath, lastLeafPath, this::nodeHashed);
                 nodeRemover.setPathInformation(firstLeafPath, lastLeafPath);
                 traversalOrder.start(firstLeafPath, lastLeafPath, nodeCount);
                 firstNodeResponse = false;
@@ -197,19 +265,187 @@ public final class LearnerPullVirtualTreeView<K extends VirtualKey, V extends Vi
                 }
             }
         }
+        applyNode(path, isClean, readLeaf(in, path, isClean));
+    }
+
+    /**
+     * Reads the leaf record of a virtual node from the input stream, without applying it to this view. This
+     * method may be called on any thread once the root node has been read with {@link #readNode}. The node
+     * must then be applied with {@link #applyNode}.
+     *
+     * @param in the input stream to read from
+     * @param path the virtual path, other than the root path
+     * @param isClean indicates that the node with the given path is the same on the learner and teacher
+     * @return the leaf record, if the node is a dirty leaf, or null otherwise
+     * @throws IOException if an I/O error occurs
+     */
+    @Nullable
+    VirtualLeafRecord<K, V> readLeaf(final SerializableDataInputStream in, final long path, final boolean isClean)
+            throws IOException {
+        assert !firstNodeResponse : "Root node must be the first node received from the teacher";
+        if (isClean || !isLeaf(path)) {
+            return null;
+        }
+        return in.readSerializable(false, VirtualLeafRecord::new);
+    }
+
+    /**
+     * Applies a received virtual node to this view. Nodes must be applied on a single thread, in the order
+     * the requests for them were sent to the teacher.
+     *
+     * @param path the virtual path
+     * @param isClean indicates that the node with the given path is the same on the learner and teacher
+     * @param receivedLeaf the leaf record read by {@link #readLeaf}, if the node is a dirty leaf
+     */
+    void applyNode(final long path, final boolean isClean, @Nullable final VirtualLeafRecord<K, V> receivedLeaf) {
         assert !firstNodeResponse : "Root node must be the first node received from the teacher";
         final boolean isLeaf = isLeaf(path);
-        traversalOrder.nodeReceived(path, isClean);
+
+        // A clean leaf that is in the checkpoint was requested with the checkpointed hash, see
+        // getNodeHashToRequest(), so the teacher has confirmed the checkpointed leaf, not the original one
+        final VirtualLeafRecord<K, V> checkpointLeaf =
+                (isLeaf && isClean && checkpoint != null) ? checkpoint.getLeaf(path) : null;
+        traversalOrder.nodeReceived(path, isClean && checkpointLeaf == null);
 
         if (isLeaf) {
+            final VirtualLeafRecord<K, V> leaf;
             if (!isClean) {
-                final VirtualLeafRecord<K, V> leaf = in.readSerializable(false, VirtualLeafRecord::new);
+                leaf = Objects.requireNonNull(receivedLeaf);
                 mapStats.incrementLeafData(1, 0);
+                if (checkpoint != null) {
+                    checkpoint.leafReceived(leaf);
+                }
+            } else {
+                leaf = checkpointLeaf;
+                if (leaf != null) {
+                    checkpointLeavesReused++;
+                }
+            }
+            if (leaf != null) {
                 assert path == leaf.getPath();
                 nodeRemover.newLeafNode(path, leaf.getKey());
                 root.handleReconnectLeaf(leaf); // may block if hashing is slower than ingest
             }
         }
+
+        if (isLeaf || isClean) {
+            final long firstLeafPath = reconnectState.getFirstLeafPath();
+            final long lastLeafPath = reconnectState.getLastLeafPath();
+            completedLeaves += countLeaves(path, firstLeafPath, lastLeafPath);
+            mapStats.setLeafProgress(completedLeaves, lastLeafPath - firstLeafPath + 1);
+        }
+    }
+
+    /**
+     * Get the hash to send to the teacher in a request for the given path. This is the hash of the node in the
+     * original learner tree, unless the path is a leaf in the checkpoint, in which case it's the hash of the
+     * checkpointed leaf.
+     *
+     * @param path the virtual path
+     * @return the hash to send to the teacher
+     */
+    public Hash getNodeHashToRequest(final long path) {
+        if ((checkpoint != null)
+                && (path >= reconnectState.getFirstLeafPath())
+                && (path <= reconnectState.getLastLeafPath())) {
+            final Hash checkpointHash = checkpoint.getLeafHash(path);
+            if (checkpointHash != null) {
+                return checkpointHash;
+            }
+        }
+        return getNodeHash(path);
+    }
+
+    /**
+     * Count the leaves in the subtree rooted at the given path.
+     *
+     * @param path the root of the subtree
+     * @param firstLeafPath the first leaf path of the tree
+     * @param lastLeafPath the last leaf path of the tree
+     * @return the number of leaves in the subtree
+     */
+    static long countLeaves(final long path, final long firstLeafPath, final long lastLeafPath) {
+        if (path >= firstLeafPath) {
+            return path <= lastLeafPath ? 1 : 0;
+        }
+        // Leaves are at most at two ranks. At each rank, the descendants of the path and the leaves are
+        // both contiguous ranges of paths, so the count is the size of their intersection
+        final int pathRank = Path.getRank(path);
+        final int firstLeafRank = Path.getRank(firstLeafPath);
+        final int lastLeafRank = Path.getRank(lastLeafPath);
+        long count = countLeavesAtRank(path, pathRank, firstLeafRank, firstLeafPath, lastLeafPath);
+        if (lastLeafRank != firstLeafRank) {
+            count += countLeavesAtRank(path, pathRank, lastLeafRank, firstLeafPath, lastLeafPath);
+        }
+        return count;
+    }
+
+    private static long countLeavesAtRank(
+            final long path, final int pathRank, final int rank, final long firstLeafPath, final long lastLeafPath) {
+        if (rank <= pathRank) {
+            return 0;
+        }
+        final int levels = rank - pathRank;
+        final long from = Math.max(Path.getLeftGrandChildPath(path, levels), firstLeafPath);
+        final long to = Math.min(Path.getRightGrandChildPath(path, levels), lastLeafPath);
+        return Math.max(0, to - from + 1);
+    }
+
+    /**
+     * Called by the sending task, when the tree is received from a teacher and one or more helper teachers,
+     * for every range root hash reported by a helper.
+     *
+     * @param path the range root path
+     * @param hash the range root hash reported by the helper
+     * @param helper the helper stream index
+     */
+    void expectRangeHash(final long path, @NonNull final Hash hash, final int helper) {
+        expectedRangeHashes.put(path, new ExpectedRangeHash(hash, helper));
+    }
+
+    /**
+     * Called by the reconnect hasher for every node it hashes. A range root reported by a helper teacher is
+     * verified as soon as it's hashed, so a reconnect with a bad helper fails without waiting for the rest of
+     * the tree.
+     */
+    private void nodeHashed(final long path, final Hash hash) {
+        if (expectedRangeHashes.isEmpty()) {
+            return;
+        }
+        final ExpectedRangeHash expected = expectedRangeHashes.remove(path);
+        if (expected != null) {
+            verifyRangeHash(path, expected, hash);
+        }
+    }
+
+    /**
+     * Check range root hashes reported by helper teachers, which haven't been rehashed because no leaves
+     * in their ranges changed, against the received tree.
+     */
+    private void verifyRangeHashes() {
+        expectedRangeHashes.forEach(
+                (path, expected) -> verifyRangeHash(path, expected, root.getRecords().findHash(path)));
+    }
+
+    private static void verifyRangeHash(final long path, final ExpectedRangeHash expected, final Hash hash) {
+        if (!expected.hash().equals(hash)) {
+            throw new MerkleSynchronizationException("Helper teacher " + expected.helper() + " reported hash "
+                    + expected.hash() + " for path " + path + ", but the received hash is " + hash);
+        }
+    }
+
+    /**
+     * Called by the sending task once the traversal is complete and no more requests will be sent.
+     */
+    void allRequestsSent() {
+        allRequestsSent = true;
+    }
+
+    /**
+     * Called by the receiving task once responses to all sent requests have been received.
+     */
+    void allResponsesReceived() {
+        allResponsesReceived = true;
     }
 
     /**
@@ -316,6 +552,21 @@ public final class LearnerPullVirtualTreeView<K extends VirtualKey, V extends Vi
     public void close() {
         nodeRemover.allNodesReceived();
         root.endLearnerReconnect();
+        if (allRequestsSent && allResponsesReceived) {
+            verifyRangeHashes();
+        }
+        if (checkpoint != null) {
+            logger.info(
+                    RECONNECT.getMarker(),
+                    "Reused {} of {} checkpointed leaves, {} leaves in checkpoint",
+                    checkpointLeavesReused,
+                    checkpointLeavesAtStart,
+                    checkpoint.size());
+            if (allRequestsSent && allResponsesReceived) {
+                // this map is fully received, a later reconnect will start from a different original state
+                checkpoint.discard();
+            }
+        }
     }
 
     /**
@@ -1,6 +1,7 @@
 // SPDX-License-Identifier: Apache-2.0
 package com.swirlds.virtualmap.internal.reconnect;
 
+import com.swirlds.virtualmap.datasource.VirtualLeafRecord;
 import java.io.IOException;
 import org.hiero.base.crypto.Hash;
 import org.hiero.base.io.SelfSerializable;
@@ -41,12 +42,23 @@ public class PullVirtualTreeResponse implements SelfSerializable {
 
     private Hash teacherHash;
 
+    // Only used on the learner side. If true, received responses are only read from the stream, and
+    // applied to the learner view later, see apply()
+    private final boolean deferred;
+
+    // Only used on the learner side in deferred mode
+    private boolean isClean;
+
+    // Only used on the learner side in deferred mode, a leaf record to apply, if this is a dirty leaf
+    private VirtualLeafRecord leaf;
+
     /**
      * Zero-arg constructor for constructable registry.
      */
     public PullVirtualTreeResponse() {
         teacherView = null;
         learnerView = null;
+        deferred = false;
     }
 
     /**
@@ -59,6 +71,7 @@ public class PullVirtualTreeResponse implements SelfSerializable {
             final Hash teacherHash) {
         this.teacherView = teacherView;
         this.learnerView = null;
+        this.deferred = false;
         this.path = path;
         this.learnerHash = learnerHash;
         assert learnerHash != null;
@@ -73,8 +86,22 @@ public class PullVirtualTreeResponse implements SelfSerializable {
      * 		the learner's view
      */
     public PullVirtualTreeResponse(final LearnerPullVirtualTreeView learnerTreeView) {
+        this(learnerTreeView, false);
+    }
+
+    /**
+     * This constructor is used by the learner when deserializing responses. In deferred mode, responses
+     * are only read from the stream, and must be applied to the learner view using {@link #apply()}.
+     *
+     * @param learnerTreeView
+     * 		the learner's view
+     * @param deferred
+     * 		whether to defer applying the response to the view
+     */
+    public PullVirtualTreeResponse(final LearnerPullVirtualTreeView learnerTreeView, final boolean deferred) {
         this.teacherView = null;
         this.learnerView = learnerTreeView;
+        this.deferred = deferred;
     }
 
     /**
@@ -96,8 +123,28 @@ public class PullVirtualTreeResponse implements SelfSerializable {
     public void deserialize(final SerializableDataInputStream in, final int version) throws IOException {
         assert learnerView != null;
         path = in.readLong();
-        final boolean isClean = in.read() == 0;
+        isClean = in.read() == 0;
+        if (deferred) {
+            leaf = learnerView.readLeaf(in, path, isClean);
+            return;
+        }
         learnerView.readNode(in, path, isClean);
+        recordHashStats();
+    }
+
+    /**
+     * Apply a response read in deferred mode to the learner view. Responses must be applied on a single
+     * thread, in the same order as requests were sent to the teacher.
+     */
+    @SuppressWarnings("unchecked")
+    public void apply() {
+        assert learnerView != null && deferred;
+        learnerView.applyNode(path, isClean, leaf);
+        leaf = null;
+        recordHashStats();
+    }
+
+    private void recordHashStats() {
         if (learnerView.isLeaf(path)) {
             learnerView.getMapStats().incrementLeafHashes(1, isClean ? 1 : 0);
         } else {
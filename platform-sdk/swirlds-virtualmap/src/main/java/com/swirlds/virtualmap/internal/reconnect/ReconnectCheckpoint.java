@@ -0,0 +1,205 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.virtualmap.internal.reconnect;
+
+import com.swirlds.virtualmap.VirtualKey;
+import com.swirlds.virtualmap.VirtualValue;
+import com.swirlds.virtualmap.datasource.VirtualLeafRecord;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import org.hiero.base.crypto.Cryptography;
+import org.hiero.base.crypto.CryptographyProvider;
+import org.hiero.base.crypto.Hash;
+
+/**
+ * Leaves received from a teacher during a learner reconnect of a single virtual map, kept so that a failed
+ * reconnect can be resumed by the next attempt instead of transferring the same leaves again.
+ *
+ * <p>On the next attempt, for every leaf path found in the checkpoint, the learner sends the hash of the checkpointed
+ * leaf instead of the hash from its original tree. If the teacher has the same leaf at that path, it reports the path
+ * as clean, and the learner uses the checkpointed leaf without receiving it again. Otherwise, the teacher sends the
+ * leaf as usual. The checkpoint is therefore only an optimization: a stale checkpoint, or a checkpoint from a
+ * teacher with a different state, never changes the result of a reconnect. It is discarded once a reconnect of the
+ * map has received all nodes.
+ *
+ * <p>Checkpoints are kept in memory only, per virtual map label, and do not survive a restart. The number of leaves
+ * in a checkpoint is capped, and a checkpoint is evicted once it is too old, or once the learner's map has moved on
+ * by too many rounds, counted as fast copies of the map, since the checkpoint was created.
+ *
+ * @param <K>
+ * 		The key
+ * @param <V>
+ * 		The value
+ */
+public final class ReconnectCheckpoint<K extends VirtualKey, V extends VirtualValue> {
+
+    private static final Cryptography CRYPTOGRAPHY = CryptographyProvider.getInstance();
+
+    /**
+     * Checkpoints of reconnects that have not completed yet, by virtual map label.
+     */
+    private static final Map<String, ReconnectCheckpoint<?, ?>> CHECKPOINTS = new ConcurrentHashMap<>();
+
+    /**
+     * A checkpointed leaf. The hash is only computed when the leaf is looked up by a later attempt.
+     */
+    private static final class Entry<K extends VirtualKey, V extends VirtualValue> {
+        private final VirtualLeafRecord<K, V> leaf;
+        private volatile Hash hash;
+
+        private Entry(@NonNull final VirtualLeafRecord<K, V> leaf) {
+            this.leaf = leaf;
+        }
+
+        @NonNull
+        private Hash getHash() {
+            Hash h = hash;
+            if (h == null) {
+                // the same digest the virtual hasher computes for a leaf, on both the teacher and the learner
+                h = CRYPTOGRAPHY.digestSync(leaf);
+                hash = h;
+            }
+            return h;
+        }
+    }
+
+    private final String label;
+    private final long round;
+    private final long createdNanos;
+    private volatile int maxLeaves;
+    private final Map<Long, Entry<K, V>> leaves = new ConcurrentHashMap<>();
+
+    private ReconnectCheckpoint(@NonNull final String label, final long round, final long createdNanos) {
+        this.label = label;
+        this.round = round;
+        this.createdNanos = createdNanos;
+    }
+
+    /**
+     * Get the checkpoint left by a previous, incomplete reconnect of a virtual map, or create an empty one. Before
+     * that, checkpoints of all maps older than {@code maxAge} are evicted, and so is the checkpoint of this map if it
+     * was created for a map more than {@code maxRounds} copies away from the given round.
+     *
+     * @param label
+     * 		the virtual map label
+     * @param round
+     * 		the fast copy version of the learner's original map
+     * @param maxLeaves
+     * 		the maximum number of leaves to keep in the checkpoint, must be positive. Applied to an existing
+     * 		checkpoint too
+     * @param maxRounds
+     * 		the maximum number of copies between the map a checkpoint was created for and the given round
+     * @param maxAge
+     * 		the maximum age of a checkpoint
+     * @return the checkpoint for the map
+     */
+    @NonNull
+    public static <K extends VirtualKey, V extends VirtualValue> ReconnectCheckpoint<K, V> forMap(
+            @NonNull final String label,
+            final long round,
+            final int maxLeaves,
+            final long maxRounds,
+            @NonNull final Duration maxAge) {
+        return forMap(label, round, maxLeaves, maxRounds, maxAge, System.nanoTime());
+    }
+
+    @SuppressWarnings("unchecked")
+    @NonNull
+    static <K extends VirtualKey, V extends VirtualValue> ReconnectCheckpoint<K, V> forMap(
+            @NonNull final String label,
+            final long round,
+            final int maxLeaves,
+            final long maxRounds,
+            @NonNull final Duration maxAge,
+            final long nowNanos) {
+        Objects.requireNonNull(label);
+        Objects.requireNonNull(maxAge);
+        if (maxLeaves <= 0) {
+            throw new IllegalArgumentException("maxLeaves must be positive");
+        }
+        final long maxAgeNanos = maxAge.toNanos();
+        CHECKPOINTS.values().removeIf(c -> {
+            final boolean expired = nowNanos - c.createdNanos > maxAgeNanos
+                    || (c.label.equals(label) && (round < c.round || round - c.round > maxRounds));
+            if (expired) {
+                c.leaves.clear();
+            }
+            return expired;
+        });
+        final ReconnectCheckpoint<K, V> checkpoint = (ReconnectCheckpoint<K, V>)
+                CHECKPOINTS.computeIfAbsent(label, l -> new ReconnectCheckpoint<K, V>(l, round, nowNanos));
+        checkpoint.setMaxLeaves(maxLeaves);
+        return checkpoint;
+    }
+
+    /**
+     * Set the maximum number of leaves, dropping leaves if the checkpoint is bigger than that.
+     */
+    private void setMaxLeaves(final int maxLeaves) {
+        this.maxLeaves = maxLeaves;
+        final Iterator<Long> paths = leaves.keySet().iterator();
+        while (leaves.size() > maxLeaves && paths.hasNext()) {
+            paths.next();
+            paths.remove();
+        }
+    }
+
+    /**
+     * Get the hash of the checkpointed leaf at the given path.
+     *
+     * @param path
+     * 		the leaf path
+     * @return the leaf hash, or null if there is no leaf at this path in the checkpoint
+     */
+    @Nullable
+    public Hash getLeafHash(final long path) {
+        final Entry<K, V> entry = leaves.get(path);
+        return entry == null ? null : entry.getHash();
+    }
+
+    /**
+     * Get the checkpointed leaf at the given path.
+     *
+     * @param path
+     * 		the leaf path
+     * @return the leaf, or null if there is no leaf at this path in the checkpoint
+     */
+    @Nullable
+    public VirtualLeafRecord<K, V> getLeaf(final long path) {
+        final Entry<K, V> entry = leaves.get(path);
+        return entry == null ? null : entry.leaf;
+    }
+
+    /**
+     * Record a leaf received from the teacher. If the checkpoint is full, the leaf is only recorded if it replaces
+     * a leaf already checkpointed at the same path.
+     *
+     * @param leaf
+     * 		the received leaf
+     */
+    public void leafReceived(@NonNull final VirtualLeafRecord<K, V> leaf) {
+        final long path = leaf.getPath();
+        if (leaves.size() < maxLeaves || leaves.containsKey(path)) {
+            leaves.put(path, new Entry<>(leaf));
+        }
+    }
+
+    /**
+     * @return the number of leaves in the checkpoint
+     */
+    public int size() {
+        return leaves.size();
+    }
+
+    /**
+     * Discard this checkpoint, after a reconnect of its map has received all nodes.
+     */
+    public void discard() {
+        CHECKPOINTS.remove(label, this);
+        leaves.clear();
+    }
+}
@@ -8,6 +8,8 @@ import com.swirlds.virtualmap.VirtualValue;
 import com.swirlds.virtualmap.datasource.VirtualLeafRecord;
 import com.swirlds.virtualmap.internal.hash.VirtualHashListener;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.function.BiConsumer;
 import org.hiero.base.crypto.Hash;
 
 /**
@@ -30,13 +32,28 @@ public class ReconnectHashListener<K extends VirtualKey, V extends VirtualValue>
 
     private final ReconnectHashLeafFlusher<K, V> flusher;
 
+    private final BiConsumer<Long, Hash> nodeHashedObserver;
+
     /**
      * Create a new {@link ReconnectHashListener}.
      *
      * @param flusher Hash / leaf flusher to use to flush data to disk
      */
     public ReconnectHashListener(@NonNull final ReconnectHashLeafFlusher<K, V> flusher) {
+        this(flusher, null);
+    }
+
+    /**
+     * Create a new {@link ReconnectHashListener}.
+     *
+     * @param flusher Hash / leaf flusher to use to flush data to disk
+     * @param nodeHashedObserver If not null, notified of every node hash, after it is passed to the flusher
+     */
+    public ReconnectHashListener(
+            @NonNull final ReconnectHashLeafFlusher<K, V> flusher,
+            @Nullable final BiConsumer<Long, Hash> nodeHashedObserver) {
         this.flusher = requireNonNull(flusher);
+        this.nodeHashedObserver = nodeHashedObserver;
     }
 
     /**
@@ -53,6 +70,9 @@ public class ReconnectHashListener<K extends VirtualKey, V extends VirtualValue>
     @Override
     public void onNodeHashed(final long path, final Hash hash) {
         flusher.updateHash(path, hash);
+        if (nodeHashedObserver != null) {
+            nodeHashedObserver.accept(path, hash);
+        }
     }
 
     /**
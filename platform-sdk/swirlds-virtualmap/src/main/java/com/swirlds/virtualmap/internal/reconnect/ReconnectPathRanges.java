@@ -0,0 +1,116 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.virtualmap.internal.reconnect;
+
+import com.swirlds.virtualmap.internal.Path;
+
+/**
+ * Splits the paths of a virtual tree between several reconnect streams, when a learner is taught by a teacher
+ * and one or more helper teachers.
+ *
+ * <p>The tree is split into subtrees, all rooted at the same rank, called range roots. Range roots are assigned
+ * to streams in contiguous blocks, from left to right, so every stream serves a contiguous range of paths at
+ * every rank below the range rank. Nodes above the range rank are few, and they are all served by the first
+ * stream, which is the stream to the main teacher.
+ */
+final class ReconnectPathRanges {
+
+    /**
+     * The number of range roots per stream to aim for. More than one range per stream makes ranges of different
+     * streams closer in size, when the number of streams isn't a power of two.
+     */
+    private static final int RANGES_PER_STREAM = 4;
+
+    private final int streamCount;
+
+    /**
+     * The rank of range roots, or -1 if the tree is too small to split.
+     */
+    private final int rangeRank;
+
+    /**
+     * The path of the leftmost range root.
+     */
+    private final long firstRangeRoot;
+
+    /**
+     * The number of range roots.
+     */
+    private final long rangeCount;
+
+    /**
+     * Create ranges for a tree.
+     *
+     * @param streamCount
+     * 		the number of streams, including the stream to the main teacher
+     * @param firstLeafPath
+     * 		the first leaf path of the teacher tree
+     * @param lastLeafPath
+     * 		the last leaf path of the teacher tree
+     */
+    ReconnectPathRanges(final int streamCount, final long firstLeafPath, final long lastLeafPath) {
+        if (streamCount <= 0) {
+            throw new IllegalArgumentException("streamCount must be positive");
+        }
+        this.streamCount = streamCount;
+        if ((streamCount == 1) || (firstLeafPath <= 0) || (lastLeafPath <= firstLeafPath)) {
+            rangeRank = -1;
+            firstRangeRoot = Path.INVALID_PATH;
+            rangeCount = 0;
+            return;
+        }
+        // With more than one leaf, all nodes at any rank up to the first leaf rank exist, so range roots are
+        // never missing
+        final int targetRank = 64 - Long.numberOfLeadingZeros((long) streamCount * RANGES_PER_STREAM - 1);
+        rangeRank = Math.min(targetRank, Path.getRank(firstLeafPath));
+        firstRangeRoot = Path.getPathForRankAndIndex(rangeRank, 0);
+        rangeCount = 1L << rangeRank;
+    }
+
+    /**
+     * Get the stream to send a request for the given path to.
+     *
+     * @param path
+     * 		the virtual path
+     * @return the stream index, 0 for the stream to the main teacher
+     */
+    int getStream(final long path) {
+        if (rangeRank < 0) {
+            return 0;
+        }
+        final int rank = Path.getRank(path);
+        if (rank < rangeRank) {
+            return 0;
+        }
+        final long rangeRoot = Path.getGrandParentPath(path, rank - rangeRank);
+        return getStreamForRange(rangeRoot - firstRangeRoot);
+    }
+
+    /**
+     * Get the range roots served by the given stream, in increasing order.
+     *
+     * @param stream
+     * 		the stream index
+     * @return the range roots, may be empty
+     */
+    long[] getRangeRoots(final int stream) {
+        // ranges are assigned in contiguous blocks, so the first range of a stream is the smallest index
+        // mapped to it
+        long from = 0;
+        while ((from < rangeCount) && (getStreamForRange(from) < stream)) {
+            from++;
+        }
+        long to = from;
+        while ((to < rangeCount) && (getStreamForRange(to) == stream)) {
+            to++;
+        }
+        final long[] roots = new long[(int) (to - from)];
+        for (int i = 0; i < roots.length; i++) {
+            roots[i] = firstRangeRoot + from + i;
+        }
+        return roots;
+    }
+
+    private int getStreamForRange(final long rangeIndex) {
+        return (int) (rangeIndex * streamCount / rangeCount);
+    }
+}
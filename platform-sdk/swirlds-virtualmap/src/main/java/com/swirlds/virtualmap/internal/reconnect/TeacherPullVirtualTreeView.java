@@ -121,6 +121,46 @@ public final class TeacherPullVirtualTreeView<K extends VirtualKey, V extends Vi
         teacherReceiveTask.exec();
     }
 
+    /**
+     * Start the tasks to serve a share of the learner's requests, as a helper teacher, see {@link
+     * com.swirlds.common.merkle.synchronization.streams.HelperTeacherStreams}. Before any requests are
+     * processed, the hashes of the range roots assigned to this helper by the learner are sent to the learner.
+     *
+     * @param time the wall clock time
+     * @param workGroup the work group to run the tasks
+     * @param inputStream the input stream from the learner
+     * @param outputStream the output stream to the learner
+     * @throws IOException if an I/O error occurs
+     */
+    public void startHelperTeacherTasks(
+            final Time time,
+            final StandardWorkGroup workGroup,
+            final MerkleDataInputStream inputStream,
+            final MerkleDataOutputStream outputStream)
+            throws IOException {
+        final int rangeRootCount = inputStream.readInt();
+        if ((rangeRootCount < 0) || (rangeRootCount > reconnectState.getLastLeafPath() + 1)) {
+            throw new IOException("Invalid number of range roots from the learner: " + rangeRootCount);
+        }
+        for (int i = 0; i < rangeRootCount; i++) {
+            final long path = inputStream.readLong();
+            final Hash hash = (path >= 0) && (path <= reconnectState.getLastLeafPath()) ? loadHash(path) : null;
+            if (hash == null) {
+                throw new IOException("Cannot load range root hash (bad request from learner?), path = " + path);
+            }
+            hash.getBytes().writeTo(outputStream);
+        }
+        outputStream.flush();
+
+        final AsyncOutputStream<PullVirtualTreeResponse> out =
+                new AsyncOutputStream<>(outputStream, workGroup, reconnectConfig);
+        out.start();
+
+        final TeacherPullVirtualTreeReceiveTask teacherReceiveTask =
+                new TeacherPullVirtualTreeReceiveTask(time, reconnectConfig, workGroup, inputStream, out, this);
+        teacherReceiveTask.exec();
+    }
+
     private boolean isLeaf(final long path) {
         return (path >= reconnectState.getFirstLeafPath()) && (path <= reconnectState.getLastLeafPath());
     }
@@ -0,0 +1,188 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.virtualmap.internal.reconnect;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.swirlds.virtualmap.datasource.VirtualLeafRecord;
+import com.swirlds.virtualmap.internal.Path;
+import com.swirlds.virtualmap.test.fixtures.TestKey;
+import com.swirlds.virtualmap.test.fixtures.TestValue;
+import java.time.Duration;
+import org.hiero.base.crypto.CryptographyProvider;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Tags;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class ReconnectCheckpointTest {
+
+    private static final Duration MAX_AGE = Duration.ofMinutes(10);
+
+    private static ReconnectCheckpoint<TestKey, TestValue> checkpoint(final String label, final int maxLeaves) {
+        return ReconnectCheckpoint.forMap(label, 0, maxLeaves, 100, MAX_AGE);
+    }
+
+    private static VirtualLeafRecord<TestKey, TestValue> leaf(final long path, final int k, final int v) {
+        return new VirtualLeafRecord<>(path, new TestKey(k), new TestValue(v));
+    }
+
+    @Test
+    @Tags({@Tag("Reconnect")})
+    @DisplayName("A checkpoint survives until it is discarded")
+    void checkpointIsSharedUntilDiscarded() {
+        final ReconnectCheckpoint<TestKey, TestValue> checkpoint = checkpoint("sharedMap", 10);
+        checkpoint.leafReceived(leaf(5, 1, 1));
+
+        final ReconnectCheckpoint<TestKey, TestValue> nextAttempt = checkpoint("sharedMap", 10);
+        assertSame(checkpoint, nextAttempt);
+        assertEquals(1, nextAttempt.size());
+
+        nextAttempt.discard();
+        assertEquals(0, nextAttempt.size());
+        final ReconnectCheckpoint<TestKey, TestValue> afterDiscard = checkpoint("sharedMap", 10);
+        assertNotSame(checkpoint, afterDiscard);
+        assertEquals(0, afterDiscard.size());
+        afterDiscard.discard();
+
+        assertThrows(IllegalArgumentException.class, () -> checkpoint("sharedMap", 0));
+    }
+
+    @Test
+    @Tags({@Tag("Reconnect")})
+    @DisplayName("Leaf hashes match the virtual hasher")
+    void leafHashes() {
+        final ReconnectCheckpoint<TestKey, TestValue> checkpoint = checkpoint("hashMap", 10);
+        final VirtualLeafRecord<TestKey, TestValue> leaf = leaf(7, 2, 3);
+        checkpoint.leafReceived(leaf);
+
+        assertSame(leaf, checkpoint.getLeaf(7));
+        assertEquals(CryptographyProvider.getInstance().digestSync(leaf), checkpoint.getLeafHash(7));
+        assertNull(checkpoint.getLeaf(8));
+        assertNull(checkpoint.getLeafHash(8));
+
+        // a newer leaf at the same path replaces the old one, including its hash
+        final VirtualLeafRecord<TestKey, TestValue> newerLeaf = leaf(7, 2, 4);
+        checkpoint.leafReceived(newerLeaf);
+        assertSame(newerLeaf, checkpoint.getLeaf(7));
+        assertNotEquals(CryptographyProvider.getInstance().digestSync(leaf), checkpoint.getLeafHash(7));
+        checkpoint.discard();
+    }
+
+    @Test
+    @Tags({@Tag("Reconnect")})
+    @DisplayName("The number of leaves is capped")
+    void leavesAreCapped() {
+        final ReconnectCheckpoint<TestKey, TestValue> checkpoint = checkpoint("cappedMap", 2);
+        checkpoint.leafReceived(leaf(3, 1, 1));
+        checkpoint.leafReceived(leaf(4, 2, 2));
+        checkpoint.leafReceived(leaf(5, 3, 3));
+        assertEquals(2, checkpoint.size());
+        assertNull(checkpoint.getLeaf(5));
+
+        // replacing a leaf is allowed when full
+        final VirtualLeafRecord<TestKey, TestValue> replacement = leaf(4, 5, 5);
+        checkpoint.leafReceived(replacement);
+        assertSame(replacement, checkpoint.getLeaf(4));
+        checkpoint.discard();
+    }
+
+    @Test
+    @Tags({@Tag("Reconnect")})
+    @DisplayName("A smaller leaf limit is applied to an existing checkpoint")
+    void maxLeavesFollowsConfig() {
+        final ReconnectCheckpoint<TestKey, TestValue> checkpoint = checkpoint("shrinkingMap", 3);
+        checkpoint.leafReceived(leaf(3, 1, 1));
+        checkpoint.leafReceived(leaf(4, 2, 2));
+        checkpoint.leafReceived(leaf(5, 3, 3));
+        assertEquals(3, checkpoint.size());
+
+        final ReconnectCheckpoint<TestKey, TestValue> nextAttempt = checkpoint("shrinkingMap", 1);
+        assertSame(checkpoint, nextAttempt);
+        assertEquals(1, nextAttempt.size());
+        nextAttempt.leafReceived(leaf(6, 4, 4));
+        assertEquals(1, nextAttempt.size());
+
+        final ReconnectCheckpoint<TestKey, TestValue> biggerAttempt = checkpoint("shrinkingMap", 2);
+        biggerAttempt.leafReceived(leaf(6, 4, 4));
+        assertEquals(2, biggerAttempt.size());
+        biggerAttempt.discard();
+    }
+
+    @Test
+    @Tags({@Tag("Reconnect")})
+    @DisplayName("A checkpoint is evicted when its map has moved on by too many rounds")
+    void evictedByRound() {
+        final long now = System.nanoTime();
+        final ReconnectCheckpoint<TestKey, TestValue> checkpoint =
+                ReconnectCheckpoint.forMap("roundMap", 10, 5, 2, MAX_AGE, now);
+        checkpoint.leafReceived(leaf(3, 1, 1));
+
+        assertSame(checkpoint, ReconnectCheckpoint.forMap("roundMap", 12, 5, 2, MAX_AGE, now));
+        // other maps never evict this checkpoint by round
+        ReconnectCheckpoint.forMap("otherRoundMap", 100, 5, 2, MAX_AGE, now).discard();
+
+        final ReconnectCheckpoint<TestKey, TestValue> tooFar =
+                ReconnectCheckpoint.forMap("roundMap", 13, 5, 2, MAX_AGE, now);
+        assertNotSame(checkpoint, tooFar);
+        assertEquals(0, checkpoint.size());
+        assertEquals(0, tooFar.size());
+
+        // a map older than the checkpoint's is not the map the checkpoint was created for
+        assertNotSame(tooFar, ReconnectCheckpoint.forMap("roundMap", 12, 5, 2, MAX_AGE, now));
+        ReconnectCheckpoint.forMap("roundMap", 12, 5, 2, MAX_AGE, now).discard();
+    }
+
+    @Test
+    @Tags({@Tag("Reconnect")})
+    @DisplayName("Checkpoints of all maps are evicted when too old")
+    void evictedByAge() {
+        final long now = System.nanoTime();
+        final long maxAgeNanos = MAX_AGE.toNanos();
+        final ReconnectCheckpoint<TestKey, TestValue> checkpoint =
+                ReconnectCheckpoint.forMap("oldMap", 0, 5, 100, MAX_AGE, now);
+        checkpoint.leafReceived(leaf(3, 1, 1));
+
+        ReconnectCheckpoint.forMap("youngMap", 0, 5, 100, MAX_AGE, now + maxAgeNanos).discard();
+        assertSame(checkpoint, ReconnectCheckpoint.forMap("oldMap", 0, 5, 100, MAX_AGE, now + maxAgeNanos));
+        assertEquals(1, checkpoint.size());
+
+        // another map's reconnect evicts the expired checkpoint
+        ReconnectCheckpoint.forMap("youngMap", 0, 5, 100, MAX_AGE, now + maxAgeNanos + 1).discard();
+        assertEquals(0, checkpoint.size());
+        final ReconnectCheckpoint<TestKey, TestValue> newCheckpoint =
+                ReconnectCheckpoint.forMap("oldMap", 0, 5, 100, MAX_AGE, now + maxAgeNanos + 1);
+        assertNotSame(checkpoint, newCheckpoint);
+        newCheckpoint.discard();
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {1, 2, 3, 7, 10, 31, 100})
+    @Tags({@Tag("Reconnect")})
+    @DisplayName("Progress leaf counts match the leaves in each subtree")
+    void countLeaves(final long leafCount) {
+        final long firstLeafPath = leafCount - 1;
+        final long lastLeafPath = 2 * leafCount - 2;
+        final long firstLeaf = Math.max(firstLeafPath, 1);
+        final long lastLeaf = Math.max(lastLeafPath, 1);
+
+        for (long path = 0; path <= lastLeaf; path++) {
+            long expected = 0;
+            for (long leaf = firstLeaf; leaf <= lastLeaf; leaf++) {
+                if (Path.isInSubTree(path, leaf)) {
+                    expected++;
+                }
+            }
+            assertEquals(
+                    expected,
+                    LearnerPullVirtualTreeView.countLeaves(path, firstLeaf, lastLeaf),
+                    "Wrong leaf count for path " + path);
+        }
+    }
+}
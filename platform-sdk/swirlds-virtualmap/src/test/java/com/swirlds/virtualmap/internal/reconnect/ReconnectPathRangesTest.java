@@ -0,0 +1,101 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.virtualmap.internal.reconnect;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.swirlds.virtualmap.internal.Path;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Tags;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class ReconnectPathRangesTest {
+
+    @ParameterizedTest
+    @CsvSource({"2,1,0", "2,2,2", "2,100,8", "3,5,4", "3,1000,16", "5,17,16", "8,100000,32"})
+    @Tags({@Tag("Reconnect")})
+    @DisplayName("Every path is served by the stream of its range root")
+    void pathsFollowRangeRoots(final int streamCount, final long leafCount, final long expectedRangeRootCount) {
+        final long firstLeafPath = leafCount - 1;
+        final long lastLeafPath = 2 * leafCount - 2;
+        final ReconnectPathRanges ranges =
+                new ReconnectPathRanges(streamCount, Math.max(firstLeafPath, 1), Math.max(lastLeafPath, 1));
+
+        long rangeRootCount = 0;
+        for (int stream = 0; stream < streamCount; stream++) {
+            final long[] rangeRoots = ranges.getRangeRoots(stream);
+            rangeRootCount += rangeRoots.length;
+            for (final long rangeRoot : rangeRoots) {
+                assertTrue(rangeRoot <= Math.max(lastLeafPath, 1), "Range root must exist in the tree");
+                assertEquals(stream, ranges.getStream(rangeRoot));
+            }
+        }
+
+        for (long path = 1; path <= Math.max(lastLeafPath, 1); path++) {
+            final int stream = ranges.getStream(path);
+            boolean inRange = false;
+            for (final long rangeRoot : ranges.getRangeRoots(stream)) {
+                inRange |= Path.isInSubTree(rangeRoot, path);
+            }
+            // paths above range roots are served by the teacher
+            assertTrue(inRange || (stream == 0), "Path " + path + " is outside of its stream ranges");
+        }
+        assertEquals(expectedRangeRootCount, rangeRootCount, "Wrong number of range roots");
+    }
+
+    @Test
+    @Tags({@Tag("Reconnect")})
+    @DisplayName("Range roots are assigned to streams in contiguous blocks")
+    void exactRanges() {
+        // 100 leaves, range roots at rank 3
+        final ReconnectPathRanges two = new ReconnectPathRanges(2, 99, 198);
+        assertArrayEquals(new long[] {7, 8, 9, 10}, two.getRangeRoots(0));
+        assertArrayEquals(new long[] {11, 12, 13, 14}, two.getRangeRoots(1));
+        assertEquals(0, two.getStream(3));
+        assertEquals(0, two.getStream(15));
+        assertEquals(1, two.getStream(23));
+        assertEquals(1, two.getStream(198));
+
+        // 1000 leaves, range roots at rank 4
+        final ReconnectPathRanges three = new ReconnectPathRanges(3, 999, 1998);
+        assertArrayEquals(new long[] {15, 16, 17, 18, 19, 20}, three.getRangeRoots(0));
+        assertArrayEquals(new long[] {21, 22, 23, 24, 25}, three.getRangeRoots(1));
+        assertArrayEquals(new long[] {26, 27, 28, 29, 30}, three.getRangeRoots(2));
+
+        // 5 leaves, range roots limited to the first leaf rank
+        final ReconnectPathRanges threeSmall = new ReconnectPathRanges(3, 4, 8);
+        assertArrayEquals(new long[] {3, 4}, threeSmall.getRangeRoots(0));
+        assertArrayEquals(new long[] {5}, threeSmall.getRangeRoots(1));
+        assertArrayEquals(new long[] {6}, threeSmall.getRangeRoots(2));
+        assertEquals(1, threeSmall.getStream(5));
+        assertEquals(2, threeSmall.getStream(6));
+        assertEquals(0, threeSmall.getStream(8));
+
+        // 17 leaves, range roots at rank 4
+        final ReconnectPathRanges five = new ReconnectPathRanges(5, 16, 32);
+        assertArrayEquals(new long[] {15, 16, 17, 18}, five.getRangeRoots(0));
+        assertArrayEquals(new long[] {19, 20, 21}, five.getRangeRoots(1));
+        assertArrayEquals(new long[] {22, 23, 24}, five.getRangeRoots(2));
+        assertArrayEquals(new long[] {25, 26, 27}, five.getRangeRoots(3));
+        assertArrayEquals(new long[] {28, 29, 30}, five.getRangeRoots(4));
+        assertEquals(0, five.getStream(31));
+        assertEquals(0, five.getStream(32));
+    }
+
+    @Test
+    @Tags({@Tag("Reconnect")})
+    @DisplayName("Small trees and a single stream are not split")
+    void noRanges() {
+        final ReconnectPathRanges single = new ReconnectPathRanges(1, 1000, 2000);
+        assertEquals(0, single.getRangeRoots(0).length);
+        assertEquals(0, single.getStream(1500));
+
+        final ReconnectPathRanges empty = new ReconnectPathRanges(3, -1, -1);
+        assertEquals(0, empty.getRangeRoots(1).length);
+        assertEquals(0, empty.getStream(0));
+    }
+}
@@ -0,0 +1,267 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.virtualmap.internal.reconnect;
+
+import static com.swirlds.common.test.fixtures.io.ResourceLoader.loadLog4jContext;
+import static com.swirlds.common.threading.manager.AdHocThreadManager.getStaticThreadManager;
+import static com.swirlds.virtualmap.test.fixtures.VirtualMapTestUtils.CONFIGURATION;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.swirlds.base.time.Time;
+import com.swirlds.common.io.streams.MerkleDataOutputStream;
+import com.swirlds.common.merkle.MerkleInternal;
+import com.swirlds.common.merkle.MerkleNode;
+import com.swirlds.common.merkle.synchronization.LearningSynchronizer;
+import com.swirlds.common.merkle.synchronization.TeachingSynchronizer;
+import com.swirlds.common.merkle.synchronization.streams.HelperTeacherStreams;
+import com.swirlds.common.merkle.synchronization.utility.MerkleSynchronizationException;
+import com.swirlds.common.metrics.noop.NoOpMetrics;
+import com.swirlds.common.test.fixtures.merkle.TestMerkleCryptoFactory;
+import com.swirlds.common.test.fixtures.merkle.util.MerkleTestUtils;
+import com.swirlds.common.test.fixtures.merkle.util.PairedStreams;
+import com.swirlds.common.threading.pool.StandardWorkGroup;
+import com.swirlds.config.api.Configuration;
+import com.swirlds.config.extensions.test.fixtures.TestConfigBuilder;
+import com.swirlds.virtualmap.VirtualMap;
+import com.swirlds.virtualmap.VirtualMapHelperTeacher;
+import com.swirlds.virtualmap.config.VirtualMapConfig_;
+import com.swirlds.virtualmap.config.VirtualMapReconnectMode;
+import com.swirlds.virtualmap.datasource.VirtualDataSourceBuilder;
+import com.swirlds.virtualmap.test.fixtures.InMemoryBuilder;
+import com.swirlds.virtualmap.test.fixtures.TestKey;
+import com.swirlds.virtualmap.test.fixtures.TestValue;
+import java.io.FileNotFoundException;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import org.hiero.base.constructable.ConstructableRegistry;
+import org.hiero.base.constructable.ConstructableRegistryException;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Tags;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Reconnects of a virtual map from a teacher and a helper teacher, see {@link VirtualMapHelperTeacher}. Helper
+ * teachers require a pull reconnect mode, so the maps of this test, and the maps the learner builds from the
+ * registry, are configured to use one.
+ */
+@DisplayName("Virtual Map Helper Teacher Reconnect Test")
+class VirtualMapHelperTeacherReconnectTest extends VirtualMapReconnectTestBase {
+
+    private static final Configuration PULL_CONFIGURATION = new TestConfigBuilder()
+            .withValue(VirtualMapConfig_.RECONNECT_MODE, VirtualMapReconnectMode.PULL_TOP_TO_BOTTOM)
+            .getOrCreateConfig();
+
+    /**
+     * Enough leaves for the tree to be split into ranges, see {@link ReconnectPathRanges}.
+     */
+    private static final int LEAF_COUNT = 100;
+
+    @BeforeAll
+    public static void startup() throws ConstructableRegistryException, FileNotFoundException {
+        loadLog4jContext();
+        // Virtual maps may already be registered by other tests, with the default push reconnect mode
+        ConstructableRegistry.getInstance().reset();
+        registerConstructables(PULL_CONFIGURATION);
+    }
+
+    @AfterAll
+    static void restoreRegistry() throws ConstructableRegistryException {
+        ConstructableRegistry.getInstance().reset();
+        registerConstructables(CONFIGURATION);
+    }
+
+    @Override
+    protected VirtualDataSourceBuilder createBuilder() {
+        return new InMemoryBuilder();
+    }
+
+    @Override
+    protected Configuration getConfiguration() {
+        return PULL_CONFIGURATION;
+    }
+
+    @Test
+    @Tags({@Tag("VirtualMerkle"), @Tag("Reconnect")})
+    @DisplayName("Teacher and helper teacher with the same state")
+    void teacherAndHelperTeacher() throws Exception {
+        populateMaps();
+        final MerkleInternal teacherTree = createTreeForMap(teacherMap);
+        final VirtualMap<TestKey, TestValue> copy = teacherMap.copy();
+        final MerkleInternal learnerTree = createTreeForMap(learnerMap);
+        try {
+            final MerkleNode node = synchronize(learnerTree, teacherTree, false);
+            try {
+                assertTrue(MerkleTestUtils.areTreesEqual(node, teacherTree), "Learner must receive the teacher tree");
+                assertTrue(learnerMap.getRight().isHashed(), "Learner root node must be hashed");
+            } finally {
+                node.release();
+            }
+        } finally {
+            teacherTree.release();
+            learnerTree.release();
+            copy.release();
+        }
+    }
+
+    @Test
+    @Tags({@Tag("VirtualMerkle"), @Tag("Reconnect")})
+    @DisplayName("Helper teacher reports a corrupted range")
+    void helperTeacherWithCorruptedRange() {
+        populateMaps();
+        final MerkleInternal teacherTree = createTreeForMap(teacherMap);
+        final VirtualMap<TestKey, TestValue> copy = teacherMap.copy();
+        final MerkleInternal learnerTree = createTreeForMap(learnerMap);
+        try {
+            assertThrows(
+                    MerkleSynchronizationException.class,
+                    () -> synchronize(learnerTree, teacherTree, true),
+                    "A range that doesn't match the received tree must fail the reconnect");
+        } finally {
+            teacherTree.release();
+            learnerTree.release();
+            copy.release();
+        }
+    }
+
+    private void populateMaps() {
+        for (int i = 0; i < LEAF_COUNT; i++) {
+            teacherMap.put(new TestKey(i), new TestValue("teacher" + i));
+            // The learner has half of the teacher leaves, and some leaves the teacher doesn't have
+            if (i % 2 == 0) {
+                learnerMap.put(new TestKey(i), new TestValue("teacher" + i));
+            } else if (i % 3 == 0) {
+                learnerMap.put(new TestKey(i + LEAF_COUNT), new TestValue("learner" + i));
+            }
+        }
+    }
+
+    /**
+     * Synchronize the learner tree with the teacher tree, which is served by a teacher and a helper teacher. Both
+     * serve the same teacher tree.
+     *
+     * @param learnerTree the starting tree of the learner
+     * @param teacherTree the tree of the teacher and the helper teacher
+     * @param corruptRange if true, the first range root hash the helper teacher reports is corrupted
+     * @return the tree received by the learner
+     */
+    private MerkleNode synchronize(
+            final MerkleNode learnerTree, final MerkleNode teacherTree, final boolean corruptRange)
+            throws Exception {
+        TestMerkleCryptoFactory.getInstance().digestTreeSync(learnerTree);
+        TestMerkleCryptoFactory.getInstance().digestTreeSync(teacherTree);
+        try (final PairedStreams streams = new PairedStreams();
+                final PairedStreams helperStreams = new PairedStreams()) {
+            final Runnable breakConnection = () -> {
+                streams.disconnect();
+                helperStreams.disconnect();
+            };
+            final LearningSynchronizer learner = new LearningSynchronizer(
+                    getStaticThreadManager(),
+                    streams.getLearnerInput(),
+                    streams.getLearnerOutput(),
+                    learnerTree,
+                    breakConnection,
+                    TestMerkleCryptoFactory.getInstance(),
+                    reconnectConfig,
+                    new NoOpMetrics(),
+                    List.of(new HelperTeacherStreams(
+                            helperStreams.getLearnerInput(), helperStreams.getLearnerOutput())));
+            final TeachingSynchronizer teacher = new TeachingSynchronizer(
+                    PULL_CONFIGURATION,
+                    Time.getCurrent(),
+                    getStaticThreadManager(),
+                    streams.getTeacherInput(),
+                    streams.getTeacherOutput(),
+                    teacherTree,
+                    breakConnection,
+                    reconnectConfig);
+            final MerkleDataOutputStream helperOutput = corruptRange
+                    ? new MerkleDataOutputStream(new FirstByteCorruptingOutputStream(helperStreams.getTeacherOutput()))
+                    : helperStreams.getTeacherOutput();
+            final VirtualMapHelperTeacher helperTeacher = new VirtualMapHelperTeacher(
+                    getStaticThreadManager(),
+                    Time.getCurrent(),
+                    reconnectConfig,
+                    teacherTree,
+                    helperStreams.getTeacherInput(),
+                    helperOutput,
+                    breakConnection);
+
+            final AtomicReference<Throwable> firstReconnectException = new AtomicReference<>();
+            final Function<Throwable, Boolean> exceptionListener = t -> {
+                firstReconnectException.compareAndSet(null, t);
+                return false;
+            };
+            final StandardWorkGroup workGroup = new StandardWorkGroup(
+                    getStaticThreadManager(), "helper-teacher-test", null, exceptionListener, true);
+            workGroup.execute("teaching-synchronizer-main", () -> {
+                try {
+                    teacher.synchronize();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            workGroup.execute("learning-synchronizer-main", () -> {
+                try {
+                    learner.synchronize();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            workGroup.execute("helper-teacher-main", () -> {
+                try {
+                    helperTeacher.serve();
+                } catch (final IOException e) {
+                    throw new MerkleSynchronizationException("Helper teacher failed", e);
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            workGroup.waitForTermination();
+
+            if (workGroup.hasExceptions()) {
+                throw new MerkleSynchronizationException(
+                        "Exception(s) in synchronization test", firstReconnectException.get());
+            }
+            assertEquals(teacherTree.getHash(), learner.getRoot().getHash(), "Learner must have the teacher hash");
+            return learner.getRoot();
+        }
+    }
+
+    /**
+     * Flips the bits of the first byte written. The first bytes a helper teacher writes for a tree are the hash of
+     * its first range root, so the helper reports a corrupted hash for one of its ranges.
+     */
+    private static final class FirstByteCorruptingOutputStream extends FilterOutputStream {
+        private boolean corrupted;
+
+        FirstByteCorruptingOutputStream(final OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(final int b) throws IOException {
+            if (!corrupted) {
+                corrupted = true;
+                super.write(~b);
+            } else {
+                super.write(b);
+            }
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) throws IOException {
+            for (int i = 0; i < len; i++) {
+                write(b[off + i]);
+            }
+        }
+    }
+}